@@ -18,6 +18,9 @@ private:
 	jobject* dirtyRectsBufferObj;
     jmethodID getPixelDataMethod;
     jbyteArray pixelData;
+    jmethodID getTextureBufferMethod;
+    jobject* textureBufferObj;
+    unsigned char** textureBuffers;
     
     unsigned char numTextures;
     
@@ -25,7 +28,10 @@ private:
     static const unsigned int MAX_TOTAL_NUM_RECTANGLES = 255;
     static const unsigned int MAX_NUM_TEXTURES = MAX_TOTAL_NUM_RECTANGLES - SOFT_MAX_NUM_WIDGETS + 1;
     
-    static const unsigned int OFFSET_VISIBLE = 1;
+    static const unsigned int OFFSET_CHANGED_FLAGS = 1;
+    static const unsigned int OFFSET_CHANGED_MASK = OFFSET_CHANGED_FLAGS + 1;
+    static const unsigned int CHANGED_MASK_SIZE = ( MAX_NUM_TEXTURES + 7 ) / 8;
+    static const unsigned int OFFSET_VISIBLE = OFFSET_CHANGED_MASK + CHANGED_MASK_SIZE;
     static const unsigned int OFFSET_SIZE = OFFSET_VISIBLE + MAX_NUM_TEXTURES * 1;
     static const unsigned int OFFSET_TRANSFORMED = OFFSET_SIZE + MAX_NUM_TEXTURES * 4;
     static const unsigned int OFFSET_TRANSLATION = OFFSET_TRANSFORMED + MAX_NUM_TEXTURES * 1;
@@ -38,9 +44,15 @@ private:
     static const unsigned int OFFSET_RECTANLES = OFFSET_RECT_VISIBLE_FLAGS + MAX_NUM_TEXTURES * SOFT_MAX_NUM_WIDGETS * 1;
 
     void releaseDirtyRectsBufferObjects();
+    void releaseTextureBufferObjects();
     
 public:
     unsigned short** dirtyRectsBuffers;
+    /*
+     * The flags byte followed by the bit mask of the texture entries, that have changed since the last render.
+     * See overlay_texture.h.
+     */
+    unsigned char* textureChangedMask;
     unsigned short* textureSizes;
     char* textureVisibleFlags;
     char* textureIsTransformedFlags;
@@ -58,6 +70,9 @@ public:
         numTextures = 0;
         
         dirtyRectsBuffers = (unsigned short**)malloc( MAX_NUM_TEXTURES * sizeof( unsigned short* ) );
+        getTextureBufferMethod = 0;
+        textureBufferObj = NULL;
+        textureBuffers = (unsigned char**)malloc( MAX_NUM_TEXTURES * sizeof( unsigned char* ) );
         /*
         textureSizes = (unsigned short*)malloc( MAX_NUM_TEXTURES * sizeof( unsigned short ) );
         textureVisibleFlags = (char*)malloc( MAX_NUM_TEXTURES * sizeof( char ) );
@@ -71,6 +86,7 @@ public:
         rectangleVisibleFlags = (char*)malloc( MAX_NUM_TEXTURES * sizeof( char ) );
         usedRectangles = (unsigned short*)malloc( MAX_NUM_TEXTURES * sizeof( unsigned short ) * 4 );
         */
+        textureChangedMask = NULL;
         textureSizes = NULL;
         textureVisibleFlags = NULL;
         textureIsTransformedFlags = NULL;
@@ -87,6 +103,7 @@ public:
     ~JVMD3DUpdateFunctions()
     {
         free( dirtyRectsBuffers ); dirtyRectsBuffers = NULL;
+        free( textureBuffers ); textureBuffers = NULL;
         /*
         free( textureSizes ); textureSizes = NULL;
         free( textureVisibleFlags ); textureVisibleFlags = NULL;
@@ -100,6 +117,7 @@ public:
         free( rectangleVisibleFlags ); rectangleVisibleFlags = NULL;
         free( usedRectangles ); usedRectangles = NULL;
         */
+        textureChangedMask = NULL;
         textureSizes = NULL;
         textureVisibleFlags = NULL;
         textureIsTransformedFlags = NULL;
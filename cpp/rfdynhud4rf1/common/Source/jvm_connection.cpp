@@ -321,6 +321,7 @@ bool JVMD3DUpdateFunctions::init( JNIEnv* _env, jclass rfdynhudClass, jobject _r
     
     textureInfoBuffer = (char*)env->GetDirectBufferAddress( textureInfoBufferObj );
     
+    textureChangedMask = (unsigned char*)( textureInfoBuffer + OFFSET_CHANGED_FLAGS );
     textureSizes = (unsigned short*)( textureInfoBuffer + OFFSET_SIZE );
     textureVisibleFlags = (char*)( textureInfoBuffer + OFFSET_VISIBLE );
     textureIsTransformedFlags = (char*)( textureInfoBuffer + OFFSET_TRANSFORMED );
@@ -347,6 +348,14 @@ bool JVMD3DUpdateFunctions::init( JNIEnv* _env, jclass rfdynhudClass, jobject _r
         return ( false );
     }
     
+    getTextureBufferMethod = env->GetMethodID( rfdynhudClass, "getTextureBuffer", "(I)Ljava/nio/ByteBuffer;" );
+    
+    if ( getTextureBufferMethod == 0 )
+    {
+        // Not available in older versions. The pixel data is then always read from the byte arrays.
+        env->ExceptionClear();
+    }
+    
     updateMethod = env->GetMethodID( rfdynhudClass, "update", "()B" );
     
     if ( updateMethod == 0 )
@@ -374,8 +383,26 @@ void JVMD3DUpdateFunctions::releaseDirtyRectsBufferObjects()
     dirtyRectsBufferObj = NULL;
 }
 
+void JVMD3DUpdateFunctions::releaseTextureBufferObjects()
+{
+    if ( textureBufferObj == NULL )
+        return;
+    
+    for ( unsigned int i = 0; i < (unsigned int)numTextures; i++ )
+    {
+        if ( textureBufferObj[i] != NULL )
+            env->DeleteLocalRef( textureBufferObj[i] );
+        textureBufferObj[i] = NULL;
+        textureBuffers[i] = NULL;
+    }
+    
+    free( textureBufferObj );
+    textureBufferObj = NULL;
+}
+
 unsigned char JVMD3DUpdateFunctions::updateAllTextureInfos()
 {
+    releaseTextureBufferObjects();
     releaseDirtyRectsBufferObjects();
     
     numTextures = *(unsigned char*)textureInfoBuffer;
@@ -401,11 +428,30 @@ unsigned char JVMD3DUpdateFunctions::updateAllTextureInfos()
         }
     }
     
+    if ( getTextureBufferMethod != 0 )
+    {
+        textureBufferObj = (jobject*)malloc( numTextures * sizeof( jobject ) );
+        
+        for ( unsigned int i = 0; i < (unsigned int)numTextures; i++ )
+        {
+            // The off-heap copy of the pixel data. null, if disabled on the Java side.
+            textureBufferObj[i] = env->CallObjectMethod( rfdynhudObject, getTextureBufferMethod, (jint)i );
+            
+            if ( textureBufferObj[i] == NULL )
+                textureBuffers[i] = NULL;
+            else
+                textureBuffers[i] = (unsigned char*)env->GetDirectBufferAddress( textureBufferObj[i] );
+        }
+    }
+    
     return ( numTextures );
 }
 
 unsigned char* JVMD3DUpdateFunctions::getPixelData( unsigned char textureIndex )
 {
+    if ( ( textureBufferObj != NULL ) && ( textureBuffers[textureIndex] != NULL ) )
+        return ( textureBuffers[textureIndex] );
+    
     pixelData = (jbyteArray)env->CallObjectMethod( rfdynhudObject, getPixelDataMethod, (jint)textureIndex );
     
     if ( pixelData == NULL )
@@ -419,6 +465,9 @@ unsigned char* JVMD3DUpdateFunctions::getPixelData( unsigned char textureIndex )
 
 void JVMD3DUpdateFunctions::releasePixelData( unsigned char textureIndex, unsigned char* pointer )
 {
+    if ( ( textureBufferObj != NULL ) && ( pointer == textureBuffers[textureIndex] ) )
+        return;
+    
     env->ReleasePrimitiveArrayCritical( pixelData, (void*)pointer, 0 );
 	env->DeleteLocalRef( pixelData );
     pixelData = NULL;
@@ -426,6 +475,7 @@ void JVMD3DUpdateFunctions::releasePixelData( unsigned char textureIndex, unsign
 
 void JVMD3DUpdateFunctions::destroy()
 {
+    releaseTextureBufferObjects();
     releaseDirtyRectsBufferObjects();
     
     if ( textureInfoBufferObj != NULL )
@@ -62,6 +62,7 @@ public:
      * @param dirtyRectsBuffers and array of (minimum) size 'numTextures', where each element is an array of quadruples of unsigned shorts for the dirty rectangles to update (left, top, width, height)
      * @param visibleFlags an array of chars (one for each source texture). for each element: 0 = invisible, -1 = just made invisible (will be set to 0), 1 = visible, 2 = just made visible (will be set to 1)
      * @param rectangleVisibleFlags a compact array of visible flags for each rectangle of each source texture (all in a row)
+     * @param changedMask a flags byte (1 = all entries changed) followed by a bit mask of the source textures, whose entries have changed since the last call. Only those are checked for visibility changes and have their transforms recomposed. Both are cleared. May be NULL.
      * @param isTransformed one char for each source texture. 0 = not transformed (all following parameters will be ignored for that texture), 1 = transformed
      * @param translations two unsigned shorts for each source texture (translation-x, translation-y), translation from the upper left of the screen
      * @param rotCenters two unsigned shorts for each source texture (rotCenter-x, rotCenter-y), relative to the upper left of the texture
@@ -69,7 +70,7 @@ public:
      * @param scales two floats for each source texture (scale-x, scale-y)
      * @param clipRects four unsigned shorts for each source texture defining a clip-rect for the scaled image
      */
-    virtual void render( const float postScaleX, const float postScaleY, const unsigned char numTextures, unsigned short** dirtyRectsBuffers, PixelBufferCallback* pixBuffCallback, char* visibleFlags, char* rectangleVisibleFlags, const char* isTransformed, const float* translations, const unsigned short* rotCenters, const float* rotations, const float* scales, const unsigned short* clipRects ) = 0;
+    virtual void render( const float postScaleX, const float postScaleY, const unsigned char numTextures, unsigned short** dirtyRectsBuffers, PixelBufferCallback* pixBuffCallback, char* visibleFlags, char* rectangleVisibleFlags, unsigned char* changedMask, const char* isTransformed, const float* translations, const unsigned short* rotCenters, const float* rotations, const float* scales, const unsigned short* clipRects ) = 0;
 };
 
 /**
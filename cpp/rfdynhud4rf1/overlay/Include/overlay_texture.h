@@ -35,6 +35,16 @@ private:
     
     bool m_justBuilt;
     
+    /*
+     * The composed world matrix and the screen clip rect of each transformed source texture.
+     * They are only recomposed for textures marked in the changed mask.
+     */
+    D3DXMATRIX* m_transformMatrices;
+    RECT* m_transformClipRects;
+    bool* m_transformIsClipped;
+    float m_transformPostScaleX;
+    float m_transformPostScaleY;
+    
     D3DXMATRIX m_projMatrix;
     D3DXMATRIX m_worldMatrix;
     D3DXMATRIX m_postScaleMatrix;
@@ -42,6 +52,8 @@ private:
     
     void init();
     
+    void composeTransform( const unsigned char idx_t, const float postScaleX, const float postScaleY, const char* isTransformed, const float* translations, const unsigned short* rotCenters, const float* rotations, const float* scales, const unsigned short* clipRects );
+    
     void buildAtlas( const unsigned char numSourceTextures, const unsigned char* numRectangles, const unsigned short* rectangles, const unsigned short width, const unsigned short stripeHeight );
     
 public:
@@ -98,7 +110,7 @@ public:
     
     void copyDirtyRectsToTexture( const unsigned char texIndex, const unsigned short numDirtyRects, const unsigned short* dirtyRectsBuffer, const unsigned char* sourceBuffer, const unsigned int sourceTexPitch, unsigned int* destBuffer, const unsigned int trgPitch, IDirect3DTexture9* texture );
     
-    void render( LPDIRECT3DDEVICE9 device, IDirect3DTexture9* overlayTexture, IDirect3DVertexBuffer9* vertexBuffer, const bool updateAll, const float postScaleX, const float postScaleY, char* texVisibleFlags, char* rectangleVisibleFlags, const char* isTransformed, const float* translations, const unsigned short* rotCenters, const float* rotations, const float* scales, const unsigned short* clipRects );
+    void render( LPDIRECT3DDEVICE9 device, IDirect3DTexture9* overlayTexture, IDirect3DVertexBuffer9* vertexBuffer, const bool updateAll, const float postScaleX, const float postScaleY, char* texVisibleFlags, char* rectangleVisibleFlags, unsigned char* changedMask, const char* isTransformed, const float* translations, const unsigned short* rotCenters, const float* rotations, const float* scales, const unsigned short* clipRects );
 };
 
 class OverlayTextureManagerImpl : public OverlayTextureManager
@@ -142,7 +154,7 @@ public:
     
     bool setupTextures( const unsigned char numTextures, const unsigned short* textureSizes, const unsigned char* numRectangles, const unsigned short* rectangles );
     
-    void render( const float postScaleX, const float postScaleY, const unsigned char numTextures, unsigned short** dirtyRectsBuffers, PixelBufferCallback* pixBuffCallback, char* visibleFlags, char* rectangleVisibleFlags, const char* isTransformed, const float* translations, const unsigned short* rotCenters, const float* rotations, const float* scales, const unsigned short* clipRects );
+    void render( const float postScaleX, const float postScaleY, const unsigned char numTextures, unsigned short** dirtyRectsBuffers, PixelBufferCallback* pixBuffCallback, char* visibleFlags, char* rectangleVisibleFlags, unsigned char* changedMask, const char* isTransformed, const float* translations, const unsigned short* rotCenters, const float* rotations, const float* scales, const unsigned short* clipRects );
     
     /**
      * This method must be called internally when the device is resetted.
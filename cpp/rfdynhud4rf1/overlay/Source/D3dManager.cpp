@@ -112,7 +112,7 @@ void D3DManager::renderOverlay( void* d3dDev, const unsigned short resX, const u
                     const float postScaleX = (float)resX / (float)viewport[2];
                     const float postScaleY = (float)resY / (float)viewport[3];
                     
-                    textureManager->render( postScaleX, postScaleY, handshake->jvmConn.d3dFuncs.getNumTextures(), handshake->jvmConn.d3dFuncs.dirtyRectsBuffers, pixBuffCallback, handshake->jvmConn.d3dFuncs.textureVisibleFlags, handshake->jvmConn.d3dFuncs.rectangleVisibleFlags, handshake->jvmConn.d3dFuncs.textureIsTransformedFlags, handshake->jvmConn.d3dFuncs.textureTranslations, handshake->jvmConn.d3dFuncs.textureRotationCenters, handshake->jvmConn.d3dFuncs.textureRotations, handshake->jvmConn.d3dFuncs.textureScales, handshake->jvmConn.d3dFuncs.textureClipRects );
+                    textureManager->render( postScaleX, postScaleY, handshake->jvmConn.d3dFuncs.getNumTextures(), handshake->jvmConn.d3dFuncs.dirtyRectsBuffers, pixBuffCallback, handshake->jvmConn.d3dFuncs.textureVisibleFlags, handshake->jvmConn.d3dFuncs.rectangleVisibleFlags, handshake->jvmConn.d3dFuncs.textureChangedMask, handshake->jvmConn.d3dFuncs.textureIsTransformedFlags, handshake->jvmConn.d3dFuncs.textureTranslations, handshake->jvmConn.d3dFuncs.textureRotationCenters, handshake->jvmConn.d3dFuncs.textureRotations, handshake->jvmConn.d3dFuncs.textureScales, handshake->jvmConn.d3dFuncs.textureClipRects );
                 }
             }
         }
@@ -17,6 +17,11 @@ void TextureAtlas::init()
     m_numSubRects = (unsigned char**)malloc( (unsigned int)MAX_SOURCE_TEXTURES * sizeof( unsigned char* ) );
     m_srcSubRects = (RECT**)malloc( MAX_TOTAL_SUBRECTS * sizeof( RECT* ) );
     m_trgSubRects = (RECT**)malloc( MAX_TOTAL_SUBRECTS * sizeof( RECT* ) );
+    m_transformMatrices = (D3DXMATRIX*)malloc( (unsigned int)MAX_SOURCE_TEXTURES * sizeof( D3DXMATRIX ) );
+    m_transformClipRects = (RECT*)malloc( (unsigned int)MAX_SOURCE_TEXTURES * sizeof( RECT ) );
+    m_transformIsClipped = (bool*)malloc( (unsigned int)MAX_SOURCE_TEXTURES * sizeof( bool ) );
+    m_transformPostScaleX = 0.0f;
+    m_transformPostScaleY = 0.0f;
     
     unsigned int i, j;
     
@@ -685,14 +690,25 @@ char handleVisibleFlag( char* visibleFlags, const unsigned short i )
     return ( result );
 }
 
-bool checkVisibleFlags( char* texVisibleFlags, const unsigned char numTextures, const char* isTransformed, char* rectangleVisibleFlags, const unsigned char* numRectangles )
+static const unsigned char TEXTURE_INFO_ALL_CHANGED = 1;
+
+bool checkVisibleFlags( char* texVisibleFlags, const unsigned char numTextures, const char* isTransformed, char* rectangleVisibleFlags, const unsigned char* numRectangles, unsigned char* changedMask )
 {
     unsigned short i = 0;
     bool result = false;
     char b;
     
+    // The visible flags of textures, that are not marked in the mask, have not been touched since the last call.
+    const bool checkAll = ( changedMask == NULL ) || ( ( changedMask[0] & TEXTURE_INFO_ALL_CHANGED ) != 0 );
+    
     for ( unsigned char idx_t = 0; idx_t < numTextures; idx_t++ )
     {
+        if ( !checkAll && ( ( changedMask[1 + ( idx_t >> 3 )] & ( 1 << ( idx_t & 7 ) ) ) == 0 ) )
+        {
+            i += numRectangles[idx_t];
+            continue;
+        }
+        
         b = handleVisibleFlag( texVisibleFlags, idx_t );
         //if ( ( idx_t == 0 ) && ( ( b == -1 ) || ( b == +2 ) ) )
         if ( ( isTransformed[idx_t] == 0 ) && ( ( b == -1 ) || ( b == +2 ) ) )
@@ -736,7 +752,55 @@ static const unsigned char TRANSFORM_FLAG_TRANSLATION = 2;
 static const unsigned char TRANSFORM_FLAG_ROTATION    = 4;
 static const unsigned char TRANSFORM_FLAG_SCALE       = 8;
 
-void TextureAtlas::render( LPDIRECT3DDEVICE9 device, IDirect3DTexture9* overlayTexture, IDirect3DVertexBuffer9* vertexBuffer, const bool updateAll, const float postScaleX, const float postScaleY, char* texVisibleFlags, char* rectangleVisibleFlags, const char* isTransformed, const float* translations, const unsigned short* rotCenters, const float* rotations, const float* scales, const unsigned short* clipRects )
+void TextureAtlas::composeTransform( const unsigned char idx_t, const float postScaleX, const float postScaleY, const char* isTransformed, const float* translations, const unsigned short* rotCenters, const float* rotations, const float* scales, const unsigned short* clipRects )
+{
+    D3DXMATRIX* m = &m_transformMatrices[idx_t];
+    
+    const float tx = translations[idx_t * 2 + 0];
+    const float ty = translations[idx_t * 2 + 1];
+    if ( ( isTransformed[idx_t] & TRANSFORM_FLAG_ROTATION ) != 0 )
+    {
+        composeMatrix( tx, ty, 0.0f,
+                       (float)rotCenters[idx_t * 2 + 0], (float)rotCenters[idx_t * 2 + 1],
+                       rotations[idx_t],
+                       scales[idx_t * 2 + 0], scales[idx_t * 2 + 1],
+                       m
+                     );
+    }
+    else
+    {
+        composeMatrix( tx, ty, 0.0f,
+                       scales[idx_t * 2 + 0], scales[idx_t * 2 + 1],
+                       m
+                     );
+    }
+    
+    if ( ( postScaleX != 0.0f ) || ( postScaleY != 0.0f ) )
+    {
+        D3DXMatrixScaling( &m_postScaleMatrix, postScaleX, postScaleY, 1.0f );
+        
+        memcpy( &m_texMatrix, m, sizeof( D3DXMATRIX ) );
+        //D3DXMatrixMultiply( m, &m_postScaleMatrix, &m_texMatrix );
+        D3DXMatrixMultiply( m, &m_texMatrix, &m_postScaleMatrix );
+    }
+    
+    RECT* clipRect = &m_transformClipRects[idx_t];
+    
+    clipRect->left = clipRects[idx_t * 4 + 0];
+    clipRect->top = clipRects[idx_t * 4 + 1];
+    clipRect->right = clipRect->left + clipRects[idx_t * 4 + 2];
+    clipRect->bottom = clipRect->top + clipRects[idx_t * 4 + 3];
+    m_transformIsClipped[idx_t] = ( ( clipRect->right - clipRect->left > 0 ) && ( clipRect->bottom - clipRect->top > 0 ) );
+    if ( m_transformIsClipped[idx_t] )
+    {
+        clipRect->left = (short)floor( ( clipRect->left + tx ) * postScaleX );
+        clipRect->right = (short)ceil( ( clipRect->right + tx ) * postScaleX );
+        clipRect->top = (short)floor( ( clipRect->top + ty ) * postScaleY );
+        clipRect->bottom = (short)ceil( ( clipRect->bottom + ty ) * postScaleY );
+    }
+}
+
+void TextureAtlas::render( LPDIRECT3DDEVICE9 device, IDirect3DTexture9* overlayTexture, IDirect3DVertexBuffer9* vertexBuffer, const bool updateAll, const float postScaleX, const float postScaleY, char* texVisibleFlags, char* rectangleVisibleFlags, unsigned char* changedMask, const char* isTransformed, const float* translations, const unsigned short* rotCenters, const float* rotations, const float* scales, const unsigned short* clipRects )
 {
     if ( ( overlayTexture == NULL ) || ( vertexBuffer == NULL ) )
         return;
@@ -781,9 +845,45 @@ void TextureAtlas::render( LPDIRECT3DDEVICE9 device, IDirect3DTexture9* overlayT
     D3DXMatrixIdentity( &m_texMatrix );
     device->SetTransform( D3DTS_TEXTURE0, &m_texMatrix );
     
-    if ( checkVisibleFlags( texVisibleFlags, m_numSourceTextures, isTransformed, rectangleVisibleFlags, m_numRectangles ) || m_justBuilt )
+    // Only the transforms of textures marked in the changed mask are recomposed. All others are taken from the last frame.
+    const bool composeAll = m_justBuilt || ( changedMask == NULL ) || ( ( changedMask[0] & TEXTURE_INFO_ALL_CHANGED ) != 0 ) || ( postScaleX != m_transformPostScaleX ) || ( postScaleY != m_transformPostScaleY );
+    
+    m_transformPostScaleX = postScaleX;
+    m_transformPostScaleY = postScaleY;
+    
+    if ( composeAll )
+    {
+        for ( unsigned short idx_t = 0; idx_t < m_numSourceTextures; idx_t++ )
+        {
+            if ( isTransformed[idx_t] != 0 )
+                composeTransform( (unsigned char)idx_t, postScaleX, postScaleY, isTransformed, translations, rotCenters, rotations, scales, clipRects );
+        }
+    }
+    else
+    {
+        const unsigned short maskSize = ( m_numSourceTextures + 7 ) / 8;
+        
+        for ( unsigned short idx_m = 0; idx_m < maskSize; idx_m++ )
+        {
+            const unsigned char bits = changedMask[1 + idx_m];
+            
+            if ( bits == 0 )
+                continue;
+            
+            for ( unsigned short idx_t = idx_m * 8; ( idx_t < idx_m * 8 + 8 ) && ( idx_t < m_numSourceTextures ); idx_t++ )
+            {
+                if ( ( ( bits & ( 1 << ( idx_t & 7 ) ) ) != 0 ) && ( isTransformed[idx_t] != 0 ) )
+                    composeTransform( (unsigned char)idx_t, postScaleX, postScaleY, isTransformed, translations, rotCenters, rotations, scales, clipRects );
+            }
+        }
+    }
+    
+    if ( checkVisibleFlags( texVisibleFlags, m_numSourceTextures, isTransformed, rectangleVisibleFlags, m_numRectangles, changedMask ) || m_justBuilt )
         updateVertexBuffer( vertexBuffer, updateAll, texVisibleFlags, rectangleVisibleFlags, isTransformed );
     
+    if ( changedMask != NULL )
+        memset( changedMask, 0, 1 + ( m_numSourceTextures + 7 ) / 8 );
+    
     m_justBuilt = false;
     
     bool isClipping = false;
@@ -791,7 +891,6 @@ void TextureAtlas::render( LPDIRECT3DDEVICE9 device, IDirect3DTexture9* overlayT
     if ( SUCCEEDED( device->SetStreamSource( 0, vertexBuffer, 0, sizeof( TLVERTEX ) ) ) )
     {
 #ifndef DEBUG_TEXTURE
-        RECT clipRect;
         unsigned char idx_t, idx_r;
         unsigned short r, numSubRects, vertexOffset;
         bool texVis;
@@ -830,48 +929,11 @@ void TextureAtlas::render( LPDIRECT3DDEVICE9 device, IDirect3DTexture9* overlayT
                 
                 if ( texVis )
                 {
-                    const float tx = translations[idx_t * 2 + 0];
-                    const float ty = translations[idx_t * 2 + 1];
-                    if ( ( isTransformed[idx_t] & TRANSFORM_FLAG_ROTATION ) != 0 )
-                    {
-                        composeMatrix( tx, ty, 0.0f,
-                                       (float)rotCenters[idx_t * 2 + 0], (float)rotCenters[idx_t * 2 + 1],
-                                       rotations[idx_t],
-                                       scales[idx_t * 2 + 0], scales[idx_t * 2 + 1],
-                                       &m_worldMatrix
-                                     );
-                    }
-                    else
-                    {
-                        composeMatrix( tx, ty, 0.0f,
-                                       scales[idx_t * 2 + 0], scales[idx_t * 2 + 1],
-                                       &m_worldMatrix
-                                     );
-                    }
-                    
-                    if ( ( postScaleX != 0.0f ) || ( postScaleY != 0.0f ) )
-                    {
-                        D3DXMatrixScaling( &m_postScaleMatrix, postScaleX, postScaleY, 1.0f );
-                        device->SetTransform( D3DTS_WORLD, &m_postScaleMatrix );
-                        
-                        memcpy( &m_texMatrix, &m_worldMatrix, sizeof( D3DXMATRIX ) );
-                        //D3DXMatrixMultiply( &m_worldMatrix, &m_postScaleMatrix, &m_texMatrix );
-                        D3DXMatrixMultiply( &m_worldMatrix, &m_texMatrix, &m_postScaleMatrix );
-                    }
-                    
-                    device->SetTransform( D3DTS_WORLD, &m_worldMatrix );
+                    device->SetTransform( D3DTS_WORLD, &m_transformMatrices[idx_t] );
                     
-                    clipRect.left = clipRects[idx_t * 4 + 0];
-                    clipRect.top = clipRects[idx_t * 4 + 1];
-                    clipRect.right = clipRect.left + clipRects[idx_t * 4 + 2];
-                    clipRect.bottom = clipRect.top + clipRects[idx_t * 4 + 3];
-                    if ( ( clipRect.right - clipRect.left > 0 ) && ( clipRect.bottom - clipRect.top > 0 ) )
+                    if ( m_transformIsClipped[idx_t] )
                     {
-                        clipRect.left = (short)floor( ( clipRect.left + tx ) * postScaleX );
-                        clipRect.right = (short)ceil( ( clipRect.right + tx ) * postScaleX );
-                        clipRect.top = (short)floor( ( clipRect.top + ty ) * postScaleY );
-                        clipRect.bottom = (short)ceil( ( clipRect.bottom + ty ) * postScaleY );
-                        device->SetScissorRect( &clipRect );
+                        device->SetScissorRect( &m_transformClipRects[idx_t] );
                         if ( !isClipping )
                             device->SetRenderState( D3DRS_SCISSORTESTENABLE, TRUE );
                         isClipping = true;
@@ -917,7 +979,7 @@ void TextureAtlas::render( LPDIRECT3DDEVICE9 device, IDirect3DTexture9* overlayT
     }
 }
 
-void OverlayTextureManagerImpl::render( const float postScaleX, const float postScaleY, const unsigned char numTextures, unsigned short** dirtyRectsBuffers, PixelBufferCallback* pixBuffCallback, char* visibleFlags, char* rectangleVisibleFlags, const char* isTransformed, const float* translations, const unsigned short* rotCenters, const float* rotations, const float* scales, const unsigned short* clipRects )
+void OverlayTextureManagerImpl::render( const float postScaleX, const float postScaleY, const unsigned char numTextures, unsigned short** dirtyRectsBuffers, PixelBufferCallback* pixBuffCallback, char* visibleFlags, char* rectangleVisibleFlags, unsigned char* changedMask, const char* isTransformed, const float* translations, const unsigned short* rotCenters, const float* rotations, const float* scales, const unsigned short* clipRects )
 {
     bool hasDirtyRects = false;
     
@@ -948,7 +1010,7 @@ void OverlayTextureManagerImpl::render( const float postScaleX, const float post
     
     if ( m_overlayTexture != NULL )
     {
-        m_atlas->render( m_device, m_overlayTexture, m_vertexBuffer, updateAll, postScaleX, postScaleY, visibleFlags, rectangleVisibleFlags, isTransformed, translations, rotCenters, rotations, scales, clipRects );
+        m_atlas->render( m_device, m_overlayTexture, m_vertexBuffer, updateAll, postScaleX, postScaleY, visibleFlags, rectangleVisibleFlags, changedMask, isTransformed, translations, rotCenters, rotations, scales, clipRects );
     }
 }
 
@@ -16,11 +16,11 @@ JNIEXPORT void JNICALL Java_net_ctdp_rfdynhud_gamedata_rfactor2__1rf2_1DrivingAi
 
 /*
  * Class:     net_ctdp_rfdynhud_gamedata_rfactor2__rf2_TelemetryData
- * Method:    fetchData
- * Signature: (JI[B)V
+ * Method:    fetchDataDirect
+ * Signature: (JILjava/nio/ByteBuffer;)V
  */
-JNIEXPORT void JNICALL Java_net_ctdp_rfdynhud_gamedata_rfactor2__1rf2_1TelemetryData_fetchData
-  (JNIEnv *, jclass, jlong, jint, jbyteArray);
+JNIEXPORT void JNICALL Java_net_ctdp_rfdynhud_gamedata_rfactor2__1rf2_1TelemetryData_fetchDataDirect
+  (JNIEnv *, jclass, jlong, jint, jobject);
 
 /*
  * Class:     net_ctdp_rfdynhud_gamedata_rfactor2__rf2_ScoringInfo
@@ -70,6 +70,7 @@ public:
      * @param dirtyRectsBuffers and array of (minimum) size 'numTextures', where each element is an array of quadruples of unsigned shorts for the dirty rectangles to update (left, top, width, height)
      * @param visibleFlags an array of chars (one for each source texture). for each element: 0 = invisible, -1 = just made invisible (will be set to 0), 1 = visible, 2 = just made visible (will be set to 1)
      * @param rectangleVisibleFlags a compact array of visible flags for each rectangle of each source texture (all in a row)
+     * @param changedMask a flags byte (1 = all entries changed) followed by a bit mask of the source textures, whose entries have changed since the last call. Only those are checked for visibility changes and have their transforms recomposed. Both are cleared. May be NULL.
      * @param isTransformed one char for each source texture. 0 = not transformed (all following parameters will be ignored for that texture), 1 = transformed
      * @param translations two unsigned shorts for each source texture (translation-x, translation-y), translation from the upper left of the screen
      * @param rotCenters two unsigned shorts for each source texture (rotCenter-x, rotCenter-y), relative to the upper left of the texture
@@ -77,7 +78,7 @@ public:
      * @param scales two floats for each source texture (scale-x, scale-y)
      * @param clipRects four unsigned shorts for each source texture defining a clip-rect for the scaled image
      */
-    virtual void render( const float postScaleX, const float postScaleY, const unsigned char numTextures, unsigned short** dirtyRectsBuffers, PixelBufferCallback* pixBuffCallback, char* visibleFlags, char* rectangleVisibleFlags, const char* isTransformed, const float* translations, const unsigned short* rotCenters, const float* rotations, const float* scales, const unsigned short* clipRects ) = 0;
+    virtual void render( const float postScaleX, const float postScaleY, const unsigned char numTextures, unsigned short** dirtyRectsBuffers, PixelBufferCallback* pixBuffCallback, char* visibleFlags, char* rectangleVisibleFlags, unsigned char* changedMask, const char* isTransformed, const float* translations, const unsigned short* rotCenters, const float* rotations, const float* scales, const unsigned short* clipRects ) = 0;
 };
 
 /**
@@ -235,6 +236,16 @@ private:
     
     bool m_justBuilt;
     
+    /*
+     * The composed world matrix and the screen clip rect of each transformed source texture.
+     * They are only recomposed for textures marked in the changed mask.
+     */
+    D3DXMATRIX* m_transformMatrices;
+    RECT* m_transformClipRects;
+    bool* m_transformIsClipped;
+    float m_transformPostScaleX;
+    float m_transformPostScaleY;
+    
     D3DXMATRIX m_projMatrix;
     D3DXMATRIX m_worldMatrix;
     D3DXMATRIX m_postScaleMatrix;
@@ -242,6 +253,8 @@ private:
     
     void init();
     
+    void composeTransform( const unsigned char idx_t, const float postScaleX, const float postScaleY, const char* isTransformed, const float* translations, const unsigned short* rotCenters, const float* rotations, const float* scales, const unsigned short* clipRects );
+    
     void buildAtlas( const unsigned char numSourceTextures, const unsigned char* numRectangles, const unsigned short* rectangles, const unsigned short width, const unsigned short stripeHeight );
     
 public:
@@ -298,7 +311,7 @@ public:
     
     void copyDirtyRectsToTexture( const unsigned char texIndex, const unsigned short numDirtyRects, const unsigned short* dirtyRectsBuffer, const unsigned char* sourceBuffer, const unsigned int sourceTexPitch, unsigned int* destBuffer, const unsigned int trgPitch, IDirect3DTexture9* texture );
     
-    void render( LPDIRECT3DDEVICE9 device, IDirect3DTexture9* overlayTexture, IDirect3DVertexBuffer9* vertexBuffer, const bool updateAll, const float postScaleX, const float postScaleY, char* texVisibleFlags, char* rectangleVisibleFlags, const char* isTransformed, const float* translations, const unsigned short* rotCenters, const float* rotations, const float* scales, const unsigned short* clipRects );
+    void render( LPDIRECT3DDEVICE9 device, IDirect3DTexture9* overlayTexture, IDirect3DVertexBuffer9* vertexBuffer, const bool updateAll, const float postScaleX, const float postScaleY, char* texVisibleFlags, char* rectangleVisibleFlags, unsigned char* changedMask, const char* isTransformed, const float* translations, const unsigned short* rotCenters, const float* rotations, const float* scales, const unsigned short* clipRects );
 };
 
 class OverlayTextureManagerImpl : public OverlayTextureManager
@@ -342,7 +355,7 @@ public:
     
     bool setupTextures( const unsigned char numTextures, const unsigned short* textureSizes, const unsigned char* numRectangles, const unsigned short* rectangles );
     
-    void render( const float postScaleX, const float postScaleY, const unsigned char numTextures, unsigned short** dirtyRectsBuffers, PixelBufferCallback* pixBuffCallback, char* visibleFlags, char* rectangleVisibleFlags, const char* isTransformed, const float* translations, const unsigned short* rotCenters, const float* rotations, const float* scales, const unsigned short* clipRects );
+    void render( const float postScaleX, const float postScaleY, const unsigned char numTextures, unsigned short** dirtyRectsBuffers, PixelBufferCallback* pixBuffCallback, char* visibleFlags, char* rectangleVisibleFlags, unsigned char* changedMask, const char* isTransformed, const float* translations, const unsigned short* rotCenters, const float* rotations, const float* scales, const unsigned short* clipRects );
     
     /**
      * This method must be called internally when the device is resetted.
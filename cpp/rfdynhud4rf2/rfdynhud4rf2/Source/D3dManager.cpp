@@ -30,7 +30,7 @@ void PixelBufferCallback::releasePixelBuffer( const unsigned char textureIndex,
 
 void D3DManager::renderOverlay( void* d3dDev, const float postScaleX, const float postScaleY, JVMD3DUpdateFunctions* d3dFuncs )
 {
-    textureManager->render( postScaleX, postScaleY, d3dFuncs->getNumTextures(), d3dFuncs->dirtyRectsBuffers, pixBuffCallback, d3dFuncs->textureVisibleFlags, d3dFuncs->rectangleVisibleFlags, d3dFuncs->textureIsTransformedFlags, d3dFuncs->textureTranslations, d3dFuncs->textureRotationCenters, d3dFuncs->textureRotations,d3dFuncs->textureScales, d3dFuncs->textureClipRects );
+    textureManager->render( postScaleX, postScaleY, d3dFuncs->getNumTextures(), d3dFuncs->dirtyRectsBuffers, pixBuffCallback, d3dFuncs->textureVisibleFlags, d3dFuncs->rectangleVisibleFlags, d3dFuncs->textureChangedMask, d3dFuncs->textureIsTransformedFlags, d3dFuncs->textureTranslations, d3dFuncs->textureRotationCenters, d3dFuncs->textureRotations,d3dFuncs->textureScales, d3dFuncs->textureClipRects );
 }
 
 void D3DManager::initialize( void* d3dDev, const unsigned short _resX, const unsigned short _resY, const unsigned char colorDepth, const bool windowed, const unsigned short fullscreenRefreshHz, const HWND deviceWindowHandle, OverlayTextureManager* _textureManager )
@@ -353,6 +353,7 @@ bool JVMD3DUpdateFunctions::init( JNIEnv* _env, jclass rfdynhudClass, jobject _r
         return ( false );
     }
     
+    textureChangedMask = (unsigned char*)( textureInfoBuffer + OFFSET_CHANGED_FLAGS );
     textureSizes = (unsigned short*)( textureInfoBuffer + OFFSET_SIZE );
     textureVisibleFlags = (char*)( textureInfoBuffer + OFFSET_VISIBLE );
     textureIsTransformedFlags = (char*)( textureInfoBuffer + OFFSET_TRANSFORMED );
@@ -373,6 +374,14 @@ bool JVMD3DUpdateFunctions::init( JNIEnv* _env, jclass rfdynhudClass, jobject _r
         return ( false );
     }
     
+    getTextureBufferMethod = env->GetMethodID( rfdynhudClass, "getTextureBuffer", "(I)Ljava/nio/ByteBuffer;" );
+    
+    if ( getTextureBufferMethod == 0 )
+    {
+        // Not available in older versions. The pixel data is then always read from the byte arrays.
+        env->ExceptionClear();
+    }
+    
     updateMethod = env->GetMethodID( rfdynhudClass, "update", "()B" );
     
     if ( updateMethod == 0 )
@@ -405,8 +414,26 @@ void JVMD3DUpdateFunctions::releaseDirtyRectsBufferObjects()
     dirtyRectsBufferObj = NULL;
 }
 
+void JVMD3DUpdateFunctions::releaseTextureBufferObjects()
+{
+    if ( textureBufferObj == NULL )
+        return;
+    
+    for ( unsigned int i = 0; i < (unsigned int)numTextures; i++ )
+    {
+        if ( textureBufferObj[i] != NULL )
+            env->DeleteGlobalRef( textureBufferObj[i] );
+        textureBufferObj[i] = NULL;
+        textureBuffers[i] = NULL;
+    }
+    
+    free( textureBufferObj );
+    textureBufferObj = NULL;
+}
+
 unsigned char JVMD3DUpdateFunctions::updateAllTextureInfos()
 {
+    releaseTextureBufferObjects();
     releaseDirtyRectsBufferObjects();
     
     numTextures = *(unsigned char*)textureInfoBuffer;
@@ -435,11 +462,30 @@ unsigned char JVMD3DUpdateFunctions::updateAllTextureInfos()
         }
     }
     
+    if ( getTextureBufferMethod != 0 )
+    {
+        textureBufferObj = (jobject*)malloc( numTextures * sizeof( jobject ) );
+        
+        for ( unsigned int i = 0; i < (unsigned int)numTextures; i++ )
+        {
+            // The off-heap copy of the pixel data. null, if disabled on the Java side.
+            textureBufferObj[i] = globalizeObject( env, env->CallObjectMethod( rfdynhudObject, getTextureBufferMethod, (jint)i ) );
+            
+            if ( textureBufferObj[i] == NULL )
+                textureBuffers[i] = NULL;
+            else
+                textureBuffers[i] = (unsigned char*)env->GetDirectBufferAddress( textureBufferObj[i] );
+        }
+    }
+    
     return ( numTextures );
 }
 
 unsigned char* JVMD3DUpdateFunctions::getPixelData( unsigned char textureIndex )
 {
+    if ( ( textureBufferObj != NULL ) && ( textureBuffers[textureIndex] != NULL ) )
+        return ( textureBuffers[textureIndex] );
+    
     pixelData = (jbyteArray)env->CallObjectMethod( rfdynhudObject, getPixelDataMethod, (jint)textureIndex );
     
     if ( pixelData == NULL )
@@ -453,6 +499,9 @@ unsigned char* JVMD3DUpdateFunctions::getPixelData( unsigned char textureIndex )
 
 void JVMD3DUpdateFunctions::releasePixelData( unsigned char textureIndex, unsigned char* pointer )
 {
+    if ( ( textureBufferObj != NULL ) && ( pointer == textureBuffers[textureIndex] ) )
+        return;
+    
     env->ReleasePrimitiveArrayCritical( pixelData, (void*)pointer, 0 );
 	env->DeleteLocalRef( pixelData );
     pixelData = NULL;
@@ -460,6 +509,7 @@ void JVMD3DUpdateFunctions::releasePixelData( unsigned char textureIndex, unsign
 
 void JVMD3DUpdateFunctions::destroy()
 {
+    releaseTextureBufferObjects();
     releaseDirtyRectsBufferObjects();
     
     if ( textureInfoBufferObj != NULL )
@@ -666,11 +716,13 @@ char JVMTelemtryUpdateFunctions::call_onTelemetryDataUpdated( void* buffer, cons
     return ( env->CallByteMethod( gameEventsManager, onTelemetryDataUpdated, telemetryDataAddressKeeper ) );
 }
 
-JNIEXPORT void JNICALL Java_net_ctdp_rfdynhud_gamedata_rfactor2__1rf2_1TelemetryData_fetchData( JNIEnv* env, jclass TelemetryData, jlong sourceBufferAddress, jint sourceBufferSize, jbyteArray targetBuffer )
+JNIEXPORT void JNICALL Java_net_ctdp_rfdynhud_gamedata_rfactor2__1rf2_1TelemetryData_fetchDataDirect( JNIEnv* env, jclass TelemetryData, jlong sourceBufferAddress, jint sourceBufferSize, jobject targetBuffer )
 {
-    void* buffer = env->GetPrimitiveArrayCritical( targetBuffer, &isCopy );
-    memcpy( buffer, (void*)(long)sourceBufferAddress, (unsigned int)sourceBufferSize );
-    env->ReleasePrimitiveArrayCritical( targetBuffer, buffer, 0 );
+    // The target is a direct ByteBuffer, which the Java side reads in place. So there's no array to pin.
+    void* buffer = env->GetDirectBufferAddress( targetBuffer );
+    
+    if ( buffer != NULL )
+        memcpy( buffer, (void*)(long)sourceBufferAddress, (unsigned int)sourceBufferSize );
 }
 
 char JVMTelemtryUpdateFunctions::call_onScoringInfoUpdated( const long numVehicles, void* buffer, const unsigned int size, void* buffer2, const unsigned int size2 )
@@ -0,0 +1,80 @@
+/**
+ * Copyright (C) 2009-2014 Cars and Tracks Development Project (CTDP).
+ * 
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+ */
+package net.ctdp.rfdynhud.benchmark;
+
+/**
+ * One measured operation of the benchmark suite.<br>
+ * The {@link BenchmarkRunner} calls {@link #setup()} once, then {@link #run()} as often as needed
+ * for the warmup and measurement iterations and finally {@link #tearDown()}.
+ * 
+ * @author Marvin Froehlich (CTDP)
+ */
+public abstract class Benchmark
+{
+    private final String group;
+    private final String name;
+    
+    public final String getGroup()
+    {
+        return ( group );
+    }
+    
+    public final String getName()
+    {
+        return ( name );
+    }
+    
+    /**
+     * Gets the name used for filtering and reporting ("group.name").
+     * 
+     * @return the name used for filtering and reporting.
+     */
+    public final String getFullName()
+    {
+        return ( group + "." + name );
+    }
+    
+    /**
+     * Prepares everything needed by {@link #run()}. The time spent here is not measured.
+     * 
+     * @throws Exception if the benchmark cannot be run
+     */
+    public void setup() throws Exception
+    {
+    }
+    
+    /**
+     * Executes the measured operation once.
+     * 
+     * @return any value depending on the operation's result. It is consumed by the runner, so the work cannot be optimized away.
+     */
+    public abstract int run();
+    
+    /**
+     * Releases everything created in {@link #setup()}.
+     */
+    public void tearDown()
+    {
+    }
+    
+    protected Benchmark( String group, String name )
+    {
+        this.group = group;
+        this.name = name;
+    }
+}
@@ -0,0 +1,431 @@
+/**
+ * Copyright (C) 2009-2014 Cars and Tracks Development Project (CTDP).
+ * 
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+ */
+package net.ctdp.rfdynhud.benchmark;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+import net.ctdp.rfdynhud.render.ByteOrderInitializer;
+
+/**
+ * Runs the render core benchmarks headless and prints the time and allocated bytes per operation.<br>
+ * Each benchmark is warmed up, then measured in a number of fixed length iterations.
+ * The operations are executed in batches, that are calibrated to take at least one millisecond,
+ * so timer overhead doesn't influence cheap operations. All input data is generated from fixed seeds.<br>
+ * <br>
+ * Options (named like the JMH ones):<br>
+ * -l           list the benchmarks and exit<br>
+ * -f regex     only run benchmarks, whose full name contains a match of the regex<br>
+ * -wi n        number of warmup iterations (default 5)<br>
+ * -i n         number of measurement iterations (default 10)<br>
+ * -t ms        length of each iteration in milliseconds (default 500)<br>
+ * -csv file    additionally write the results to the given CSV file<br>
+ * <br>
+ * The Widget benchmarks need the game data of the editor. So they must be run from the plugin folder
+ * (or in IDE mode with a game_folders.ini), just like the editor. Otherwise they are skipped.<br>
+ * The game data implementation defaults to rFactor 2 and can be selected by
+ * -Drfdynhud.benchmark.objectFactory=&lt;LiveGameDataObjectsFactory class name&gt;.<br>
+ * On Java 9 and later add --add-exports java.desktop/sun.awt.image=ALL-UNNAMED to the VM arguments.<br>
+ * Use a fixed heap size (e.g. -Xms512m -Xmx512m) to get reproducible results.
+ * 
+ * @author Marvin Froehlich (CTDP)
+ */
+public class BenchmarkRunner
+{
+    private static final long BATCH_NANOS = 1000000L;
+    
+    private static final com.sun.management.ThreadMXBean ALLOCATION_BEAN = initAllocationBean();
+    
+    private int warmupIterations = 5;
+    private int measurementIterations = 10;
+    private long iterationNanos = 500000000L;
+    private Pattern filter = null;
+    private File csvFile = null;
+    
+    /**
+     * Consumes the results of the benchmark operations.
+     */
+    private int sink = 0;
+    
+    private static com.sun.management.ThreadMXBean initAllocationBean()
+    {
+        try
+        {
+            java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+            
+            if ( bean instanceof com.sun.management.ThreadMXBean )
+            {
+                com.sun.management.ThreadMXBean bean2 = (com.sun.management.ThreadMXBean)bean;
+                
+                if ( bean2.isThreadAllocatedMemorySupported() )
+                {
+                    if ( !bean2.isThreadAllocatedMemoryEnabled() )
+                        bean2.setThreadAllocatedMemoryEnabled( true );
+                    
+                    return ( bean2 );
+                }
+            }
+        }
+        catch ( Throwable t )
+        {
+        }
+        
+        return ( null );
+    }
+    
+    private static final long getAllocatedBytes()
+    {
+        if ( ALLOCATION_BEAN == null )
+            return ( 0L );
+        
+        return ( ALLOCATION_BEAN.getThreadAllocatedBytes( Thread.currentThread().getId() ) );
+    }
+    
+    /**
+     * The measured statistics of one benchmark.
+     */
+    public static class Result
+    {
+        private final String name;
+        private final double mean;
+        private final double stdDev;
+        private final double min;
+        private final double max;
+        private final double bytesPerOp;
+        private final long numOps;
+        
+        public final String getName()
+        {
+            return ( name );
+        }
+        
+        /**
+         * Gets the mean time per operation over all measurement iterations in nanoseconds.
+         * 
+         * @return the mean time per operation in nanoseconds.
+         */
+        public final double getMean()
+        {
+            return ( mean );
+        }
+        
+        /**
+         * Gets the standard deviation of the iterations' time per operation in nanoseconds.
+         * 
+         * @return the standard deviation of the iterations' time per operation in nanoseconds.
+         */
+        public final double getStdDev()
+        {
+            return ( stdDev );
+        }
+        
+        public final double getMin()
+        {
+            return ( min );
+        }
+        
+        public final double getMax()
+        {
+            return ( max );
+        }
+        
+        /**
+         * Gets the bytes allocated per operation (zero, if not supported by the JVM).
+         * 
+         * @return the bytes allocated per operation.
+         */
+        public final double getBytesPerOp()
+        {
+            return ( bytesPerOp );
+        }
+        
+        public final long getNumOps()
+        {
+            return ( numOps );
+        }
+        
+        Result( String name, double mean, double stdDev, double min, double max, double bytesPerOp, long numOps )
+        {
+            this.name = name;
+            this.mean = mean;
+            this.stdDev = stdDev;
+            this.min = min;
+            this.max = max;
+            this.bytesPerOp = bytesPerOp;
+            this.numOps = numOps;
+        }
+    }
+    
+    private int calibrateBatchSize( Benchmark benchmark )
+    {
+        int batchSize = 1;
+        
+        while ( true )
+        {
+            long t0 = System.nanoTime();
+            for ( int i = 0; i < batchSize; i++ )
+                sink += benchmark.run();
+            long t = System.nanoTime() - t0;
+            
+            if ( ( t >= BATCH_NANOS ) || ( batchSize >= ( 1 << 24 ) ) )
+                return ( batchSize );
+            
+            batchSize *= 2;
+        }
+    }
+    
+    /**
+     * Runs one iteration.
+     * 
+     * @param benchmark the benchmark
+     * @param batchSize the number of operations between two time checks
+     * @param stats receives the number of operations, the elapsed nanoseconds and the allocated bytes
+     */
+    private void runIteration( Benchmark benchmark, int batchSize, long[] stats )
+    {
+        long numOps = 0L;
+        
+        final long a0 = getAllocatedBytes();
+        final long t0 = System.nanoTime();
+        long t;
+        
+        do
+        {
+            for ( int i = 0; i < batchSize; i++ )
+                sink += benchmark.run();
+            
+            numOps += batchSize;
+            t = System.nanoTime() - t0;
+        }
+        while ( t < iterationNanos );
+        
+        stats[0] = numOps;
+        stats[1] = t;
+        stats[2] = getAllocatedBytes() - a0;
+    }
+    
+    /**
+     * Measures the given benchmark.
+     * 
+     * @param benchmark the benchmark
+     * 
+     * @return the result.
+     * 
+     * @throws Exception if the benchmark's setup failed
+     */
+    public Result measure( Benchmark benchmark ) throws Exception
+    {
+        benchmark.setup();
+        
+        try
+        {
+            System.gc();
+            
+            final int batchSize = calibrateBatchSize( benchmark );
+            final long[] stats = new long[ 3 ];
+            
+            for ( int i = 0; i < warmupIterations; i++ )
+                runIteration( benchmark, batchSize, stats );
+            
+            double[] nanosPerOp = new double[ measurementIterations ];
+            long totalOps = 0L;
+            long totalBytes = 0L;
+            double sum = 0.0;
+            double min = Double.MAX_VALUE;
+            double max = 0.0;
+            
+            for ( int i = 0; i < measurementIterations; i++ )
+            {
+                runIteration( benchmark, batchSize, stats );
+                
+                nanosPerOp[i] = (double)stats[1] / (double)stats[0];
+                totalOps += stats[0];
+                totalBytes += stats[2];
+                sum += nanosPerOp[i];
+                min = Math.min( min, nanosPerOp[i] );
+                max = Math.max( max, nanosPerOp[i] );
+            }
+            
+            final double mean = sum / measurementIterations;
+            double var = 0.0;
+            for ( int i = 0; i < measurementIterations; i++ )
+                var += ( nanosPerOp[i] - mean ) * ( nanosPerOp[i] - mean );
+            
+            final double stdDev = ( measurementIterations > 1 ) ? Math.sqrt( var / ( measurementIterations - 1 ) ) : 0.0;
+            
+            return ( new Result( benchmark.getFullName(), mean, stdDev, min, max, (double)totalBytes / (double)totalOps, totalOps ) );
+        }
+        finally
+        {
+            benchmark.tearDown();
+        }
+    }
+    
+    private static String formatResult( Result result )
+    {
+        return ( String.format( Locale.US, "%-56s %14.1f %10.1f %14.1f %12.1f", result.getName(), result.getMean(), result.getStdDev(), result.getMin(), result.getBytesPerOp() ) );
+    }
+    
+    private static void writeCSV( List<Result> results, File file ) throws IOException
+    {
+        PrintWriter pw = new PrintWriter( new FileWriter( file ) );
+        
+        try
+        {
+            pw.println( "benchmark;mean_ns;stddev_ns;min_ns;max_ns;bytes_per_op;ops" );
+            
+            for ( Result r : results )
+                pw.println( String.format( Locale.US, "%s;%.2f;%.2f;%.2f;%.2f;%.2f;%d", r.getName(), r.getMean(), r.getStdDev(), r.getMin(), r.getMax(), r.getBytesPerOp(), r.getNumOps() ) );
+        }
+        finally
+        {
+            pw.close();
+        }
+    }
+    
+    /**
+     * Collects all benchmarks of the suite. The Widget benchmarks are only added, if the editor's game data could be initialized.
+     * 
+     * @return all benchmarks of the suite.
+     */
+    public static List<Benchmark> createBenchmarks()
+    {
+        List<Benchmark> benchmarks = new ArrayList<Benchmark>();
+        
+        TextureBenchmarks.createBenchmarks( benchmarks );
+        DirtyRectsBenchmarks.createBenchmarks( benchmarks );
+        TelemetryBenchmarks.createBenchmarks( benchmarks );
+        
+        try
+        {
+            WidgetBenchmarks.createBenchmarks( benchmarks );
+        }
+        catch ( Throwable t )
+        {
+            System.out.println( "Skipping the Widget benchmarks. The editor's game data couldn't be initialized (" + t + ")." );
+        }
+        
+        return ( benchmarks );
+    }
+    
+    /**
+     * Runs all benchmarks matching the filter and prints the results.
+     * 
+     * @param benchmarks the benchmarks
+     * 
+     * @return the results of all successfully measured benchmarks.
+     */
+    public List<Result> run( List<Benchmark> benchmarks )
+    {
+        List<Result> results = new ArrayList<Result>();
+        
+        System.out.println( String.format( Locale.US, "# %d warmup and %d measurement iterations, %d ms each", warmupIterations, measurementIterations, iterationNanos / 1000000L ) );
+        System.out.println( String.format( Locale.US, "%-56s %14s %10s %14s %12s", "Benchmark", "ns/op", "+-", "min ns/op", "B/op" ) );
+        
+        for ( Benchmark benchmark : benchmarks )
+        {
+            if ( ( filter != null ) && !filter.matcher( benchmark.getFullName() ).find() )
+                continue;
+            
+            try
+            {
+                Result result = measure( benchmark );
+                
+                results.add( result );
+                
+                System.out.println( formatResult( result ) );
+            }
+            catch ( Throwable t )
+            {
+                System.out.println( String.format( Locale.US, "%-56s FAILED: %s", benchmark.getFullName(), t ) );
+            }
+        }
+        
+        return ( results );
+    }
+    
+    private static void printUsage()
+    {
+        System.out.println( "Usage: BenchmarkRunner [-l] [-f regex] [-wi n] [-i n] [-t ms] [-csv file]" );
+    }
+    
+    public static void main( String[] args ) throws Exception
+    {
+        System.setProperty( "java.awt.headless", "true" );
+        
+        ByteOrderInitializer.setByteOrder( 0, 1, 2, 3 );
+        
+        BenchmarkRunner runner = new BenchmarkRunner();
+        boolean list = false;
+        
+        try
+        {
+            for ( int i = 0; i < args.length; i++ )
+            {
+                if ( args[i].equals( "-l" ) )
+                    list = true;
+                else if ( args[i].equals( "-f" ) )
+                    runner.filter = Pattern.compile( args[++i] );
+                else if ( args[i].equals( "-wi" ) )
+                    runner.warmupIterations = Integer.parseInt( args[++i] );
+                else if ( args[i].equals( "-i" ) )
+                    runner.measurementIterations = Math.max( 1, Integer.parseInt( args[++i] ) );
+                else if ( args[i].equals( "-t" ) )
+                    runner.iterationNanos = Long.parseLong( args[++i] ) * 1000000L;
+                else if ( args[i].equals( "-csv" ) )
+                    runner.csvFile = new File( args[++i] );
+                else
+                    throw new IllegalArgumentException( "Unknown option " + args[i] );
+            }
+        }
+        catch ( RuntimeException e )
+        {
+            printUsage();
+            
+            System.exit( 1 );
+        }
+        
+        List<Benchmark> benchmarks = createBenchmarks();
+        
+        if ( list )
+        {
+            for ( Benchmark benchmark : benchmarks )
+                System.out.println( benchmark.getFullName() );
+            
+            return;
+        }
+        
+        List<Result> results = runner.run( benchmarks );
+        
+        if ( runner.csvFile != null )
+            writeCSV( results, runner.csvFile );
+        
+        // Keeps the JIT from treating the benchmark results as dead code.
+        if ( runner.sink == 42 )
+            System.out.println();
+        
+        System.exit( 0 );
+    }
+}
@@ -0,0 +1,175 @@
+/**
+ * Copyright (C) 2009-2014 Cars and Tracks Development Project (CTDP).
+ * 
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+ */
+package net.ctdp.rfdynhud.benchmark;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Random;
+
+import net.ctdp.rfdynhud.render.TextureDirtyRectsManager;
+import net.ctdp.rfdynhud.render.TextureImage2D;
+import net.ctdp.rfdynhud.render.__RenderPrivilegedAccess;
+
+/**
+ * Benchmarks of the dirty rectangle handling of the online (uploaded) textures.<br>
+ * Each operation is one frame: all rectangles of a pattern are marked dirty and the dirty rectangles are then collected.
+ * The "markDirty" benchmarks only build the rectangle list (like a frame without upload),
+ * the "getDirtyRects" benchmarks additionally coalesce the rectangles and write them to the native buffer.
+ * 
+ * @author Marvin Froehlich (CTDP)
+ */
+public class DirtyRectsBenchmarks
+{
+    private static final String GROUP = "dirtyRects";
+    
+    private static final int WIDTH = 1280;
+    private static final int HEIGHT = 960;
+    
+    /**
+     * Creates the rectangles of a standings like Widget: a grid of adjacent text cells.
+     * 
+     * @return x, y, width, height of each rectangle.
+     */
+    private static int[] createCellsPattern()
+    {
+        final int rows = 20;
+        final int[] colWidths = { 24, 140, 60, 80, 40 };
+        int[] rects = new int[ rows * colWidths.length * 4 ];
+        
+        int i = 0;
+        for ( int row = 0; row < rows; row++ )
+        {
+            int x = 800;
+            for ( int col = 0; col < colWidths.length; col++ )
+            {
+                rects[i++] = x;
+                rects[i++] = 100 + row * 18;
+                rects[i++] = colWidths[col];
+                rects[i++] = 18;
+                
+                x += colWidths[col];
+            }
+        }
+        
+        return ( rects );
+    }
+    
+    /**
+     * Creates randomly scattered small rectangles (values of different Widgets all over the screen).
+     * 
+     * @return x, y, width, height of each rectangle.
+     */
+    private static int[] createScatteredPattern()
+    {
+        Random rnd = new Random( 4711L );
+        int[] rects = new int[ 64 * 4 ];
+        
+        for ( int i = 0; i < rects.length; i += 4 )
+        {
+            int w = 4 + rnd.nextInt( 60 );
+            int h = 4 + rnd.nextInt( 30 );
+            
+            rects[i + 0] = rnd.nextInt( WIDTH - w );
+            rects[i + 1] = rnd.nextInt( HEIGHT - h );
+            rects[i + 2] = w;
+            rects[i + 3] = h;
+        }
+        
+        return ( rects );
+    }
+    
+    /**
+     * Creates heavily overlapping rectangles around a few gauges (needles and digital values redrawn on top of each other).
+     * 
+     * @return x, y, width, height of each rectangle.
+     */
+    private static int[] createOverlappingPattern()
+    {
+        Random rnd = new Random( 4712L );
+        final int[] centers = { 200, 800, 500, 820, 1000, 780 };
+        int[] rects = new int[ 48 * 4 ];
+        
+        for ( int i = 0; i < rects.length; i += 4 )
+        {
+            int c = rnd.nextInt( centers.length / 2 ) * 2;
+            int w = 20 + rnd.nextInt( 100 );
+            int h = 20 + rnd.nextInt( 100 );
+            
+            rects[i + 0] = centers[c + 0] - rnd.nextInt( w );
+            rects[i + 1] = centers[c + 1] - rnd.nextInt( h );
+            rects[i + 2] = w;
+            rects[i + 3] = h;
+        }
+        
+        return ( rects );
+    }
+    
+    private static class FrameBenchmark extends Benchmark
+    {
+        private final int[] rects;
+        private final boolean writeToBuffer;
+        private TextureImage2D texture = null;
+        private ByteBuffer buffer = null;
+        
+        @Override
+        public void setup() throws Exception
+        {
+            texture = __RenderPrivilegedAccess.createMainTexture( WIDTH, HEIGHT ).getTexture();
+            buffer = writeToBuffer ? TextureDirtyRectsManager.createByteBuffer( 128 ) : null;
+            
+            // Drop the initial full texture rect.
+            TextureDirtyRectsManager.getDirtyRects( texture, buffer, true );
+        }
+        
+        @Override
+        public int run()
+        {
+            for ( int i = 0; i < rects.length; i += 4 )
+                texture.markDirty( rects[i + 0], rects[i + 1], rects[i + 2], rects[i + 3], null );
+            
+            return ( TextureDirtyRectsManager.getDirtyRects( texture, buffer, true ) );
+        }
+        
+        @Override
+        public void tearDown()
+        {
+            texture = null;
+            buffer = null;
+        }
+        
+        public FrameBenchmark( String pattern, int[] rects, boolean writeToBuffer )
+        {
+            super( GROUP, ( writeToBuffer ? "getDirtyRects." : "markDirty." ) + pattern );
+            
+            this.rects = rects;
+            this.writeToBuffer = writeToBuffer;
+        }
+    }
+    
+    public static void createBenchmarks( List<Benchmark> benchmarks )
+    {
+        final String[] names = { "cells", "scattered", "overlapping" };
+        final int[][] patterns = { createCellsPattern(), createScatteredPattern(), createOverlappingPattern() };
+        
+        for ( int i = 0; i < patterns.length; i++ )
+            benchmarks.add( new FrameBenchmark( names[i], patterns[i], false ) );
+        
+        for ( int i = 0; i < patterns.length; i++ )
+            benchmarks.add( new FrameBenchmark( names[i], patterns[i], true ) );
+    }
+}
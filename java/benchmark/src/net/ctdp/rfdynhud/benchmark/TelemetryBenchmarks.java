@@ -0,0 +1,171 @@
+/**
+ * Copyright (C) 2009-2014 Cars and Tracks Development Project (CTDP).
+ * 
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+ */
+package net.ctdp.rfdynhud.benchmark;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.List;
+import java.util.Random;
+
+import net.ctdp.rfdynhud.gamedata.ByteUtil;
+
+/**
+ * Benchmarks of the two ways to get at the rFactor 2 telemetry struct.<br>
+ * The "copy" path is the one of the byte array buffers: the struct is copied into a heap array
+ * and every value is assembled byte by byte. The "view" path is the one of the direct buffers:
+ * the struct is copied off-heap to off-heap and the values are read in place.<br>
+ * The game's memory is simulated by a direct buffer of the struct's size (1888 bytes), filled with doubles.
+ * The accessor benchmarks read all of them, which is about the number of values the Widgets read per frame.
+ * 
+ * @author Marvin Froehlich (CTDP)
+ */
+public class TelemetryBenchmarks
+{
+    private static final String GROUP = "telemetry";
+    
+    private static final int STRUCT_SIZE = 1888;
+    private static final int NUM_VALUES = STRUCT_SIZE / ByteUtil.SIZE_DOUBLE;
+    
+    private static ByteBuffer createGameBuffer()
+    {
+        ByteBuffer source = ByteBuffer.allocateDirect( STRUCT_SIZE ).order( ByteOrder.LITTLE_ENDIAN );
+        Random rnd = new Random( 4713L );
+        
+        for ( int i = 0; i < NUM_VALUES; i++ )
+            source.putDouble( i * ByteUtil.SIZE_DOUBLE, rnd.nextDouble() * 1000.0 );
+        
+        return ( source );
+    }
+    
+    private static abstract class TelemetryBenchmark extends Benchmark
+    {
+        protected ByteBuffer source = null;
+        protected byte[] array = null;
+        protected ByteBuffer view = null;
+        
+        @Override
+        public void setup() throws Exception
+        {
+            source = createGameBuffer();
+            array = new byte[ STRUCT_SIZE ];
+            view = ByteBuffer.allocateDirect( STRUCT_SIZE ).order( ByteOrder.LITTLE_ENDIAN );
+            
+            source.position( 0 );
+            source.get( array, 0, STRUCT_SIZE );
+            source.position( 0 );
+            view.put( source );
+            view.position( 0 );
+            source.position( 0 );
+        }
+        
+        @Override
+        public void tearDown()
+        {
+            source = null;
+            array = null;
+            view = null;
+        }
+        
+        public TelemetryBenchmark( String name )
+        {
+            super( GROUP, name );
+        }
+    }
+    
+    private static class CopyUpdateBenchmark extends TelemetryBenchmark
+    {
+        @Override
+        public int run()
+        {
+            source.position( 0 );
+            source.get( array, 0, STRUCT_SIZE );
+            
+            return ( array[STRUCT_SIZE - 1] );
+        }
+        
+        public CopyUpdateBenchmark()
+        {
+            super( "update.copy" );
+        }
+    }
+    
+    private static class ViewUpdateBenchmark extends TelemetryBenchmark
+    {
+        @Override
+        public int run()
+        {
+            source.position( 0 );
+            view.position( 0 );
+            view.put( source );
+            view.position( 0 );
+            
+            return ( view.get( STRUCT_SIZE - 1 ) );
+        }
+        
+        public ViewUpdateBenchmark()
+        {
+            super( "update.view" );
+        }
+    }
+    
+    private static class CopyAccessorsBenchmark extends TelemetryBenchmark
+    {
+        @Override
+        public int run()
+        {
+            double sum = 0.0;
+            
+            for ( int i = 0; i < NUM_VALUES; i++ )
+                sum += ByteUtil.readDouble( array, i * ByteUtil.SIZE_DOUBLE );
+            
+            return ( (int)sum );
+        }
+        
+        public CopyAccessorsBenchmark()
+        {
+            super( "accessors.copy" );
+        }
+    }
+    
+    private static class ViewAccessorsBenchmark extends TelemetryBenchmark
+    {
+        @Override
+        public int run()
+        {
+            double sum = 0.0;
+            
+            for ( int i = 0; i < NUM_VALUES; i++ )
+                sum += ByteUtil.readDouble( view, i * ByteUtil.SIZE_DOUBLE );
+            
+            return ( (int)sum );
+        }
+        
+        public ViewAccessorsBenchmark()
+        {
+            super( "accessors.view" );
+        }
+    }
+    
+    public static void createBenchmarks( List<Benchmark> benchmarks )
+    {
+        benchmarks.add( new CopyUpdateBenchmark() );
+        benchmarks.add( new ViewUpdateBenchmark() );
+        benchmarks.add( new CopyAccessorsBenchmark() );
+        benchmarks.add( new ViewAccessorsBenchmark() );
+    }
+}
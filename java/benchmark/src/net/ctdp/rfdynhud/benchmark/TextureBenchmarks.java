@@ -0,0 +1,354 @@
+/**
+ * Copyright (C) 2009-2014 Cars and Tracks Development Project (CTDP).
+ * 
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+ */
+package net.ctdp.rfdynhud.benchmark;
+
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.image.BufferedImage;
+import java.util.List;
+import java.util.Random;
+
+import net.ctdp.rfdynhud.render.GlyphAtlas;
+import net.ctdp.rfdynhud.render.ImageTemplate;
+import net.ctdp.rfdynhud.render.TextureImage2D;
+import net.ctdp.rfdynhud.util.TextBuffer;
+import net.ctdp.rfdynhud.util.TimingUtil;
+
+/**
+ * Benchmarks of the pixel operations of {@link TextureImage2D} and {@link ImageTemplate}.
+ * 
+ * @author Marvin Froehlich (CTDP)
+ */
+public class TextureBenchmarks
+{
+    private static final String GROUP = "texture";
+    
+    private static final int TARGET_WIDTH = 1024;
+    private static final int TARGET_HEIGHT = 512;
+    
+    /**
+     * Creates an image with a mix of fully transparent, semi transparent and opaque pixels,
+     * like the typical background and needle images.
+     * 
+     * @param width the width
+     * @param height the height
+     * @param seed the random seed
+     * 
+     * @return the created image.
+     */
+    static BufferedImage createTestImage( int width, int height, long seed )
+    {
+        Random rnd = new Random( seed );
+        BufferedImage img = new BufferedImage( width, height, BufferedImage.TYPE_4BYTE_ABGR );
+        
+        for ( int y = 0; y < height; y++ )
+        {
+            for ( int x = 0; x < width; x++ )
+            {
+                int alpha;
+                int r = rnd.nextInt( 3 );
+                if ( r == 0 )
+                    alpha = 0;
+                else if ( r == 1 )
+                    alpha = 255;
+                else
+                    alpha = 1 + rnd.nextInt( 254 );
+                
+                img.setRGB( x, y, ( alpha << 24 ) | ( rnd.nextInt() & 0x00FFFFFF ) );
+            }
+        }
+        
+        return ( img );
+    }
+    
+    private static abstract class TargetBenchmark extends Benchmark
+    {
+        protected final Random rnd = new Random( 4711L );
+        protected TextureImage2D target = null;
+        
+        /**
+         * Gets an x-coordinate, so that an area of the given width is inside of the target. The sequence is the same for each run.
+         * 
+         * @param width the area's width
+         * 
+         * @return the x-coordinate.
+         */
+        protected final int nextX( int width )
+        {
+            return ( rnd.nextInt( TARGET_WIDTH - width + 1 ) );
+        }
+        
+        protected final int nextY( int height )
+        {
+            return ( rnd.nextInt( TARGET_HEIGHT - height + 1 ) );
+        }
+        
+        @Override
+        public void setup() throws Exception
+        {
+            rnd.setSeed( 4711L );
+            target = TextureImage2D.createDrawTexture( TARGET_WIDTH, TARGET_HEIGHT, true );
+            target.clear( Color.DARK_GRAY, false, null );
+        }
+        
+        @Override
+        public void tearDown()
+        {
+            target = null;
+        }
+        
+        protected TargetBenchmark( String name )
+        {
+            super( GROUP, name );
+        }
+    }
+    
+    /**
+     * Draws an image with alpha channel (combinePixels).
+     */
+    private static class DrawImageBenchmark extends TargetBenchmark
+    {
+        private final int width;
+        private final int height;
+        private TextureImage2D image = null;
+        
+        @Override
+        public void setup() throws Exception
+        {
+            super.setup();
+            
+            image = new ImageTemplate( "bench", createTestImage( width, height, 42L ) ).getTextureImage();
+        }
+        
+        @Override
+        public int run()
+        {
+            target.drawImage( image, nextX( width ), nextY( height ), false, null );
+            
+            return ( target.getWidth() );
+        }
+        
+        @Override
+        public void tearDown()
+        {
+            super.tearDown();
+            
+            image = null;
+        }
+        
+        public DrawImageBenchmark( int width, int height )
+        {
+            super( "drawImage.alpha" + width + "x" + height );
+            
+            this.width = width;
+            this.height = height;
+        }
+    }
+    
+    private static class FillRectangleBenchmark extends TargetBenchmark
+    {
+        private final int width;
+        private final int height;
+        private final Color color;
+        
+        @Override
+        public int run()
+        {
+            target.fillRectangle( color, nextX( width ), nextY( height ), width, height, false, null );
+            
+            return ( target.getWidth() );
+        }
+        
+        public FillRectangleBenchmark( String variant, Color color, int width, int height )
+        {
+            super( "fillRectangle." + variant + width + "x" + height );
+            
+            this.width = width;
+            this.height = height;
+            this.color = color;
+        }
+    }
+    
+    private static class ClearColorBenchmark extends TargetBenchmark
+    {
+        private final int width;
+        private final int height;
+        
+        @Override
+        public int run()
+        {
+            target.clear( Color.BLACK, nextX( width ), nextY( height ), width, height, false, null );
+            
+            return ( target.getWidth() );
+        }
+        
+        public ClearColorBenchmark( int width, int height )
+        {
+            super( "clear.color" + width + "x" + height );
+            
+            this.width = width;
+            this.height = height;
+        }
+    }
+    
+    /**
+     * Copies a background layer (clear with a source texture), like a complete redraw of a Widget with static layer.
+     */
+    private static class ClearLayerBenchmark extends TargetBenchmark
+    {
+        private final int width;
+        private final int height;
+        private TextureImage2D layer = null;
+        
+        @Override
+        public void setup() throws Exception
+        {
+            super.setup();
+            
+            layer = new ImageTemplate( "bench", createTestImage( width, height, 43L ) ).getTextureImage();
+        }
+        
+        @Override
+        public int run()
+        {
+            target.clear( layer, nextX( width ), nextY( height ), false, null );
+            
+            return ( target.getWidth() );
+        }
+        
+        @Override
+        public void tearDown()
+        {
+            super.tearDown();
+            
+            layer = null;
+        }
+        
+        public ClearLayerBenchmark( int width, int height )
+        {
+            super( "clear.layer" + width + "x" + height );
+            
+            this.width = width;
+            this.height = height;
+        }
+    }
+    
+    /**
+     * Draws changing lap time strings.
+     */
+    private static class DrawStringBenchmark extends TargetBenchmark
+    {
+        private final Font font = new Font( "Dialog", Font.BOLD, 16 );
+        private final boolean glyphAtlas;
+        private final TextBuffer buffer = new TextBuffer( 16 );
+        private int oldMaxPages = 0;
+        private float time = 83.0f;
+        
+        @Override
+        public void setup() throws Exception
+        {
+            super.setup();
+            
+            oldMaxPages = GlyphAtlas.getMaxPages();
+            GlyphAtlas.setMaxPages( glyphAtlas ? Math.max( oldMaxPages, 16 ) : 0 );
+            time = 83.0f;
+        }
+        
+        @Override
+        public int run()
+        {
+            time += 0.001f;
+            TimingUtil.appendTimeAsLaptimeString( time, buffer.clear() );
+            
+            target.drawString( buffer, nextX( 120 ), 20 + nextY( 40 ), null, font, true, Color.WHITE, false, null );
+            
+            return ( buffer.length() );
+        }
+        
+        @Override
+        public void tearDown()
+        {
+            super.tearDown();
+            
+            GlyphAtlas.setMaxPages( oldMaxPages );
+        }
+        
+        public DrawStringBenchmark( boolean glyphAtlas )
+        {
+            super( glyphAtlas ? "drawString.glyphAtlas" : "drawString.java2D" );
+            
+            this.glyphAtlas = glyphAtlas;
+        }
+    }
+    
+    /**
+     * Scales an image template to a new texture (as done on each Widget (re)initialization).
+     */
+    private static class ScaledTextureImageBenchmark extends Benchmark
+    {
+        private final boolean reuse;
+        private ImageTemplate template = null;
+        private TextureImage2D result = null;
+        
+        @Override
+        public void setup() throws Exception
+        {
+            template = new ImageTemplate( "bench", createTestImage( 256, 256, 44L ) );
+            result = null;
+        }
+        
+        @Override
+        public int run()
+        {
+            if ( reuse )
+                result = template.getScaledTextureImage( 200, 150, result, true );
+            else
+                result = template.getScaledTextureImage( 200, 150, false );
+            
+            return ( result.getWidth() );
+        }
+        
+        @Override
+        public void tearDown()
+        {
+            template = null;
+            result = null;
+        }
+        
+        public ScaledTextureImageBenchmark( boolean reuse )
+        {
+            super( "imageTemplate", reuse ? "getScaledTextureImage.reuse" : "getScaledTextureImage.new" );
+            
+            this.reuse = reuse;
+        }
+    }
+    
+    public static void createBenchmarks( List<Benchmark> benchmarks )
+    {
+        benchmarks.add( new DrawImageBenchmark( 32, 32 ) );
+        benchmarks.add( new DrawImageBenchmark( 256, 128 ) );
+        benchmarks.add( new FillRectangleBenchmark( "opaque", Color.RED, 256, 32 ) );
+        benchmarks.add( new FillRectangleBenchmark( "translucent", new Color( 255, 0, 0, 128 ), 256, 32 ) );
+        benchmarks.add( new ClearColorBenchmark( 256, 128 ) );
+        benchmarks.add( new ClearLayerBenchmark( 256, 128 ) );
+        benchmarks.add( new DrawStringBenchmark( true ) );
+        benchmarks.add( new DrawStringBenchmark( false ) );
+        benchmarks.add( new ScaledTextureImageBenchmark( false ) );
+        benchmarks.add( new ScaledTextureImageBenchmark( true ) );
+    }
+}
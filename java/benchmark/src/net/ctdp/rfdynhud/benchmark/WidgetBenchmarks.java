@@ -0,0 +1,194 @@
+/**
+ * Copyright (C) 2009-2014 Cars and Tracks Development Project (CTDP).
+ * 
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+ */
+package net.ctdp.rfdynhud.benchmark;
+
+import java.util.List;
+
+import net.ctdp.rfdynhud.editor.EditorPresets;
+import net.ctdp.rfdynhud.gamedata.GameEventsManager;
+import net.ctdp.rfdynhud.gamedata.LiveGameData;
+import net.ctdp.rfdynhud.gamedata._LiveGameDataObjectsFactory;
+import net.ctdp.rfdynhud.gamedata.__GDPrivilegedAccess;
+import net.ctdp.rfdynhud.render.TextureImage2D;
+import net.ctdp.rfdynhud.render.WidgetsDrawingManager;
+import net.ctdp.rfdynhud.util.__UtilHelper;
+import net.ctdp.rfdynhud.util.__UtilPrivilegedAccess;
+import net.ctdp.rfdynhud.valuemanagers.Clock;
+import net.ctdp.rfdynhud.valuemanagers.TimeBasedClock;
+import net.ctdp.rfdynhud.widgets.WidgetsConfiguration;
+import net.ctdp.rfdynhud.widgets.__WCPrivilegedAccess;
+import net.ctdp.rfdynhud.widgets.base.widget.Widget;
+import net.ctdp.rfdynhud.widgets.base.widget.WidgetFactory;
+
+/**
+ * Benchmarks of {@link Widget#drawWidget(Clock, boolean, LiveGameData, boolean, TextureImage2D, boolean)} for each standard Widget.<br>
+ * The game data is initialized like in the editor and filled with the editor presets.
+ * Each Widget is measured with a complete redraw and with a regular update (no forced redraw, clock advanced by one frame).
+ * 
+ * @author Marvin Froehlich (CTDP)
+ */
+public class WidgetBenchmarks
+{
+    private static final String GROUP = "widget";
+    
+    /**
+     * The game data objects factory used, if none is given through the system property "rfdynhud.benchmark.objectFactory".
+     */
+    public static final String DEFAULT_OBJECT_FACTORY = "net.ctdp.rfdynhud.gamedata.rfactor2._rf2_LiveGameDataObjectsFactory";
+    
+    private static final String STANDARD_WIDGETS_PACKAGE = "net.ctdp.rfdynhud.widgets.standard.";
+    
+    private static final int GAME_RES_X = 1280;
+    private static final int GAME_RES_Y = 960;
+    
+    private static final long FRAME_NANOS = 16666667L;
+    
+    private static LiveGameData gameData = null;
+    private static TextureImage2D texture = null;
+    
+    private static class DrawWidgetBenchmark extends Benchmark
+    {
+        private final Widget widget;
+        private final boolean completeRedraw;
+        private final Clock clock = new TimeBasedClock( 50000000L );
+        private long sessionNanos = 0L;
+        private long frameCounter = 0L;
+        
+        @Override
+        public void setup() throws Exception
+        {
+            sessionNanos = 0L;
+            frameCounter = 0L;
+            clock.init( sessionNanos );
+            
+            widget.forceCompleteRedraw( true );
+            widget.drawWidget( clock, true, gameData, true, texture, false );
+        }
+        
+        @Override
+        public int run()
+        {
+            sessionNanos += FRAME_NANOS;
+            clock.update( sessionNanos, ++frameCounter, completeRedraw );
+            
+            if ( completeRedraw )
+                widget.forceCompleteRedraw( true );
+            
+            widget.drawWidget( clock, completeRedraw, gameData, true, texture, false );
+            
+            return ( widget.getSize().getEffectiveWidth() );
+        }
+        
+        public DrawWidgetBenchmark( Widget widget, boolean completeRedraw )
+        {
+            super( GROUP, widget.getClass().getSimpleName() + ( completeRedraw ? ".completeRedraw" : ".update" ) );
+            
+            this.widget = widget;
+            this.completeRedraw = completeRedraw;
+        }
+    }
+    
+    /**
+     * Initializes the game data like the editor does.
+     * 
+     * @param objectFactory the game data objects factory class name
+     * @param presets the editor presets
+     * 
+     * @return the drawing manager holding the {@link WidgetsConfiguration}.
+     * 
+     * @throws Exception if the game data couldn't be initialized
+     */
+    @SuppressWarnings( "unchecked" )
+    private static WidgetsDrawingManager initGameData( String objectFactory, EditorPresets presets ) throws Exception
+    {
+        Class<_LiveGameDataObjectsFactory> clazz = (Class<_LiveGameDataObjectsFactory>)Class.forName( objectFactory );
+        _LiveGameDataObjectsFactory gdFactory = clazz.getConstructor().newInstance();
+        
+        gdFactory.init( true, false );
+        
+        WidgetsDrawingManager drawingManager = new WidgetsDrawingManager( true, GAME_RES_X, GAME_RES_Y );
+        GameEventsManager eventsManager = gdFactory.newGameEventsManager( null, drawingManager );
+        gameData = eventsManager.getGameData();
+        
+        __UtilHelper.configFolder = gameData.getFileSystem().getConfigFolder();
+        __UtilHelper.bordersBolder = gameData.getFileSystem().getBordersFolder();
+        __UtilHelper.imagesFolder = gameData.getFileSystem().getImagesFolder();
+        __UtilPrivilegedAccess.updateLocalizationsManager( gameData.getFileSystem() );
+        WidgetFactory.init( gameData.getFileSystem().getWidgetSetsFolder() );
+        
+        if ( !__GDPrivilegedAccess.updateProfileInfo( gameData.getProfileInfo() ) )
+            throw new IllegalStateException( "No valid game profile found" );
+        
+        __GDPrivilegedAccess.setUpdatedInTimescope( gameData.getSetup() );
+        __GDPrivilegedAccess.updateInfo( gameData );
+        
+        eventsManager.onStartup( presets );
+        eventsManager.onSessionStarted( presets );
+        
+        eventsManager.onDrivingAidsUpdated( presets );
+        eventsManager.onScoringInfoUpdated( -1, presets );
+        eventsManager.onWeatherInfoUpdated( presets );
+        eventsManager.onTelemetryDataUpdated( presets );
+        eventsManager.onCommentaryRequestInfoUpdated( presets );
+        eventsManager.onGraphicsInfoUpdated( presets );
+        
+        __GDPrivilegedAccess.setInCockpit( true, gameData, System.nanoTime(), true );
+        
+        addStandardWidgets( drawingManager.getWidgetsConfiguration() );
+        
+        eventsManager.onCockpitEntered( presets );
+        __GDPrivilegedAccess.applyEditorPresets( presets, gameData );
+        
+        return ( drawingManager );
+    }
+    
+    private static void addStandardWidgets( WidgetsConfiguration widgetsConfig )
+    {
+        for ( Class<Widget> clazz : WidgetFactory.getWidgetClasses() )
+        {
+            if ( !clazz.getName().startsWith( STANDARD_WIDGETS_PACKAGE ) )
+                continue;
+            
+            Widget widget = WidgetFactory.createWidget( clazz, widgetsConfig );
+            
+            if ( widget != null )
+                __WCPrivilegedAccess.addWidget( widgetsConfig, widget, false, gameData );
+        }
+    }
+    
+    /**
+     * Adds two benchmarks for each standard Widget.
+     * 
+     * @param benchmarks the list to add to
+     * 
+     * @throws Exception if the game data couldn't be initialized
+     */
+    public static void createBenchmarks( List<Benchmark> benchmarks ) throws Exception
+    {
+        WidgetsDrawingManager drawingManager = initGameData( System.getProperty( "rfdynhud.benchmark.objectFactory", DEFAULT_OBJECT_FACTORY ), new EditorPresets() );
+        WidgetsConfiguration widgetsConfig = drawingManager.getWidgetsConfiguration();
+        
+        texture = TextureImage2D.createDrawTexture( GAME_RES_X, GAME_RES_Y, true );
+        
+        for ( int i = 0; i < widgetsConfig.getNumWidgets(); i++ )
+            benchmarks.add( new DrawWidgetBenchmark( widgetsConfig.getWidget( i ), true ) );
+        
+        for ( int i = 0; i < widgetsConfig.getNumWidgets(); i++ )
+            benchmarks.add( new DrawWidgetBenchmark( widgetsConfig.getWidget( i ), false ) );
+    }
+}
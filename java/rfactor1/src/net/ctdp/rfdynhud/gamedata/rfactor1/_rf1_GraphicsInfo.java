@@ -29,6 +29,8 @@ import net.ctdp.rfdynhud.gamedata.GameDataStreamSource;
 import net.ctdp.rfdynhud.gamedata.GraphicsInfo;
 import net.ctdp.rfdynhud.gamedata.LiveGameData;
 import net.ctdp.rfdynhud.gamedata.ScoringInfo;
+import net.ctdp.rfdynhud.gamedata.StructLayout;
+import net.ctdp.rfdynhud.gamedata.StructLayout.Type;
 import net.ctdp.rfdynhud.gamedata.TelemVect3;
 import net.ctdp.rfdynhud.util.RFDHLog;
 
@@ -38,14 +40,19 @@ import net.ctdp.rfdynhud.util.RFDHLog;
  */
 class _rf1_GraphicsInfo extends GraphicsInfo
 {
-    private static final int OFFSET_CAM_POS = 0;
-    private static final int OFFSET_CAM_ORI = OFFSET_CAM_POS + ByteUtil.SIZE_VECTOR3F;
-    private static final int OFFSET_HWND = OFFSET_CAM_ORI + ByteUtil.SIZE_VECTOR3F;
-    private static final int OFFSET_AMBIENT_RED = OFFSET_HWND + ByteUtil.SIZE_LONG;
-    private static final int OFFSET_AMBIENT_GREEN = OFFSET_AMBIENT_RED + ByteUtil.SIZE_FLOAT;
-    private static final int OFFSET_AMBIENT_BLUE = OFFSET_AMBIENT_GREEN + ByteUtil.SIZE_FLOAT;
-    
-    private static final int BUFFER_SIZE = OFFSET_AMBIENT_BLUE + ByteUtil.SIZE_FLOAT;
+    /**
+     * The layout of the GraphicsInfoV2 struct (default packing).
+     */
+    static final StructLayout LAYOUT = new StructLayout( "GraphicsInfoV2" );
+    
+    private static final int OFFSET_CAM_POS = LAYOUT.add( "mCamPos", Type.VECTOR3F );
+    private static final int OFFSET_CAM_ORI = LAYOUT.add( "mCamOri", Type.VECTOR3F );
+    private static final int OFFSET_HWND = LAYOUT.add( "mHWND", Type.POINTER );
+    private static final int OFFSET_AMBIENT_RED = LAYOUT.add( "mAmbientRed", Type.FLOAT );
+    private static final int OFFSET_AMBIENT_GREEN = LAYOUT.add( "mAmbientGreen", Type.FLOAT );
+    private static final int OFFSET_AMBIENT_BLUE = LAYOUT.add( "mAmbientBlue", Type.FLOAT );
+    
+    private static final int BUFFER_SIZE = LAYOUT.getSize();
     
     private final byte[] buffer = new byte[ BUFFER_SIZE ];
     
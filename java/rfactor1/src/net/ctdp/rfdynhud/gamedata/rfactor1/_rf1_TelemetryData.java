@@ -28,6 +28,8 @@ import net.ctdp.rfdynhud.gamedata.IgnitionStatus;
 import net.ctdp.rfdynhud.gamedata.LiveGameData;
 import net.ctdp.rfdynhud.gamedata.ProfileInfo.MeasurementUnits.Convert;
 import net.ctdp.rfdynhud.gamedata.GameDataStreamSource;
+import net.ctdp.rfdynhud.gamedata.StructLayout;
+import net.ctdp.rfdynhud.gamedata.StructLayout.Type;
 import net.ctdp.rfdynhud.gamedata.SurfaceType;
 import net.ctdp.rfdynhud.gamedata.TelemVect3;
 import net.ctdp.rfdynhud.gamedata.TelemetryData;
@@ -53,75 +55,92 @@ import org.jagatoo.util.streams.StreamUtils;
  */
 class _rf1_TelemetryData extends TelemetryData
 {
-    private static final int OFFSET_DELTA_TIME = 0;
-    private static final int OFFSET_LAP_NUMBER = OFFSET_DELTA_TIME + ByteUtil.SIZE_FLOAT;
-    private static final int OFFSET_LAP_START_TIME = OFFSET_LAP_NUMBER + ByteUtil.SIZE_LONG;
-    private static final int OFFSET_VEHICLE_NAME = OFFSET_LAP_START_TIME + ByteUtil.SIZE_FLOAT;
+    /**
+     * The layout of the TelemInfoV2 struct (default packing).
+     */
+    static final StructLayout LAYOUT = new StructLayout( "TelemInfoV2" );
+    
+    private static final int OFFSET_DELTA_TIME = LAYOUT.add( "mDeltaTime", Type.FLOAT );
+    private static final int OFFSET_LAP_NUMBER = LAYOUT.add( "mLapNumber", Type.LONG );
+    private static final int OFFSET_LAP_START_TIME = LAYOUT.add( "mLapStartET", Type.FLOAT );
     private static final int MAX_VEHICLE_NAME_LENGTH = 64;
-    private static final int OFFSET_TRACK_NAME = OFFSET_VEHICLE_NAME + MAX_VEHICLE_NAME_LENGTH * ByteUtil.SIZE_CHAR;
+    private static final int OFFSET_VEHICLE_NAME = LAYOUT.add( "mVehicleName", Type.CHAR, MAX_VEHICLE_NAME_LENGTH );
     private static final int MAX_TRACK_NAME_LENGTH = 64;
-    
-    private static final int OFFSET_POSITION = OFFSET_TRACK_NAME + MAX_TRACK_NAME_LENGTH * ByteUtil.SIZE_CHAR;
-    private static final int OFFSET_LOCAL_VELOCITY = OFFSET_POSITION + ByteUtil.SIZE_VECTOR3F;
-    private static final int OFFSET_LOCAL_ACCELERATION = OFFSET_LOCAL_VELOCITY + ByteUtil.SIZE_VECTOR3F;
-    
-    private static final int OFFSET_ORIENTATION_X = OFFSET_LOCAL_ACCELERATION + ByteUtil.SIZE_VECTOR3F;
-    private static final int OFFSET_ORIENTATION_Y = OFFSET_ORIENTATION_X + ByteUtil.SIZE_VECTOR3F;
-    private static final int OFFSET_ORIENTATION_Z = OFFSET_ORIENTATION_Y + ByteUtil.SIZE_VECTOR3F;
-    private static final int OFFSET_LOCAL_ROTATION = OFFSET_ORIENTATION_Z + ByteUtil.SIZE_VECTOR3F;
-    private static final int OFFSET_LOCAL_ROTATION_ACCELERATION = OFFSET_LOCAL_ROTATION + ByteUtil.SIZE_VECTOR3F;
-    
-    private static final int OFFSET_GEAR = OFFSET_LOCAL_ROTATION_ACCELERATION + ByteUtil.SIZE_VECTOR3F;
-    private static final int OFFSET_ENGINE_RPM = OFFSET_GEAR + ByteUtil.SIZE_LONG;
-    private static final int OFFSET_ENGINE_WATER_TEMP = OFFSET_ENGINE_RPM + ByteUtil.SIZE_FLOAT;
-    private static final int OFFSET_ENGINE_OIL_TEMP = OFFSET_ENGINE_WATER_TEMP + ByteUtil.SIZE_FLOAT;
-    private static final int OFFSET_CLUTCH_RPM = OFFSET_ENGINE_OIL_TEMP + ByteUtil.SIZE_FLOAT;
-    
-    private static final int OFFSET_UNFILTERED_THROTTLE = OFFSET_CLUTCH_RPM + ByteUtil.SIZE_FLOAT;
-    private static final int OFFSET_UNFILTERED_BRAKE = OFFSET_UNFILTERED_THROTTLE + ByteUtil.SIZE_FLOAT;
-    private static final int OFFSET_UNFILTERED_STEERING = OFFSET_UNFILTERED_BRAKE + ByteUtil.SIZE_FLOAT;
-    private static final int OFFSET_UNFILTERED_CLUTCH = OFFSET_UNFILTERED_STEERING + ByteUtil.SIZE_FLOAT;
-    
-    private static final int OFFSET_STEERING_ARM_FORCE = OFFSET_UNFILTERED_CLUTCH + ByteUtil.SIZE_FLOAT;
-    
-    private static final int OFFSET_FUEL = OFFSET_STEERING_ARM_FORCE + ByteUtil.SIZE_FLOAT;
-    private static final int OFFSET_ENGINE_MAX_RPM = OFFSET_FUEL + ByteUtil.SIZE_FLOAT;
-    private static final int OFFSET_SCHEDULED_STOPS = OFFSET_ENGINE_MAX_RPM + ByteUtil.SIZE_FLOAT;
-    private static final int OFFSET_OVERHEATING = OFFSET_SCHEDULED_STOPS + ByteUtil.SIZE_CHAR;
-    private static final int OFFSET_DETACHED = OFFSET_OVERHEATING + ByteUtil.SIZE_BOOL;
-    private static final int OFFSET_DENT_SEVERITY = OFFSET_DETACHED + ByteUtil.SIZE_BOOL;
-    private static final int OFFSET_LAST_IMPACT_TIME = OFFSET_DENT_SEVERITY + 8 * ByteUtil.SIZE_CHAR;
-    private static final int OFFSET_LAST_IMPACT_MAGNITUDE = OFFSET_LAST_IMPACT_TIME + ByteUtil.SIZE_FLOAT;
-    private static final int OFFSET_LAST_IMPACT_POSITION = OFFSET_LAST_IMPACT_MAGNITUDE + ByteUtil.SIZE_FLOAT;
-    
-    private static final int OFFSET_EXPANSION = OFFSET_LAST_IMPACT_POSITION + ByteUtil.SIZE_VECTOR3F;
-    
-    private static final int OFFSET_WHEEL_DATA = OFFSET_EXPANSION + 64 * ByteUtil.SIZE_CHAR;
-    
-    private static final int OFFSET_WHEEL_ROTATION = 1;
-    private static final int OFFSET_WHEEL_SUSPENSION_DEFLECTION = OFFSET_WHEEL_ROTATION + ByteUtil.SIZE_FLOAT;
-    private static final int OFFSET_RIDE_HEIGHT = OFFSET_WHEEL_SUSPENSION_DEFLECTION + ByteUtil.SIZE_FLOAT;
-    private static final int OFFSET_TIRE_LOAD = OFFSET_RIDE_HEIGHT + ByteUtil.SIZE_FLOAT;
-    private static final int OFFSET_LATERAL_FORCE = OFFSET_TIRE_LOAD + ByteUtil.SIZE_FLOAT;
-    private static final int OFFSET_GRIP_FRACTION = OFFSET_LATERAL_FORCE + ByteUtil.SIZE_FLOAT;
-    private static final int OFFSET_BRAKE_TEMP = OFFSET_GRIP_FRACTION + ByteUtil.SIZE_FLOAT;
-    private static final int OFFSET_TIRE_PRESSURE = OFFSET_BRAKE_TEMP + ByteUtil.SIZE_FLOAT;
-    private static final int OFFSET_TIRE_TEMPERATURES = OFFSET_TIRE_PRESSURE + ByteUtil.SIZE_FLOAT;
-    
-    private static final int OFFSET_TIRE_WEAR = OFFSET_TIRE_TEMPERATURES + 3 * ByteUtil.SIZE_FLOAT;
-    private static final int OFFSET_TERRAIN_NAME = OFFSET_TIRE_WEAR + ByteUtil.SIZE_FLOAT;
+    private static final int OFFSET_TRACK_NAME = LAYOUT.add( "mTrackName", Type.CHAR, MAX_TRACK_NAME_LENGTH );
+    
+    private static final int OFFSET_POSITION = LAYOUT.add( "mPos", Type.VECTOR3F );
+    private static final int OFFSET_LOCAL_VELOCITY = LAYOUT.add( "mLocalVel", Type.VECTOR3F );
+    private static final int OFFSET_LOCAL_ACCELERATION = LAYOUT.add( "mLocalAccel", Type.VECTOR3F );
+    
+    private static final int OFFSET_ORIENTATION_X = LAYOUT.add( "mOriX", Type.VECTOR3F );
+    private static final int OFFSET_ORIENTATION_Y = LAYOUT.add( "mOriY", Type.VECTOR3F );
+    private static final int OFFSET_ORIENTATION_Z = LAYOUT.add( "mOriZ", Type.VECTOR3F );
+    private static final int OFFSET_LOCAL_ROTATION = LAYOUT.add( "mLocalRot", Type.VECTOR3F );
+    private static final int OFFSET_LOCAL_ROTATION_ACCELERATION = LAYOUT.add( "mLocalRotAccel", Type.VECTOR3F );
+    
+    private static final int OFFSET_GEAR = LAYOUT.add( "mGear", Type.LONG );
+    private static final int OFFSET_ENGINE_RPM = LAYOUT.add( "mEngineRPM", Type.FLOAT );
+    private static final int OFFSET_ENGINE_WATER_TEMP = LAYOUT.add( "mEngineWaterTemp", Type.FLOAT );
+    private static final int OFFSET_ENGINE_OIL_TEMP = LAYOUT.add( "mEngineOilTemp", Type.FLOAT );
+    private static final int OFFSET_CLUTCH_RPM = LAYOUT.add( "mClutchRPM", Type.FLOAT );
+    
+    private static final int OFFSET_UNFILTERED_THROTTLE = LAYOUT.add( "mUnfilteredThrottle", Type.FLOAT );
+    private static final int OFFSET_UNFILTERED_BRAKE = LAYOUT.add( "mUnfilteredBrake", Type.FLOAT );
+    private static final int OFFSET_UNFILTERED_STEERING = LAYOUT.add( "mUnfilteredSteering", Type.FLOAT );
+    private static final int OFFSET_UNFILTERED_CLUTCH = LAYOUT.add( "mUnfilteredClutch", Type.FLOAT );
+    
+    private static final int OFFSET_STEERING_ARM_FORCE = LAYOUT.add( "mSteeringArmForce", Type.FLOAT );
+    
+    private static final int OFFSET_FUEL = LAYOUT.add( "mFuel", Type.FLOAT );
+    private static final int OFFSET_ENGINE_MAX_RPM = LAYOUT.add( "mEngineMaxRPM", Type.FLOAT );
+    private static final int OFFSET_SCHEDULED_STOPS = LAYOUT.add( "mScheduledStops", Type.CHAR );
+    private static final int OFFSET_OVERHEATING = LAYOUT.add( "mOverheating", Type.BOOL );
+    private static final int OFFSET_DETACHED = LAYOUT.add( "mDetached", Type.BOOL );
+    private static final int OFFSET_DENT_SEVERITY = LAYOUT.add( "mDentSeverity", Type.CHAR, 8 );
+    private static final int OFFSET_LAST_IMPACT_TIME = LAYOUT.add( "mLastImpactET", Type.FLOAT );
+    private static final int OFFSET_LAST_IMPACT_MAGNITUDE = LAYOUT.add( "mLastImpactMagnitude", Type.FLOAT );
+    private static final int OFFSET_LAST_IMPACT_POSITION = LAYOUT.add( "mLastImpactPos", Type.VECTOR3F );
+    
+    private static final int OFFSET_EXPANSION = LAYOUT.add( "mExpansion", Type.CHAR, 64 );
+    
+    static final StructLayout WHEEL_LAYOUT = new StructLayout( "TelemWheelV2" );
+    
+    private static final int OFFSET_WHEEL_ROTATION = WHEEL_LAYOUT.add( "mRotation", Type.FLOAT );
+    private static final int OFFSET_WHEEL_SUSPENSION_DEFLECTION = WHEEL_LAYOUT.add( "mSuspensionDeflection", Type.FLOAT );
+    private static final int OFFSET_RIDE_HEIGHT = WHEEL_LAYOUT.add( "mRideHeight", Type.FLOAT );
+    private static final int OFFSET_TIRE_LOAD = WHEEL_LAYOUT.add( "mTireLoad", Type.FLOAT );
+    private static final int OFFSET_LATERAL_FORCE = WHEEL_LAYOUT.add( "mLateralForce", Type.FLOAT );
+    private static final int OFFSET_GRIP_FRACTION = WHEEL_LAYOUT.add( "mGripFract", Type.FLOAT );
+    private static final int OFFSET_BRAKE_TEMP = WHEEL_LAYOUT.add( "mBrakeTemp", Type.FLOAT );
+    private static final int OFFSET_TIRE_PRESSURE = WHEEL_LAYOUT.add( "mPressure", Type.FLOAT );
+    private static final int OFFSET_TIRE_TEMPERATURES = WHEEL_LAYOUT.add( "mTemperature", Type.FLOAT, 3 );
+    
+    private static final int OFFSET_TIRE_WEAR = WHEEL_LAYOUT.add( "mWear", Type.FLOAT );
     private static final int MAX_TERRAIN_NAME_LENGTH = 16;
-    private static final int OFFSET_SURFACE_TYPE = OFFSET_TERRAIN_NAME + MAX_TERRAIN_NAME_LENGTH * ByteUtil.SIZE_CHAR;
-    private static final int OFFSET_IS_WHEEL_FLAT = OFFSET_SURFACE_TYPE + ByteUtil.SIZE_CHAR;
-    private static final int OFFSET_IS_WHEEL_DETACHED = OFFSET_IS_WHEEL_FLAT + ByteUtil.SIZE_BOOL;
+    private static final int OFFSET_TERRAIN_NAME = WHEEL_LAYOUT.add( "mTerrainName", Type.CHAR, MAX_TERRAIN_NAME_LENGTH );
+    private static final int OFFSET_SURFACE_TYPE = WHEEL_LAYOUT.add( "mSurfaceType", Type.CHAR );
+    private static final int OFFSET_IS_WHEEL_FLAT = WHEEL_LAYOUT.add( "mFlat", Type.BOOL );
+    private static final int OFFSET_IS_WHEEL_DETACHED = WHEEL_LAYOUT.add( "mDetached", Type.BOOL );
+    
+    private static final int OFFSET_WHEEL_DATA_EXPENSION = WHEEL_LAYOUT.add( "mExpansion", Type.CHAR, 32 );
+    
+    private static final int WHEEL_DATA_SIZE = WHEEL_LAYOUT.getSize();
     
-    private static final int OFFSET_WHEEL_DATA_EXPENSION = OFFSET_IS_WHEEL_DETACHED + ByteUtil.SIZE_BOOL;
+    private static final int OFFSET_WHEEL_DATA = LAYOUT.addStruct( "mWheel", WHEEL_LAYOUT, 4 );
     
-    private static final int WHEEL_DATA_SIZE = OFFSET_WHEEL_DATA_EXPENSION + 32 * ByteUtil.SIZE_CHAR;
+    private static final int BUFFER_SIZE = LAYOUT.getSize();
     
-    private static final int BUFFER_SIZE = OFFSET_WHEEL_DATA + ( 4 * WHEEL_DATA_SIZE );
+    /**
+     * Recordings have been written with the former (one byte short) buffer size. So streams keep using it.
+     */
+    private static final int STREAM_SIZE = BUFFER_SIZE - 1;
+    
+    private byte[] buffer = new byte[ BUFFER_SIZE ];
     
-    private final byte[] buffer = new byte[ BUFFER_SIZE ];
+    /**
+     * Receives captured updates, while the render thread reads the current buffer (pipelined rendering). Only created, when needed.
+     */
+    private byte[] backBuffer = null;
     
     private static final java.net.URL DEFAULT_VALUES = _rf1_TelemetryData.class.getClassLoader().getResource( _rf1_TelemetryData.class.getPackage().getName().replace( '.', '/' ) + "/data/game_data/telemetry_data" );
     
@@ -179,10 +198,34 @@ class _rf1_TelemetryData extends TelemetryData
         }
     }
     
+    @Override
+    protected boolean captureDataImpl( Object userObject )
+    {
+        if ( !( userObject instanceof _rf1_DataAddressKeeper ) )
+            return ( false );
+        
+        _rf1_DataAddressKeeper ak = (_rf1_DataAddressKeeper)userObject;
+        
+        if ( backBuffer == null )
+            backBuffer = new byte[ BUFFER_SIZE ];
+        
+        fetchData( ak.getBufferAddress(), ak.getBufferSize(), backBuffer );
+        
+        return ( true );
+    }
+    
+    @Override
+    protected void swapCapturedData()
+    {
+        final byte[] tmp = buffer;
+        buffer = backBuffer;
+        backBuffer = tmp;
+    }
+    
     private void readFromStreamImpl( InputStream in ) throws IOException
     {
         int offset = 0;
-        int bytesToRead = BUFFER_SIZE;
+        int bytesToRead = STREAM_SIZE;
         
         while ( bytesToRead > 0 )
         {
@@ -235,7 +278,7 @@ class _rf1_TelemetryData extends TelemetryData
     @Override
     public void writeToStream( OutputStream out ) throws IOException
     {
-        out.write( buffer, 0, BUFFER_SIZE );
+        out.write( buffer, 0, STREAM_SIZE );
     }
     
     @Override
@@ -30,6 +30,9 @@ import net.ctdp.rfdynhud.gamedata.PitState;
 import net.ctdp.rfdynhud.gamedata.ProfileInfo;
 import net.ctdp.rfdynhud.gamedata.ScoringInfo;
 import net.ctdp.rfdynhud.gamedata.StatusFlag;
+import net.ctdp.rfdynhud.gamedata.StringCache;
+import net.ctdp.rfdynhud.gamedata.StructLayout;
+import net.ctdp.rfdynhud.gamedata.StructLayout.Type;
 import net.ctdp.rfdynhud.gamedata.TelemVect3;
 import net.ctdp.rfdynhud.gamedata.VehicleControl;
 import net.ctdp.rfdynhud.gamedata.VehicleScoringInfo;
@@ -41,61 +44,70 @@ import net.ctdp.rfdynhud.gamedata.VehicleUpgradePack;
  */
 class _rf1_VehicleScoringInfo extends VehicleScoringInfo
 {
-    private static final int OFFSET_DRIVER_NAME = 0;
+    /**
+     * The layout of the VehicleScoringInfoV2 struct (default packing).
+     */
+    static final StructLayout LAYOUT = new StructLayout( "VehicleScoringInfoV2" );
+    
     private static final int MAX_DRIVER_NAME_LENGTH = 32;
-    private static final int OFFSET_VEHICLE_NAME = OFFSET_DRIVER_NAME + MAX_DRIVER_NAME_LENGTH * ByteUtil.SIZE_CHAR;
+    private static final int OFFSET_DRIVER_NAME = LAYOUT.add( "mDriverName", Type.CHAR, MAX_DRIVER_NAME_LENGTH );
     private static final int MAX_VEHICLE_NAME_LENGTH = 64;
-    
-    private static final int OFFSET_TOTAL_LAPS = OFFSET_VEHICLE_NAME + MAX_VEHICLE_NAME_LENGTH * ByteUtil.SIZE_CHAR;
-    
-    private static final int OFFSET_SECTOR = OFFSET_TOTAL_LAPS + ByteUtil.SIZE_SHORT;
-    private static final int OFFSET_FINISH_STATUS = OFFSET_SECTOR + ByteUtil.SIZE_CHAR;
-    private static final int OFFSET_LAP_DISTANCE = OFFSET_FINISH_STATUS + ByteUtil.SIZE_CHAR;
-    private static final int OFFSET_PATH_LATERAL = OFFSET_LAP_DISTANCE + ByteUtil.SIZE_FLOAT;
-    private static final int OFFSET_TRACK_EDGE = OFFSET_PATH_LATERAL + ByteUtil.SIZE_FLOAT;
-    
-    private static final int OFFSET_BEST_SECTOR_1 = OFFSET_TRACK_EDGE + ByteUtil.SIZE_FLOAT;
-    private static final int OFFSET_BEST_SECTOR_2 = OFFSET_BEST_SECTOR_1 + ByteUtil.SIZE_FLOAT;
-    private static final int OFFSET_BEST_LAP_TIME = OFFSET_BEST_SECTOR_2 + ByteUtil.SIZE_FLOAT;
-    private static final int OFFSET_LAST_SECTOR_1 = OFFSET_BEST_LAP_TIME + ByteUtil.SIZE_FLOAT;
-    private static final int OFFSET_LAST_SECTOR_2 = OFFSET_LAST_SECTOR_1 + ByteUtil.SIZE_FLOAT;
-    private static final int OFFSET_LAST_LAP_TIME = OFFSET_LAST_SECTOR_2 + ByteUtil.SIZE_FLOAT;
-    private static final int OFFSET_CURR_SECTOR_1 = OFFSET_LAST_LAP_TIME + ByteUtil.SIZE_FLOAT;
-    private static final int OFFSET_CURR_SECTOR_2 = OFFSET_CURR_SECTOR_1 + ByteUtil.SIZE_FLOAT;
-    
-    private static final int OFFSET_NUM_PITSTOPS = OFFSET_CURR_SECTOR_2 + ByteUtil.SIZE_FLOAT;
-    private static final int OFFSET_NUM_PENALTIES = OFFSET_NUM_PITSTOPS + ByteUtil.SIZE_SHORT;
-    
-    private static final int OFFSET_IS_PLAYER = OFFSET_NUM_PENALTIES + ByteUtil.SIZE_SHORT;
-    private static final int OFFSET_CONTROL = OFFSET_IS_PLAYER + ByteUtil.SIZE_BOOL;
-    private static final int OFFSET_IN_PITS = OFFSET_CONTROL + ByteUtil.SIZE_CHAR;
-    private static final int OFFSET_PLACE = OFFSET_IN_PITS + ByteUtil.SIZE_BOOL;
-    private static final int OFFSET_VEHICLE_CLASS = OFFSET_PLACE + ByteUtil.SIZE_CHAR;
+    private static final int OFFSET_VEHICLE_NAME = LAYOUT.add( "mVehicleName", Type.CHAR, MAX_VEHICLE_NAME_LENGTH );
+    
+    private static final int OFFSET_TOTAL_LAPS = LAYOUT.add( "mTotalLaps", Type.SHORT );
+    
+    private static final int OFFSET_SECTOR = LAYOUT.add( "mSector", Type.CHAR );
+    private static final int OFFSET_FINISH_STATUS = LAYOUT.add( "mFinishStatus", Type.CHAR );
+    private static final int OFFSET_LAP_DISTANCE = LAYOUT.add( "mLapDist", Type.FLOAT );
+    private static final int OFFSET_PATH_LATERAL = LAYOUT.add( "mPathLateral", Type.FLOAT );
+    private static final int OFFSET_TRACK_EDGE = LAYOUT.add( "mTrackEdge", Type.FLOAT );
+    
+    private static final int OFFSET_BEST_SECTOR_1 = LAYOUT.add( "mBestSector1", Type.FLOAT );
+    private static final int OFFSET_BEST_SECTOR_2 = LAYOUT.add( "mBestSector2", Type.FLOAT );
+    private static final int OFFSET_BEST_LAP_TIME = LAYOUT.add( "mBestLapTime", Type.FLOAT );
+    private static final int OFFSET_LAST_SECTOR_1 = LAYOUT.add( "mLastSector1", Type.FLOAT );
+    private static final int OFFSET_LAST_SECTOR_2 = LAYOUT.add( "mLastSector2", Type.FLOAT );
+    private static final int OFFSET_LAST_LAP_TIME = LAYOUT.add( "mLastLapTime", Type.FLOAT );
+    private static final int OFFSET_CURR_SECTOR_1 = LAYOUT.add( "mCurSector1", Type.FLOAT );
+    private static final int OFFSET_CURR_SECTOR_2 = LAYOUT.add( "mCurSector2", Type.FLOAT );
+    
+    private static final int OFFSET_NUM_PITSTOPS = LAYOUT.add( "mNumPitstops", Type.SHORT );
+    private static final int OFFSET_NUM_PENALTIES = LAYOUT.add( "mNumPenalties", Type.SHORT );
+    
+    private static final int OFFSET_IS_PLAYER = LAYOUT.add( "mIsPlayer", Type.BOOL );
+    private static final int OFFSET_CONTROL = LAYOUT.add( "mControl", Type.CHAR );
+    private static final int OFFSET_IN_PITS = LAYOUT.add( "mInPits", Type.BOOL );
+    private static final int OFFSET_PLACE = LAYOUT.add( "mPlace", Type.CHAR );
     private static final int MAX_VEHICLE_CLASS_LENGTH = 32;
+    private static final int OFFSET_VEHICLE_CLASS = LAYOUT.add( "mVehicleClass", Type.CHAR, MAX_VEHICLE_CLASS_LENGTH );
     
-    private static final int OFFSET_TIME_BEHIND_NEXT = OFFSET_VEHICLE_CLASS + MAX_VEHICLE_CLASS_LENGTH * ByteUtil.SIZE_CHAR;
-    private static final int OFFSET_LAPS_BEHIND_NEXT = OFFSET_TIME_BEHIND_NEXT + ByteUtil.SIZE_FLOAT;
-    private static final int OFFSET_TIME_BEHIND_LEADER = OFFSET_LAPS_BEHIND_NEXT + ByteUtil.SIZE_LONG;
-    private static final int OFFSET_LAPS_BEHIND_LEADER = OFFSET_TIME_BEHIND_LEADER + ByteUtil.SIZE_FLOAT;
-    private static final int OFFSET_LAP_START_TIME = OFFSET_LAPS_BEHIND_LEADER + ByteUtil.SIZE_LONG;
+    private static final int OFFSET_TIME_BEHIND_NEXT = LAYOUT.add( "mTimeBehindNext", Type.FLOAT );
+    private static final int OFFSET_LAPS_BEHIND_NEXT = LAYOUT.add( "mLapsBehindNext", Type.LONG );
+    private static final int OFFSET_TIME_BEHIND_LEADER = LAYOUT.add( "mTimeBehindLeader", Type.FLOAT );
+    private static final int OFFSET_LAPS_BEHIND_LEADER = LAYOUT.add( "mLapsBehindLeader", Type.LONG );
+    private static final int OFFSET_LAP_START_TIME = LAYOUT.add( "mLapStartET", Type.FLOAT );
     
-    private static final int OFFSET_POSITION = OFFSET_LAP_START_TIME + ByteUtil.SIZE_FLOAT;
-    private static final int OFFSET_LOCAL_VELOCITY = OFFSET_POSITION + ByteUtil.SIZE_VECTOR3F;
-    private static final int OFFSET_LOCAL_ACCELERATION = OFFSET_LOCAL_VELOCITY + ByteUtil.SIZE_VECTOR3F;
+    private static final int OFFSET_POSITION = LAYOUT.add( "mPos", Type.VECTOR3F );
+    private static final int OFFSET_LOCAL_VELOCITY = LAYOUT.add( "mLocalVel", Type.VECTOR3F );
+    private static final int OFFSET_LOCAL_ACCELERATION = LAYOUT.add( "mLocalAccel", Type.VECTOR3F );
     
-    private static final int OFFSET_ORIENTATION_X = OFFSET_LOCAL_ACCELERATION + ByteUtil.SIZE_VECTOR3F;
-    private static final int OFFSET_ORIENTATION_Y = OFFSET_ORIENTATION_X + ByteUtil.SIZE_VECTOR3F;
-    private static final int OFFSET_ORIENTATION_Z = OFFSET_ORIENTATION_Y + ByteUtil.SIZE_VECTOR3F;
-    private static final int OFFSET_LOCAL_ROTATION = OFFSET_ORIENTATION_Z + ByteUtil.SIZE_VECTOR3F;
-    private static final int OFFSET_LOCAL_ROTATION_ACCELERATION = OFFSET_LOCAL_ROTATION + ByteUtil.SIZE_VECTOR3F;
+    private static final int OFFSET_ORIENTATION_X = LAYOUT.add( "mOriX", Type.VECTOR3F );
+    private static final int OFFSET_ORIENTATION_Y = LAYOUT.add( "mOriY", Type.VECTOR3F );
+    private static final int OFFSET_ORIENTATION_Z = LAYOUT.add( "mOriZ", Type.VECTOR3F );
+    private static final int OFFSET_LOCAL_ROTATION = LAYOUT.add( "mLocalRot", Type.VECTOR3F );
+    private static final int OFFSET_LOCAL_ROTATION_ACCELERATION = LAYOUT.add( "mLocalRotAccel", Type.VECTOR3F );
     
-    private static final int OFFSET_EXPANSION = OFFSET_LOCAL_ROTATION_ACCELERATION + ByteUtil.SIZE_VECTOR3F;
+    private static final int OFFSET_EXPANSION = LAYOUT.add( "mExpansion", Type.CHAR, 128 );
     
-    static final int BUFFER_SIZE = OFFSET_EXPANSION + 128 * ByteUtil.SIZE_CHAR;
+    static final int BUFFER_SIZE = LAYOUT.getSize();
     
     final byte[] buffer;
     private final int buffOff;
     
+    private final StringCache driverName = new StringCache( MAX_DRIVER_NAME_LENGTH );
+    private final StringCache vehicleName = new StringCache( MAX_VEHICLE_NAME_LENGTH );
+    private final StringCache vehicleClass = new StringCache( MAX_VEHICLE_CLASS_LENGTH );
+    
     private static final Map<Object, Integer> idMap = new HashMap<Object, Integer>();
     private static int nextId = 1;
     
@@ -294,7 +306,7 @@ class _rf1_VehicleScoringInfo extends VehicleScoringInfo
     {
         // char mDriverName[32]
         
-        return ( ByteUtil.readString( buffer, buffOff + OFFSET_DRIVER_NAME, MAX_DRIVER_NAME_LENGTH ) );
+        return ( driverName.read( buffer, buffOff + OFFSET_DRIVER_NAME ) );
     }
     
     /*
@@ -320,7 +332,7 @@ class _rf1_VehicleScoringInfo extends VehicleScoringInfo
     {
         // char mVehicleName[64]
         
-        return ( ByteUtil.readString( buffer, buffOff + OFFSET_VEHICLE_NAME, MAX_VEHICLE_NAME_LENGTH ) );
+        return ( vehicleName.read( buffer, buffOff + OFFSET_VEHICLE_NAME ) );
     }
     
     /**
@@ -604,7 +616,7 @@ class _rf1_VehicleScoringInfo extends VehicleScoringInfo
     {
         // char mVehicleClass[32]
         
-        return ( ByteUtil.readString( buffer, buffOff + OFFSET_VEHICLE_CLASS, MAX_VEHICLE_CLASS_LENGTH ) );
+        return ( vehicleClass.read( buffer, buffOff + OFFSET_VEHICLE_CLASS ) );
     }
     
     /**
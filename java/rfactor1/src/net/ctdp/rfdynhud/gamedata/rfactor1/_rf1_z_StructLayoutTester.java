@@ -0,0 +1,304 @@
+/**
+ * Copyright (C) 2009-2014 Cars and Tracks Development Project (CTDP).
+ * 
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+ */
+package net.ctdp.rfdynhud.gamedata.rfactor1;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Random;
+
+import net.ctdp.rfdynhud.gamedata.StructLayout;
+
+/**
+ * Compares the struct layouts with the offsets, that have formerly been summed up by hand,
+ * and round-trips the delta encoding on random data.
+ * The offsets, that the former manual summing got wrong (missing alignment), are reported as fixed.
+ */
+class _rf1_z_StructLayoutTester
+{
+    private static final int NUM_DELTAS = 1000;
+    
+    private static int numChecks = 0;
+    private static int numErrors = 0;
+    
+    private static void check( StructLayout layout, String field, int index, int expected )
+    {
+        final int offset = layout.getField( field ).getOffset( index );
+        
+        numChecks++;
+        
+        if ( offset != expected )
+        {
+            System.out.println( "    MISMATCH " + layout.getName() + "." + field + "[" + index + "]: " + offset + " (expected " + expected + ")" );
+            numErrors++;
+        }
+    }
+    
+    private static void check( StructLayout layout, String field, int expected )
+    {
+        check( layout, field, 0, expected );
+    }
+    
+    private static void checkSize( StructLayout layout, int expected )
+    {
+        numChecks++;
+        
+        if ( layout.getSize() != expected )
+        {
+            System.out.println( "    MISMATCH sizeof( " + layout.getName() + " ): " + layout.getSize() + " (expected " + expected + ")" );
+            numErrors++;
+        }
+    }
+    
+    /**
+     * The former offsets didn't respect the alignment of the field.
+     */
+    private static void checkFixed( StructLayout layout, String field, int formerOffset, int expected )
+    {
+        check( layout, field, expected );
+        
+        System.out.println( "    fixed " + layout.getName() + "." + field + ": " + expected + " (was " + formerOffset + ")" );
+    }
+    
+    /**
+     * The former wheel offsets were relative to the (unaligned) start of the wheel array. The absolute offsets didn't change.
+     */
+    private static void checkWheel( StructLayout layout, StructLayout wheelLayout, String field, int expected )
+    {
+        final int offset = layout.getField( "mWheel" ).getOffset() + wheelLayout.getField( field ).getOffset();
+        
+        numChecks++;
+        
+        if ( offset != expected )
+        {
+            System.out.println( "    MISMATCH " + layout.getName() + ".mWheel[0]." + field + ": " + offset + " (expected " + expected + ")" );
+            numErrors++;
+        }
+    }
+    
+    /**
+     * The former buffers were shorter than sizeof( struct ), which is, what the game copies.
+     */
+    private static void checkSizeFixed( StructLayout layout, int formerSize, int expected )
+    {
+        checkSize( layout, expected );
+        
+        System.out.println( "    fixed sizeof( " + layout.getName() + " ): " + expected + " (was " + formerSize + ", data size " + layout.getDataSize() + ")" );
+    }
+    
+    private static void testDelta( StructLayout layout, Random rnd ) throws IOException
+    {
+        final int size = layout.getSize();
+        final byte[] previous = new byte[ size ];
+        final byte[] current = new byte[ size ];
+        final int[] changedFields = new int[ layout.getNumFields() ];
+        
+        rnd.nextBytes( previous );
+        
+        int numBytes = 0;
+        
+        for ( int i = 0; i < NUM_DELTAS; i++ )
+        {
+            System.arraycopy( previous, 0, current, 0, size );
+            
+            final int n = rnd.nextInt( 8 );
+            
+            for ( int j = 0; j < n; j++ )
+                current[rnd.nextInt( size )] = (byte)rnd.nextInt();
+            
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            final int numWritten = layout.writeDelta( StructLayout.wrap( previous ), StructLayout.wrap( current ), 0, new DataOutputStream( out ) );
+            numBytes += out.size();
+            
+            ByteBuffer target = StructLayout.wrap( previous.clone() );
+            final int numRead = layout.readDelta( new DataInputStream( new ByteArrayInputStream( out.toByteArray() ) ), target, 0 );
+            
+            numChecks++;
+            
+            if ( ( numRead != numWritten ) || ( layout.getChangedFields( target, 0, StructLayout.wrap( current ), 0, changedFields ) != 0 ) )
+            {
+                System.out.println( "    MISMATCH delta round trip of " + layout.getName() + " in iteration " + i );
+                numErrors++;
+                
+                return;
+            }
+            
+            System.arraycopy( current, 0, previous, 0, size );
+        }
+        
+        System.out.println( "    " + layout.getName() + ": " + ( numBytes / NUM_DELTAS ) + " bytes per delta (" + size + " bytes per struct)" );
+    }
+    
+    public static void main( String[] args ) throws IOException
+    {
+        System.out.println( "_rf1_TelemetryData" );
+        check( _rf1_TelemetryData.LAYOUT, "mDeltaTime", 0 );
+        check( _rf1_TelemetryData.LAYOUT, "mLapNumber", 4 );
+        check( _rf1_TelemetryData.LAYOUT, "mLapStartET", 8 );
+        check( _rf1_TelemetryData.LAYOUT, "mVehicleName", 12 );
+        check( _rf1_TelemetryData.LAYOUT, "mTrackName", 76 );
+        check( _rf1_TelemetryData.LAYOUT, "mPos", 140 );
+        check( _rf1_TelemetryData.LAYOUT, "mLocalVel", 152 );
+        check( _rf1_TelemetryData.LAYOUT, "mLocalAccel", 164 );
+        check( _rf1_TelemetryData.LAYOUT, "mOriX", 176 );
+        check( _rf1_TelemetryData.LAYOUT, "mOriY", 188 );
+        check( _rf1_TelemetryData.LAYOUT, "mOriZ", 200 );
+        check( _rf1_TelemetryData.LAYOUT, "mLocalRot", 212 );
+        check( _rf1_TelemetryData.LAYOUT, "mLocalRotAccel", 224 );
+        check( _rf1_TelemetryData.LAYOUT, "mGear", 236 );
+        check( _rf1_TelemetryData.LAYOUT, "mEngineRPM", 240 );
+        check( _rf1_TelemetryData.LAYOUT, "mEngineWaterTemp", 244 );
+        check( _rf1_TelemetryData.LAYOUT, "mEngineOilTemp", 248 );
+        check( _rf1_TelemetryData.LAYOUT, "mClutchRPM", 252 );
+        check( _rf1_TelemetryData.LAYOUT, "mUnfilteredThrottle", 256 );
+        check( _rf1_TelemetryData.LAYOUT, "mUnfilteredBrake", 260 );
+        check( _rf1_TelemetryData.LAYOUT, "mUnfilteredSteering", 264 );
+        check( _rf1_TelemetryData.LAYOUT, "mUnfilteredClutch", 268 );
+        check( _rf1_TelemetryData.LAYOUT, "mSteeringArmForce", 272 );
+        check( _rf1_TelemetryData.LAYOUT, "mFuel", 276 );
+        check( _rf1_TelemetryData.LAYOUT, "mEngineMaxRPM", 280 );
+        check( _rf1_TelemetryData.LAYOUT, "mScheduledStops", 284 );
+        check( _rf1_TelemetryData.LAYOUT, "mOverheating", 285 );
+        check( _rf1_TelemetryData.LAYOUT, "mDetached", 286 );
+        check( _rf1_TelemetryData.LAYOUT, "mDentSeverity", 287 );
+        checkFixed( _rf1_TelemetryData.LAYOUT, "mLastImpactET", 295, 296 );
+        checkFixed( _rf1_TelemetryData.LAYOUT, "mLastImpactMagnitude", 299, 300 );
+        checkFixed( _rf1_TelemetryData.LAYOUT, "mLastImpactPos", 303, 304 );
+        checkFixed( _rf1_TelemetryData.LAYOUT, "mExpansion", 315, 316 );
+        checkWheel( _rf1_TelemetryData.LAYOUT, _rf1_TelemetryData.WHEEL_LAYOUT, "mRotation", 380 );
+        checkWheel( _rf1_TelemetryData.LAYOUT, _rf1_TelemetryData.WHEEL_LAYOUT, "mSuspensionDeflection", 384 );
+        checkWheel( _rf1_TelemetryData.LAYOUT, _rf1_TelemetryData.WHEEL_LAYOUT, "mRideHeight", 388 );
+        checkWheel( _rf1_TelemetryData.LAYOUT, _rf1_TelemetryData.WHEEL_LAYOUT, "mTireLoad", 392 );
+        checkWheel( _rf1_TelemetryData.LAYOUT, _rf1_TelemetryData.WHEEL_LAYOUT, "mLateralForce", 396 );
+        checkWheel( _rf1_TelemetryData.LAYOUT, _rf1_TelemetryData.WHEEL_LAYOUT, "mGripFract", 400 );
+        checkWheel( _rf1_TelemetryData.LAYOUT, _rf1_TelemetryData.WHEEL_LAYOUT, "mBrakeTemp", 404 );
+        checkWheel( _rf1_TelemetryData.LAYOUT, _rf1_TelemetryData.WHEEL_LAYOUT, "mPressure", 408 );
+        checkWheel( _rf1_TelemetryData.LAYOUT, _rf1_TelemetryData.WHEEL_LAYOUT, "mTemperature", 412 );
+        checkWheel( _rf1_TelemetryData.LAYOUT, _rf1_TelemetryData.WHEEL_LAYOUT, "mWear", 424 );
+        checkWheel( _rf1_TelemetryData.LAYOUT, _rf1_TelemetryData.WHEEL_LAYOUT, "mTerrainName", 428 );
+        checkWheel( _rf1_TelemetryData.LAYOUT, _rf1_TelemetryData.WHEEL_LAYOUT, "mSurfaceType", 444 );
+        checkWheel( _rf1_TelemetryData.LAYOUT, _rf1_TelemetryData.WHEEL_LAYOUT, "mFlat", 445 );
+        checkWheel( _rf1_TelemetryData.LAYOUT, _rf1_TelemetryData.WHEEL_LAYOUT, "mDetached", 446 );
+        checkWheel( _rf1_TelemetryData.LAYOUT, _rf1_TelemetryData.WHEEL_LAYOUT, "mExpansion", 447 );
+        checkFixed( _rf1_TelemetryData.LAYOUT, "mWheel", 379, 380 );
+        
+        System.out.println( "_rf1_GraphicsInfo" );
+        check( _rf1_GraphicsInfo.LAYOUT, "mCamPos", 0 );
+        check( _rf1_GraphicsInfo.LAYOUT, "mCamOri", 12 );
+        check( _rf1_GraphicsInfo.LAYOUT, "mHWND", 24 );
+        check( _rf1_GraphicsInfo.LAYOUT, "mAmbientRed", 28 );
+        check( _rf1_GraphicsInfo.LAYOUT, "mAmbientGreen", 32 );
+        check( _rf1_GraphicsInfo.LAYOUT, "mAmbientBlue", 36 );
+        
+        System.out.println( "_rf1_CommentaryRequestInfo" );
+        check( _rf1_CommentaryRequestInfo.LAYOUT, "mName", 0 );
+        check( _rf1_CommentaryRequestInfo.LAYOUT, "mInput1", 32 );
+        check( _rf1_CommentaryRequestInfo.LAYOUT, "mInput2", 40 );
+        check( _rf1_CommentaryRequestInfo.LAYOUT, "mInput3", 48 );
+        check( _rf1_CommentaryRequestInfo.LAYOUT, "mSkipChecks", 56 );
+        
+        System.out.println( "_rf1_ScoringInfo" );
+        check( _rf1_ScoringInfo.LAYOUT, "mTrackName", 0 );
+        check( _rf1_ScoringInfo.LAYOUT, "mSession", 64 );
+        check( _rf1_ScoringInfo.LAYOUT, "mCurrentET", 68 );
+        check( _rf1_ScoringInfo.LAYOUT, "mEndET", 72 );
+        check( _rf1_ScoringInfo.LAYOUT, "mMaxLaps", 76 );
+        check( _rf1_ScoringInfo.LAYOUT, "mLapDist", 80 );
+        check( _rf1_ScoringInfo.LAYOUT, "mResultsStream", 84 );
+        check( _rf1_ScoringInfo.LAYOUT, "mNumVehicles", 88 );
+        check( _rf1_ScoringInfo.LAYOUT, "mGamePhase", 92 );
+        check( _rf1_ScoringInfo.LAYOUT, "mYellowFlagState", 93 );
+        check( _rf1_ScoringInfo.LAYOUT, "mSectorFlag", 94 );
+        check( _rf1_ScoringInfo.LAYOUT, "mStartLight", 97 );
+        check( _rf1_ScoringInfo.LAYOUT, "mNumRedLights", 98 );
+        check( _rf1_ScoringInfo.LAYOUT, "mInRealtime", 99 );
+        check( _rf1_ScoringInfo.LAYOUT, "mPlayerName", 100 );
+        check( _rf1_ScoringInfo.LAYOUT, "mPlrFileName", 132 );
+        check( _rf1_ScoringInfo.LAYOUT, "mDarkCloud", 196 );
+        check( _rf1_ScoringInfo.LAYOUT, "mRaining", 200 );
+        check( _rf1_ScoringInfo.LAYOUT, "mAmbientTemp", 204 );
+        check( _rf1_ScoringInfo.LAYOUT, "mTrackTemp", 208 );
+        check( _rf1_ScoringInfo.LAYOUT, "mWind", 212 );
+        check( _rf1_ScoringInfo.LAYOUT, "mOnPathWetness", 224 );
+        check( _rf1_ScoringInfo.LAYOUT, "mOffPathWetness", 228 );
+        check( _rf1_ScoringInfo.LAYOUT, "mExpansion", 232 );
+        check( _rf1_ScoringInfo.LAYOUT, "mVehicle", 488 );
+        
+        System.out.println( "_rf1_VehicleScoringInfo" );
+        check( _rf1_VehicleScoringInfo.LAYOUT, "mDriverName", 0 );
+        check( _rf1_VehicleScoringInfo.LAYOUT, "mVehicleName", 32 );
+        check( _rf1_VehicleScoringInfo.LAYOUT, "mTotalLaps", 96 );
+        check( _rf1_VehicleScoringInfo.LAYOUT, "mSector", 98 );
+        check( _rf1_VehicleScoringInfo.LAYOUT, "mFinishStatus", 99 );
+        check( _rf1_VehicleScoringInfo.LAYOUT, "mLapDist", 100 );
+        check( _rf1_VehicleScoringInfo.LAYOUT, "mPathLateral", 104 );
+        check( _rf1_VehicleScoringInfo.LAYOUT, "mTrackEdge", 108 );
+        check( _rf1_VehicleScoringInfo.LAYOUT, "mBestSector1", 112 );
+        check( _rf1_VehicleScoringInfo.LAYOUT, "mBestSector2", 116 );
+        check( _rf1_VehicleScoringInfo.LAYOUT, "mBestLapTime", 120 );
+        check( _rf1_VehicleScoringInfo.LAYOUT, "mLastSector1", 124 );
+        check( _rf1_VehicleScoringInfo.LAYOUT, "mLastSector2", 128 );
+        check( _rf1_VehicleScoringInfo.LAYOUT, "mLastLapTime", 132 );
+        check( _rf1_VehicleScoringInfo.LAYOUT, "mCurSector1", 136 );
+        check( _rf1_VehicleScoringInfo.LAYOUT, "mCurSector2", 140 );
+        check( _rf1_VehicleScoringInfo.LAYOUT, "mNumPitstops", 144 );
+        check( _rf1_VehicleScoringInfo.LAYOUT, "mNumPenalties", 146 );
+        check( _rf1_VehicleScoringInfo.LAYOUT, "mIsPlayer", 148 );
+        check( _rf1_VehicleScoringInfo.LAYOUT, "mControl", 149 );
+        check( _rf1_VehicleScoringInfo.LAYOUT, "mInPits", 150 );
+        check( _rf1_VehicleScoringInfo.LAYOUT, "mPlace", 151 );
+        check( _rf1_VehicleScoringInfo.LAYOUT, "mVehicleClass", 152 );
+        check( _rf1_VehicleScoringInfo.LAYOUT, "mTimeBehindNext", 184 );
+        check( _rf1_VehicleScoringInfo.LAYOUT, "mLapsBehindNext", 188 );
+        check( _rf1_VehicleScoringInfo.LAYOUT, "mTimeBehindLeader", 192 );
+        check( _rf1_VehicleScoringInfo.LAYOUT, "mLapsBehindLeader", 196 );
+        check( _rf1_VehicleScoringInfo.LAYOUT, "mLapStartET", 200 );
+        check( _rf1_VehicleScoringInfo.LAYOUT, "mPos", 204 );
+        check( _rf1_VehicleScoringInfo.LAYOUT, "mLocalVel", 216 );
+        check( _rf1_VehicleScoringInfo.LAYOUT, "mLocalAccel", 228 );
+        check( _rf1_VehicleScoringInfo.LAYOUT, "mOriX", 240 );
+        check( _rf1_VehicleScoringInfo.LAYOUT, "mOriY", 252 );
+        check( _rf1_VehicleScoringInfo.LAYOUT, "mOriZ", 264 );
+        check( _rf1_VehicleScoringInfo.LAYOUT, "mLocalRot", 276 );
+        check( _rf1_VehicleScoringInfo.LAYOUT, "mLocalRotAccel", 288 );
+        check( _rf1_VehicleScoringInfo.LAYOUT, "mExpansion", 300 );
+        
+        System.out.println( "sizes" );
+        checkSize( _rf1_TelemetryData.WHEEL_LAYOUT, 100 );
+        checkSizeFixed( _rf1_TelemetryData.LAYOUT, 779, 780 );
+        checkSize( _rf1_GraphicsInfo.LAYOUT, 40 );
+        checkSizeFixed( _rf1_CommentaryRequestInfo.LAYOUT, 57, 64 );
+        checkSize( _rf1_ScoringInfo.LAYOUT, 492 );
+        checkSize( _rf1_VehicleScoringInfo.LAYOUT, 428 );
+        
+        System.out.println( "delta encoding" );
+        
+        final Random rnd = new Random( 4711 );
+        
+        testDelta( _rf1_TelemetryData.LAYOUT, rnd );
+        testDelta( _rf1_GraphicsInfo.LAYOUT, rnd );
+        testDelta( _rf1_CommentaryRequestInfo.LAYOUT, rnd );
+        testDelta( _rf1_ScoringInfo.LAYOUT, rnd );
+        testDelta( _rf1_VehicleScoringInfo.LAYOUT, rnd );
+        
+        System.out.println( numChecks + " checks, " + numErrors + " mismatches" );
+    }
+}
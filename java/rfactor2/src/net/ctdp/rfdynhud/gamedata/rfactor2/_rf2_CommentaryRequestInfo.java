@@ -28,6 +28,8 @@ import net.ctdp.rfdynhud.gamedata.ByteUtil;
 import net.ctdp.rfdynhud.gamedata.CommentaryRequestInfo;
 import net.ctdp.rfdynhud.gamedata.GameDataStreamSource;
 import net.ctdp.rfdynhud.gamedata.LiveGameData;
+import net.ctdp.rfdynhud.gamedata.StructLayout;
+import net.ctdp.rfdynhud.gamedata.StructLayout.Type;
 import net.ctdp.rfdynhud.util.RFDHLog;
 
 /**
@@ -36,13 +38,18 @@ import net.ctdp.rfdynhud.util.RFDHLog;
  */
 class _rf2_CommentaryRequestInfo extends CommentaryRequestInfo
 {
-    private static final int OFFSET_NAME = 0;
-    private static final int OFFSET_INPUT1 = OFFSET_NAME + 32 * ByteUtil.SIZE_CHAR;
-    private static final int OFFSET_INPUT2 = OFFSET_INPUT1 + ByteUtil.SIZE_DOUBLE;
-    private static final int OFFSET_INPUT3 = OFFSET_INPUT2 + ByteUtil.SIZE_DOUBLE;
-    private static final int OFFSET_SKIP_CHECKS = OFFSET_INPUT3 + ByteUtil.SIZE_DOUBLE;
+    /**
+     * The layout of the CommentaryRequestInfoV01 struct (#pragma pack( 4 )).
+     */
+    static final StructLayout LAYOUT = new StructLayout( "CommentaryRequestInfoV01", 4 );
+    
+    private static final int OFFSET_NAME = LAYOUT.add( "mName", Type.CHAR, 32 );
+    private static final int OFFSET_INPUT1 = LAYOUT.add( "mInput1", Type.DOUBLE );
+    private static final int OFFSET_INPUT2 = LAYOUT.add( "mInput2", Type.DOUBLE );
+    private static final int OFFSET_INPUT3 = LAYOUT.add( "mInput3", Type.DOUBLE );
+    private static final int OFFSET_SKIP_CHECKS = LAYOUT.add( "mSkipChecks", Type.BOOL );
     
-    private static final int BUFFER_SIZE = OFFSET_SKIP_CHECKS + ByteUtil.SIZE_BOOL + 3; // +3 for silly packing
+    private static final int BUFFER_SIZE = LAYOUT.getSize();
     
     private final byte[] buffer = new byte[ BUFFER_SIZE ];
     
@@ -31,6 +31,8 @@ import net.ctdp.rfdynhud.gamedata.ByteUtil;
 import net.ctdp.rfdynhud.gamedata.DrivingAids;
 import net.ctdp.rfdynhud.gamedata.GameDataStreamSource;
 import net.ctdp.rfdynhud.gamedata.LiveGameData;
+import net.ctdp.rfdynhud.gamedata.StructLayout;
+import net.ctdp.rfdynhud.gamedata.StructLayout.Type;
 import net.ctdp.rfdynhud.render.ImageTemplate;
 import net.ctdp.rfdynhud.util.RFDHLog;
 
@@ -42,36 +44,39 @@ class _rf2_DrivingAids extends DrivingAids
 {
     private static final int NUM_AIDS = 13;
     
-    private static final int OFFSET_TRACTION_CONTROL = 0;
-    private static final int OFFSET_ANTI_LOCK_BRAKES = OFFSET_TRACTION_CONTROL + ByteUtil.SIZE_CHAR;
-    private static final int OFFSET_STABILITY_CONTROL = OFFSET_ANTI_LOCK_BRAKES + ByteUtil.SIZE_CHAR;
-    private static final int OFFSET_AUTO_SHIFT = OFFSET_STABILITY_CONTROL + ByteUtil.SIZE_CHAR;
-    private static final int OFFSET_AUTO_CLUTCH = OFFSET_AUTO_SHIFT + ByteUtil.SIZE_CHAR;
-    private static final int OFFSET_INVULNERABILITY = OFFSET_AUTO_CLUTCH + ByteUtil.SIZE_CHAR;
-    private static final int OFFSET_OPPOSITE_LOCK = OFFSET_INVULNERABILITY + ByteUtil.SIZE_CHAR;
-    private static final int OFFSET_STEERING_HELP = OFFSET_OPPOSITE_LOCK + ByteUtil.SIZE_CHAR;
-    private static final int OFFSET_BRAKING_HELP = OFFSET_STEERING_HELP + ByteUtil.SIZE_CHAR;
-    private static final int OFFSET_SPIN_RECOVERY = OFFSET_BRAKING_HELP + ByteUtil.SIZE_CHAR;
-    private static final int OFFSET_AUTO_PIT = OFFSET_SPIN_RECOVERY + ByteUtil.SIZE_CHAR;
-    private static final int OFFSET_AUTO_LIFT = OFFSET_AUTO_PIT + ByteUtil.SIZE_CHAR;
-    private static final int OFFSET_AUTO_BLIP = OFFSET_AUTO_LIFT + ByteUtil.SIZE_CHAR;
-    
-    private static final int OFFSET_FUEL_MULT = OFFSET_AUTO_BLIP + ByteUtil.SIZE_CHAR;
-    private static final int OFFSET_TIRE_MULT = OFFSET_FUEL_MULT + ByteUtil.SIZE_CHAR;
-    private static final int OFFSET_MECHANICAL_FAILURES = OFFSET_TIRE_MULT + ByteUtil.SIZE_CHAR;
-    private static final int OFFSET_ALLOW_PITCREW_PUSH = OFFSET_MECHANICAL_FAILURES + ByteUtil.SIZE_CHAR;
-    private static final int OFFSET_REPEAT_SHIFTS = OFFSET_ALLOW_PITCREW_PUSH + ByteUtil.SIZE_CHAR;
-    private static final int OFFSET_HOLD_CLUTCH = OFFSET_REPEAT_SHIFTS + ByteUtil.SIZE_CHAR;
-    private static final int OFFSET_AUTO_REVERSE = OFFSET_HOLD_CLUTCH + ByteUtil.SIZE_CHAR;
-    private static final int OFFSET_ALTERNATE_NEUTRAL = OFFSET_AUTO_REVERSE + ByteUtil.SIZE_CHAR;
-    private static final int OFFSET_MANUAL_SHIFT_OVERRIDE_TIME = OFFSET_ALTERNATE_NEUTRAL + ByteUtil.SIZE_CHAR + 3 * ByteUtil.SIZE_CHAR; // Because of special packing, we need to skip four bytes to get to next float into the next four byte slot.
-    private static final int OFFSET_AUTO_SHIFT_OVERRIDE_TIME = OFFSET_MANUAL_SHIFT_OVERRIDE_TIME + ByteUtil.SIZE_FLOAT;
-    private static final int OFFSET_SPEED_SESITIVE_STEERING = OFFSET_AUTO_SHIFT_OVERRIDE_TIME + ByteUtil.SIZE_FLOAT;
-    private static final int OFFSET_STEER_RATIO_SPEED = OFFSET_SPEED_SESITIVE_STEERING + ByteUtil.SIZE_FLOAT;
-    
-    private static final int EXPANSION_SIZE = 0 * ByteUtil.SIZE_CHAR;
-    
-    private static final int BUFFER_SIZE = OFFSET_STEER_RATIO_SPEED + ByteUtil.SIZE_FLOAT + EXPANSION_SIZE;
+    /**
+     * The layout of the PhysicsOptionsV01 struct (#pragma pack( 4 )).
+     */
+    static final StructLayout LAYOUT = new StructLayout( "PhysicsOptionsV01", 4 );
+    
+    private static final int OFFSET_TRACTION_CONTROL = LAYOUT.add( "mTractionControl", Type.CHAR );
+    private static final int OFFSET_ANTI_LOCK_BRAKES = LAYOUT.add( "mAntiLockBrakes", Type.CHAR );
+    private static final int OFFSET_STABILITY_CONTROL = LAYOUT.add( "mStabilityControl", Type.CHAR );
+    private static final int OFFSET_AUTO_SHIFT = LAYOUT.add( "mAutoShift", Type.CHAR );
+    private static final int OFFSET_AUTO_CLUTCH = LAYOUT.add( "mAutoClutch", Type.CHAR );
+    private static final int OFFSET_INVULNERABILITY = LAYOUT.add( "mInvulnerable", Type.CHAR );
+    private static final int OFFSET_OPPOSITE_LOCK = LAYOUT.add( "mOppositeLock", Type.CHAR );
+    private static final int OFFSET_STEERING_HELP = LAYOUT.add( "mSteeringHelp", Type.CHAR );
+    private static final int OFFSET_BRAKING_HELP = LAYOUT.add( "mBrakingHelp", Type.CHAR );
+    private static final int OFFSET_SPIN_RECOVERY = LAYOUT.add( "mSpinRecovery", Type.CHAR );
+    private static final int OFFSET_AUTO_PIT = LAYOUT.add( "mAutoPit", Type.CHAR );
+    private static final int OFFSET_AUTO_LIFT = LAYOUT.add( "mAutoLift", Type.CHAR );
+    private static final int OFFSET_AUTO_BLIP = LAYOUT.add( "mAutoBlip", Type.CHAR );
+    
+    private static final int OFFSET_FUEL_MULT = LAYOUT.add( "mFuelMult", Type.CHAR );
+    private static final int OFFSET_TIRE_MULT = LAYOUT.add( "mTireMult", Type.CHAR );
+    private static final int OFFSET_MECHANICAL_FAILURES = LAYOUT.add( "mMechFail", Type.CHAR );
+    private static final int OFFSET_ALLOW_PITCREW_PUSH = LAYOUT.add( "mAllowPitcrewPush", Type.CHAR );
+    private static final int OFFSET_REPEAT_SHIFTS = LAYOUT.add( "mRepeatShifts", Type.CHAR );
+    private static final int OFFSET_HOLD_CLUTCH = LAYOUT.add( "mHoldClutch", Type.CHAR );
+    private static final int OFFSET_AUTO_REVERSE = LAYOUT.add( "mAutoReverse", Type.CHAR );
+    private static final int OFFSET_ALTERNATE_NEUTRAL = LAYOUT.add( "mAlternateNeutral", Type.CHAR );
+    private static final int OFFSET_MANUAL_SHIFT_OVERRIDE_TIME = LAYOUT.add( "mManualShiftOverrideTime", Type.FLOAT );
+    private static final int OFFSET_AUTO_SHIFT_OVERRIDE_TIME = LAYOUT.add( "mAutoShiftOverrideTime", Type.FLOAT );
+    private static final int OFFSET_SPEED_SESITIVE_STEERING = LAYOUT.add( "mSpeedSensitiveSteering", Type.FLOAT );
+    private static final int OFFSET_STEER_RATIO_SPEED = LAYOUT.add( "mSteerRatioSpeed", Type.FLOAT );
+    
+    private static final int BUFFER_SIZE = LAYOUT.getSize();
     
     private final byte[] buffer = new byte[ BUFFER_SIZE ];
     
@@ -29,6 +29,8 @@ import net.ctdp.rfdynhud.gamedata.GameDataStreamSource;
 import net.ctdp.rfdynhud.gamedata.GraphicsInfo;
 import net.ctdp.rfdynhud.gamedata.LiveGameData;
 import net.ctdp.rfdynhud.gamedata.ScoringInfo;
+import net.ctdp.rfdynhud.gamedata.StructLayout;
+import net.ctdp.rfdynhud.gamedata.StructLayout.Type;
 import net.ctdp.rfdynhud.gamedata.TelemVect3;
 import net.ctdp.rfdynhud.util.RFDHLog;
 
@@ -38,18 +40,23 @@ import net.ctdp.rfdynhud.util.RFDHLog;
  */
 class _rf2_GraphicsInfo extends GraphicsInfo
 {
-    private static final int OFFSET_CAM_POS = 0;
-    private static final int OFFSET_CAM_ORI = OFFSET_CAM_POS + ByteUtil.SIZE_VECTOR3D;
-    private static final int OFFSET_HWND = OFFSET_CAM_ORI + 3 * ByteUtil.SIZE_VECTOR3D;
-    private static final int OFFSET_AMBIENT_RED = OFFSET_HWND + ByteUtil.SIZE_LONG;
-    private static final int OFFSET_AMBIENT_GREEN = OFFSET_AMBIENT_RED + ByteUtil.SIZE_DOUBLE;
-    private static final int OFFSET_AMBIENT_BLUE = OFFSET_AMBIENT_GREEN + ByteUtil.SIZE_DOUBLE;
-    private static final int OFFSET_SLOT_ID = OFFSET_AMBIENT_BLUE + ByteUtil.SIZE_DOUBLE;
-    private static final int OFFSET_CAMERA_TYPE = OFFSET_SLOT_ID + ByteUtil.SIZE_LONG;
+    /**
+     * The layout of the GraphicsInfoV02 struct (#pragma pack( 4 )).
+     */
+    static final StructLayout LAYOUT = new StructLayout( "GraphicsInfoV02", 4 );
+    
+    private static final int OFFSET_CAM_POS = LAYOUT.add( "mCamPos", Type.VECTOR3D );
+    private static final int OFFSET_CAM_ORI = LAYOUT.add( "mCamOri", Type.VECTOR3D, 3 );
+    private static final int OFFSET_HWND = LAYOUT.add( "mHWND", Type.POINTER );
+    private static final int OFFSET_AMBIENT_RED = LAYOUT.add( "mAmbientRed", Type.DOUBLE );
+    private static final int OFFSET_AMBIENT_GREEN = LAYOUT.add( "mAmbientGreen", Type.DOUBLE );
+    private static final int OFFSET_AMBIENT_BLUE = LAYOUT.add( "mAmbientBlue", Type.DOUBLE );
+    private static final int OFFSET_SLOT_ID = LAYOUT.add( "mID", Type.LONG );
+    private static final int OFFSET_CAMERA_TYPE = LAYOUT.add( "mCameraType", Type.LONG );
     
-    private static final int EXPANSION_SIZE = 128 * ByteUtil.SIZE_CHAR;
+    private static final int OFFSET_EXPANSION = LAYOUT.add( "mExpansion", Type.CHAR, 128 );
     
-    private static final int BUFFER_SIZE = OFFSET_CAMERA_TYPE + ByteUtil.SIZE_LONG + EXPANSION_SIZE;
+    private static final int BUFFER_SIZE = LAYOUT.getSize();
     
     private final byte[] buffer = new byte[ BUFFER_SIZE ];
     
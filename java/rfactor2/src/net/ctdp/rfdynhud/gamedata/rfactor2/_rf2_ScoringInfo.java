@@ -29,6 +29,8 @@ import net.ctdp.rfdynhud.gamedata.ProfileInfo.MeasurementUnits.Convert;
 import net.ctdp.rfdynhud.gamedata.GameDataStreamSource;
 import net.ctdp.rfdynhud.gamedata.ScoringInfo;
 import net.ctdp.rfdynhud.gamedata.SessionType;
+import net.ctdp.rfdynhud.gamedata.StructLayout;
+import net.ctdp.rfdynhud.gamedata.StructLayout.Type;
 import net.ctdp.rfdynhud.gamedata.TelemVect3;
 import net.ctdp.rfdynhud.gamedata.VehicleScoringInfo;
 import net.ctdp.rfdynhud.gamedata.YellowFlagState;
@@ -43,44 +45,52 @@ import org.jagatoo.util.streams.StreamUtils;
  */
 class _rf2_ScoringInfo extends ScoringInfo
 {
-    private static final int OFFSET_TRACK_NAME = 0;
+    /**
+     * The layout of the ScoringInfoV01 struct (#pragma pack( 4 )).
+     */
+    static final StructLayout LAYOUT = new StructLayout( "ScoringInfoV01", 4 );
+    
     private static final int MAX_TRACK_NAME_LENGTH = 64;
-    private static final int OFFSET_SESSION_TYPE = OFFSET_TRACK_NAME + MAX_TRACK_NAME_LENGTH * ByteUtil.SIZE_CHAR;
-    private static final int OFFSET_CURRENT_TIME = OFFSET_SESSION_TYPE + ByteUtil.SIZE_LONG;
-    private static final int OFFSET_END_TIME = OFFSET_CURRENT_TIME + ByteUtil.SIZE_DOUBLE;
-    private static final int OFFSET_MAX_LAPS = OFFSET_END_TIME + ByteUtil.SIZE_DOUBLE;
-    private static final int OFFSET_LAP_DISTANCE = OFFSET_MAX_LAPS + ByteUtil.SIZE_LONG;
+    private static final int OFFSET_TRACK_NAME = LAYOUT.add( "mTrackName", Type.CHAR, MAX_TRACK_NAME_LENGTH );
+    private static final int OFFSET_SESSION_TYPE = LAYOUT.add( "mSession", Type.LONG );
+    private static final int OFFSET_CURRENT_TIME = LAYOUT.add( "mCurrentET", Type.DOUBLE );
+    private static final int OFFSET_END_TIME = LAYOUT.add( "mEndET", Type.DOUBLE );
+    private static final int OFFSET_MAX_LAPS = LAYOUT.add( "mMaxLaps", Type.LONG );
+    private static final int OFFSET_LAP_DISTANCE = LAYOUT.add( "mLapDist", Type.DOUBLE );
     
-    private static final int OFFSET_RESULTS_STREAM = OFFSET_LAP_DISTANCE + ByteUtil.SIZE_DOUBLE;
+    private static final int OFFSET_RESULTS_STREAM = LAYOUT.add( "mResultsStream", Type.POINTER );
     
-    private static final int OFFSET_NUM_VEHICLES = OFFSET_RESULTS_STREAM + ByteUtil.SIZE_POINTER; // Is it just the pointer to be offsetted or the whole stream???
+    private static final int OFFSET_NUM_VEHICLES = LAYOUT.add( "mNumVehicles", Type.LONG );
     
-    private static final int OFFSET_GAME_PHASE = OFFSET_NUM_VEHICLES + ByteUtil.SIZE_LONG;
-    private static final int OFFSET_YELLOW_FLAG_STATE = OFFSET_GAME_PHASE + ByteUtil.SIZE_CHAR;
-    private static final int OFFSET_SECTOR_FLAGS = OFFSET_YELLOW_FLAG_STATE + ByteUtil.SIZE_CHAR;
-    private static final int OFFSET_STARTING_LIGHT_FRAME = OFFSET_SECTOR_FLAGS + 3 * ByteUtil.SIZE_CHAR;
-    private static final int OFFSET_NUM_RED_LIGHTS = OFFSET_STARTING_LIGHT_FRAME + ByteUtil.SIZE_CHAR;
+    private static final int OFFSET_GAME_PHASE = LAYOUT.add( "mGamePhase", Type.CHAR );
+    private static final int OFFSET_YELLOW_FLAG_STATE = LAYOUT.add( "mYellowFlagState", Type.CHAR );
+    private static final int OFFSET_SECTOR_FLAGS = LAYOUT.add( "mSectorFlag", Type.CHAR, 3 );
+    private static final int OFFSET_STARTING_LIGHT_FRAME = LAYOUT.add( "mStartLight", Type.CHAR );
+    private static final int OFFSET_NUM_RED_LIGHTS = LAYOUT.add( "mNumRedLights", Type.CHAR );
     
-    private static final int OFFSET_IN_REALTIME = OFFSET_NUM_RED_LIGHTS + ByteUtil.SIZE_CHAR;
+    private static final int OFFSET_IN_REALTIME = LAYOUT.add( "mInRealtime", Type.BOOL );
     
-    private static final int OFFSET_PLAYER_NAME = OFFSET_IN_REALTIME + ByteUtil.SIZE_BOOL;
     private static final int MAX_PLAYER_NAME_LENGTH = 32;
-    private static final int OFFSET_PLAYER_FILENAME = OFFSET_PLAYER_NAME + MAX_PLAYER_NAME_LENGTH * ByteUtil.SIZE_CHAR;
+    private static final int OFFSET_PLAYER_NAME = LAYOUT.add( "mPlayerName", Type.CHAR, MAX_PLAYER_NAME_LENGTH );
     private static final int MAX_PLAYER_FILENAME_LENGTH = 64;
+    private static final int OFFSET_PLAYER_FILENAME = LAYOUT.add( "mPlrFileName", Type.CHAR, MAX_PLAYER_FILENAME_LENGTH );
+    
+    private static final int OFFSET_CLOUD_DARKNESS = LAYOUT.add( "mDarkCloud", Type.DOUBLE );
+    private static final int OFFSET_RAINING_SEVERITIY = LAYOUT.add( "mRaining", Type.DOUBLE );
+    private static final int OFFSET_AMBIENT_TEMPERATURE = LAYOUT.add( "mAmbientTemp", Type.DOUBLE );
+    private static final int OFFSET_TRACK_TEMPERATURE = LAYOUT.add( "mTrackTemp", Type.DOUBLE );
+    private static final int OFFSET_WIND_SPEED = LAYOUT.add( "mWind", Type.VECTOR3D );
+    private static final int OFFSET_ON_PATH_WETNESS = LAYOUT.add( "mOnPathWetness", Type.DOUBLE );
+    private static final int OFFSET_OFF_PATH_WETNESS = LAYOUT.add( "mOffPathWetness", Type.DOUBLE );
     
-    private static final int OFFSET_CLOUD_DARKNESS = OFFSET_PLAYER_FILENAME + MAX_PLAYER_FILENAME_LENGTH * ByteUtil.SIZE_CHAR;
-    private static final int OFFSET_RAINING_SEVERITIY = OFFSET_CLOUD_DARKNESS + ByteUtil.SIZE_DOUBLE;
-    private static final int OFFSET_AMBIENT_TEMPERATURE = OFFSET_RAINING_SEVERITIY + ByteUtil.SIZE_DOUBLE;
-    private static final int OFFSET_TRACK_TEMPERATURE = OFFSET_AMBIENT_TEMPERATURE + ByteUtil.SIZE_DOUBLE;
-    private static final int OFFSET_WIND_SPEED = OFFSET_TRACK_TEMPERATURE + ByteUtil.SIZE_DOUBLE;
-    private static final int OFFSET_ON_PATH_WETNESS = OFFSET_WIND_SPEED + ByteUtil.SIZE_VECTOR3D;
-    private static final int OFFSET_OFF_PATH_WETNESS = OFFSET_ON_PATH_WETNESS + ByteUtil.SIZE_DOUBLE;
+    private static final int OFFSET_MOD_NAME = LAYOUT.add( "mModName", Type.CHAR, 48 );
+    private static final int OFFSET_MOD_VERSION = LAYOUT.add( "mModVersion", Type.CHAR, 16 );
     
-    private static final int OFFSET_EXPANSION = OFFSET_OFF_PATH_WETNESS + ByteUtil.SIZE_DOUBLE;
+    private static final int OFFSET_EXPANSION = LAYOUT.add( "mExpansion", Type.CHAR, 192 );
     
-    private static final int OFFSET_VEHICLES = OFFSET_EXPANSION + ( 256 * ByteUtil.SIZE_CHAR );
+    private static final int OFFSET_VEHICLES = LAYOUT.add( "mVehicle", Type.POINTER );
     
-    private static final int BUFFER_SIZE = OFFSET_VEHICLES + ByteUtil.SIZE_POINTER /*+ ( 256 * ByteUtil.SIZE_CHAR )*/; // + ( 1 * VehicleScoringInfo.BUFFER_SIZE ); // How many vehicles?
+    private static final int BUFFER_SIZE = LAYOUT.getSize();
     
     private final byte[] buffer = new byte[ BUFFER_SIZE ];
     
@@ -20,6 +20,8 @@ package net.ctdp.rfdynhud.gamedata.rfactor2;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 
 import net.ctdp.rfdynhud.editor.EditorPresets;
 import net.ctdp.rfdynhud.gamedata.ByteUtil;
@@ -27,6 +29,8 @@ import net.ctdp.rfdynhud.gamedata.DeviceLegalStatus;
 import net.ctdp.rfdynhud.gamedata.GameDataStreamSource;
 import net.ctdp.rfdynhud.gamedata.IgnitionStatus;
 import net.ctdp.rfdynhud.gamedata.LiveGameData;
+import net.ctdp.rfdynhud.gamedata.StructLayout;
+import net.ctdp.rfdynhud.gamedata.StructLayout.Type;
 import net.ctdp.rfdynhud.gamedata.SurfaceType;
 import net.ctdp.rfdynhud.gamedata.TelemVect3;
 import net.ctdp.rfdynhud.gamedata.TelemetryData;
@@ -53,124 +57,145 @@ import org.jagatoo.util.streams.StreamUtils;
  */
 class _rf2_TelemetryData extends TelemetryData
 {
-    private static final int OFFSET_SLOT_ID = 0;
-    private static final int OFFSET_DELTA_TIME = OFFSET_SLOT_ID + ByteUtil.SIZE_LONG;
-    private static final int OFFSET_ELAPSED_TIME = OFFSET_DELTA_TIME + ByteUtil.SIZE_DOUBLE;
-    private static final int OFFSET_LAP_NUMBER = OFFSET_ELAPSED_TIME + ByteUtil.SIZE_DOUBLE;
-    private static final int OFFSET_LAP_START_TIME = OFFSET_LAP_NUMBER + ByteUtil.SIZE_LONG;
-    private static final int OFFSET_VEHICLE_NAME = OFFSET_LAP_START_TIME + ByteUtil.SIZE_DOUBLE;
+    /**
+     * The layout of the TelemInfoV01 struct (#pragma pack( 4 )).
+     */
+    static final StructLayout LAYOUT = new StructLayout( "TelemInfoV01", 4 );
+    
+    private static final int OFFSET_SLOT_ID = LAYOUT.add( "mID", Type.LONG );
+    private static final int OFFSET_DELTA_TIME = LAYOUT.add( "mDeltaTime", Type.DOUBLE );
+    private static final int OFFSET_ELAPSED_TIME = LAYOUT.add( "mElapsedTime", Type.DOUBLE );
+    private static final int OFFSET_LAP_NUMBER = LAYOUT.add( "mLapNumber", Type.LONG );
+    private static final int OFFSET_LAP_START_TIME = LAYOUT.add( "mLapStartET", Type.DOUBLE );
     private static final int MAX_VEHICLE_NAME_LENGTH = 64;
-    private static final int OFFSET_TRACK_NAME = OFFSET_VEHICLE_NAME + MAX_VEHICLE_NAME_LENGTH * ByteUtil.SIZE_CHAR;
+    private static final int OFFSET_VEHICLE_NAME = LAYOUT.add( "mVehicleName", Type.CHAR, MAX_VEHICLE_NAME_LENGTH );
     private static final int MAX_TRACK_NAME_LENGTH = 64;
-    
-    private static final int OFFSET_POSITION = OFFSET_TRACK_NAME + MAX_TRACK_NAME_LENGTH * ByteUtil.SIZE_CHAR;
-    private static final int OFFSET_LOCAL_VELOCITY = OFFSET_POSITION + ByteUtil.SIZE_VECTOR3D;
-    private static final int OFFSET_LOCAL_ACCELERATION = OFFSET_LOCAL_VELOCITY + ByteUtil.SIZE_VECTOR3D;
-    
-    private static final int OFFSET_ORIENTATION_X = OFFSET_LOCAL_ACCELERATION + ByteUtil.SIZE_VECTOR3D;
-    private static final int OFFSET_ORIENTATION_Y = OFFSET_ORIENTATION_X + ByteUtil.SIZE_VECTOR3D;
-    private static final int OFFSET_ORIENTATION_Z = OFFSET_ORIENTATION_Y + ByteUtil.SIZE_VECTOR3D;
-    private static final int OFFSET_LOCAL_ROTATION = OFFSET_ORIENTATION_Z + ByteUtil.SIZE_VECTOR3D;
-    private static final int OFFSET_LOCAL_ROTATION_ACCELERATION = OFFSET_LOCAL_ROTATION + ByteUtil.SIZE_VECTOR3D;
-    
-    private static final int OFFSET_GEAR = OFFSET_LOCAL_ROTATION_ACCELERATION + ByteUtil.SIZE_VECTOR3D;
-    private static final int OFFSET_ENGINE_RPM = OFFSET_GEAR + ByteUtil.SIZE_LONG;
-    private static final int OFFSET_ENGINE_WATER_TEMP = OFFSET_ENGINE_RPM + ByteUtil.SIZE_DOUBLE;
-    private static final int OFFSET_ENGINE_OIL_TEMP = OFFSET_ENGINE_WATER_TEMP + ByteUtil.SIZE_DOUBLE;
-    private static final int OFFSET_CLUTCH_RPM = OFFSET_ENGINE_OIL_TEMP + ByteUtil.SIZE_DOUBLE;
-    
-    private static final int OFFSET_UNFILTERED_THROTTLE = OFFSET_CLUTCH_RPM + ByteUtil.SIZE_DOUBLE;
-    private static final int OFFSET_UNFILTERED_BRAKE = OFFSET_UNFILTERED_THROTTLE + ByteUtil.SIZE_DOUBLE;
-    private static final int OFFSET_UNFILTERED_STEERING = OFFSET_UNFILTERED_BRAKE + ByteUtil.SIZE_DOUBLE;
-    private static final int OFFSET_UNFILTERED_CLUTCH = OFFSET_UNFILTERED_STEERING + ByteUtil.SIZE_DOUBLE;
-    
-    private static final int OFFSET_FILTERED_THROTTLE = OFFSET_UNFILTERED_CLUTCH + ByteUtil.SIZE_DOUBLE;
-    private static final int OFFSET_FILTERED_BRAKE = OFFSET_FILTERED_THROTTLE + ByteUtil.SIZE_DOUBLE;
-    private static final int OFFSET_FILTERED_STEERING = OFFSET_FILTERED_BRAKE + ByteUtil.SIZE_DOUBLE;
-    private static final int OFFSET_FILTERED_CLUTCH = OFFSET_FILTERED_STEERING + ByteUtil.SIZE_DOUBLE;
-    
-    private static final int OFFSET_STEERING_ARM_FORCE = OFFSET_FILTERED_CLUTCH + ByteUtil.SIZE_DOUBLE;
-    
-    private static final int OFFSET_FRONT_3RD_SPRING_DEFLECTION = OFFSET_STEERING_ARM_FORCE + ByteUtil.SIZE_DOUBLE;
-    private static final int OFFSET_REAR_3RD_SPRING_DEFLECTION = OFFSET_FRONT_3RD_SPRING_DEFLECTION + ByteUtil.SIZE_DOUBLE;
-    
-    private static final int OFFSET_FRONT_WING_HEIGHT = OFFSET_REAR_3RD_SPRING_DEFLECTION + ByteUtil.SIZE_DOUBLE;
-    private static final int OFFSET_FRONT_RIDE_HEIGHT = OFFSET_FRONT_WING_HEIGHT + ByteUtil.SIZE_DOUBLE;
-    private static final int OFFSET_REAR_RIDE_HEIGHT = OFFSET_FRONT_RIDE_HEIGHT + ByteUtil.SIZE_DOUBLE;
-    private static final int OFFSET_DRAG = OFFSET_REAR_RIDE_HEIGHT + ByteUtil.SIZE_DOUBLE;
-    private static final int OFFSET_FRONT_DOWNFORCE = OFFSET_DRAG + ByteUtil.SIZE_DOUBLE;
-    private static final int OFFSET_REAR_DOWNFORCE = OFFSET_FRONT_DOWNFORCE + ByteUtil.SIZE_DOUBLE;
-    
-    private static final int OFFSET_FUEL = OFFSET_REAR_DOWNFORCE + ByteUtil.SIZE_DOUBLE;
-    private static final int OFFSET_ENGINE_MAX_RPM = OFFSET_FUEL + ByteUtil.SIZE_DOUBLE;
-    private static final int OFFSET_SCHEDULED_STOPS = OFFSET_ENGINE_MAX_RPM + ByteUtil.SIZE_DOUBLE;
-    private static final int OFFSET_OVERHEATING = OFFSET_SCHEDULED_STOPS + ByteUtil.SIZE_CHAR;
-    private static final int OFFSET_DETACHED = OFFSET_OVERHEATING + ByteUtil.SIZE_BOOL;
-    private static final int OFFSET_HEADLIGHTS = OFFSET_DETACHED + ByteUtil.SIZE_BOOL;
-    private static final int OFFSET_DENT_SEVERITY = OFFSET_HEADLIGHTS + ByteUtil.SIZE_BOOL;
-    private static final int OFFSET_LAST_IMPACT_TIME = OFFSET_DENT_SEVERITY + 8 * ByteUtil.SIZE_CHAR;
-    private static final int OFFSET_LAST_IMPACT_MAGNITUDE = OFFSET_LAST_IMPACT_TIME + ByteUtil.SIZE_DOUBLE;
-    private static final int OFFSET_LAST_IMPACT_POSITION = OFFSET_LAST_IMPACT_MAGNITUDE + ByteUtil.SIZE_DOUBLE;
-    
-    private static final int OFFSET_ENGINE_TORQUE = OFFSET_LAST_IMPACT_POSITION + ByteUtil.SIZE_VECTOR3D;
-    private static final int OFFSET_CURRENT_SECTOR = OFFSET_ENGINE_TORQUE + ByteUtil.SIZE_DOUBLE;
-    private static final int OFFSET_SPEED_LIMITER = OFFSET_CURRENT_SECTOR + ByteUtil.SIZE_LONG;
-    private static final int OFFSET_MAX_GEARS = OFFSET_SPEED_LIMITER + ByteUtil.SIZE_CHAR;
-    private static final int OFFSET_FRONT_TIRE_COMPOUND_INDEX = OFFSET_MAX_GEARS + ByteUtil.SIZE_CHAR;
-    private static final int OFFSET_REAR_TIRE_COMPOUND_INDEX = OFFSET_FRONT_TIRE_COMPOUND_INDEX + ByteUtil.SIZE_CHAR;
-    private static final int OFFSET_FUEL_CAPACITY = OFFSET_REAR_TIRE_COMPOUND_INDEX + ByteUtil.SIZE_CHAR;
-    private static final int OFFSET_FRONT_FLAP_ACTIVATED = OFFSET_FUEL_CAPACITY + ByteUtil.SIZE_DOUBLE;
-    private static final int OFFSET_REAR_FLAP_ACTIVATED = OFFSET_FRONT_FLAP_ACTIVATED + ByteUtil.SIZE_CHAR;
-    private static final int OFFSET_REAR_FLAP_LEGAL_STATUS = OFFSET_REAR_FLAP_ACTIVATED + ByteUtil.SIZE_CHAR;
-    private static final int OFFSET_IGNITION_STARTER = OFFSET_REAR_FLAP_LEGAL_STATUS + ByteUtil.SIZE_CHAR;
-    private static final int OFFSET_FRONT_TIRE_COMPOUND_NAME = OFFSET_IGNITION_STARTER + ByteUtil.SIZE_CHAR;
-    private static final int OFFSET_REAR_TIRE_COMPOUND_NAME = OFFSET_FRONT_TIRE_COMPOUND_NAME + ByteUtil.SIZE_CHAR * 18;
-    
-    private static final int OFFSET_EXPANSION = OFFSET_REAR_TIRE_COMPOUND_NAME + ByteUtil.SIZE_CHAR * 18;
-    
-    private static final int OFFSET_WHEEL_DATA = OFFSET_EXPANSION + 192 * ByteUtil.SIZE_CHAR;
-    
-    private static final int OFFSET_WHEEL_SUSPENSION_DEFLECTION = 0;
-    private static final int OFFSET_RIDE_HEIGHT = OFFSET_WHEEL_SUSPENSION_DEFLECTION + ByteUtil.SIZE_DOUBLE;
-    private static final int OFFSET_WHEEL_SUSPENSION_FORCE = OFFSET_RIDE_HEIGHT + ByteUtil.SIZE_DOUBLE;
-    private static final int OFFSET_BRAKE_TEMP = OFFSET_WHEEL_SUSPENSION_FORCE + ByteUtil.SIZE_DOUBLE;
-    private static final int OFFSET_BRAKE_PRESSURE = OFFSET_BRAKE_TEMP + ByteUtil.SIZE_DOUBLE;
-    
-    private static final int OFFSET_WHEEL_ROTATION = OFFSET_BRAKE_PRESSURE + ByteUtil.SIZE_DOUBLE;
-    private static final int OFFSET_LATERAL_PATCH_VEL = OFFSET_WHEEL_ROTATION + ByteUtil.SIZE_DOUBLE;
-    private static final int OFFSET_LONGITUDINAL_PATCH_VEL = OFFSET_LATERAL_PATCH_VEL + ByteUtil.SIZE_DOUBLE;
-    private static final int OFFSET_LATERAL_GROUND_VEL = OFFSET_LONGITUDINAL_PATCH_VEL + ByteUtil.SIZE_DOUBLE;
-    private static final int OFFSET_LONGITUDINAL_GROUND_VEL = OFFSET_LATERAL_GROUND_VEL + ByteUtil.SIZE_DOUBLE;
-    private static final int OFFSET_CAMBER = OFFSET_LONGITUDINAL_GROUND_VEL + ByteUtil.SIZE_DOUBLE;
-    private static final int OFFSET_LATERAL_FORCE = OFFSET_CAMBER + ByteUtil.SIZE_DOUBLE;
-    private static final int OFFSET_LONGITUDINAL_FORCE = OFFSET_LATERAL_FORCE + ByteUtil.SIZE_DOUBLE;
-    private static final int OFFSET_TIRE_LOAD = OFFSET_LONGITUDINAL_FORCE + ByteUtil.SIZE_DOUBLE;
-    private static final int OFFSET_GRIP_FRACTION = OFFSET_TIRE_LOAD + ByteUtil.SIZE_DOUBLE;
-    private static final int OFFSET_TIRE_PRESSURE = OFFSET_GRIP_FRACTION + ByteUtil.SIZE_DOUBLE;
-    private static final int OFFSET_TIRE_TEMPERATURES = OFFSET_TIRE_PRESSURE + ByteUtil.SIZE_DOUBLE;
-    
-    private static final int OFFSET_TIRE_WEAR = OFFSET_TIRE_TEMPERATURES + 3 * ByteUtil.SIZE_DOUBLE;
-    private static final int OFFSET_TERRAIN_NAME = OFFSET_TIRE_WEAR + ByteUtil.SIZE_DOUBLE;
+    private static final int OFFSET_TRACK_NAME = LAYOUT.add( "mTrackName", Type.CHAR, MAX_TRACK_NAME_LENGTH );
+    
+    private static final int OFFSET_POSITION = LAYOUT.add( "mPos", Type.VECTOR3D );
+    private static final int OFFSET_LOCAL_VELOCITY = LAYOUT.add( "mLocalVel", Type.VECTOR3D );
+    private static final int OFFSET_LOCAL_ACCELERATION = LAYOUT.add( "mLocalAccel", Type.VECTOR3D );
+    
+    private static final int OFFSET_ORIENTATION_X = LAYOUT.add( "mOri", Type.VECTOR3D, 3 );
+    private static final int OFFSET_ORIENTATION_Y = LAYOUT.getField( "mOri" ).getOffset( 1 );
+    private static final int OFFSET_ORIENTATION_Z = LAYOUT.getField( "mOri" ).getOffset( 2 );
+    private static final int OFFSET_LOCAL_ROTATION = LAYOUT.add( "mLocalRot", Type.VECTOR3D );
+    private static final int OFFSET_LOCAL_ROTATION_ACCELERATION = LAYOUT.add( "mLocalRotAccel", Type.VECTOR3D );
+    
+    private static final int OFFSET_GEAR = LAYOUT.add( "mGear", Type.LONG );
+    private static final int OFFSET_ENGINE_RPM = LAYOUT.add( "mEngineRPM", Type.DOUBLE );
+    private static final int OFFSET_ENGINE_WATER_TEMP = LAYOUT.add( "mEngineWaterTemp", Type.DOUBLE );
+    private static final int OFFSET_ENGINE_OIL_TEMP = LAYOUT.add( "mEngineOilTemp", Type.DOUBLE );
+    private static final int OFFSET_CLUTCH_RPM = LAYOUT.add( "mClutchRPM", Type.DOUBLE );
+    
+    private static final int OFFSET_UNFILTERED_THROTTLE = LAYOUT.add( "mUnfilteredThrottle", Type.DOUBLE );
+    private static final int OFFSET_UNFILTERED_BRAKE = LAYOUT.add( "mUnfilteredBrake", Type.DOUBLE );
+    private static final int OFFSET_UNFILTERED_STEERING = LAYOUT.add( "mUnfilteredSteering", Type.DOUBLE );
+    private static final int OFFSET_UNFILTERED_CLUTCH = LAYOUT.add( "mUnfilteredClutch", Type.DOUBLE );
+    
+    private static final int OFFSET_FILTERED_THROTTLE = LAYOUT.add( "mFilteredThrottle", Type.DOUBLE );
+    private static final int OFFSET_FILTERED_BRAKE = LAYOUT.add( "mFilteredBrake", Type.DOUBLE );
+    private static final int OFFSET_FILTERED_STEERING = LAYOUT.add( "mFilteredSteering", Type.DOUBLE );
+    private static final int OFFSET_FILTERED_CLUTCH = LAYOUT.add( "mFilteredClutch", Type.DOUBLE );
+    
+    private static final int OFFSET_STEERING_ARM_FORCE = LAYOUT.add( "mSteeringArmForce", Type.DOUBLE );
+    
+    private static final int OFFSET_FRONT_3RD_SPRING_DEFLECTION = LAYOUT.add( "mFront3rdDeflection", Type.DOUBLE );
+    private static final int OFFSET_REAR_3RD_SPRING_DEFLECTION = LAYOUT.add( "mRear3rdDeflection", Type.DOUBLE );
+    
+    private static final int OFFSET_FRONT_WING_HEIGHT = LAYOUT.add( "mFrontWingHeight", Type.DOUBLE );
+    private static final int OFFSET_FRONT_RIDE_HEIGHT = LAYOUT.add( "mFrontRideHeight", Type.DOUBLE );
+    private static final int OFFSET_REAR_RIDE_HEIGHT = LAYOUT.add( "mRearRideHeight", Type.DOUBLE );
+    private static final int OFFSET_DRAG = LAYOUT.add( "mDrag", Type.DOUBLE );
+    private static final int OFFSET_FRONT_DOWNFORCE = LAYOUT.add( "mFrontDownforce", Type.DOUBLE );
+    private static final int OFFSET_REAR_DOWNFORCE = LAYOUT.add( "mRearDownforce", Type.DOUBLE );
+    
+    private static final int OFFSET_FUEL = LAYOUT.add( "mFuel", Type.DOUBLE );
+    private static final int OFFSET_ENGINE_MAX_RPM = LAYOUT.add( "mEngineMaxRPM", Type.DOUBLE );
+    private static final int OFFSET_SCHEDULED_STOPS = LAYOUT.add( "mScheduledStops", Type.CHAR );
+    private static final int OFFSET_OVERHEATING = LAYOUT.add( "mOverheating", Type.BOOL );
+    private static final int OFFSET_DETACHED = LAYOUT.add( "mDetached", Type.BOOL );
+    private static final int OFFSET_HEADLIGHTS = LAYOUT.add( "mHeadlights", Type.BOOL );
+    private static final int OFFSET_DENT_SEVERITY = LAYOUT.add( "mDentSeverity", Type.CHAR, 8 );
+    private static final int OFFSET_LAST_IMPACT_TIME = LAYOUT.add( "mLastImpactET", Type.DOUBLE );
+    private static final int OFFSET_LAST_IMPACT_MAGNITUDE = LAYOUT.add( "mLastImpactMagnitude", Type.DOUBLE );
+    private static final int OFFSET_LAST_IMPACT_POSITION = LAYOUT.add( "mLastImpactPos", Type.VECTOR3D );
+    
+    private static final int OFFSET_ENGINE_TORQUE = LAYOUT.add( "mEngineTq", Type.DOUBLE );
+    private static final int OFFSET_CURRENT_SECTOR = LAYOUT.add( "mCurrentSector", Type.LONG );
+    private static final int OFFSET_SPEED_LIMITER = LAYOUT.add( "mSpeedLimiter", Type.CHAR );
+    private static final int OFFSET_MAX_GEARS = LAYOUT.add( "mMaxGears", Type.CHAR );
+    private static final int OFFSET_FRONT_TIRE_COMPOUND_INDEX = LAYOUT.add( "mFrontTireCompoundIndex", Type.CHAR );
+    private static final int OFFSET_REAR_TIRE_COMPOUND_INDEX = LAYOUT.add( "mRearTireCompoundIndex", Type.CHAR );
+    private static final int OFFSET_FUEL_CAPACITY = LAYOUT.add( "mFuelCapacity", Type.DOUBLE );
+    private static final int OFFSET_FRONT_FLAP_ACTIVATED = LAYOUT.add( "mFrontFlapActivated", Type.CHAR );
+    private static final int OFFSET_REAR_FLAP_ACTIVATED = LAYOUT.add( "mRearFlapActivated", Type.CHAR );
+    private static final int OFFSET_REAR_FLAP_LEGAL_STATUS = LAYOUT.add( "mRearFlapLegalStatus", Type.CHAR );
+    private static final int OFFSET_IGNITION_STARTER = LAYOUT.add( "mIgnitionStarter", Type.CHAR );
+    private static final int OFFSET_FRONT_TIRE_COMPOUND_NAME = LAYOUT.add( "mFrontTireCompoundName", Type.CHAR, 18 );
+    private static final int OFFSET_REAR_TIRE_COMPOUND_NAME = LAYOUT.add( "mRearTireCompoundName", Type.CHAR, 18 );
+    
+    private static final int OFFSET_EXPANSION = LAYOUT.add( "mExpansion", Type.CHAR, 192 );
+    
+    static final StructLayout WHEEL_LAYOUT = new StructLayout( "TelemWheelV01", 4 );
+    
+    private static final int OFFSET_WHEEL_SUSPENSION_DEFLECTION = WHEEL_LAYOUT.add( "mSuspensionDeflection", Type.DOUBLE );
+    private static final int OFFSET_RIDE_HEIGHT = WHEEL_LAYOUT.add( "mRideHeight", Type.DOUBLE );
+    private static final int OFFSET_WHEEL_SUSPENSION_FORCE = WHEEL_LAYOUT.add( "mSuspForce", Type.DOUBLE );
+    private static final int OFFSET_BRAKE_TEMP = WHEEL_LAYOUT.add( "mBrakeTemp", Type.DOUBLE );
+    private static final int OFFSET_BRAKE_PRESSURE = WHEEL_LAYOUT.add( "mBrakePressure", Type.DOUBLE );
+    
+    private static final int OFFSET_WHEEL_ROTATION = WHEEL_LAYOUT.add( "mRotation", Type.DOUBLE );
+    private static final int OFFSET_LATERAL_PATCH_VEL = WHEEL_LAYOUT.add( "mLateralPatchVel", Type.DOUBLE );
+    private static final int OFFSET_LONGITUDINAL_PATCH_VEL = WHEEL_LAYOUT.add( "mLongitudinalPatchVel", Type.DOUBLE );
+    private static final int OFFSET_LATERAL_GROUND_VEL = WHEEL_LAYOUT.add( "mLateralGroundVel", Type.DOUBLE );
+    private static final int OFFSET_LONGITUDINAL_GROUND_VEL = WHEEL_LAYOUT.add( "mLongitudinalGroundVel", Type.DOUBLE );
+    private static final int OFFSET_CAMBER = WHEEL_LAYOUT.add( "mCamber", Type.DOUBLE );
+    private static final int OFFSET_LATERAL_FORCE = WHEEL_LAYOUT.add( "mLateralForce", Type.DOUBLE );
+    private static final int OFFSET_LONGITUDINAL_FORCE = WHEEL_LAYOUT.add( "mLongitudinalForce", Type.DOUBLE );
+    private static final int OFFSET_TIRE_LOAD = WHEEL_LAYOUT.add( "mTireLoad", Type.DOUBLE );
+    private static final int OFFSET_GRIP_FRACTION = WHEEL_LAYOUT.add( "mGripFract", Type.DOUBLE );
+    private static final int OFFSET_TIRE_PRESSURE = WHEEL_LAYOUT.add( "mPressure", Type.DOUBLE );
+    private static final int OFFSET_TIRE_TEMPERATURES = WHEEL_LAYOUT.add( "mTemperature", Type.DOUBLE, 3 );
+    
+    private static final int OFFSET_TIRE_WEAR = WHEEL_LAYOUT.add( "mWear", Type.DOUBLE );
     private static final int MAX_TERRAIN_NAME_LENGTH = 16;
-    private static final int OFFSET_SURFACE_TYPE = OFFSET_TERRAIN_NAME + MAX_TERRAIN_NAME_LENGTH * ByteUtil.SIZE_CHAR;
-    private static final int OFFSET_IS_WHEEL_FLAT = OFFSET_SURFACE_TYPE + ByteUtil.SIZE_CHAR;
-    private static final int OFFSET_IS_WHEEL_DETACHED = OFFSET_IS_WHEEL_FLAT + ByteUtil.SIZE_BOOL;
+    private static final int OFFSET_TERRAIN_NAME = WHEEL_LAYOUT.add( "mTerrainName", Type.CHAR, MAX_TERRAIN_NAME_LENGTH );
+    private static final int OFFSET_SURFACE_TYPE = WHEEL_LAYOUT.add( "mSurfaceType", Type.CHAR );
+    private static final int OFFSET_IS_WHEEL_FLAT = WHEEL_LAYOUT.add( "mFlat", Type.BOOL );
+    private static final int OFFSET_IS_WHEEL_DETACHED = WHEEL_LAYOUT.add( "mDetached", Type.BOOL );
     
-    private static final int OFFSET_VERTICAL_TIRE_DEFLECTION = OFFSET_IS_WHEEL_DETACHED + ByteUtil.SIZE_BOOL + 1; // +1 byte because of silly packing!
-    private static final int OFFSET_WHEEL_Y_LOCATION = OFFSET_VERTICAL_TIRE_DEFLECTION + ByteUtil.SIZE_DOUBLE;
-    private static final int OFFSET_WHEEL_TOE = OFFSET_WHEEL_Y_LOCATION + ByteUtil.SIZE_DOUBLE;
+    private static final int OFFSET_VERTICAL_TIRE_DEFLECTION = WHEEL_LAYOUT.add( "mVerticalTireDeflection", Type.DOUBLE );
+    private static final int OFFSET_WHEEL_Y_LOCATION = WHEEL_LAYOUT.add( "mWheelYLocation", Type.DOUBLE );
+    private static final int OFFSET_WHEEL_TOE = WHEEL_LAYOUT.add( "mToe", Type.DOUBLE );
     
-    private static final int OFFSET_WHEEL_DATA_EXPENSION = OFFSET_WHEEL_TOE + ByteUtil.SIZE_DOUBLE;
+    private static final int OFFSET_WHEEL_DATA_EXPENSION = WHEEL_LAYOUT.add( "mExpansion", Type.CHAR, 56 );
     
-    private static final int WHEEL_DATA_SIZE = OFFSET_WHEEL_DATA_EXPENSION + 56 * ByteUtil.SIZE_CHAR;
+    private static final int WHEEL_DATA_SIZE = WHEEL_LAYOUT.getSize();
     
-    private static final int BUFFER_SIZE = OFFSET_WHEEL_DATA + ( 4 * WHEEL_DATA_SIZE );
+    private static final int OFFSET_WHEEL_DATA = LAYOUT.addStruct( "mWheel", WHEEL_LAYOUT, 4 );
     
-    private final byte[] buffer = new byte[ BUFFER_SIZE ];
+    private static final int BUFFER_SIZE = LAYOUT.getSize();
+    
+    /**
+     * The telemetry struct as written by the game (little endian). The native side copies the struct into this off-heap buffer
+     * and all getters read their values in place from it.
+     */
+    private ByteBuffer buffer = ByteBuffer.allocateDirect( BUFFER_SIZE ).order( ByteOrder.LITTLE_ENDIAN );
+    
+    /**
+     * Receives captured updates, while the render thread reads the current buffer (pipelined rendering). Only created, when needed.
+     */
+    private ByteBuffer backBuffer = null;
+    
+    /**
+     * Heap copy of the buffer for stream input and output. Only created, when needed.
+     */
+    private byte[] snapshot = null;
     
     private static final java.net.URL DEFAULT_VALUES = _rf2_TelemetryData.class.getClassLoader().getResource( _rf2_TelemetryData.class.getPackage().getName().replace( '.', '/' ) + "/data/game_data/telemetry_data" );
     
-    private static native void fetchData( final long sourceBufferAddress, final int sourceBufferSize, final byte[] targetBuffer );
+    private static native void fetchDataDirect( final long sourceBufferAddress, final int sourceBufferSize, final ByteBuffer targetBuffer );
     
     @Override
     protected void updateDataImpl( Object userObject, long timestamp )
@@ -179,7 +204,7 @@ class _rf2_TelemetryData extends TelemetryData
         {
             _rf2_DataAddressKeeper ak = (_rf2_DataAddressKeeper)userObject;
             
-            fetchData( ak.getBufferAddress(), ak.getBufferSize(), buffer );
+            fetchDataDirect( ak.getBufferAddress(), Math.min( ak.getBufferSize(), BUFFER_SIZE ), buffer );
         }
         else if ( userObject instanceof GameDataStreamSource )
         {
@@ -218,6 +243,30 @@ class _rf2_TelemetryData extends TelemetryData
         }
     }
     
+    @Override
+    protected boolean captureDataImpl( Object userObject )
+    {
+        if ( !( userObject instanceof _rf2_DataAddressKeeper ) )
+            return ( false );
+        
+        _rf2_DataAddressKeeper ak = (_rf2_DataAddressKeeper)userObject;
+        
+        if ( backBuffer == null )
+            backBuffer = ByteBuffer.allocateDirect( BUFFER_SIZE ).order( ByteOrder.LITTLE_ENDIAN );
+        
+        fetchDataDirect( ak.getBufferAddress(), Math.min( ak.getBufferSize(), BUFFER_SIZE ), backBuffer );
+        
+        return ( true );
+    }
+    
+    @Override
+    protected void swapCapturedData()
+    {
+        final ByteBuffer tmp = buffer;
+        buffer = backBuffer;
+        backBuffer = tmp;
+    }
+    
     @Override
     protected void onDataUpdatedImpl( Object userObject, long timestamp )
     {
@@ -237,14 +286,24 @@ class _rf2_TelemetryData extends TelemetryData
         return ( maxRPM );
     }
     
+    private byte[] getSnapshotArray()
+    {
+        if ( snapshot == null )
+            snapshot = new byte[ BUFFER_SIZE ];
+        
+        return ( snapshot );
+    }
+    
     private void readFromStreamImpl( InputStream in ) throws IOException
     {
+        final byte[] snapshot = getSnapshotArray();
+        
         int offset = 0;
         int bytesToRead = BUFFER_SIZE;
         
         while ( bytesToRead > 0 )
         {
-            int n = in.read( buffer, offset, bytesToRead );
+            int n = in.read( snapshot, offset, bytesToRead );
             
             if ( n < 0 )
                 throw new IOException();
@@ -252,6 +311,10 @@ class _rf2_TelemetryData extends TelemetryData
             offset += n;
             bytesToRead -= n;
         }
+        
+        buffer.position( 0 );
+        buffer.put( snapshot, 0, BUFFER_SIZE );
+        buffer.position( 0 );
     }
     
     @Override
@@ -293,7 +356,13 @@ class _rf2_TelemetryData extends TelemetryData
     @Override
     public void writeToStream( OutputStream out ) throws IOException
     {
-        out.write( buffer, 0, BUFFER_SIZE );
+        final byte[] snapshot = getSnapshotArray();
+        
+        buffer.position( 0 );
+        buffer.get( snapshot, 0, BUFFER_SIZE );
+        buffer.position( 0 );
+        
+        out.write( snapshot, 0, BUFFER_SIZE );
     }
     
     /**
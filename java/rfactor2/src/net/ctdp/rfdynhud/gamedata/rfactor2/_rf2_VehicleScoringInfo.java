@@ -28,6 +28,9 @@ import net.ctdp.rfdynhud.gamedata.PitState;
 import net.ctdp.rfdynhud.gamedata.ProfileInfo;
 import net.ctdp.rfdynhud.gamedata.ScoringInfo;
 import net.ctdp.rfdynhud.gamedata.StatusFlag;
+import net.ctdp.rfdynhud.gamedata.StringCache;
+import net.ctdp.rfdynhud.gamedata.StructLayout;
+import net.ctdp.rfdynhud.gamedata.StructLayout.Type;
 import net.ctdp.rfdynhud.gamedata.TelemVect3;
 import net.ctdp.rfdynhud.gamedata.VehicleControl;
 import net.ctdp.rfdynhud.gamedata.VehicleScoringInfo;
@@ -39,82 +42,93 @@ import net.ctdp.rfdynhud.gamedata.VehicleUpgradePack;
  */
 class _rf2_VehicleScoringInfo extends VehicleScoringInfo
 {
-    private static final int OFFSET_SLOT_ID = 0;
-    private static final int OFFSET_DRIVER_NAME = OFFSET_SLOT_ID + ByteUtil.SIZE_LONG;
+    /**
+     * The layout of the VehicleScoringInfoV01 struct (#pragma pack( 4 )).
+     */
+    static final StructLayout LAYOUT = new StructLayout( "VehicleScoringInfoV01", 4 );
+    
+    private static final int OFFSET_SLOT_ID = LAYOUT.add( "mID", Type.LONG );
     private static final int MAX_DRIVER_NAME_LENGTH = 32;
-    private static final int OFFSET_VEHICLE_NAME = OFFSET_DRIVER_NAME + MAX_DRIVER_NAME_LENGTH * ByteUtil.SIZE_CHAR;
+    private static final int OFFSET_DRIVER_NAME = LAYOUT.add( "mDriverName", Type.CHAR, MAX_DRIVER_NAME_LENGTH );
     private static final int MAX_VEHICLE_NAME_LENGTH = 64;
-    
-    private static final int OFFSET_TOTAL_LAPS = OFFSET_VEHICLE_NAME + MAX_VEHICLE_NAME_LENGTH * ByteUtil.SIZE_CHAR;
-    
-    private static final int OFFSET_SECTOR = OFFSET_TOTAL_LAPS + ByteUtil.SIZE_SHORT;
-    private static final int OFFSET_FINISH_STATUS = OFFSET_SECTOR + ByteUtil.SIZE_CHAR;
-    private static final int OFFSET_LAP_DISTANCE = OFFSET_FINISH_STATUS + ByteUtil.SIZE_CHAR;
-    private static final int OFFSET_PATH_LATERAL = OFFSET_LAP_DISTANCE + ByteUtil.SIZE_DOUBLE;
-    private static final int OFFSET_TRACK_EDGE = OFFSET_PATH_LATERAL + ByteUtil.SIZE_DOUBLE;
-    
-    private static final int OFFSET_BEST_SECTOR_1 = OFFSET_TRACK_EDGE + ByteUtil.SIZE_DOUBLE;
-    private static final int OFFSET_BEST_SECTOR_2 = OFFSET_BEST_SECTOR_1 + ByteUtil.SIZE_DOUBLE;
-    private static final int OFFSET_BEST_LAP_TIME = OFFSET_BEST_SECTOR_2 + ByteUtil.SIZE_DOUBLE;
-    private static final int OFFSET_LAST_SECTOR_1 = OFFSET_BEST_LAP_TIME + ByteUtil.SIZE_DOUBLE;
-    private static final int OFFSET_LAST_SECTOR_2 = OFFSET_LAST_SECTOR_1 + ByteUtil.SIZE_DOUBLE;
-    private static final int OFFSET_LAST_LAP_TIME = OFFSET_LAST_SECTOR_2 + ByteUtil.SIZE_DOUBLE;
-    private static final int OFFSET_CURR_SECTOR_1 = OFFSET_LAST_LAP_TIME + ByteUtil.SIZE_DOUBLE;
-    private static final int OFFSET_CURR_SECTOR_2 = OFFSET_CURR_SECTOR_1 + ByteUtil.SIZE_DOUBLE;
-    
-    private static final int OFFSET_NUM_PITSTOPS = OFFSET_CURR_SECTOR_2 + ByteUtil.SIZE_DOUBLE;
-    private static final int OFFSET_NUM_PENALTIES = OFFSET_NUM_PITSTOPS + ByteUtil.SIZE_SHORT;
-    
-    private static final int OFFSET_IS_PLAYER = OFFSET_NUM_PENALTIES + ByteUtil.SIZE_SHORT;
-    private static final int OFFSET_CONTROL = OFFSET_IS_PLAYER + ByteUtil.SIZE_BOOL;
-    private static final int OFFSET_IN_PITS = OFFSET_CONTROL + ByteUtil.SIZE_CHAR;
-    private static final int OFFSET_PLACE = OFFSET_IN_PITS + ByteUtil.SIZE_BOOL;
-    private static final int OFFSET_VEHICLE_CLASS = OFFSET_PLACE + ByteUtil.SIZE_CHAR;
+    private static final int OFFSET_VEHICLE_NAME = LAYOUT.add( "mVehicleName", Type.CHAR, MAX_VEHICLE_NAME_LENGTH );
+    
+    private static final int OFFSET_TOTAL_LAPS = LAYOUT.add( "mTotalLaps", Type.SHORT );
+    
+    private static final int OFFSET_SECTOR = LAYOUT.add( "mSector", Type.CHAR );
+    private static final int OFFSET_FINISH_STATUS = LAYOUT.add( "mFinishStatus", Type.CHAR );
+    private static final int OFFSET_LAP_DISTANCE = LAYOUT.add( "mLapDist", Type.DOUBLE );
+    private static final int OFFSET_PATH_LATERAL = LAYOUT.add( "mPathLateral", Type.DOUBLE );
+    private static final int OFFSET_TRACK_EDGE = LAYOUT.add( "mTrackEdge", Type.DOUBLE );
+    
+    private static final int OFFSET_BEST_SECTOR_1 = LAYOUT.add( "mBestSector1", Type.DOUBLE );
+    private static final int OFFSET_BEST_SECTOR_2 = LAYOUT.add( "mBestSector2", Type.DOUBLE );
+    private static final int OFFSET_BEST_LAP_TIME = LAYOUT.add( "mBestLapTime", Type.DOUBLE );
+    private static final int OFFSET_LAST_SECTOR_1 = LAYOUT.add( "mLastSector1", Type.DOUBLE );
+    private static final int OFFSET_LAST_SECTOR_2 = LAYOUT.add( "mLastSector2", Type.DOUBLE );
+    private static final int OFFSET_LAST_LAP_TIME = LAYOUT.add( "mLastLapTime", Type.DOUBLE );
+    private static final int OFFSET_CURR_SECTOR_1 = LAYOUT.add( "mCurSector1", Type.DOUBLE );
+    private static final int OFFSET_CURR_SECTOR_2 = LAYOUT.add( "mCurSector2", Type.DOUBLE );
+    
+    private static final int OFFSET_NUM_PITSTOPS = LAYOUT.add( "mNumPitstops", Type.SHORT );
+    private static final int OFFSET_NUM_PENALTIES = LAYOUT.add( "mNumPenalties", Type.SHORT );
+    
+    private static final int OFFSET_IS_PLAYER = LAYOUT.add( "mIsPlayer", Type.BOOL );
+    private static final int OFFSET_CONTROL = LAYOUT.add( "mControl", Type.CHAR );
+    private static final int OFFSET_IN_PITS = LAYOUT.add( "mInPits", Type.BOOL );
+    private static final int OFFSET_PLACE = LAYOUT.add( "mPlace", Type.CHAR );
     private static final int MAX_VEHICLE_CLASS_LENGTH = 32;
+    private static final int OFFSET_VEHICLE_CLASS = LAYOUT.add( "mVehicleClass", Type.CHAR, MAX_VEHICLE_CLASS_LENGTH );
     
-    private static final int OFFSET_TIME_BEHIND_NEXT = OFFSET_VEHICLE_CLASS + MAX_VEHICLE_CLASS_LENGTH * ByteUtil.SIZE_CHAR;
-    private static final int OFFSET_LAPS_BEHIND_NEXT = OFFSET_TIME_BEHIND_NEXT + ByteUtil.SIZE_DOUBLE;
-    private static final int OFFSET_TIME_BEHIND_LEADER = OFFSET_LAPS_BEHIND_NEXT + ByteUtil.SIZE_LONG;
-    private static final int OFFSET_LAPS_BEHIND_LEADER = OFFSET_TIME_BEHIND_LEADER + ByteUtil.SIZE_DOUBLE;
-    private static final int OFFSET_LAP_START_TIME = OFFSET_LAPS_BEHIND_LEADER + ByteUtil.SIZE_LONG;
+    private static final int OFFSET_TIME_BEHIND_NEXT = LAYOUT.add( "mTimeBehindNext", Type.DOUBLE );
+    private static final int OFFSET_LAPS_BEHIND_NEXT = LAYOUT.add( "mLapsBehindNext", Type.LONG );
+    private static final int OFFSET_TIME_BEHIND_LEADER = LAYOUT.add( "mTimeBehindLeader", Type.DOUBLE );
+    private static final int OFFSET_LAPS_BEHIND_LEADER = LAYOUT.add( "mLapsBehindLeader", Type.LONG );
+    private static final int OFFSET_LAP_START_TIME = LAYOUT.add( "mLapStartET", Type.DOUBLE );
     
-    private static final int OFFSET_POSITION = OFFSET_LAP_START_TIME + ByteUtil.SIZE_DOUBLE;
-    private static final int OFFSET_LOCAL_VELOCITY = OFFSET_POSITION + ByteUtil.SIZE_VECTOR3D;
-    private static final int OFFSET_LOCAL_ACCELERATION = OFFSET_LOCAL_VELOCITY + ByteUtil.SIZE_VECTOR3D;
+    private static final int OFFSET_POSITION = LAYOUT.add( "mPos", Type.VECTOR3D );
+    private static final int OFFSET_LOCAL_VELOCITY = LAYOUT.add( "mLocalVel", Type.VECTOR3D );
+    private static final int OFFSET_LOCAL_ACCELERATION = LAYOUT.add( "mLocalAccel", Type.VECTOR3D );
     
-    private static final int OFFSET_ORIENTATION_X = OFFSET_LOCAL_ACCELERATION + ByteUtil.SIZE_VECTOR3D;
-    private static final int OFFSET_ORIENTATION_Y = OFFSET_ORIENTATION_X + ByteUtil.SIZE_VECTOR3D;
-    private static final int OFFSET_ORIENTATION_Z = OFFSET_ORIENTATION_Y + ByteUtil.SIZE_VECTOR3D;
-    private static final int OFFSET_LOCAL_ROTATION = OFFSET_ORIENTATION_Z + ByteUtil.SIZE_VECTOR3D;
-    private static final int OFFSET_LOCAL_ROTATION_ACCELERATION = OFFSET_LOCAL_ROTATION + ByteUtil.SIZE_VECTOR3D;
+    private static final int OFFSET_ORIENTATION_X = LAYOUT.add( "mOri", Type.VECTOR3D, 3 );
+    private static final int OFFSET_ORIENTATION_Y = LAYOUT.getField( "mOri" ).getOffset( 1 );
+    private static final int OFFSET_ORIENTATION_Z = LAYOUT.getField( "mOri" ).getOffset( 2 );
+    private static final int OFFSET_LOCAL_ROTATION = LAYOUT.add( "mLocalRot", Type.VECTOR3D );
+    private static final int OFFSET_LOCAL_ROTATION_ACCELERATION = LAYOUT.add( "mLocalRotAccel", Type.VECTOR3D );
     
-    private static final int OFFSET_HEADLIGHTS = OFFSET_LOCAL_ROTATION_ACCELERATION + ByteUtil.SIZE_VECTOR3D;
-    private static final int OFFSET_PIT_STATE = OFFSET_HEADLIGHTS + ByteUtil.SIZE_CHAR;
-    private static final int OFFSET_SERVER_SCORED = OFFSET_PIT_STATE + ByteUtil.SIZE_CHAR;
-    private static final int OFFSET_INDIVIDUAL_PHASE = OFFSET_SERVER_SCORED + ByteUtil.SIZE_CHAR;
+    private static final int OFFSET_HEADLIGHTS = LAYOUT.add( "mHeadlights", Type.CHAR );
+    private static final int OFFSET_PIT_STATE = LAYOUT.add( "mPitState", Type.CHAR );
+    private static final int OFFSET_SERVER_SCORED = LAYOUT.add( "mServerScored", Type.CHAR );
+    private static final int OFFSET_INDIVIDUAL_PHASE = LAYOUT.add( "mIndividualPhase", Type.CHAR );
     
-    private static final int OFFSET_QUALIFICATION = OFFSET_INDIVIDUAL_PHASE + ByteUtil.SIZE_CHAR;
+    private static final int OFFSET_QUALIFICATION = LAYOUT.add( "mQualification", Type.LONG );
     
-    private static final int OFFSET_TIME_INTO_LAP = OFFSET_QUALIFICATION + ByteUtil.SIZE_LONG;
-    private static final int OFFSET_ESTIMATED_LAP_TIME = OFFSET_TIME_INTO_LAP + ByteUtil.SIZE_DOUBLE;
+    private static final int OFFSET_TIME_INTO_LAP = LAYOUT.add( "mTimeIntoLap", Type.DOUBLE );
+    private static final int OFFSET_ESTIMATED_LAP_TIME = LAYOUT.add( "mEstimatedLapTime", Type.DOUBLE );
     
-    private static final int OFFSET_PIT_GROUP = OFFSET_ESTIMATED_LAP_TIME + ByteUtil.SIZE_DOUBLE;
+    private static final int MAX_PIT_GROUP_LENGTH = 24;
+    private static final int OFFSET_PIT_GROUP = LAYOUT.add( "mPitGroup", Type.CHAR, MAX_PIT_GROUP_LENGTH );
     
-    private static final int OFFSET_FLAG = OFFSET_PIT_GROUP + ByteUtil.SIZE_CHAR * 24;
+    private static final int OFFSET_FLAG = LAYOUT.add( "mFlag", Type.CHAR );
     
-    private static final int OFFSET_UNUSED1 = OFFSET_FLAG + ByteUtil.SIZE_CHAR;
-    private static final int OFFSET_UNUSED2 = OFFSET_UNUSED1 + ByteUtil.SIZE_CHAR;
-    private static final int OFFSET_UNUSED3 = OFFSET_UNUSED2 + ByteUtil.SIZE_CHAR;
+    private static final int OFFSET_UNUSED1 = LAYOUT.add( "mUnused1", Type.CHAR );
+    private static final int OFFSET_UNUSED2 = LAYOUT.add( "mUnused2", Type.CHAR );
+    private static final int OFFSET_UNUSED3 = LAYOUT.add( "mUnused3", Type.CHAR );
     
-    private static final int OFFSET_UPGRADE_PACK = OFFSET_UNUSED3 + ByteUtil.SIZE_CHAR;
+    private static final int OFFSET_UPGRADE_PACK = LAYOUT.add( "mUpgradePack", Type.CHAR, 16 );
     
-    private static final int OFFSET_EXPANSION = OFFSET_UPGRADE_PACK + ByteUtil.SIZE_CHAR * 16;
+    private static final int OFFSET_EXPANSION = LAYOUT.add( "mExpansion", Type.CHAR, 60 );
     
-    static final int BUFFER_SIZE = OFFSET_EXPANSION + 60 * ByteUtil.SIZE_CHAR; // 584
+    static final int BUFFER_SIZE = LAYOUT.getSize();
     
     final byte[] buffer;
     private final int buffOff;
     
+    private final StringCache driverName = new StringCache( MAX_DRIVER_NAME_LENGTH );
+    private final StringCache vehicleName = new StringCache( MAX_VEHICLE_NAME_LENGTH );
+    private final StringCache vehicleClass = new StringCache( MAX_VEHICLE_CLASS_LENGTH );
+    private final StringCache pitGroup = new StringCache( MAX_PIT_GROUP_LENGTH );
+    
     /**
      * {@inheritDoc}
      */
@@ -185,7 +199,7 @@ class _rf2_VehicleScoringInfo extends VehicleScoringInfo
     {
         // char mDriverName[32]
         
-        return ( ByteUtil.readString( buffer, buffOff + OFFSET_DRIVER_NAME, MAX_DRIVER_NAME_LENGTH ) );
+        return ( driverName.read( buffer, buffOff + OFFSET_DRIVER_NAME ) );
     }
     
     /**
@@ -196,7 +210,7 @@ class _rf2_VehicleScoringInfo extends VehicleScoringInfo
     {
         // char mVehicleName[64]
         
-        return ( ByteUtil.readString( buffer, buffOff + OFFSET_VEHICLE_NAME, MAX_VEHICLE_NAME_LENGTH ) );
+        return ( vehicleName.read( buffer, buffOff + OFFSET_VEHICLE_NAME ) );
     }
     
     /**
@@ -474,7 +488,7 @@ class _rf2_VehicleScoringInfo extends VehicleScoringInfo
     {
         // char mVehicleClass[32]
         
-        return ( ByteUtil.readString( buffer, buffOff + OFFSET_VEHICLE_CLASS, MAX_VEHICLE_CLASS_LENGTH ) );
+        return ( vehicleClass.read( buffer, buffOff + OFFSET_VEHICLE_CLASS ) );
     }
     
     /**
@@ -774,7 +788,7 @@ class _rf2_VehicleScoringInfo extends VehicleScoringInfo
     {
         // char mPitGroup[24];            // pit group (same as team name unless pit is shared)
         
-        return ( ByteUtil.readString( buffer, buffOff + OFFSET_PIT_GROUP, 24 ) );
+        return ( pitGroup.read( buffer, buffOff + OFFSET_PIT_GROUP ) );
     }
     
     /**
@@ -0,0 +1,267 @@
+/**
+ * Copyright (C) 2009-2014 Cars and Tracks Development Project (CTDP).
+ * 
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+ */
+package net.ctdp.rfdynhud.gamedata.rfactor2;
+
+import java.io.ByteArrayInputStream;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import net.ctdp.rfdynhud.gamedata.ByteUtil;
+import net.ctdp.rfdynhud.gamedata.LiveGameData;
+import net.ctdp.rfdynhud.gamedata.ScoringInfo;
+import net.ctdp.rfdynhud.gamedata.VehicleScoringInfo;
+import net.ctdp.rfdynhud.render.WidgetsDrawingManager;
+
+/**
+ * Compares the class scoring of {@link ScoringInfo} with the former algorithm on random multi-class grids,
+ * which scanned forward and backward from each class leader.
+ */
+class _rf2_z_ClassScoringTester
+{
+    private static final int NUM_GRIDS = 2000;
+    private static final int MAX_VEHICLES = 120;
+    private static final int MAX_CLASSES = 6;
+    private static final float TIME_EPSILON = 0.001f;
+    
+    private static final int OFFSET_NUM_VEHICLES = _rf2_ScoringInfo.LAYOUT.getField( "mNumVehicles" ).getOffset();
+    private static final int OFFSET_SLOT_ID = _rf2_VehicleScoringInfo.LAYOUT.getField( "mID" ).getOffset();
+    private static final int OFFSET_DRIVER_NAME = _rf2_VehicleScoringInfo.LAYOUT.getField( "mDriverName" ).getOffset();
+    private static final int OFFSET_PLACE = _rf2_VehicleScoringInfo.LAYOUT.getField( "mPlace" ).getOffset();
+    private static final int OFFSET_VEHICLE_CLASS = _rf2_VehicleScoringInfo.LAYOUT.getField( "mVehicleClass" ).getOffset();
+    private static final int OFFSET_TIME_BEHIND_NEXT = _rf2_VehicleScoringInfo.LAYOUT.getField( "mTimeBehindNext" ).getOffset();
+    private static final int OFFSET_LAPS_BEHIND_NEXT = _rf2_VehicleScoringInfo.LAYOUT.getField( "mLapsBehindNext" ).getOffset();
+    
+    private static int numChecks = 0;
+    private static int numErrors = 0;
+    
+    private static class Expected
+    {
+        short placeByClass;
+        float timeBehindNextByClass;
+        int lapsBehindNextByClass;
+        float timeBehindLeaderByClass;
+        int lapsBehindLeaderByClass;
+        VehicleScoringInfo classLeaderVSI;
+        VehicleScoringInfo classNextInFrontVSI;
+        VehicleScoringInfo classNextBehindVSI;
+        int numVehiclesInClass;
+    }
+    
+    private static void putString( byte[] buffer, int offset, String s )
+    {
+        byte[] bytes = s.getBytes();
+        System.arraycopy( bytes, 0, buffer, offset, bytes.length );
+    }
+    
+    private static byte[] createGrid( Random rnd, int numVehicles )
+    {
+        final int numClasses = 1 + rnd.nextInt( MAX_CLASSES );
+        final int siSize = _rf2_ScoringInfo.LAYOUT.getSize();
+        final int vsiSize = _rf2_VehicleScoringInfo.BUFFER_SIZE;
+        
+        byte[] data = new byte[ siSize + numVehicles * vsiSize ];
+        ByteUtil.writeLong( numVehicles, data, OFFSET_NUM_VEHICLES );
+        
+        int[] places = new int[ numVehicles ];
+        for ( int i = 0; i < numVehicles; i++ )
+            places[i] = i + 1;
+        
+        for ( int i = numVehicles - 1; i > 0; i-- )
+        {
+            int j = rnd.nextInt( i + 1 );
+            int p = places[i];
+            places[i] = places[j];
+            places[j] = p;
+        }
+        
+        for ( int i = 0; i < numVehicles; i++ )
+        {
+            final int offset = siSize + i * vsiSize;
+            
+            ByteUtil.writeLong( i, data, offset + OFFSET_SLOT_ID );
+            putString( data, offset + OFFSET_DRIVER_NAME, "Driver " + i );
+            ByteUtil.writeUnsignedByte( (short)places[i], data, offset + OFFSET_PLACE );
+            putString( data, offset + OFFSET_VEHICLE_CLASS, "Class " + rnd.nextInt( numClasses ) );
+            ByteUtil.writeDouble( ( places[i] == 1 ) ? 0.0 : rnd.nextDouble() * 5.0, data, offset + OFFSET_TIME_BEHIND_NEXT );
+            ByteUtil.writeLong( ( rnd.nextInt( 10 ) == 0 ) ? 1 : 0, data, offset + OFFSET_LAPS_BEHIND_NEXT );
+        }
+        
+        return ( data );
+    }
+    
+    /**
+     * The former algorithm.
+     */
+    private static Expected[] computeExpected( ScoringInfo scoringInfo )
+    {
+        final int n = scoringInfo.getNumVehicles();
+        
+        Expected[] expected = new Expected[ n ];
+        for ( int i = 0; i < n; i++ )
+            expected[i] = new Expected();
+        
+        Set<Integer> handledClassIDs = new HashSet<Integer>();
+        
+        for ( int i = 0; i < n; i++ )
+        {
+            VehicleScoringInfo vsi0 = scoringInfo.getVehicleScoringInfo( i );
+            Expected e0 = expected[i];
+            
+            if ( handledClassIDs.add( vsi0.getVehicleClassID() ) )
+            {
+                short p = 1;
+                int numVehiclesInClass = 1;
+                float tbn = 0f;
+                int lbn = 0;
+                float tbl = 0f;
+                int lbl = 0;
+                
+                e0.placeByClass = p++;
+                e0.timeBehindNextByClass = tbn;
+                e0.lapsBehindNextByClass = lbn;
+                e0.timeBehindLeaderByClass = tbl;
+                e0.lapsBehindLeaderByClass = lbl;
+                e0.classLeaderVSI = vsi0;
+                e0.classNextInFrontVSI = null;
+                
+                for ( int j = vsi0.getPlace( false ) - 0; j < n; j++ )
+                {
+                    VehicleScoringInfo vsi1 = scoringInfo.getVehicleScoringInfo( j );
+                    Expected e1 = expected[j];
+                    
+                    tbn += vsi1.getTimeBehindNextInFront( false );
+                    lbn += vsi1.getLapsBehindNextInFront( false );
+                    tbl += vsi1.getTimeBehindNextInFront( false );
+                    lbl += vsi1.getLapsBehindNextInFront( false );
+                    
+                    if ( vsi1.getVehicleClassId() == vsi0.getVehicleClassId() )
+                    {
+                        e1.placeByClass = p++;
+                        e1.timeBehindNextByClass = tbn;
+                        e1.lapsBehindNextByClass = lbn;
+                        e1.timeBehindLeaderByClass = tbl;
+                        e1.lapsBehindLeaderByClass = lbl;
+                        e1.classLeaderVSI = e0.classLeaderVSI;
+                        e1.classNextInFrontVSI = vsi0;
+                        e0.classNextBehindVSI = vsi1;
+                        
+                        tbn = 0f;
+                        lbn = 0;
+                        vsi0 = vsi1;
+                        e0 = e1;
+                        
+                        numVehiclesInClass++;
+                    }
+                }
+                
+                e0.classNextBehindVSI = null;
+                
+                for ( int j = vsi0.getPlace( false ) - 1; j >= 0; j-- )
+                {
+                    VehicleScoringInfo vsi1 = scoringInfo.getVehicleScoringInfo( j );
+                    
+                    if ( vsi1.getVehicleClassId() == vsi0.getVehicleClassId() )
+                        expected[j].numVehiclesInClass = numVehiclesInClass;
+                }
+            }
+        }
+        
+        return ( expected );
+    }
+    
+    private static void check( int grid, VehicleScoringInfo vsi, String what, Object value, Object expected )
+    {
+        numChecks++;
+        
+        if ( ( value == expected ) || ( ( value != null ) && value.equals( expected ) ) )
+            return;
+        
+        if ( ( value instanceof Float ) && ( expected instanceof Float ) && ( Math.abs( (Float)value - (Float)expected ) <= TIME_EPSILON ) )
+            return;
+        
+        if ( numErrors < 20 )
+            System.out.println( "    MISMATCH grid " + grid + ", place " + vsi.getPlace( false ) + ", " + what + ": " + value + " (expected " + expected + ")" );
+        
+        numErrors++;
+    }
+    
+    private static void checkGrid( int grid, ScoringInfo scoringInfo )
+    {
+        Expected[] expected = computeExpected( scoringInfo );
+        
+        for ( int i = 0; i < expected.length; i++ )
+        {
+            VehicleScoringInfo vsi = scoringInfo.getVehicleScoringInfo( i );
+            Expected e = expected[i];
+            
+            check( grid, vsi, "placeByClass", vsi.getPlace( true ), e.placeByClass );
+            check( grid, vsi, "timeBehindNextByClass", vsi.getTimeBehindNextInFront( true ), e.timeBehindNextByClass );
+            check( grid, vsi, "lapsBehindNextByClass", vsi.getLapsBehindNextInFront( true ), e.lapsBehindNextByClass );
+            check( grid, vsi, "timeBehindLeaderByClass", vsi.getTimeBehindLeader( true ), e.timeBehindLeaderByClass );
+            check( grid, vsi, "lapsBehindLeaderByClass", vsi.getLapsBehindLeader( true ), e.lapsBehindLeaderByClass );
+            check( grid, vsi, "classLeader", vsi.getLeaderByClass(), e.classLeaderVSI );
+            check( grid, vsi, "classNextInFront", vsi.getNextInFront( true ), e.classNextInFrontVSI );
+            check( grid, vsi, "classNextBehind", vsi.getNextBehind( true ), e.classNextBehindVSI );
+            check( grid, vsi, "numVehiclesInClass", vsi.getNumVehiclesInSameClass(), e.numVehiclesInClass );
+        }
+    }
+    
+    public static void main( String[] args ) throws Exception
+    {
+        _rf2_LiveGameDataObjectsFactory gdFactory = new _rf2_LiveGameDataObjectsFactory();
+        gdFactory.init( true, false );
+        LiveGameData gameData = gdFactory.newGameEventsManager( null, new WidgetsDrawingManager( true, 1920, 1200 ) ).getGameData();
+        ScoringInfo scoringInfo = gameData.getScoringInfo();
+        
+        Random rnd = new Random( 4711L );
+        
+        for ( int grid = 0; grid < NUM_GRIDS; grid++ )
+        {
+            scoringInfo.readFromStream( new ByteArrayInputStream( createGrid( rnd, 1 + rnd.nextInt( MAX_VEHICLES ) ) ), null );
+            
+            checkGrid( grid, scoringInfo );
+        }
+        
+        System.out.println( NUM_GRIDS + " grids, " + numChecks + " checks, " + numErrors + " mismatches" );
+        
+        // Both timings include the data update, that resets the class scoring.
+        
+        final byte[] data = createGrid( rnd, MAX_VEHICLES );
+        final int numRuns = 2000;
+        
+        for ( int k = 0; k < 3; k++ )
+        {
+            long t0 = System.nanoTime();
+            for ( int i = 0; i < numRuns; i++ )
+            {
+                scoringInfo.readFromStream( new ByteArrayInputStream( data ), null );
+                computeExpected( scoringInfo );
+            }
+            long t1 = System.nanoTime();
+            for ( int i = 0; i < numRuns; i++ )
+            {
+                scoringInfo.readFromStream( new ByteArrayInputStream( data ), null );
+                scoringInfo.getVehicleScoringInfo( 0 ).getPlace( true );
+            }
+            long t2 = System.nanoTime();
+            
+            System.out.println( MAX_VEHICLES + " vehicles: update + former " + ( ( t1 - t0 ) / numRuns / 1000L ) + " us, update + now " + ( ( t2 - t1 ) / numRuns / 1000L ) + " us" );
+        }
+    }
+}
@@ -0,0 +1,266 @@
+/**
+ * Copyright (C) 2009-2014 Cars and Tracks Development Project (CTDP).
+ * 
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+ */
+package net.ctdp.rfdynhud.gamedata.rfactor2;
+
+import java.io.ByteArrayInputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import net.ctdp.rfdynhud.gamedata.ByteUtil;
+import net.ctdp.rfdynhud.gamedata.LiveGameData;
+import net.ctdp.rfdynhud.gamedata.ScoringInfo;
+import net.ctdp.rfdynhud.gamedata.VehicleScoringInfo;
+import net.ctdp.rfdynhud.render.WidgetsDrawingManager;
+
+/**
+ * Changes the places of a random grid over many scoring updates and checks, that the vehicles are sorted by place
+ * and that exactly the swapped pairs are reported as passes (or none after too many changes).
+ */
+class _rf2_z_PlaceOrderTester
+{
+    private static final int NUM_GRIDS = 50;
+    private static final int NUM_UPDATES = 200;
+    private static final int MAX_VEHICLES = 120;
+    
+    private static final int OFFSET_NUM_VEHICLES = _rf2_ScoringInfo.LAYOUT.getField( "mNumVehicles" ).getOffset();
+    private static final int OFFSET_SLOT_ID = _rf2_VehicleScoringInfo.LAYOUT.getField( "mID" ).getOffset();
+    private static final int OFFSET_DRIVER_NAME = _rf2_VehicleScoringInfo.LAYOUT.getField( "mDriverName" ).getOffset();
+    private static final int OFFSET_PLACE = _rf2_VehicleScoringInfo.LAYOUT.getField( "mPlace" ).getOffset();
+    
+    private static final int SI_SIZE = _rf2_ScoringInfo.LAYOUT.getSize();
+    private static final int VSI_SIZE = _rf2_VehicleScoringInfo.BUFFER_SIZE;
+    
+    private static int numChecks = 0;
+    private static int numErrors = 0;
+    private static int numIncremental = 0;
+    private static int numFull = 0;
+    
+    private static final List<String> passes = new ArrayList<String>();
+    
+    private static void check( int grid, int update, String what, Object value, Object expected )
+    {
+        numChecks++;
+        
+        if ( value.equals( expected ) )
+            return;
+        
+        if ( numErrors < 20 )
+            System.out.println( "    MISMATCH grid " + grid + ", update " + update + ", " + what + ": " + value + " (expected " + expected + ")" );
+        
+        numErrors++;
+    }
+    
+    /**
+     * Creates the stream data for the given drivers, where the i-th vehicle data is written for the i-th driver.
+     * 
+     * @param drivers the driver (number) for each vehicle in the stream
+     * @param order the driver (number) for each place (0-based)
+     */
+    private static byte[] createData( int[] drivers, int[] order )
+    {
+        final int n = drivers.length;
+        
+        int[] places = new int[ n ];
+        for ( int p = 0; p < n; p++ )
+            places[order[p]] = p + 1;
+        
+        byte[] data = new byte[ SI_SIZE + n * VSI_SIZE ];
+        ByteUtil.writeLong( n, data, OFFSET_NUM_VEHICLES );
+        
+        for ( int i = 0; i < n; i++ )
+        {
+            final int offset = SI_SIZE + i * VSI_SIZE;
+            
+            ByteUtil.writeLong( drivers[i], data, offset + OFFSET_SLOT_ID );
+            
+            byte[] name = ( "Driver " + drivers[i] ).getBytes();
+            System.arraycopy( name, 0, data, offset + OFFSET_DRIVER_NAME, name.length );
+            
+            ByteUtil.writeUnsignedByte( (short)places[drivers[i]], data, offset + OFFSET_PLACE );
+        }
+        
+        return ( data );
+    }
+    
+    /**
+     * The stream data is read in the order of the sorted vehicles. Feeding each instance with the data of its driver
+     * keeps the drivers on their {@link VehicleScoringInfo} instances, like the game does.
+     */
+    private static int[] getDrivers( ScoringInfo scoringInfo )
+    {
+        int[] drivers = new int[ scoringInfo.getNumVehicles() ];
+        
+        for ( int i = 0; i < drivers.length; i++ )
+            drivers[i] = ( (_rf2_VehicleScoringInfo)scoringInfo.getVehicleScoringInfo( i ) ).getSlotId();
+        
+        return ( drivers );
+    }
+    
+    private static void shuffle( Random rnd, int[] order, int from, int to )
+    {
+        for ( int i = to - 1; i > from; i-- )
+        {
+            int j = from + rnd.nextInt( i - from + 1 );
+            int tmp = order[i];
+            order[i] = order[j];
+            order[j] = tmp;
+        }
+    }
+    
+    private static List<String> getExpectedPasses( int[] oldOrder, int[] newOrder )
+    {
+        final int n = newOrder.length;
+        
+        int[] oldPlaces = new int[ n ];
+        for ( int p = 0; p < n; p++ )
+            oldPlaces[oldOrder[p]] = p;
+        
+        List<String> expected = new ArrayList<String>();
+        
+        for ( int p1 = 0; p1 < n; p1++ )
+        {
+            for ( int p2 = p1 + 1; p2 < n; p2++ )
+            {
+                if ( oldPlaces[newOrder[p1]] > oldPlaces[newOrder[p2]] )
+                    expected.add( "Driver " + newOrder[p1] + " > Driver " + newOrder[p2] );
+            }
+        }
+        
+        return ( expected );
+    }
+    
+    public static void main( String[] args ) throws Exception
+    {
+        _rf2_LiveGameDataObjectsFactory gdFactory = new _rf2_LiveGameDataObjectsFactory();
+        gdFactory.init( true, false );
+        LiveGameData gameData = gdFactory.newGameEventsManager( null, new WidgetsDrawingManager( true, 1920, 1200 ) ).getGameData();
+        ScoringInfo scoringInfo = gameData.getScoringInfo();
+        
+        scoringInfo.registerPlaceChangeListener( new ScoringInfo.PlaceChangeListener()
+        {
+            @Override
+            public void onVehiclePassed( LiveGameData gameData, VehicleScoringInfo passingVSI, VehicleScoringInfo passedVSI )
+            {
+                passes.add( passingVSI.getDriverName() + " > " + passedVSI.getDriverName() );
+            }
+        } );
+        
+        Random rnd = new Random( 4711L );
+        
+        for ( int grid = 0; grid < NUM_GRIDS; grid++ )
+        {
+            final int n = 2 + rnd.nextInt( MAX_VEHICLES - 1 );
+            final int maxSwaps = Math.max( 16, n );
+            
+            int[] order = new int[ n ];
+            for ( int i = 0; i < n; i++ )
+                order[i] = i;
+            shuffle( rnd, order, 0, n );
+            
+            scoringInfo.readFromStream( new ByteArrayInputStream( createData( order, order ) ), null );
+            passes.clear();
+            
+            for ( int update = 0; update < NUM_UPDATES; update++ )
+            {
+                int[] oldOrder = order.clone();
+                
+                final int kind = rnd.nextInt( 10 );
+                
+                if ( kind < 7 )
+                {
+                    // a few overtakes
+                    for ( int k = rnd.nextInt( 4 ); k > 0; k-- )
+                    {
+                        int p = rnd.nextInt( n - 1 );
+                        int tmp = order[p];
+                        order[p] = order[p + 1];
+                        order[p + 1] = tmp;
+                    }
+                }
+                else if ( kind < 9 )
+                {
+                    // a pit stop
+                    int from = rnd.nextInt( n );
+                    int to = from + rnd.nextInt( n - from );
+                    int pitting = order[from];
+                    System.arraycopy( order, from + 1, order, from, to - from );
+                    order[to] = pitting;
+                }
+                else
+                {
+                    shuffle( rnd, order, 0, n );
+                }
+                
+                scoringInfo.readFromStream( new ByteArrayInputStream( createData( getDrivers( scoringInfo ), order ) ), null );
+                
+                StringBuilder sorted = new StringBuilder();
+                StringBuilder expectedSorted = new StringBuilder();
+                for ( int p = 0; p < n; p++ )
+                {
+                    sorted.append( scoringInfo.getVehicleScoringInfo( p ).getDriverName() ).append( ',' );
+                    expectedSorted.append( "Driver " ).append( order[p] ).append( ',' );
+                }
+                
+                check( grid, update, "order", sorted.toString(), expectedSorted.toString() );
+                
+                List<String> expectedPasses = getExpectedPasses( oldOrder, order );
+                if ( expectedPasses.size() > maxSwaps )
+                {
+                    expectedPasses.clear();
+                    numFull++;
+                }
+                else
+                {
+                    numIncremental++;
+                }
+                
+                Collections.sort( expectedPasses );
+                Collections.sort( passes );
+                
+                check( grid, update, "passes", passes, expectedPasses );
+                
+                passes.clear();
+            }
+        }
+        
+        // Recorded data is written in place order, so the drivers move between the instances on playback. No passes can be told then.
+        
+        final int n = MAX_VEHICLES;
+        int[] order = new int[ n ];
+        for ( int i = 0; i < n; i++ )
+            order[i] = i;
+        
+        for ( int update = 0; update < NUM_UPDATES; update++ )
+        {
+            int p = rnd.nextInt( n - 1 );
+            int tmp = order[p];
+            order[p] = order[p + 1];
+            order[p + 1] = tmp;
+            
+            scoringInfo.readFromStream( new ByteArrayInputStream( createData( order, order ) ), null );
+            
+            check( NUM_GRIDS, update, "recorded passes", passes, new ArrayList<String>() );
+            
+            passes.clear();
+        }
+        
+        System.out.println( numIncremental + " incremental updates, " + numFull + " full sorts, " + numChecks + " checks, " + numErrors + " mismatches" );
+    }
+}
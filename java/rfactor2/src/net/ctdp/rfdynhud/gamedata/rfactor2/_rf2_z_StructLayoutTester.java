@@ -0,0 +1,355 @@
+/**
+ * Copyright (C) 2009-2014 Cars and Tracks Development Project (CTDP).
+ * 
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+ */
+package net.ctdp.rfdynhud.gamedata.rfactor2;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Random;
+
+import net.ctdp.rfdynhud.gamedata.StructLayout;
+
+/**
+ * Compares the struct layouts with the offsets, that have formerly been summed up by hand
+ * (packing fixes like the "+1 byte because of silly packing" included),
+ * and round-trips the delta encoding on random data.
+ */
+class _rf2_z_StructLayoutTester
+{
+    private static final int NUM_DELTAS = 1000;
+    
+    private static int numChecks = 0;
+    private static int numErrors = 0;
+    
+    private static void check( StructLayout layout, String field, int index, int expected )
+    {
+        final int offset = layout.getField( field ).getOffset( index );
+        
+        numChecks++;
+        
+        if ( offset != expected )
+        {
+            System.out.println( "    MISMATCH " + layout.getName() + "." + field + "[" + index + "]: " + offset + " (expected " + expected + ")" );
+            numErrors++;
+        }
+    }
+    
+    private static void check( StructLayout layout, String field, int expected )
+    {
+        check( layout, field, 0, expected );
+    }
+    
+    private static void checkSize( StructLayout layout, int expected )
+    {
+        numChecks++;
+        
+        if ( layout.getSize() != expected )
+        {
+            System.out.println( "    MISMATCH sizeof( " + layout.getName() + " ): " + layout.getSize() + " (expected " + expected + ")" );
+            numErrors++;
+        }
+    }
+    
+    private static void testDelta( StructLayout layout, Random rnd ) throws IOException
+    {
+        final int size = layout.getSize();
+        final byte[] previous = new byte[ size ];
+        final byte[] current = new byte[ size ];
+        final int[] changedFields = new int[ layout.getNumFields() ];
+        
+        rnd.nextBytes( previous );
+        
+        int numBytes = 0;
+        
+        for ( int i = 0; i < NUM_DELTAS; i++ )
+        {
+            System.arraycopy( previous, 0, current, 0, size );
+            
+            final int n = rnd.nextInt( 8 );
+            
+            for ( int j = 0; j < n; j++ )
+                current[rnd.nextInt( size )] = (byte)rnd.nextInt();
+            
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            final int numWritten = layout.writeDelta( StructLayout.wrap( previous ), StructLayout.wrap( current ), 0, new DataOutputStream( out ) );
+            numBytes += out.size();
+            
+            ByteBuffer target = StructLayout.wrap( previous.clone() );
+            final int numRead = layout.readDelta( new DataInputStream( new ByteArrayInputStream( out.toByteArray() ) ), target, 0 );
+            
+            numChecks++;
+            
+            if ( ( numRead != numWritten ) || ( layout.getChangedFields( target, 0, StructLayout.wrap( current ), 0, changedFields ) != 0 ) )
+            {
+                System.out.println( "    MISMATCH delta round trip of " + layout.getName() + " in iteration " + i );
+                numErrors++;
+                
+                return;
+            }
+            
+            System.arraycopy( current, 0, previous, 0, size );
+        }
+        
+        System.out.println( "    " + layout.getName() + ": " + ( numBytes / NUM_DELTAS ) + " bytes per delta (" + size + " bytes per struct)" );
+    }
+    
+    public static void main( String[] args ) throws IOException
+    {
+        System.out.println( "_rf2_TelemetryData" );
+        check( _rf2_TelemetryData.LAYOUT, "mID", 0 );
+        check( _rf2_TelemetryData.LAYOUT, "mDeltaTime", 4 );
+        check( _rf2_TelemetryData.LAYOUT, "mElapsedTime", 12 );
+        check( _rf2_TelemetryData.LAYOUT, "mLapNumber", 20 );
+        check( _rf2_TelemetryData.LAYOUT, "mLapStartET", 24 );
+        check( _rf2_TelemetryData.LAYOUT, "mVehicleName", 32 );
+        check( _rf2_TelemetryData.LAYOUT, "mTrackName", 96 );
+        check( _rf2_TelemetryData.LAYOUT, "mPos", 160 );
+        check( _rf2_TelemetryData.LAYOUT, "mLocalVel", 184 );
+        check( _rf2_TelemetryData.LAYOUT, "mLocalAccel", 208 );
+        check( _rf2_TelemetryData.LAYOUT, "mOri", 232 );
+        check( _rf2_TelemetryData.LAYOUT, "mLocalRot", 304 );
+        check( _rf2_TelemetryData.LAYOUT, "mLocalRotAccel", 328 );
+        check( _rf2_TelemetryData.LAYOUT, "mGear", 352 );
+        check( _rf2_TelemetryData.LAYOUT, "mEngineRPM", 356 );
+        check( _rf2_TelemetryData.LAYOUT, "mEngineWaterTemp", 364 );
+        check( _rf2_TelemetryData.LAYOUT, "mEngineOilTemp", 372 );
+        check( _rf2_TelemetryData.LAYOUT, "mClutchRPM", 380 );
+        check( _rf2_TelemetryData.LAYOUT, "mUnfilteredThrottle", 388 );
+        check( _rf2_TelemetryData.LAYOUT, "mUnfilteredBrake", 396 );
+        check( _rf2_TelemetryData.LAYOUT, "mUnfilteredSteering", 404 );
+        check( _rf2_TelemetryData.LAYOUT, "mUnfilteredClutch", 412 );
+        check( _rf2_TelemetryData.LAYOUT, "mFilteredThrottle", 420 );
+        check( _rf2_TelemetryData.LAYOUT, "mFilteredBrake", 428 );
+        check( _rf2_TelemetryData.LAYOUT, "mFilteredSteering", 436 );
+        check( _rf2_TelemetryData.LAYOUT, "mFilteredClutch", 444 );
+        check( _rf2_TelemetryData.LAYOUT, "mSteeringArmForce", 452 );
+        check( _rf2_TelemetryData.LAYOUT, "mFront3rdDeflection", 460 );
+        check( _rf2_TelemetryData.LAYOUT, "mRear3rdDeflection", 468 );
+        check( _rf2_TelemetryData.LAYOUT, "mFrontWingHeight", 476 );
+        check( _rf2_TelemetryData.LAYOUT, "mFrontRideHeight", 484 );
+        check( _rf2_TelemetryData.LAYOUT, "mRearRideHeight", 492 );
+        check( _rf2_TelemetryData.LAYOUT, "mDrag", 500 );
+        check( _rf2_TelemetryData.LAYOUT, "mFrontDownforce", 508 );
+        check( _rf2_TelemetryData.LAYOUT, "mRearDownforce", 516 );
+        check( _rf2_TelemetryData.LAYOUT, "mFuel", 524 );
+        check( _rf2_TelemetryData.LAYOUT, "mEngineMaxRPM", 532 );
+        check( _rf2_TelemetryData.LAYOUT, "mScheduledStops", 540 );
+        check( _rf2_TelemetryData.LAYOUT, "mOverheating", 541 );
+        check( _rf2_TelemetryData.LAYOUT, "mDetached", 542 );
+        check( _rf2_TelemetryData.LAYOUT, "mHeadlights", 543 );
+        check( _rf2_TelemetryData.LAYOUT, "mDentSeverity", 544 );
+        check( _rf2_TelemetryData.LAYOUT, "mLastImpactET", 552 );
+        check( _rf2_TelemetryData.LAYOUT, "mLastImpactMagnitude", 560 );
+        check( _rf2_TelemetryData.LAYOUT, "mLastImpactPos", 568 );
+        check( _rf2_TelemetryData.LAYOUT, "mEngineTq", 592 );
+        check( _rf2_TelemetryData.LAYOUT, "mCurrentSector", 600 );
+        check( _rf2_TelemetryData.LAYOUT, "mSpeedLimiter", 604 );
+        check( _rf2_TelemetryData.LAYOUT, "mMaxGears", 605 );
+        check( _rf2_TelemetryData.LAYOUT, "mFrontTireCompoundIndex", 606 );
+        check( _rf2_TelemetryData.LAYOUT, "mRearTireCompoundIndex", 607 );
+        check( _rf2_TelemetryData.LAYOUT, "mFuelCapacity", 608 );
+        check( _rf2_TelemetryData.LAYOUT, "mFrontFlapActivated", 616 );
+        check( _rf2_TelemetryData.LAYOUT, "mRearFlapActivated", 617 );
+        check( _rf2_TelemetryData.LAYOUT, "mRearFlapLegalStatus", 618 );
+        check( _rf2_TelemetryData.LAYOUT, "mIgnitionStarter", 619 );
+        check( _rf2_TelemetryData.LAYOUT, "mFrontTireCompoundName", 620 );
+        check( _rf2_TelemetryData.LAYOUT, "mRearTireCompoundName", 638 );
+        check( _rf2_TelemetryData.LAYOUT, "mExpansion", 656 );
+        check( _rf2_TelemetryData.WHEEL_LAYOUT, "mSuspensionDeflection", 0 );
+        check( _rf2_TelemetryData.WHEEL_LAYOUT, "mRideHeight", 8 );
+        check( _rf2_TelemetryData.WHEEL_LAYOUT, "mSuspForce", 16 );
+        check( _rf2_TelemetryData.WHEEL_LAYOUT, "mBrakeTemp", 24 );
+        check( _rf2_TelemetryData.WHEEL_LAYOUT, "mBrakePressure", 32 );
+        check( _rf2_TelemetryData.WHEEL_LAYOUT, "mRotation", 40 );
+        check( _rf2_TelemetryData.WHEEL_LAYOUT, "mLateralPatchVel", 48 );
+        check( _rf2_TelemetryData.WHEEL_LAYOUT, "mLongitudinalPatchVel", 56 );
+        check( _rf2_TelemetryData.WHEEL_LAYOUT, "mLateralGroundVel", 64 );
+        check( _rf2_TelemetryData.WHEEL_LAYOUT, "mLongitudinalGroundVel", 72 );
+        check( _rf2_TelemetryData.WHEEL_LAYOUT, "mCamber", 80 );
+        check( _rf2_TelemetryData.WHEEL_LAYOUT, "mLateralForce", 88 );
+        check( _rf2_TelemetryData.WHEEL_LAYOUT, "mLongitudinalForce", 96 );
+        check( _rf2_TelemetryData.WHEEL_LAYOUT, "mTireLoad", 104 );
+        check( _rf2_TelemetryData.WHEEL_LAYOUT, "mGripFract", 112 );
+        check( _rf2_TelemetryData.WHEEL_LAYOUT, "mPressure", 120 );
+        check( _rf2_TelemetryData.WHEEL_LAYOUT, "mTemperature", 128 );
+        check( _rf2_TelemetryData.WHEEL_LAYOUT, "mWear", 152 );
+        check( _rf2_TelemetryData.WHEEL_LAYOUT, "mTerrainName", 160 );
+        check( _rf2_TelemetryData.WHEEL_LAYOUT, "mSurfaceType", 176 );
+        check( _rf2_TelemetryData.WHEEL_LAYOUT, "mFlat", 177 );
+        check( _rf2_TelemetryData.WHEEL_LAYOUT, "mDetached", 178 );
+        check( _rf2_TelemetryData.WHEEL_LAYOUT, "mVerticalTireDeflection", 180 );
+        check( _rf2_TelemetryData.WHEEL_LAYOUT, "mWheelYLocation", 188 );
+        check( _rf2_TelemetryData.WHEEL_LAYOUT, "mToe", 196 );
+        check( _rf2_TelemetryData.WHEEL_LAYOUT, "mExpansion", 204 );
+        check( _rf2_TelemetryData.LAYOUT, "mWheel", 848 );
+        check( _rf2_TelemetryData.LAYOUT, "mOri", 1, 256 );
+        check( _rf2_TelemetryData.LAYOUT, "mOri", 2, 280 );
+        
+        System.out.println( "_rf2_GraphicsInfo" );
+        check( _rf2_GraphicsInfo.LAYOUT, "mCamPos", 0 );
+        check( _rf2_GraphicsInfo.LAYOUT, "mCamOri", 24 );
+        check( _rf2_GraphicsInfo.LAYOUT, "mHWND", 96 );
+        check( _rf2_GraphicsInfo.LAYOUT, "mAmbientRed", 100 );
+        check( _rf2_GraphicsInfo.LAYOUT, "mAmbientGreen", 108 );
+        check( _rf2_GraphicsInfo.LAYOUT, "mAmbientBlue", 116 );
+        check( _rf2_GraphicsInfo.LAYOUT, "mID", 124 );
+        check( _rf2_GraphicsInfo.LAYOUT, "mCameraType", 128 );
+        check( _rf2_GraphicsInfo.LAYOUT, "mExpansion", 132 );
+        
+        System.out.println( "_rf2_DrivingAids" );
+        check( _rf2_DrivingAids.LAYOUT, "mTractionControl", 0 );
+        check( _rf2_DrivingAids.LAYOUT, "mAntiLockBrakes", 1 );
+        check( _rf2_DrivingAids.LAYOUT, "mStabilityControl", 2 );
+        check( _rf2_DrivingAids.LAYOUT, "mAutoShift", 3 );
+        check( _rf2_DrivingAids.LAYOUT, "mAutoClutch", 4 );
+        check( _rf2_DrivingAids.LAYOUT, "mInvulnerable", 5 );
+        check( _rf2_DrivingAids.LAYOUT, "mOppositeLock", 6 );
+        check( _rf2_DrivingAids.LAYOUT, "mSteeringHelp", 7 );
+        check( _rf2_DrivingAids.LAYOUT, "mBrakingHelp", 8 );
+        check( _rf2_DrivingAids.LAYOUT, "mSpinRecovery", 9 );
+        check( _rf2_DrivingAids.LAYOUT, "mAutoPit", 10 );
+        check( _rf2_DrivingAids.LAYOUT, "mAutoLift", 11 );
+        check( _rf2_DrivingAids.LAYOUT, "mAutoBlip", 12 );
+        check( _rf2_DrivingAids.LAYOUT, "mFuelMult", 13 );
+        check( _rf2_DrivingAids.LAYOUT, "mTireMult", 14 );
+        check( _rf2_DrivingAids.LAYOUT, "mMechFail", 15 );
+        check( _rf2_DrivingAids.LAYOUT, "mAllowPitcrewPush", 16 );
+        check( _rf2_DrivingAids.LAYOUT, "mRepeatShifts", 17 );
+        check( _rf2_DrivingAids.LAYOUT, "mHoldClutch", 18 );
+        check( _rf2_DrivingAids.LAYOUT, "mAutoReverse", 19 );
+        check( _rf2_DrivingAids.LAYOUT, "mAlternateNeutral", 20 );
+        check( _rf2_DrivingAids.LAYOUT, "mManualShiftOverrideTime", 24 );
+        check( _rf2_DrivingAids.LAYOUT, "mAutoShiftOverrideTime", 28 );
+        check( _rf2_DrivingAids.LAYOUT, "mSpeedSensitiveSteering", 32 );
+        check( _rf2_DrivingAids.LAYOUT, "mSteerRatioSpeed", 36 );
+        
+        System.out.println( "_rf2_CommentaryRequestInfo" );
+        check( _rf2_CommentaryRequestInfo.LAYOUT, "mName", 0 );
+        check( _rf2_CommentaryRequestInfo.LAYOUT, "mInput1", 32 );
+        check( _rf2_CommentaryRequestInfo.LAYOUT, "mInput2", 40 );
+        check( _rf2_CommentaryRequestInfo.LAYOUT, "mInput3", 48 );
+        check( _rf2_CommentaryRequestInfo.LAYOUT, "mSkipChecks", 56 );
+        
+        System.out.println( "_rf2_ScoringInfo" );
+        check( _rf2_ScoringInfo.LAYOUT, "mTrackName", 0 );
+        check( _rf2_ScoringInfo.LAYOUT, "mSession", 64 );
+        check( _rf2_ScoringInfo.LAYOUT, "mCurrentET", 68 );
+        check( _rf2_ScoringInfo.LAYOUT, "mEndET", 76 );
+        check( _rf2_ScoringInfo.LAYOUT, "mMaxLaps", 84 );
+        check( _rf2_ScoringInfo.LAYOUT, "mLapDist", 88 );
+        check( _rf2_ScoringInfo.LAYOUT, "mResultsStream", 96 );
+        check( _rf2_ScoringInfo.LAYOUT, "mNumVehicles", 100 );
+        check( _rf2_ScoringInfo.LAYOUT, "mGamePhase", 104 );
+        check( _rf2_ScoringInfo.LAYOUT, "mYellowFlagState", 105 );
+        check( _rf2_ScoringInfo.LAYOUT, "mSectorFlag", 106 );
+        check( _rf2_ScoringInfo.LAYOUT, "mStartLight", 109 );
+        check( _rf2_ScoringInfo.LAYOUT, "mNumRedLights", 110 );
+        check( _rf2_ScoringInfo.LAYOUT, "mInRealtime", 111 );
+        check( _rf2_ScoringInfo.LAYOUT, "mPlayerName", 112 );
+        check( _rf2_ScoringInfo.LAYOUT, "mPlrFileName", 144 );
+        check( _rf2_ScoringInfo.LAYOUT, "mDarkCloud", 208 );
+        check( _rf2_ScoringInfo.LAYOUT, "mRaining", 216 );
+        check( _rf2_ScoringInfo.LAYOUT, "mAmbientTemp", 224 );
+        check( _rf2_ScoringInfo.LAYOUT, "mTrackTemp", 232 );
+        check( _rf2_ScoringInfo.LAYOUT, "mWind", 240 );
+        check( _rf2_ScoringInfo.LAYOUT, "mOnPathWetness", 264 );
+        check( _rf2_ScoringInfo.LAYOUT, "mOffPathWetness", 272 );
+        check( _rf2_ScoringInfo.LAYOUT, "mModName", 280 );
+        check( _rf2_ScoringInfo.LAYOUT, "mModVersion", 328 );
+        check( _rf2_ScoringInfo.LAYOUT, "mExpansion", 344 );
+        check( _rf2_ScoringInfo.LAYOUT, "mVehicle", 536 );
+        
+        System.out.println( "_rf2_VehicleScoringInfo" );
+        check( _rf2_VehicleScoringInfo.LAYOUT, "mID", 0 );
+        check( _rf2_VehicleScoringInfo.LAYOUT, "mDriverName", 4 );
+        check( _rf2_VehicleScoringInfo.LAYOUT, "mVehicleName", 36 );
+        check( _rf2_VehicleScoringInfo.LAYOUT, "mTotalLaps", 100 );
+        check( _rf2_VehicleScoringInfo.LAYOUT, "mSector", 102 );
+        check( _rf2_VehicleScoringInfo.LAYOUT, "mFinishStatus", 103 );
+        check( _rf2_VehicleScoringInfo.LAYOUT, "mLapDist", 104 );
+        check( _rf2_VehicleScoringInfo.LAYOUT, "mPathLateral", 112 );
+        check( _rf2_VehicleScoringInfo.LAYOUT, "mTrackEdge", 120 );
+        check( _rf2_VehicleScoringInfo.LAYOUT, "mBestSector1", 128 );
+        check( _rf2_VehicleScoringInfo.LAYOUT, "mBestSector2", 136 );
+        check( _rf2_VehicleScoringInfo.LAYOUT, "mBestLapTime", 144 );
+        check( _rf2_VehicleScoringInfo.LAYOUT, "mLastSector1", 152 );
+        check( _rf2_VehicleScoringInfo.LAYOUT, "mLastSector2", 160 );
+        check( _rf2_VehicleScoringInfo.LAYOUT, "mLastLapTime", 168 );
+        check( _rf2_VehicleScoringInfo.LAYOUT, "mCurSector1", 176 );
+        check( _rf2_VehicleScoringInfo.LAYOUT, "mCurSector2", 184 );
+        check( _rf2_VehicleScoringInfo.LAYOUT, "mNumPitstops", 192 );
+        check( _rf2_VehicleScoringInfo.LAYOUT, "mNumPenalties", 194 );
+        check( _rf2_VehicleScoringInfo.LAYOUT, "mIsPlayer", 196 );
+        check( _rf2_VehicleScoringInfo.LAYOUT, "mControl", 197 );
+        check( _rf2_VehicleScoringInfo.LAYOUT, "mInPits", 198 );
+        check( _rf2_VehicleScoringInfo.LAYOUT, "mPlace", 199 );
+        check( _rf2_VehicleScoringInfo.LAYOUT, "mVehicleClass", 200 );
+        check( _rf2_VehicleScoringInfo.LAYOUT, "mTimeBehindNext", 232 );
+        check( _rf2_VehicleScoringInfo.LAYOUT, "mLapsBehindNext", 240 );
+        check( _rf2_VehicleScoringInfo.LAYOUT, "mTimeBehindLeader", 244 );
+        check( _rf2_VehicleScoringInfo.LAYOUT, "mLapsBehindLeader", 252 );
+        check( _rf2_VehicleScoringInfo.LAYOUT, "mLapStartET", 256 );
+        check( _rf2_VehicleScoringInfo.LAYOUT, "mPos", 264 );
+        check( _rf2_VehicleScoringInfo.LAYOUT, "mLocalVel", 288 );
+        check( _rf2_VehicleScoringInfo.LAYOUT, "mLocalAccel", 312 );
+        check( _rf2_VehicleScoringInfo.LAYOUT, "mOri", 336 );
+        check( _rf2_VehicleScoringInfo.LAYOUT, "mLocalRot", 408 );
+        check( _rf2_VehicleScoringInfo.LAYOUT, "mLocalRotAccel", 432 );
+        check( _rf2_VehicleScoringInfo.LAYOUT, "mHeadlights", 456 );
+        check( _rf2_VehicleScoringInfo.LAYOUT, "mPitState", 457 );
+        check( _rf2_VehicleScoringInfo.LAYOUT, "mServerScored", 458 );
+        check( _rf2_VehicleScoringInfo.LAYOUT, "mIndividualPhase", 459 );
+        check( _rf2_VehicleScoringInfo.LAYOUT, "mQualification", 460 );
+        check( _rf2_VehicleScoringInfo.LAYOUT, "mTimeIntoLap", 464 );
+        check( _rf2_VehicleScoringInfo.LAYOUT, "mEstimatedLapTime", 472 );
+        check( _rf2_VehicleScoringInfo.LAYOUT, "mPitGroup", 480 );
+        check( _rf2_VehicleScoringInfo.LAYOUT, "mFlag", 504 );
+        check( _rf2_VehicleScoringInfo.LAYOUT, "mUnused1", 505 );
+        check( _rf2_VehicleScoringInfo.LAYOUT, "mUnused2", 506 );
+        check( _rf2_VehicleScoringInfo.LAYOUT, "mUnused3", 507 );
+        check( _rf2_VehicleScoringInfo.LAYOUT, "mUpgradePack", 508 );
+        check( _rf2_VehicleScoringInfo.LAYOUT, "mExpansion", 524 );
+        check( _rf2_VehicleScoringInfo.LAYOUT, "mOri", 1, 360 );
+        check( _rf2_VehicleScoringInfo.LAYOUT, "mOri", 2, 384 );
+        
+        System.out.println( "sizes" );
+        checkSize( _rf2_TelemetryData.WHEEL_LAYOUT, 260 );
+        checkSize( _rf2_TelemetryData.LAYOUT, 1888 );
+        checkSize( _rf2_GraphicsInfo.LAYOUT, 260 );
+        checkSize( _rf2_DrivingAids.LAYOUT, 40 );
+        checkSize( _rf2_CommentaryRequestInfo.LAYOUT, 60 );
+        checkSize( _rf2_ScoringInfo.LAYOUT, 540 );
+        checkSize( _rf2_VehicleScoringInfo.LAYOUT, 584 );
+        
+        System.out.println( "delta encoding" );
+        
+        final Random rnd = new Random( 4711 );
+        
+        testDelta( _rf2_TelemetryData.LAYOUT, rnd );
+        testDelta( _rf2_GraphicsInfo.LAYOUT, rnd );
+        testDelta( _rf2_DrivingAids.LAYOUT, rnd );
+        testDelta( _rf2_CommentaryRequestInfo.LAYOUT, rnd );
+        testDelta( _rf2_ScoringInfo.LAYOUT, rnd );
+        testDelta( _rf2_VehicleScoringInfo.LAYOUT, rnd );
+        
+        System.out.println( numChecks + " checks, " + numErrors + " mismatches" );
+    }
+}
@@ -27,7 +27,13 @@ import net.ctdp.rfdynhud.input.InputDeviceManager;
 import net.ctdp.rfdynhud.input.InputMappings;
 import net.ctdp.rfdynhud.input.InputMappingsManager;
 import net.ctdp.rfdynhud.render.ByteOrderInitializer;
+import net.ctdp.rfdynhud.render.DirtyRectsCoalescer;
+import net.ctdp.rfdynhud.render.GlyphAtlas;
+import net.ctdp.rfdynhud.render.PixelCompositor;
+import net.ctdp.rfdynhud.render.RenderPipeline;
 import net.ctdp.rfdynhud.render.TextureDirtyRectsManager;
+import net.ctdp.rfdynhud.render.TextureImage2D;
+import net.ctdp.rfdynhud.render.WidgetProfiler;
 import net.ctdp.rfdynhud.render.WidgetsDrawingManager;
 import net.ctdp.rfdynhud.util.FontUtils;
 import net.ctdp.rfdynhud.util.RFDHLog;
@@ -66,6 +72,8 @@ public class RFDynHUD
     
     private boolean renderMode = false;
     
+    private final boolean directTextureBuffers;
+    
     public final String getGameId()
     {
         return ( gameId );
@@ -96,6 +104,22 @@ public class RFDynHUD
         return ( drawingManager.getTexture( textureIndex ).getTextureData() );
     }
     
+    /**
+     * Gets the off-heap copy of the texture's pixels, that the native side reads through its address instead of pinning
+     * the array returned by {@link #getTextureData(int)}. The buffer stays the same for the texture's lifetime.
+     * 
+     * @param textureIndex the texture index
+     * 
+     * @return the off-heap copy or <code>null</code>, if direct texture buffers are disabled.
+     */
+    public final ByteBuffer getTextureBuffer( int textureIndex )
+    {
+        if ( !directTextureBuffers )
+            return ( null );
+        
+        return ( drawingManager.getTexture( textureIndex ).getTextureBuffer() );
+    }
+    
     public final LiveGameData getGameData()
     {
         return ( gameData );
@@ -123,6 +147,8 @@ public class RFDynHUD
     
     public void initInput( byte[] deviceData )
     {
+        waitForRenderThread();
+        
         try
         {
             inputDeviceManager.decodeData( deviceData );
@@ -144,6 +170,8 @@ public class RFDynHUD
     
     public byte updateInput( int modifierMask )
     {
+        waitForRenderThread();
+        
         try
         {
             int pluginEnabled = inputMappingsManager.update( eventsManager, drawingManager, gameData, false, modifierMask );
@@ -185,32 +213,124 @@ public class RFDynHUD
     
     private int lastConfigId = -1;
     
+    private RenderPipeline renderPipeline = null;
+    private boolean frameHasWaitingWidgets = false;
+    private boolean frameNewConfig = false;
+    
     /**
-     * Will and must be called any time, the game is redendered (called from the C++-Plugin).
+     * Waits for the render thread to finish the frame it is currently drawing.
+     * Returns immediately, if pipelined rendering is disabled.
+     */
+    public final void waitForRenderThread()
+    {
+        if ( renderPipeline != null )
+            renderPipeline.waitForFrame();
+    }
+    
+    /**
+     * Gets whether the widgets are drawn on a dedicated render thread.
      * 
-     * @return 0, if nothing should be rendered anymore, 1 to render something, 2 to render and update texture info.
+     * @return whether the widgets are drawn on a dedicated render thread.
      */
-    public final byte update()
+    public final boolean isRenderingPipelined()
     {
-        byte result = 1;
+        return ( renderPipeline != null );
+    }
+    
+    /**
+     * Pipelined version of {@link #update()}. Frame N, which has been drawn by the render thread, is handed to the game
+     * and the render thread is started on frame N+1.<br>
+     * New textures haven't got a completed frame to display yet. In this case the frame is drawn synchronously,
+     * so that no partly drawn buffer is ever handed to the game.
+     */
+    private void updatePipelined()
+    {
+        renderPipeline.waitForFrame();
         
-        try
+        // The render thread is idle now. So the data updates captured during the last frame can be applied.
+        eventsManager.applyDeferredDataUpdates();
+        
+        final int n = drawingManager.getNumTextures();
+        
+        boolean hasNewTextures = false;
+        for ( int i = 0; i < n; i++ )
+        {
+            if ( !drawingManager.getTexture( i ).getTexture().isDoubleBuffered() )
+            {
+                hasNewTextures = true;
+                break;
+            }
+        }
+        
+        boolean newConfig = ( drawingManager.getWidgetsConfiguration().getId() != lastConfigId );
+        lastConfigId = drawingManager.getWidgetsConfiguration().getId();
+        
+        if ( hasNewTextures )
         {
-            boolean newConfig = ( drawingManager.getWidgetsConfiguration().getId() != lastConfigId );
-            lastConfigId = drawingManager.getWidgetsConfiguration().getId();
-            
             __GDPrivilegedAccess.updateSessionTime( gameData, false, System.nanoTime() );
             
             drawingManager.refreshTextureInfoBuffer( false, gameData, newConfig );
             
             drawingManager.drawWidgets( gameData, false, eventsManager.hasWaitingWidgets(), newConfig );
-            //TextureDirtyRectsManager.drawDirtyRects( overlay );
             
-            int n = drawingManager.getNumTextures();
             for ( int i = 0; i < n; i++ )
             {
+                drawingManager.getTexture( i ).getTexture().swapBuffers();
                 TextureDirtyRectsManager.getDirtyRects( drawingManager.getTexture( i ).getTexture(), drawingManager.getTexture( i ).getDirtyRectsBuffer(), true );
             }
+            
+            return;
+        }
+        
+        for ( int i = 0; i < n; i++ )
+        {
+            drawingManager.getTexture( i ).getTexture().swapBuffers();
+            TextureDirtyRectsManager.getDirtyRects( drawingManager.getTexture( i ).getTexture(), drawingManager.getTexture( i ).getDirtyRectsBuffer(), true );
+        }
+        
+        __GDPrivilegedAccess.updateSessionTime( gameData, false, System.nanoTime() );
+        
+        drawingManager.refreshTextureInfoBuffer( false, gameData, newConfig );
+        
+        frameHasWaitingWidgets = eventsManager.hasWaitingWidgets();
+        frameNewConfig = newConfig;
+        
+        renderPipeline.startFrame();
+    }
+    
+    /**
+     * Will and must be called any time, the game is redendered (called from the C++-Plugin).
+     * 
+     * @return 0, if nothing should be rendered anymore, 1 to render something, 2 to render and update texture info.
+     */
+    public final byte update()
+    {
+        byte result = 1;
+        
+        try
+        {
+            if ( renderPipeline != null )
+            {
+                updatePipelined();
+            }
+            else
+            {
+                boolean newConfig = ( drawingManager.getWidgetsConfiguration().getId() != lastConfigId );
+                lastConfigId = drawingManager.getWidgetsConfiguration().getId();
+                
+                __GDPrivilegedAccess.updateSessionTime( gameData, false, System.nanoTime() );
+                
+                drawingManager.refreshTextureInfoBuffer( false, gameData, newConfig );
+                
+                drawingManager.drawWidgets( gameData, false, eventsManager.hasWaitingWidgets(), newConfig );
+                //TextureDirtyRectsManager.drawDirtyRects( overlay );
+                
+                int n = drawingManager.getNumTextures();
+                for ( int i = 0; i < n; i++ )
+                {
+                    TextureDirtyRectsManager.getDirtyRects( drawingManager.getTexture( i ).getTexture(), drawingManager.getTexture( i ).getDirtyRectsBuffer(), true );
+                }
+            }
         }
         catch ( Throwable t )
         {
@@ -258,6 +378,38 @@ public class RFDynHUD
         
         FontUtils.loadCustomFonts( gameData.getFileSystem() );
         
+        TextureImage2D.setPixelCompositor( PixelCompositor.parse( gameData.getFileSystem().getPluginINI().getRenderingPixelCompositor(), PixelCompositor.FIXED_POINT ) );
+        RFDHLog.printlnEx( "    Using pixel compositor " + TextureImage2D.getPixelCompositor().getName() + "." );
+        if ( gameData.getFileSystem().getPluginINI().getRenderingGlyphAtlasMaxPages() >= 0 )
+            GlyphAtlas.setMaxPages( gameData.getFileSystem().getPluginINI().getRenderingGlyphAtlasMaxPages() );
+        int dirtyRectOverhead = gameData.getFileSystem().getPluginINI().getRenderingDirtyRectOverhead();
+        int maxDirtyRects = gameData.getFileSystem().getPluginINI().getRenderingMaxDirtyRects();
+        TextureDirtyRectsManager.setCoalescer( new DirtyRectsCoalescer( ( dirtyRectOverhead < 0 ) ? DirtyRectsCoalescer.DEFAULT_RECT_OVERHEAD : dirtyRectOverhead, ( maxDirtyRects < 1 ) ? DirtyRectsCoalescer.DEFAULT_MAX_RECTS : maxDirtyRects ) );
+        RFDHLog.printlnEx( "    Using dirty rects policy " + TextureDirtyRectsManager.getCoalescer() + "." );
+        int renderThreads = gameData.getFileSystem().getPluginINI().getRenderingRenderThreads();
+        drawingManager.setNumRenderThreads( ( renderThreads < 0 ) ? Runtime.getRuntime().availableProcessors() : renderThreads );
+        RFDHLog.printlnEx( "    Drawing widgets with " + drawingManager.getNumRenderThreads() + " thread(s)." );
+        if ( gameData.getFileSystem().getPluginINI().isRenderingWidgetProfiler() )
+        {
+            drawingManager.setWidgetProfiler( new WidgetProfiler( WidgetProfiler.DEFAULT_WINDOW_SIZE, gameData.getFileSystem().getPluginINI().getRenderingWidgetProfilerCSVInterval(), __UtilHelper.LOG_FOLDER ) );
+            RFDHLog.printlnEx( "    Widget profiler enabled." );
+        }
+        this.directTextureBuffers = gameData.getFileSystem().getPluginINI().isRenderingDirectTextureBuffers();
+        if ( directTextureBuffers )
+            RFDHLog.printlnEx( "    Using off-heap texture buffers." );
+        if ( gameData.getFileSystem().getPluginINI().isRenderingPipelined() )
+        {
+            this.renderPipeline = new RenderPipeline( new Runnable()
+            {
+                @Override
+                public void run()
+                {
+                    drawingManager.drawWidgets( gameData, false, frameHasWaitingWidgets, frameNewConfig );
+                }
+            } );
+            RFDHLog.printlnEx( "    Drawing widgets on a dedicated render thread (one frame latency)." );
+        }
+        
         this.inputDeviceManager = new InputDeviceManager();
         this.inputMappingsManager = new InputMappingsManager( this );
         
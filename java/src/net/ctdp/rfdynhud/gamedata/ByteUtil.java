@@ -17,8 +17,11 @@
  */
 package net.ctdp.rfdynhud.gamedata;
 
+import java.nio.ByteBuffer;
+
 /**
- * Static methods to read primitive types from a byte array.
+ * Static methods to read primitive types from a byte array.<br>
+ * The ByteBuffer variants read in place with absolute offsets. The buffers must be in little endian order.
  * 
  * @author Marvin Froehlich (CTDP)
  */
@@ -230,4 +233,87 @@ public class ByteUtil
         return ( new String( buffer, offset, length ) );
         
     }
+    
+    public static final byte readByte( final ByteBuffer buffer, final int offset )
+    {
+        return ( buffer.get( offset ) );
+    }
+    
+    public static final short readUnsignedByte( final ByteBuffer buffer, final int offset )
+    {
+        return ( (short)( buffer.get( offset ) & 0xFF ) );
+    }
+    
+    public static final boolean readBoolean( final ByteBuffer buffer, final int offset )
+    {
+        return ( buffer.get( offset ) != 0 );
+    }
+    
+    public static final short readShort( final ByteBuffer buffer, final int offset )
+    {
+        return ( buffer.getShort( offset ) );
+    }
+    
+    public static final int readUnsignedShort( final ByteBuffer buffer, final int offset )
+    {
+        return ( buffer.getShort( offset ) & 0xFFFF );
+    }
+    
+    public static final int readInt( final ByteBuffer buffer, final int offset )
+    {
+        return ( buffer.getInt( offset ) );
+    }
+    
+    public static final long readUnsignedInt( final ByteBuffer buffer, final int offset )
+    {
+        return ( buffer.getInt( offset ) );
+    }
+    
+    public static final long readLong( final ByteBuffer buffer, final int offset )
+    {
+        return ( buffer.getInt( offset ) );
+    }
+    
+    public static final float readFloat( final ByteBuffer buffer, final int offset )
+    {
+        return ( buffer.getFloat( offset ) );
+    }
+    
+    public static final double readDouble( final ByteBuffer buffer, final int offset )
+    {
+        return ( buffer.getDouble( offset ) );
+    }
+    
+    public static final void readVectorF( final ByteBuffer buffer, final int offset, TelemVect3 vector )
+    {
+        vector.x = buffer.getFloat( offset + 0 * ByteUtil.SIZE_FLOAT );
+        vector.y = buffer.getFloat( offset + 1 * ByteUtil.SIZE_FLOAT );
+        vector.z = buffer.getFloat( offset + 2 * ByteUtil.SIZE_FLOAT );
+    }
+    
+    public static final void readVectorD( final ByteBuffer buffer, final int offset, TelemVect3 vector )
+    {
+        vector.x = (float)buffer.getDouble( offset + 0 * ByteUtil.SIZE_DOUBLE );
+        vector.y = (float)buffer.getDouble( offset + 1 * ByteUtil.SIZE_DOUBLE );
+        vector.z = (float)buffer.getDouble( offset + 2 * ByteUtil.SIZE_DOUBLE );
+    }
+    
+    public static final String readString( final ByteBuffer buffer, final int offset, final int maxLength )
+    {
+        int length = maxLength;
+        for ( int i = 0; i < maxLength; i++ )
+        {
+            if ( buffer.get( offset + i ) == (byte)0 )
+            {
+                length = i;
+                break;
+            }
+        }
+        
+        byte[] bytes = new byte[ length ];
+        for ( int i = 0; i < length; i++ )
+            bytes[i] = buffer.get( offset + i );
+        
+        return ( new String( bytes, 0, length ) );
+    }
 }
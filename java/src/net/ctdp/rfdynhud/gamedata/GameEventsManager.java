@@ -152,6 +152,24 @@ public abstract class GameEventsManager implements ConfigurationLoadListener
         }
     }
     
+    private void addWidgetProfilerWidget()
+    {
+        if ( widgetsManager.getWidgetProfiler() == null )
+            return;
+        
+        if ( !widgetsManager.getWidgetsConfiguration().isValid() )
+            return;
+        
+        net.ctdp.rfdynhud.widgets.internal.WidgetProfilerWidget profilerWidget = new net.ctdp.rfdynhud.widgets.internal.WidgetProfilerWidget();
+        profilerWidget.setProfiler( widgetsManager.getWidgetProfiler() );
+        __WCPrivilegedAccess.addWidget( widgetsManager.getWidgetsConfiguration(), profilerWidget, true, gameData );
+        profilerWidget.getSize().setEffectiveSize( net.ctdp.rfdynhud.widgets.internal.WidgetProfilerWidget.WIDTH, net.ctdp.rfdynhud.widgets.internal.WidgetProfilerWidget.HEIGHT );
+        profilerWidget.getPosition().setEffectivePosition( RelativePositioning.TOP_LEFT, 10, 10 );
+        
+        AbstractPropertiesKeeper.attachKeeper( profilerWidget, true );
+        __WCPrivilegedAccess.sortWidgets( widgetsManager.getWidgetsConfiguration() );
+    }
+    
     /**
      * {@inheritDoc}
      */
@@ -176,6 +194,8 @@ public abstract class GameEventsManager implements ConfigurationLoadListener
         needsOnVehicleControlChangedEvent = true;
         texturesRequested = true;
         validateInputBindings();
+        if ( !isEditorMode )
+            addWidgetProfilerWidget();
         
         eventsDispatcher.fireAfterWidgetsConfigurationLoaded( renderListenersManager, gameData, widgetsConfig );
         
@@ -188,6 +208,55 @@ public abstract class GameEventsManager implements ConfigurationLoadListener
         RFDHLog.debug( "INFO: Free heap space memory: " + Tools.formatBytes( runtime.freeMemory() ) + " / " + Tools.formatBytes( runtime.totalMemory() ) + " / " + Tools.formatBytes( runtime.maxMemory() ) );
     }
     
+    /**
+     * Waits for a pipelined render thread to finish the frame it is currently drawing.
+     * Must be called before any game data or widget state is modified from the game thread.
+     */
+    protected final void waitForRenderThread()
+    {
+        if ( rfDynHUD != null )
+            rfDynHUD.waitForRenderThread();
+    }
+    
+    /**
+     * Checks, whether a data update may be captured into a back buffer instead of waiting for a pipelined render thread.
+     * This is only done in the steady state, where the update cannot change anything but the data itself
+     * (no data, setup or textures pending).
+     * 
+     * @param now the current timestamp
+     * 
+     * @return whether the data update may be deferred to the start of the next frame.
+     */
+    private boolean canDeferDataUpdate( long now )
+    {
+        if ( ( rfDynHUD == null ) || !rfDynHUD.isRenderingPipelined() )
+            return ( false );
+        
+        return ( sessionRunning && !waitingForData && !waitingForSetup && ( now > setupReloadTryTime ) && !texturesRequested && gameData.getProfileInfo().isValid() );
+    }
+    
+    /**
+     * Applies the data updates, that have been captured during the last frame.
+     * This is called by a pipelined renderer at the start of each frame, while the render thread is idle.
+     */
+    public void applyDeferredDataUpdates()
+    {
+        try
+        {
+            if ( gameData.getTelemetryData().applyCapturedData() )
+            {
+                this.waitingForTelemetry = false;
+                
+                // Everything else, that checkWaitingData() does, is excluded by canDeferDataUpdate().
+                eventsDispatcher.checkAndFireOnNeededDataComplete( gameData, false );
+            }
+        }
+        catch ( Throwable t )
+        {
+            RFDHLog.exception( t );
+        }
+    }
+    
     /**
      * This method must be called when the game started up.
      * 
@@ -195,6 +264,8 @@ public abstract class GameEventsManager implements ConfigurationLoadListener
      */
     public void onStartup( Object userObject )
     {
+        waitForRenderThread();
+        
         this.running = true;
         
         eventsDispatcher.fireOnStarted( this, gameData, userObject instanceof EditorPresets, renderListenersManager );
@@ -207,6 +278,8 @@ public abstract class GameEventsManager implements ConfigurationLoadListener
      */
     public void onShutdown( Object userObject)
     {
+        waitForRenderThread();
+        
         this.running = false;
         
         eventsDispatcher.fireOnShutdown( this, gameData, userObject instanceof EditorPresets, renderListenersManager );
@@ -352,6 +425,7 @@ public abstract class GameEventsManager implements ConfigurationLoadListener
     public final byte onSessionStarted( Object userObject )
     {
         RFDHLog.profile( "[PROFILE]: onSessionStarted()" );
+        waitForRenderThread();
         
         long now = System.nanoTime();
         
@@ -430,6 +504,7 @@ public abstract class GameEventsManager implements ConfigurationLoadListener
     public void onSessionEnded( Object userObject )
     {
         RFDHLog.profile( "[PROFILE]: onSessionEnded()" );
+        waitForRenderThread();
         
         long now = System.nanoTime();
         
@@ -516,6 +591,7 @@ public abstract class GameEventsManager implements ConfigurationLoadListener
     public final byte onCockpitEntered( Object userObject )
     {
         RFDHLog.profile( "[PROFILE]: onCockpitEntered()" );
+        waitForRenderThread();
         byte result = 0;
         long now = System.nanoTime();
         
@@ -590,6 +666,7 @@ public abstract class GameEventsManager implements ConfigurationLoadListener
     public final byte onCockpitExited( Object userObject )
     {
         RFDHLog.profile( "[PROFILE]: onCockpitExited()" );
+        waitForRenderThread();
         RFDHLog.printlnEx( "Exited cockpit." );
         
         long now = System.nanoTime();
@@ -949,6 +1026,7 @@ public abstract class GameEventsManager implements ConfigurationLoadListener
     public final byte onDrivingAidsUpdated( Object userObject )
     {
         RFDHLog.profile( "[PROFILE]: onDrivingAidsUpdated()" );
+        waitForRenderThread();
         
         byte result = 0;
         
@@ -1002,6 +1080,18 @@ public abstract class GameEventsManager implements ConfigurationLoadListener
         
         long now = System.nanoTime();
         
+        if ( canDeferDataUpdate( now ) && gameData.getTelemetryData().captureData( userObject, now ) )
+        {
+            // The render thread keeps drawing from the current data. The captured data is applied at the start of the next frame.
+            result = widgetsManager.getWidgetsConfiguration().isValid() ? (byte)1 : (byte)0;
+            
+            rfDynHUD.setRenderMode( result != 0 );
+            
+            return ( result );
+        }
+        
+        waitForRenderThread();
+        
         try
         {
             result = onTelemetryDataUpdatedImpl( result, userObject, now );
@@ -1154,6 +1244,7 @@ public abstract class GameEventsManager implements ConfigurationLoadListener
     public byte onScoringInfoUpdated( int numVehicles, Object userObject )
     {
         RFDHLog.profile( "[PROFILE]: onScoringInfoUpdated()" );
+        waitForRenderThread();
         
         final long now = System.nanoTime();
         
@@ -1198,6 +1289,7 @@ public abstract class GameEventsManager implements ConfigurationLoadListener
     public final byte onWeatherInfoUpdated( Object userObject )
     {
         RFDHLog.profile( "[PROFILE]: onWeatherInfoUpdated()" );
+        waitForRenderThread();
         
         byte result = 0;
         
@@ -1238,6 +1330,7 @@ public abstract class GameEventsManager implements ConfigurationLoadListener
     public final byte onCommentaryRequestInfoUpdated( Object userObject )
     {
         RFDHLog.profile( "[PROFILE]: onCommentaryRequestInfoUpdated()" );
+        waitForRenderThread();
         
         byte result = 0;
         
@@ -1278,6 +1371,7 @@ public abstract class GameEventsManager implements ConfigurationLoadListener
     public final byte onGraphicsInfoUpdated( Object userObject )
     {
         RFDHLog.profile( "[PROFILE]: onGraphicsInfoUpdated()" );
+        waitForRenderThread();
         this.waitingForGraphics = false;
         
         byte result = 1;
@@ -1398,6 +1492,7 @@ public abstract class GameEventsManager implements ConfigurationLoadListener
     public final byte beforeRender( short viewportX, short viewportY, short viewportWidth, short viewportHeight )
     {
         RFDHLog.profile( "[PROFILE]: beforeRender()" );
+        waitForRenderThread();
         this.waitingForRender = false;
         
         byte result = 1;
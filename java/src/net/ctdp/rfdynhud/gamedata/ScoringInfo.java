@@ -22,9 +22,7 @@ import java.io.InputStream;
 import java.io.OutputStream;
 import java.util.Arrays;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.Map;
-import java.util.Set;
 
 import net.ctdp.rfdynhud.editor.EditorPresets;
 import net.ctdp.rfdynhud.util.AbstractThreeLetterCodeGenerator;
@@ -76,7 +74,21 @@ public abstract class ScoringInfo
         public void onPlayerLeft( LiveGameData gameData, Integer vsiID );
     }
     
+    public static interface PlaceChangeListener
+    {
+        /**
+         * Invoked for each pair of vehicles, that have swapped their order in the standings since the last scoring update.
+         * This includes place changes through pit stops. It is invoked after all {@link ScoringInfoUpdateListener}s.
+         * 
+         * @param gameData the live game data
+         * @param passingVSI the vehicle, that is in front now
+         * @param passedVSI the vehicle, that has been in front before
+         */
+        public void onVehiclePassed( LiveGameData gameData, VehicleScoringInfo passingVSI, VehicleScoringInfo passedVSI );
+    }
+    
     private ScoringInfoUpdateListener[] updateListeners = null;
+    private PlaceChangeListener[] placeChangeListeners = null;
     
     public void registerListener( ScoringInfoUpdateListener l )
     {
@@ -135,6 +147,59 @@ public abstract class ScoringInfo
         gameData.unregisterDataUpdateListener( l );
     }
     
+    public void registerPlaceChangeListener( PlaceChangeListener l )
+    {
+        if ( placeChangeListeners == null )
+        {
+            placeChangeListeners = new PlaceChangeListener[] { l };
+        }
+        else
+        {
+            for ( int i = 0; i < placeChangeListeners.length; i++ )
+            {
+                if ( placeChangeListeners[i] == l )
+                    return;
+            }
+            
+            PlaceChangeListener[] tmp = new PlaceChangeListener[ placeChangeListeners.length + 1 ];
+            System.arraycopy( placeChangeListeners, 0, tmp, 0, placeChangeListeners.length );
+            placeChangeListeners = tmp;
+            placeChangeListeners[placeChangeListeners.length - 1] = l;
+        }
+    }
+    
+    public void unregisterPlaceChangeListener( PlaceChangeListener l )
+    {
+        if ( placeChangeListeners == null )
+            return;
+        
+        int index = -1;
+        for ( int i = 0; i < placeChangeListeners.length; i++ )
+        {
+            if ( placeChangeListeners[i] == l )
+            {
+                index = i;
+                break;
+            }
+        }
+        
+        if ( index < 0 )
+            return;
+        
+        if ( placeChangeListeners.length == 1 )
+        {
+            placeChangeListeners = null;
+            return;
+        }
+        
+        PlaceChangeListener[] tmp = new PlaceChangeListener[ placeChangeListeners.length - 1 ];
+        if ( index > 0 )
+            System.arraycopy( placeChangeListeners, 0, tmp, 0, index );
+        if ( index < placeChangeListeners.length - 1 )
+            System.arraycopy( placeChangeListeners, index + 1, tmp, index, placeChangeListeners.length - index - 1 );
+        placeChangeListeners = tmp;
+    }
+    
     public abstract void readFromStream( InputStream in, EditorPresets editorPresets ) throws IOException;
     
     /**
@@ -149,6 +214,10 @@ public abstract class ScoringInfo
     private VehicleScoringInfo[] vehicleScoringInfoCache = null;
     private VehicleScoringInfo[] vehicleScoringInfo = null;
     private int numVehicles = -1;
+    private boolean placeOrderValid = false;
+    private VehicleScoringInfo[] passingVSIs = new VehicleScoringInfo[ 16 ];
+    private VehicleScoringInfo[] passedVSIs = new VehicleScoringInfo[ 16 ];
+    private int numPasses = 0;
     private boolean fixedViewedVSI = false;
     private VehicleScoringInfo playerVSI = null;
     private VehicleScoringInfo viewedVSI = null;
@@ -200,6 +269,8 @@ public abstract class ScoringInfo
             vehicleScoringInfo = new VehicleScoringInfo[ numVehicles ];
             
             System.arraycopy( vehicleScoringInfoCache, 0, vehicleScoringInfo, 0, numVehicles );
+            
+            placeOrderValid = false;
         }
     }
     
@@ -223,7 +294,13 @@ public abstract class ScoringInfo
                 
                 // Detect joined drivers...
                 
-                if ( oldIdVSIMap.remove( id ) == null )
+                VehicleScoringInfo oldVSI = oldIdVSIMap.remove( id );
+                
+                // The driver has joined or moved to another instance (streamed data). So the last order doesn't tell about passes.
+                if ( oldVSI != vsi )
+                    placeOrderValid = false;
+                
+                if ( oldVSI == null )
                 {
                     RFDHLog.debug( "[DEBUG]: Player joined: ", vsi.getDriverName(), ", id = ", id, ", index = ", i, ", fastest lap: " + TimingUtil.getTimeAsLaptimeString( vsi.getBestLapTime() ) );
                     
@@ -464,6 +541,27 @@ public abstract class ScoringInfo
         }
     }
     
+    /**
+     * Computes the lazily derived values up front.
+     * Widgets may be drawn by several threads at once (see WidgetsDrawingManager.setNumRenderThreads()), which must only read them.
+     */
+    private void computeDerivateData()
+    {
+        for ( int i = 0; i < numVehicles; i++ )
+            vehicleScoringInfo[i].updateDriverNames();
+        
+        if ( getNumVehicles() == 0 )
+            return;
+        
+        getPlayersVehicleScoringInfo();
+        getViewedVehicleScoringInfo();
+        getFastestLapVSI();
+        getFastestSector1VSI();
+        getFastestSector2VSI();
+        getFastestSector3VSI();
+        updateClassScoring();
+    }
+    
     /**
      * 
      * @param numVehicles
@@ -573,6 +671,97 @@ public abstract class ScoringInfo
     {
     }
     
+    private void addPass( VehicleScoringInfo passingVSI, VehicleScoringInfo passedVSI )
+    {
+        if ( numPasses == passingVSIs.length )
+        {
+            passingVSIs = Arrays.copyOf( passingVSIs, numPasses * 2 );
+            passedVSIs = Arrays.copyOf( passedVSIs, numPasses * 2 );
+        }
+        
+        passingVSIs[numPasses] = passingVSI;
+        passedVSIs[numPasses] = passedVSI;
+        numPasses++;
+    }
+    
+    /**
+     * Sorts the vehicles by place.<br>
+     * The array still has the order of the last update and places rarely change between two updates.
+     * So an insertion sort is used, that costs one comparison per vehicle plus one per swap. Each swap is a pass.
+     * If there are too many swaps or the last order is not valid anymore (session start, joined drivers),
+     * the array is fully sorted and no passes are reported.
+     */
+    private void sortByPlace()
+    {
+        final int n = numVehicles;
+        
+        clearPasses();
+        
+        if ( placeOrderValid && ( sessionJustStarted == 0 ) )
+        {
+            final int maxSwaps = Math.max( 16, n );
+            
+            for ( int i = 1; ( i < n ) && ( numPasses <= maxSwaps ); i++ )
+            {
+                VehicleScoringInfo vsi = vehicleScoringInfo[i];
+                final short place = vsi.getPlace( false );
+                
+                int j = i - 1;
+                while ( ( j >= 0 ) && ( vehicleScoringInfo[j].getPlace( false ) > place ) )
+                {
+                    addPass( vsi, vehicleScoringInfo[j] );
+                    vehicleScoringInfo[j + 1] = vehicleScoringInfo[j];
+                    j--;
+                }
+                
+                vehicleScoringInfo[j + 1] = vsi;
+            }
+            
+            if ( numPasses <= maxSwaps )
+                return;
+            
+            clearPasses();
+        }
+        
+        Arrays.sort( vehicleScoringInfo, VehicleScoringInfo.VSIPlaceComparator.INSTANCE );
+        
+        placeOrderValid = true;
+    }
+    
+    private void clearPasses()
+    {
+        for ( int i = 0; i < numPasses; i++ )
+        {
+            passingVSIs[i] = null;
+            passedVSIs[i] = null;
+        }
+        
+        numPasses = 0;
+    }
+    
+    private void firePlaceChanges()
+    {
+        if ( placeChangeListeners != null )
+        {
+            for ( int j = 0; j < numPasses; j++ )
+            {
+                for ( int i = 0; i < placeChangeListeners.length; i++ )
+                {
+                    try
+                    {
+                        placeChangeListeners[i].onVehiclePassed( gameData, passingVSIs[j], passedVSIs[j] );
+                    }
+                    catch ( Throwable t )
+                    {
+                        RFDHLog.exception( t );
+                    }
+                }
+            }
+        }
+        
+        clearPasses();
+    }
+    
     /**
      * @param numVehicles
      * @param userObject (could be an instance of {@link EditorPresets}), if in editor mode
@@ -588,7 +777,7 @@ public abstract class ScoringInfo
             
             checkVSIs( numVehicles, userObject );
             
-            Arrays.sort( vehicleScoringInfo, VehicleScoringInfo.VSIPlaceComparator.INSTANCE );
+            sortByPlace();
             
             this.updatedInTimeScope = true;
             this.updateId++;
@@ -632,6 +821,8 @@ public abstract class ScoringInfo
             }
             lastGamePhase = gamePhase;
             
+            computeDerivateData();
+            
             if ( updateListeners != null )
             {
                 for ( int i = 0; i < updateListeners.length; i++ )
@@ -647,6 +838,8 @@ public abstract class ScoringInfo
                 }
             }
             
+            firePlaceChanges();
+            
             onDataUpdatedImpl( numVehicles, userObject, timestamp );
         }
         catch ( Throwable t )
@@ -852,78 +1045,127 @@ public abstract class ScoringInfo
         return ( raceLengthPercentage );
     }
     
-    private final Set<Integer> handledClassIDs = new HashSet<Integer>();
+    /*
+     * Per class accumulators of the class scoring. A class' slot is found through its class id.
+     */
+    private int[] classSlots = new int[ 16 ];
+    private int numClassSlots = 0;
+    private VehicleScoringInfo[] classLeaders = new VehicleScoringInfo[ 4 ];
+    private VehicleScoringInfo[] classLastVSIs = new VehicleScoringInfo[ 4 ];
+    private double[] classLastTimes = new double[ 4 ];
+    private int[] classLastLaps = new int[ 4 ];
+    private double[] classLeaderTimes = new double[ 4 ];
+    private int[] classLeaderLaps = new int[ 4 ];
+    private int[] classSizes = new int[ 4 ];
     
+    private int getClassSlot( int classId )
+    {
+        if ( classId >= classSlots.length )
+            classSlots = Arrays.copyOf( classSlots, Math.max( classId + 1, classSlots.length * 2 ) );
+        
+        int slot = classSlots[classId] - 1;
+        
+        if ( slot < 0 )
+        {
+            slot = numClassSlots++;
+            classSlots[classId] = slot + 1;
+            
+            if ( slot == classSizes.length )
+            {
+                final int length = slot * 2;
+                
+                classLeaders = Arrays.copyOf( classLeaders, length );
+                classLastVSIs = Arrays.copyOf( classLastVSIs, length );
+                classLastTimes = Arrays.copyOf( classLastTimes, length );
+                classLastLaps = Arrays.copyOf( classLastLaps, length );
+                classLeaderTimes = Arrays.copyOf( classLeaderTimes, length );
+                classLeaderLaps = Arrays.copyOf( classLeaderLaps, length );
+                classSizes = Arrays.copyOf( classSizes, length );
+            }
+            
+            classSizes[slot] = 0;
+        }
+        
+        return ( slot );
+    }
+    
+    /**
+     * Computes the places, gaps and neighbors by class in one pass over the place sorted vehicles.
+     * The time and laps behind the overall leader are summed up on the way, so that the gaps to the previous vehicle
+     * and the leader of the same class are differences of these sums.
+     */
     final void updateClassScoring()
     {
         if ( classScoringCalculated )
             return;
         
-        handledClassIDs.clear();
-        
         final int n = getNumVehicles();
         
+        double time = 0.0;
+        int laps = 0;
+        
         for ( int i = 0; i < n; i++ )
         {
-            VehicleScoringInfo vsi0 = getVehicleScoringInfo( i );
+            VehicleScoringInfo vsi = vehicleScoringInfo[i];
             
-            if ( handledClassIDs.add( vsi0.getVehicleClassID() ) )
+            if ( i > 0 )
             {
-                short p = 1;
-                int numVehiclesInClass = 1;
-                float tbn = 0f;
-                int lbn = 0;
-                float tbl = 0f;
-                int lbl = 0;
-                
-                vsi0.placeByClass = p++;
-                vsi0.timeBehindNextByClass = tbn;
-                vsi0.lapsBehindNextByClass = lbn;
-                vsi0.timeBehindLeaderByClass = tbl;
-                vsi0.lapsBehindLeaderByClass = lbl;
-                vsi0.classLeaderVSI = vsi0;
-                vsi0.classNextInFrontVSI = null;
-                
-                for ( int j = vsi0.getPlace( false ) - 0; j < n; j++ )
-                {
-                    VehicleScoringInfo vsi1 = getVehicleScoringInfo( j );
-                    
-                    tbn += vsi1.getTimeBehindNextInFront( false );
-                    lbn += vsi1.getLapsBehindNextInFront( false );
-                    tbl += vsi1.getTimeBehindNextInFront( false );
-                    lbl += vsi1.getLapsBehindNextInFront( false );
-                    
-                    if ( vsi1.getVehicleClassId() == vsi0.getVehicleClassId() )
-                    {
-                        vsi1.placeByClass = p++;
-                        vsi1.timeBehindNextByClass = tbn;
-                        vsi1.lapsBehindNextByClass = lbn;
-                        vsi1.timeBehindLeaderByClass = tbl;
-                        vsi1.lapsBehindLeaderByClass = lbl;
-                        vsi1.classLeaderVSI = vsi0.classLeaderVSI;
-                        vsi1.classNextInFrontVSI = vsi0;
-                        vsi0.classNextBehindVSI = vsi1;
-                        
-                        tbn = 0f;
-                        lbn = 0;
-                        vsi0 = vsi1;
-                        
-                        numVehiclesInClass++;
-                    }
-                }
+                time += vsi.getTimeBehindNextInFront( false );
+                laps += vsi.getLapsBehindNextInFront( false );
+            }
+            
+            final int slot = getClassSlot( vsi.getVehicleClassId() );
+            
+            if ( classSizes[slot] == 0 )
+            {
+                vsi.timeBehindNextByClass = 0f;
+                vsi.lapsBehindNextByClass = 0;
+                vsi.timeBehindLeaderByClass = 0f;
+                vsi.lapsBehindLeaderByClass = 0;
+                vsi.classLeaderVSI = vsi;
+                vsi.classNextInFrontVSI = null;
                 
-                vsi0.classNextBehindVSI = null;
+                classLeaders[slot] = vsi;
+                classLeaderTimes[slot] = time;
+                classLeaderLaps[slot] = laps;
+            }
+            else
+            {
+                VehicleScoringInfo prev = classLastVSIs[slot];
                 
-                for ( int j = vsi0.getPlace( false ) - 1; j >= 0; j-- )
-                {
-                    VehicleScoringInfo vsi1 = getVehicleScoringInfo( j );
-                    
-                    if ( vsi1.getVehicleClassId() == vsi0.getVehicleClassId() )
-                        vsi1.numVehiclesInClass = numVehiclesInClass;
-                }
+                vsi.timeBehindNextByClass = (float)( time - classLastTimes[slot] );
+                vsi.lapsBehindNextByClass = laps - classLastLaps[slot];
+                vsi.timeBehindLeaderByClass = (float)( time - classLeaderTimes[slot] );
+                vsi.lapsBehindLeaderByClass = laps - classLeaderLaps[slot];
+                vsi.classLeaderVSI = classLeaders[slot];
+                vsi.classNextInFrontVSI = prev;
+                prev.classNextBehindVSI = vsi;
             }
+            
+            vsi.placeByClass = (short)++classSizes[slot];
+            vsi.classNextBehindVSI = null;
+            
+            classLastVSIs[slot] = vsi;
+            classLastTimes[slot] = time;
+            classLastLaps[slot] = laps;
+        }
+        
+        for ( int i = 0; i < n; i++ )
+        {
+            VehicleScoringInfo vsi = vehicleScoringInfo[i];
+            
+            vsi.numVehiclesInClass = classSizes[classSlots[vsi.getVehicleClassId()] - 1];
+        }
+        
+        for ( int i = 0; i < numClassSlots; i++ )
+        {
+            classSlots[classLeaders[i].getVehicleClassId()] = 0;
+            classLeaders[i] = null;
+            classLastVSIs[i] = null;
         }
         
+        numClassSlots = 0;
+        
         classScoringCalculated = true;
     }
     
@@ -1305,6 +1547,7 @@ public abstract class ScoringInfo
             {
                 if ( vehicleScoringInfo[i].isPlayer() )
                 {
+                    // The field is only written with the final result, since render threads may read it concurrently.
                     playerVSI = vehicleScoringInfo[i];
                     break;
                 }
@@ -1401,18 +1644,20 @@ public abstract class ScoringInfo
     {
         if ( fastestSector1VSI == null )
         {
-            fastestSector1VSI = vehicleScoringInfo[0];
-            float fs = fastestSector1VSI.getBestSector1();
+            VehicleScoringInfo vsi = vehicleScoringInfo[0];
+            float fs = vsi.getBestSector1();
             
             for ( int i = 1; i < vehicleScoringInfo.length; i++ )
             {
                 float fs_ = vehicleScoringInfo[i].getBestLapTime();
                 if ( ( fs_ > 0f ) && ( fs_ < fs ) )
                 {
-                    fastestSector1VSI = vehicleScoringInfo[i];
+                    vsi = vehicleScoringInfo[i];
                     fs = fs_;
                 }
             }
+            
+            fastestSector1VSI = vsi;
         }
         
         return ( fastestSector1VSI );
@@ -1427,18 +1672,20 @@ public abstract class ScoringInfo
     {
         if ( fastestSector2VSI == null )
         {
-            fastestSector2VSI = vehicleScoringInfo[0];
-            float fs = fastestSector2VSI.getBestSector2( false );
+            VehicleScoringInfo vsi = vehicleScoringInfo[0];
+            float fs = vsi.getBestSector2( false );
             
             for ( int i = 1; i < vehicleScoringInfo.length; i++ )
             {
                 float fs_ = vehicleScoringInfo[i].getBestSector2( false );
                 if ( ( fs_ > 0f ) && ( fs_ < fs ) )
                 {
-                    fastestSector2VSI = vehicleScoringInfo[i];
+                    vsi = vehicleScoringInfo[i];
                     fs = fs_;
                 }
             }
+            
+            fastestSector2VSI = vsi;
         }
         
         return ( fastestSector2VSI );
@@ -1453,18 +1700,20 @@ public abstract class ScoringInfo
     {
         if ( fastestSector3VSI == null )
         {
-            fastestSector3VSI = vehicleScoringInfo[0];
-            float fs = fastestSector3VSI.getBestSector3();
+            VehicleScoringInfo vsi = vehicleScoringInfo[0];
+            float fs = vsi.getBestSector3();
             
             for ( int i = 1; i < vehicleScoringInfo.length; i++ )
             {
                 float fs_ = vehicleScoringInfo[i].getBestSector3();
                 if ( ( fs_ > 0f ) && ( fs_ < fs ) )
                 {
-                    fastestSector3VSI = vehicleScoringInfo[i];
+                    vsi = vehicleScoringInfo[i];
                     fs = fs_;
                 }
             }
+            
+            fastestSector3VSI = vsi;
         }
         
         return ( fastestSector3VSI );
@@ -1500,78 +1749,84 @@ public abstract class ScoringInfo
     {
         if ( fastestLapVSI == null )
         {
-            secondFastestLapVSI = null;
+            VehicleScoringInfo fastest;
+            VehicleScoringInfo second = null;
             
             if ( ( getSessionType() != null ) && !getSessionType().isRace() )
             {
                 // VehicleScoringInfos are sorted by place, which is the same as by laptime in non-race sessions.
                 
-                fastestLapVSI = vehicleScoringInfo[0];
+                fastest = vehicleScoringInfo[0];
                 
                 //if ( ( vehicleScoringInfo2.length > 1 ) && ( vehicleScoringInfo2[1].getBestLapTime() > 0f ) )
                 if ( ( vehicleScoringInfo.length > 1 ) && ( vehicleScoringInfo[1].getFastestLaptime() != null ) )
                 {
-                    secondFastestLapVSI = vehicleScoringInfo[1];
+                    second = vehicleScoringInfo[1];
                 }
                 
-                //RFDHLog.debug( TimingUtil.getTimeAsLaptimeString( getSessionTime() ) + ", " + fastestLapVSI.getLapsCompleted() + ": " + fastestLapVSI + ", " + fastestLapVSI.getFastestLaptime() );
-                return ( fastestLapVSI );
-            }
-            
-            int i0;
-            for ( i0 = 0; i0 < vehicleScoringInfo.length; i0++ )
-            {
-                Laptime lt_ = vehicleScoringInfo[i0].getFastestLaptime();
-                if ( ( lt_ != null ) && ( lt_.getLapTime() > 0f ) && lt_.isFinished() )
-                    break;
-            }
-            
-            if ( i0 == vehicleScoringInfo.length )
-            {
-                fastestLapVSI = vehicleScoringInfo[0];
-                
-                if ( vehicleScoringInfo.length > 1 )
-                    secondFastestLapVSI = vehicleScoringInfo[1];
+                //RFDHLog.debug( TimingUtil.getTimeAsLaptimeString( getSessionTime() ) + ", " + fastest.getLapsCompleted() + ": " + fastest + ", " + fastest.getFastestLaptime() );
             }
             else
             {
-                fastestLapVSI = vehicleScoringInfo[i0];
-                Laptime lt = fastestLapVSI.getFastestLaptime();
-                
-                for ( int i = i0 + 1; i < vehicleScoringInfo.length; i++ )
+                int i0;
+                for ( i0 = 0; i0 < vehicleScoringInfo.length; i0++ )
                 {
-                    Laptime lt_ = vehicleScoringInfo[i].getFastestLaptime();
-                    if ( ( lt_ != null ) && ( lt_.getLapTime() < lt .getLapTime() ) )
-                    {
-                        secondFastestLapVSI = fastestLapVSI;
-                        fastestLapVSI = vehicleScoringInfo[i];
-                        lt = lt_;
-                    }
+                    Laptime lt_ = vehicleScoringInfo[i0].getFastestLaptime();
+                    if ( ( lt_ != null ) && ( lt_.getLapTime() > 0f ) && lt_.isFinished() )
+                        break;
                 }
                 
-                if ( ( secondFastestLapVSI == null ) && ( vehicleScoringInfo.length > i0 ) )
+                if ( i0 == vehicleScoringInfo.length )
+                {
+                    fastest = vehicleScoringInfo[0];
+                    
+                    if ( vehicleScoringInfo.length > 1 )
+                        second = vehicleScoringInfo[1];
+                }
+                else
                 {
-                    Laptime lt2 = null;
+                    fastest = vehicleScoringInfo[i0];
+                    Laptime lt = fastest.getFastestLaptime();
                     
                     for ( int i = i0 + 1; i < vehicleScoringInfo.length; i++ )
                     {
                         Laptime lt_ = vehicleScoringInfo[i].getFastestLaptime();
-                        if ( lt_ != null )
+                        if ( ( lt_ != null ) && ( lt_.getLapTime() < lt .getLapTime() ) )
                         {
-                            if ( secondFastestLapVSI == null )
-                            {
-                                secondFastestLapVSI = vehicleScoringInfo[i];
-                                lt2 = secondFastestLapVSI.getFastestLaptime();
-                            }
-                            else if ( ( lt2 == null ) || ( lt_.getLapTime() < lt2.getLapTime() ) )
+                            second = fastest;
+                            fastest = vehicleScoringInfo[i];
+                            lt = lt_;
+                        }
+                    }
+                    
+                    if ( ( second == null ) && ( vehicleScoringInfo.length > i0 ) )
+                    {
+                        Laptime lt2 = null;
+                        
+                        for ( int i = i0 + 1; i < vehicleScoringInfo.length; i++ )
+                        {
+                            Laptime lt_ = vehicleScoringInfo[i].getFastestLaptime();
+                            if ( lt_ != null )
                             {
-                                secondFastestLapVSI = vehicleScoringInfo[i];
-                                lt2 = lt_;
+                                if ( second == null )
+                                {
+                                    second = vehicleScoringInfo[i];
+                                    lt2 = second.getFastestLaptime();
+                                }
+                                else if ( ( lt2 == null ) || ( lt_.getLapTime() < lt2.getLapTime() ) )
+                                {
+                                    second = vehicleScoringInfo[i];
+                                    lt2 = lt_;
+                                }
                             }
                         }
                     }
                 }
             }
+            
+            // The fields are only written with the final results, since render threads may read them concurrently.
+            secondFastestLapVSI = second;
+            fastestLapVSI = fastest;
         }
         
         return ( fastestLapVSI );
@@ -0,0 +1,173 @@
+/**
+ * Copyright (C) 2009-2014 Cars and Tracks Development Project (CTDP).
+ * 
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+ */
+package net.ctdp.rfdynhud.gamedata;
+
+/**
+ * Reads a zero terminated string field from a byte array without allocations, as long as the bytes don't change.<br>
+ * Each instance caches one field (of one vehicle) and returns the previous {@link String} instance, if the bytes are unchanged.
+ * Changed values are looked up in a pool, that is shared by all instances, so common values like class names
+ * are the same {@link String} instance across all vehicles.
+ * 
+ * @author Marvin Froehlich (CTDP)
+ */
+public class StringCache
+{
+    private static final int POOL_SIZE = 1024;
+    private static final int MAX_POOLED = POOL_SIZE * 3 / 4;
+    
+    private static final byte[][] poolBytes = new byte[ POOL_SIZE ][];
+    private static final int[] poolHashes = new int[ POOL_SIZE ];
+    private static final String[] poolStrings = new String[ POOL_SIZE ];
+    private static int numPooled = 0;
+    
+    private final byte[] bytes;
+    private int length = -1;
+    private String value = null;
+    
+    private static final int hash( final byte[] buffer, final int offset, final int length )
+    {
+        int hash = 0;
+        for ( int i = 0; i < length; i++ )
+            hash = 31 * hash + buffer[offset + i];
+        
+        return ( hash );
+    }
+    
+    private static final boolean equals( final byte[] pooled, final byte[] buffer, final int offset, final int length )
+    {
+        if ( pooled.length != length )
+            return ( false );
+        
+        for ( int i = 0; i < length; i++ )
+        {
+            if ( pooled[i] != buffer[offset + i] )
+                return ( false );
+        }
+        
+        return ( true );
+    }
+    
+    /**
+     * Gets the pooled {@link String} for the given bytes and creates and pools it, if necessary.
+     * When the pool is full, it is cleared, so that changing values (like chat or temporary names) cannot make it grow endlessly.
+     */
+    private static synchronized String intern( final byte[] buffer, final int offset, final int length )
+    {
+        final int hash = hash( buffer, offset, length );
+        int slot = hash & ( POOL_SIZE - 1 );
+        
+        while ( poolBytes[slot] != null )
+        {
+            if ( ( poolHashes[slot] == hash ) && equals( poolBytes[slot], buffer, offset, length ) )
+                return ( poolStrings[slot] );
+            
+            slot = ( slot + 1 ) & ( POOL_SIZE - 1 );
+        }
+        
+        if ( numPooled >= MAX_POOLED )
+        {
+            clearPool();
+            slot = hash & ( POOL_SIZE - 1 );
+        }
+        
+        byte[] copy = new byte[ length ];
+        System.arraycopy( buffer, offset, copy, 0, length );
+        
+        String s = new String( copy, 0, length );
+        
+        poolBytes[slot] = copy;
+        poolHashes[slot] = hash;
+        poolStrings[slot] = s;
+        numPooled++;
+        
+        return ( s );
+    }
+    
+    /**
+     * Drops all pooled {@link String}s. The per field caches keep their current values.
+     */
+    public static synchronized void clearPool()
+    {
+        for ( int i = 0; i < POOL_SIZE; i++ )
+        {
+            poolBytes[i] = null;
+            poolStrings[i] = null;
+        }
+        
+        numPooled = 0;
+    }
+    
+    /**
+     * Gets the number of currently pooled {@link String}s.
+     * 
+     * @return the number of currently pooled {@link String}s.
+     */
+    public static synchronized int getNumPooled()
+    {
+        return ( numPooled );
+    }
+    
+    /**
+     * Reads the zero terminated string at the given offset like {@link ByteUtil#readString(byte[], int, int)}.
+     * 
+     * @param buffer the buffer to read from
+     * @param offset the offset of the field in the buffer
+     * 
+     * @return the previous {@link String} instance, if the bytes are unchanged, a pooled or new one otherwise.
+     */
+    public synchronized String read( final byte[] buffer, final int offset )
+    {
+        final int maxLength = bytes.length;
+        
+        boolean changed = false;
+        int length = maxLength;
+        for ( int i = 0; i < maxLength; i++ )
+        {
+            final byte b = buffer[offset + i];
+            
+            if ( b == (byte)0 )
+            {
+                length = i;
+                break;
+            }
+            
+            if ( b != bytes[i] )
+            {
+                bytes[i] = b;
+                changed = true;
+            }
+        }
+        
+        if ( changed || ( length != this.length ) )
+        {
+            this.length = length;
+            this.value = intern( buffer, offset, length );
+        }
+        
+        return ( value );
+    }
+    
+    /**
+     * 
+     * @param maxLength the length of the char array field
+     */
+    public StringCache( int maxLength )
+    {
+        this.bytes = new byte[ maxLength ];
+    }
+}
@@ -0,0 +1,611 @@
+/**
+ * Copyright (C) 2009-2014 Cars and Tracks Development Project (CTDP).
+ * 
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+ */
+package net.ctdp.rfdynhud.gamedata;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.HashMap;
+
+/**
+ * Describes the memory layout of a C struct of the game's plugin interface.<br>
+ * Fields are appended in declaration order. Their offsets are derived from the field types and the struct packing
+ * the same way the compiler does it (#pragma pack). So there are no hand maintained chains of offsets and padding fixes.<br>
+ * A layout is the single source of truth for a game data buffer. Offsets, generic accessors,
+ * field-level diffs and the delta serialization are all derived from it.<br>
+ * <br>
+ * Layouts are built once in static initializers and must not be modified afterwards.
+ * 
+ * @author Marvin Froehlich (CTDP)
+ */
+public class StructLayout
+{
+    /**
+     * The default packing of the Visual C++ compiler (/Zp8).
+     */
+    public static final int DEFAULT_PACKING = 8;
+    
+    public static enum Type
+    {
+        BOOL( ByteUtil.SIZE_BOOL, ByteUtil.SIZE_BOOL ),
+        /**
+         * (unsigned) char
+         */
+        CHAR( ByteUtil.SIZE_CHAR, ByteUtil.SIZE_CHAR ),
+        SHORT( ByteUtil.SIZE_SHORT, ByteUtil.SIZE_SHORT ),
+        /**
+         * 32 bit long
+         */
+        LONG( ByteUtil.SIZE_LONG, ByteUtil.SIZE_LONG ),
+        FLOAT( ByteUtil.SIZE_FLOAT, ByteUtil.SIZE_FLOAT ),
+        DOUBLE( ByteUtil.SIZE_DOUBLE, ByteUtil.SIZE_DOUBLE ),
+        POINTER( ByteUtil.SIZE_POINTER, ByteUtil.SIZE_POINTER ),
+        VECTOR3F( ByteUtil.SIZE_VECTOR3F, ByteUtil.SIZE_FLOAT ),
+        VECTOR3D( ByteUtil.SIZE_VECTOR3D, ByteUtil.SIZE_DOUBLE ),
+        /**
+         * A nested struct. Size and alignment are taken from its layout.
+         */
+        STRUCT( 0, 1 ),
+        ;
+        
+        private final int size;
+        private final int alignment;
+        
+        public final int getSize()
+        {
+            return ( size );
+        }
+        
+        public final int getAlignment()
+        {
+            return ( alignment );
+        }
+        
+        private Type( int size, int alignment )
+        {
+            this.size = size;
+            this.alignment = alignment;
+        }
+    }
+    
+    public static class Field
+    {
+        private final int index;
+        private final String name;
+        private final Type type;
+        private final StructLayout struct;
+        private final int count;
+        private final int offset;
+        private final int elementSize;
+        
+        /**
+         * Gets the index of this field in its layout.
+         * 
+         * @return the index of this field in its layout.
+         */
+        public final int getIndex()
+        {
+            return ( index );
+        }
+        
+        public final String getName()
+        {
+            return ( name );
+        }
+        
+        public final Type getType()
+        {
+            return ( type );
+        }
+        
+        /**
+         * Gets the layout of the nested struct.
+         * 
+         * @return the layout of the nested struct or <code>null</code>, if this is not a {@link Type#STRUCT} field.
+         */
+        public final StructLayout getStruct()
+        {
+            return ( struct );
+        }
+        
+        /**
+         * Gets the number of array elements (1 for non array fields).
+         * 
+         * @return the number of array elements.
+         */
+        public final int getCount()
+        {
+            return ( count );
+        }
+        
+        /**
+         * Gets the offset of this field relative to the beginning of the struct.
+         * 
+         * @return the offset of this field.
+         */
+        public final int getOffset()
+        {
+            return ( offset );
+        }
+        
+        /**
+         * Gets the offset of an array element relative to the beginning of the struct.
+         * 
+         * @param index the element index
+         * 
+         * @return the offset of the array element.
+         */
+        public final int getOffset( int index )
+        {
+            return ( offset + index * elementSize );
+        }
+        
+        public final int getElementSize()
+        {
+            return ( elementSize );
+        }
+        
+        /**
+         * Gets the size of this field in bytes (all array elements).
+         * 
+         * @return the size of this field in bytes.
+         */
+        public final int getSize()
+        {
+            return ( count * elementSize );
+        }
+        
+        /**
+         * Reads the value of an array element.
+         * 
+         * @param buffer the data buffer (little endian)
+         * @param structOffset the offset of the struct in the buffer
+         * @param index the element index
+         * 
+         * @return the value as a Boolean, Short, Integer, Float, Double or TelemVect3.
+         */
+        public Object getValue( ByteBuffer buffer, int structOffset, int index )
+        {
+            final int o = structOffset + getOffset( index );
+            
+            switch ( type )
+            {
+                case BOOL:
+                    return ( ByteUtil.readBoolean( buffer, o ) );
+                case CHAR:
+                    return ( ByteUtil.readUnsignedByte( buffer, o ) );
+                case SHORT:
+                    return ( ByteUtil.readShort( buffer, o ) );
+                case LONG:
+                case POINTER:
+                    return ( buffer.getInt( o ) );
+                case FLOAT:
+                    return ( ByteUtil.readFloat( buffer, o ) );
+                case DOUBLE:
+                    return ( ByteUtil.readDouble( buffer, o ) );
+                case VECTOR3F:
+                    TelemVect3 vf = new TelemVect3();
+                    ByteUtil.readVectorF( buffer, o, vf );
+                    return ( vf );
+                case VECTOR3D:
+                    TelemVect3 vd = new TelemVect3();
+                    ByteUtil.readVectorD( buffer, o, vd );
+                    return ( vd );
+            }
+            
+            throw new IllegalArgumentException( "The field \"" + name + "\" is a nested struct. Use its layout to read the values." );
+        }
+        
+        /**
+         * Reads a zero terminated string from a char array field.
+         * 
+         * @param buffer the data buffer
+         * @param structOffset the offset of the struct in the buffer
+         * 
+         * @return the string.
+         */
+        public String getString( ByteBuffer buffer, int structOffset )
+        {
+            if ( type != Type.CHAR )
+                throw new IllegalArgumentException( "The field \"" + name + "\" is not a char array." );
+            
+            return ( ByteUtil.readString( buffer, structOffset + offset, count ) );
+        }
+        
+        private void appendValue( ByteBuffer buffer, int structOffset, String indent, StringBuilder sb )
+        {
+            if ( type == Type.STRUCT )
+            {
+                for ( int i = 0; i < count; i++ )
+                {
+                    sb.append( indent ).append( name ).append( '[' ).append( i ).append( "]\n" );
+                    struct.appendValues( buffer, structOffset + getOffset( i ), indent + "    ", sb );
+                }
+                
+                return;
+            }
+            
+            sb.append( indent ).append( name ).append( " = " );
+            
+            if ( ( type == Type.CHAR ) && ( count > 1 ) )
+            {
+                sb.append( '"' ).append( getString( buffer, structOffset ) ).append( '"' );
+            }
+            else if ( count > 1 )
+            {
+                sb.append( '[' );
+                for ( int i = 0; i < count; i++ )
+                {
+                    if ( i > 0 )
+                        sb.append( ", " );
+                    sb.append( getValue( buffer, structOffset, i ) );
+                }
+                sb.append( ']' );
+            }
+            else
+            {
+                sb.append( getValue( buffer, structOffset, 0 ) );
+            }
+            
+            sb.append( '\n' );
+        }
+        
+        @Override
+        public String toString()
+        {
+            return ( name + ( ( count > 1 ) ? "[" + count + "]" : "" ) + " (" + ( ( struct != null ) ? struct.getName() : type.name() ) + ", offset " + offset + ", size " + getSize() + ")" );
+        }
+        
+        private Field( int index, String name, Type type, StructLayout struct, int count, int offset, int elementSize )
+        {
+            this.index = index;
+            this.name = name;
+            this.type = type;
+            this.struct = struct;
+            this.count = count;
+            this.offset = offset;
+            this.elementSize = elementSize;
+        }
+    }
+    
+    private final String name;
+    private final int packing;
+    
+    private final ArrayList<Field> fields = new ArrayList<Field>();
+    private final HashMap<String, Field> fieldsMap = new HashMap<String, Field>();
+    
+    private int dataSize = 0;
+    private int alignment = 1;
+    
+    public final String getName()
+    {
+        return ( name );
+    }
+    
+    /**
+     * Gets the maximum alignment of the fields (like #pragma pack).
+     * 
+     * @return the packing.
+     */
+    public final int getPacking()
+    {
+        return ( packing );
+    }
+    
+    /**
+     * Gets the alignment of the whole struct, which is the largest alignment of its fields.
+     * 
+     * @return the alignment of the struct.
+     */
+    public final int getAlignment()
+    {
+        return ( alignment );
+    }
+    
+    /**
+     * Gets the size of the struct including the trailing padding (like sizeof).
+     * 
+     * @return the size of the struct.
+     */
+    public final int getSize()
+    {
+        return ( align( dataSize, alignment ) );
+    }
+    
+    /**
+     * Gets the end of the last field, i.e. the size without the trailing padding.
+     * 
+     * @return the end of the last field.
+     */
+    public final int getDataSize()
+    {
+        return ( dataSize );
+    }
+    
+    public final int getNumFields()
+    {
+        return ( fields.size() );
+    }
+    
+    public final Field getField( int index )
+    {
+        return ( fields.get( index ) );
+    }
+    
+    /**
+     * Gets the field by name.
+     * 
+     * @param name the field name
+     * 
+     * @return the field or <code>null</code>, if there is no field with this name.
+     */
+    public final Field getField( String name )
+    {
+        return ( fieldsMap.get( name ) );
+    }
+    
+    private static int align( int offset, int alignment )
+    {
+        return ( ( offset + alignment - 1 ) / alignment * alignment );
+    }
+    
+    private int add( String name, Type type, StructLayout struct, int count )
+    {
+        if ( fieldsMap.containsKey( name ) )
+            throw new IllegalArgumentException( "Duplicate field \"" + name + "\" in struct " + this.name + "." );
+        
+        if ( count < 1 )
+            throw new IllegalArgumentException( "count must be at least 1." );
+        
+        final int elementSize = ( struct != null ) ? struct.getSize() : type.getSize();
+        final int fieldAlignment = Math.min( ( struct != null ) ? struct.getAlignment() : type.getAlignment(), packing );
+        final int offset = align( dataSize, fieldAlignment );
+        
+        Field field = new Field( fields.size(), name, type, struct, count, offset, elementSize );
+        
+        fields.add( field );
+        fieldsMap.put( name, field );
+        
+        this.dataSize = offset + count * elementSize;
+        this.alignment = Math.max( alignment, fieldAlignment );
+        
+        return ( offset );
+    }
+    
+    /**
+     * Appends a field.
+     * 
+     * @param name the field name
+     * @param type the field type
+     * 
+     * @return the offset of the new field.
+     */
+    public final int add( String name, Type type )
+    {
+        return ( add( name, type, 1 ) );
+    }
+    
+    /**
+     * Appends an array field.
+     * 
+     * @param name the field name
+     * @param type the element type
+     * @param count the number of elements
+     * 
+     * @return the offset of the new field.
+     */
+    public final int add( String name, Type type, int count )
+    {
+        if ( type == Type.STRUCT )
+            throw new IllegalArgumentException( "Use addStruct() for nested structs." );
+        
+        return ( add( name, type, null, count ) );
+    }
+    
+    /**
+     * Appends a nested struct (array) field.
+     * 
+     * @param name the field name
+     * @param struct the layout of the nested struct
+     * @param count the number of elements
+     * 
+     * @return the offset of the new field.
+     */
+    public final int addStruct( String name, StructLayout struct, int count )
+    {
+        return ( add( name, Type.STRUCT, struct, count ) );
+    }
+    
+    /**
+     * Wraps a byte array for the accessors of this class.
+     * 
+     * @param buffer the data buffer
+     * 
+     * @return a little endian ByteBuffer view of the array.
+     */
+    public static ByteBuffer wrap( byte[] buffer )
+    {
+        return ( ByteBuffer.wrap( buffer ).order( ByteOrder.LITTLE_ENDIAN ) );
+    }
+    
+    private static boolean equals( ByteBuffer buffer1, int offset1, ByteBuffer buffer2, int offset2, int length )
+    {
+        for ( int i = 0; i < length; i++ )
+        {
+            if ( buffer1.get( offset1 + i ) != buffer2.get( offset2 + i ) )
+                return ( false );
+        }
+        
+        return ( true );
+    }
+    
+    /**
+     * Compares two instances of this struct field by field.
+     * 
+     * @param buffer1 the first buffer
+     * @param structOffset1 the offset of the struct in the first buffer
+     * @param buffer2 the second buffer
+     * @param structOffset2 the offset of the struct in the second buffer
+     * @param changedFields receives the indices of the changed fields (at least {@link #getNumFields()} long)
+     * 
+     * @return the number of changed fields.
+     */
+    public int getChangedFields( ByteBuffer buffer1, int structOffset1, ByteBuffer buffer2, int structOffset2, int[] changedFields )
+    {
+        int n = 0;
+        
+        for ( int i = 0; i < fields.size(); i++ )
+        {
+            Field field = fields.get( i );
+            
+            if ( !equals( buffer1, structOffset1 + field.offset, buffer2, structOffset2 + field.offset, field.getSize() ) )
+                changedFields[n++] = i;
+        }
+        
+        return ( n );
+    }
+    
+    /**
+     * Writes the fields, that differ from the previous instance.
+     * The format is the number of changed fields (short), followed by the index (short) and the raw bytes of each changed field.
+     * 
+     * @param previous the previously written instance
+     * @param current the current instance
+     * @param structOffset the offset of the struct in both buffers
+     * @param out the output
+     * 
+     * @return the number of written fields.
+     * 
+     * @throws IOException
+     */
+    public int writeDelta( ByteBuffer previous, ByteBuffer current, int structOffset, DataOutput out ) throws IOException
+    {
+        int[] changedFields = new int[ fields.size() ];
+        int n = getChangedFields( previous, structOffset, current, structOffset, changedFields );
+        
+        out.writeShort( n );
+        
+        for ( int i = 0; i < n; i++ )
+        {
+            Field field = fields.get( changedFields[i] );
+            final int o = structOffset + field.offset;
+            final int size = field.getSize();
+            
+            out.writeShort( field.index );
+            
+            for ( int j = 0; j < size; j++ )
+                out.writeByte( current.get( o + j ) );
+        }
+        
+        return ( n );
+    }
+    
+    /**
+     * Applies the fields written by {@link #writeDelta(ByteBuffer, ByteBuffer, int, DataOutput)}.
+     * 
+     * @param in the input
+     * @param target the buffer holding the previous instance
+     * @param structOffset the offset of the struct in the buffer
+     * 
+     * @return the number of read fields.
+     * 
+     * @throws IOException
+     */
+    public int readDelta( DataInput in, ByteBuffer target, int structOffset ) throws IOException
+    {
+        final int n = in.readShort();
+        
+        for ( int i = 0; i < n; i++ )
+        {
+            final int index = in.readShort();
+            
+            if ( ( index < 0 ) || ( index >= fields.size() ) )
+                throw new IOException( "Invalid field index " + index + " for struct " + name + "." );
+            
+            Field field = fields.get( index );
+            final int o = structOffset + field.offset;
+            final int size = field.getSize();
+            
+            for ( int j = 0; j < size; j++ )
+                target.put( o + j, in.readByte() );
+        }
+        
+        return ( n );
+    }
+    
+    private void appendValues( ByteBuffer buffer, int structOffset, String indent, StringBuilder sb )
+    {
+        for ( int i = 0; i < fields.size(); i++ )
+            fields.get( i ).appendValue( buffer, structOffset, indent, sb );
+    }
+    
+    /**
+     * Dumps the values of all fields (one per line).
+     * 
+     * @param buffer the data buffer
+     * @param structOffset the offset of the struct in the buffer
+     * 
+     * @return the values of all fields.
+     */
+    public String toString( ByteBuffer buffer, int structOffset )
+    {
+        StringBuilder sb = new StringBuilder();
+        
+        appendValues( buffer, structOffset, "", sb );
+        
+        return ( sb.toString() );
+    }
+    
+    @Override
+    public String toString()
+    {
+        StringBuilder sb = new StringBuilder();
+        
+        sb.append( "struct " ).append( name ).append( " (size " ).append( getSize() ).append( ", pack " ).append( packing ).append( ")\n" );
+        
+        for ( int i = 0; i < fields.size(); i++ )
+            sb.append( "    " ).append( fields.get( i ) ).append( '\n' );
+        
+        return ( sb.toString() );
+    }
+    
+    /**
+     * Creates a new empty layout.
+     * 
+     * @param name the struct name
+     * @param packing the maximum alignment of the fields (like #pragma pack)
+     */
+    public StructLayout( String name, int packing )
+    {
+        this.name = name;
+        this.packing = packing;
+    }
+    
+    /**
+     * Creates a new empty layout with the {@link #DEFAULT_PACKING}.
+     * 
+     * @param name the struct name
+     */
+    public StructLayout( String name )
+    {
+        this( name, DEFAULT_PACKING );
+    }
+}
@@ -49,6 +49,9 @@ public abstract class TelemetryData
     private long lastUpdateTimestamp = -1L;
     private long updateTimestamp = -1L;
     
+    private boolean dataCaptured = false;
+    private long capturedTimestamp = -1L;
+    
     protected final LiveGameData gameData;
     
     private float engineRPM = -1f;
@@ -290,6 +293,9 @@ public abstract class TelemetryData
     
     protected void updateData( Object userObject, long timestamp )
     {
+        // A direct update is newer than any captured one.
+        this.dataCaptured = false;
+        
         //if ( gameData.getProfileInfo().isValid() )
         {
             prepareDataUpdate( userObject, timestamp );
@@ -300,6 +306,68 @@ public abstract class TelemetryData
         }
     }
     
+    /**
+     * Copies the raw data of the given update into a back buffer without touching the current data,
+     * which may be read by the render thread at the same time.
+     * 
+     * @param userObject the custom user object from the native side
+     * 
+     * @return <code>true</code>, if the data has been captured, <code>false</code>, if this kind of update cannot be captured.
+     */
+    protected boolean captureDataImpl( Object userObject )
+    {
+        return ( false );
+    }
+    
+    /**
+     * Exchanges the back buffer, that has been filled by {@link #captureDataImpl(Object)}, with the current data buffer.
+     */
+    protected void swapCapturedData()
+    {
+    }
+    
+    /**
+     * Captures the given update to be applied by {@link #applyCapturedData()} at the start of the next frame.
+     * Only the last captured update is kept.
+     * 
+     * @param userObject the custom user object from the native side
+     * @param timestamp the update's timestamp
+     * 
+     * @return <code>true</code>, if the data has been captured.
+     */
+    final boolean captureData( Object userObject, long timestamp )
+    {
+        if ( !captureDataImpl( userObject ) )
+            return ( false );
+        
+        this.dataCaptured = true;
+        this.capturedTimestamp = timestamp;
+        
+        return ( true );
+    }
+    
+    /**
+     * Makes the last captured update the current data and processes it like a regular update.
+     * Must only be called, while no other thread reads the data.
+     * 
+     * @return <code>true</code>, if there was captured data.
+     */
+    final boolean applyCapturedData()
+    {
+        if ( !dataCaptured )
+            return ( false );
+        
+        this.dataCaptured = false;
+        
+        prepareDataUpdate( null, capturedTimestamp );
+        
+        swapCapturedData();
+        
+        onDataUpdated( null, capturedTimestamp );
+        
+        return ( true );
+    }
+    
     boolean checkGamePaused( long timestamp )
     {
         // TelemetryData are updated at 90Hz = 11ms. So 100ms should be a safe value to check against.
@@ -51,8 +51,6 @@ public abstract class VehicleScoringInfo
     
     private short place = -1;
     
-    private int lastTLCMgrUpdateId = -1;
-    
     private String vehClass = null;
     private static int nextClassId = 1;
     private int classId = 0;
@@ -363,6 +361,23 @@ public abstract class VehicleScoringInfo
         updateStintLength();
     }
     
+    /**
+     * Resolves the upper case name, short form and three-letter-code of the driver.
+     * The {@link ThreeLetterCodeManager} is not thread safe, so this is done on the game thread after each scoring update.
+     * The getters only read the resolved values.
+     */
+    void updateDriverNames()
+    {
+        //String driverName = getDriverName( false );
+        String driverName = originalName;
+        
+        nameUC = name.toUpperCase();
+        nameShort = ThreeLetterCodeManager.getShortForm( driverName, getDriverID(), scoringInfo.getThreeLetterCodeGenerator() );
+        nameShortUC = nameShort.toUpperCase();
+        nameTLC = ThreeLetterCodeManager.getThreeLetterCode( driverName, getDriverID(), scoringInfo.getThreeLetterCodeGenerator() );
+        nameTLCUC = nameTLC.toUpperCase();
+    }
+    
     void resetExtrapolatedValues()
     {
         lapDistance = -1f;
@@ -431,12 +446,7 @@ public abstract class VehicleScoringInfo
         */
         
         if ( upperCase )
-        {
-            if ( nameUC == null )
-                nameUC = name.toUpperCase();
-            
             return ( nameUC );
-        }
         
         return ( name );
     }
@@ -460,21 +470,8 @@ public abstract class VehicleScoringInfo
      */
     public final String getDriverNameShort( boolean upperCase )
     {
-        if ( ( nameShort == null ) || ( lastTLCMgrUpdateId < ThreeLetterCodeManager.getUpdateId() ) )
-        {
-            //String driverName = getDriverName( false );
-            String driverName = originalName;
-            nameShort = ThreeLetterCodeManager.getShortForm( driverName, getDriverID(), scoringInfo.getThreeLetterCodeGenerator() );
-            lastTLCMgrUpdateId = ThreeLetterCodeManager.getUpdateId();
-        }
-        
         if ( upperCase )
-        {
-            if ( nameShortUC == null )
-                nameShortUC = nameShort.toUpperCase();
-            
             return ( nameShortUC );
-        }
         
         return ( nameShort );
     }
@@ -498,21 +495,8 @@ public abstract class VehicleScoringInfo
      */
     public final String getDriverNameTLC( boolean upperCase )
     {
-        if ( ( nameTLC == null ) || ( lastTLCMgrUpdateId < ThreeLetterCodeManager.getUpdateId() ) )
-        {
-            //String driverName = getDriverName( false );
-            String driverName = originalName;
-            nameTLC = ThreeLetterCodeManager.getThreeLetterCode( driverName, getDriverID(), scoringInfo.getThreeLetterCodeGenerator() );
-            lastTLCMgrUpdateId = ThreeLetterCodeManager.getUpdateId();
-        }
-        
         if ( upperCase )
-        {
-            if ( nameTLCUC == null )
-                nameTLCUC = nameTLC.toUpperCase();
-            
             return ( nameTLCUC );
-        }
         
         return ( nameTLC );
     }
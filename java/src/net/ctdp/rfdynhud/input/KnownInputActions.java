@@ -22,6 +22,7 @@ import java.util.Arrays;
 import java.util.HashMap;
 
 import net.ctdp.rfdynhud.gamedata.__GDPrivilegedAccess;
+import net.ctdp.rfdynhud.render.__RenderPrivilegedAccess;
 import net.ctdp.rfdynhud.util.RFDHLog;
 import net.ctdp.rfdynhud.widgets.base.widget.Widget;
 import net.ctdp.rfdynhud.widgets.base.widget.WidgetFactory;
@@ -51,6 +52,7 @@ public class KnownInputActions
     public static final InputAction ResetFuelConsumption = __GDPrivilegedAccess.INPUT_ACTION_RESET_FUEL_CONSUMPTION;
     public static final InputAction ResetTopSpeeds = __GDPrivilegedAccess.INPUT_ACTION_RESET_TOPSPEEDS;
     public static final InputAction ResetLaptimesCache = __GDPrivilegedAccess.INPUT_ACTION_RESET_LAPTIMES_CACHE;
+    public static final InputAction ToggleWidgetProfiler = __RenderPrivilegedAccess.INPUT_ACTION_TOGGLE_WIDGET_PROFILER;
     
     private static HashMap<String, InputAction> knownActions = null;
     
@@ -74,6 +76,7 @@ public class KnownInputActions
             addAction( ResetFuelConsumption );
             addAction( ResetTopSpeeds );
             addAction( ResetLaptimesCache );
+            addAction( ToggleWidgetProfiler );
             
             try
             {
@@ -218,7 +218,7 @@ public class BorderCache
      * 
      * @return the border
      */
-    public static BorderWrapper getBorder( File bordersBolder, String iniFilename, IntProperty paddingTop, IntProperty paddingLeft, IntProperty paddingRight, IntProperty paddingBottom )
+    public static synchronized BorderWrapper getBorder( File bordersBolder, String iniFilename, IntProperty paddingTop, IntProperty paddingLeft, IntProperty paddingRight, IntProperty paddingBottom )
     {
         if ( ( iniFilename == null ) || iniFilename.equals( "<NONE>" ) )
         {
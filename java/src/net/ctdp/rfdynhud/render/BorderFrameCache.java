@@ -0,0 +1,350 @@
+/**
+ * Copyright (C) 2009-2014 Cars and Tracks Development Project (CTDP).
+ * 
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+ */
+package net.ctdp.rfdynhud.render;
+
+import java.lang.ref.WeakReference;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import net.ctdp.rfdynhud.util.__UtilHelper;
+
+/**
+ * Keeps fully rendered border frames, so that complete redraws of bordered Widgets are straight copies.<br>
+ * A frame is rendered once per border image, measures and target size and stored as four strips
+ * (top and bottom in full width, left and right between them), so the (unused) inner area doesn't cost memory.<br>
+ * The entries are kept in access order. When the byte budget is exceeded, the least recently used frames are dropped.
+ * The border images are only weakly referenced, so that the cache doesn't keep images alive, which the image cache has dropped.
+ * Frames of collected border images are dropped with the next insertion.
+ * 
+ * @author Marvin Froehlich (CTDP)
+ */
+public class BorderFrameCache
+{
+    private static class Key
+    {
+        // The lookup key references the border image directly, the stored keys only weakly.
+        private TextureImage2D borderTexture;
+        private WeakReference<TextureImage2D> borderTextureRef;
+        private BorderMeasures measures;
+        private int width;
+        private int height;
+        private int hash;
+        
+        public void set( TextureImage2D borderTexture, BorderMeasures measures, int width, int height )
+        {
+            this.borderTexture = borderTexture;
+            this.measures = measures;
+            this.width = width;
+            this.height = height;
+            this.hash = ( ( System.identityHashCode( borderTexture ) * 31 + System.identityHashCode( measures ) ) * 31 + width ) * 31 + height;
+        }
+        
+        public Key newStoredKey()
+        {
+            Key key = new Key();
+            key.set( null, measures, width, height );
+            key.borderTextureRef = new WeakReference<TextureImage2D>( borderTexture );
+            key.hash = hash;
+            
+            return ( key );
+        }
+        
+        public TextureImage2D getBorderTexture()
+        {
+            if ( borderTextureRef != null )
+                return ( borderTextureRef.get() );
+            
+            return ( borderTexture );
+        }
+        
+        @Override
+        public boolean equals( Object o )
+        {
+            if ( o == this )
+                return ( true );
+            
+            if ( !( o instanceof Key ) )
+                return ( false );
+            
+            Key k = (Key)o;
+            
+            if ( ( k.hash != hash ) || ( k.measures != measures ) || ( k.width != width ) || ( k.height != height ) )
+                return ( false );
+            
+            TextureImage2D bt = getBorderTexture();
+            
+            return ( ( bt != null ) && ( k.getBorderTexture() == bt ) );
+        }
+        
+        @Override
+        public int hashCode()
+        {
+            return ( hash );
+        }
+    }
+    
+    private static class Frame
+    {
+        private final TextureImage2D top;
+        private final TextureImage2D bottom;
+        private final TextureImage2D left;
+        private final TextureImage2D right;
+        private final long sizeInBytes;
+        
+        public Frame( TextureImage2D top, TextureImage2D bottom, TextureImage2D left, TextureImage2D right, long sizeInBytes )
+        {
+            this.top = top;
+            this.bottom = bottom;
+            this.left = left;
+            this.right = right;
+            this.sizeInBytes = sizeInBytes;
+        }
+    }
+    
+    private static final LinkedHashMap<Key, Frame> CACHE = new LinkedHashMap<Key, Frame>( 16, 0.75f, true );
+    private static final Key LOOKUP_KEY = new Key();
+    
+    private static final long ONE_MB = 1024L * 1024L;
+    
+    private static long maxSize = -1L;
+    private static long size = 0L;
+    
+    private static long numHits = 0L;
+    private static long numMisses = 0L;
+    private static long numEvictions = 0L;
+    
+    /**
+     * Sets the byte budget of this cache.
+     * 
+     * @param maxSize the maximum size in bytes (zero to disable the cache)
+     */
+    public static synchronized void setMaxSize( long maxSize )
+    {
+        BorderFrameCache.maxSize = Math.max( 0L, maxSize );
+        
+        limitCacheSize();
+    }
+    
+    /**
+     * Gets the byte budget of this cache. It defaults to the borderCacheSize setting from rfdynhud.ini.
+     * 
+     * @return the maximum size in bytes (zero, if the cache is disabled).
+     */
+    public static synchronized long getMaxSize()
+    {
+        if ( maxSize < 0L )
+            maxSize = Math.max( 0, __UtilHelper.PLUGIN_INI.getRenderingBorderCacheSize() ) * ONE_MB;
+        
+        return ( maxSize );
+    }
+    
+    /**
+     * Gets the summed up size of all cached frames in bytes.
+     * 
+     * @return the summed up size of all cached frames in bytes.
+     */
+    public static synchronized long getSize()
+    {
+        return ( size );
+    }
+    
+    public static synchronized int getNumEntries()
+    {
+        return ( CACHE.size() );
+    }
+    
+    public static synchronized long getNumHits()
+    {
+        return ( numHits );
+    }
+    
+    public static synchronized long getNumMisses()
+    {
+        return ( numMisses );
+    }
+    
+    public static synchronized long getNumEvictions()
+    {
+        return ( numEvictions );
+    }
+    
+    private static void limitCacheSize()
+    {
+        // The iteration order is least recently used first.
+        Iterator<Frame> it = CACHE.values().iterator();
+        
+        while ( ( size > maxSize ) && it.hasNext() )
+        {
+            Frame frame = it.next();
+            
+            it.remove();
+            size -= frame.sizeInBytes;
+            numEvictions++;
+        }
+    }
+    
+    private static void removeCollectedFrames()
+    {
+        Iterator<Map.Entry<Key, Frame>> it = CACHE.entrySet().iterator();
+        
+        while ( it.hasNext() )
+        {
+            Map.Entry<Key, Frame> entry = it.next();
+            
+            if ( entry.getKey().getBorderTexture() == null )
+            {
+                it.remove();
+                size -= entry.getValue().sizeInBytes;
+                numEvictions++;
+            }
+        }
+    }
+    
+    /**
+     * Drops all cached frames. This is called, when a configuration is about to be loaded.
+     */
+    public static synchronized void clear()
+    {
+        CACHE.clear();
+        size = 0L;
+    }
+    
+    private static TextureImage2D createStrip( TextureImage2D frameTexture, int x, int y, int width, int height )
+    {
+        if ( ( width <= 0 ) || ( height <= 0 ) )
+            return ( null );
+        
+        TextureImage2D strip = TextureImage2D.createDrawTexture( width, height, true );
+        strip.clear( frameTexture, x, y, width, height, 0, 0, false, null );
+        
+        return ( strip );
+    }
+    
+    private static long getFrameSize( BorderMeasures measures, int width, int height )
+    {
+        final int middleH = height - measures.getTopHeight() - measures.getBottomHeight();
+        
+        return ( ( (long)width * ( measures.getTopHeight() + measures.getBottomHeight() ) + (long)middleH * ( measures.getLeftWidth() + measures.getRightWidth() ) ) * 4L );
+    }
+    
+    private static Frame renderFrame( TextureImage2D borderTexture, BorderMeasures measures, int width, int height )
+    {
+        final int topH = measures.getTopHeight();
+        final int bottomH = measures.getBottomHeight();
+        final int leftW = measures.getLeftWidth();
+        final int rightW = measures.getRightWidth();
+        final int middleH = height - topH - bottomH;
+        
+        TextureImage2D frameTexture = TextureImage2D.createDrawTexture( width, height, true );
+        frameTexture.clear( false, null );
+        
+        ImageBorderRenderer.renderBorderFromTexture( borderTexture, measures, frameTexture, 0, 0, width, height );
+        
+        TextureImage2D top = createStrip( frameTexture, 0, 0, width, topH );
+        TextureImage2D bottom = createStrip( frameTexture, 0, height - bottomH, width, bottomH );
+        TextureImage2D left = createStrip( frameTexture, 0, topH, leftW, middleH );
+        TextureImage2D right = createStrip( frameTexture, width - rightW, topH, rightW, middleH );
+        
+        return ( new Frame( top, bottom, left, right, getFrameSize( measures, width, height ) ) );
+    }
+    
+    private static void drawStrip( TextureImage2D strip, TextureImage2D texture, int x, int y )
+    {
+        if ( strip != null )
+            texture.clear( strip, x, y, false, null );
+    }
+    
+    private static synchronized Frame getFrame( TextureImage2D borderTexture, BorderMeasures measures, int width, int height )
+    {
+        LOOKUP_KEY.set( borderTexture, measures, width, height );
+        Frame frame = CACHE.get( LOOKUP_KEY );
+        LOOKUP_KEY.set( null, null, 0, 0 );
+        
+        if ( frame == null )
+            numMisses++;
+        else
+            numHits++;
+        
+        return ( frame );
+    }
+    
+    private static synchronized Frame putFrame( TextureImage2D borderTexture, BorderMeasures measures, int width, int height, Frame frame )
+    {
+        LOOKUP_KEY.set( borderTexture, measures, width, height );
+        Frame existing = CACHE.get( LOOKUP_KEY );
+        Key key = ( existing == null ) ? LOOKUP_KEY.newStoredKey() : null;
+        LOOKUP_KEY.set( null, null, 0, 0 );
+        
+        // Another thread has rendered the same frame in the meantime.
+        if ( existing != null )
+            return ( existing );
+        
+        removeCollectedFrames();
+        
+        CACHE.put( key, frame );
+        size += frame.sizeInBytes;
+        
+        limitCacheSize();
+        
+        return ( frame );
+    }
+    
+    /**
+     * Draws the border frame for the given border image, measures and size from the cache and renders it into the cache first, if necessary.<br>
+     * The lock is only held for the lookup and the insertion. Rendering and copying the frame happen outside of it,
+     * since a frame is never modified after it has been rendered.
+     * 
+     * @param borderTexture the border image
+     * @param measures the border measures
+     * @param texture the target texture
+     * @param offsetX the x-offset on the target texture
+     * @param offsetY the y-offset on the target texture
+     * @param width the width of the bordered area
+     * @param height the height of the bordered area
+     * 
+     * @return <code>true</code>, if the frame has been drawn, <code>false</code>, if it cannot be cached and must be rendered directly.
+     */
+    static boolean drawBorder( TextureImage2D borderTexture, BorderMeasures measures, TextureImage2D texture, int offsetX, int offsetY, int width, int height )
+    {
+        final long budget = getMaxSize();
+        
+        if ( budget == 0L )
+            return ( false );
+        
+        if ( ( width < measures.getLeftWidth() + measures.getRightWidth() ) || ( height < measures.getTopHeight() + measures.getBottomHeight() ) )
+            return ( false );
+        
+        Frame frame = getFrame( borderTexture, measures, width, height );
+        
+        if ( frame == null )
+        {
+            if ( getFrameSize( measures, width, height ) > budget )
+                return ( false );
+            
+            frame = putFrame( borderTexture, measures, width, height, renderFrame( borderTexture, measures, width, height ) );
+        }
+        
+        drawStrip( frame.top, texture, offsetX, offsetY );
+        drawStrip( frame.left, texture, offsetX, offsetY + measures.getTopHeight() );
+        drawStrip( frame.right, texture, offsetX + width - measures.getRightWidth(), offsetY + measures.getTopHeight() );
+        drawStrip( frame.bottom, texture, offsetX, offsetY + height - measures.getBottomHeight() );
+        
+        return ( true );
+    }
+}
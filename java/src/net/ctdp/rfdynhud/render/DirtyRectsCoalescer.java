@@ -0,0 +1,333 @@
+/**
+ * Copyright (C) 2009-2014 Cars and Tracks Development Project (CTDP).
+ * 
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+ */
+package net.ctdp.rfdynhud.render;
+
+import java.util.List;
+
+import org.openmali.types.twodee.Rect2i;
+
+/**
+ * Merges dirty rectangles before they are pushed to the graphics card.<br>
+ * <br>
+ * Each uploaded rectangle is assumed to cost a fixed overhead (driver call, texture lock)
+ * plus the number of its pixels. The overhead is given in pixels, so that a merge is
+ * accepted, if the extra pixels of the merged rectangle are less than the saved overhead.<br>
+ * Additionally the number of rectangles can be capped per texture. In this case the
+ * cheapest merges are performed, until the cap is met.<br>
+ * <br>
+ * Coalescers are immutable policies. The working state is kept per thread, so that one instance can be shared by all render threads.
+ * 
+ * @author Marvin Froehlich (CTDP)
+ */
+public class DirtyRectsCoalescer
+{
+    /**
+     * Default per rectangle overhead in pixels.
+     */
+    public static final int DEFAULT_RECT_OVERHEAD = 2048;
+    
+    /**
+     * Default maximum number of rectangles per texture and frame.
+     */
+    public static final int DEFAULT_MAX_RECTS = 128;
+    
+    /**
+     * A coalescer, that doesn't merge anything (except for the hard cap of rects per texture).
+     */
+    public static final DirtyRectsCoalescer NONE = new DirtyRectsCoalescer( 0, Integer.MAX_VALUE );
+    
+    private static final int CAP_SEARCH_WINDOW = 16;
+    
+    private final int rectOverhead;
+    private final int maxRects;
+    
+    /**
+     * Working state of one {@link #coalesce(List, int)} call.
+     */
+    private static final class Scratch
+    {
+        private int[] marks = new int[ 64 ];
+        private int markStamp = 0;
+        
+        private int closureLeft, closureTop, closureRight, closureBottom;
+        private long closureCost;
+        
+        private final int nextMarkStamp( int size )
+        {
+            if ( marks.length < size )
+            {
+                marks = new int[ Math.max( size, marks.length * 2 ) ];
+                markStamp = 0;
+            }
+            
+            if ( ++markStamp == Integer.MAX_VALUE )
+            {
+                java.util.Arrays.fill( marks, 0 );
+                markStamp = 1;
+            }
+            
+            return ( markStamp );
+        }
+    }
+    
+    private static final ThreadLocal<Scratch> scratch = new ThreadLocal<Scratch>()
+    {
+        @Override
+        protected Scratch initialValue()
+        {
+            return ( new Scratch() );
+        }
+    };
+    
+    /**
+     * Gets the assumed overhead per uploaded rectangle in pixels.
+     * 
+     * @return the assumed overhead per uploaded rectangle in pixels.
+     */
+    public final int getRectOverhead()
+    {
+        return ( rectOverhead );
+    }
+    
+    /**
+     * Gets the maximum number of rectangles per texture and frame.
+     * 
+     * @return the maximum number of rectangles per texture and frame.
+     */
+    public final int getMaxRects()
+    {
+        return ( maxRects );
+    }
+    
+    private static final long area( Rect2i r )
+    {
+        return ( (long)r.getWidth() * (long)r.getHeight() );
+    }
+    
+    /**
+     * Computes the bounding rectangle of the rects i and j plus all rects intersecting it (repeatedly).
+     * This keeps the resulting rect list free of overlaps.
+     */
+    private void computeClosure( Scratch sc, List<Rect2i> rects, int i, int j )
+    {
+        final int size = rects.size();
+        final int stamp = sc.nextMarkStamp( size );
+        final int[] marks = sc.marks;
+        
+        Rect2i a = rects.get( i );
+        Rect2i b = rects.get( j );
+        
+        sc.closureLeft = Math.min( a.getLeft(), b.getLeft() );
+        sc.closureTop = Math.min( a.getTop(), b.getTop() );
+        sc.closureRight = Math.max( a.getLeft() + a.getWidth(), b.getLeft() + b.getWidth() );
+        sc.closureBottom = Math.max( a.getTop() + a.getHeight(), b.getTop() + b.getHeight() );
+        sc.closureCost = area( a ) + area( b ) + 2L * rectOverhead;
+        marks[i] = stamp;
+        marks[j] = stamp;
+        
+        boolean grown = true;
+        while ( grown )
+        {
+            grown = false;
+            
+            for ( int k = 0; k < size; k++ )
+            {
+                if ( marks[k] == stamp )
+                    continue;
+                
+                Rect2i r = rects.get( k );
+                
+                if ( ( r.getLeft() < sc.closureRight ) && ( r.getLeft() + r.getWidth() > sc.closureLeft ) && ( r.getTop() < sc.closureBottom ) && ( r.getTop() + r.getHeight() > sc.closureTop ) )
+                {
+                    sc.closureLeft = Math.min( sc.closureLeft, r.getLeft() );
+                    sc.closureTop = Math.min( sc.closureTop, r.getTop() );
+                    sc.closureRight = Math.max( sc.closureRight, r.getLeft() + r.getWidth() );
+                    sc.closureBottom = Math.max( sc.closureBottom, r.getTop() + r.getHeight() );
+                    sc.closureCost += area( r ) + rectOverhead;
+                    marks[k] = stamp;
+                    grown = true;
+                }
+            }
+        }
+    }
+    
+    /**
+     * Replaces all members of the last computed closure by one rectangle.
+     * 
+     * @return the index of the merged rectangle
+     */
+    private static int applyClosure( Scratch sc, List<Rect2i> rects, int target )
+    {
+        final int[] marks = sc.marks;
+        final int stamp = sc.markStamp;
+        
+        rects.get( target ).set( sc.closureLeft, sc.closureTop, sc.closureRight - sc.closureLeft, sc.closureBottom - sc.closureTop );
+        
+        int result = target;
+        int n = 0;
+        for ( int k = 0; k < rects.size(); k++ )
+        {
+            Rect2i r = rects.get( k );
+            
+            if ( ( k == target ) || ( marks[k] != stamp ) )
+            {
+                if ( k == target )
+                    result = n;
+                
+                marks[n] = marks[k];
+                rects.set( n++, r );
+            }
+            else
+            {
+                Rect2i.toPool( r );
+            }
+        }
+        
+        for ( int k = rects.size() - 1; k >= n; k-- )
+            rects.remove( k );
+        
+        return ( result );
+    }
+    
+    private static final long getQuickMergeWaste( Rect2i a, Rect2i b )
+    {
+        final long w = Math.max( a.getLeft() + a.getWidth(), b.getLeft() + b.getWidth() ) - Math.min( a.getLeft(), b.getLeft() );
+        final long h = Math.max( a.getTop() + a.getHeight(), b.getTop() + b.getHeight() ) - Math.min( a.getTop(), b.getTop() );
+        
+        return ( w * h - area( a ) - area( b ) );
+    }
+    
+    /**
+     * Checks, whether merging the pair i, j (plus the rects overlapping their union) is cheaper than uploading them separately.
+     * 
+     * @return <code>true</code>, if the merge is profitable. The merged rect is left in the last computed closure then.
+     */
+    private boolean isMergeProfitable( Scratch sc, List<Rect2i> rects, int i, int j )
+    {
+        // Cheap check on the plain union first. The closure only differs, if the union overlaps further rects.
+        if ( getQuickMergeWaste( rects.get( i ), rects.get( j ) ) >= rectOverhead )
+            return ( false );
+        
+        computeClosure( sc, rects, i, j );
+        
+        final long mergedCost = (long)( sc.closureRight - sc.closureLeft ) * (long)( sc.closureBottom - sc.closureTop ) + rectOverhead;
+        
+        return ( mergedCost < sc.closureCost );
+    }
+    
+    private void mergeByCost( Scratch sc, List<Rect2i> rects )
+    {
+        if ( rectOverhead <= 0 )
+            return;
+        
+        for ( int i = 0; i < rects.size(); i++ )
+        {
+            int j = i + 1;
+            
+            while ( j < rects.size() )
+            {
+                if ( ( j != i ) && isMergeProfitable( sc, rects, i, j ) )
+                {
+                    i = applyClosure( sc, rects, i );
+                    
+                    // All other pairs are unchanged. So only the merged rect needs to be rescanned (against the already scanned rects, too).
+                    j = 0;
+                }
+                else
+                {
+                    j++;
+                }
+            }
+        }
+    }
+    
+    private void enforceCap( Scratch sc, List<Rect2i> rects, int cap )
+    {
+        while ( rects.size() > cap )
+        {
+            int bestI = 0;
+            int bestJ = 1;
+            long bestWaste = Long.MAX_VALUE;
+            
+            // Rects are roughly sorted by their top edge. So only close neighbours in the list are tested.
+            for ( int i = 0; i < rects.size(); i++ )
+            {
+                final int jEnd = Math.min( i + 1 + CAP_SEARCH_WINDOW, rects.size() );
+                
+                for ( int j = i + 1; j < jEnd; j++ )
+                {
+                    long waste = getQuickMergeWaste( rects.get( i ), rects.get( j ) );
+                    
+                    if ( waste < bestWaste )
+                    {
+                        bestWaste = waste;
+                        bestI = i;
+                        bestJ = j;
+                    }
+                }
+            }
+            
+            computeClosure( sc, rects, bestI, bestJ );
+            applyClosure( sc, rects, bestI );
+        }
+    }
+    
+    /**
+     * Merges the given non overlapping rectangles in place. The result doesn't contain overlapping rectangles either.
+     * Removed rectangles are returned to the {@link Rect2i} pool.<br>
+     * This method may be called from several threads at once.
+     * 
+     * @param rects the rectangles to merge
+     * @param maxRects the maximum number of rectangles for this texture (e.g. limited by the buffer size). Applied in addition to {@link #getMaxRects()}.
+     */
+    public void coalesce( List<Rect2i> rects, int maxRects )
+    {
+        if ( rects.size() < 2 )
+            return;
+        
+        final Scratch sc = scratch.get();
+        
+        mergeByCost( sc, rects );
+        
+        int cap = Math.max( 1, Math.min( maxRects, this.maxRects ) );
+        
+        if ( rects.size() > cap )
+            enforceCap( sc, rects, cap );
+    }
+    
+    @Override
+    public String toString()
+    {
+        return ( getClass().getSimpleName() + "( rectOverhead = " + rectOverhead + ", maxRects = " + maxRects + " )" );
+    }
+    
+    /**
+     * Creates a new coalescer.
+     * 
+     * @param rectOverhead the assumed overhead per uploaded rectangle in pixels. Zero disables cost based merging.
+     * @param maxRects the maximum number of rectangles per texture and frame
+     */
+    public DirtyRectsCoalescer( int rectOverhead, int maxRects )
+    {
+        if ( maxRects < 1 )
+            throw new IllegalArgumentException( "maxRects must be greater than zero." );
+        
+        this.rectOverhead = Math.max( 0, rectOverhead );
+        this.maxRects = maxRects;
+    }
+}
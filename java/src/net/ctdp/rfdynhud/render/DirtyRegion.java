@@ -0,0 +1,392 @@
+/**
+ * Copyright (C) 2009-2014 Cars and Tracks Development Project (CTDP).
+ * 
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+ */
+package net.ctdp.rfdynhud.render;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.openmali.types.twodee.Rect2i;
+
+/**
+ * Collects the dirty areas of a {@link TextureImage2D}.<br>
+ * <br>
+ * The texture is divided into tiles of {@link #TILE_SIZE} x {@link #TILE_SIZE} pixels.
+ * Each tile stores the bounding box of the dirty pixels inside of it, so adding a rectangle
+ * only touches the tiles it covers and never walks previously added rectangles.<br>
+ * The rectangle list is built lazily by merging the tile boxes horizontally and vertically.
+ * The resulting rectangles never overlap, since each of them is a union of distinct tiles.
+ * 
+ * @author Marvin Froehlich (CTDP)
+ */
+final class DirtyRegion
+{
+    static final int TILE_SHIFT = 4;
+    static final int TILE_SIZE = 1 << TILE_SHIFT;
+    
+    private final int width;
+    private final int height;
+    private final int tilesX;
+    
+    /**
+     * Per tile bounding box packed as (minX << 24) | (minY << 16) | ((maxX + 1) << 8) | (maxY + 1) in tile local coordinates.
+     * Zero means clean.
+     */
+    private final int[] tileBoxes;
+    private int[] dirtyTiles = new int[ 64 ];
+    private int numDirtyTiles = 0;
+    private boolean full = false;
+    
+    private final ArrayList<Rect2i> rects = new ArrayList<Rect2i>();
+    private boolean rectsValid = true;
+    
+    private final ArrayList<Rect2i> openRects = new ArrayList<Rect2i>();
+    private final ArrayList<Rect2i> nextOpenRects = new ArrayList<Rect2i>();
+    
+    private int numInsertions = 0;
+    private long totalAddedArea = 0L;
+    
+    private int lastNumInsertions = 0;
+    private int lastNumRectsBeforeCoalescing = 0;
+    private int lastNumRects = 0;
+    private long lastPixelArea = 0L;
+    private long lastBytes = 0L;
+    
+    public final int getWidth()
+    {
+        return ( width );
+    }
+    
+    public final int getHeight()
+    {
+        return ( height );
+    }
+    
+    public final boolean isEmpty()
+    {
+        return ( !full && ( numDirtyTiles == 0 ) );
+    }
+    
+    /**
+     * Adds a dirty rectangle. The rectangle is clamped to the region bounds.
+     * 
+     * @param x the left coordinate
+     * @param y the top coordinate
+     * @param w the width
+     * @param h the height
+     */
+    public void add( int x, int y, int w, int h )
+    {
+        int x1 = Math.min( x + w, width );
+        int y1 = Math.min( y + h, height );
+        x = Math.max( 0, x );
+        y = Math.max( 0, y );
+        
+        if ( ( x >= x1 ) || ( y >= y1 ) )
+            return;
+        
+        numInsertions++;
+        totalAddedArea += (long)( x1 - x ) * (long)( y1 - y );
+        
+        if ( full )
+            return;
+        
+        rectsValid = false;
+        
+        if ( ( x == 0 ) && ( y == 0 ) && ( x1 == width ) && ( y1 == height ) )
+        {
+            clearTiles();
+            full = true;
+            
+            return;
+        }
+        
+        final int tx0 = x >> TILE_SHIFT;
+        final int ty0 = y >> TILE_SHIFT;
+        final int tx1 = ( x1 - 1 ) >> TILE_SHIFT;
+        final int ty1 = ( y1 - 1 ) >> TILE_SHIFT;
+        
+        for ( int ty = ty0; ty <= ty1; ty++ )
+        {
+            final int tileTop = ty << TILE_SHIFT;
+            final int minY = Math.max( y, tileTop ) - tileTop;
+            final int maxY = Math.min( y1, tileTop + TILE_SIZE ) - tileTop;
+            
+            for ( int tx = tx0; tx <= tx1; tx++ )
+            {
+                final int tileLeft = tx << TILE_SHIFT;
+                final int minX = Math.max( x, tileLeft ) - tileLeft;
+                final int maxX = Math.min( x1, tileLeft + TILE_SIZE ) - tileLeft;
+                
+                final int tile = ty * tilesX + tx;
+                final int box = tileBoxes[tile];
+                
+                if ( box == 0 )
+                {
+                    tileBoxes[tile] = ( minX << 24 ) | ( minY << 16 ) | ( maxX << 8 ) | maxY;
+                    
+                    if ( numDirtyTiles == dirtyTiles.length )
+                        dirtyTiles = Arrays.copyOf( dirtyTiles, dirtyTiles.length * 2 );
+                    
+                    dirtyTiles[numDirtyTiles++] = tile;
+                }
+                else
+                {
+                    tileBoxes[tile] = ( Math.min( minX, box >>> 24 ) << 24 ) |
+                                      ( Math.min( minY, ( box >>> 16 ) & 0xFF ) << 16 ) |
+                                      ( Math.max( maxX, ( box >>> 8 ) & 0xFF ) << 8 ) |
+                                        Math.max( maxY, box & 0xFF );
+                }
+            }
+        }
+    }
+    
+    private void clearTiles()
+    {
+        for ( int i = 0; i < numDirtyTiles; i++ )
+            tileBoxes[dirtyTiles[i]] = 0;
+        
+        numDirtyTiles = 0;
+    }
+    
+    private void clearRects()
+    {
+        for ( int i = rects.size() - 1; i >= 0; i-- )
+            Rect2i.toPool( rects.get( i ) );
+        
+        rects.clear();
+    }
+    
+    private void addRun( int x0, int y0, int x1, int y1, int tileTop )
+    {
+        if ( y0 == tileTop )
+        {
+            for ( int i = 0; i < openRects.size(); i++ )
+            {
+                Rect2i r = openRects.get( i );
+                
+                if ( ( r.getLeft() == x0 ) && ( r.getLeft() + r.getWidth() == x1 ) )
+                {
+                    r.setHeight( y1 - r.getTop() );
+                    openRects.remove( i );
+                    
+                    if ( y1 == tileTop + TILE_SIZE )
+                        nextOpenRects.add( r );
+                    
+                    return;
+                }
+            }
+        }
+        
+        Rect2i r = Rect2i.fromPool( x0, y0, x1 - x0, y1 - y0 );
+        rects.add( r );
+        
+        if ( y1 == tileTop + TILE_SIZE )
+            nextOpenRects.add( r );
+    }
+    
+    private void buildRects()
+    {
+        clearRects();
+        
+        if ( full )
+        {
+            rects.add( Rect2i.fromPool( 0, 0, width, height ) );
+            
+            return;
+        }
+        
+        Arrays.sort( dirtyTiles, 0, numDirtyTiles );
+        
+        openRects.clear();
+        nextOpenRects.clear();
+        
+        int currTileRow = -1;
+        int runX0 = 0, runY0 = 0, runX1 = 0, runY1 = 0;
+        int runTile = -2;
+        
+        for ( int i = 0; i < numDirtyTiles; i++ )
+        {
+            final int tile = dirtyTiles[i];
+            final int ty = tile / tilesX;
+            final int tx = tile - ty * tilesX;
+            final int box = tileBoxes[tile];
+            
+            final int tileLeft = tx << TILE_SHIFT;
+            final int tileTop = ty << TILE_SHIFT;
+            final int x0 = tileLeft + ( box >>> 24 );
+            final int y0 = tileTop + ( ( box >>> 16 ) & 0xFF );
+            final int x1 = tileLeft + ( ( box >>> 8 ) & 0xFF );
+            final int y1 = tileTop + ( box & 0xFF );
+            
+            if ( ( tile == runTile + 1 ) && ( ty == currTileRow ) && ( runX1 == tileLeft ) && ( x0 == tileLeft ) && ( y0 == runY0 ) && ( y1 == runY1 ) )
+            {
+                runX1 = x1;
+                runTile = tile;
+                
+                continue;
+            }
+            
+            if ( runTile >= 0 )
+                addRun( runX0, runY0, runX1, runY1, currTileRow << TILE_SHIFT );
+            
+            if ( ty != currTileRow )
+            {
+                openRects.clear();
+                
+                if ( ty == currTileRow + 1 )
+                    openRects.addAll( nextOpenRects );
+                
+                nextOpenRects.clear();
+                currTileRow = ty;
+            }
+            
+            runX0 = x0;
+            runY0 = y0;
+            runX1 = x1;
+            runY1 = y1;
+            runTile = tile;
+        }
+        
+        if ( runTile >= 0 )
+            addRun( runX0, runY0, runX1, runY1, currTileRow << TILE_SHIFT );
+        
+        openRects.clear();
+        nextOpenRects.clear();
+    }
+    
+    /**
+     * Gets the non overlapping rectangles covering all dirty areas.
+     * The list is valid until the next call to {@link #add(int, int, int, int)} or {@link #clear()}.
+     * It may be modified in place (e.g. by a {@link DirtyRectsCoalescer}).
+     * 
+     * @return the non overlapping rectangles covering all dirty areas.
+     */
+    public final List<Rect2i> getRects()
+    {
+        if ( !rectsValid )
+        {
+            buildRects();
+            rectsValid = true;
+        }
+        
+        return ( rects );
+    }
+    
+    /**
+     * Gets the number of pixels covered by the current rectangles.
+     * 
+     * @return the number of pixels covered by the current rectangles.
+     */
+    public final long getPixelArea()
+    {
+        List<Rect2i> list = getRects();
+        
+        long area = 0L;
+        for ( int i = 0; i < list.size(); i++ )
+        {
+            Rect2i r = list.get( i );
+            
+            area += (long)r.getWidth() * (long)r.getHeight();
+        }
+        
+        return ( area );
+    }
+    
+    /**
+     * Gets the number of (non empty) rectangles added since the last {@link #clear()}.
+     * 
+     * @return the number of rectangles added since the last clear.
+     */
+    public final int getNumInsertions()
+    {
+        return ( numInsertions );
+    }
+    
+    /**
+     * Gets the summed up area of all (clamped) rectangles ever added. This is not reset by {@link #clear()}.
+     * 
+     * @return the summed up area of all rectangles ever added.
+     */
+    public final long getTotalAddedArea()
+    {
+        return ( totalAddedArea );
+    }
+    
+    /**
+     * Stores the statistics of the frame, that has just been uploaded.
+     * 
+     * @param numRectsBeforeCoalescing the number of rectangles before they were merged
+     * @param numRects the number of uploaded rectangles
+     * @param pixelArea the number of uploaded pixels
+     * @param bytes the number of uploaded bytes
+     */
+    final void setFrameStatistics( int numRectsBeforeCoalescing, int numRects, long pixelArea, long bytes )
+    {
+        this.lastNumInsertions = numInsertions;
+        this.lastNumRectsBeforeCoalescing = numRectsBeforeCoalescing;
+        this.lastNumRects = numRects;
+        this.lastPixelArea = pixelArea;
+        this.lastBytes = bytes;
+    }
+    
+    public final int getLastNumInsertions()
+    {
+        return ( lastNumInsertions );
+    }
+    
+    public final int getLastNumRectsBeforeCoalescing()
+    {
+        return ( lastNumRectsBeforeCoalescing );
+    }
+    
+    public final int getLastNumRects()
+    {
+        return ( lastNumRects );
+    }
+    
+    public final long getLastPixelArea()
+    {
+        return ( lastPixelArea );
+    }
+    
+    public final long getLastBytes()
+    {
+        return ( lastBytes );
+    }
+    
+    public void clear()
+    {
+        clearTiles();
+        clearRects();
+        full = false;
+        rectsValid = true;
+        numInsertions = 0;
+    }
+    
+    public DirtyRegion( int width, int height )
+    {
+        this.width = width;
+        this.height = height;
+        this.tilesX = ( width + TILE_SIZE - 1 ) >> TILE_SHIFT;
+        
+        int tilesY = ( height + TILE_SIZE - 1 ) >> TILE_SHIFT;
+        
+        this.tileBoxes = new int[ tilesX * tilesY ];
+    }
+}
@@ -19,6 +19,7 @@ package net.ctdp.rfdynhud.render;
 
 import java.awt.geom.Rectangle2D;
 
+import net.ctdp.rfdynhud.util.TextBuffer;
 import net.ctdp.rfdynhud.widgets.base.widget.Widget;
 
 import org.openmali.types.twodee.Rect2i;
@@ -67,6 +68,8 @@ public class DrawnString
     private final String prefix;
     private final String postfix;
     
+    private final TextBuffer composeBuffer = new TextBuffer( 32 );
+    
     public final String getName()
     {
         return ( name );
@@ -221,6 +224,43 @@ public class DrawnString
         return ( postfix );
     }
     
+    /**
+     * Puts prefix and postfix around the given characters. The result is only valid until the next call.
+     */
+    private CharSequence compose( CharSequence str )
+    {
+        if ( ( prefix == null ) && ( postfix == null ) )
+            return ( str );
+        
+        return ( composeBuffer.clear().append( prefix ).append( str ).append( postfix ) );
+    }
+    
+    /**
+     * Puts the prefix before the first and the postfix after the last column. The result is only valid until the next call.
+     */
+    private CharSequence composeColumn( CharSequence[] strs, int i )
+    {
+        if ( ( i == 0 ) && ( prefix != null ) )
+            return ( composeBuffer.clear().append( prefix ).append( strs[i] ) );
+        
+        if ( ( i == strs.length - 1 ) && ( postfix != null ) )
+            return ( composeBuffer.clear().append( strs[i] ).append( postfix ) );
+        
+        return ( strs[i] );
+    }
+    
+    /**
+     * Gets the drawn string's width in pixels.
+     * 
+     * @param str the string to draw
+     * 
+     * @return the drawn string's width in pixels.
+     */
+    public int getWidth( CharSequence str )
+    {
+        return ( Math.round( TextMetricsCache.getStringWidth( compose( str ), font, fontAntiAliased ) ) );
+    }
+    
     /**
      * Gets the drawn string's width in pixels.
      * 
@@ -230,19 +270,7 @@ public class DrawnString
      */
     public int getWidth( String str )
     {
-        String s;
-        if ( ( prefix != null ) && ( postfix != null ) )
-            s = prefix + str + postfix;
-        else if ( prefix != null )
-            s = prefix + str;
-        else if ( postfix != null )
-            s = str + postfix;
-        else
-            s = str;
-        
-        Rectangle2D bounds = TextureImage2D.getStringBounds( s, font, fontAntiAliased );
-        
-        return ( (int)Math.round( bounds.getWidth() ) );
+        return ( getWidth( (CharSequence)str ) );
     }
     
     /**
@@ -255,34 +283,17 @@ public class DrawnString
      * 
      * @return the drawn strings' minimum total width in pixels.
      */
-    public int getMinColWidths( String[] strs, Alignment[] aligns, int padding, int[] colWidths )
+    public int getMinColWidths( CharSequence[] strs, Alignment[] aligns, int padding, int[] colWidths )
     {
         int total = 0;
         int w;
-        String str;
+        CharSequence str;
         
         for ( int i = 0; i < strs.length; i++ )
         {
             Alignment align = aligns == null ? getAlignment() : ( aligns[i] == null ? getAlignment() : aligns[i] );
             
-            if ( ( i == 0 ) && ( prefix != null ) )
-            {
-                if ( strs[i] == null )
-                    str = prefix;
-                else
-                    str = prefix + strs[i];
-            }
-            else if ( ( i == strs.length - 1 ) && ( postfix != null ) )
-            {
-                if ( strs[i] == null )
-                    str = postfix;
-                else
-                    str = strs[i] + postfix;
-            }
-            else
-            {
-                str = strs[i];
-            }
+            str = composeColumn( strs, i );
             
             w = 0;
             
@@ -294,7 +305,7 @@ public class DrawnString
                 else if ( ( i == strs.length - 1 ) && ( align == Alignment.RIGHT ) )
                     pad = 0;
                 
-                w = (int)Math.round( TextureImage2D.getStringBounds( str, font, fontAntiAliased ).getWidth() ) + pad;
+                w = Math.round( TextMetricsCache.getStringWidth( str, font, fontAntiAliased ) ) + pad;
                 
                 total += w;
             }
@@ -306,6 +317,21 @@ public class DrawnString
         return ( total );
     }
     
+    /**
+     * Gets the drawn strings' minimum column-widths and the total width in pixels.
+     * 
+     * @param strs the strings to draw
+     * @param aligns alignment per column (default is the {@link DrawnString}'s alignment)
+     * @param padding padding per column
+     * @param colWidths the array to write column widths to
+     * 
+     * @return the drawn strings' minimum total width in pixels.
+     */
+    public int getMinColWidths( String[] strs, Alignment[] aligns, int padding, int[] colWidths )
+    {
+        return ( getMinColWidths( (CharSequence[])strs, aligns, padding, colWidths ) );
+    }
+    
     /**
      * Gets the drawn strings' maximum column-widths and the total width in pixels.
      * 
@@ -316,34 +342,17 @@ public class DrawnString
      * 
      * @return the drawn strings' maximum total width in pixels.
      */
-    public int getMaxColWidths( String[] strs, Alignment[] aligns, int padding, int[] colWidths )
+    public int getMaxColWidths( CharSequence[] strs, Alignment[] aligns, int padding, int[] colWidths )
     {
         int total = 0;
         int w;
-        String str;
+        CharSequence str;
         
         for ( int i = 0; i < strs.length; i++ )
         {
             Alignment align = aligns == null ? getAlignment() : ( aligns[i] == null ? getAlignment() : aligns[i] );
             
-            if ( ( i == 0 ) && ( prefix != null ) )
-            {
-                if ( strs[i] == null )
-                    str = prefix;
-                else
-                    str = prefix + strs[i];
-            }
-            else if ( ( i == strs.length - 1 ) && ( postfix != null ) )
-            {
-                if ( strs[i] == null )
-                    str = postfix;
-                else
-                    str = strs[i] + postfix;
-            }
-            else
-            {
-                str = strs[i];
-            }
+            str = composeColumn( strs, i );
             
             if ( str != null )
             {
@@ -353,7 +362,7 @@ public class DrawnString
                 else if ( ( i == strs.length - 1 ) && ( align == Alignment.RIGHT ) )
                     pad = 0;
                 
-                w = (int)Math.round( TextureImage2D.getStringBounds( str, font, fontAntiAliased ).getWidth() ) + pad;
+                w = Math.round( TextMetricsCache.getStringWidth( str, font, fontAntiAliased ) ) + pad;
                 
                 colWidths[i] = Math.max( colWidths[i], w );
             }
@@ -364,6 +373,21 @@ public class DrawnString
         return ( total );
     }
     
+    /**
+     * Gets the drawn strings' maximum column-widths and the total width in pixels.
+     * 
+     * @param strs the strings to draw
+     * @param aligns alignment per column (default is the {@link DrawnString}'s alignment)
+     * @param padding padding per column
+     * @param colWidths the array to write column widths to
+     * 
+     * @return the drawn strings' maximum total width in pixels.
+     */
+    public int getMaxColWidths( String[] strs, Alignment[] aligns, int padding, int[] colWidths )
+    {
+        return ( getMaxColWidths( (CharSequence[])strs, aligns, padding, colWidths ) );
+    }
+    
     /**
      * Gets the last drawn string's width.<br />
      * This value will be invalid, if this {@link DrawnString} has not yet been drawn.
@@ -478,25 +502,18 @@ public class DrawnString
         clearRect.setSize( 0, 0 );
     }
     
-    private int draw( int offsetX, int offsetY, String str, java.awt.Color fontColor, TextureImage2D texture, boolean clearBefore, java.awt.Color clearColor, TextureImage2D clearBackground, int clearOffsetX, int clearOffsetY )
+    private int draw( int offsetX, int offsetY, CharSequence str, java.awt.Color fontColor, TextureImage2D texture, boolean clearBefore, java.awt.Color clearColor, TextureImage2D clearBackground, int clearOffsetX, int clearOffsetY )
     {
         if ( fontColor == null )
             fontColor = getFontColor();
         
-        String totalString;
+        CharSequence totalString;
         Rectangle2D bounds = null;
         
         if ( clearBefore )
             clear( offsetX, offsetY, clearColor, clearBackground, clearOffsetX, clearOffsetY, texture, null );
         
-        if ( ( prefix != null ) && ( postfix != null ) )
-            totalString = prefix + str + postfix;
-        else if ( prefix != null )
-            totalString = prefix + str;
-        else if ( postfix != null )
-            totalString = str + postfix;
-        else
-            totalString = str;
+        totalString = compose( str );
         
         bounds = TextureImage2D.getStringBounds( totalString, font, fontAntiAliased );
         maxWidth = (int)bounds.getWidth();
@@ -525,7 +542,7 @@ public class DrawnString
     }
     
     /**
-     * Draws the specified String as configured in this class instance.
+     * Draws the specified characters as configured in this class instance.
      * 
      * @param offsetX the x-offset on the texture
      * @param offsetY the y-offset on the texture
@@ -536,27 +553,58 @@ public class DrawnString
      * 
      * @return the drawn string's width in pixels.
      */
-    public int draw( int offsetX, int offsetY, String str, java.awt.Color fontColor, TextureImage2D texture, java.awt.Color clearColor )
+    public int draw( int offsetX, int offsetY, CharSequence str, java.awt.Color fontColor, TextureImage2D texture, java.awt.Color clearColor )
     {
         return ( draw( offsetX, offsetY, str, fontColor, texture, getClearFlag( clearColor, null ), clearColor, null, 0, 0 ) );
     }
     
     /**
-     * Draws the specified String as configured in this class instance.
+     * Draws the specified characters as configured in this class instance.
      * 
      * @param offsetX the x-offset on the texture
      * @param offsetY the y-offset on the texture
      * @param str the string to draw
+     * @param fontColor (null for predefined)
      * @param texture the texture to draw on
      * @param clearColor the color to use for clearing (null to skip clearing)
+     * 
+     * @return the drawn string's width in pixels.
      */
-    public void draw( int offsetX, int offsetY, String str, TextureImage2D texture, java.awt.Color clearColor )
+    public int draw( int offsetX, int offsetY, String str, java.awt.Color fontColor, TextureImage2D texture, java.awt.Color clearColor )
+    {
+        return ( draw( offsetX, offsetY, (CharSequence)str, fontColor, texture, clearColor ) );
+    }
+    
+    /**
+     * Draws the specified characters as configured in this class instance.
+     * 
+     * @param offsetX the x-offset on the texture
+     * @param offsetY the y-offset on the texture
+     * @param str the string to draw
+     * @param texture the texture to draw on
+     * @param clearColor the color to use for clearing (null to skip clearing)
+     */
+    public void draw( int offsetX, int offsetY, CharSequence str, TextureImage2D texture, java.awt.Color clearColor )
     {
         draw( offsetX, offsetY, str, null, texture, getClearFlag( clearColor, null ), clearColor, null, 0, 0 );
     }
     
     /**
-     * Draws the specified String as configured in this class instance.
+     * Draws the specified characters as configured in this class instance.
+     * 
+     * @param offsetX the x-offset on the texture
+     * @param offsetY the y-offset on the texture
+     * @param str the string to draw
+     * @param texture the texture to draw on
+     * @param clearColor the color to use for clearing (null to skip clearing)
+     */
+    public void draw( int offsetX, int offsetY, String str, TextureImage2D texture, java.awt.Color clearColor )
+    {
+        draw( offsetX, offsetY, (CharSequence)str, texture, clearColor );
+    }
+    
+    /**
+     * Draws the specified characters as configured in this class instance.
      * 
      * @param offsetX the x-offset on the texture
      * @param offsetY the y-offset on the texture
@@ -569,43 +617,92 @@ public class DrawnString
      * 
      * @return the drawn string's width in pixels.
      */
-    public int draw( int offsetX, int offsetY, String str, java.awt.Color fontColor, TextureImage2D texture, TextureImage2D clearBackground, int clearOffsetX, int clearOffsetY )
+    public int draw( int offsetX, int offsetY, CharSequence str, java.awt.Color fontColor, TextureImage2D texture, TextureImage2D clearBackground, int clearOffsetX, int clearOffsetY )
     {
         return ( draw( offsetX, offsetY, str, fontColor, texture, getClearFlag( null, clearBackground ), null, clearBackground, clearOffsetX, clearOffsetY ) );
     }
     
     /**
-     * Draws the specified String as configured in this class instance.
+     * Draws the specified characters as configured in this class instance.
      * 
      * @param offsetX the x-offset on the texture
      * @param offsetY the y-offset on the texture
      * @param str the string to draw
+     * @param fontColor (null for predefined)
      * @param texture the texture to draw on
      * @param clearBackground the image to use for clearing (null to skip clearing)
      * @param clearOffsetX the x-offset of the clear texture on the background
      * @param clearOffsetY the y-offset of the clear texture on the background
+     * 
+     * @return the drawn string's width in pixels.
      */
-    public void draw( int offsetX, int offsetY, String str, TextureImage2D texture, TextureImage2D clearBackground, int clearOffsetX, int clearOffsetY )
+    public int draw( int offsetX, int offsetY, String str, java.awt.Color fontColor, TextureImage2D texture, TextureImage2D clearBackground, int clearOffsetX, int clearOffsetY )
+    {
+        return ( draw( offsetX, offsetY, (CharSequence)str, fontColor, texture, clearBackground, clearOffsetX, clearOffsetY ) );
+    }
+    
+    /**
+     * Draws the specified characters as configured in this class instance.
+     * 
+     * @param offsetX the x-offset on the texture
+     * @param offsetY the y-offset on the texture
+     * @param str the string to draw
+     * @param texture the texture to draw on
+     * @param clearBackground the image to use for clearing (null to skip clearing)
+     * @param clearOffsetX the x-offset of the clear texture on the background
+     * @param clearOffsetY the y-offset of the clear texture on the background
+     */
+    public void draw( int offsetX, int offsetY, CharSequence str, TextureImage2D texture, TextureImage2D clearBackground, int clearOffsetX, int clearOffsetY )
     {
         draw( offsetX, offsetY, str, null, texture, getClearFlag( null, clearBackground ), null, clearBackground, clearOffsetX, clearOffsetY );
     }
     
     /**
-     * Draws the specified String as configured in this class instance.
+     * Draws the specified characters as configured in this class instance.
      * 
      * @param offsetX the x-offset on the texture
      * @param offsetY the y-offset on the texture
      * @param str the string to draw
      * @param texture the texture to draw on
      * @param clearBackground the image to use for clearing (null to skip clearing)
+     * @param clearOffsetX the x-offset of the clear texture on the background
+     * @param clearOffsetY the y-offset of the clear texture on the background
      */
-    public void draw( int offsetX, int offsetY, String str, TextureImage2D texture, TextureImage2D clearBackground )
+    public void draw( int offsetX, int offsetY, String str, TextureImage2D texture, TextureImage2D clearBackground, int clearOffsetX, int clearOffsetY )
+    {
+        draw( offsetX, offsetY, (CharSequence)str, texture, clearBackground, clearOffsetX, clearOffsetY );
+    }
+    
+    /**
+     * Draws the specified characters as configured in this class instance.
+     * 
+     * @param offsetX the x-offset on the texture
+     * @param offsetY the y-offset on the texture
+     * @param str the string to draw
+     * @param texture the texture to draw on
+     * @param clearBackground the image to use for clearing (null to skip clearing)
+     */
+    public void draw( int offsetX, int offsetY, CharSequence str, TextureImage2D texture, TextureImage2D clearBackground )
     {
         draw( offsetX, offsetY, str, null, texture, getClearFlag( null, clearBackground ), null, clearBackground, offsetX, offsetY );
     }
     
     /**
-     * Draws the specified String as configured in this class instance. This method doesn't clear the area before!
+     * Draws the specified characters as configured in this class instance.
+     * 
+     * @param offsetX the x-offset on the texture
+     * @param offsetY the y-offset on the texture
+     * @param str the string to draw
+     * @param texture the texture to draw on
+     * @param clearBackground the image to use for clearing (null to skip clearing)
+     */
+    public void draw( int offsetX, int offsetY, String str, TextureImage2D texture, TextureImage2D clearBackground )
+    {
+        draw( offsetX, offsetY, (CharSequence)str, texture, clearBackground );
+    }
+    
+    /**
+     * Draws the specified characters as configured in this class instance. This method doesn't clear the area before!
      * 
      * @param offsetX the x-offset on the texture
      * @param offsetY the y-offset on the texture
@@ -614,27 +711,56 @@ public class DrawnString
      * @param texture the texture to draw on
      * @param clearBefore clear the area before drawing?
      */
-    public void draw( int offsetX, int offsetY, String str, java.awt.Color fontColor, TextureImage2D texture, boolean clearBefore )
+    public void draw( int offsetX, int offsetY, CharSequence str, java.awt.Color fontColor, TextureImage2D texture, boolean clearBefore )
     {
         draw( offsetX, offsetY, str, fontColor, texture, clearBefore, null, null, 0, 0 );
     }
     
     /**
-     * Draws the specified String as configured in this class instance. This method doesn't clear the area before!
+     * Draws the specified characters as configured in this class instance. This method doesn't clear the area before!
      * 
      * @param offsetX the x-offset on the texture
      * @param offsetY the y-offset on the texture
      * @param str the string to draw
+     * @param fontColor (null for predefined)
      * @param texture the texture to draw on
      * @param clearBefore clear the area before drawing?
      */
-    public void draw( int offsetX, int offsetY, String str, TextureImage2D texture, boolean clearBefore )
+    public void draw( int offsetX, int offsetY, String str, java.awt.Color fontColor, TextureImage2D texture, boolean clearBefore )
+    {
+        draw( offsetX, offsetY, (CharSequence)str, fontColor, texture, clearBefore );
+    }
+    
+    /**
+     * Draws the specified characters as configured in this class instance. This method doesn't clear the area before!
+     * 
+     * @param offsetX the x-offset on the texture
+     * @param offsetY the y-offset on the texture
+     * @param str the string to draw
+     * @param texture the texture to draw on
+     * @param clearBefore clear the area before drawing?
+     */
+    public void draw( int offsetX, int offsetY, CharSequence str, TextureImage2D texture, boolean clearBefore )
     {
         draw( offsetX, offsetY, str, null, texture, clearBefore, null, null, 0, 0 );
     }
     
     /**
-     * Draws the specified String as configured in this class instance. This method doesn't clear the area before!
+     * Draws the specified characters as configured in this class instance. This method doesn't clear the area before!
+     * 
+     * @param offsetX the x-offset on the texture
+     * @param offsetY the y-offset on the texture
+     * @param str the string to draw
+     * @param texture the texture to draw on
+     * @param clearBefore clear the area before drawing?
+     */
+    public void draw( int offsetX, int offsetY, String str, TextureImage2D texture, boolean clearBefore )
+    {
+        draw( offsetX, offsetY, (CharSequence)str, texture, clearBefore );
+    }
+    
+    /**
+     * Draws the specified characters as configured in this class instance. This method doesn't clear the area before!
      * 
      * @param offsetX the x-offset on the texture
      * @param offsetY the y-offset on the texture
@@ -642,25 +768,52 @@ public class DrawnString
      * @param fontColor (null for predefined)
      * @param texture the texture to draw on
      */
-    public void draw( int offsetX, int offsetY, String str, java.awt.Color fontColor, TextureImage2D texture )
+    public void draw( int offsetX, int offsetY, CharSequence str, java.awt.Color fontColor, TextureImage2D texture )
     {
         draw( offsetX, offsetY, str, fontColor, texture, true, null, null, 0, 0 );
     }
     
     /**
-     * Draws the specified String as configured in this class instance. This method doesn't clear the area before!
+     * Draws the specified characters as configured in this class instance. This method doesn't clear the area before!
      * 
      * @param offsetX the x-offset on the texture
      * @param offsetY the y-offset on the texture
      * @param str the string to draw
+     * @param fontColor (null for predefined)
      * @param texture the texture to draw on
      */
-    public void draw( int offsetX, int offsetY, String str, TextureImage2D texture )
+    public void draw( int offsetX, int offsetY, String str, java.awt.Color fontColor, TextureImage2D texture )
+    {
+        draw( offsetX, offsetY, (CharSequence)str, fontColor, texture );
+    }
+    
+    /**
+     * Draws the specified characters as configured in this class instance. This method doesn't clear the area before!
+     * 
+     * @param offsetX the x-offset on the texture
+     * @param offsetY the y-offset on the texture
+     * @param str the string to draw
+     * @param texture the texture to draw on
+     */
+    public void draw( int offsetX, int offsetY, CharSequence str, TextureImage2D texture )
     {
         draw( offsetX, offsetY, str, null, texture, true, null, null, 0, 0 );
     }
     
-    private int drawColumns( int offsetX, int offsetY, String[] strs, Alignment[] aligns, int padding, int[] colWidths, java.awt.Color fontColor, java.awt.Color[] fontColors, TextureImage2D texture, boolean clearBefore, java.awt.Color clearColor, TextureImage2D clearBackground, int clearOffsetX, int clearOffsetY )
+    /**
+     * Draws the specified characters as configured in this class instance. This method doesn't clear the area before!
+     * 
+     * @param offsetX the x-offset on the texture
+     * @param offsetY the y-offset on the texture
+     * @param str the string to draw
+     * @param texture the texture to draw on
+     */
+    public void draw( int offsetX, int offsetY, String str, TextureImage2D texture )
+    {
+        draw( offsetX, offsetY, (CharSequence)str, texture );
+    }
+    
+    private int drawColumns( int offsetX, int offsetY, CharSequence[] strs, Alignment[] aligns, int padding, int[] colWidths, java.awt.Color fontColor, java.awt.Color[] fontColors, TextureImage2D texture, boolean clearBefore, java.awt.Color clearColor, TextureImage2D clearBackground, int clearOffsetX, int clearOffsetY )
     {
         Rect2i dirtyRect = Rect2i.fromPool();
         
@@ -680,7 +833,7 @@ public class DrawnString
         final int ay = getAbsY();
         
         //int yOff = 0;
-        String str;
+        CharSequence str;
         
         int totalWidth = 0;
         for ( int i = 0; i < colWidths.length; i++ )
@@ -692,24 +845,7 @@ public class DrawnString
         {
             Alignment align = aligns == null ? getAlignment() : ( aligns[i] == null ? getAlignment() : aligns[i] );
             
-            if ( ( i == 0 ) && ( prefix != null ) )
-            {
-                if ( strs[i] == null )
-                    str = prefix;
-                else
-                    str = prefix + strs[i];
-            }
-            else if ( ( i == strs.length - 1 ) && ( postfix != null ) )
-            {
-                if ( strs[i] == null )
-                    str = postfix;
-                else
-                    str = strs[i] + postfix;
-            }
-            else
-            {
-                str = strs[i];
-            }
+            str = composeColumn( strs, i );
             
             //int cw = (int)Math.round( bounds.getWidth() );
             int cw = colWidths[i];
@@ -777,7 +913,7 @@ public class DrawnString
      * 
      * @return the drawn string's width in pixels.
      */
-    public int drawColumns( int offsetX, int offsetY, String[] strs, int[] colWidths, java.awt.Color fontColor, TextureImage2D texture, java.awt.Color clearColor )
+    public int drawColumns( int offsetX, int offsetY, CharSequence[] strs, int[] colWidths, java.awt.Color fontColor, TextureImage2D texture, java.awt.Color clearColor )
     {
         return ( drawColumns( offsetX, offsetY, strs, null, 0, colWidths, fontColor, (java.awt.Color[])null, texture, getClearFlag( clearColor, null ), clearColor, null, 0, 0 ) );
     }
@@ -789,12 +925,15 @@ public class DrawnString
      * @param offsetY the y-offset on the texture
      * @param strs the strings to draw
      * @param colWidths the column widths to use
+     * @param fontColor (null for predefined)
      * @param texture the texture to draw on
      * @param clearColor the color to use for clearing (null to skip clearing)
+     * 
+     * @return the drawn string's width in pixels.
      */
-    public void drawColumns( int offsetX, int offsetY, String[] strs, int[] colWidths, TextureImage2D texture, java.awt.Color clearColor )
+    public int drawColumns( int offsetX, int offsetY, String[] strs, int[] colWidths, java.awt.Color fontColor, TextureImage2D texture, java.awt.Color clearColor )
     {
-        drawColumns( offsetX, offsetY, strs, null, 0, colWidths, null, (java.awt.Color[])null, texture, getClearFlag( clearColor, null ), clearColor, null, 0, 0 );
+        return ( drawColumns( offsetX, offsetY, (CharSequence[])strs, colWidths, fontColor, texture, clearColor ) );
     }
     
     /**
@@ -804,17 +943,12 @@ public class DrawnString
      * @param offsetY the y-offset on the texture
      * @param strs the strings to draw
      * @param colWidths the column widths to use
-     * @param fontColor (null for predefined)
      * @param texture the texture to draw on
-     * @param clearBackground the image to use for clearing (null to skip clearing)
-     * @param clearOffsetX the x-offset of the clear texture on the background
-     * @param clearOffsetY the y-offset of the clear texture on the background
-     * 
-     * @return the drawn string's width in pixels.
+     * @param clearColor the color to use for clearing (null to skip clearing)
      */
-    public int drawColumns( int offsetX, int offsetY, String[] strs, int[] colWidths, java.awt.Color fontColor, TextureImage2D texture, TextureImage2D clearBackground, int clearOffsetX, int clearOffsetY )
+    public void drawColumns( int offsetX, int offsetY, CharSequence[] strs, int[] colWidths, TextureImage2D texture, java.awt.Color clearColor )
     {
-        return ( drawColumns( offsetX, offsetY, strs, null, 0, colWidths, fontColor, (java.awt.Color[])null, texture, getClearFlag( null, clearBackground ), null, clearBackground, clearOffsetX, clearOffsetY ) );
+        drawColumns( offsetX, offsetY, strs, null, 0, colWidths, null, (java.awt.Color[])null, texture, getClearFlag( clearColor, null ), clearColor, null, 0, 0 );
     }
     
     /**
@@ -825,13 +959,11 @@ public class DrawnString
      * @param strs the strings to draw
      * @param colWidths the column widths to use
      * @param texture the texture to draw on
-     * @param clearBackground the image to use for clearing (null to skip clearing)
-     * @param clearOffsetX the x-offset of the clear texture on the background
-     * @param clearOffsetY the y-offset of the clear texture on the background
+     * @param clearColor the color to use for clearing (null to skip clearing)
      */
-    public void drawColumns( int offsetX, int offsetY, String[] strs, int[] colWidths, TextureImage2D texture, TextureImage2D clearBackground, int clearOffsetX, int clearOffsetY )
+    public void drawColumns( int offsetX, int offsetY, String[] strs, int[] colWidths, TextureImage2D texture, java.awt.Color clearColor )
     {
-        drawColumns( offsetX, offsetY, strs, null, 0, colWidths, null, (java.awt.Color[])null, texture, getClearFlag( null, clearBackground ), null, clearBackground, clearOffsetX, clearOffsetY );
+        drawColumns( offsetX, offsetY, (CharSequence[])strs, colWidths, texture, clearColor );
     }
     
     /**
@@ -840,18 +972,18 @@ public class DrawnString
      * @param offsetX the x-offset on the texture
      * @param offsetY the y-offset on the texture
      * @param strs the strings to draw
-     * @param aligns alignment per column (default is the {@link DrawnString}'s alignment)
-     * @param padding the padding to honor when aligning right
      * @param colWidths the column widths to use
-     * @param fontColors (null for predefined)
+     * @param fontColor (null for predefined)
      * @param texture the texture to draw on
-     * @param clearColor the color to use for clearing (null to skip clearing)
+     * @param clearBackground the image to use for clearing (null to skip clearing)
+     * @param clearOffsetX the x-offset of the clear texture on the background
+     * @param clearOffsetY the y-offset of the clear texture on the background
      * 
      * @return the drawn string's width in pixels.
      */
-    public int drawColumns( int offsetX, int offsetY, String[] strs, Alignment[] aligns, int padding, int[] colWidths, java.awt.Color[] fontColors, TextureImage2D texture, java.awt.Color clearColor )
+    public int drawColumns( int offsetX, int offsetY, CharSequence[] strs, int[] colWidths, java.awt.Color fontColor, TextureImage2D texture, TextureImage2D clearBackground, int clearOffsetX, int clearOffsetY )
     {
-        return ( drawColumns( offsetX, offsetY, strs, aligns, padding, colWidths, null, fontColors, texture, getClearFlag( clearColor, null ), clearColor, null, 0, 0 ) );
+        return ( drawColumns( offsetX, offsetY, strs, null, 0, colWidths, fontColor, (java.awt.Color[])null, texture, getClearFlag( null, clearBackground ), null, clearBackground, clearOffsetX, clearOffsetY ) );
     }
     
     /**
@@ -860,18 +992,18 @@ public class DrawnString
      * @param offsetX the x-offset on the texture
      * @param offsetY the y-offset on the texture
      * @param strs the strings to draw
-     * @param aligns alignment per column (default is the {@link DrawnString}'s alignment)
-     * @param padding the padding to honor when aligning right
      * @param colWidths the column widths to use
      * @param fontColor (null for predefined)
      * @param texture the texture to draw on
-     * @param clearColor the color to use for clearing (null to skip clearing)
+     * @param clearBackground the image to use for clearing (null to skip clearing)
+     * @param clearOffsetX the x-offset of the clear texture on the background
+     * @param clearOffsetY the y-offset of the clear texture on the background
      * 
      * @return the drawn string's width in pixels.
      */
-    public int drawColumns( int offsetX, int offsetY, String[] strs, Alignment[] aligns, int padding, int[] colWidths, java.awt.Color fontColor, TextureImage2D texture, java.awt.Color clearColor )
+    public int drawColumns( int offsetX, int offsetY, String[] strs, int[] colWidths, java.awt.Color fontColor, TextureImage2D texture, TextureImage2D clearBackground, int clearOffsetX, int clearOffsetY )
     {
-        return ( drawColumns( offsetX, offsetY, strs, aligns, padding, colWidths, fontColor, (java.awt.Color[])null, texture, getClearFlag( clearColor, null ), clearColor, null, 0, 0 ) );
+        return ( drawColumns( offsetX, offsetY, (CharSequence[])strs, colWidths, fontColor, texture, clearBackground, clearOffsetX, clearOffsetY ) );
     }
     
     /**
@@ -880,17 +1012,148 @@ public class DrawnString
      * @param offsetX the x-offset on the texture
      * @param offsetY the y-offset on the texture
      * @param strs the strings to draw
-     * @param aligns alignment per column (default is the {@link DrawnString}'s alignment)
-     * @param padding the padding to honor when aligning right
      * @param colWidths the column widths to use
      * @param texture the texture to draw on
-     * @param clearColor the color to use for clearing (null to skip clearing)
-     */
-    public void drawColumns( int offsetX, int offsetY, String[] strs, Alignment[] aligns, int padding, int[] colWidths, TextureImage2D texture, java.awt.Color clearColor )
+     * @param clearBackground the image to use for clearing (null to skip clearing)
+     * @param clearOffsetX the x-offset of the clear texture on the background
+     * @param clearOffsetY the y-offset of the clear texture on the background
+     */
+    public void drawColumns( int offsetX, int offsetY, CharSequence[] strs, int[] colWidths, TextureImage2D texture, TextureImage2D clearBackground, int clearOffsetX, int clearOffsetY )
+    {
+        drawColumns( offsetX, offsetY, strs, null, 0, colWidths, null, (java.awt.Color[])null, texture, getClearFlag( null, clearBackground ), null, clearBackground, clearOffsetX, clearOffsetY );
+    }
+    
+    /**
+     * Draws the specified Strings as configured in this class instance.
+     * 
+     * @param offsetX the x-offset on the texture
+     * @param offsetY the y-offset on the texture
+     * @param strs the strings to draw
+     * @param colWidths the column widths to use
+     * @param texture the texture to draw on
+     * @param clearBackground the image to use for clearing (null to skip clearing)
+     * @param clearOffsetX the x-offset of the clear texture on the background
+     * @param clearOffsetY the y-offset of the clear texture on the background
+     */
+    public void drawColumns( int offsetX, int offsetY, String[] strs, int[] colWidths, TextureImage2D texture, TextureImage2D clearBackground, int clearOffsetX, int clearOffsetY )
+    {
+        drawColumns( offsetX, offsetY, (CharSequence[])strs, colWidths, texture, clearBackground, clearOffsetX, clearOffsetY );
+    }
+    
+    /**
+     * Draws the specified Strings as configured in this class instance.
+     * 
+     * @param offsetX the x-offset on the texture
+     * @param offsetY the y-offset on the texture
+     * @param strs the strings to draw
+     * @param aligns alignment per column (default is the {@link DrawnString}'s alignment)
+     * @param padding the padding to honor when aligning right
+     * @param colWidths the column widths to use
+     * @param fontColors (null for predefined)
+     * @param texture the texture to draw on
+     * @param clearColor the color to use for clearing (null to skip clearing)
+     * 
+     * @return the drawn string's width in pixels.
+     */
+    public int drawColumns( int offsetX, int offsetY, CharSequence[] strs, Alignment[] aligns, int padding, int[] colWidths, java.awt.Color[] fontColors, TextureImage2D texture, java.awt.Color clearColor )
+    {
+        return ( drawColumns( offsetX, offsetY, strs, aligns, padding, colWidths, null, fontColors, texture, getClearFlag( clearColor, null ), clearColor, null, 0, 0 ) );
+    }
+    
+    /**
+     * Draws the specified Strings as configured in this class instance.
+     * 
+     * @param offsetX the x-offset on the texture
+     * @param offsetY the y-offset on the texture
+     * @param strs the strings to draw
+     * @param aligns alignment per column (default is the {@link DrawnString}'s alignment)
+     * @param padding the padding to honor when aligning right
+     * @param colWidths the column widths to use
+     * @param fontColors (null for predefined)
+     * @param texture the texture to draw on
+     * @param clearColor the color to use for clearing (null to skip clearing)
+     * 
+     * @return the drawn string's width in pixels.
+     */
+    public int drawColumns( int offsetX, int offsetY, String[] strs, Alignment[] aligns, int padding, int[] colWidths, java.awt.Color[] fontColors, TextureImage2D texture, java.awt.Color clearColor )
+    {
+        return ( drawColumns( offsetX, offsetY, (CharSequence[])strs, aligns, padding, colWidths, fontColors, texture, clearColor ) );
+    }
+    
+    /**
+     * Draws the specified Strings as configured in this class instance.
+     * 
+     * @param offsetX the x-offset on the texture
+     * @param offsetY the y-offset on the texture
+     * @param strs the strings to draw
+     * @param aligns alignment per column (default is the {@link DrawnString}'s alignment)
+     * @param padding the padding to honor when aligning right
+     * @param colWidths the column widths to use
+     * @param fontColor (null for predefined)
+     * @param texture the texture to draw on
+     * @param clearColor the color to use for clearing (null to skip clearing)
+     * 
+     * @return the drawn string's width in pixels.
+     */
+    public int drawColumns( int offsetX, int offsetY, CharSequence[] strs, Alignment[] aligns, int padding, int[] colWidths, java.awt.Color fontColor, TextureImage2D texture, java.awt.Color clearColor )
+    {
+        return ( drawColumns( offsetX, offsetY, strs, aligns, padding, colWidths, fontColor, (java.awt.Color[])null, texture, getClearFlag( clearColor, null ), clearColor, null, 0, 0 ) );
+    }
+    
+    /**
+     * Draws the specified Strings as configured in this class instance.
+     * 
+     * @param offsetX the x-offset on the texture
+     * @param offsetY the y-offset on the texture
+     * @param strs the strings to draw
+     * @param aligns alignment per column (default is the {@link DrawnString}'s alignment)
+     * @param padding the padding to honor when aligning right
+     * @param colWidths the column widths to use
+     * @param fontColor (null for predefined)
+     * @param texture the texture to draw on
+     * @param clearColor the color to use for clearing (null to skip clearing)
+     * 
+     * @return the drawn string's width in pixels.
+     */
+    public int drawColumns( int offsetX, int offsetY, String[] strs, Alignment[] aligns, int padding, int[] colWidths, java.awt.Color fontColor, TextureImage2D texture, java.awt.Color clearColor )
+    {
+        return ( drawColumns( offsetX, offsetY, (CharSequence[])strs, aligns, padding, colWidths, fontColor, texture, clearColor ) );
+    }
+    
+    /**
+     * Draws the specified Strings as configured in this class instance.
+     * 
+     * @param offsetX the x-offset on the texture
+     * @param offsetY the y-offset on the texture
+     * @param strs the strings to draw
+     * @param aligns alignment per column (default is the {@link DrawnString}'s alignment)
+     * @param padding the padding to honor when aligning right
+     * @param colWidths the column widths to use
+     * @param texture the texture to draw on
+     * @param clearColor the color to use for clearing (null to skip clearing)
+     */
+    public void drawColumns( int offsetX, int offsetY, CharSequence[] strs, Alignment[] aligns, int padding, int[] colWidths, TextureImage2D texture, java.awt.Color clearColor )
     {
         drawColumns( offsetX, offsetY, strs, aligns, padding, colWidths, null, (java.awt.Color[])null, texture, getClearFlag( clearColor, null ), clearColor, null, 0, 0 );
     }
     
+    /**
+     * Draws the specified Strings as configured in this class instance.
+     * 
+     * @param offsetX the x-offset on the texture
+     * @param offsetY the y-offset on the texture
+     * @param strs the strings to draw
+     * @param aligns alignment per column (default is the {@link DrawnString}'s alignment)
+     * @param padding the padding to honor when aligning right
+     * @param colWidths the column widths to use
+     * @param texture the texture to draw on
+     * @param clearColor the color to use for clearing (null to skip clearing)
+     */
+    public void drawColumns( int offsetX, int offsetY, String[] strs, Alignment[] aligns, int padding, int[] colWidths, TextureImage2D texture, java.awt.Color clearColor )
+    {
+        drawColumns( offsetX, offsetY, (CharSequence[])strs, aligns, padding, colWidths, texture, clearColor );
+    }
+    
     /**
      * Draws the specified Strings as configured in this class instance.
      * 
@@ -908,11 +1171,33 @@ public class DrawnString
      * 
      * @return the drawn string's width in pixels.
      */
-    public int drawColumns( int offsetX, int offsetY, String[] strs, Alignment[] aligns, int padding, int[] colWidths, java.awt.Color[] fontColors, TextureImage2D texture, TextureImage2D clearBackground, int clearOffsetX, int clearOffsetY )
+    public int drawColumns( int offsetX, int offsetY, CharSequence[] strs, Alignment[] aligns, int padding, int[] colWidths, java.awt.Color[] fontColors, TextureImage2D texture, TextureImage2D clearBackground, int clearOffsetX, int clearOffsetY )
     {
         return ( drawColumns( offsetX, offsetY, strs, aligns, padding, colWidths, null, fontColors, texture, getClearFlag( null, clearBackground ), null, clearBackground, clearOffsetX, clearOffsetY ) );
     }
     
+    /**
+     * Draws the specified Strings as configured in this class instance.
+     * 
+     * @param offsetX the x-offset on the texture
+     * @param offsetY the y-offset on the texture
+     * @param strs the strings to draw
+     * @param aligns alignment per column (default is the {@link DrawnString}'s alignment)
+     * @param padding the padding to honor when aligning right
+     * @param colWidths the column widths to use
+     * @param fontColors (null for predefined)
+     * @param texture the texture to draw on
+     * @param clearBackground the image to use for clearing (null to skip clearing)
+     * @param clearOffsetX the x-offset of the clear texture on the background
+     * @param clearOffsetY the y-offset of the clear texture on the background
+     * 
+     * @return the drawn string's width in pixels.
+     */
+    public int drawColumns( int offsetX, int offsetY, String[] strs, Alignment[] aligns, int padding, int[] colWidths, java.awt.Color[] fontColors, TextureImage2D texture, TextureImage2D clearBackground, int clearOffsetX, int clearOffsetY )
+    {
+        return ( drawColumns( offsetX, offsetY, (CharSequence[])strs, aligns, padding, colWidths, fontColors, texture, clearBackground, clearOffsetX, clearOffsetY ) );
+    }
+    
     /**
      * Draws the specified Strings as configured in this class instance.
      * 
@@ -930,11 +1215,33 @@ public class DrawnString
      * 
      * @return the drawn string's width in pixels.
      */
-    public int drawColumns( int offsetX, int offsetY, String[] strs, Alignment[] aligns, int padding, int[] colWidths, java.awt.Color fontColor, TextureImage2D texture, TextureImage2D clearBackground, int clearOffsetX, int clearOffsetY )
+    public int drawColumns( int offsetX, int offsetY, CharSequence[] strs, Alignment[] aligns, int padding, int[] colWidths, java.awt.Color fontColor, TextureImage2D texture, TextureImage2D clearBackground, int clearOffsetX, int clearOffsetY )
     {
         return ( drawColumns( offsetX, offsetY, strs, aligns, padding, colWidths, fontColor, (java.awt.Color[])null, texture, getClearFlag( null, clearBackground ), null, clearBackground, clearOffsetX, clearOffsetY ) );
     }
     
+    /**
+     * Draws the specified Strings as configured in this class instance.
+     * 
+     * @param offsetX the x-offset on the texture
+     * @param offsetY the y-offset on the texture
+     * @param strs the strings to draw
+     * @param aligns alignment per column (default is the {@link DrawnString}'s alignment)
+     * @param padding the padding to honor when aligning right
+     * @param colWidths the column widths to use
+     * @param fontColor (null for predefined)
+     * @param texture the texture to draw on
+     * @param clearBackground the image to use for clearing (null to skip clearing)
+     * @param clearOffsetX the x-offset of the clear texture on the background
+     * @param clearOffsetY the y-offset of the clear texture on the background
+     * 
+     * @return the drawn string's width in pixels.
+     */
+    public int drawColumns( int offsetX, int offsetY, String[] strs, Alignment[] aligns, int padding, int[] colWidths, java.awt.Color fontColor, TextureImage2D texture, TextureImage2D clearBackground, int clearOffsetX, int clearOffsetY )
+    {
+        return ( drawColumns( offsetX, offsetY, (CharSequence[])strs, aligns, padding, colWidths, fontColor, texture, clearBackground, clearOffsetX, clearOffsetY ) );
+    }
+    
     /**
      * Draws the specified Strings as configured in this class instance
      * and clears the previously used area with the {@link Widget}'s background, if necessary.
@@ -949,7 +1256,7 @@ public class DrawnString
      * 
      * @return the drawn string's width in pixels.
      */
-    public int drawColumns( int offsetX, int offsetY, String[] strs, int[] colWidths, java.awt.Color fontColor, TextureImage2D texture, boolean clearBefore )
+    public int drawColumns( int offsetX, int offsetY, CharSequence[] strs, int[] colWidths, java.awt.Color fontColor, TextureImage2D texture, boolean clearBefore )
     {
         return ( drawColumns( offsetX, offsetY, strs, null, 0, colWidths, fontColor, (java.awt.Color[])null, texture, clearBefore, null, null, 0, 0 ) );
     }
@@ -962,14 +1269,49 @@ public class DrawnString
      * @param offsetY the y-offset on the texture
      * @param strs the strings to draw
      * @param colWidths the column widths to use
+     * @param fontColor (null for predefined)
      * @param texture the texture to draw on
      * @param clearBefore clear the area before drawing?
+     * 
+     * @return the drawn string's width in pixels.
      */
-    public void drawColumns( int offsetX, int offsetY, String[] strs, int[] colWidths, TextureImage2D texture, boolean clearBefore )
+    public int drawColumns( int offsetX, int offsetY, String[] strs, int[] colWidths, java.awt.Color fontColor, TextureImage2D texture, boolean clearBefore )
+    {
+        return ( drawColumns( offsetX, offsetY, (CharSequence[])strs, colWidths, fontColor, texture, clearBefore ) );
+    }
+    
+    /**
+     * Draws the specified Strings as configured in this class instance
+     * and clears the previously used area with the {@link Widget}'s background, if necessary.
+     * 
+     * @param offsetX the x-offset on the texture
+     * @param offsetY the y-offset on the texture
+     * @param strs the strings to draw
+     * @param colWidths the column widths to use
+     * @param texture the texture to draw on
+     * @param clearBefore clear the area before drawing?
+     */
+    public void drawColumns( int offsetX, int offsetY, CharSequence[] strs, int[] colWidths, TextureImage2D texture, boolean clearBefore )
     {
         drawColumns( offsetX, offsetY, strs, null, 0, colWidths, null, (java.awt.Color[])null, texture, clearBefore, null, null, 0, 0 );
     }
     
+    /**
+     * Draws the specified Strings as configured in this class instance
+     * and clears the previously used area with the {@link Widget}'s background, if necessary.
+     * 
+     * @param offsetX the x-offset on the texture
+     * @param offsetY the y-offset on the texture
+     * @param strs the strings to draw
+     * @param colWidths the column widths to use
+     * @param texture the texture to draw on
+     * @param clearBefore clear the area before drawing?
+     */
+    public void drawColumns( int offsetX, int offsetY, String[] strs, int[] colWidths, TextureImage2D texture, boolean clearBefore )
+    {
+        drawColumns( offsetX, offsetY, (CharSequence[])strs, colWidths, texture, clearBefore );
+    }
+    
     /**
      * Draws the specified Strings as configured in this class instance
      * and clears the previously used area with the {@link Widget}'s background, if necessary.
@@ -986,11 +1328,32 @@ public class DrawnString
      * 
      * @return the drawn string's width in pixels.
      */
-    public int drawColumns( int offsetX, int offsetY, String[] strs, Alignment[] aligns, int padding, int[] colWidths, java.awt.Color[] fontColors, TextureImage2D texture, boolean clearBefore )
+    public int drawColumns( int offsetX, int offsetY, CharSequence[] strs, Alignment[] aligns, int padding, int[] colWidths, java.awt.Color[] fontColors, TextureImage2D texture, boolean clearBefore )
     {
         return ( drawColumns( offsetX, offsetY, strs, aligns, padding, colWidths, null, fontColors, texture, clearBefore, null, null, 0, 0 ) );
     }
     
+    /**
+     * Draws the specified Strings as configured in this class instance
+     * and clears the previously used area with the {@link Widget}'s background, if necessary.
+     * 
+     * @param offsetX the x-offset on the texture
+     * @param offsetY the y-offset on the texture
+     * @param strs the strings to draw
+     * @param aligns alignment per column (default is the {@link DrawnString}'s alignment)
+     * @param padding the padding to honor when aligning right
+     * @param colWidths the column widths to use
+     * @param fontColors (null for predefined)
+     * @param texture the texture to draw on
+     * @param clearBefore clear the area before drawing?
+     * 
+     * @return the drawn string's width in pixels.
+     */
+    public int drawColumns( int offsetX, int offsetY, String[] strs, Alignment[] aligns, int padding, int[] colWidths, java.awt.Color[] fontColors, TextureImage2D texture, boolean clearBefore )
+    {
+        return ( drawColumns( offsetX, offsetY, (CharSequence[])strs, aligns, padding, colWidths, fontColors, texture, clearBefore ) );
+    }
+    
     /**
      * Draws the specified Strings as configured in this class instance
      * and clears the previously used area with the {@link Widget}'s background, if necessary.
@@ -1007,7 +1370,7 @@ public class DrawnString
      * 
      * @return the drawn string's width in pixels.
      */
-    public int drawColumns( int offsetX, int offsetY, String[] strs, Alignment[] aligns, int padding, int[] colWidths, java.awt.Color fontColor, TextureImage2D texture, boolean clearBefore )
+    public int drawColumns( int offsetX, int offsetY, CharSequence[] strs, Alignment[] aligns, int padding, int[] colWidths, java.awt.Color fontColor, TextureImage2D texture, boolean clearBefore )
     {
         return ( drawColumns( offsetX, offsetY, strs, aligns, padding, colWidths, fontColor, (java.awt.Color[])null, texture, clearBefore, null, null, 0, 0 ) );
     }
@@ -1022,14 +1385,53 @@ public class DrawnString
      * @param aligns alignment per column (default is the {@link DrawnString}'s alignment)
      * @param padding the padding to honor when aligning right
      * @param colWidths the column widths to use
+     * @param fontColor (null for predefined)
      * @param texture the texture to draw on
      * @param clearBefore clear the area before drawing?
+     * 
+     * @return the drawn string's width in pixels.
      */
-    public void drawColumns( int offsetX, int offsetY, String[] strs, Alignment[] aligns, int padding, int[] colWidths, TextureImage2D texture, boolean clearBefore )
+    public int drawColumns( int offsetX, int offsetY, String[] strs, Alignment[] aligns, int padding, int[] colWidths, java.awt.Color fontColor, TextureImage2D texture, boolean clearBefore )
+    {
+        return ( drawColumns( offsetX, offsetY, (CharSequence[])strs, aligns, padding, colWidths, fontColor, texture, clearBefore ) );
+    }
+    
+    /**
+     * Draws the specified Strings as configured in this class instance
+     * and clears the previously used area with the {@link Widget}'s background, if necessary.
+     * 
+     * @param offsetX the x-offset on the texture
+     * @param offsetY the y-offset on the texture
+     * @param strs the strings to draw
+     * @param aligns alignment per column (default is the {@link DrawnString}'s alignment)
+     * @param padding the padding to honor when aligning right
+     * @param colWidths the column widths to use
+     * @param texture the texture to draw on
+     * @param clearBefore clear the area before drawing?
+     */
+    public void drawColumns( int offsetX, int offsetY, CharSequence[] strs, Alignment[] aligns, int padding, int[] colWidths, TextureImage2D texture, boolean clearBefore )
     {
         drawColumns( offsetX, offsetY, strs, aligns, padding, colWidths, null, (java.awt.Color[])null, texture, clearBefore, null, null, 0, 0 );
     }
     
+    /**
+     * Draws the specified Strings as configured in this class instance
+     * and clears the previously used area with the {@link Widget}'s background, if necessary.
+     * 
+     * @param offsetX the x-offset on the texture
+     * @param offsetY the y-offset on the texture
+     * @param strs the strings to draw
+     * @param aligns alignment per column (default is the {@link DrawnString}'s alignment)
+     * @param padding the padding to honor when aligning right
+     * @param colWidths the column widths to use
+     * @param texture the texture to draw on
+     * @param clearBefore clear the area before drawing?
+     */
+    public void drawColumns( int offsetX, int offsetY, String[] strs, Alignment[] aligns, int padding, int[] colWidths, TextureImage2D texture, boolean clearBefore )
+    {
+        drawColumns( offsetX, offsetY, (CharSequence[])strs, aligns, padding, colWidths, texture, clearBefore );
+    }
+    
     /**
      * Draws the specified Strings as configured in this class instance
      * and clears the previously used area with the {@link Widget}'s background, if necessary.
@@ -1043,7 +1445,7 @@ public class DrawnString
      * 
      * @return the drawn string's width in pixels.
      */
-    public int drawColumns( int offsetX, int offsetY, String[] strs, int[] colWidths, java.awt.Color fontColor, TextureImage2D texture )
+    public int drawColumns( int offsetX, int offsetY, CharSequence[] strs, int[] colWidths, java.awt.Color fontColor, TextureImage2D texture )
     {
         return ( drawColumns( offsetX, offsetY, strs, null, 0, colWidths, fontColor, (java.awt.Color[])null, texture, true, null, null, 0, 0 ) );
     }
@@ -1056,13 +1458,46 @@ public class DrawnString
      * @param offsetY the y-offset on the texture
      * @param strs the strings to draw
      * @param colWidths the column widths to use
+     * @param fontColor (null for predefined)
      * @param texture the texture to draw on
+     * 
+     * @return the drawn string's width in pixels.
      */
-    public void drawColumns( int offsetX, int offsetY, String[] strs, int[] colWidths, TextureImage2D texture )
+    public int drawColumns( int offsetX, int offsetY, String[] strs, int[] colWidths, java.awt.Color fontColor, TextureImage2D texture )
+    {
+        return ( drawColumns( offsetX, offsetY, (CharSequence[])strs, colWidths, fontColor, texture ) );
+    }
+    
+    /**
+     * Draws the specified Strings as configured in this class instance
+     * and clears the previously used area with the {@link Widget}'s background, if necessary.
+     * 
+     * @param offsetX the x-offset on the texture
+     * @param offsetY the y-offset on the texture
+     * @param strs the strings to draw
+     * @param colWidths the column widths to use
+     * @param texture the texture to draw on
+     */
+    public void drawColumns( int offsetX, int offsetY, CharSequence[] strs, int[] colWidths, TextureImage2D texture )
     {
         drawColumns( offsetX, offsetY, strs, null, 0, colWidths, null, (java.awt.Color[])null, texture, true, null, null, 0, 0 );
     }
     
+    /**
+     * Draws the specified Strings as configured in this class instance
+     * and clears the previously used area with the {@link Widget}'s background, if necessary.
+     * 
+     * @param offsetX the x-offset on the texture
+     * @param offsetY the y-offset on the texture
+     * @param strs the strings to draw
+     * @param colWidths the column widths to use
+     * @param texture the texture to draw on
+     */
+    public void drawColumns( int offsetX, int offsetY, String[] strs, int[] colWidths, TextureImage2D texture )
+    {
+        drawColumns( offsetX, offsetY, (CharSequence[])strs, colWidths, texture );
+    }
+    
     /**
      * Draws the specified Strings as configured in this class instance
      * and clears the previously used area with the {@link Widget}'s background, if necessary.
@@ -1078,11 +1513,31 @@ public class DrawnString
      * 
      * @return the drawn string's width in pixels.
      */
-    public int drawColumns( int offsetX, int offsetY, String[] strs, Alignment[] aligns, int padding, int[] colWidths, java.awt.Color[] fontColors, TextureImage2D texture )
+    public int drawColumns( int offsetX, int offsetY, CharSequence[] strs, Alignment[] aligns, int padding, int[] colWidths, java.awt.Color[] fontColors, TextureImage2D texture )
     {
         return ( drawColumns( offsetX, offsetY, strs, aligns, padding, colWidths, null, fontColors, texture, true, null, null, 0, 0 ) );
     }
     
+    /**
+     * Draws the specified Strings as configured in this class instance
+     * and clears the previously used area with the {@link Widget}'s background, if necessary.
+     * 
+     * @param offsetX the x-offset on the texture
+     * @param offsetY the y-offset on the texture
+     * @param strs the strings to draw
+     * @param aligns alignment per column (default is the {@link DrawnString}'s alignment)
+     * @param padding the padding to honor when aligning right
+     * @param colWidths the column widths to use
+     * @param fontColors (null for predefined)
+     * @param texture the texture to draw on
+     * 
+     * @return the drawn string's width in pixels.
+     */
+    public int drawColumns( int offsetX, int offsetY, String[] strs, Alignment[] aligns, int padding, int[] colWidths, java.awt.Color[] fontColors, TextureImage2D texture )
+    {
+        return ( drawColumns( offsetX, offsetY, (CharSequence[])strs, aligns, padding, colWidths, fontColors, texture ) );
+    }
+    
     /**
      * Draws the specified Strings as configured in this class instance
      * and clears the previously used area with the {@link Widget}'s background, if necessary.
@@ -1098,7 +1553,7 @@ public class DrawnString
      * 
      * @return the drawn string's width in pixels.
      */
-    public int drawColumns( int offsetX, int offsetY, String[] strs, Alignment[] aligns, int padding, int[] colWidths, java.awt.Color fontColor, TextureImage2D texture )
+    public int drawColumns( int offsetX, int offsetY, CharSequence[] strs, Alignment[] aligns, int padding, int[] colWidths, java.awt.Color fontColor, TextureImage2D texture )
     {
         return ( drawColumns( offsetX, offsetY, strs, aligns, padding, colWidths, fontColor, (java.awt.Color[])null, texture, true, null, null, 0, 0 ) );
     }
@@ -1113,13 +1568,50 @@ public class DrawnString
      * @param aligns alignment per column (default is the {@link DrawnString}'s alignment)
      * @param padding the padding to honor when aligning right
      * @param colWidths the column widths to use
+     * @param fontColor (null for predefined)
      * @param texture the texture to draw on
+     * 
+     * @return the drawn string's width in pixels.
      */
-    public void drawColumns( int offsetX, int offsetY, String[] strs, Alignment[] aligns, int padding, int[] colWidths, TextureImage2D texture )
+    public int drawColumns( int offsetX, int offsetY, String[] strs, Alignment[] aligns, int padding, int[] colWidths, java.awt.Color fontColor, TextureImage2D texture )
+    {
+        return ( drawColumns( offsetX, offsetY, (CharSequence[])strs, aligns, padding, colWidths, fontColor, texture ) );
+    }
+    
+    /**
+     * Draws the specified Strings as configured in this class instance
+     * and clears the previously used area with the {@link Widget}'s background, if necessary.
+     * 
+     * @param offsetX the x-offset on the texture
+     * @param offsetY the y-offset on the texture
+     * @param strs the strings to draw
+     * @param aligns alignment per column (default is the {@link DrawnString}'s alignment)
+     * @param padding the padding to honor when aligning right
+     * @param colWidths the column widths to use
+     * @param texture the texture to draw on
+     */
+    public void drawColumns( int offsetX, int offsetY, CharSequence[] strs, Alignment[] aligns, int padding, int[] colWidths, TextureImage2D texture )
     {
         drawColumns( offsetX, offsetY, strs, aligns, padding, colWidths, null, (java.awt.Color[])null, texture, true, null, null, 0, 0 );
     }
     
+    /**
+     * Draws the specified Strings as configured in this class instance
+     * and clears the previously used area with the {@link Widget}'s background, if necessary.
+     * 
+     * @param offsetX the x-offset on the texture
+     * @param offsetY the y-offset on the texture
+     * @param strs the strings to draw
+     * @param aligns alignment per column (default is the {@link DrawnString}'s alignment)
+     * @param padding the padding to honor when aligning right
+     * @param colWidths the column widths to use
+     * @param texture the texture to draw on
+     */
+    public void drawColumns( int offsetX, int offsetY, String[] strs, Alignment[] aligns, int padding, int[] colWidths, TextureImage2D texture )
+    {
+        drawColumns( offsetX, offsetY, (CharSequence[])strs, aligns, padding, colWidths, texture );
+    }
+    
     /**
      * {@inheritDoc}
      */
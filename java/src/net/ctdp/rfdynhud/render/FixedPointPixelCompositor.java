@@ -0,0 +1,320 @@
+/**
+ * Copyright (C) 2009-2014 Cars and Tracks Development Project (CTDP).
+ * 
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+ */
+package net.ctdp.rfdynhud.render;
+
+/**
+ * Integer compositor, that replaces all float math by lookups into a precomputed 8-bit multiplication table.
+ * Results differ from the {@link FloatPixelCompositor} by at most two per channel (rounding instead of truncation,
+ * which adds up over the two blend steps of {@link PixelCompositor.Mode#SOURCE_OVER}).
+ * Colors of fully transparent results are undefined (the float compositor zeroes them). See _z_PixelCompositorTester.
+ * 
+ * @author Marvin Froehlich (CTDP)
+ */
+class FixedPointPixelCompositor extends PixelCompositor
+{
+    /**
+     * MUL[ (a << 8) | b ] = round( a * b / 255 )
+     */
+    private static final byte[] MUL = createMulTable();
+    
+    private static byte[] createMulTable()
+    {
+        byte[] table = new byte[ 256 * 256 ];
+        
+        for ( int a = 0; a < 256; a++ )
+        {
+            for ( int b = 0; b < 256; b++ )
+            {
+                table[ ( a << 8 ) | b ] = (byte)( ( a * b + 127 ) / 255 );
+            }
+        }
+        
+        return ( table );
+    }
+    
+    private static final int mul( final int a, final int b )
+    {
+        return ( MUL[ ( a << 8 ) | b ] & 0xFF );
+    }
+    
+    private static final int clamp255( final int v )
+    {
+        return ( ( v > 255 ) ? 255 : v );
+    }
+    
+    /**
+     * Reads one four byte pixel and packs it into an int (0xAARRGGBB).
+     */
+    private static final int readPixel4( final byte[] data, final int offset )
+    {
+        return ( ( ( data[ offset + ByteOrderManager.ALPHA ] & 0xFF ) << 24 ) |
+                 ( ( data[ offset + ByteOrderManager.RED ] & 0xFF ) << 16 ) |
+                 ( ( data[ offset + ByteOrderManager.GREEN ] & 0xFF ) << 8 ) |
+                   ( data[ offset + ByteOrderManager.BLUE ] & 0xFF ) );
+    }
+    
+    /**
+     * Reads one three byte pixel and packs it into an int (0xFFRRGGBB).
+     */
+    private static final int readPixel3( final byte[] data, final int offset )
+    {
+        return ( 0xFF000000 |
+                 ( ( data[ offset + ByteOrderManager.RED ] & 0xFF ) << 16 ) |
+                 ( ( data[ offset + ByteOrderManager.GREEN ] & 0xFF ) << 8 ) |
+                   ( data[ offset + ByteOrderManager.BLUE ] & 0xFF ) );
+    }
+    
+    private static final void writePixel( final int argb, final byte[] data, final int offset, final int pixelBytes )
+    {
+        data[ offset + ByteOrderManager.RED ] = (byte)( argb >>> 16 );
+        data[ offset + ByteOrderManager.GREEN ] = (byte)( argb >>> 8 );
+        data[ offset + ByteOrderManager.BLUE ] = (byte)argb;
+        
+        if ( pixelBytes == 4 )
+            data[ offset + ByteOrderManager.ALPHA ] = (byte)( argb >>> 24 );
+    }
+    
+    /**
+     * Straight alpha source over straight alpha target
+     * (matches the legacy semantics, where the target color is weighted by the target alpha).
+     */
+    private static final int sourceOver( final int s, final int d )
+    {
+        final int sa = s >>> 24;
+        
+        if ( sa == 255 )
+            return ( s );
+        
+        final int da = d >>> 24;
+        
+        if ( ( sa == 0 ) && ( da == 255 ) )
+            return ( d );
+        
+        final int inv = 255 - sa;
+        
+        final int r = clamp255( mul( ( s >>> 16 ) & 0xFF, sa ) + mul( mul( ( d >>> 16 ) & 0xFF, da ), inv ) );
+        final int g = clamp255( mul( ( s >>> 8 ) & 0xFF, sa ) + mul( mul( ( d >>> 8 ) & 0xFF, da ), inv ) );
+        final int b = clamp255( mul( s & 0xFF, sa ) + mul( mul( d & 0xFF, da ), inv ) );
+        final int a = clamp255( sa + mul( da, inv ) );
+        
+        return ( ( a << 24 ) | ( r << 16 ) | ( g << 8 ) | b );
+    }
+    
+    /**
+     * Premultiplied source over premultiplied target.
+     */
+    private static final int sourceOverPremultiplied( final int s, final int d )
+    {
+        final int sa = s >>> 24;
+        
+        if ( sa == 255 )
+            return ( s );
+        
+        if ( ( sa == 0 ) && ( ( s & 0x00FFFFFF ) == 0 ) )
+            return ( d );
+        
+        final int inv = 255 - sa;
+        
+        final int r = clamp255( ( ( s >>> 16 ) & 0xFF ) + mul( ( d >>> 16 ) & 0xFF, inv ) );
+        final int g = clamp255( ( ( s >>> 8 ) & 0xFF ) + mul( ( d >>> 8 ) & 0xFF, inv ) );
+        final int b = clamp255( ( s & 0xFF ) + mul( d & 0xFF, inv ) );
+        final int a = clamp255( sa + mul( d >>> 24, inv ) );
+        
+        return ( ( a << 24 ) | ( r << 16 ) | ( g << 8 ) | b );
+    }
+    
+    /**
+     * Straight alpha source over straight alpha target with a straight alpha result.
+     */
+    private static final int sourceOverNonPremultiplied( final int s, final int d )
+    {
+        final int sa = s >>> 24;
+        
+        if ( sa == 255 )
+            return ( s );
+        
+        if ( sa == 0 )
+            return ( d );
+        
+        final int da = d >>> 24;
+        final int a = sa + mul( da, 255 - sa );
+        
+        // The color weights are kept unrounded (scaled by 255). Rounding them would be amplified by the division at low result alpha.
+        final int sw = sa * 255;
+        final int dw = da * ( 255 - sa );
+        final int w = sw + dw;
+        final int half = w >>> 1;
+        
+        final int r = ( ( ( s >>> 16 ) & 0xFF ) * sw + ( ( d >>> 16 ) & 0xFF ) * dw + half ) / w;
+        final int g = ( ( ( s >>> 8 ) & 0xFF ) * sw + ( ( d >>> 8 ) & 0xFF ) * dw + half ) / w;
+        final int b = ( ( s & 0xFF ) * sw + ( d & 0xFF ) * dw + half ) / w;
+        
+        return ( ( clamp255( a ) << 24 ) | ( clamp255( r ) << 16 ) | ( clamp255( g ) << 8 ) | clamp255( b ) );
+    }
+    
+    /**
+     * Source (straight or premultiplied alpha) onto an opaque target without alpha channel.
+     */
+    private static final int sourceOverOpaque( final int s, final int d, final boolean premultiplied, final boolean overwrite )
+    {
+        final int sa = s >>> 24;
+        
+        int r = ( s >>> 16 ) & 0xFF;
+        int g = ( s >>> 8 ) & 0xFF;
+        int b = s & 0xFF;
+        
+        if ( !premultiplied )
+        {
+            r = mul( r, sa );
+            g = mul( g, sa );
+            b = mul( b, sa );
+        }
+        
+        if ( !overwrite )
+        {
+            final int inv = 255 - sa;
+            
+            r = clamp255( r + mul( ( d >>> 16 ) & 0xFF, inv ) );
+            g = clamp255( g + mul( ( d >>> 8 ) & 0xFF, inv ) );
+            b = clamp255( b + mul( d & 0xFF, inv ) );
+        }
+        
+        return ( 0xFF000000 | ( r << 16 ) | ( g << 8 ) | b );
+    }
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getName()
+    {
+        return ( "FIXED_POINT" );
+    }
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void combineLine( final byte[] src, final int srcByteOffset, final int srcPixelBytes, final byte[] trg, final int trgPixelBytes, final int numPixels, final Mode mode )
+    {
+        if ( srcPixelBytes == 3 )
+        {
+            // Opaque source. All modes are equal to a plain copy.
+            
+            int j = srcByteOffset;
+            int k = 0;
+            for ( int i = 0; i < numPixels; i++ )
+            {
+                writePixel( readPixel3( src, j ), trg, k, trgPixelBytes );
+                
+                j += 3;
+                k += trgPixelBytes;
+            }
+            
+            return;
+        }
+        
+        if ( trgPixelBytes == 3 )
+        {
+            final boolean premultiplied = ( mode == Mode.SOURCE_OVER_PREMULTIPLIED );
+            final boolean overwrite = ( mode == Mode.OVERWRITE );
+            
+            int j = srcByteOffset;
+            int k = 0;
+            for ( int i = 0; i < numPixels; i++ )
+            {
+                final int d = overwrite ? 0 : readPixel3( trg, k );
+                
+                writePixel( sourceOverOpaque( readPixel4( src, j ), d, premultiplied, overwrite ), trg, k, 3 );
+                
+                j += 4;
+                k += 3;
+            }
+            
+            return;
+        }
+        
+        switch ( mode )
+        {
+            case OVERWRITE:
+                System.arraycopy( src, srcByteOffset, trg, 0, numPixels * 4 );
+                break;
+            
+            case SOURCE_OVER:
+            {
+                int j = srcByteOffset;
+                int k = 0;
+                for ( int i = 0; i < numPixels; i++ )
+                {
+                    final int s = readPixel4( src, j );
+                    final int d = readPixel4( trg, k );
+                    final int r = sourceOver( s, d );
+                    
+                    if ( r != d )
+                        writePixel( r, trg, k, 4 );
+                    
+                    j += 4;
+                    k += 4;
+                }
+                break;
+            }
+            
+            case SOURCE_OVER_PREMULTIPLIED:
+            {
+                int j = srcByteOffset;
+                int k = 0;
+                for ( int i = 0; i < numPixels; i++ )
+                {
+                    final int s = readPixel4( src, j );
+                    final int d = readPixel4( trg, k );
+                    final int r = sourceOverPremultiplied( s, d );
+                    
+                    if ( r != d )
+                        writePixel( r, trg, k, 4 );
+                    
+                    j += 4;
+                    k += 4;
+                }
+                break;
+            }
+            
+            case SOURCE_OVER_NON_PREMULTIPLIED:
+            {
+                int j = srcByteOffset;
+                int k = 0;
+                for ( int i = 0; i < numPixels; i++ )
+                {
+                    final int s = readPixel4( src, j );
+                    final int d = readPixel4( trg, k );
+                    final int r = sourceOverNonPremultiplied( s, d );
+                    
+                    if ( r != d )
+                        writePixel( r, trg, k, 4 );
+                    
+                    j += 4;
+                    k += 4;
+                }
+                break;
+            }
+        }
+    }
+    
+    FixedPointPixelCompositor()
+    {
+    }
+}
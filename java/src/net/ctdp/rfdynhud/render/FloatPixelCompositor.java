@@ -0,0 +1,165 @@
+/**
+ * Copyright (C) 2009-2014 Cars and Tracks Development Project (CTDP).
+ * 
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+ */
+package net.ctdp.rfdynhud.render;
+
+/**
+ * The original floating point compositor, that converts every channel to a float in [0,1].
+ * It is kept as a reference for the {@link FixedPointPixelCompositor}.
+ * 
+ * @author Marvin Froehlich (CTDP)
+ */
+class FloatPixelCompositor extends PixelCompositor
+{
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getName()
+    {
+        return ( "FLOAT" );
+    }
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void combineLine( byte[] src, int srcByteOffset, int srcPixelBytes, byte[] trg, int trgPixelBytes, int numPixels, Mode mode )
+    {
+        final boolean overwrite = ( mode == Mode.OVERWRITE );
+        final boolean premultiplied = ( mode == Mode.SOURCE_OVER_PREMULTIPLIED );
+        final boolean nonPremultiplied = ( mode == Mode.SOURCE_OVER_NON_PREMULTIPLIED );
+        
+        if ( srcPixelBytes == 3 )
+        {
+            int j = srcByteOffset;
+            int k = 0;
+            for ( int i = 0; i < numPixels; i++ )
+            {
+                trg[ k + ByteOrderManager.RED ] = src[ j + ByteOrderManager.RED ];
+                trg[ k + ByteOrderManager.GREEN ] = src[ j + ByteOrderManager.GREEN ];
+                trg[ k + ByteOrderManager.BLUE ] = src[ j + ByteOrderManager.BLUE ];
+                if ( trgPixelBytes == 4 )
+                    trg[ k + ByteOrderManager.ALPHA ] = (byte)255;
+                
+                j += srcPixelBytes;
+                k += trgPixelBytes;
+            }
+        }
+        else if ( trgPixelBytes == 3 )
+        {
+            int j = srcByteOffset;
+            int k = 0;
+            for ( int i = 0; i < numPixels; i++ )
+            {
+                final int srcR = src[ j + ByteOrderManager.RED ] & 0xFF;
+                final int srcG = src[ j + ByteOrderManager.GREEN ] & 0xFF;
+                final int srcB = src[ j + ByteOrderManager.BLUE ] & 0xFF;
+                final int srcA = src[ j + ByteOrderManager.ALPHA ] & 0xFF;
+                
+                final int srcA_ = premultiplied ? 255 : srcA;
+                
+                if ( overwrite )
+                {
+                    trg[ k + ByteOrderManager.RED ] = (byte)( srcR * srcA_ / 255 );
+                    trg[ k + ByteOrderManager.GREEN ] = (byte)( srcG * srcA_ / 255 );
+                    trg[ k + ByteOrderManager.BLUE ] = (byte)( srcB * srcA_ / 255 );
+                }
+                else
+                {
+                    final int trgR = trg[ k + ByteOrderManager.RED ] & 0xFF;
+                    final int trgG = trg[ k + ByteOrderManager.GREEN ] & 0xFF;
+                    final int trgB = trg[ k + ByteOrderManager.BLUE ] & 0xFF;
+                    
+                    trg[ k + ByteOrderManager.RED ] = (byte)Math.min( ( srcR * srcA_ / 255 ) + ( trgR * ( 255 - srcA ) / 255 ), 255 );
+                    trg[ k + ByteOrderManager.GREEN ] = (byte)Math.min( ( srcG * srcA_ / 255 ) + ( trgG * ( 255 - srcA ) / 255 ), 255 );
+                    trg[ k + ByteOrderManager.BLUE ] = (byte)Math.min( ( srcB * srcA_ / 255 ) + ( trgB * ( 255 - srcA ) / 255 ), 255 );
+                }
+                
+                j += srcPixelBytes;
+                k += trgPixelBytes;
+            }
+        }
+        else if ( overwrite )
+        {
+            System.arraycopy( src, srcByteOffset, trg, 0, numPixels * 4 );
+        }
+        else
+        {
+            int j = srcByteOffset;
+            int k = 0;
+            for ( int i = 0; i < numPixels; i++ )
+            {
+                final int srcR = src[ j + ByteOrderManager.RED ] & 0xFF;
+                final int srcG = src[ j + ByteOrderManager.GREEN ] & 0xFF;
+                final int srcB = src[ j + ByteOrderManager.BLUE ] & 0xFF;
+                final int srcA = src[ j + ByteOrderManager.ALPHA ] & 0xFF;
+                
+                final int trgR = trg[ k + ByteOrderManager.RED ] & 0xFF;
+                final int trgG = trg[ k + ByteOrderManager.GREEN ] & 0xFF;
+                final int trgB = trg[ k + ByteOrderManager.BLUE ] & 0xFF;
+                final int trgA = trg[ k + ByteOrderManager.ALPHA ] & 0xFF;
+                
+                final float rs = srcR / 255f;
+                final float gs = srcG / 255f;
+                final float bs = srcB / 255f;
+                final float as = srcA / 255f;
+                
+                final float rd = trgR / 255f;
+                final float gd = trgG / 255f;
+                final float bd = trgB / 255f;
+                final float ad = trgA / 255f;
+                
+                final float ar = as + ad * ( 1.0f - as );
+                
+                final float rr, gr, br;
+                if ( premultiplied )
+                {
+                    rr = rs + rd * ( 1.0f - as );
+                    gr = gs + gd * ( 1.0f - as );
+                    br = bs + bd * ( 1.0f - as );
+                }
+                else if ( nonPremultiplied )
+                {
+                    final float dw = ad * ( 1.0f - as );
+                    
+                    rr = ( ar > 0.0f ) ? ( rs * as + rd * dw ) / ar : 0.0f;
+                    gr = ( ar > 0.0f ) ? ( gs * as + gd * dw ) / ar : 0.0f;
+                    br = ( ar > 0.0f ) ? ( bs * as + bd * dw ) / ar : 0.0f;
+                }
+                else
+                {
+                    rr = rs * as + rd * ad * ( 1.0f - as );
+                    gr = gs * as + gd * ad * ( 1.0f - as );
+                    br = bs * as + bd * ad * ( 1.0f - as );
+                }
+                
+                trg[ k + ByteOrderManager.RED ] = (byte)( Math.min( rr, 1.0f ) * 255 );
+                trg[ k + ByteOrderManager.GREEN ] = (byte)( Math.min( gr, 1.0f ) * 255 );
+                trg[ k + ByteOrderManager.BLUE ] = (byte)( Math.min( br, 1.0f ) * 255 );
+                trg[ k + ByteOrderManager.ALPHA ] = (byte)( Math.min( ar, 1.0f ) * 255 );
+                
+                j += srcPixelBytes;
+                k += trgPixelBytes;
+            }
+        }
+    }
+    
+    FloatPixelCompositor()
+    {
+    }
+}
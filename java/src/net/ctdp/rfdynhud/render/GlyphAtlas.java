@@ -0,0 +1,601 @@
+/**
+ * Copyright (C) 2009-2014 Cars and Tracks Development Project (CTDP).
+ * 
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+ */
+package net.ctdp.rfdynhud.render;
+
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.FontMetrics;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferByte;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Caches rasterized glyphs as 8 bit coverage masks in atlas pages, so that strings can be drawn
+ * without passing them through Java2D on each redraw.<br>
+ * Atlases are keyed by (Font, anti-aliasing). The masks are color independent.
+ * The total number of atlas pages is bounded. When the bound is exceeded, the atlases of the least recently used fonts are dropped.
+ * A single font's atlas is bounded, too. When it is full, it starts over empty.
+ * 
+ * @author Marvin Froehlich (CTDP)
+ */
+public class GlyphAtlas
+{
+    public static final int PAGE_SIZE = 256;
+    
+    /**
+     * Glyphs beyond this code point are not cached, since they may need complex text layout.
+     */
+    private static final char MAX_SUPPORTED_CHAR = '\u058F';
+    
+    private static final int PADDING = 2;
+    
+    /**
+     * The maximum number of pages of a single font's atlas.
+     */
+    private static final int MAX_PAGES_PER_FONT = 8;
+    
+    private static int maxPages = 64;
+    
+    private static final Map<FontKey, GlyphAtlas> atlases = new LinkedHashMap<FontKey, GlyphAtlas>( 16, 0.75f, true );
+    private static final FontKey searchKey = new FontKey( null, false );
+    private static int numPages = 0;
+    
+    private static long numHits = 0L;
+    private static long numMisses = 0L;
+    private static long numEvictions = 0L;
+    
+    /**
+     * Glyphs are resolved under the global lock, but blitted outside of it (pages are never written to after a glyph has been added).
+     * So the buffer for the resolved glyphs must be per thread.
+     */
+    private static final ThreadLocal<Glyph[]> glyphsBuffer = new ThreadLocal<Glyph[]>()
+    {
+        @Override
+        protected Glyph[] initialValue()
+        {
+            return ( new Glyph[ 32 ] );
+        }
+    };
+    
+    private static final class FontKey
+    {
+        private Font font;
+        private boolean antiAliased;
+        
+        @Override
+        public boolean equals( Object o )
+        {
+            if ( !( o instanceof FontKey ) )
+                return ( false );
+            
+            FontKey fk = (FontKey)o;
+            
+            return ( ( fk.antiAliased == this.antiAliased ) && fk.font.equals( this.font ) );
+        }
+        
+        @Override
+        public int hashCode()
+        {
+            return ( font.hashCode() * 2 + ( antiAliased ? 1 : 0 ) );
+        }
+        
+        public FontKey( Font font, boolean antiAliased )
+        {
+            this.font = font;
+            this.antiAliased = antiAliased;
+        }
+    }
+    
+    static final class Glyph
+    {
+        byte[] page;
+        int pageX;
+        int pageY;
+        int width;
+        int height;
+        
+        /**
+         * x-offset of the mask relative to the pen position
+         */
+        int offsetX;
+        
+        /**
+         * y-offset of the mask relative to the baseline
+         */
+        int offsetY;
+        
+        int advance;
+    }
+    
+    /**
+     * Marks code points, that cannot be cached (unsupported by the font or larger than a page), so that they are not rasterized again.
+     */
+    private static final Glyph NOT_CACHABLE = new Glyph();
+    
+    private final Font font;
+    private final boolean antiAliased;
+    
+    private final Glyph[] asciiGlyphs = new Glyph[ 128 ];
+    private final HashMap<Character, Glyph> otherGlyphs = new HashMap<Character, Glyph>();
+    
+    private final ArrayList<byte[]> pages = new ArrayList<byte[]>();
+    private int shelfX = PAGE_SIZE;
+    private int shelfY = PAGE_SIZE;
+    private int shelfHeight = 0;
+    
+    private BufferedImage scratchImage = null;
+    private Graphics2D scratchGraphics = null;
+    private final FontMetrics metrics;
+    
+    /**
+     * The common advance of all digits or -1, if the digits don't share the same advance.
+     */
+    private final int digitAdvance;
+    
+    private BufferedImage getScratchImage( int width, int height )
+    {
+        if ( ( scratchImage == null ) || ( scratchImage.getWidth() < width ) || ( scratchImage.getHeight() < height ) )
+        {
+            if ( scratchGraphics != null )
+                scratchGraphics.dispose();
+            
+            scratchImage = new BufferedImage( Math.max( width, ( scratchImage == null ) ? 0 : scratchImage.getWidth() ), Math.max( height, ( scratchImage == null ) ? 0 : scratchImage.getHeight() ), BufferedImage.TYPE_BYTE_GRAY );
+            scratchGraphics = scratchImage.createGraphics();
+            scratchGraphics.setFont( font );
+            scratchGraphics.setRenderingHint( RenderingHints.KEY_ANTIALIASING, antiAliased ? RenderingHints.VALUE_ANTIALIAS_ON : RenderingHints.VALUE_ANTIALIAS_OFF );
+        }
+        
+        return ( scratchImage );
+    }
+    
+    private byte[] allocate( Glyph glyph, int width, int height )
+    {
+        if ( ( width > PAGE_SIZE ) || ( height > PAGE_SIZE ) )
+            return ( null );
+        
+        if ( shelfX + width > PAGE_SIZE )
+        {
+            shelfX = 0;
+            shelfY += shelfHeight;
+            shelfHeight = 0;
+        }
+        
+        if ( shelfY + height > PAGE_SIZE )
+        {
+            if ( pages.size() >= Math.max( 1, Math.min( MAX_PAGES_PER_FONT, maxPages ) ) )
+                reset();
+            
+            pages.add( new byte[ PAGE_SIZE * PAGE_SIZE ] );
+            numPages++;
+            
+            shelfX = 0;
+            shelfY = 0;
+            shelfHeight = 0;
+        }
+        
+        glyph.page = pages.get( pages.size() - 1 );
+        glyph.pageX = shelfX;
+        glyph.pageY = shelfY;
+        
+        shelfX += width;
+        shelfHeight = Math.max( shelfHeight, height );
+        
+        return ( glyph.page );
+    }
+    
+    /**
+     * Drops all pages and glyphs of this atlas.
+     * Glyphs, that have already been resolved, stay valid, since they keep their pages referenced.
+     */
+    private void reset()
+    {
+        numPages -= pages.size();
+        numEvictions++;
+        
+        pages.clear();
+        java.util.Arrays.fill( asciiGlyphs, null );
+        otherGlyphs.clear();
+        
+        shelfX = PAGE_SIZE;
+        shelfY = PAGE_SIZE;
+        shelfHeight = 0;
+    }
+    
+    private Glyph rasterize( char ch )
+    {
+        if ( Character.isISOControl( ch ) || !font.canDisplay( ch ) )
+            return ( NOT_CACHABLE );
+        
+        final int advance = metrics.charWidth( ch );
+        final int imgWidth = Math.max( advance, metrics.getMaxAdvance() ) * 2 + PADDING * 2;
+        final int imgHeight = metrics.getMaxAscent() + metrics.getMaxDescent() + PADDING * 2;
+        final int penX = Math.max( advance, metrics.getMaxAdvance() ) / 2 + PADDING;
+        final int baseline = metrics.getMaxAscent() + PADDING;
+        
+        BufferedImage img = getScratchImage( imgWidth, imgHeight );
+        final int stride = img.getWidth();
+        
+        scratchGraphics.setColor( Color.BLACK );
+        scratchGraphics.fillRect( 0, 0, imgWidth, imgHeight );
+        scratchGraphics.setColor( Color.WHITE );
+        scratchGraphics.drawString( String.valueOf( ch ), penX, baseline );
+        
+        final byte[] data = ( (DataBufferByte)img.getRaster().getDataBuffer() ).getData();
+        
+        int left = imgWidth, top = imgHeight, right = -1, bottom = -1;
+        for ( int y = 0; y < imgHeight; y++ )
+        {
+            int offset = y * stride;
+            for ( int x = 0; x < imgWidth; x++ )
+            {
+                if ( data[offset + x] != 0 )
+                {
+                    if ( x < left )
+                        left = x;
+                    if ( x > right )
+                        right = x;
+                    if ( y < top )
+                        top = y;
+                    bottom = y;
+                }
+            }
+        }
+        
+        Glyph glyph = new Glyph();
+        glyph.advance = advance;
+        
+        if ( right < 0 )
+        {
+            // empty glyph (e.g. space)
+            glyph.width = 0;
+            glyph.height = 0;
+            
+            return ( glyph );
+        }
+        
+        glyph.width = right - left + 1;
+        glyph.height = bottom - top + 1;
+        glyph.offsetX = left - penX;
+        glyph.offsetY = top - baseline;
+        
+        byte[] page = allocate( glyph, glyph.width, glyph.height );
+        if ( page == null )
+            return ( NOT_CACHABLE );
+        
+        for ( int y = 0; y < glyph.height; y++ )
+        {
+            System.arraycopy( data, ( top + y ) * stride + left, page, ( glyph.pageY + y ) * PAGE_SIZE + glyph.pageX, glyph.width );
+        }
+        
+        return ( glyph );
+    }
+    
+    /**
+     * Gets the cached glyph or rasterizes it.
+     * 
+     * @param ch the character
+     * 
+     * @return the glyph or <code>null</code>, if the character cannot be cached.
+     */
+    private Glyph getGlyph( char ch )
+    {
+        if ( ch > MAX_SUPPORTED_CHAR )
+            return ( null );
+        
+        Glyph glyph;
+        
+        if ( ch < 128 )
+        {
+            glyph = asciiGlyphs[ch];
+            
+            if ( glyph == null )
+            {
+                numMisses++;
+                glyph = rasterize( ch );
+                asciiGlyphs[ch] = glyph;
+            }
+            else
+            {
+                numHits++;
+            }
+        }
+        else
+        {
+            Character key = Character.valueOf( ch );
+            glyph = otherGlyphs.get( key );
+            
+            if ( glyph == null )
+            {
+                numMisses++;
+                glyph = rasterize( ch );
+                otherGlyphs.put( key, glyph );
+            }
+            else
+            {
+                numHits++;
+            }
+        }
+        
+        if ( glyph == NOT_CACHABLE )
+            return ( null );
+        
+        return ( glyph );
+    }
+    
+    /**
+     * Gets the common advance of all digits.
+     * 
+     * @return the common advance of all digits or -1, if the font doesn't use monospaced digits.
+     */
+    public final int getDigitAdvance()
+    {
+        return ( digitAdvance );
+    }
+    
+    private static final boolean isDigitsOnly( CharSequence s )
+    {
+        for ( int i = 0; i < s.length(); i++ )
+        {
+            char ch = s.charAt( i );
+            
+            if ( ( ch < '0' ) || ( ch > '9' ) )
+                return ( false );
+        }
+        
+        return ( true );
+    }
+    
+    /**
+     * Computes the advance width of the given string without kerning.
+     * 
+     * @param s the string
+     * 
+     * @return the advance width or -1, if the string contains unsupported characters.
+     */
+    final int getAdvance( CharSequence s )
+    {
+        if ( ( digitAdvance >= 0 ) && isDigitsOnly( s ) )
+            return ( s.length() * digitAdvance );
+        
+        int advance = 0;
+        for ( int i = 0; i < s.length(); i++ )
+        {
+            Glyph glyph = getGlyph( s.charAt( i ) );
+            
+            if ( glyph == null )
+                return ( -1 );
+            
+            advance += glyph.advance;
+        }
+        
+        return ( advance );
+    }
+    
+    private GlyphAtlas( Font font, boolean antiAliased )
+    {
+        this.font = font;
+        this.antiAliased = antiAliased;
+        
+        getScratchImage( 64, 64 );
+        this.metrics = scratchGraphics.getFontMetrics();
+        
+        int da = metrics.charWidth( '0' );
+        for ( char ch = '1'; ch <= '9'; ch++ )
+        {
+            if ( metrics.charWidth( ch ) != da )
+            {
+                da = -1;
+                break;
+            }
+        }
+        
+        this.digitAdvance = da;
+    }
+    
+    private final int getNumPages()
+    {
+        return ( pages.size() );
+    }
+    
+    private static void evictExcessPages( GlyphAtlas keep )
+    {
+        Iterator<GlyphAtlas> it = atlases.values().iterator();
+        
+        while ( ( numPages > maxPages ) && it.hasNext() )
+        {
+            GlyphAtlas atlas = it.next();
+            
+            if ( atlas == keep )
+                continue;
+            
+            numPages -= atlas.getNumPages();
+            numEvictions++;
+            
+            if ( atlas.scratchGraphics != null )
+                atlas.scratchGraphics.dispose();
+            
+            it.remove();
+        }
+    }
+    
+    private static GlyphAtlas getAtlas( Font font, boolean antiAliased )
+    {
+        searchKey.font = font;
+        searchKey.antiAliased = antiAliased;
+        
+        GlyphAtlas atlas = atlases.get( searchKey );
+        
+        searchKey.font = null;
+        
+        if ( atlas == null )
+        {
+            atlas = new GlyphAtlas( font, antiAliased );
+            atlases.put( new FontKey( font, antiAliased ), atlas );
+        }
+        
+        return ( atlas );
+    }
+    
+    /**
+     * Sets the maximum number of atlas pages ({@value #PAGE_SIZE}x{@value #PAGE_SIZE} bytes each).
+     * Zero disables the glyph atlas.
+     * 
+     * @param maxPages the maximum number of atlas pages
+     */
+    public static synchronized void setMaxPages( int maxPages )
+    {
+        GlyphAtlas.maxPages = Math.max( 0, maxPages );
+        
+        evictExcessPages( null );
+    }
+    
+    /**
+     * Gets the maximum number of atlas pages ({@value #PAGE_SIZE}x{@value #PAGE_SIZE} bytes each).
+     * 
+     * @return the maximum number of atlas pages.
+     */
+    public static synchronized int getMaxPages()
+    {
+        return ( maxPages );
+    }
+    
+    /**
+     * Gets the number of currently allocated atlas pages.
+     * 
+     * @return the number of currently allocated atlas pages.
+     */
+    public static synchronized int getNumAllocatedPages()
+    {
+        return ( numPages );
+    }
+    
+    public static synchronized long getNumHits()
+    {
+        return ( numHits );
+    }
+    
+    public static synchronized long getNumMisses()
+    {
+        return ( numMisses );
+    }
+    
+    public static synchronized long getNumEvictions()
+    {
+        return ( numEvictions );
+    }
+    
+    /**
+     * Removes all cached glyphs.
+     */
+    public static synchronized void clear()
+    {
+        for ( GlyphAtlas atlas : atlases.values() )
+        {
+            if ( atlas.scratchGraphics != null )
+                atlas.scratchGraphics.dispose();
+        }
+        
+        atlases.clear();
+        numPages = 0;
+    }
+    
+    /**
+     * Computes the kerning-free advance width of the given string, if the font is cached.
+     * 
+     * @param s the string
+     * @param font the font
+     * @param antiAliased anti aliased font?
+     * 
+     * @return the advance width or -1, if the string cannot be handled by the glyph atlas.
+     */
+    public static synchronized int getStringAdvance( CharSequence s, Font font, boolean antiAliased )
+    {
+        if ( ( maxPages == 0 ) || font.hasLayoutAttributes() || font.isTransformed() )
+            return ( -1 );
+        
+        return ( getAtlas( font, antiAliased ).getAdvance( s ) );
+    }
+    
+    /**
+     * Draws the given string through the glyph atlas.
+     * 
+     * @param s the string to draw
+     * @param x the x-position
+     * @param y the y-position of the String's baseline
+     * @param font the font
+     * @param antiAliased anti aliased font?
+     * @param color the color to draw with
+     * @param texture the texture to draw on
+     * 
+     * @return <code>true</code>, if the string was drawn, <code>false</code>, if it contains glyphs, that cannot be handled by the atlas.
+     */
+    static boolean drawString( CharSequence s, int x, int y, Font font, boolean antiAliased, Color color, TextureImage2D texture )
+    {
+        final int n = s.length();
+        Glyph[] glyphs = glyphsBuffer.get();
+        
+        if ( glyphs.length < n )
+        {
+            glyphs = new Glyph[ n * 3 / 2 ];
+            glyphsBuffer.set( glyphs );
+        }
+        
+        synchronized ( GlyphAtlas.class )
+        {
+            if ( ( maxPages == 0 ) || font.hasLayoutAttributes() || font.isTransformed() )
+                return ( false );
+            
+            GlyphAtlas atlas = getAtlas( font, antiAliased );
+            
+            for ( int i = 0; i < n; i++ )
+            {
+                glyphs[i] = atlas.getGlyph( s.charAt( i ) );
+                
+                if ( glyphs[i] == null )
+                {
+                    java.util.Arrays.fill( glyphs, 0, i, null );
+                    
+                    return ( false );
+                }
+            }
+            
+            if ( numPages > maxPages )
+                evictExcessPages( atlas );
+        }
+        
+        int penX = x;
+        for ( int i = 0; i < n; i++ )
+        {
+            Glyph glyph = glyphs[i];
+            
+            if ( glyph.width > 0 )
+                texture.drawAlphaMask( glyph.page, PAGE_SIZE, glyph.pageX, glyph.pageY, glyph.width, glyph.height, penX + glyph.offsetX, y + glyph.offsetY, color );
+            
+            penX += glyph.advance;
+            glyphs[i] = null;
+        }
+        
+        return ( true );
+    }
+}
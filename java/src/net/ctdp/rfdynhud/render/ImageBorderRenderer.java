@@ -46,7 +46,7 @@ public class ImageBorderRenderer implements BorderRenderer
         return ( borderTexture );
     }
     
-    public static void drawBorderFromTexture( TextureImage2D borderTexture, BorderMeasures measures, TextureImage2D texture, int offsetX, int offsetY, int width, int height )
+    static void renderBorderFromTexture( TextureImage2D borderTexture, BorderMeasures measures, TextureImage2D texture, int offsetX, int offsetY, int width, int height )
     {
         TextureImage2D image = borderTexture;
         
@@ -113,6 +113,24 @@ public class ImageBorderRenderer implements BorderRenderer
             texture.clear( image, 0, srcTopH + ul_lower, srcLeftW, srcH - srcTopH - ul_lower - ll_upper - srcBottomH, offsetX, offsetY + srcTopH + ul_lower, srcLeftW, height - srcTopH - ul_lower - ll_upper - srcBottomH, markDirty, null );
     }
     
+    /**
+     * Draws the border sliced from the given border image.
+     * The rendered frame is cached by the {@link BorderFrameCache}, so that it is just copied on the next call with the same size.
+     * 
+     * @param borderTexture the border image
+     * @param measures the border measures
+     * @param texture the target texture
+     * @param offsetX the x-offset on the target texture
+     * @param offsetY the y-offset on the target texture
+     * @param width the width of the bordered area
+     * @param height the height of the bordered area
+     */
+    public static void drawBorderFromTexture( TextureImage2D borderTexture, BorderMeasures measures, TextureImage2D texture, int offsetX, int offsetY, int width, int height )
+    {
+        if ( !BorderFrameCache.drawBorder( borderTexture, measures, texture, offsetX, offsetY, width, height ) )
+            renderBorderFromTexture( borderTexture, measures, texture, offsetX, offsetY, width, height );
+    }
+    
     @Override
     public void drawBorder( Color backgroundColor, BorderMeasures measures, TextureImage2D texture, int offsetX, int offsetY, int width, int height )
     {
@@ -0,0 +1,390 @@
+/**
+ * Copyright (C) 2009-2014 Cars and Tracks Development Project (CTDP).
+ * 
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+ */
+package net.ctdp.rfdynhud.render;
+
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.Shape;
+import java.awt.geom.AffineTransform;
+import java.awt.geom.Point2D;
+import java.awt.image.BufferedImage;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+
+import net.ctdp.rfdynhud.util.__UtilHelper;
+
+import org.openmali.types.twodee.Rect2i;
+
+/**
+ * Keeps pre-rendered rotated frames of {@link TransformableTexture}s (needles), so that drawing them
+ * in software (editor mode) is a plain image copy instead of a bicubic rotation.<br>
+ * Rotation angles are quantized to a configurable step and a frame is rendered, when its angle is first used.
+ * The entries are kept in access order. When the byte budget is exceeded, the least recently used frames are dropped.
+ * If a frame doesn't fit into the budget at all, the needle is rotated exactly.
+ * 
+ * @author Marvin Froehlich (CTDP)
+ */
+public class NeedleSpriteCache
+{
+    private static class Key
+    {
+        private TransformableTexture texture;
+        private int rotCenterX;
+        private int rotCenterY;
+        private int angleIndex;
+        
+        public void set( TransformableTexture texture, int rotCenterX, int rotCenterY, int angleIndex )
+        {
+            this.texture = texture;
+            this.rotCenterX = rotCenterX;
+            this.rotCenterY = rotCenterY;
+            this.angleIndex = angleIndex;
+        }
+        
+        @Override
+        public boolean equals( Object o )
+        {
+            if ( !( o instanceof Key ) )
+                return ( false );
+            
+            Key k = (Key)o;
+            
+            return ( ( k.texture == texture ) && ( k.rotCenterX == rotCenterX ) && ( k.rotCenterY == rotCenterY ) && ( k.angleIndex == angleIndex ) );
+        }
+        
+        @Override
+        public int hashCode()
+        {
+            return ( ( ( System.identityHashCode( texture ) * 31 + rotCenterX ) * 31 + rotCenterY ) * 31 + angleIndex );
+        }
+    }
+    
+    private static class Sprite
+    {
+        private final BufferedImage image;
+        private final int originX;
+        private final int originY;
+        private final long sizeInBytes;
+        
+        public Sprite( BufferedImage image, int originX, int originY )
+        {
+            this.image = image;
+            this.originX = originX;
+            this.originY = originY;
+            this.sizeInBytes = (long)image.getWidth() * image.getHeight() * 4L;
+        }
+    }
+    
+    private static final LinkedHashMap<Key, Sprite> CACHE = new LinkedHashMap<Key, Sprite>( 64, 0.75f, true );
+    private static final Key LOOKUP_KEY = new Key();
+    
+    private static final Point2D.Float CENTER = new Point2D.Float();
+    private static final AffineTransform SPRITE_TRANSFORM = new AffineTransform();
+    
+    private static final long ONE_MB = 1024L * 1024L;
+    
+    private static float angleStep = -1f;
+    private static int numAngles = 0;
+    
+    private static long maxSize = -1L;
+    private static long size = 0L;
+    
+    private static long numHits = 0L;
+    private static long numMisses = 0L;
+    private static long numEvictions = 0L;
+    
+    /**
+     * Sets the angle step, in which frames are rendered.
+     * 
+     * @param angleStep the step in degrees (zero to always rotate exactly)
+     */
+    public static synchronized void setAngleStep( float angleStep )
+    {
+        if ( angleStep <= 0f )
+        {
+            NeedleSpriteCache.angleStep = 0f;
+            NeedleSpriteCache.numAngles = 0;
+        }
+        else
+        {
+            NeedleSpriteCache.numAngles = Math.max( 1, Math.round( 360f / angleStep ) );
+            NeedleSpriteCache.angleStep = 360f / numAngles;
+        }
+        
+        clear();
+    }
+    
+    /**
+     * Gets the angle step, in which frames are rendered. It defaults to the needleSpriteAngleStep setting from rfdynhud.ini.
+     * The value is adjusted, so that a full circle is divided into whole steps.
+     * 
+     * @return the step in degrees (zero, if needles are always rotated exactly).
+     */
+    public static synchronized float getAngleStep()
+    {
+        if ( angleStep < 0f )
+            setAngleStep( __UtilHelper.PLUGIN_INI.getRenderingNeedleSpriteAngleStep() );
+        
+        return ( angleStep );
+    }
+    
+    /**
+     * Sets the byte budget of this cache.
+     * 
+     * @param maxSize the maximum size in bytes (zero to disable the cache)
+     */
+    public static synchronized void setMaxSize( long maxSize )
+    {
+        NeedleSpriteCache.maxSize = Math.max( 0L, maxSize );
+        
+        limitCacheSize();
+    }
+    
+    /**
+     * Gets the byte budget of this cache. It defaults to the needleSpriteCacheSize setting from rfdynhud.ini.
+     * 
+     * @return the maximum size in bytes (zero, if the cache is disabled).
+     */
+    public static synchronized long getMaxSize()
+    {
+        if ( maxSize < 0L )
+            maxSize = Math.max( 0, __UtilHelper.PLUGIN_INI.getRenderingNeedleSpriteCacheSize() ) * ONE_MB;
+        
+        return ( maxSize );
+    }
+    
+    /**
+     * Gets the summed up size of all cached frames in bytes.
+     * 
+     * @return the summed up size of all cached frames in bytes.
+     */
+    public static synchronized long getSize()
+    {
+        return ( size );
+    }
+    
+    public static synchronized int getNumEntries()
+    {
+        return ( CACHE.size() );
+    }
+    
+    public static synchronized long getNumHits()
+    {
+        return ( numHits );
+    }
+    
+    public static synchronized long getNumMisses()
+    {
+        return ( numMisses );
+    }
+    
+    public static synchronized long getNumEvictions()
+    {
+        return ( numEvictions );
+    }
+    
+    private static void limitCacheSize()
+    {
+        // The iteration order is least recently used first.
+        Iterator<Sprite> it = CACHE.values().iterator();
+        
+        while ( ( size > maxSize ) && it.hasNext() )
+        {
+            Sprite sprite = it.next();
+            
+            it.remove();
+            size -= sprite.sizeInBytes;
+            numEvictions++;
+        }
+    }
+    
+    /**
+     * Drops all cached frames.
+     */
+    public static synchronized void clear()
+    {
+        CACHE.clear();
+        size = 0L;
+    }
+    
+    /**
+     * Drops all cached frames of the given texture. This must be called, when the texture's content has changed.
+     * 
+     * @param texture the texture
+     */
+    public static synchronized void invalidate( TransformableTexture texture )
+    {
+        Iterator<Key> it = CACHE.keySet().iterator();
+        
+        while ( it.hasNext() )
+        {
+            Key key = it.next();
+            
+            if ( key.texture == texture )
+            {
+                size -= CACHE.get( key ).sizeInBytes;
+                it.remove();
+            }
+        }
+    }
+    
+    private static int getAngleIndex( float rotation )
+    {
+        int index = (int)Math.round( Math.toDegrees( rotation ) / angleStep ) % numAngles;
+        
+        if ( index < 0 )
+            index += numAngles;
+        
+        return ( index );
+    }
+    
+    private static final int[] BOUNDS = new int[ 4 ];
+    
+    /**
+     * Computes the bounds of the given texture rotated by the given angle about its rotation center.
+     * 
+     * @return originX, originY, width and height relative to the rotation center.
+     */
+    private static int[] getSpriteBounds( TransformableTexture texture, double angle )
+    {
+        final double sin = Math.sin( angle );
+        final double cos = Math.cos( angle );
+        
+        final int w = texture.getWidth();
+        final int h = texture.getHeight();
+        final double cx = texture.getRotCenterX();
+        final double cy = texture.getRotCenterY();
+        
+        double minX = Double.MAX_VALUE, minY = Double.MAX_VALUE, maxX = -Double.MAX_VALUE, maxY = -Double.MAX_VALUE;
+        
+        for ( int i = 0; i < 4; i++ )
+        {
+            double x = ( ( ( i & 1 ) == 0 ) ? 0.0 : w ) - cx;
+            double y = ( ( ( i & 2 ) == 0 ) ? 0.0 : h ) - cy;
+            double rx = x * cos - y * sin;
+            double ry = x * sin + y * cos;
+            
+            minX = Math.min( minX, rx );
+            minY = Math.min( minY, ry );
+            maxX = Math.max( maxX, rx );
+            maxY = Math.max( maxY, ry );
+        }
+        
+        // one pixel of slack for the antialiased edges
+        BOUNDS[0] = (int)Math.floor( minX ) - 1;
+        BOUNDS[1] = (int)Math.floor( minY ) - 1;
+        BOUNDS[2] = (int)Math.ceil( maxX ) + 1 - BOUNDS[0];
+        BOUNDS[3] = (int)Math.ceil( maxY ) + 1 - BOUNDS[1];
+        
+        return ( BOUNDS );
+    }
+    
+    private static Sprite renderSprite( TransformableTexture texture, double angle, int[] bounds )
+    {
+        final int w = texture.getWidth();
+        final int h = texture.getHeight();
+        
+        BufferedImage image = new BufferedImage( bounds[2], bounds[3], BufferedImage.TYPE_INT_ARGB_PRE );
+        Graphics2D g = image.createGraphics();
+        
+        try
+        {
+            g.setRenderingHint( RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON );
+            g.setRenderingHint( RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BICUBIC );
+            
+            g.translate( -bounds[0], -bounds[1] );
+            g.rotate( angle );
+            g.translate( -texture.getRotCenterX(), -texture.getRotCenterY() );
+            
+            g.drawImage( texture.getTexture().getBufferedImage(), 0, 0, w, h, 0, 0, w, h, null );
+        }
+        finally
+        {
+            g.dispose();
+        }
+        
+        return ( new Sprite( image, bounds[0], bounds[1] ) );
+    }
+    
+    /**
+     * Draws the given texture by the cached frame nearest to its current rotation and renders the frame first, if necessary.
+     * The texture must not be scaled or clipped.
+     * 
+     * @param texture the texture to draw
+     * @param texCanvas the target canvas
+     * @param at the texture's transform as returned by {@link TransformableTexture#getTransformForEditor(int, int)}
+     * @param transformedRect the area to clip to
+     * 
+     * @return <code>true</code>, if the texture has been drawn, <code>false</code>, if it must be rotated exactly.
+     */
+    static synchronized boolean drawSprite( TransformableTexture texture, Graphics2D texCanvas, AffineTransform at, Rect2i transformedRect )
+    {
+        if ( ( getAngleStep() == 0f ) || ( getMaxSize() == 0L ) )
+            return ( false );
+        
+        final int angleIndex = getAngleIndex( texture.getRotation() );
+        
+        LOOKUP_KEY.set( texture, texture.getRotCenterX(), texture.getRotCenterY(), angleIndex );
+        Sprite sprite = CACHE.get( LOOKUP_KEY );
+        LOOKUP_KEY.set( null, 0, 0, 0 );
+        
+        if ( sprite == null )
+        {
+            numMisses++;
+            
+            final double angle = Math.toRadians( angleIndex * angleStep );
+            int[] bounds = getSpriteBounds( texture, angle );
+            
+            if ( (long)bounds[2] * bounds[3] * 4L > maxSize )
+                return ( false );
+            
+            sprite = renderSprite( texture, angle, bounds );
+            
+            Key key = new Key();
+            key.set( texture, texture.getRotCenterX(), texture.getRotCenterY(), angleIndex );
+            
+            CACHE.put( key, sprite );
+            size += sprite.sizeInBytes;
+            
+            limitCacheSize();
+        }
+        else
+        {
+            numHits++;
+        }
+        
+        CENTER.setLocation( texture.getRotCenterX(), texture.getRotCenterY() );
+        at.transform( CENTER, CENTER );
+        
+        Shape oldClip = texCanvas.getClip();
+        texCanvas.setClip( transformedRect.getLeft(), transformedRect.getTop(), transformedRect.getWidth(), transformedRect.getHeight() );
+        
+        SPRITE_TRANSFORM.setToTranslation( Math.round( CENTER.x ) + sprite.originX, Math.round( CENTER.y ) + sprite.originY );
+        
+        try
+        {
+            texCanvas.drawImage( sprite.image, SPRITE_TRANSFORM, null );
+        }
+        finally
+        {
+            texCanvas.setClip( oldClip );
+        }
+        
+        return ( true );
+    }
+}
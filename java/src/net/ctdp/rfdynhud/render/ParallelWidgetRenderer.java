@@ -0,0 +1,161 @@
+/**
+ * Copyright (C) 2009-2014 Cars and Tracks Development Project (CTDP).
+ * 
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+ */
+package net.ctdp.rfdynhud.render;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import net.ctdp.rfdynhud.util.RFDHLog;
+
+/**
+ * Distributes independent render tasks over a fixed pool of worker threads.<br>
+ * The calling thread participates and the call returns only after all tasks have finished.
+ * Tasks are handed out one by one, so that a slow widget doesn't hold back a whole partition.
+ * 
+ * @author Marvin Froehlich (CTDP)
+ */
+final class ParallelWidgetRenderer
+{
+    static interface Task
+    {
+        public void run( int index );
+    }
+    
+    private final int numThreads;
+    private final ExecutorService executor;
+    
+    private final AtomicInteger cursor = new AtomicInteger( 0 );
+    private Task task = null;
+    private int numTasks = 0;
+    private CountDownLatch latch = null;
+    
+    private final Runnable worker = new Runnable()
+    {
+        @Override
+        public void run()
+        {
+            try
+            {
+                work();
+            }
+            finally
+            {
+                latch.countDown();
+            }
+        }
+    };
+    
+    public final int getNumThreads()
+    {
+        return ( numThreads );
+    }
+    
+    private void work()
+    {
+        final Task task = this.task;
+        final int numTasks = this.numTasks;
+        
+        int index;
+        while ( ( index = cursor.getAndIncrement() ) < numTasks )
+        {
+            try
+            {
+                task.run( index );
+            }
+            catch ( Throwable t )
+            {
+                RFDHLog.exception( t );
+            }
+        }
+    }
+    
+    /**
+     * Runs the task for all indices in [0, numTasks) and waits for all of them to finish.
+     * 
+     * @param numTasks the number of tasks
+     * @param task the task to run
+     */
+    public void run( int numTasks, Task task )
+    {
+        if ( numTasks <= 0 )
+            return;
+        
+        this.task = task;
+        this.numTasks = numTasks;
+        this.cursor.set( 0 );
+        
+        final int numHelpers = Math.min( numThreads - 1, numTasks - 1 );
+        
+        this.latch = new CountDownLatch( numHelpers );
+        
+        for ( int i = 0; i < numHelpers; i++ )
+            executor.execute( worker );
+        
+        work();
+        
+        boolean interrupted = false;
+        while ( true )
+        {
+            try
+            {
+                latch.await();
+                break;
+            }
+            catch ( InterruptedException e )
+            {
+                interrupted = true;
+            }
+        }
+        
+        if ( interrupted )
+            Thread.currentThread().interrupt();
+        
+        this.task = null;
+    }
+    
+    public void shutdown()
+    {
+        executor.shutdown();
+    }
+    
+    /**
+     * Creates a new {@link ParallelWidgetRenderer}.
+     * 
+     * @param numThreads the total number of threads including the calling thread
+     */
+    public ParallelWidgetRenderer( int numThreads )
+    {
+        this.numThreads = Math.max( 2, numThreads );
+        this.executor = Executors.newFixedThreadPool( this.numThreads - 1, new ThreadFactory()
+        {
+            private int nextId = 1;
+            
+            @Override
+            public Thread newThread( Runnable r )
+            {
+                Thread thread = new Thread( r, "RFDynHUD render worker " + ( nextId++ ) );
+                thread.setDaemon( true );
+                
+                return ( thread );
+            }
+        } );
+    }
+}
@@ -0,0 +1,116 @@
+/**
+ * Copyright (C) 2009-2014 Cars and Tracks Development Project (CTDP).
+ * 
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+ */
+package net.ctdp.rfdynhud.render;
+
+/**
+ * A {@link PixelCompositor} combines a line of source pixels with a line of target pixels.
+ * It is used by {@link TextureImage2D} for all image blits and alpha-blended fills.
+ * 
+ * @author Marvin Froehlich (CTDP)
+ */
+public abstract class PixelCompositor
+{
+    public static enum Mode
+    {
+        /**
+         * Source pixels (straight alpha) are blended over the target pixels.
+         */
+        SOURCE_OVER,
+        
+        /**
+         * Source pixels (premultiplied alpha) are blended over the target pixels (premultiplied alpha).
+         */
+        SOURCE_OVER_PREMULTIPLIED,
+        
+        /**
+         * Source pixels (straight alpha) are blended over the target pixels (straight alpha)
+         * and the result is stored with straight alpha (the way Java2D renders onto non-premultiplied images).
+         */
+        SOURCE_OVER_NON_PREMULTIPLIED,
+        
+        /**
+         * Source pixels simply replace the target pixels.
+         */
+        OVERWRITE,
+        ;
+    }
+    
+    /**
+     * The legacy floating point compositor.
+     */
+    public static final PixelCompositor FLOAT = new FloatPixelCompositor();
+    
+    /**
+     * The fixed-point integer compositor working on precomputed multiplication tables.
+     */
+    public static final PixelCompositor FIXED_POINT = new FixedPointPixelCompositor();
+    
+    /**
+     * Gets a short name of this compositor for logging purposes.
+     * 
+     * @return a short name of this compositor.
+     */
+    public abstract String getName();
+    
+    /**
+     * Combines one line of source pixels with one line of target pixels.<br>
+     * Pixels are laid out in the byte order defined by the {@link ByteOrderManager}.<br>
+     * For all modes other than {@link Mode#OVERWRITE} the target buffer must contain the current target pixels.
+     * 
+     * @param src the source pixel data
+     * @param srcByteOffset the offset in the source array
+     * @param srcPixelBytes the number of bytes per source pixel (3 or 4)
+     * @param trg the target pixel data (starting at index zero). The result is written to this array.
+     * @param trgPixelBytes the number of bytes per target pixel (3 or 4)
+     * @param numPixels the number of pixels to combine
+     * @param mode the composition mode
+     */
+    public abstract void combineLine( byte[] src, int srcByteOffset, int srcPixelBytes, byte[] trg, int trgPixelBytes, int numPixels, Mode mode );
+    
+    @Override
+    public String toString()
+    {
+        return ( getClass().getSimpleName() + "( \"" + getName() + "\" )" );
+    }
+    
+    /**
+     * Parses the given compositor name.
+     * 
+     * @param name the name as returned by {@link #getName()}
+     * @param fallback returned, if the name is unknown
+     * 
+     * @return the matching compositor or the fallback.
+     */
+    public static PixelCompositor parse( String name, PixelCompositor fallback )
+    {
+        if ( name == null )
+            return ( fallback );
+        
+        if ( name.equalsIgnoreCase( FLOAT.getName() ) )
+            return ( FLOAT );
+        
+        if ( name.equalsIgnoreCase( FIXED_POINT.getName() ) )
+            return ( FIXED_POINT );
+        
+        return ( fallback );
+    }
+    
+    protected PixelCompositor()
+    {
+    }
+}
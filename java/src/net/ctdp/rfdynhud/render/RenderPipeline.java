@@ -0,0 +1,204 @@
+/**
+ * Copyright (C) 2009-2014 Cars and Tracks Development Project (CTDP).
+ * 
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+ */
+package net.ctdp.rfdynhud.render;
+
+import net.ctdp.rfdynhud.util.RFDHLog;
+
+/**
+ * Runs the frame task on a dedicated render thread, one frame at a time.<br>
+ * <br>
+ * The game thread starts a frame through {@link #startFrame()} and returns immediately.
+ * Before the game thread touches any state, that the frame task reads (game data, widgets, back buffers),
+ * it calls {@link #waitForFrame()}. So the render thread always sees the state as of the
+ * last {@link #startFrame()} call.<br>
+ * The frequent telemetry updates don't wait. They are captured into a back buffer, which is swapped
+ * with the current data right before the next {@link #startFrame()} call.
+ * 
+ * @author Marvin Froehlich (CTDP)
+ */
+public class RenderPipeline
+{
+    private final Runnable frameTask;
+    private final Thread thread;
+    
+    private final Object lock = new Object();
+    private boolean frameRequested = false;
+    private boolean busy = false;
+    private boolean running = true;
+    
+    private long lastFrameTime = 0L;
+    private long lastWaitTime = 0L;
+    
+    /**
+     * Gets the time in nanoseconds, the render thread needed for the last frame.
+     * 
+     * @return the time in nanoseconds, the render thread needed for the last frame.
+     */
+    public final long getLastFrameTime()
+    {
+        return ( lastFrameTime );
+    }
+    
+    /**
+     * Gets the time in nanoseconds, the game thread had to wait for the render thread in the last call to {@link #waitForFrame()}.
+     * 
+     * @return the time in nanoseconds, the game thread had to wait.
+     */
+    public final long getLastWaitTime()
+    {
+        return ( lastWaitTime );
+    }
+    
+    /**
+     * Starts drawing the next frame on the render thread.
+     * The previous frame must have been waited for.
+     */
+    public void startFrame()
+    {
+        synchronized ( lock )
+        {
+            if ( !running )
+                return;
+            
+            frameRequested = true;
+            busy = true;
+            lock.notifyAll();
+        }
+    }
+    
+    /**
+     * Waits for the render thread to finish the current frame. Returns immediately, if it is idle.
+     */
+    public void waitForFrame()
+    {
+        if ( Thread.currentThread() == thread )
+            return;
+        
+        boolean interrupted = false;
+        
+        synchronized ( lock )
+        {
+            if ( !busy )
+                return;
+            
+            final long t0 = System.nanoTime();
+            
+            while ( busy )
+            {
+                try
+                {
+                    lock.wait();
+                }
+                catch ( InterruptedException e )
+                {
+                    interrupted = true;
+                }
+            }
+            
+            lastWaitTime = System.nanoTime() - t0;
+        }
+        
+        if ( interrupted )
+            Thread.currentThread().interrupt();
+    }
+    
+    private void loop()
+    {
+        while ( true )
+        {
+            synchronized ( lock )
+            {
+                while ( !frameRequested && running )
+                {
+                    try
+                    {
+                        lock.wait();
+                    }
+                    catch ( InterruptedException e )
+                    {
+                    }
+                }
+                
+                if ( !running )
+                {
+                    busy = false;
+                    lock.notifyAll();
+                    
+                    return;
+                }
+                
+                frameRequested = false;
+            }
+            
+            final long t0 = System.nanoTime();
+            
+            try
+            {
+                frameTask.run();
+            }
+            catch ( Throwable t )
+            {
+                RFDHLog.exception( t );
+            }
+            
+            synchronized ( lock )
+            {
+                lastFrameTime = System.nanoTime() - t0;
+                busy = false;
+                lock.notifyAll();
+            }
+        }
+    }
+    
+    /**
+     * Waits for the current frame and stops the render thread.
+     */
+    public void shutdown()
+    {
+        waitForFrame();
+        
+        synchronized ( lock )
+        {
+            running = false;
+            lock.notifyAll();
+        }
+    }
+    
+    /**
+     * Creates and starts a new {@link RenderPipeline}.
+     * 
+     * @param frameTask the task drawing one frame
+     */
+    public RenderPipeline( Runnable frameTask )
+    {
+        if ( frameTask == null )
+            throw new IllegalArgumentException( "frameTask must not be null." );
+        
+        this.frameTask = frameTask;
+        this.thread = new Thread( new Runnable()
+        {
+            @Override
+            public void run()
+            {
+                loop();
+            }
+        }, "RFDynHUD render thread" );
+        this.thread.setDaemon( true );
+        this.thread.start();
+    }
+}
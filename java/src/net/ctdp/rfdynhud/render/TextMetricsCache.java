@@ -0,0 +1,336 @@
+/**
+ * Copyright (C) 2009-2014 Cars and Tracks Development Project (CTDP).
+ * 
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+ */
+package net.ctdp.rfdynhud.render;
+
+import java.awt.Font;
+import java.awt.font.FontRenderContext;
+import java.awt.geom.Rectangle2D;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Caches text metrics per (Font, anti-aliasing), so that strings can be measured without a text layout.<br>
+ * Simple text (no layout attributes, no transform and only characters below the combining diacritical marks)
+ * has logical bounds of (0, -ascent, sum of advances, line height). So the advances of these characters are kept in a table
+ * and widths and bounds are computed from it.<br>
+ * Other strings are measured through the Font once and their bounds are kept in a small per-font LRU map.<br>
+ * Fonts are immutable. So entries only need to be invalidated to release them, when a font is replaced (e.g. rescaled on resolution change).
+ * 
+ * @author Marvin Froehlich (CTDP)
+ */
+public class TextMetricsCache
+{
+    /**
+     * Characters from this code point on may need complex text layout (combining marks and beyond).
+     */
+    private static final int ADVANCES_TABLE_SIZE = 0x0300;
+    
+    private static final int MAX_FONTS = 32;
+    private static final int MAX_STRINGS_PER_FONT = 64;
+    
+    private static class FontKey
+    {
+        private Font font;
+        private boolean antiAliased;
+        
+        @Override
+        public boolean equals( Object o )
+        {
+            if ( !( o instanceof FontKey ) )
+                return ( false );
+            
+            FontKey fk = (FontKey)o;
+            
+            return ( ( fk.antiAliased == this.antiAliased ) && fk.font.equals( this.font ) );
+        }
+        
+        @Override
+        public int hashCode()
+        {
+            return ( font.hashCode() * 2 + ( antiAliased ? 1 : 0 ) );
+        }
+        
+        public FontKey( Font font, boolean antiAliased )
+        {
+            this.font = font;
+            this.antiAliased = antiAliased;
+        }
+    }
+    
+    private static class FontMetricsEntry
+    {
+        private final Font font;
+        private final FontRenderContext frc;
+        private final boolean simpleFont;
+        
+        private final float lineY;
+        private final float lineHeight;
+        
+        /**
+         * Advance per character or NaN, if not yet measured.
+         */
+        private final float[] advances;
+        
+        private final LinkedHashMap<String, Rectangle2D.Float> stringBounds = new LinkedHashMap<String, Rectangle2D.Float>( 16, 0.75f, true )
+        {
+            private static final long serialVersionUID = 1L;
+            
+            @Override
+            protected boolean removeEldestEntry( Map.Entry<String, Rectangle2D.Float> eldest )
+            {
+                return ( size() > MAX_STRINGS_PER_FONT );
+            }
+        };
+        
+        private final char[] tmpChar = new char[ 1 ];
+        
+        /**
+         * Computes the advance width of the given characters from the advances table.
+         * 
+         * @param s the characters
+         * 
+         * @return the advance width or -1, if the characters cannot be measured from the table.
+         */
+        public float getAdvance( CharSequence s )
+        {
+            if ( !simpleFont )
+                return ( -1f );
+            
+            float advance = 0f;
+            
+            for ( int i = 0; i < s.length(); i++ )
+            {
+                char ch = s.charAt( i );
+                
+                if ( ch >= ADVANCES_TABLE_SIZE )
+                    return ( -1f );
+                
+                float a = advances[ch];
+                
+                if ( a != a )
+                {
+                    tmpChar[0] = ch;
+                    a = (float)font.getStringBounds( tmpChar, 0, 1, frc ).getWidth();
+                    advances[ch] = a;
+                }
+                
+                advance += a;
+            }
+            
+            return ( advance );
+        }
+        
+        public Rectangle2D.Float getLayoutBounds( CharSequence s )
+        {
+            String str = s.toString();
+            Rectangle2D.Float bounds = stringBounds.get( str );
+            
+            if ( bounds == null )
+            {
+                numMisses++;
+                
+                Rectangle2D b = font.getStringBounds( str, frc );
+                bounds = new Rectangle2D.Float( (float)b.getX(), (float)b.getY(), (float)b.getWidth(), (float)b.getHeight() );
+                stringBounds.put( str, bounds );
+            }
+            else
+            {
+                numHits++;
+            }
+            
+            return ( bounds );
+        }
+        
+        public FontMetricsEntry( Font font, boolean antiAliased )
+        {
+            this.font = font;
+            this.frc = new FontRenderContext( null, antiAliased, false );
+            this.simpleFont = !font.hasLayoutAttributes() && !font.isTransformed();
+            
+            Rectangle2D lineBounds = font.getStringBounds( "", frc );
+            this.lineY = (float)lineBounds.getY();
+            this.lineHeight = (float)lineBounds.getHeight();
+            
+            if ( simpleFont )
+            {
+                this.advances = new float[ ADVANCES_TABLE_SIZE ];
+                Arrays.fill( advances, Float.NaN );
+            }
+            else
+            {
+                this.advances = null;
+            }
+        }
+    }
+    
+    private static final LinkedHashMap<FontKey, FontMetricsEntry> entries = new LinkedHashMap<FontKey, FontMetricsEntry>( 16, 0.75f, true )
+    {
+        private static final long serialVersionUID = 1L;
+        
+        @Override
+        protected boolean removeEldestEntry( Map.Entry<FontKey, FontMetricsEntry> eldest )
+        {
+            if ( size() > MAX_FONTS )
+            {
+                numEvictions++;
+                
+                return ( true );
+            }
+            
+            return ( false );
+        }
+    };
+    private static final FontKey LOOKUP_KEY = new FontKey( null, false );
+    
+    private static long numTableHits = 0L;
+    private static long numHits = 0L;
+    private static long numMisses = 0L;
+    private static long numEvictions = 0L;
+    
+    private static FontMetricsEntry getEntry( Font font, boolean antiAliased )
+    {
+        LOOKUP_KEY.font = font;
+        LOOKUP_KEY.antiAliased = antiAliased;
+        
+        FontMetricsEntry entry = entries.get( LOOKUP_KEY );
+        
+        LOOKUP_KEY.font = null;
+        
+        if ( entry == null )
+        {
+            entry = new FontMetricsEntry( font, antiAliased );
+            entries.put( new FontKey( font, antiAliased ), entry );
+        }
+        
+        return ( entry );
+    }
+    
+    /**
+     * Gets the advance width of the given characters, as it would be reported by {@link java.awt.FontMetrics#getStringBounds(String, java.awt.Graphics)}.
+     * Simple text is measured without creating any objects.
+     * 
+     * @param s the characters to measure
+     * @param font the font
+     * @param antiAliased anti aliased font?
+     * 
+     * @return the advance width of the given characters.
+     */
+    public static synchronized float getStringWidth( CharSequence s, Font font, boolean antiAliased )
+    {
+        FontMetricsEntry entry = getEntry( font, antiAliased );
+        
+        float advance = entry.getAdvance( s );
+        
+        if ( advance >= 0f )
+        {
+            numTableHits++;
+            
+            return ( advance );
+        }
+        
+        return ( entry.getLayoutBounds( s ).width );
+    }
+    
+    /**
+     * Gets the logical bounds of the given characters, as they would be reported by {@link java.awt.FontMetrics#getStringBounds(String, java.awt.Graphics)}.
+     * 
+     * @param s the characters to measure
+     * @param font the font
+     * @param antiAliased anti aliased font?
+     * 
+     * @return a new {@link Rectangle2D} holding the bounds of the given characters.
+     */
+    public static synchronized Rectangle2D getStringBounds( CharSequence s, Font font, boolean antiAliased )
+    {
+        FontMetricsEntry entry = getEntry( font, antiAliased );
+        
+        float advance = entry.getAdvance( s );
+        
+        if ( advance >= 0f )
+        {
+            numTableHits++;
+            
+            return ( new Rectangle2D.Float( 0f, entry.lineY, advance, entry.lineHeight ) );
+        }
+        
+        Rectangle2D.Float bounds = entry.getLayoutBounds( s );
+        
+        return ( new Rectangle2D.Float( bounds.x, bounds.y, bounds.width, bounds.height ) );
+    }
+    
+    /**
+     * Gets the number of strings measured from the advances tables.
+     * 
+     * @return the number of strings measured from the advances tables.
+     */
+    public static final long getNumTableHits()
+    {
+        return ( numTableHits );
+    }
+    
+    /**
+     * Gets the number of complex strings found in the bounds cache.
+     * 
+     * @return the number of complex strings found in the bounds cache.
+     */
+    public static final long getNumHits()
+    {
+        return ( numHits );
+    }
+    
+    /**
+     * Gets the number of complex strings, that had to be measured through a text layout.
+     * 
+     * @return the number of complex strings, that had to be measured through a text layout.
+     */
+    public static final long getNumMisses()
+    {
+        return ( numMisses );
+    }
+    
+    public static final long getNumEvictions()
+    {
+        return ( numEvictions );
+    }
+    
+    /**
+     * Removes the metrics of the given font (all anti-aliasing variants).
+     * 
+     * @param font the font, that is not used anymore
+     */
+    public static synchronized void invalidate( Font font )
+    {
+        LOOKUP_KEY.font = font;
+        
+        LOOKUP_KEY.antiAliased = false;
+        entries.remove( LOOKUP_KEY );
+        LOOKUP_KEY.antiAliased = true;
+        entries.remove( LOOKUP_KEY );
+        
+        LOOKUP_KEY.font = null;
+    }
+    
+    /**
+     * Removes all cached metrics.
+     */
+    public static synchronized void clear()
+    {
+        entries.clear();
+    }
+}
@@ -33,6 +33,7 @@
  */
 package net.ctdp.rfdynhud.render;
 
+import java.awt.AlphaComposite;
 import java.awt.Color;
 import java.awt.Composite;
 import java.awt.Font;
@@ -56,6 +57,8 @@ import java.awt.image.renderable.RenderableImage;
 import java.text.AttributedCharacterIterator;
 import java.util.Map;
 
+import net.ctdp.rfdynhud.util.TextBuffer;
+
 import org.openmali.types.twodee.Rect2i;
 
 /**
@@ -70,6 +73,7 @@ public class Texture2DCanvas extends Graphics2D
     private Graphics2D graphics;
     private final AffineTransform baseAffineTransform;
     private boolean isIdentityTransform = true;
+    private boolean hasShapeClip = false;
     
     private Rect2i currentUpdateRect = null;
     private int currentlyAppliedUpdateRects = 0;
@@ -77,6 +81,8 @@ public class Texture2DCanvas extends Graphics2D
     private final Rect2i[] clipStack = new Rect2i[ 32 ];
     private int clipStackSize = 0;
     
+    private char[] charBuffer = new char[ 64 ];
+    
     public final TextureImage2D getImage()
     {
         return ( texImg );
@@ -209,6 +215,8 @@ public class Texture2DCanvas extends Graphics2D
     public void clipRect( int x, int y, int width, int height )
     {
         graphics.clipRect( x, y, width, height );        
+        
+        this.hasShapeClip = true;
     }
     
     public final void clip( Rect2i rect )
@@ -220,6 +228,8 @@ public class Texture2DCanvas extends Graphics2D
     public final void clip( Shape shape )
     {
         graphics.clip( shape );
+        
+        this.hasShapeClip = true;
     }
     
     @Override
@@ -581,6 +591,26 @@ public class Texture2DCanvas extends Graphics2D
     
     public final void drawString( String s, int x, int y, Rectangle2D bounds, Font font, boolean antiAliased, Color color, boolean markDirty, Rect2i dirtyRect )
     {
+        drawString( (CharSequence)s, x, y, bounds, font, antiAliased, color, markDirty, dirtyRect );
+    }
+    
+    public final void drawString( CharSequence s, int x, int y, Rectangle2D bounds, Font font, boolean antiAliased, Color color, boolean markDirty, Rect2i dirtyRect )
+    {
+        // Glyph masks can only be blitted, if nothing else than the clip rect and color affects the output.
+        if ( isIdentityTransform && !hasShapeClip && ( graphics.getComposite() == AlphaComposite.SrcOver ) )
+        {
+            if ( GlyphAtlas.drawString( s, x, y, font, antiAliased, color, texImg ) )
+            {
+                if ( ( markDirty || ( dirtyRect != null ) ) && ( bounds == null ) )
+                    bounds = TextureImage2D.getStringBounds( s, font, antiAliased );
+                
+                if ( bounds != null )
+                    markDirty( x, y + (int)bounds.getY(), (int)bounds.getWidth(), (int)bounds.getHeight(), markDirty, dirtyRect );
+                
+                return;
+            }
+        }
+        
         Font oldFont = getFont();
         Color oldColor = getColor();
         Object oldAntiAliasing = getRenderingHint( RenderingHints.KEY_ANTIALIASING );
@@ -591,10 +621,28 @@ public class Texture2DCanvas extends Graphics2D
             setColor( color );
             setRenderingHint( RenderingHints.KEY_ANTIALIASING, antiAliased ? RenderingHints.VALUE_ANTIALIAS_ON : RenderingHints.VALUE_ANTIALIAS_OFF );
             
-            graphics.drawString( s, x, y );
+            if ( s instanceof String )
+            {
+                graphics.drawString( (String)s, x, y );
+            }
+            else if ( s instanceof TextBuffer )
+            {
+                graphics.drawChars( ( (TextBuffer)s ).getChars(), 0, s.length(), x, y );
+            }
+            else
+            {
+                final int n = s.length();
+                if ( charBuffer.length < n )
+                    charBuffer = new char[ n ];
+                
+                for ( int i = 0; i < n; i++ )
+                    charBuffer[i] = s.charAt( i );
+                
+                graphics.drawChars( charBuffer, 0, n, x, y );
+            }
             
-            if ( markDirty || ( dirtyRect != null ) && ( bounds == null ) )
-                bounds = getFontMetrics().getStringBounds( s, this );
+            if ( ( markDirty || ( dirtyRect != null ) ) && ( bounds == null ) )
+                bounds = TextureImage2D.getStringBounds( s, font, antiAliased );
             
             markDirty( x, y + (int)bounds.getY(), (int)bounds.getWidth(), (int)bounds.getHeight(), markDirty, dirtyRect );
         }
@@ -849,6 +897,8 @@ public class Texture2DCanvas extends Graphics2D
     public final void setClip( java.awt.Shape clip )
     {
         graphics.setClip( clip );
+        
+        this.hasShapeClip = true;
     }
     
     @Override
@@ -859,6 +909,8 @@ public class Texture2DCanvas extends Graphics2D
         graphics.setClip( Math.max( 0, x ), Math.max( 0, y ), right - x + 1, bottom - y + 1 );
         
         getImage().setClipRect( x, y, width, height );
+        
+        this.hasShapeClip = false;
     }
     
     public final void setClip( Rect2i rect )
@@ -987,7 +1039,7 @@ public class Texture2DCanvas extends Graphics2D
     {
         graphics.setTransform( Tx );
         
-        this.isIdentityTransform = false;
+        this.isIdentityTransform = Tx.isIdentity();
     }
     
     @Override
@@ -0,0 +1,440 @@
+/**
+ * Copyright (C) 2009-2014 Cars and Tracks Development Project (CTDP).
+ * 
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+ */
+package net.ctdp.rfdynhud.render;
+
+import java.util.ArrayList;
+
+import net.ctdp.rfdynhud.util.SubTextureCollector;
+
+import org.openmali.types.twodee.Rect2i;
+
+/**
+ * Packs many small items (like the vehicle markers of a map) into shared atlas pages
+ * and composites the visible ones into a single {@link TransformableTexture}.<br>
+ * <br>
+ * The native side supports a limited number of textures ({@link TransformableTexture#MAX_NUM_TEXTURES}) and applies one transform per texture.
+ * So instead of one sub texture per item, a Widget adds the {@link #getTargetTexture() target texture} to its sub textures,
+ * draws each item's content once into its page rectangle and only moves the items around.
+ * {@link #update()} redraws the regions of the target texture, that were touched by moved, shown, hidden or changed items.
+ * 
+ * @author Marvin Froehlich (CTDP)
+ */
+public class TextureAtlas
+{
+    public static final int PAGE_SIZE = 256;
+    
+    private static final int PADDING = 1;
+    
+    /**
+     * An item packed into an atlas page.
+     * 
+     * @author Marvin Froehlich (CTDP)
+     */
+    public static final class Item
+    {
+        private final TextureImage2D page;
+        private final int pageX;
+        private final int pageY;
+        private final int width;
+        private final int height;
+        
+        private int x = 0;
+        private int y = 0;
+        private boolean visible = false;
+        private boolean contentChanged = true;
+        
+        private int drawnX = 0;
+        private int drawnY = 0;
+        private boolean drawnVisible = false;
+        
+        /**
+         * Gets the atlas page, that this item's content is to be drawn onto.
+         * 
+         * @return the atlas page.
+         */
+        public final TextureImage2D getPage()
+        {
+            return ( page );
+        }
+        
+        /**
+         * Gets the left of this item's rectangle in its atlas page.
+         * 
+         * @return the left of this item's rectangle in its atlas page.
+         */
+        public final int getPageX()
+        {
+            return ( pageX );
+        }
+        
+        /**
+         * Gets the top of this item's rectangle in its atlas page.
+         * 
+         * @return the top of this item's rectangle in its atlas page.
+         */
+        public final int getPageY()
+        {
+            return ( pageY );
+        }
+        
+        public final int getWidth()
+        {
+            return ( width );
+        }
+        
+        public final int getHeight()
+        {
+            return ( height );
+        }
+        
+        /**
+         * Sets the item's location relative to the owner Widget's inner area.
+         * 
+         * @param x the new x-coordinate
+         * @param y the new y-coordinate
+         */
+        public void setPosition( float x, float y )
+        {
+            this.x = Math.round( x );
+            this.y = Math.round( y );
+        }
+        
+        public final int getX()
+        {
+            return ( x );
+        }
+        
+        public final int getY()
+        {
+            return ( y );
+        }
+        
+        public void setVisible( boolean visible )
+        {
+            this.visible = visible;
+        }
+        
+        public final boolean isVisible()
+        {
+            return ( visible );
+        }
+        
+        /**
+         * Must be called after the item's content has been (re)drawn onto its page.
+         */
+        public void setContentChanged()
+        {
+            this.contentChanged = true;
+        }
+        
+        private Item( TextureImage2D page, int pageX, int pageY, int width, int height )
+        {
+            this.page = page;
+            this.pageX = pageX;
+            this.pageY = pageY;
+            this.width = width;
+            this.height = height;
+        }
+    }
+    
+    private final TransformableTexture target;
+    private final int areaX;
+    private final int areaY;
+    
+    private final ArrayList<TextureImage2D> pages = new ArrayList<TextureImage2D>();
+    private TextureImage2D shelfPage = null;
+    private int shelfX = PAGE_SIZE;
+    private int shelfY = PAGE_SIZE;
+    private int shelfHeight = 0;
+    
+    private Item[] items = new Item[ 16 ];
+    private int numItems = 0;
+    
+    private Rect2i[] regions = new Rect2i[ 32 ];
+    private int numRegions = 0;
+    
+    private boolean fullRedraw = true;
+    
+    private long numCompositedItems = 0L;
+    
+    /**
+     * Gets the {@link TransformableTexture}, that all visible items are composited into.
+     * Add this to the {@link SubTextureCollector} instead of per item sub textures.
+     * 
+     * @return the target texture.
+     */
+    public final TransformableTexture getTargetTexture()
+    {
+        return ( target );
+    }
+    
+    public final int getNumPages()
+    {
+        return ( pages.size() );
+    }
+    
+    public final int getNumItems()
+    {
+        return ( numItems );
+    }
+    
+    public final Item getItem( int index )
+    {
+        return ( items[index] );
+    }
+    
+    /**
+     * Gets the total number of item rectangles drawn onto the target texture so far.
+     * 
+     * @return the total number of item rectangles drawn onto the target texture.
+     */
+    public final long getNumCompositedItems()
+    {
+        return ( numCompositedItems );
+    }
+    
+    private TextureImage2D allocate( int width, int height, int[] location )
+    {
+        if ( ( width > PAGE_SIZE ) || ( height > PAGE_SIZE ) )
+        {
+            // A dedicated page for oversized items.
+            TextureImage2D page = TextureImage2D.createDrawTexture( width, height, true );
+            pages.add( page );
+            location[0] = 0;
+            location[1] = 0;
+            
+            return ( page );
+        }
+        
+        if ( shelfX + width > PAGE_SIZE )
+        {
+            shelfX = 0;
+            shelfY += shelfHeight;
+            shelfHeight = 0;
+        }
+        
+        if ( shelfY + height > PAGE_SIZE )
+        {
+            shelfPage = TextureImage2D.createDrawTexture( PAGE_SIZE, PAGE_SIZE, true );
+            pages.add( shelfPage );
+            
+            shelfX = 0;
+            shelfY = 0;
+            shelfHeight = 0;
+        }
+        
+        location[0] = shelfX;
+        location[1] = shelfY;
+        
+        shelfX += width + PADDING;
+        shelfHeight = Math.max( shelfHeight, height + PADDING );
+        
+        return ( shelfPage );
+    }
+    
+    /**
+     * Packs a new item into the atlas. The item is initially invisible.
+     * Items are composited in the order of their creation.
+     * 
+     * @param width the item's width
+     * @param height the item's height
+     * 
+     * @return the new item.
+     */
+    public Item addItem( int width, int height )
+    {
+        int[] location = new int[ 2 ];
+        TextureImage2D page = allocate( width, height, location );
+        
+        Item item = new Item( page, location[0], location[1], width, height );
+        
+        if ( numItems == items.length )
+        {
+            Item[] tmp = new Item[ items.length * 2 ];
+            System.arraycopy( items, 0, tmp, 0, numItems );
+            items = tmp;
+        }
+        
+        items[numItems++] = item;
+        
+        return ( item );
+    }
+    
+    /**
+     * Forces the whole target texture to be recomposited with the next call to {@link #update()}.
+     */
+    public void forceCompleteRedraw()
+    {
+        this.fullRedraw = true;
+    }
+    
+    private void addRegion( int x, int y, int width, int height )
+    {
+        x -= areaX;
+        y -= areaY;
+        
+        int x1 = Math.min( x + width, target.getWidth() );
+        int y1 = Math.min( y + height, target.getHeight() );
+        x = Math.max( 0, x );
+        y = Math.max( 0, y );
+        
+        if ( ( x1 <= x ) || ( y1 <= y ) )
+            return;
+        
+        if ( numRegions == regions.length )
+        {
+            Rect2i[] tmp = new Rect2i[ regions.length * 2 ];
+            System.arraycopy( regions, 0, tmp, 0, numRegions );
+            regions = tmp;
+        }
+        
+        if ( regions[numRegions] == null )
+            regions[numRegions] = new Rect2i();
+        
+        regions[numRegions++].set( x, y, x1 - x, y1 - y );
+    }
+    
+    private void collectRegions()
+    {
+        numRegions = 0;
+        
+        if ( fullRedraw )
+        {
+            addRegion( areaX, areaY, target.getWidth(), target.getHeight() );
+            
+            for ( int i = 0; i < numItems; i++ )
+            {
+                Item item = items[i];
+                
+                item.drawnX = item.x;
+                item.drawnY = item.y;
+                item.drawnVisible = item.visible;
+                item.contentChanged = false;
+            }
+            
+            fullRedraw = false;
+            
+            return;
+        }
+        
+        for ( int i = 0; i < numItems; i++ )
+        {
+            Item item = items[i];
+            
+            if ( item.visible == item.drawnVisible )
+            {
+                if ( !item.visible )
+                    continue;
+                
+                if ( !item.contentChanged && ( item.x == item.drawnX ) && ( item.y == item.drawnY ) )
+                    continue;
+            }
+            
+            if ( item.drawnVisible && item.visible && ( Math.abs( item.x - item.drawnX ) < item.width ) && ( Math.abs( item.y - item.drawnY ) < item.height ) )
+            {
+                // Old and new rectangles overlap. Redraw the union in one go.
+                int x0 = Math.min( item.x, item.drawnX );
+                int y0 = Math.min( item.y, item.drawnY );
+                
+                addRegion( x0, y0, Math.max( item.x, item.drawnX ) + item.width - x0, Math.max( item.y, item.drawnY ) + item.height - y0 );
+            }
+            else
+            {
+                if ( item.drawnVisible )
+                    addRegion( item.drawnX, item.drawnY, item.width, item.height );
+                
+                if ( item.visible )
+                    addRegion( item.x, item.y, item.width, item.height );
+            }
+            
+            item.drawnX = item.x;
+            item.drawnY = item.y;
+            item.drawnVisible = item.visible;
+            item.contentChanged = false;
+        }
+    }
+    
+    private void redrawRegion( TextureImage2D texture, Rect2i region )
+    {
+        final int rx0 = region.getLeft();
+        final int ry0 = region.getTop();
+        final int rx1 = rx0 + region.getWidth();
+        final int ry1 = ry0 + region.getHeight();
+        
+        texture.clear( rx0, ry0, region.getWidth(), region.getHeight(), true, null );
+        
+        for ( int i = 0; i < numItems; i++ )
+        {
+            Item item = items[i];
+            
+            if ( !item.visible )
+                continue;
+            
+            int ix0 = item.x - areaX;
+            int iy0 = item.y - areaY;
+            int x0 = Math.max( rx0, ix0 );
+            int y0 = Math.max( ry0, iy0 );
+            int x1 = Math.min( rx1, ix0 + item.width );
+            int y1 = Math.min( ry1, iy0 + item.height );
+            
+            if ( ( x1 <= x0 ) || ( y1 <= y0 ) )
+                continue;
+            
+            texture.drawImage( item.page, item.pageX + x0 - ix0, item.pageY + y0 - iy0, x1 - x0, y1 - y0, x0, y0, true, null );
+            numCompositedItems++;
+        }
+    }
+    
+    /**
+     * Redraws all regions of the target texture, that are affected by items, that have been moved, shown, hidden or changed since the last call.
+     * This must be called after all items have been updated in the frame.
+     * 
+     * @return the number of redrawn regions.
+     */
+    public int update()
+    {
+        collectRegions();
+        
+        if ( numRegions == 0 )
+            return ( 0 );
+        
+        TextureImage2D texture = target.getTexture();
+        
+        for ( int i = 0; i < numRegions; i++ )
+            redrawRegion( texture, regions[i] );
+        
+        return ( numRegions );
+    }
+    
+    /**
+     * Creates a new {@link TextureAtlas}.
+     * 
+     * @param areaX the left of the target area relative to the owner Widget's inner area (may be negative to let items overlap the Widget's border)
+     * @param areaY the top of the target area relative to the owner Widget's inner area (may be negative to let items overlap the Widget's border)
+     * @param areaWidth the width of the target area
+     * @param areaHeight the height of the target area
+     * @param pixelPerfectPositioning prepare the target texture for pixel perfect positioning
+     */
+    public TextureAtlas( int areaX, int areaY, int areaWidth, int areaHeight, boolean pixelPerfectPositioning )
+    {
+        this.areaX = areaX;
+        this.areaY = areaY;
+        this.target = new TransformableTexture( Math.max( 1, areaWidth ), Math.max( 1, areaHeight ), pixelPerfectPositioning, false );
+        this.target.setTranslation( areaX, areaY );
+    }
+}
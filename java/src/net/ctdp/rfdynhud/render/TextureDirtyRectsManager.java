@@ -27,6 +27,8 @@ import org.openmali.types.twodee.Rect2i;
 
 /**
  * This class provides a public interface to retrieve the current dirty rectangles.
+ * The rectangles are merged by the current {@link DirtyRectsCoalescer} before they are written.
+ * The coalescer keeps its working state per thread. So textures may be handled by several render threads at once.
  * 
  * @author Marvin Froehlich (CTDP)
  */
@@ -37,6 +39,28 @@ public class TextureDirtyRectsManager
         return ( ByteBuffer.allocateDirect( 2 + 2 * 4 * maxNumDirtyRects ).order( ByteOrder.nativeOrder() ) );
     }
     
+    private static volatile DirtyRectsCoalescer coalescer = new DirtyRectsCoalescer( DirtyRectsCoalescer.DEFAULT_RECT_OVERHEAD, DirtyRectsCoalescer.DEFAULT_MAX_RECTS );
+    
+    /**
+     * Sets the policy used to merge dirty rectangles before they are written to the buffer.
+     * 
+     * @param coalescer the new coalescer. <code>null</code> for {@link DirtyRectsCoalescer#NONE}.
+     */
+    public static void setCoalescer( DirtyRectsCoalescer coalescer )
+    {
+        TextureDirtyRectsManager.coalescer = ( coalescer == null ) ? DirtyRectsCoalescer.NONE : coalescer;
+    }
+    
+    /**
+     * Gets the policy used to merge dirty rectangles before they are written to the buffer.
+     * 
+     * @return the policy used to merge dirty rectangles.
+     */
+    public static final DirtyRectsCoalescer getCoalescer()
+    {
+        return ( coalescer );
+    }
+    
     private static final void writeShort( short s, ByteBuffer bb )
     {
         bb.put( (byte)( s & 0x00FF ) );
@@ -57,8 +81,23 @@ public class TextureDirtyRectsManager
      */
     public static short getDirtyRects( TextureImage2D texture, ByteBuffer buffer, boolean resetBufferToStart )
     {
-        List<Rect2i> dirtyList = texture.getUpdateList();
+        DirtyRegion dirtyRegion = texture.getDirtyRegion();
+        List<Rect2i> dirtyList = dirtyRegion.getRects();
+        final int numRectsBeforeCoalescing = dirtyList.size();
+        
+        // The off-heap copy only needs the actually changed areas. Any coalesced rect is valid there, since all other areas are up to date.
+        texture.syncDirectDisplayBuffer();
+        
+        if ( buffer != null )
+        {
+            int bufferSize = buffer.capacity() - ( resetBufferToStart ? 0 : buffer.position() );
+            
+            coalescer.coalesce( dirtyList, ( bufferSize - 2 ) / ( 2 * 4 ) );
+        }
+        
         int numDirtyRects = dirtyList.size();
+        int numWrittenRects = numDirtyRects;
+        long pixelArea = 0L;
         
         if ( buffer != null )
         {
@@ -72,22 +111,42 @@ public class TextureDirtyRectsManager
                 if ( buffer.limit() - buffer.position() < 2 + 2 * 4 * 1 )
                 {
                     RFDHLog.exception( "WARNING: Cannot write dirty rects to the buffer." );
+                    
+                    numWrittenRects = 0;
                 }
                 else
                 {
                     //writeShort( (short)0, buffer );
                     //buffer.flip();
                     
+                    int left = Integer.MAX_VALUE;
+                    int top = Integer.MAX_VALUE;
+                    int right = 0;
+                    int bottom = 0;
+                    
+                    for ( int i = 0; i < numDirtyRects; i++ )
+                    {
+                        Rect2i r = dirtyList.get( i );
+                        
+                        left = Math.min( left, r.getLeft() );
+                        top = Math.min( top, r.getTop() );
+                        right = Math.max( right, r.getLeft() + r.getWidth() );
+                        bottom = Math.max( bottom, r.getTop() + r.getHeight() );
+                    }
+                    
                     writeShort( (short)1, buffer );
                     
-                    writeShort( (short)0, buffer );
-                    writeShort( (short)0, buffer );
-                    writeShort( (short)texture.getWidth(), buffer );
-                    writeShort( (short)texture.getHeight(), buffer );
+                    writeShort( (short)left, buffer );
+                    writeShort( (short)top, buffer );
+                    writeShort( (short)( right - left ), buffer );
+                    writeShort( (short)( bottom - top ), buffer );
                     
                     buffer.flip();
                     
-                    RFDHLog.exception( "WARNING: Cannot write all dirty rects to the buffer. Adding one full size rect. Performance may drop." );
+                    numWrittenRects = 1;
+                    pixelArea = (long)( right - left ) * (long)( bottom - top );
+                    
+                    RFDHLog.exception( "WARNING: Cannot write all " + numDirtyRects + " dirty rects to the buffer. Adding one bounding rect. Performance may drop." );
                 }
             }
             else
@@ -102,12 +161,19 @@ public class TextureDirtyRectsManager
                     writeShort( (short)r.getTop(), buffer );
                     writeShort( (short)r.getWidth(), buffer );
                     writeShort( (short)r.getHeight(), buffer );
+                    
+                    pixelArea += (long)r.getWidth() * (long)r.getHeight();
                 }
                 
                 buffer.flip();
             }
         }
+        else
+        {
+            pixelArea = dirtyRegion.getPixelArea();
+        }
         
+        dirtyRegion.setFrameStatistics( numRectsBeforeCoalescing, numWrittenRects, pixelArea, pixelArea * texture.getPixelBytes() );
         texture.clearUpdateList();
         
         if ( buffer == null )
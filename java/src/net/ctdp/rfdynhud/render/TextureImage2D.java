@@ -45,7 +45,7 @@ import java.awt.image.DataBufferByte;
 import java.awt.image.Raster;
 import java.io.IOException;
 import java.nio.ByteBuffer;
-import java.util.ArrayList;
+import java.nio.ByteOrder;
 import java.util.List;
 
 import net.ctdp.rfdynhud.properties.FontProperty;
@@ -81,14 +81,18 @@ public class TextureImage2D
     
     private ByteBuffer dataBuffer = null;
     private byte[] data = null;
+    private byte[] frontData = null;
+    private ByteBuffer directDisplayBuffer = null;
+    private long directDisplayBufferBytesCopied = 0L;
     
     private byte[] pixelRow1 = null;
     private byte[] pixelRow2 = null;
+    private byte[] srcPixelRow = null;
     
     private final int pixelBytes;
     private final int pixelSize;
     
-    private final List<Rect2i> updateList;
+    private final DirtyRegion dirtyRegion;
     
     private final Rect2i userClipRect = new Rect2i( 0, 0, 128, 128 );
     private final Rect2i clipRect = new Rect2i( 0, 0, 128, 128 );
@@ -221,398 +225,191 @@ public class TextureImage2D
     }
     
     /**
-     * Gets whether this texture has an attached Texture2DCanvas instance.
+     * Gets the byte array, that is to be uploaded to the graphics card.
+     * If this texture is double buffered, this is the front buffer holding the last completed frame.
      * 
-     * @return whether this texture has an attached Texture2DCanvas instance.
+     * @return null, if this texture is backed by a ByteBuffer.
      */
-    public final boolean hasTextureCanvas()
+    public final byte[] getDisplayData()
     {
-        return ( hasTextureCanvas );
+        if ( frontData != null )
+            return ( frontData );
+        
+        return ( data );
     }
     
     /**
-     * Gets the attached Texture2DCanvas. If it doesn't currently have one, it will be created.
+     * Gets whether this texture has a separate front buffer.
      * 
-     * @return the attached Texture2DCanvas. (never null)
+     * @return whether this texture has a separate front buffer.
+     * 
+     * @see #swapBuffers()
      */
-    public Texture2DCanvas getTextureCanvas()
+    public final boolean isDoubleBuffered()
     {
-        if ( textureCanvas == null )
-        {
-            textureCanvas = new Texture2DCanvas( this );
-            hasTextureCanvas = true;
-        }
-        
-        return ( textureCanvas );
+        return ( frontData != null );
     }
     
-    private void addDirtyRect( Rect2i rect, int testListStart, int testListSize )
+    /**
+     * Makes the back buffer, that has just been drawn, the front buffer, which is returned by {@link #getDisplayData()}.
+     * The first call enables double buffering for this texture.<br>
+     * The dirty areas of the finished frame are copied to the new back buffer, so that widgets can continue to draw incrementally.
+     * So this method must be called before the dirty rects are cleared and while nobody draws to this texture.
+     */
+    public void swapBuffers()
     {
-        if ( updateList == null )
+        if ( data == null )
             return;
         
-        for ( int i = testListStart; i < Math.min( testListSize, updateList.size() ); i++ )
+        if ( ( frontData == null ) || ( frontData.length != data.length ) )
         {
-            Rect2i r = updateList.get( i );
+            frontData = data.clone();
             
-            if ( rect.isCoveredBy( r ) )
-            {
-                Rect2i.toPool( rect );
-                
-                return;
-            }
+            return;
+        }
+        
+        final byte[] tmp = frontData;
+        frontData = data;
+        data = tmp;
+        
+        if ( dirtyRegion == null )
+        {
+            System.arraycopy( frontData, 0, data, 0, data.length );
+            
+            return;
+        }
+        
+        final List<Rect2i> rects = dirtyRegion.getRects();
+        final int lineLength = getMaxWidth() * pixelBytes;
+        
+        for ( int i = 0; i < rects.size(); i++ )
+        {
+            Rect2i r = rects.get( i );
             
-            if ( rect.covers( r ) )
+            final int length = r.getWidth() * pixelBytes;
+            int offset = r.getTop() * lineLength + r.getLeft() * pixelBytes;
+            
+            for ( int j = 0; j < r.getHeight(); j++ )
             {
-                updateList.remove( i );
-                Rect2i.toPool( r );
-                
-                i--;
-                testListSize--;
-                
-                continue;
+                System.arraycopy( frontData, offset, data, offset, length );
+                offset += lineLength;
             }
+        }
+    }
+    
+    /**
+     * Gets an off-heap copy of the display data (see {@link #getDisplayData()}) with the same layout.
+     * The native side can read it through its address without pinning or copying the Java array.<br>
+     * The buffer is allocated and filled on the first call and then kept in sync by {@link #syncDirectDisplayBuffer()}.
+     * Pipelined rendering draws the first frame of a texture synchronously. So the first call never sees a partly drawn frame.
+     * 
+     * @return the off-heap copy of the display data or <code>null</code>, if this texture is backed by a ByteBuffer.
+     */
+    public final ByteBuffer getDirectDisplayBuffer()
+    {
+        if ( directDisplayBuffer == null )
+        {
+            final byte[] displayData = getDisplayData();
             
-            int rectRight = rect.getLeft() + rect.getWidth() - 1;
-            int rectBottom = rect.getTop() + rect.getHeight() - 1;
-            int rRight = r.getLeft() + r.getWidth() - 1;
-            int rBottom = r.getTop() + r.getHeight() - 1;
+            if ( displayData == null )
+                return ( null );
             
-            if ( ( rectRight >= r.getLeft() ) && ( rectBottom >= r.getTop() ) && ( rect.getLeft() <= rRight ) && ( rect.getTop() <= rBottom ) )
+            directDisplayBuffer = ByteBuffer.allocateDirect( displayData.length ).order( ByteOrder.nativeOrder() );
+            directDisplayBuffer.put( displayData, 0, displayData.length );
+            directDisplayBuffer.clear();
+            
+            directDisplayBufferBytesCopied += displayData.length;
+        }
+        
+        return ( directDisplayBuffer );
+    }
+    
+    /**
+     * Gets whether this texture keeps an off-heap copy of its display data.
+     * 
+     * @return whether this texture keeps an off-heap copy of its display data.
+     * 
+     * @see #getDirectDisplayBuffer()
+     */
+    public final boolean hasDirectDisplayBuffer()
+    {
+        return ( directDisplayBuffer != null );
+    }
+    
+    /**
+     * Gets the total number of bytes copied to the off-heap copy of the display data.
+     * 
+     * @return the total number of bytes copied to the off-heap copy of the display data.
+     */
+    public final long getDirectDisplayBufferBytesCopied()
+    {
+        return ( directDisplayBufferBytesCopied );
+    }
+    
+    /**
+     * Copies the dirty areas of the display data to the off-heap copy, if there is one.
+     * This must be called after drawing (and swapping) and before the dirty rects are cleared.
+     * 
+     * @return the number of copied bytes.
+     */
+    public long syncDirectDisplayBuffer()
+    {
+        if ( ( directDisplayBuffer == null ) || ( dirtyRegion == null ) )
+            return ( 0L );
+        
+        final byte[] displayData = getDisplayData();
+        final List<Rect2i> rects = dirtyRegion.getRects();
+        final int lineLength = getMaxWidth() * pixelBytes;
+        long numBytes = 0L;
+        
+        for ( int i = 0; i < rects.size(); i++ )
+        {
+            Rect2i r = rects.get( i );
+            
+            final int length = r.getWidth() * pixelBytes;
+            int offset = r.getTop() * lineLength + r.getLeft() * pixelBytes;
+            
+            for ( int j = 0; j < r.getHeight(); j++ )
             {
-                if ( rect.getLeft() >= r.getLeft() )
-                {
-                    if ( rectRight <= rRight )
-                    {
-                        if ( rect.getTop() < r.getTop() )
-                        {
-                            if ( rectBottom <= rBottom )
-                            {
-                                /*
-                                
-                                  /------\
-                                  | rect |
-                                /-|------|-\
-                                | \------/ |
-                                |    r     |
-                                \----------/
-                                
-                                */
-                                
-                                rect.setHeight( r.getTop() - rect.getTop() );
-                            }
-                            else
-                            {
-                                /*
-                                
-                                  /------\
-                                  | rect |
-                                /-|------|-\
-                                | |      | |
-                                | |  r   | |
-                                \-|------|-/
-                                  |      |
-                                  \------/
-                                
-                                */
-                                
-                                Rect2i bottomPart = Rect2i.fromPool();
-                                bottomPart.set( rect.getLeft(), rBottom + 1, rect.getWidth(), rectBottom - rBottom );
-                                
-                                addDirtyRect( bottomPart, i + 1, testListSize );
-                                
-                                rect.setHeight( r.getTop() - rect.getTop() );
-                            }
-                        }
-                        else
-                        {
-                            /*
-                            
-                            /----------\
-                            |    r     |
-                            | /------\ |
-                            \-|------|-/
-                              | rect |
-                              \------/
-                            
-                            */
-                            
-                            rect.set( rect.getLeft(), rBottom + 1, rect.getWidth(), rectBottom - rBottom );
-                        }
-                    }
-                    else
-                    {
-                        if ( rectBottom <= rBottom )
-                        {
-                            if ( rect.getTop() < r.getTop() )
-                            {
-                                /*
-                                
-                                  /----------\
-                                  | rect     |
-                                /-|--------\ |
-                                | \--------|-/
-                                |    r     |
-                                \----------/
-                                
-                                */
-                                
-                                Rect2i bottomRightPart = Rect2i.fromPool();
-                                bottomRightPart.set( rRight + 1, r.getTop(), rectRight - rRight, rectBottom - r.getTop() + 1 );
-                                
-                                addDirtyRect( bottomRightPart, i + 1, testListSize );
-                                
-                                rect.setHeight( r.getTop() - rect.getTop() );
-                            }
-                            else
-                            {
-                                /*
-                                
-                                /----------\
-                                |   /------|------\
-                                | r |      | rect |
-                                |   \------|------/
-                                \----------/
-                                
-                                */
-                                
-                                rect.set( rRight + 1, rect.getTop(), rectRight - rRight, rect.getHeight() );
-                            }
-                        }
-                        else
-                        {
-                            if ( rect.getTop() < r.getTop() )
-                            {
-                                /*
-                                
-                                    /------\
-                                    | rect |
-                                /---|---\  |
-                                |   |   |  |
-                                | r |   |  |
-                                \---|---/  |
-                                    |      |
-                                    \------/
-                                
-                                */
-                                
-                                Rect2i topPart = Rect2i.fromPool();
-                                topPart.set( rect.getLeft(), rect.getTop(), rect.getWidth(), r.getTop() - rect.getTop() );
-                                
-                                addDirtyRect( topPart, i + 1, testListSize );
-                                
-                                Rect2i bottomPart = Rect2i.fromPool();
-                                bottomPart.set( rect.getLeft(), rBottom + 1, rect.getWidth(), rectBottom - rBottom );
-                                
-                                addDirtyRect( bottomPart, i + 1, testListSize );
-                                
-                                rect.set( rRight + 1, r.getTop(), rectRight - rRight, r.getHeight() );
-                            }
-                            else
-                            {
-                                /*
-                                
-                                /--------\
-                                |   r    |
-                                | /------|-\
-                                \-|------/ |
-                                  | rect   |
-                                  \--------/
-                                
-                                */
-                                
-                                Rect2i topRightPart = Rect2i.fromPool();
-                                topRightPart.set( rRight + 1, rect.getTop(), rectRight - rRight, rBottom - rect.getTop() + 1 );
-                                
-                                addDirtyRect( topRightPart, i + 1, testListSize );
-                                
-                                rect.set( rect.getLeft(), rBottom + 1, rect.getWidth(), rectBottom - rBottom );
-                            }
-                        }
-                    }
-                }
-                else
-                {
-                    if ( rect.getTop() < r.getTop() )
-                    {
-                        if ( rectBottom <= rBottom )
-                        {
-                            if ( rectRight > rRight )
-                            {
-                                /*
-                                
-                                /---------\
-                                |  rect   |
-                                | /-----\ |
-                                \-|-----|-/
-                                  |  r  |
-                                  \-----/
-                                
-                                */
-                                
-                                Rect2i bottomLeftPart = Rect2i.fromPool();
-                                bottomLeftPart.set( rect.getLeft(), r.getTop(), r.getLeft() - rect.getLeft(), rectBottom - r.getTop() + 1 );
-                                
-                                addDirtyRect( bottomLeftPart, i + 1, testListSize );
-                                
-                                Rect2i bottomRightPart = Rect2i.fromPool();
-                                bottomRightPart.set( rRight + 1, r.getTop(), rectRight - rRight, rectBottom - r.getTop() + 1 );
-                                
-                                addDirtyRect( bottomRightPart, i + 1, testListSize );
-                                
-                                rect.setHeight( r.getTop() - rect.getTop() );
-                            }
-                            else
-                            {
-                                /*
-                                
-                                /------\
-                                | rect |
-                                | /----|-----\
-                                \-|----/     |
-                                  |       r  |
-                                  \----------/
-                                
-                                */
-                                
-                                Rect2i bottomLeftPart = Rect2i.fromPool();
-                                bottomLeftPart.set( rect.getLeft(), r.getTop(), r.getLeft() - rect.getLeft(), rectBottom - r.getTop() + 1 );
-                                
-                                addDirtyRect( bottomLeftPart, i + 1, testListSize );
-                                
-                                rect.setHeight( r.getTop() - rect.getTop() );
-                            }
-                        }
-                        else
-                        {
-                            /*
-                            
-                            /------\
-                            | rect |
-                            | /----|-----\
-                            | |    |     |
-                            | |    |  r  |
-                            | \----|-----/
-                            |      |
-                            \------/
-                            
-                            */
-                            
-                            Rect2i topPart = Rect2i.fromPool();
-                            topPart.set( rect.getLeft(), rect.getTop(), rect.getWidth(), r.getTop() - rect.getTop() );
-                            
-                            addDirtyRect( topPart, i + 1, testListSize );
-                            
-                            Rect2i bottomPart = Rect2i.fromPool();
-                            bottomPart.set( rect.getLeft(), rBottom + 1, rect.getWidth(), rectBottom - rBottom );
-                            
-                            addDirtyRect( bottomPart, i + 1, testListSize );
-                            
-                            rect.set( rect.getLeft(), r.getTop(), r.getLeft() - rect.getLeft(), r.getHeight() );
-                        }
-                    }
-                    else
-                    {
-                        if ( rectBottom <= rBottom )
-                        {
-                            if ( rectRight > rRight )
-                            {
-                                /*
-                                
-                                       /----------\
-                                /------|----------|---\
-                                | rect |          |   |
-                                \------|----------|---/
-                                       |    r     |
-                                       \----------/
-                                
-                                */
-                                
-                                Rect2i rightPart = Rect2i.fromPool();
-                                rightPart.set( rRight + 1, rect.getTop(), rectRight - rRight, rect.getHeight() );
-                                
-                                addDirtyRect( rightPart, i + 1, testListSize );
-                                
-                                rect.setWidth( r.getLeft() - rect.getLeft() );
-                            }
-                            else
-                            {
-                                /*
-                                
-                                       /----------\
-                                /------|------\   |
-                                | rect |      | r |
-                                \------|------/   |
-                                       \----------/
-                                
-                                */
-                                
-                                rect.setWidth( r.getLeft() - rect.getLeft() );
-                            }
-                        }
-                        else
-                        {
-                            if ( rectRight > rRight )
-                            {
-                                /*
-                                
-                                  /----------\
-                                  |    r     |
-                                /-|----------|-\
-                                | \----------/ |
-                                |     rect     |
-                                \--------------/
-                                
-                                */
-                                
-                                Rect2i topLeftPart = Rect2i.fromPool();
-                                topLeftPart.set( rect.getLeft(), rect.getTop(), r.getLeft() - rect.getLeft(), rBottom - rect.getTop() + 1 );
-                                
-                                addDirtyRect( topLeftPart, i + 1, testListSize );
-                                
-                                Rect2i topRightPart = Rect2i.fromPool();
-                                topRightPart.set( rRight + 1, rect.getTop(), rectRight - rRight, rBottom - rect.getTop() + 1 );
-                                
-                                addDirtyRect( topRightPart, i + 1, testListSize );
-                                
-                                rect.set( rect.getLeft(), rBottom + 1, rect.getWidth(), rectBottom - rBottom );
-                            }
-                            else
-                            {
-                                /*
-                                
-                                  /----------\
-                                  |    r     |
-                                /-|------\   |
-                                | \------|---/
-                                |   rect |
-                                \--------/
-                                
-                                */
-                                
-                                Rect2i topLeftPart = Rect2i.fromPool();
-                                topLeftPart.set( rect.getLeft(), rect.getTop(), r.getLeft() - rect.getLeft(), rBottom - rect.getTop() + 1 );
-                                
-                                addDirtyRect( topLeftPart, i + 1, testListSize );
-                                
-                                rect.set( rect.getLeft(), rBottom + 1, rect.getWidth(), rectBottom - rBottom );
-                            }
-                        }
-                    }
-                }
+                directDisplayBuffer.position( offset );
+                directDisplayBuffer.put( displayData, offset, length );
+                offset += lineLength;
             }
+            
+            numBytes += (long)length * r.getHeight();
         }
         
-        if ( ( rect.getWidth() > 0 ) && ( rect.getHeight() > 0 ) )
-            updateList.add( rect );
+        directDisplayBuffer.clear();
+        
+        directDisplayBufferBytesCopied += numBytes;
+        
+        return ( numBytes );
     }
     
-    void addDirtyRect( Rect2i rect )
+    /**
+     * Gets whether this texture has an attached Texture2DCanvas instance.
+     * 
+     * @return whether this texture has an attached Texture2DCanvas instance.
+     */
+    public final boolean hasTextureCanvas()
     {
-        if ( updateList == null )
-            return;
+        return ( hasTextureCanvas );
+    }
+    
+    /**
+     * Gets the attached Texture2DCanvas. If it doesn't currently have one, it will be created.
+     * 
+     * @return the attached Texture2DCanvas. (never null)
+     */
+    public Texture2DCanvas getTextureCanvas()
+    {
+        if ( textureCanvas == null )
+        {
+            textureCanvas = new Texture2DCanvas( this );
+            hasTextureCanvas = true;
+        }
         
-        addDirtyRect( rect, 0, updateList.size() );
+        return ( textureCanvas );
     }
     
     protected void markDirty( int x, int y, int width, int height, final boolean clampClip, final boolean validate, Rect2i dirtyRect )
@@ -647,14 +444,14 @@ public class TextureImage2D
         
         if ( ( width > 0 ) && ( height > 0 ) )
         {
-            Rect2i rect = Rect2i.fromPool();
-            if ( yUp )
-                rect.set( x, getHeight() - height - y, width, height );
-            else
-                //rect.set( x, getMaxHeight() - height - y, width, height );
-                rect.set( x, y, width, height );
-            
-            addDirtyRect( rect );
+            if ( dirtyRegion != null )
+            {
+                if ( yUp )
+                    dirtyRegion.add( x, getHeight() - height - y, width, height );
+                else
+                    //dirtyRegion.add( x, getMaxHeight() - height - y, width, height );
+                    dirtyRegion.add( x, y, width, height );
+            }
         }
         else if ( dirtyRect != null )
             dirtyRect.set( -1, -1, 0, 0 );
@@ -710,22 +507,90 @@ public class TextureImage2D
         }
     }
     
+    final DirtyRegion getDirtyRegion()
+    {
+        return ( dirtyRegion );
+    }
+    
     final List<Rect2i> getUpdateList()
     {
-        return ( updateList );
+        if ( dirtyRegion == null )
+            return ( null );
+        
+        return ( dirtyRegion.getRects() );
     }
     
     final void clearUpdateList()
     {
-        if ( updateList == null )
+        if ( dirtyRegion == null )
             return;
         
-        for ( int i = updateList.size() - 1; i >= 0; i-- )
-        {
-            Rect2i.toPool( updateList.get( i ) );
-        }
+        dirtyRegion.clear();
+    }
+    
+    /**
+     * Gets the number of dirty rectangles, that have been pushed to the graphics card in the last frame.
+     * 
+     * @return the number of dirty rectangles of the last frame.
+     */
+    public final int getLastFrameDirtyRectsCount()
+    {
+        if ( dirtyRegion == null )
+            return ( 0 );
+        
+        return ( dirtyRegion.getLastNumRects() );
+    }
+    
+    /**
+     * Gets the number of dirty rectangles of the last frame before they have been merged by the {@link DirtyRectsCoalescer}.
+     * 
+     * @return the number of dirty rectangles of the last frame before merging.
+     */
+    public final int getLastFrameDirtyRectsCountBeforeCoalescing()
+    {
+        if ( dirtyRegion == null )
+            return ( 0 );
+        
+        return ( dirtyRegion.getLastNumRectsBeforeCoalescing() );
+    }
+    
+    /**
+     * Gets the number of bytes, that have been pushed to the graphics card in the last frame.
+     * 
+     * @return the number of bytes pushed in the last frame.
+     */
+    public final long getLastFrameUploadedBytes()
+    {
+        if ( dirtyRegion == null )
+            return ( 0L );
+        
+        return ( dirtyRegion.getLastBytes() );
+    }
+    
+    /**
+     * Gets the number of pixels, that have been pushed to the graphics card in the last frame.
+     * 
+     * @return the number of pixels pushed in the last frame.
+     */
+    public final long getLastFrameDirtyPixelArea()
+    {
+        if ( dirtyRegion == null )
+            return ( 0L );
+        
+        return ( dirtyRegion.getLastPixelArea() );
+    }
+    
+    /**
+     * Gets the number of areas, that have been marked dirty in the last frame (before merging).
+     * 
+     * @return the number of areas marked dirty in the last frame.
+     */
+    public final int getLastFrameMarkDirtyCount()
+    {
+        if ( dirtyRegion == null )
+            return ( 0 );
         
-        updateList.clear();
+        return ( dirtyRegion.getLastNumInsertions() );
     }
     
     /**
@@ -1194,8 +1059,30 @@ public class TextureImage2D
         return ( getPixelLine( srcData, getDataOffset( x, y, srcImageWidth, 4 ), length, data ) );
     }
     
-    //private static final int V255_255 = 255 * 255;
-    //private static final int V255_255_255 = 255 * 255 * 255;
+    private static PixelCompositor pixelCompositor = PixelCompositor.FIXED_POINT;
+    
+    /**
+     * Sets the {@link PixelCompositor}, that is used to combine pixels for all drawImage(), fillRectangle() and drawPixelLine() calls.
+     * 
+     * @param compositor the new compositor (null for default)
+     */
+    public static void setPixelCompositor( PixelCompositor compositor )
+    {
+        if ( compositor == null )
+            compositor = PixelCompositor.FIXED_POINT;
+        
+        pixelCompositor = compositor;
+    }
+    
+    /**
+     * Gets the {@link PixelCompositor}, that is used to combine pixels for all drawImage(), fillRectangle() and drawPixelLine() calls.
+     * 
+     * @return the currently used compositor.
+     */
+    public static final PixelCompositor getPixelCompositor()
+    {
+        return ( pixelCompositor );
+    }
     
     private static final byte[] combinePixels( final byte[] src,
                                                final int srcByteOffset,
@@ -1206,121 +1093,38 @@ public class TextureImage2D
                                                final boolean overwrite
                                              )
     {
+        return ( combinePixels( src, srcByteOffset, srcPixelSize, trgIC, trgPixelSize, trg, trgByteOffset, numPixels, overwrite ? PixelCompositor.Mode.OVERWRITE : PixelCompositor.Mode.SOURCE_OVER ) );
+    }
+    
+    private static final byte[] combinePixels( final byte[] src,
+                                               final int srcByteOffset,
+                                               final int srcPixelSize,
+                                               final TextureImage2D trgIC, final int trgPixelSize,
+                                               final byte[] trg, final int trgByteOffset,
+                                               final int numPixels,
+                                               final PixelCompositor.Mode mode
+                                             )
+    {
+        final boolean overwrite = ( mode == PixelCompositor.Mode.OVERWRITE );
+        
         if ( srcPixelSize == 3 )
         {
             if ( trgPixelSize == 3 )
             {
                 return ( src );
             }
-            
-            // target has size 4
-            
-            //trgIC.getPixelLine( trgByteOffset, numPixels, trg );
-            
-            int j = srcByteOffset;
-            int k = 0;
-            for ( int i = 0; i < numPixels; i++ )
-            {
-                trg[ k + ByteOrderManager.RED ] = src[ j + ByteOrderManager.RED ];
-                trg[ k + ByteOrderManager.GREEN ] = src[ j + ByteOrderManager.GREEN ];
-                trg[ k + ByteOrderManager.BLUE ] = src[ j + ByteOrderManager.BLUE ];
-                trg[ k + ByteOrderManager.ALPHA ] = (byte)255;
-                
-                j += srcPixelSize;
-                k += trgPixelSize;
-            }
         }
         else if ( srcPixelSize == 4 )
         {
-            if ( trgPixelSize == 3 )
-            {
-                if ( !overwrite )
-                    trgIC.getPixelLine( trgByteOffset, numPixels, trg );
-                
-                int j = srcByteOffset;
-                int k = 0;
-                for ( int i = 0; i < numPixels; i++ )
-                {
-                    final int srcR = src[ j + ByteOrderManager.RED ] & 0xFF;
-                    final int srcG = src[ j + ByteOrderManager.GREEN ] & 0xFF;
-                    final int srcB = src[ j + ByteOrderManager.BLUE ] & 0xFF;
-                    final int srcA = src[ j + ByteOrderManager.ALPHA ] & 0xFF;
-                    
-                    if ( overwrite )
-                    {
-                        trg[ k + ByteOrderManager.RED ] = (byte)( srcR * srcA / 255 );
-                        trg[ k + ByteOrderManager.GREEN ] = (byte)( srcG * srcA / 255 );
-                        trg[ k + ByteOrderManager.BLUE ] = (byte)( srcB * srcA / 255 );
-                    }
-                    else
-                    {
-                        final int trgR = trg[ k + ByteOrderManager.RED ] & 0xFF;
-                        final int trgG = trg[ k + ByteOrderManager.GREEN ] & 0xFF;
-                        final int trgB = trg[ k + ByteOrderManager.BLUE ] & 0xFF;
-                        
-                        trg[ k + ByteOrderManager.RED ] = (byte)( ( srcR * srcA / 255 ) + ( trgR * ( 255 - srcA ) / 255 ) );
-                        trg[ k + ByteOrderManager.GREEN ] = (byte)( ( srcG * srcA / 255 ) + ( trgG * ( 255 - srcA ) / 255 ) );
-                        trg[ k + ByteOrderManager.BLUE ] = (byte)( ( srcB * srcA / 255 ) + ( trgB * ( 255 - srcA ) / 255 ) );
-                    }
-                    
-                    j += srcPixelSize;
-                    k += trgPixelSize;
-                }
-            }
-            else if ( trgPixelSize == 4 )
-            {
-                if ( overwrite )
-                    return ( src );
-                
+            if ( ( trgPixelSize == 4 ) && overwrite )
+                return ( src );
+            
+            if ( !overwrite )
                 trgIC.getPixelLine( trgByteOffset, numPixels, trg );
-                
-                int j = srcByteOffset;
-                int k = 0;
-                for ( int i = 0; i < numPixels; i++ )
-                {
-                    final int srcR = src[ j + ByteOrderManager.RED ] & 0xFF;
-                    final int srcG = src[ j + ByteOrderManager.GREEN ] & 0xFF;
-                    final int srcB = src[ j + ByteOrderManager.BLUE ] & 0xFF;
-                    final int srcA = src[ j + ByteOrderManager.ALPHA ] & 0xFF;
-                    
-                    final int trgR = trg[ k + ByteOrderManager.RED ] & 0xFF;
-                    final int trgG = trg[ k + ByteOrderManager.GREEN ] & 0xFF;
-                    final int trgB = trg[ k + ByteOrderManager.BLUE ] & 0xFF;
-                    final int trgA = trg[ k + ByteOrderManager.ALPHA ] & 0xFF;
-                    
-                    final float rs = srcR / 255f;
-                    final float gs = srcG / 255f;
-                    final float bs = srcB / 255f;
-                    final float as = srcA / 255f;
-                    
-                    final float rd = trgR / 255f;
-                    final float gd = trgG / 255f;
-                    final float bd = trgB / 255f;
-                    final float ad = trgA / 255f;
-                    
-                    final float rr = rs * as + rd * ad * ( 1.0f - as );
-                    final float gr = gs * as + gd * ad * ( 1.0f - as );
-                    final float br = bs * as + bd * ad * ( 1.0f - as );
-                    final float ar = as + ad * ( 1.0f - as );
-                    
-                    trg[ k + ByteOrderManager.RED ] = (byte)( Math.min( rr, 1.0f ) * 255 );
-                    trg[ k + ByteOrderManager.GREEN ] = (byte)( Math.min( gr, 1.0f ) * 255 );
-                    trg[ k + ByteOrderManager.BLUE ] = (byte)( Math.min( br, 1.0f ) * 255 );
-                    trg[ k + ByteOrderManager.ALPHA ] = (byte)( Math.min( ar, 1.0f ) * 255 );
-                    
-                    /*
-                    trg[ k + ByteOrderManager.RED ] = (byte)( ( 255 * srcR * srcA + ( 255 - srcA ) * trgR * trgA ) / V255_255_255 );
-                    trg[ k + ByteOrderManager.GREEN ] = (byte)( ( 255 * srcG * srcA + ( 255 - srcA ) * trgG * trgA ) / V255_255_255 );
-                    trg[ k + ByteOrderManager.BLUE ] = (byte)( ( 255 * srcB * srcA + ( 255 - srcA ) * trgB * trgA ) / V255_255_255 );
-                    trg[ k + ByteOrderManager.ALPHA ] = (byte)( ( 255 * ( srcA + trgA ) - srcA * trgA ) / V255_255 );
-                    */
-                    
-                    j += srcPixelSize;
-                    k += trgPixelSize;
-                }
-            }
         }
         
+        pixelCompositor.combineLine( src, srcByteOffset, srcPixelSize, trg, trgPixelSize, numPixels, mode );
+        
         return ( trg );
     }
     
@@ -1332,6 +1136,14 @@ public class TextureImage2D
         return ( pixelRow1 );
     }
     
+    private final byte[] getSourceLineBuffer( int size )
+    {
+        if ( ( srcPixelRow == null ) || ( srcPixelRow.length < size ) )
+            srcPixelRow = new byte[ size ];
+        
+        return ( srcPixelRow );
+    }
+    
     private final byte[] getPixelLineBuffer2( int size )
     {
         if ( ( pixelRow2 == null ) || ( pixelRow2.length < size ) )
@@ -1506,7 +1318,8 @@ public class TextureImage2D
         final int srcPixelSize = srcTI.getPixelBytes();
         final int trgPixelSize = this.getPixelBytes();
         
-        byte[] srcBuffer = srcTI.getPixelLineBuffer1( srcWidth * srcPixelSize );
+        // Don't use the source's line buffer. The source may be shared by widgets, that are drawn in parallel.
+        byte[] srcBuffer = this.getSourceLineBuffer( srcWidth * srcPixelSize );
         byte[] trgBuffer = this.getPixelLineBuffer2( srcWidth * trgPixelSize );
         
         final int y_ = yUp ? ( getMaxHeight() - getHeight() ) : 0;
@@ -1552,6 +1365,66 @@ public class TextureImage2D
         possiblyMarkDirty( x0, y0, x1 - x0 + 1, y1 - y0 + 1, markDirty, dirtyRect );
     }
     
+    /**
+     * Draws the given 8 bit coverage mask with the given color onto this image.
+     * This is the way, Java2D renders text onto non-premultiplied images.
+     * 
+     * @param mask the coverage mask
+     * @param maskStride the number of bytes per line in the mask
+     * @param maskX the left of the used mask area
+     * @param maskY the top of the used mask area
+     * @param width the width of the used mask area
+     * @param height the height of the used mask area
+     * @param trgX target x-coordinate
+     * @param trgY target y-coordinate
+     * @param color the color to draw with
+     */
+    final void drawAlphaMask( byte[] mask, int maskStride, int maskX, int maskY, int width, int height, int trgX, int trgY, java.awt.Color color )
+    {
+        final int x0 = Math.max( clipRect.getLeft(), trgX );
+        final int x1 = Math.min( clipRect.getLeft() + clipRect.getWidth(), trgX + width );
+        final int y0 = Math.max( clipRect.getTop(), trgY );
+        final int y1 = Math.min( clipRect.getTop() + clipRect.getHeight(), trgY + height );
+        final int w = x1 - x0;
+        
+        if ( ( w <= 0 ) || ( y1 <= y0 ) )
+            return;
+        
+        final int srcPixelSize = 4;
+        final int trgPixelSize = this.getPixelBytes();
+        
+        final byte[] srcBuffer = getPixelLineBuffer1( w * srcPixelSize );
+        final byte[] trgBuffer = getPixelLineBuffer2( w * trgPixelSize );
+        
+        final byte red = (byte)color.getRed();
+        final byte green = (byte)color.getGreen();
+        final byte blue = (byte)color.getBlue();
+        final int alpha = color.getAlpha();
+        
+        for ( int i = 0; i < w * srcPixelSize; i += srcPixelSize )
+        {
+            srcBuffer[i + ByteOrderManager.RED] = red;
+            srcBuffer[i + ByteOrderManager.GREEN] = green;
+            srcBuffer[i + ByteOrderManager.BLUE] = blue;
+        }
+        
+        final int y_ = yUp ? ( getMaxHeight() - getHeight() ) : 0;
+        
+        for ( int j = y0; j < y1; j++ )
+        {
+            int maskOffset = ( maskY + j - trgY ) * maskStride + maskX + x0 - trgX;
+            
+            for ( int i = 0; i < w; i++ )
+            {
+                srcBuffer[i * srcPixelSize + ByteOrderManager.ALPHA] = (byte)( ( ( mask[maskOffset + i] & 0xFF ) * alpha + 127 ) / 255 );
+            }
+            
+            int trgByteOffset = this.getDataOffset( x0, y_ + j );
+            byte[] pixels = combinePixels( srcBuffer, 0, srcPixelSize, this, trgPixelSize, trgBuffer, trgByteOffset, w, PixelCompositor.Mode.SOURCE_OVER_NON_PREMULTIPLIED );
+            this.setPixelLine( trgByteOffset, w, pixels, 0 );
+        }
+    }
+    
     /**
      * Draws the given {@link TextureImage2D} onto this one and honors the alpha channels (if any).
      * 
@@ -1640,31 +1513,35 @@ public class TextureImage2D
             return;
         }
         
-        int srcPixelSize = 4;
-        byte[] pixel = getPixelLineBuffer1( srcPixelSize );
-        
-        pixel[ByteOrderManager.RED] = (byte)color.getRed();
-        pixel[ByteOrderManager.GREEN] = (byte)color.getGreen();
-        pixel[ByteOrderManager.BLUE] = (byte)color.getBlue();
-        pixel[ByteOrderManager.ALPHA] = (byte)color.getAlpha(); //( (byte)255 - color.getAlphaByte() );
-        
-        int trgPixelSize = this.getPixelBytes();
-        byte[] trgBuffer = getPixelLineBuffer2( trgPixelSize );
-        
         final int x0 = Math.max( clipRect.getLeft(), offsetX );
         final int x1 = Math.min( clipRect.getLeft() + clipRect.getWidth(), offsetX + width );
         final int y0 = Math.max( clipRect.getTop(), offsetY );
         final int y1 = Math.min( clipRect.getTop() + clipRect.getHeight(), offsetY + height );
         final int y_ = yUp ? ( getMaxHeight() - getHeight() ) : 0;
+        final int w = x1 - x0;
         
+        // Three byte targets have no alpha channel. The color is copied without blending there.
+        int srcPixelSize = this.getPixelBytes();
+        byte[] pixels = getPixelLineBuffer1( Math.max( 4, w * srcPixelSize ) );
+        
+        pixels[ByteOrderManager.RED] = (byte)color.getRed();
+        pixels[ByteOrderManager.GREEN] = (byte)color.getGreen();
+        pixels[ByteOrderManager.BLUE] = (byte)color.getBlue();
+        pixels[ByteOrderManager.ALPHA] = (byte)color.getAlpha(); //( (byte)255 - color.getAlphaByte() );
+        for ( int i = srcPixelSize; i < w * srcPixelSize; i += srcPixelSize )
+        {
+            System.arraycopy( pixels, 0, pixels, i, srcPixelSize );
+        }
+        
+        int trgPixelSize = this.getPixelBytes();
+        byte[] trgBuffer = getPixelLineBuffer2( Math.max( 1, w ) * trgPixelSize );
+        
+        // Blend one complete row at a time.
         for ( int j = y0; j < y1; j++ )
         {
-            for ( int i = x0; i < x1; i++ )
-            {
-                int trgOffset = this.getDataOffset( i, y_ + j );
-                byte[] newPixel = combinePixels( pixel, 0, getPixelBytes(), this, getPixelBytes(), trgBuffer, trgOffset, 1, false );
-                this.setPixel( trgOffset, newPixel );
-            }
+            int trgOffset = this.getDataOffset( x0, y_ + j );
+            byte[] newPixels = combinePixels( pixels, 0, srcPixelSize, this, trgPixelSize, trgBuffer, trgOffset, w, false );
+            this.setPixelLine( trgOffset, w, newPixels, 0 );
         }
         
         possiblyMarkDirty( x0, y0, x1 - x0 + 1, y1 - y0 + 1, markDirty, dirtyRect );
@@ -2050,9 +1927,24 @@ public class TextureImage2D
         possiblyMarkDirty( x0, startY, x1 - x0 + 1, 1, markDirty, dirtyRect );
     }
     
-    private static BufferedImage textImage = new BufferedImage( 256, 64, BufferedImage.TYPE_4BYTE_ABGR );
-    private static Graphics2D textGraphics = textImage.createGraphics();
-    private static FontMetrics fontMetrics = textGraphics.getFontMetrics();
+    /**
+     * Scratch graphics used to measure text. Widgets may be rendered in parallel, so there is one per thread.
+     */
+    private static final class TextMetricsContext
+    {
+        private final BufferedImage textImage = new BufferedImage( 256, 64, BufferedImage.TYPE_4BYTE_ABGR );
+        private final Graphics2D textGraphics = textImage.createGraphics();
+        private FontMetrics fontMetrics = textGraphics.getFontMetrics();
+    }
+    
+    private static final ThreadLocal<TextMetricsContext> textMetricsContext = new ThreadLocal<TextMetricsContext>()
+    {
+        @Override
+        protected TextMetricsContext initialValue()
+        {
+            return ( new TextMetricsContext() );
+        }
+    };
     /*
     private static int textImageLineByteLength = textImage.getWidth() * 4;
     private static byte[] clearLine = null;
@@ -2077,17 +1969,33 @@ public class TextureImage2D
     }
     */
     
+    /**
+     * Gets the bounds of the given String. The metrics are taken from the {@link TextMetricsCache}.
+     * 
+     * @param s the String to measure
+     * @param font the font
+     * @param antiAliased anti aliased font?
+     * 
+     * @return the bounds of the given String.
+     */
     public static final java.awt.geom.Rectangle2D getStringBounds( String s, java.awt.Font font, boolean antiAliased )
     {
-        if ( !textGraphics.getFont().equals( font ) )
-        {
-            textGraphics.setFont( font );
-            textGraphics.setRenderingHint( RenderingHints.KEY_ANTIALIASING, antiAliased ? RenderingHints.VALUE_ANTIALIAS_ON : RenderingHints.VALUE_ANTIALIAS_OFF );
-            
-            fontMetrics = textGraphics.getFontMetrics();
-        }
-        
-        return ( fontMetrics.getStringBounds( s, textGraphics ) );
+        return ( TextMetricsCache.getStringBounds( s, font, antiAliased ) );
+    }
+    
+    /**
+     * Gets the bounds of the given characters. The metrics are taken from the {@link TextMetricsCache},
+     * so simple text is measured without creating a copy of the characters.
+     * 
+     * @param s the characters to measure
+     * @param font the font
+     * @param antiAliased anti aliased font?
+     * 
+     * @return the bounds of the given characters.
+     */
+    public static final java.awt.geom.Rectangle2D getStringBounds( CharSequence s, java.awt.Font font, boolean antiAliased )
+    {
+        return ( TextMetricsCache.getStringBounds( s, font, antiAliased ) );
     }
     
     public static final java.awt.geom.Rectangle2D getStringBounds( String s, FontProperty font )
@@ -2145,26 +2053,30 @@ public class TextureImage2D
     
     public static final int getFontAscent( java.awt.Font font )
     {
-        if ( !textGraphics.getFont().equals( font ) )
+        final TextMetricsContext ctx = textMetricsContext.get();
+        
+        if ( !ctx.textGraphics.getFont().equals( font ) )
         {
-            textGraphics.setFont( font );
+            ctx.textGraphics.setFont( font );
             
-            fontMetrics = textGraphics.getFontMetrics();
+            ctx.fontMetrics = ctx.textGraphics.getFontMetrics();
         }
         
-        return ( fontMetrics.getAscent() );
+        return ( ctx.fontMetrics.getAscent() );
     }
     
     public static final int getFontDescent( java.awt.Font font )
     {
-        if ( !textGraphics.getFont().equals( font ) )
+        final TextMetricsContext ctx = textMetricsContext.get();
+        
+        if ( !ctx.textGraphics.getFont().equals( font ) )
         {
-            textGraphics.setFont( font );
+            ctx.textGraphics.setFont( font );
             
-            fontMetrics = textGraphics.getFontMetrics();
+            ctx.fontMetrics = ctx.textGraphics.getFontMetrics();
         }
         
-        return ( fontMetrics.getDescent() );
+        return ( ctx.fontMetrics.getDescent() );
     }
     
     /**
@@ -2180,7 +2092,7 @@ public class TextureImage2D
      * @param markDirty if true, the pixel is marked dirty
      * @param dirtyRect if non null, the dirty rect is written to this instance
      */
-    public void drawString( String s, int x, int y, java.awt.geom.Rectangle2D bounds, java.awt.Font font, boolean antiAliased, java.awt.Color color, boolean markDirty, Rect2i dirtyRect )
+    public void drawString( CharSequence s, int x, int y, java.awt.geom.Rectangle2D bounds, java.awt.Font font, boolean antiAliased, java.awt.Color color, boolean markDirty, Rect2i dirtyRect )
     {
         /*
         if ( !textGraphics.getFont().equals( font ) )
@@ -2237,6 +2149,24 @@ public class TextureImage2D
         getTextureCanvas().drawString( s, x, y, bounds, font, antiAliased, color, markDirty, dirtyRect );
     }
     
+    /**
+     * Draws a String at the specified location.
+     * 
+     * @param s the String to draw
+     * @param x the x-position
+     * @param y the y-position of the String's baseline
+     * @param bounds the String's bounds. If null, bounds will be created temporarily
+     * @param font the Font to use
+     * @param antiAliased anti aliased font?
+     * @param color the Color to use
+     * @param markDirty if true, the pixel is marked dirty
+     * @param dirtyRect if non null, the dirty rect is written to this instance
+     */
+    public void drawString( String s, int x, int y, java.awt.geom.Rectangle2D bounds, java.awt.Font font, boolean antiAliased, java.awt.Color color, boolean markDirty, Rect2i dirtyRect )
+    {
+        drawString( (CharSequence)s, x, y, bounds, font, antiAliased, color, markDirty, dirtyRect );
+    }
+    
     public static enum TextDirection
     {
         RIGHT,
@@ -2259,7 +2189,7 @@ public class TextureImage2D
      * @param markDirty if true, the pixel is marked dirty
      * @param dirtyRect if non null, the dirty rect is written to this instance
      */
-    public void drawString( String s, int x, int y, java.awt.geom.Rectangle2D bounds, java.awt.Font font, boolean antiAliased, java.awt.Color color, TextDirection direction, boolean markDirty, Rect2i dirtyRect )
+    public void drawString( CharSequence s, int x, int y, java.awt.geom.Rectangle2D bounds, java.awt.Font font, boolean antiAliased, java.awt.Color color, TextDirection direction, boolean markDirty, Rect2i dirtyRect )
     {
         if ( bounds == null )
             bounds = getStringBounds( s, font, antiAliased );
@@ -2299,6 +2229,25 @@ public class TextureImage2D
         }
     }
     
+    /**
+     * Draws a String at the specified location.
+     * 
+     * @param s the String to draw
+     * @param x the x-position
+     * @param y the y-position of the String's baseline
+     * @param bounds the String's bounds. If null, bounds will be created temporarily
+     * @param font the Font to use
+     * @param antiAliased anti aliased font?
+     * @param color the Color to use
+     * @param direction the text direction
+     * @param markDirty if true, the pixel is marked dirty
+     * @param dirtyRect if non null, the dirty rect is written to this instance
+     */
+    public void drawString( String s, int x, int y, java.awt.geom.Rectangle2D bounds, java.awt.Font font, boolean antiAliased, java.awt.Color color, TextDirection direction, boolean markDirty, Rect2i dirtyRect )
+    {
+        drawString( (CharSequence)s, x, y, bounds, font, antiAliased, color, direction, markDirty, dirtyRect );
+    }
+    
     private TextureImage2D( int maxWidth, int maxHeight, int usedWidth, int usedHeight, boolean alpha, ByteBuffer dataBuffer, byte[] data, boolean isOffline )
     {
         this.width = Math.max( 1, maxWidth );
@@ -2340,11 +2289,11 @@ public class TextureImage2D
         
         if ( isOffline )
         {
-            this.updateList = null;
+            this.dirtyRegion = null;
         }
         else
         {
-            this.updateList = new ArrayList<Rect2i>();
+            this.dirtyRegion = new DirtyRegion( this.width, this.height );
             markDirty( 0, 0, width, height, null );
         }
     }
@@ -106,7 +106,18 @@ public class TransformableTexture
     
     public static final int STRUCT_SIZE = 40 + SOFT_MAX_NUM_WIDGETS * 9;
     
-    private static final int OFFSET_VISIBLE = 1;
+    /*
+     * The buffer header: the number of textures, a flags byte and a bit mask of the texture entries,
+     * that have been written since the native side last read them. The native side clears the flags and the mask after reading.
+     */
+    private static final int OFFSET_CHANGED_FLAGS = 1;
+    private static final int OFFSET_CHANGED_MASK = OFFSET_CHANGED_FLAGS + 1;
+    private static final int CHANGED_MASK_SIZE = ( MAX_NUM_TEXTURES + 7 ) / 8;
+    private static final int HEADER_SIZE = OFFSET_CHANGED_MASK + CHANGED_MASK_SIZE;
+    
+    private static final byte CHANGED_FLAG_ALL = 1;
+    
+    private static final int OFFSET_VISIBLE = HEADER_SIZE;
     private static final int OFFSET_SIZE = OFFSET_VISIBLE + MAX_NUM_TEXTURES * 1;
     private static final int OFFSET_TRANSFORMED = OFFSET_SIZE + MAX_NUM_TEXTURES * 4;
     private static final int OFFSET_TRANSLATION = OFFSET_TRANSFORMED + MAX_NUM_TEXTURES * 1;
@@ -142,7 +153,10 @@ public class TransformableTexture
     private float scaleX = 1.0f, scaleY = 1.0f;
     private int clipRectX = 0, clipRectY = 0, clipRectWidth = 0, clipRectHeight = 0;
     
+    private boolean rotationSpritesEnabled = false;
+    
     private boolean dirty = true;
+    private byte writtenVisible = -1;
     
     private Rectangle[] usedRectangles = null;
     
@@ -201,7 +215,30 @@ public class TransformableTexture
     
     public static ByteBuffer createByteBuffer()
     {
-        return ( ByteBuffer.allocateDirect( 1 + STRUCT_SIZE * MAX_NUM_TEXTURES ).order( ByteOrder.nativeOrder() ) );
+        return ( ByteBuffer.allocateDirect( HEADER_SIZE + STRUCT_SIZE * MAX_NUM_TEXTURES ).order( ByteOrder.nativeOrder() ) );
+    }
+    
+    /**
+     * Marks the entry of the texture at the given index as changed in the buffer header.
+     * 
+     * @param buffer the texture info buffer
+     * @param index the texture index
+     */
+    private static void markEntryChanged( ByteBuffer buffer, int index )
+    {
+        final int offset = OFFSET_CHANGED_MASK + ( index >> 3 );
+        
+        buffer.put( offset, (byte)( buffer.get( offset ) | ( 1 << ( index & 7 ) ) ) );
+    }
+    
+    /**
+     * Tells the native side to read all texture entries, regardless of the changed entries mask.
+     * 
+     * @param buffer the texture info buffer
+     */
+    static void markAllEntriesChanged( ByteBuffer buffer )
+    {
+        buffer.put( OFFSET_CHANGED_FLAGS, (byte)( buffer.get( OFFSET_CHANGED_FLAGS ) | CHANGED_FLAG_ALL ) );
     }
     
     public final TextureImage2D getTexture()
@@ -482,6 +519,28 @@ public class TransformableTexture
         return ( r );
     }
     
+    /**
+     * Sets, whether this texture is drawn by pre-rendered rotated frames from the {@link NeedleSpriteCache}, when it is drawn in software (editor mode).
+     * This is meant for textures, that are only rotated and whose content doesn't change (like needles).
+     * If the content changes anyway, {@link NeedleSpriteCache#invalidate(TransformableTexture)} must be called.
+     * 
+     * @param enabled
+     */
+    public void setRotationSpritesEnabled( boolean enabled )
+    {
+        this.rotationSpritesEnabled = enabled;
+    }
+    
+    /**
+     * Gets, whether this texture is drawn by pre-rendered rotated frames from the {@link NeedleSpriteCache}, when it is drawn in software (editor mode).
+     * 
+     * @return whether this texture is drawn by pre-rendered rotated frames.
+     */
+    public final boolean isRotationSpritesEnabled()
+    {
+        return ( rotationSpritesEnabled );
+    }
+    
     public final ByteBuffer getDirtyRectsBuffer()
     {
         return ( dirtyRectsBuffer );
@@ -489,7 +548,19 @@ public class TransformableTexture
     
     public final byte[] getTextureData()
     {
-        return ( texture.getData() );
+        return ( texture.getDisplayData() );
+    }
+    
+    /**
+     * Gets the off-heap copy of the texture data.
+     * 
+     * @return the off-heap copy of the texture data.
+     * 
+     * @see TextureImage2D#getDirectDisplayBuffer()
+     */
+    public final ByteBuffer getTextureBuffer()
+    {
+        return ( texture.getDirectDisplayBuffer() );
     }
     
     protected int fillBuffer( boolean widgetVisibility, int offsetX, int offsetY, int index, int rectangleIndex, ByteBuffer buffer )
@@ -497,7 +568,15 @@ public class TransformableTexture
         if ( ( index >= MAX_NUM_TEXTURES ) || ( rectangleIndex >= MAX_TOTAL_NUM_RECTANGLES ) )
             return ( rectangleIndex );
         
-        buffer.put( OFFSET_VISIBLE + index * 1, ( widgetVisibility && visible ) ? (byte)1 : (byte)0 );
+        final byte visibleFlag = ( widgetVisibility && visible ) ? (byte)1 : (byte)0;
+        
+        if ( dirty || ( visibleFlag != writtenVisible ) )
+        {
+            buffer.put( OFFSET_VISIBLE + index * 1, visibleFlag );
+            this.writtenVisible = visibleFlag;
+            
+            markEntryChanged( buffer, index );
+        }
         
         if ( dirty )
         {
@@ -643,6 +722,12 @@ public class TransformableTexture
         if ( !isVisibleInEditor() )
             return;
         
+        if ( rotationSpritesEnabled && ( scaleX == 1.0f ) && ( scaleY == 1.0f ) && ( ( clipRectWidth <= 0 ) || ( clipRectHeight <= 0 ) ) )
+        {
+            if ( NeedleSpriteCache.drawSprite( this, texCanvas, at, transformedRect ) )
+                return;
+        }
+        
         AffineTransform at0 = new AffineTransform( texCanvas.getTransform() );
         AffineTransform tmp = new AffineTransform( at0 );
         tmp.concatenate( at );
@@ -0,0 +1,543 @@
+/**
+ * Copyright (C) 2009-2014 Cars and Tracks Development Project (CTDP).
+ * 
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+ */
+package net.ctdp.rfdynhud.render;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.IdentityHashMap;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+import net.ctdp.rfdynhud.gamedata.LiveGameData;
+import net.ctdp.rfdynhud.input.InputAction;
+import net.ctdp.rfdynhud.input.InputActionConsumer;
+import net.ctdp.rfdynhud.input.__InpPrivilegedAccess;
+import net.ctdp.rfdynhud.util.RFDHLog;
+import net.ctdp.rfdynhud.util.RollingHistogram;
+import net.ctdp.rfdynhud.widgets.WidgetsConfiguration;
+import net.ctdp.rfdynhud.widgets.base.widget.Widget;
+import net.ctdp.rfdynhud.widgets.base.widget.__WPrivilegedAccess;
+
+/**
+ * Records the per frame cost of each {@link Widget} (controller update time, draw time,
+ * complete redraws, produced dirty area and allocated bytes) into {@link RollingHistogram}s.<br>
+ * The statistics are periodically appended to a CSV file in the log folder and can be displayed
+ * in game through the ToggleWidgetProfiler InputAction. Only the values are taken on the render thread.
+ * The rows are formatted and written by a background thread.
+ * 
+ * @author Marvin Froehlich (CTDP)
+ */
+public class WidgetProfiler
+{
+    public static final int DEFAULT_WINDOW_SIZE = 300;
+    public static final String CSV_FILENAME = "rfdynhud_widget_profile.csv";
+    
+    private static volatile boolean overlayVisible = false;
+    
+    private static final InputActionConsumer TOGGLE_OVERLAY_CONSUMER = new InputActionConsumer()
+    {
+        @Override
+        public void onBoundInputStateChanged( InputAction action, boolean state, int modifierMask, long when, LiveGameData gameData, boolean isEditorMode )
+        {
+            if ( action == INPUT_ACTION_TOGGLE_WIDGET_PROFILER )
+                overlayVisible = !overlayVisible;
+        }
+    };
+    
+    static final InputAction INPUT_ACTION_TOGGLE_WIDGET_PROFILER = __InpPrivilegedAccess.createInputAction( "ToggleWidgetProfiler", true, false, TOGGLE_OVERLAY_CONSUMER, WidgetProfiler.class.getClassLoader().getResource( WidgetProfiler.class.getPackage().getName().replace( '.', '/' ) + "/doc/ToggleWidgetProfiler.html" ) );
+    
+    private static final com.sun.management.ThreadMXBean ALLOCATION_BEAN = initAllocationBean();
+    
+    private static com.sun.management.ThreadMXBean initAllocationBean()
+    {
+        try
+        {
+            java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+            
+            if ( bean instanceof com.sun.management.ThreadMXBean )
+            {
+                com.sun.management.ThreadMXBean bean2 = (com.sun.management.ThreadMXBean)bean;
+                
+                if ( bean2.isThreadAllocatedMemorySupported() )
+                {
+                    if ( !bean2.isThreadAllocatedMemoryEnabled() )
+                        bean2.setThreadAllocatedMemoryEnabled( true );
+                    
+                    return ( bean2 );
+                }
+            }
+        }
+        catch ( Throwable t )
+        {
+        }
+        
+        RFDHLog.printlnEx( "Widget profiler: Measuring allocated bytes is not supported by this JVM." );
+        
+        return ( null );
+    }
+    
+    private static final long getAllocatedBytes()
+    {
+        if ( ALLOCATION_BEAN == null )
+            return ( 0L );
+        
+        return ( ALLOCATION_BEAN.getThreadAllocatedBytes( Thread.currentThread().getId() ) );
+    }
+    
+    /**
+     * The recorded statistics of one {@link Widget}.
+     */
+    public static final class Entry
+    {
+        private final String name;
+        
+        private final RollingHistogram updateTime;
+        private final RollingHistogram drawTime;
+        private final RollingHistogram completeRedraws;
+        private final RollingHistogram dirtyArea;
+        private final RollingHistogram allocatedBytes;
+        
+        private boolean frameUpdated;
+        private long frameUpdateTime;
+        private boolean frameDrawn;
+        private boolean frameCompleteRedraw;
+        private long frameDrawTime;
+        private long frameDirtyArea;
+        private long frameAllocatedBytes;
+        
+        public final String getName()
+        {
+            return ( name );
+        }
+        
+        /**
+         * Gets the controller update times in nanoseconds (only for frames with a controller update).
+         * 
+         * @return the controller update times in nanoseconds.
+         */
+        public final RollingHistogram getUpdateTime()
+        {
+            return ( updateTime );
+        }
+        
+        /**
+         * Gets the draw times in nanoseconds.
+         * 
+         * @return the draw times in nanoseconds.
+         */
+        public final RollingHistogram getDrawTime()
+        {
+            return ( drawTime );
+        }
+        
+        /**
+         * Gets a histogram of ones (complete redraw) and zeros, so that the mean is the complete redraw ratio.
+         * 
+         * @return the complete redraws histogram.
+         */
+        public final RollingHistogram getCompleteRedraws()
+        {
+            return ( completeRedraws );
+        }
+        
+        /**
+         * Gets the dirty area in pixels, that has been produced on the widget's main texture per draw.
+         * 
+         * @return the dirty area in pixels per draw.
+         */
+        public final RollingHistogram getDirtyArea()
+        {
+            return ( dirtyArea );
+        }
+        
+        /**
+         * Gets the bytes allocated per draw.
+         * 
+         * @return the bytes allocated per draw.
+         */
+        public final RollingHistogram getAllocatedBytes()
+        {
+            return ( allocatedBytes );
+        }
+        
+        private void beginFrame()
+        {
+            frameUpdated = false;
+            frameDrawn = false;
+        }
+        
+        private void endFrame()
+        {
+            if ( frameUpdated )
+                updateTime.add( frameUpdateTime );
+            
+            if ( frameDrawn )
+            {
+                drawTime.add( frameDrawTime );
+                completeRedraws.add( frameCompleteRedraw ? 1L : 0L );
+                dirtyArea.add( frameDirtyArea );
+                allocatedBytes.add( frameAllocatedBytes );
+            }
+        }
+        
+        private Entry( String name, int windowSize )
+        {
+            this.name = name;
+            
+            this.updateTime = new RollingHistogram( windowSize );
+            this.drawTime = new RollingHistogram( windowSize );
+            this.completeRedraws = new RollingHistogram( windowSize );
+            this.dirtyArea = new RollingHistogram( windowSize );
+            this.allocatedBytes = new RollingHistogram( windowSize );
+        }
+    }
+    
+    /**
+     * The values of one CSV row, taken on the render thread.
+     */
+    private static final class CSVRow
+    {
+        private final String name;
+        private final boolean isFrame;
+        private final int samples;
+        private final double updateMean;
+        private final double updateP95;
+        private final double drawMean;
+        private final double drawP95;
+        private final double drawMax;
+        private final double completeRedraws;
+        private final double dirtyArea;
+        private final double allocatedBytes;
+        
+        private CSVRow( RollingHistogram frameTime )
+        {
+            this.name = "<frame>";
+            this.isFrame = true;
+            this.samples = frameTime.getCount();
+            this.updateMean = 0.0;
+            this.updateP95 = 0.0;
+            this.drawMean = frameTime.getMean();
+            this.drawP95 = frameTime.getPercentile( 0.95f );
+            this.drawMax = frameTime.getMax();
+            this.completeRedraws = 0.0;
+            this.dirtyArea = 0.0;
+            this.allocatedBytes = 0.0;
+        }
+        
+        private CSVRow( Entry entry )
+        {
+            this.name = entry.getName();
+            this.isFrame = false;
+            this.samples = entry.drawTime.getCount();
+            this.updateMean = entry.updateTime.getMean();
+            this.updateP95 = entry.updateTime.getPercentile( 0.95f );
+            this.drawMean = entry.drawTime.getMean();
+            this.drawP95 = entry.drawTime.getPercentile( 0.95f );
+            this.drawMax = entry.drawTime.getMax();
+            this.completeRedraws = entry.completeRedraws.getMean();
+            this.dirtyArea = entry.dirtyArea.getMean();
+            this.allocatedBytes = entry.allocatedBytes.getMean();
+        }
+    }
+    
+    private final int windowSize;
+    private final long csvInterval;
+    private final File csvFile;
+    private ExecutorService csvWriter = null;
+    
+    private final IdentityHashMap<Widget, Entry> entriesMap = new IdentityHashMap<Widget, Entry>();
+    private Entry[] entries = new Entry[ 16 ];
+    private int numEntries = 0;
+    private int lastConfigId = -1;
+    
+    private final RollingHistogram frameTime;
+    private long frameStartTime = -1L;
+    private long startTime = -1L;
+    private long nextCSVTime = -1L;
+    private boolean csvHeaderWritten = false; // only used by the CSV writer thread
+    
+    /**
+     * Gets whether the profiler overlay has been toggled visible through the ToggleWidgetProfiler InputAction.
+     * 
+     * @return whether the profiler overlay is visible.
+     */
+    public static final boolean isOverlayVisible()
+    {
+        return ( overlayVisible );
+    }
+    
+    /**
+     * Gets the time of the whole drawWidgets() calls in nanoseconds.
+     * 
+     * @return the time of the whole drawWidgets() calls in nanoseconds.
+     */
+    public final RollingHistogram getFrameTime()
+    {
+        return ( frameTime );
+    }
+    
+    /**
+     * Gets the number of entries (the number of widgets in the last profiled frame).
+     * 
+     * @return the number of entries.
+     */
+    public final int getNumEntries()
+    {
+        return ( numEntries );
+    }
+    
+    /**
+     * Gets the entry for the widget at the given index in the last profiled frame.
+     * 
+     * @param index the widget index
+     * 
+     * @return the entry.
+     */
+    public final Entry getEntry( int index )
+    {
+        return ( entries[index] );
+    }
+    
+    void beginFrame( WidgetsConfiguration widgetsConfig )
+    {
+        frameStartTime = System.nanoTime();
+        
+        if ( startTime < 0L )
+        {
+            startTime = frameStartTime;
+            nextCSVTime = startTime + csvInterval;
+        }
+        
+        if ( widgetsConfig.getId() != lastConfigId )
+        {
+            entriesMap.clear();
+            lastConfigId = widgetsConfig.getId();
+        }
+        
+        final int n = widgetsConfig.getNumWidgets();
+        
+        if ( entries.length < n )
+            entries = new Entry[ Math.max( n, entries.length * 2 ) ];
+        
+        for ( int i = 0; i < n; i++ )
+        {
+            Widget widget = widgetsConfig.getWidget( i );
+            Entry entry = entriesMap.get( widget );
+            
+            if ( entry == null )
+            {
+                entry = new Entry( widget.getName(), windowSize );
+                entriesMap.put( widget, entry );
+            }
+            
+            entry.beginFrame();
+            entries[i] = entry;
+        }
+        
+        for ( int i = n; i < numEntries; i++ )
+            entries[i] = null;
+        
+        numEntries = n;
+    }
+    
+    void onControllerUpdated( int widgetIndex, long nanos )
+    {
+        Entry entry = entries[widgetIndex];
+        
+        entry.frameUpdated = true;
+        entry.frameUpdateTime = nanos;
+    }
+    
+    void beforeDraw( int widgetIndex, TextureImage2D texture )
+    {
+        Entry entry = entries[widgetIndex];
+        
+        entry.frameDirtyArea = ( ( texture == null ) || ( texture.getDirtyRegion() == null ) ) ? 0L : texture.getDirtyRegion().getTotalAddedArea();
+        entry.frameAllocatedBytes = getAllocatedBytes();
+        entry.frameDrawTime = System.nanoTime();
+    }
+    
+    void afterDraw( int widgetIndex, TextureImage2D texture, Widget widget )
+    {
+        final long now = System.nanoTime();
+        final long allocated = getAllocatedBytes();
+        
+        Entry entry = entries[widgetIndex];
+        
+        entry.frameDrawTime = now - entry.frameDrawTime;
+        entry.frameAllocatedBytes = allocated - entry.frameAllocatedBytes;
+        entry.frameDirtyArea = ( ( texture == null ) || ( texture.getDirtyRegion() == null ) ) ? 0L : texture.getDirtyRegion().getTotalAddedArea() - entry.frameDirtyArea;
+        entry.frameCompleteRedraw = __WPrivilegedAccess.wasLastDrawCompleteRedraw( widget );
+        entry.frameDrawn = true;
+    }
+    
+    void endFrame()
+    {
+        for ( int i = 0; i < numEntries; i++ )
+            entries[i].endFrame();
+        
+        final long now = System.nanoTime();
+        
+        frameTime.add( now - frameStartTime );
+        
+        if ( ( csvInterval > 0L ) && ( now >= nextCSVTime ) )
+        {
+            nextCSVTime = now + csvInterval;
+            
+            dumpCSV( now );
+        }
+    }
+    
+    private static final String formatMicros( double nanos )
+    {
+        return ( String.format( Locale.US, "%.1f", nanos / 1000.0 ) );
+    }
+    
+    /**
+     * Quotes the given CSV field, if it contains a separator, a quote or a line break.
+     */
+    private static final String escapeCSV( String field )
+    {
+        if ( field == null )
+            return ( "" );
+        
+        for ( int i = 0; i < field.length(); i++ )
+        {
+            final char ch = field.charAt( i );
+            
+            if ( ( ch == ',' ) || ( ch == '"' ) || ( ch == '\n' ) || ( ch == '\r' ) )
+                return ( "\"" + field.replace( "\"", "\"\"" ) + "\"" );
+        }
+        
+        return ( field );
+    }
+    
+    private void writeCSV( long timeSeconds, CSVRow[] rows )
+    {
+        BufferedWriter writer = null;
+        
+        try
+        {
+            writer = new BufferedWriter( new FileWriter( csvFile, csvHeaderWritten ) );
+            
+            if ( !csvHeaderWritten )
+            {
+                writer.write( "time_s,widget,samples,update_mean_us,update_p95_us,draw_mean_us,draw_p95_us,draw_max_us,complete_redraw_pct,dirty_px_mean,alloc_bytes_mean" );
+                writer.newLine();
+                csvHeaderWritten = true;
+            }
+            
+            final String time = String.valueOf( timeSeconds );
+            
+            for ( int i = 0; i < rows.length; i++ )
+            {
+                CSVRow row = rows[i];
+                
+                if ( row.isFrame )
+                {
+                    writer.write( time + "," + row.name + "," + row.samples + ",,," + formatMicros( row.drawMean ) + "," + formatMicros( row.drawP95 ) + "," + formatMicros( row.drawMax ) + ",,," );
+                }
+                else
+                {
+                    writer.write( time + "," + escapeCSV( row.name ) + "," + row.samples + "," +
+                                  formatMicros( row.updateMean ) + "," + formatMicros( row.updateP95 ) + "," +
+                                  formatMicros( row.drawMean ) + "," + formatMicros( row.drawP95 ) + "," + formatMicros( row.drawMax ) + "," +
+                                  String.format( Locale.US, "%.1f", row.completeRedraws * 100.0 ) + "," +
+                                  Math.round( row.dirtyArea ) + "," + Math.round( row.allocatedBytes ) );
+                }
+                
+                writer.newLine();
+            }
+        }
+        catch ( IOException e )
+        {
+            RFDHLog.exception( e );
+        }
+        finally
+        {
+            if ( writer != null )
+            {
+                try
+                {
+                    writer.close();
+                }
+                catch ( IOException e )
+                {
+                }
+            }
+        }
+    }
+    
+    /**
+     * Takes the current statistics and hands them to the CSV writer thread.
+     */
+    private void dumpCSV( long now )
+    {
+        final long timeSeconds = ( now - startTime ) / 1000000000L;
+        final CSVRow[] rows = new CSVRow[ 1 + numEntries ];
+        
+        rows[0] = new CSVRow( frameTime );
+        
+        for ( int i = 0; i < numEntries; i++ )
+            rows[1 + i] = new CSVRow( entries[i] );
+        
+        if ( csvWriter == null )
+        {
+            csvWriter = Executors.newSingleThreadExecutor( new ThreadFactory()
+            {
+                @Override
+                public Thread newThread( Runnable r )
+                {
+                    Thread thread = new Thread( r, "RFDynHUD widget profiler CSV writer" );
+                    thread.setDaemon( true );
+                    
+                    return ( thread );
+                }
+            } );
+        }
+        
+        csvWriter.execute( new Runnable()
+        {
+            @Override
+            public void run()
+            {
+                writeCSV( timeSeconds, rows );
+            }
+        } );
+    }
+    
+    /**
+     * Creates a new {@link WidgetProfiler}.
+     * 
+     * @param windowSize the number of frames to keep in the histograms
+     * @param csvInterval the interval in seconds, in which the statistics are appended to the CSV file. 0 to disable.
+     * @param logFolder the folder to write the CSV file to
+     */
+    public WidgetProfiler( int windowSize, int csvInterval, File logFolder )
+    {
+        this.windowSize = Math.max( 1, windowSize );
+        this.csvInterval = Math.max( 0, csvInterval ) * 1000000000L;
+        this.csvFile = new File( logFolder, CSV_FILENAME );
+        this.frameTime = new RollingHistogram( this.windowSize );
+    }
+}
@@ -53,6 +53,21 @@ public class WidgetsDrawingManager
     
     private final WidgetsManager renderListenersManager = new WidgetsManager();
     
+    private ParallelWidgetRenderer parallelRenderer = null;
+    private WidgetProfiler profiler = null;
+    private int[] parallelWidgetIndices = new int[ 0 ];
+    private LiveGameData parallelGameData = null;
+    private boolean parallelCompleteRedrawForced = false;
+    
+    private final ParallelWidgetRenderer.Task parallelDrawTask = new ParallelWidgetRenderer.Task()
+    {
+        @Override
+        public void run( int index )
+        {
+            drawVisibleWidget( parallelWidgetIndices[index], parallelGameData, parallelCompleteRedrawForced );
+        }
+    };
+    
     public final WidgetsManager getRenderListenersManager()
     {
         return ( renderListenersManager );
@@ -191,6 +206,8 @@ public class WidgetsDrawingManager
             textures[i].setDirty();
         }
         
+        TransformableTexture.markAllEntriesChanged( textureInfoBuffer );
+        
         textureInfoBuffer.position( textures.length * TransformableTexture.STRUCT_SIZE );
         textureInfoBuffer.flip();
         
@@ -217,6 +234,14 @@ public class WidgetsDrawingManager
         }
     }
     
+    /**
+     * Writes the entries of all textures, that have changed since the last call, to the texture info buffer
+     * and marks them in the buffer's changed entries mask. With a new configuration all entries are rewritten.
+     * 
+     * @param isEditorMode
+     * @param gameData
+     * @param newConfig
+     */
     public void refreshTextureInfoBuffer( boolean isEditorMode, LiveGameData gameData, boolean newConfig )
     {
         textureInfoBuffer.position( 0 );
@@ -224,6 +249,14 @@ public class WidgetsDrawingManager
         
         textureInfoBuffer.put( (byte)textures.length );
         
+        if ( newConfig )
+        {
+            for ( int i = 0; i < textures.length; i++ )
+                textures[i].setDirty();
+            
+            TransformableTexture.markAllEntriesChanged( textureInfoBuffer );
+        }
+        
         final int n = widgetsConfig.getNumWidgets();
         if ( oneTextureForAllWidgets )
         {
@@ -307,7 +340,10 @@ public class WidgetsDrawingManager
                 
                 for ( int j = 0; j < subTextures.length; j++ )
                 {
-                    rectOffset = subTextures[j].fillBuffer( widget.isVisible(), offX + subTextures[j].getOffsetXToRootMasterWidget(), offY + subTextures[j].getOffsetYToRootMasterWidget(), k++, rectOffset, textureInfoBuffer );
+                    if ( subTextures[j].isDirty() )
+                        rectOffset = subTextures[j].fillBuffer( widget.isVisible(), offX + subTextures[j].getOffsetXToRootMasterWidget(), offY + subTextures[j].getOffsetYToRootMasterWidget(), k++, rectOffset, textureInfoBuffer );
+                    else
+                        rectOffset = subTextures[j].fillBuffer( widget.isVisible(), 0, 0, k++, rectOffset, textureInfoBuffer ); // offsets are only written for dirty textures
                     testRectOffset += subTextures[j].getNumUsedRectangles();
                 }
             }
@@ -387,6 +423,9 @@ public class WidgetsDrawingManager
         
         final int n = widgetsConfig.getNumWidgets();
         
+        if ( profiler != null )
+            profiler.beginFrame( widgetsConfig );
+        
         for ( int i = 0; i < n; i++ )
         {
             Widget widget = widgetsConfig.getWidget( i );
@@ -395,6 +434,8 @@ public class WidgetsDrawingManager
             
             if ( controller != null )
             {
+                final long t0 = ( profiler != null ) ? System.nanoTime() : 0L;
+                
                 try
                 {
                     controller.update( widget, gameData );
@@ -404,6 +445,9 @@ public class WidgetsDrawingManager
                     RFDHLog.exception( t );
                 }
                 
+                if ( profiler != null )
+                    profiler.onControllerUpdated( i, System.nanoTime() - t0 );
+                
                 __GDPrivilegedAccess.setControlledVSIs( gameData.getScoringInfo(), __WPrivilegedAccess.getControlledViewedVSI( controller ), __WPrivilegedAccess.getControlledCompareVSI( controller ) );
             }
             else
@@ -445,39 +489,218 @@ public class WidgetsDrawingManager
         
         if ( !isEditorMode )
         {
-            for ( int i = 0; i < n; i++ )
+            if ( parallelRenderer != null )
             {
-                Widget widget = widgetsConfig.getWidget( i );
-                TextureImage2D texture = getMainTexture( i );
-                
-                if ( texture != null )
-                    texture.getTextureCanvas().setClip( 0, 0, texture.getWidth(), texture.getHeight() );
-                
-                try
+                drawWidgetsParallel( gameData, hasWaitingWidgets, completeRedrawForced );
+            }
+            else
+            {
+                for ( int i = 0; i < n; i++ )
                 {
-                    if ( isWidgetReady( widget, hasWaitingWidgets, gameData ) )
+                    Widget widget = widgetsConfig.getWidget( i );
+                    TextureImage2D texture = getMainTexture( i );
+                    
+                    if ( texture != null )
+                        texture.getTextureCanvas().setClip( 0, 0, texture.getWidth(), texture.getHeight() );
+                    
+                    try
                     {
-                        if ( widget.isVisible() )
+                        if ( isWidgetReady( widget, hasWaitingWidgets, gameData ) )
                         {
-                            WidgetController controller = widget.getWidgetController();
-                            
-                            if ( controller != null )
-                                __GDPrivilegedAccess.setControlledVSIs( gameData.getScoringInfo(), __WPrivilegedAccess.getControlledViewedVSI( controller ), __WPrivilegedAccess.getControlledCompareVSI( controller ) );
-                            else
-                                __GDPrivilegedAccess.setControlledVSIs( gameData.getScoringInfo(), null, null );
-                            
-                            widget.drawWidget( clock, completeRedrawForced, gameData, isEditorMode, texture, !oneTextureForAllWidgets );
+                            if ( widget.isVisible() )
+                            {
+                                WidgetController controller = widget.getWidgetController();
+                                
+                                if ( controller != null )
+                                    __GDPrivilegedAccess.setControlledVSIs( gameData.getScoringInfo(), __WPrivilegedAccess.getControlledViewedVSI( controller ), __WPrivilegedAccess.getControlledCompareVSI( controller ) );
+                                else
+                                    __GDPrivilegedAccess.setControlledVSIs( gameData.getScoringInfo(), null, null );
+                                
+                                if ( __WPrivilegedAccess.checkDrawNeeded( widget, clock, gameData, completeRedrawForced ) )
+                                {
+                                    if ( profiler != null )
+                                        profiler.beforeDraw( i, texture );
+                                    
+                                    widget.drawWidget( clock, completeRedrawForced, gameData, isEditorMode, texture, !oneTextureForAllWidgets );
+                                    
+                                    if ( profiler != null )
+                                        profiler.afterDraw( i, texture, widget );
+                                }
+                            }
                         }
                     }
-                }
-                catch ( Throwable t )
-                {
-                    RFDHLog.exception( t );
+                    catch ( Throwable t )
+                    {
+                        RFDHLog.exception( t );
+                    }
                 }
             }
         }
         
         __GDPrivilegedAccess.setControlledVSIs( gameData.getScoringInfo(), null, null );
+        
+        if ( profiler != null )
+            profiler.endFrame();
+    }
+    
+    private void drawVisibleWidget( int widgetIndex, LiveGameData gameData, boolean completeRedrawForced )
+    {
+        Widget widget = widgetsConfig.getWidget( widgetIndex );
+        TextureImage2D texture = getMainTexture( widgetIndex );
+        
+        if ( texture != null )
+            texture.getTextureCanvas().setClip( 0, 0, texture.getWidth(), texture.getHeight() );
+        
+        try
+        {
+            if ( !__WPrivilegedAccess.checkDrawNeeded( widget, clock, gameData, completeRedrawForced ) )
+                return;
+            
+            if ( profiler != null )
+                profiler.beforeDraw( widgetIndex, texture );
+            
+            widget.drawWidget( clock, completeRedrawForced, gameData, false, texture, !oneTextureForAllWidgets );
+            
+            if ( profiler != null )
+                profiler.afterDraw( widgetIndex, texture, widget );
+        }
+        catch ( Throwable t )
+        {
+            RFDHLog.exception( t );
+        }
+    }
+    
+    /**
+     * Draws all visible widgets without a {@link WidgetController} in parallel.
+     * In game mode each widget draws onto its own textures, so these don't share any render target.<br>
+     * The controlled VSIs are global state of the {@link net.ctdp.rfdynhud.gamedata.ScoringInfo}.
+     * So they are reset once for the parallel part and the few controlled widgets are drawn afterwards on this thread.
+     */
+    private void drawWidgetsParallel( LiveGameData gameData, boolean hasWaitingWidgets, boolean completeRedrawForced )
+    {
+        final int n = widgetsConfig.getNumWidgets();
+        
+        if ( parallelWidgetIndices.length < n )
+            parallelWidgetIndices = new int[ n ];
+        
+        int numParallel = 0;
+        
+        for ( int i = 0; i < n; i++ )
+        {
+            Widget widget = widgetsConfig.getWidget( i );
+            
+            if ( widget.isVisible() && ( widget.getWidgetController() == null ) && isWidgetReady( widget, hasWaitingWidgets, gameData ) )
+                parallelWidgetIndices[numParallel++] = i;
+        }
+        
+        __GDPrivilegedAccess.setControlledVSIs( gameData.getScoringInfo(), null, null );
+        
+        if ( numParallel > 0 )
+        {
+            parallelGameData = gameData;
+            parallelCompleteRedrawForced = completeRedrawForced;
+            
+            parallelRenderer.run( numParallel, parallelDrawTask );
+            
+            parallelGameData = null;
+        }
+        
+        for ( int i = 0; i < n; i++ )
+        {
+            Widget widget = widgetsConfig.getWidget( i );
+            WidgetController controller = widget.getWidgetController();
+            
+            if ( ( controller != null ) && widget.isVisible() && isWidgetReady( widget, hasWaitingWidgets, gameData ) )
+            {
+                __GDPrivilegedAccess.setControlledVSIs( gameData.getScoringInfo(), __WPrivilegedAccess.getControlledViewedVSI( controller ), __WPrivilegedAccess.getControlledCompareVSI( controller ) );
+                
+                drawVisibleWidget( i, gameData, completeRedrawForced );
+            }
+        }
+    }
+    
+    /**
+     * Gets the total number of executed widget draws in game mode.
+     * 
+     * @return the total number of executed widget draws.
+     */
+    public long getNumExecutedDraws()
+    {
+        long result = 0L;
+        
+        for ( int i = 0; i < widgetsConfig.getNumWidgets(); i++ )
+            result += widgetsConfig.getWidget( i ).getNumExecutedDraws();
+        
+        return ( result );
+    }
+    
+    /**
+     * Gets the total number of widget draws in game mode, that have been skipped, because the widgets' declared inputs hadn't changed.
+     * 
+     * @see Widget#getDrawInputs()
+     * 
+     * @return the total number of skipped widget draws.
+     */
+    public long getNumSkippedDraws()
+    {
+        long result = 0L;
+        
+        for ( int i = 0; i < widgetsConfig.getNumWidgets(); i++ )
+            result += widgetsConfig.getWidget( i ).getNumSkippedDraws();
+        
+        return ( result );
+    }
+    
+    /**
+     * Sets the profiler, that records the per widget frame costs.
+     * 
+     * @param profiler the profiler or <code>null</code> to disable profiling
+     */
+    public void setWidgetProfiler( WidgetProfiler profiler )
+    {
+        this.profiler = profiler;
+    }
+    
+    /**
+     * Gets the profiler, that records the per widget frame costs.
+     * 
+     * @return the profiler or <code>null</code>.
+     */
+    public final WidgetProfiler getWidgetProfiler()
+    {
+        return ( profiler );
+    }
+    
+    /**
+     * Sets the number of threads used to draw the widgets in game mode.
+     * A value less than two draws all widgets one after another on the calling thread (default).
+     * The setting is ignored in editor mode, where all widgets share one texture.
+     * 
+     * @param numThreads the total number of threads including the calling thread
+     */
+    public void setNumRenderThreads( int numThreads )
+    {
+        if ( parallelRenderer != null )
+        {
+            parallelRenderer.shutdown();
+            parallelRenderer = null;
+        }
+        
+        if ( ( numThreads > 1 ) && !oneTextureForAllWidgets )
+            parallelRenderer = new ParallelWidgetRenderer( numThreads );
+    }
+    
+    /**
+     * Gets the number of threads used to draw the widgets.
+     * 
+     * @return the number of threads used to draw the widgets.
+     */
+    public final int getNumRenderThreads()
+    {
+        if ( parallelRenderer == null )
+            return ( 1 );
+        
+        return ( parallelRenderer.getNumThreads() );
     }
     
     /**
@@ -18,6 +18,7 @@
 package net.ctdp.rfdynhud.render;
 
 import net.ctdp.rfdynhud.gamedata.LiveGameData;
+import net.ctdp.rfdynhud.input.InputAction;
 import net.ctdp.rfdynhud.util.ConfigurationLoader;
 import net.ctdp.rfdynhud.widgets.WidgetsConfiguration;
 import net.ctdp.rfdynhud.widgets.base.widget.Widget;
@@ -29,6 +30,8 @@ import net.ctdp.rfdynhud.widgets.base.widget.Widget;
  */
 public class __RenderPrivilegedAccess
 {
+    public static final InputAction INPUT_ACTION_TOGGLE_WIDGET_PROFILER = WidgetProfiler.INPUT_ACTION_TOGGLE_WIDGET_PROFILER;
+    
     public static void setConfigurationAndLoader( WidgetsConfiguration widgetsConfig, ConfigurationLoader loader, WidgetsManager widgetsManager )
     {
         widgetsManager.setConfigurationAndLoader( widgetsConfig, loader );
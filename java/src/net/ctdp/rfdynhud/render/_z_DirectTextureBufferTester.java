@@ -0,0 +1,109 @@
+/**
+ * Copyright (C) 2009-2014 Cars and Tracks Development Project (CTDP).
+ * 
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+ */
+package net.ctdp.rfdynhud.render;
+
+import java.awt.Color;
+import java.nio.ByteBuffer;
+import java.util.Random;
+
+/**
+ * Checks, that the off-heap texture buffers hold the same pixels as the heap arrays,
+ * and compares the bytes and time needed to keep them in sync with copying the full arrays.
+ * Run with -Djava.awt.headless=true.
+ */
+class _z_DirectTextureBufferTester
+{
+    private static final int NUM_FRAMES = 2000;
+    
+    private static boolean equals( byte[] data, ByteBuffer buffer )
+    {
+        for ( int i = 0; i < data.length; i++ )
+        {
+            if ( data[i] != buffer.get( i ) )
+                return ( false );
+        }
+        
+        return ( true );
+    }
+    
+    private static void drawRandomFrame( TextureImage2D texture, Random rnd )
+    {
+        final int n = 1 + rnd.nextInt( 4 );
+        
+        for ( int i = 0; i < n; i++ )
+        {
+            int w = 4 + rnd.nextInt( 60 );
+            int h = 4 + rnd.nextInt( 30 );
+            int x = rnd.nextInt( texture.getWidth() - w );
+            int y = rnd.nextInt( texture.getHeight() - h );
+            
+            texture.fillRectangle( new Color( rnd.nextInt(), true ), x, y, w, h, true, null );
+        }
+    }
+    
+    private static void test( boolean doubleBuffered )
+    {
+        final Random rnd = new Random( 4711 );
+        final TextureImage2D texture = TextureImage2D.createOnlineTexture( 1024, 512, 1000, 500, true );
+        final ByteBuffer dirtyRectsBuffer = TextureDirtyRectsManager.createByteBuffer( 128 );
+        final ByteBuffer fullCopy = ByteBuffer.allocateDirect( texture.getDisplayData().length );
+        
+        texture.getDirectDisplayBuffer();
+        
+        long syncTime = 0L;
+        long fullCopyTime = 0L;
+        long fullCopyBytes = 0L;
+        
+        for ( int frame = 0; frame < NUM_FRAMES; frame++ )
+        {
+            drawRandomFrame( texture, rnd );
+            
+            if ( doubleBuffered )
+                texture.swapBuffers();
+            
+            long t0 = System.nanoTime();
+            TextureDirtyRectsManager.getDirtyRects( texture, dirtyRectsBuffer, true );
+            syncTime += System.nanoTime() - t0;
+            
+            t0 = System.nanoTime();
+            fullCopy.clear();
+            fullCopy.put( texture.getDisplayData() );
+            fullCopyTime += System.nanoTime() - t0;
+            fullCopyBytes += texture.getDisplayData().length;
+            
+            if ( !equals( texture.getDisplayData(), texture.getDirectDisplayBuffer() ) )
+            {
+                System.out.println( ( doubleBuffered ? "double buffered" : "single buffered" ) + ": MISMATCH in frame " + frame );
+                
+                return;
+            }
+        }
+        
+        System.out.println( ( doubleBuffered ? "double buffered" : "single buffered" ) + ": identical pixels in " + NUM_FRAMES + " frames" );
+        System.out.println( "    dirty rects sync: " + ( texture.getDirectDisplayBufferBytesCopied() / 1024L ) + " KB, " + ( syncTime / 1000000L ) + " ms (including dirty rects handling)" );
+        System.out.println( "    full array copy:  " + ( fullCopyBytes / 1024L ) + " KB, " + ( fullCopyTime / 1000000L ) + " ms" );
+    }
+    
+    public static void main( String[] args )
+    {
+        ByteOrderInitializer.setByteOrder( 0, 1, 2, 3 );
+        
+        test( false );
+        test( true );
+    }
+}
@@ -0,0 +1,169 @@
+/**
+ * Copyright (C) 2009-2014 Cars and Tracks Development Project (CTDP).
+ * 
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+ */
+package net.ctdp.rfdynhud.render;
+
+import java.awt.Color;
+import java.util.Random;
+
+/**
+ * Compares the {@link PixelCompositor#FIXED_POINT} results with the {@link PixelCompositor#FLOAT} reference on random pixels
+ * and checks, that alpha fills on three byte textures copy the color like before.
+ * Run with -Djava.awt.headless=true.
+ */
+class _z_PixelCompositorTester
+{
+    private static final int NUM_PIXELS = 1000000;
+    private static final int LINE_LENGTH = 1000;
+    
+    /**
+     * The fixed point results are rounded, the float ones truncated (after two blend steps for SOURCE_OVER).
+     */
+    private static final int TOLERANCE = 2;
+    
+    private static int numChecks = 0;
+    private static int numErrors = 0;
+    
+    private static void testMode( Random rnd, PixelCompositor.Mode mode, int srcPixelBytes, int trgPixelBytes )
+    {
+        byte[] src = new byte[ LINE_LENGTH * srcPixelBytes ];
+        byte[] trg = new byte[ LINE_LENGTH * trgPixelBytes ];
+        byte[] trgFloat = new byte[ trg.length ];
+        byte[] trgFixed = new byte[ trg.length ];
+        
+        int maxDiff = 0;
+        
+        for ( int n = 0; n < NUM_PIXELS; n += LINE_LENGTH )
+        {
+            rnd.nextBytes( src );
+            rnd.nextBytes( trg );
+            
+            if ( mode == PixelCompositor.Mode.SOURCE_OVER_PREMULTIPLIED )
+            {
+                // Premultiplied colors never exceed their alpha.
+                premultiply( src, srcPixelBytes );
+                premultiply( trg, trgPixelBytes );
+            }
+            
+            System.arraycopy( trg, 0, trgFloat, 0, trg.length );
+            System.arraycopy( trg, 0, trgFixed, 0, trg.length );
+            
+            PixelCompositor.FLOAT.combineLine( src, 0, srcPixelBytes, trgFloat, trgPixelBytes, LINE_LENGTH, mode );
+            PixelCompositor.FIXED_POINT.combineLine( src, 0, srcPixelBytes, trgFixed, trgPixelBytes, LINE_LENGTH, mode );
+            
+            for ( int k = 0; k < trg.length; k += trgPixelBytes )
+            {
+                // The colors of fully transparent results are undefined (the float compositor zeroes them).
+                if ( ( trgPixelBytes == 4 ) && ( trgFloat[k + ByteOrderManager.ALPHA] == 0 ) && ( trgFixed[k + ByteOrderManager.ALPHA] == 0 ) )
+                    continue;
+                
+                for ( int i = k; i < k + trgPixelBytes; i++ )
+                    maxDiff = Math.max( maxDiff, Math.abs( ( trgFloat[i] & 0xFF ) - ( trgFixed[i] & 0xFF ) ) );
+            }
+        }
+        
+        numChecks++;
+        
+        String result = mode + ", " + srcPixelBytes + " -> " + trgPixelBytes + " bytes: max difference " + maxDiff;
+        
+        if ( maxDiff > TOLERANCE )
+        {
+            System.out.println( "    MISMATCH " + result + " (tolerance " + TOLERANCE + ")" );
+            numErrors++;
+        }
+        else
+        {
+            System.out.println( "    " + result );
+        }
+    }
+    
+    private static void premultiply( byte[] data, int pixelBytes )
+    {
+        if ( pixelBytes < 4 )
+            return;
+        
+        for ( int i = 0; i < data.length; i += pixelBytes )
+        {
+            final int a = data[i + ByteOrderManager.ALPHA] & 0xFF;
+            
+            data[i + ByteOrderManager.RED] = (byte)( ( data[i + ByteOrderManager.RED] & 0xFF ) * a / 255 );
+            data[i + ByteOrderManager.GREEN] = (byte)( ( data[i + ByteOrderManager.GREEN] & 0xFF ) * a / 255 );
+            data[i + ByteOrderManager.BLUE] = (byte)( ( data[i + ByteOrderManager.BLUE] & 0xFF ) * a / 255 );
+        }
+    }
+    
+    /**
+     * Three byte textures have always got the fill color copied (ignoring the alpha value).
+     */
+    private static void testFillOnThreeBytes()
+    {
+        TextureImage2D texture = TextureImage2D.createDrawTexture( 64, 32, false );
+        texture.clear( Color.WHITE, false, null );
+        
+        Color color = new Color( 200, 100, 50, 128 );
+        texture.fillRectangle( color, 5, 3, 40, 20, false, null );
+        
+        byte[] pixel = new byte[ 4 ];
+        int numWrong = 0;
+        
+        for ( int y = 3; y < 23; y++ )
+        {
+            for ( int x = 5; x < 45; x++ )
+            {
+                texture.getPixel( x, y, pixel );
+                
+                if ( ( ( pixel[ByteOrderManager.RED] & 0xFF ) != 200 ) || ( ( pixel[ByteOrderManager.GREEN] & 0xFF ) != 100 ) || ( ( pixel[ByteOrderManager.BLUE] & 0xFF ) != 50 ) )
+                    numWrong++;
+            }
+        }
+        
+        texture.getPixel( 4, 3, pixel );
+        if ( ( pixel[ByteOrderManager.RED] & 0xFF ) != 255 )
+            numWrong++;
+        
+        numChecks++;
+        
+        if ( numWrong > 0 )
+        {
+            System.out.println( "    MISMATCH fillRectangle on 3 bytes: " + numWrong + " wrong pixels" );
+            numErrors++;
+        }
+        else
+        {
+            System.out.println( "    fillRectangle on 3 bytes: color copied" );
+        }
+    }
+    
+    public static void main( String[] args )
+    {
+        ByteOrderInitializer.setByteOrder( 0, 1, 2, 3 );
+        
+        Random rnd = new Random( 4711L );
+        
+        for ( PixelCompositor.Mode mode : PixelCompositor.Mode.values() )
+        {
+            testMode( rnd, mode, 4, 4 );
+            testMode( rnd, mode, 4, 3 );
+            testMode( rnd, mode, 3, 4 );
+            testMode( rnd, mode, 3, 3 );
+        }
+        
+        testFillOnThreeBytes();
+        
+        System.out.println( numChecks + " checks, " + numErrors + " mismatches" );
+    }
+}
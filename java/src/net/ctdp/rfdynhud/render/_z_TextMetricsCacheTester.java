@@ -0,0 +1,153 @@
+/**
+ * Copyright (C) 2009-2014 Cars and Tracks Development Project (CTDP).
+ * 
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+ */
+package net.ctdp.rfdynhud.render;
+
+import java.awt.Font;
+import java.awt.font.FontRenderContext;
+import java.awt.font.TextAttribute;
+import java.awt.geom.AffineTransform;
+import java.awt.geom.Rectangle2D;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Compares the {@link TextMetricsCache} widths and bounds with {@link Font#getStringBounds(String, FontRenderContext)}
+ * on random strings across fonts, styles, sizes and anti-aliasing modes.
+ * Every string is measured twice, so that both the filled advances tables and the bounds cache are checked.
+ * Run with -Djava.awt.headless=true.
+ */
+class _z_TextMetricsCacheTester
+{
+    private static final String[] FONT_NAMES = { Font.DIALOG, Font.SANS_SERIF, Font.SERIF, Font.MONOSPACED };
+    private static final int[] STYLES = { Font.PLAIN, Font.BOLD, Font.ITALIC, Font.BOLD | Font.ITALIC };
+    private static final int[] SIZES = { 9, 12, 17, 24 };
+    
+    private static final int STRINGS_PER_FONT = 75;
+    private static final int MAX_STRING_LENGTH = 24;
+    
+    /**
+     * Lap times, numbers, driver names and a few characters beyond the advances table (Greek, combining marks, CJK).
+     */
+    private static final String CHARS = "0123456789:.,-+/ ()%abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ\u00E4\u00F6\u00FC\u00DF\u00E9\u00C5\u00F8";
+    private static final String COMPLEX_CHARS = "\u03B1\u03B2\u0394\u0301\u0308\u4E2D\u2026";
+    
+    private static int numChecks = 0;
+    private static int numErrors = 0;
+    
+    private static String randomString( Random rnd )
+    {
+        final int length = rnd.nextInt( MAX_STRING_LENGTH + 1 );
+        final boolean complex = ( rnd.nextInt( 4 ) == 0 );
+        
+        StringBuilder sb = new StringBuilder( length );
+        
+        for ( int i = 0; i < length; i++ )
+        {
+            if ( complex && ( rnd.nextInt( 5 ) == 0 ) )
+                sb.append( COMPLEX_CHARS.charAt( rnd.nextInt( COMPLEX_CHARS.length() ) ) );
+            else
+                sb.append( CHARS.charAt( rnd.nextInt( CHARS.length() ) ) );
+        }
+        
+        return ( sb.toString() );
+    }
+    
+    private static boolean equals( Rectangle2D r1, Rectangle2D r2 )
+    {
+        return ( ( (float)r1.getX() == (float)r2.getX() ) && ( (float)r1.getY() == (float)r2.getY() ) && ( (float)r1.getWidth() == (float)r2.getWidth() ) && ( (float)r1.getHeight() == (float)r2.getHeight() ) );
+    }
+    
+    private static void testFont( Random rnd, Font font, boolean antiAliased )
+    {
+        FontRenderContext frc = new FontRenderContext( null, antiAliased, false );
+        
+        int numWrong = 0;
+        String firstWrong = null;
+        
+        for ( int i = 0; i < STRINGS_PER_FONT; i++ )
+        {
+            String s = randomString( rnd );
+            Rectangle2D expected = font.getStringBounds( s, frc );
+            
+            for ( int pass = 0; pass < 2; pass++ )
+            {
+                // The widgets mostly measure reused buffers, not Strings.
+                CharSequence cs = ( pass == 0 ) ? s : new StringBuilder( s );
+                
+                float width = TextMetricsCache.getStringWidth( cs, font, antiAliased );
+                Rectangle2D bounds = TextMetricsCache.getStringBounds( cs, font, antiAliased );
+                
+                numChecks++;
+                
+                if ( ( width != (float)expected.getWidth() ) || !equals( bounds, expected ) )
+                {
+                    if ( firstWrong == null )
+                        firstWrong = "\"" + s + "\": " + width + ", " + bounds + " instead of " + expected;
+                    
+                    numWrong++;
+                }
+            }
+        }
+        
+        String result = font.getName() + " " + font.getStyle() + " " + font.getSize() + ( antiAliased ? " AA" : "" );
+        
+        if ( numWrong > 0 )
+        {
+            System.out.println( "    MISMATCH " + result + ": " + numWrong + " wrong, e.g. " + firstWrong );
+            numErrors++;
+        }
+        else
+        {
+            System.out.println( "    " + result );
+        }
+    }
+    
+    public static void main( String[] args )
+    {
+        Random rnd = new Random( 4711L );
+        
+        for ( String name : FONT_NAMES )
+        {
+            for ( int style : STYLES )
+            {
+                for ( int size : SIZES )
+                {
+                    Font font = new Font( name, style, size );
+                    
+                    testFont( rnd, font, false );
+                    testFont( rnd, font, true );
+                }
+            }
+        }
+        
+        // These are measured through the bounds cache only.
+        Map<TextAttribute, Object> attribs = new HashMap<TextAttribute, Object>();
+        attribs.put( TextAttribute.KERNING, TextAttribute.KERNING_ON );
+        
+        testFont( rnd, new Font( Font.SERIF, Font.PLAIN, 14 ).deriveFont( attribs ), true );
+        testFont( rnd, new Font( Font.DIALOG, Font.BOLD, 14 ).deriveFont( AffineTransform.getScaleInstance( 1.5, 1.0 ) ), false );
+        
+        // Replaced fonts must be measured from scratch.
+        Font font = new Font( Font.DIALOG, Font.PLAIN, 12 );
+        TextMetricsCache.invalidate( font );
+        testFont( rnd, font, false );
+        
+        System.out.println( numChecks + " checks, " + numErrors + " mismatches (table hits: " + TextMetricsCache.getNumTableHits() + ", cache hits: " + TextMetricsCache.getNumHits() + ", misses: " + TextMetricsCache.getNumMisses() + ")" );
+    }
+}
@@ -21,6 +21,7 @@ import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.Stack;
 
@@ -28,8 +29,12 @@ import javax.swing.JOptionPane;
 
 import net.ctdp.rfdynhud.gamedata.LiveGameData;
 import net.ctdp.rfdynhud.properties.AbstractPropertiesKeeper;
+import net.ctdp.rfdynhud.properties.BackgroundProperty;
+import net.ctdp.rfdynhud.properties.FlatPropertiesContainer;
+import net.ctdp.rfdynhud.properties.ImageProperty;
 import net.ctdp.rfdynhud.properties.Property;
 import net.ctdp.rfdynhud.properties.PropertyLoader;
+import net.ctdp.rfdynhud.render.BorderFrameCache;
 import net.ctdp.rfdynhud.values.RelativePositioning;
 import net.ctdp.rfdynhud.widgets.WidgetsConfiguration;
 import net.ctdp.rfdynhud.widgets.WidgetsConfiguration.ConfigurationLoadListener;
@@ -275,9 +280,42 @@ public class ConfigurationLoader implements PropertyLoader
      */
     public void clearConfiguration( WidgetsConfiguration widgetsConfig, LiveGameData gameData, final boolean isEditorMode ) throws IOException
     {
+        TextureManager.unpinAllImages();
+        BorderFrameCache.clear();
+        
         __WCPrivilegedAccess.clear( widgetsConfig, gameData, isEditorMode, loadListener );
     }
     
+    private static HashSet<String> getUsedImageNames( WidgetsConfiguration widgetsConfig )
+    {
+        HashSet<String> result = new HashSet<String>();
+        
+        FlatPropertiesContainer propsCont = new FlatPropertiesContainer();
+        
+        for ( int i = 0; i < widgetsConfig.getNumWidgets(); i++ )
+        {
+            propsCont.clear();
+            widgetsConfig.getWidget( i ).getProperties( propsCont, true );
+            
+            for ( Property prop : propsCont.getList() )
+            {
+                if ( ( prop instanceof ImageProperty ) && !( (ImageProperty)prop ).isNoImage() )
+                {
+                    result.add( ( (ImageProperty)prop ).getImageName() );
+                }
+                else if ( ( prop instanceof BackgroundProperty ) && ( (BackgroundProperty)prop ).getBackgroundType().isImage() )
+                {
+                    ImageProperty imageProp = ( (BackgroundProperty)prop ).getImageProperty();
+                    
+                    if ( !imageProp.isNoImage() )
+                        result.add( imageProp.getImageName() );
+                }
+            }
+        }
+        
+        return ( result );
+    }
+    
     /**
      * Loads fully configured {@link Widget}s to a {@link WidgetsConfiguration}.
      * 
@@ -612,6 +650,8 @@ public class ConfigurationLoader implements PropertyLoader
             }
         }.parse( in );
         
+        TextureManager.prefetchImages( getUsedImageNames( widgetsConfig ) );
+        
         currentKey = null;
         currentValue = null;
         keyPrefix = null;
@@ -17,13 +17,16 @@
  */
 package net.ctdp.rfdynhud.util;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 
 import net.ctdp.rfdynhud.render.ImageTemplate;
 
 /**
- * Default implementation of the image cache meant for game runtime.
+ * Default implementation of the image cache meant for game runtime.<br>
+ * The unpinned entries are kept in access order. When the byte budget is exceeded, the least recently used
+ * unpinned entries are dropped. Pinned entries are kept aside and never dropped. So the images of the current configuration
+ * stay in the cache, even if it alone exceeds the budget.
  * 
  * @author Marvin Froehlich (CTDP)
  */
@@ -31,81 +34,184 @@ public class DefaultImageCache implements ImageCache
 {
     private static class Entry
     {
-        private static int nextId = 1;
-        
         private final ImageTemplate image;
-        private final int id;
         private final long lastModified;
-        
-        public final int getSizeInBytes()
-        {
-            if ( image == null )
-                return ( 0 );
-            
-            return ( image.getBaseWidth() * image.getBaseHeight() * ( image.hasAlpha() ? 4 : 3 ) );
-        }
+        private final long sizeInBytes;
         
         public Entry( ImageTemplate image, long lastModified )
         {
             this.image = image;
             this.lastModified = lastModified;
             
-            this.id = nextId++;
+            if ( image == null )
+                this.sizeInBytes = 0L;
+            else
+                this.sizeInBytes = (long)image.getBaseWidth() * (long)image.getBaseHeight() * ( image.hasAlpha() ? 4L : 3L );
         }
     }
     
-    private final Map<String, Entry> map = new HashMap<String, Entry>();
+    private final LinkedHashMap<String, Entry> map = new LinkedHashMap<String, Entry>( 64, 0.75f, true );
+    private final LinkedHashMap<String, Entry> pinnedMap = new LinkedHashMap<String, Entry>();
+    
+    private static final long ONE_MB = 1024L * 1024L;
     
-    private static final int ONE_MB = 1024 * 1024;
+    private long maxSize = 64L * ONE_MB;
+    private long size = 0L;
     
-    private int maxSize = 16 * ONE_MB;
-    private int size = 0;
+    private long numHits = 0L;
+    private long numMisses = 0L;
+    private long numEvictions = 0L;
     
-    public final int getSize()
+    /**
+     * Sets the byte budget of this cache.
+     * 
+     * @param maxSize the maximum size in bytes (less or equal to zero for no limit)
+     */
+    public void setMaxSize( long maxSize )
+    {
+        this.maxSize = maxSize;
+        
+        limitCacheSize();
+    }
+    
+    /**
+     * Gets the byte budget of this cache.
+     * 
+     * @return the maximum size in bytes (less or equal to zero for no limit).
+     */
+    public final long getMaxSize()
+    {
+        return ( maxSize );
+    }
+    
+    /**
+     * Gets the summed up size of all cached images in bytes.
+     * 
+     * @return the summed up size of all cached images in bytes.
+     */
+    public final long getSize()
     {
         return ( size );
     }
     
+    public final int getNumEntries()
+    {
+        return ( map.size() + pinnedMap.size() );
+    }
+    
+    /**
+     * Gets the number of {@link #get(String)} calls, that found an image.
+     * 
+     * @return the number of cache hits.
+     */
+    public final long getNumHits()
+    {
+        return ( numHits );
+    }
+    
+    /**
+     * Gets the number of {@link #get(String)} calls, that didn't find an image.
+     * 
+     * @return the number of cache misses.
+     */
+    public final long getNumMisses()
+    {
+        return ( numMisses );
+    }
+    
+    /**
+     * Gets the number of images dropped to keep the byte budget.
+     * 
+     * @return the number of evicted images.
+     */
+    public final long getNumEvictions()
+    {
+        return ( numEvictions );
+    }
+    
     private void limitCacheSize()
     {
-        if ( maxSize <= 0 )
+        if ( maxSize <= 0L )
             return;
         
-        while ( size > maxSize )
+        // The iteration order is least recently used first. Pinned entries are not in this map.
+        Iterator<Entry> it = map.values().iterator();
+        
+        while ( ( size > maxSize ) && it.hasNext() )
         {
-            Entry oldest = null;
-            String oldestName = null;
-            
-            for ( String name : map.keySet() )
-            {
-                Entry entry = map.get( name );
-                
-                if ( ( oldest == null ) || ( oldest.id > entry.id ) )
-                {
-                    oldest = entry;
-                    oldestName = name;
-                }
-            }
+            Entry entry = it.next();
             
-            remove( oldestName );
+            it.remove();
+            size -= entry.sizeInBytes;
+            numEvictions++;
         }
     }
     
     /**
-     * {@inheritDoc}
+     * Pins the image cached by the given name, so that it is not dropped to keep the byte budget.
+     * 
+     * @param name the name it is cached by
+     * 
+     * @return <code>true</code>, if the image is present.
      */
-    @Override
-    public ImageTemplate add( String name, long lastModified, ImageTemplate image )
+    public boolean pin( String name )
     {
-        Entry entry = new Entry( image, lastModified );
+        if ( pinnedMap.containsKey( name ) )
+            return ( true );
+        
+        Entry entry = map.remove( name );
         
-        size += entry.getSizeInBytes();
+        if ( entry == null )
+            return ( false );
+        
+        pinnedMap.put( name, entry );
         
-        Entry old = map.put( name, entry );
+        return ( true );
+    }
+    
+    /**
+     * Unpins all images, so that they can be dropped to keep the byte budget.
+     */
+    public void unpinAll()
+    {
+        map.putAll( pinnedMap );
+        pinnedMap.clear();
         
         limitCacheSize();
+    }
+    
+    /**
+     * Adds an image to the cache.
+     * 
+     * @param name the name to cache by
+     * @param lastModified the last modified timestamp
+     * @param image the image to cache
+     * @param pin pin the image (see {@link #pin(String)})? An image replacing a pinned one is always pinned.
+     * 
+     * @return the previously cached image.
+     */
+    public ImageTemplate add( String name, long lastModified, ImageTemplate image, boolean pin )
+    {
+        Entry entry = new Entry( image, lastModified );
         
-        //Logger.log( "cache size: " + ( size / ONE_MB ) + " MB" );
+        Entry old = pinnedMap.remove( name );
+        
+        if ( old != null )
+            pin = true;
+        else
+            old = map.remove( name );
+        
+        if ( pin )
+            pinnedMap.put( name, entry );
+        else
+            map.put( name, entry );
+        
+        size += entry.sizeInBytes;
+        
+        if ( old != null )
+            size -= old.sizeInBytes;
+        
+        limitCacheSize();
         
         if ( old != null )
             return ( old.image );
@@ -113,19 +219,29 @@ public class DefaultImageCache implements ImageCache
         return ( null );
     }
     
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ImageTemplate add( String name, long lastModified, ImageTemplate image )
+    {
+        return ( add( name, lastModified, image, false ) );
+    }
+    
     /**
      * {@inheritDoc}
      */
     @Override
     public ImageTemplate remove( String name )
     {
-        Entry entry = map.remove( name );
+        Entry entry = pinnedMap.remove( name );
+        
+        if ( entry == null )
+            entry = map.remove( name );
         
         if ( entry != null )
         {
-            size -= entry.getSizeInBytes();
-            
-            //Logger.log( "cache size: " + ( size / ONE_MB ) + " MB" );
+            size -= entry.sizeInBytes;
             
             return ( entry.image );
         }
@@ -139,7 +255,11 @@ public class DefaultImageCache implements ImageCache
     @Override
     public void check( String name, long lastModified )
     {
-        Entry entry = map.get( name );
+        Entry entry = pinnedMap.get( name );
+        
+        if ( entry == null )
+            entry = map.get( name );
+        
         if ( ( entry != null ) && ( entry.lastModified != lastModified ) )
         {
             remove( name );
@@ -152,7 +272,7 @@ public class DefaultImageCache implements ImageCache
     @Override
     public boolean contains( String name )
     {
-        return ( map.containsKey( name ) );
+        return ( pinnedMap.containsKey( name ) || map.containsKey( name ) );
     }
     
     /**
@@ -161,10 +281,19 @@ public class DefaultImageCache implements ImageCache
     @Override
     public ImageTemplate get( String name )
     {
-        Entry entry = map.get( name );
+        Entry entry = pinnedMap.get( name );
         
         if ( entry == null )
+            entry = map.get( name );
+        
+        if ( entry == null )
+        {
+            numMisses++;
+            
             return ( null );
+        }
+        
+        numHits++;
         
         return ( entry.image );
     }
@@ -0,0 +1,126 @@
+/**
+ * Copyright (C) 2009-2014 Cars and Tracks Development Project (CTDP).
+ * 
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+ */
+package net.ctdp.rfdynhud.util;
+
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.util.List;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import net.ctdp.rfdynhud.render.ImageTemplate;
+
+/**
+ * Decodes images on a small pool of background threads and hands them over to the {@link TextureManager}.
+ * The threads run with a lower priority, so they don't compete with the game thread, and die, when idle.
+ * 
+ * @author Marvin Froehlich (CTDP)
+ */
+class ImagePrefetcher
+{
+    public static final int MAX_THREADS = 4;
+    
+    private static final long KEEP_ALIVE_SECONDS = 10L;
+    
+    private final int numThreads;
+    private final ThreadPoolExecutor executor;
+    
+    public final int getNumThreads()
+    {
+        return ( numThreads );
+    }
+    
+    /**
+     * Decodes the given images in the background.
+     * 
+     * @param names the normalized image names
+     * @param files the image files (same order as the names)
+     */
+    public void prefetch( final List<String> names, final List<File> files )
+    {
+        final int n = names.size();
+        final long t0 = System.nanoTime();
+        final AtomicInteger remaining = new AtomicInteger( n );
+        final AtomicLong decodeTime = new AtomicLong( 0L );
+        
+        for ( int i = 0; i < n; i++ )
+        {
+            final String name = names.get( i );
+            final File file = files.get( i );
+            
+            executor.execute( new Runnable()
+            {
+                @Override
+                public void run()
+                {
+                    final long t1 = System.nanoTime();
+                    final long lastModified = file.lastModified();
+                    ImageTemplate template = null;
+                    
+                    try
+                    {
+                        BufferedImage image = TextureManager.decodeImage( file, name );
+                        
+                        if ( image != null )
+                            template = new ImageTemplate( name, image );
+                    }
+                    catch ( Throwable t )
+                    {
+                        // The image is read again on first use, which reports the error.
+                    }
+                    
+                    decodeTime.addAndGet( System.nanoTime() - t1 );
+                    
+                    TextureManager.onImagePrefetched( name, lastModified, template );
+                    
+                    if ( remaining.decrementAndGet() == 0 )
+                        RFDHLog.println( "Prefetched ", n, " images on ", numThreads, " thread(s) in ", ( ( System.nanoTime() - t0 ) / 1000000L ), " ms (", ( decodeTime.get() / 1000000L ), " ms summed decode time)." );
+                }
+            } );
+        }
+    }
+    
+    public void shutdown()
+    {
+        executor.shutdown();
+    }
+    
+    public ImagePrefetcher( int numThreads )
+    {
+        this.numThreads = numThreads;
+        this.executor = new ThreadPoolExecutor( numThreads, numThreads, KEEP_ALIVE_SECONDS, TimeUnit.SECONDS, new LinkedBlockingQueue<Runnable>(), new ThreadFactory()
+        {
+            private int nextId = 1;
+            
+            @Override
+            public synchronized Thread newThread( Runnable r )
+            {
+                Thread thread = new Thread( r, "RFDynHUD image prefetch " + ( nextId++ ) );
+                thread.setDaemon( true );
+                thread.setPriority( Thread.NORM_PRIORITY - 1 );
+                
+                return ( thread );
+            }
+        } );
+        this.executor.allowCoreThreadTimeOut( true );
+    }
+}
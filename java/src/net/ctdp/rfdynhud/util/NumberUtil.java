@@ -106,6 +106,93 @@ public class NumberUtil
         return ( formatFloat( f, numDecPlaces, forceFractions, false ) );
     }
     
+    /**
+     * Appends the given float with the specified number of decimal places to the given buffer.
+     * The result is the same as the one of {@link #formatFloat(float, int, boolean, boolean)}, but no objects are created.
+     * 
+     * @param f the number to format
+     * @param numDecPlaces the maximum number of decimal places
+     * @param forceFractions always format with maximum number of fractions?
+     * @param forceSign always show the sign?
+     * @param buffer the buffer to append to
+     * 
+     * @return the passed buffer.
+     */
+    public static final TextBuffer appendFloat( float f, int numDecPlaces, boolean forceFractions, boolean forceSign, TextBuffer buffer )
+    {
+        if ( numDecPlaces == 0 )
+        {
+            int i = Math.round( f );
+            
+            if ( forceSign && ( f >= 0f ) )
+                buffer.append( '+' );
+            
+            return ( buffer.append( i ) );
+        }
+        
+        long p = 1L;
+        for ( int i = 0; i < numDecPlaces; i++ )
+            p *= 10L;
+        
+        final boolean negative = ( f < 0f ) || ( ( f == 0f ) && ( 1f / f < 0f ) );
+        
+        // DecimalFormat rounds half even.
+        long scaled = (long)Math.rint( Math.abs( (double)f ) * p );
+        long intPart = scaled / p;
+        long fraction = scaled % p;
+        
+        if ( negative )
+            buffer.append( '-' );
+        else if ( forceSign )
+            buffer.append( '+' );
+        
+        // digit grouping as by Locale.US
+        long group = 1L;
+        while ( intPart / group >= 1000L )
+            group *= 1000L;
+        
+        buffer.append( intPart / group );
+        
+        while ( group > 1L )
+        {
+            intPart %= group;
+            group /= 1000L;
+            
+            buffer.append( ',' ).appendPadded( intPart / group, 3 );
+        }
+        
+        int numFractions = numDecPlaces;
+        
+        if ( !forceFractions )
+        {
+            while ( ( numFractions > 0 ) && ( fraction % 10L == 0L ) )
+            {
+                fraction /= 10L;
+                numFractions--;
+            }
+        }
+        
+        if ( numFractions > 0 )
+            buffer.append( '.' ).appendPadded( fraction, numFractions );
+        
+        return ( buffer );
+    }
+    
+    /**
+     * Appends the given float with the specified number of decimal places to the given buffer.
+     * 
+     * @param f the number to format
+     * @param numDecPlaces the maximum number of decimal places
+     * @param forceFractions always format with maximum number of fractions?
+     * @param buffer the buffer to append to
+     * 
+     * @return the passed buffer.
+     */
+    public static final TextBuffer appendFloat( float f, int numDecPlaces, boolean forceFractions, TextBuffer buffer )
+    {
+        return ( appendFloat( f, numDecPlaces, forceFractions, false, buffer ) );
+    }
+    
     /**
      * Gets the next greater power-of-two for the given number.
      * 
@@ -46,6 +46,20 @@ public class PluginINI
     private File general_cacheFolder = null;
     private String general_threeLetterCodeGenerator = null;
     private String editor_propertyDisplayNameGenerator = null;
+    private String rendering_pixelCompositor = null;
+    private int rendering_glyphAtlasMaxPages = -1;
+    private int rendering_dirtyRectOverhead = -1;
+    private int rendering_maxDirtyRects = -1;
+    private int rendering_renderThreads = 0;
+    private boolean rendering_pipelinedRendering = false;
+    private boolean rendering_widgetProfiler = false;
+    private int rendering_widgetProfilerCSVInterval = 10;
+    private int rendering_imageCacheSize = 64;
+    private int rendering_imagePrefetchThreads = -1;
+    private boolean rendering_directTextureBuffers = false;
+    private int rendering_borderCacheSize = 4;
+    private float rendering_needleSpriteAngleStep = 0.25f;
+    private int rendering_needleSpriteCacheSize = 16;
     
     private void reset()
     {
@@ -56,6 +70,20 @@ public class PluginINI
         general_cacheFolder = null;
         general_threeLetterCodeGenerator = null;
         editor_propertyDisplayNameGenerator = null;
+        rendering_pixelCompositor = null;
+        rendering_glyphAtlasMaxPages = -1;
+        rendering_dirtyRectOverhead = -1;
+        rendering_maxDirtyRects = -1;
+        rendering_renderThreads = 0;
+        rendering_pipelinedRendering = false;
+        rendering_widgetProfiler = false;
+        rendering_widgetProfilerCSVInterval = 10;
+        rendering_imageCacheSize = 64;
+        rendering_imagePrefetchThreads = -1;
+        rendering_directTextureBuffers = false;
+        rendering_borderCacheSize = 4;
+        rendering_needleSpriteAngleStep = 0.25f;
+        rendering_needleSpriteCacheSize = 16;
     }
     
     private static String parsePath( String path )
@@ -193,6 +221,135 @@ public class PluginINI
                             editor_propertyDisplayNameGenerator = value;
                         }
                     }
+                    else if ( group.equalsIgnoreCase( "RENDERING" ) )
+                    {
+                        if ( key.equalsIgnoreCase( "pixelCompositor" ) )
+                        {
+                            rendering_pixelCompositor = value;
+                        }
+                        else if ( key.equalsIgnoreCase( "glyphAtlasMaxPages" ) )
+                        {
+                            try
+                            {
+                                rendering_glyphAtlasMaxPages = Integer.parseInt( value );
+                            }
+                            catch ( NumberFormatException e )
+                            {
+                                rendering_glyphAtlasMaxPages = -1;
+                            }
+                        }
+                        else if ( key.equalsIgnoreCase( "dirtyRectOverhead" ) )
+                        {
+                            try
+                            {
+                                rendering_dirtyRectOverhead = Integer.parseInt( value );
+                            }
+                            catch ( NumberFormatException e )
+                            {
+                                rendering_dirtyRectOverhead = -1;
+                            }
+                        }
+                        else if ( key.equalsIgnoreCase( "maxDirtyRects" ) )
+                        {
+                            try
+                            {
+                                rendering_maxDirtyRects = Integer.parseInt( value );
+                            }
+                            catch ( NumberFormatException e )
+                            {
+                                rendering_maxDirtyRects = -1;
+                            }
+                        }
+                        else if ( key.equalsIgnoreCase( "renderThreads" ) )
+                        {
+                            try
+                            {
+                                rendering_renderThreads = Integer.parseInt( value );
+                            }
+                            catch ( NumberFormatException e )
+                            {
+                                rendering_renderThreads = 0;
+                            }
+                        }
+                        else if ( key.equalsIgnoreCase( "pipelinedRendering" ) )
+                        {
+                            rendering_pipelinedRendering = Boolean.parseBoolean( value );
+                        }
+                        else if ( key.equalsIgnoreCase( "widgetProfiler" ) )
+                        {
+                            rendering_widgetProfiler = Boolean.parseBoolean( value );
+                        }
+                        else if ( key.equalsIgnoreCase( "widgetProfilerCSVInterval" ) )
+                        {
+                            try
+                            {
+                                rendering_widgetProfilerCSVInterval = Integer.parseInt( value );
+                            }
+                            catch ( NumberFormatException e )
+                            {
+                                rendering_widgetProfilerCSVInterval = 10;
+                            }
+                        }
+                        else if ( key.equalsIgnoreCase( "imageCacheSize" ) )
+                        {
+                            try
+                            {
+                                rendering_imageCacheSize = Integer.parseInt( value );
+                            }
+                            catch ( NumberFormatException e )
+                            {
+                                rendering_imageCacheSize = 64;
+                            }
+                        }
+                        else if ( key.equalsIgnoreCase( "imagePrefetchThreads" ) )
+                        {
+                            try
+                            {
+                                rendering_imagePrefetchThreads = Integer.parseInt( value );
+                            }
+                            catch ( NumberFormatException e )
+                            {
+                                rendering_imagePrefetchThreads = -1;
+                            }
+                        }
+                        else if ( key.equalsIgnoreCase( "directTextureBuffers" ) )
+                        {
+                            rendering_directTextureBuffers = Boolean.parseBoolean( value );
+                        }
+                        else if ( key.equalsIgnoreCase( "borderCacheSize" ) )
+                        {
+                            try
+                            {
+                                rendering_borderCacheSize = Integer.parseInt( value );
+                            }
+                            catch ( NumberFormatException e )
+                            {
+                                rendering_borderCacheSize = 4;
+                            }
+                        }
+                        else if ( key.equalsIgnoreCase( "needleSpriteAngleStep" ) )
+                        {
+                            try
+                            {
+                                rendering_needleSpriteAngleStep = Float.parseFloat( value );
+                            }
+                            catch ( NumberFormatException e )
+                            {
+                                rendering_needleSpriteAngleStep = 0.25f;
+                            }
+                        }
+                        else if ( key.equalsIgnoreCase( "needleSpriteCacheSize" ) )
+                        {
+                            try
+                            {
+                                rendering_needleSpriteCacheSize = Integer.parseInt( value );
+                            }
+                            catch ( NumberFormatException e )
+                            {
+                                rendering_needleSpriteCacheSize = 16;
+                            }
+                        }
+                    }
                     
                     return ( true );
                 }
@@ -291,6 +448,174 @@ public class PluginINI
         return ( editor_propertyDisplayNameGenerator );
     }
     
+    /**
+     * Gets the name of the pixelCompositor setting from RENDERING group.
+     * 
+     * @return the pixelCompositor setting from RENDERING group.
+     */
+    public final String getRenderingPixelCompositor()
+    {
+        update();
+        
+        return ( rendering_pixelCompositor );
+    }
+    
+    /**
+     * Gets the glyphAtlasMaxPages setting from RENDERING group.
+     * 
+     * @return the glyphAtlasMaxPages setting from RENDERING group or -1, if not defined.
+     */
+    public final int getRenderingGlyphAtlasMaxPages()
+    {
+        update();
+        
+        return ( rendering_glyphAtlasMaxPages );
+    }
+    
+    /**
+     * Gets the dirtyRectOverhead setting from RENDERING group.
+     * 
+     * @return the dirtyRectOverhead setting from RENDERING group or -1, if not defined.
+     */
+    public final int getRenderingDirtyRectOverhead()
+    {
+        update();
+        
+        return ( rendering_dirtyRectOverhead );
+    }
+    
+    /**
+     * Gets the maxDirtyRects setting from RENDERING group.
+     * 
+     * @return the maxDirtyRects setting from RENDERING group or -1, if not defined.
+     */
+    public final int getRenderingMaxDirtyRects()
+    {
+        update();
+        
+        return ( rendering_maxDirtyRects );
+    }
+    
+    /**
+     * Gets the renderThreads setting from RENDERING group.
+     * 
+     * @return the renderThreads setting from RENDERING group or 0, if not defined.
+     */
+    public final int getRenderingRenderThreads()
+    {
+        update();
+        
+        return ( rendering_renderThreads );
+    }
+    
+    /**
+     * Gets the pipelinedRendering setting from RENDERING group.
+     * 
+     * @return the pipelinedRendering setting from RENDERING group or false, if not defined.
+     */
+    public final boolean isRenderingPipelined()
+    {
+        update();
+        
+        return ( rendering_pipelinedRendering );
+    }
+    
+    /**
+     * Gets the widgetProfiler setting from RENDERING group.
+     * 
+     * @return the widgetProfiler setting from RENDERING group or false, if not defined.
+     */
+    public final boolean isRenderingWidgetProfiler()
+    {
+        update();
+        
+        return ( rendering_widgetProfiler );
+    }
+    
+    /**
+     * Gets the widgetProfilerCSVInterval setting from RENDERING group.
+     * 
+     * @return the widgetProfilerCSVInterval setting from RENDERING group or 10, if not defined.
+     */
+    public final int getRenderingWidgetProfilerCSVInterval()
+    {
+        update();
+        
+        return ( rendering_widgetProfilerCSVInterval );
+    }
+    
+    /**
+     * Gets the imageCacheSize setting from RENDERING group.
+     * 
+     * @return the imageCacheSize setting from RENDERING group or 64, if not defined.
+     */
+    public final int getRenderingImageCacheSize()
+    {
+        update();
+        
+        return ( rendering_imageCacheSize );
+    }
+    
+    /**
+     * Gets the imagePrefetchThreads setting from RENDERING group.
+     * 
+     * @return the imagePrefetchThreads setting from RENDERING group or -1, if not defined.
+     */
+    public final int getRenderingImagePrefetchThreads()
+    {
+        update();
+        
+        return ( rendering_imagePrefetchThreads );
+    }
+    
+    /**
+     * Gets the directTextureBuffers setting from RENDERING group.
+     * 
+     * @return the directTextureBuffers setting from RENDERING group or false, if not defined.
+     */
+    public final boolean isRenderingDirectTextureBuffers()
+    {
+        update();
+        
+        return ( rendering_directTextureBuffers );
+    }
+    
+    /**
+     * Gets the borderCacheSize setting from RENDERING group.
+     * 
+     * @return the borderCacheSize setting from RENDERING group or 4, if not defined.
+     */
+    public final int getRenderingBorderCacheSize()
+    {
+        update();
+        
+        return ( rendering_borderCacheSize );
+    }
+    
+    /**
+     * Gets the needleSpriteAngleStep setting from RENDERING group.
+     * 
+     * @return the needleSpriteAngleStep setting from RENDERING group or 0.25f, if not defined.
+     */
+    public final float getRenderingNeedleSpriteAngleStep()
+    {
+        update();
+        
+        return ( rendering_needleSpriteAngleStep );
+    }
+    
+    /**
+     * Gets the needleSpriteCacheSize setting from RENDERING group.
+     * 
+     * @return the needleSpriteCacheSize setting from RENDERING group or 16, if not defined.
+     */
+    public final int getRenderingNeedleSpriteCacheSize()
+    {
+        update();
+        
+        return ( rendering_needleSpriteCacheSize );
+    }
+    
     public PluginINI( File pluginFolder )
     {
         this.pluginFolder = pluginFolder;
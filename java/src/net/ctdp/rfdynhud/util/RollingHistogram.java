@@ -0,0 +1,185 @@
+/**
+ * Copyright (C) 2009-2014 Cars and Tracks Development Project (CTDP).
+ * 
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+ */
+package net.ctdp.rfdynhud.util;
+
+/**
+ * Keeps the last n samples of a (non negative) value and a histogram of them.<br>
+ * The histogram uses power of two buckets, so percentiles are accurate to a factor of two
+ * and are clamped to the maximum sample.
+ * 
+ * @author Marvin Froehlich (CTDP)
+ */
+public class RollingHistogram
+{
+    public static final int NUM_BUCKETS = 64;
+    
+    private final long[] samples;
+    private int position = 0;
+    private int count = 0;
+    private long sum = 0L;
+    
+    private final int[] buckets = new int[ NUM_BUCKETS ];
+    
+    private static final int getBucket( long value )
+    {
+        return ( 64 - Long.numberOfLeadingZeros( value ) );
+    }
+    
+    /**
+     * Gets the maximum number of samples kept.
+     * 
+     * @return the maximum number of samples kept.
+     */
+    public final int getWindowSize()
+    {
+        return ( samples.length );
+    }
+    
+    /**
+     * Adds a sample and drops the oldest one, if the window is full.
+     * 
+     * @param value the new value (negative values are treated as zero)
+     */
+    public void add( long value )
+    {
+        if ( value < 0L )
+            value = 0L;
+        
+        if ( count == samples.length )
+        {
+            long old = samples[position];
+            sum -= old;
+            buckets[getBucket( old )]--;
+        }
+        else
+        {
+            count++;
+        }
+        
+        samples[position] = value;
+        sum += value;
+        buckets[getBucket( value )]++;
+        
+        if ( ++position == samples.length )
+            position = 0;
+    }
+    
+    /**
+     * Gets the number of samples in the window.
+     * 
+     * @return the number of samples in the window.
+     */
+    public final int getCount()
+    {
+        return ( count );
+    }
+    
+    public final long getSum()
+    {
+        return ( sum );
+    }
+    
+    public final double getMean()
+    {
+        if ( count == 0 )
+            return ( 0.0 );
+        
+        return ( (double)sum / (double)count );
+    }
+    
+    public final long getMax()
+    {
+        long max = 0L;
+        for ( int i = 0; i < count; i++ )
+        {
+            if ( samples[i] > max )
+                max = samples[i];
+        }
+        
+        return ( max );
+    }
+    
+    /**
+     * Gets the number of samples in the given bucket. Bucket 0 holds zeros, bucket b holds values in [2^(b-1), 2^b).
+     * 
+     * @param bucket the bucket index
+     * 
+     * @return the number of samples in the given bucket.
+     */
+    public final int getBucketCount( int bucket )
+    {
+        return ( buckets[bucket] );
+    }
+    
+    /**
+     * Gets an upper bound of the given percentile.
+     * 
+     * @param percentile the percentile in [0, 1]
+     * 
+     * @return an upper bound of the given percentile.
+     */
+    public final long getPercentile( float percentile )
+    {
+        if ( count == 0 )
+            return ( 0L );
+        
+        final int rank = Math.max( 1, (int)Math.ceil( percentile * count ) );
+        
+        int n = 0;
+        for ( int b = 0; b < NUM_BUCKETS; b++ )
+        {
+            n += buckets[b];
+            
+            if ( n >= rank )
+            {
+                if ( b == 0 )
+                    return ( 0L );
+                
+                if ( b == NUM_BUCKETS - 1 )
+                    return ( getMax() );
+                
+                return ( Math.min( ( 1L << b ) - 1L, getMax() ) );
+            }
+        }
+        
+        return ( getMax() );
+    }
+    
+    public void clear()
+    {
+        position = 0;
+        count = 0;
+        sum = 0L;
+        
+        for ( int b = 0; b < NUM_BUCKETS; b++ )
+            buckets[b] = 0;
+    }
+    
+    /**
+     * Creates a new {@link RollingHistogram}.
+     * 
+     * @param windowSize the number of samples to keep
+     */
+    public RollingHistogram( int windowSize )
+    {
+        if ( windowSize < 1 )
+            throw new IllegalArgumentException( "windowSize must be greater than zero." );
+        
+        this.samples = new long[ windowSize ];
+    }
+}
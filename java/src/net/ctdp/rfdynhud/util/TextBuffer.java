@@ -0,0 +1,327 @@
+/**
+ * Copyright (C) 2009-2014 Cars and Tracks Development Project (CTDP).
+ * 
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+ */
+package net.ctdp.rfdynhud.util;
+
+/**
+ * A reusable, growable character buffer, that formats numbers without creating temporary objects.<br>
+ * Widgets keep instances of this class for their displayed texts and refill them on each update,
+ * so that no Strings are created per frame. As a {@link CharSequence} it can directly be passed to the DrawnString.
+ * 
+ * @author Marvin Froehlich (CTDP)
+ */
+public class TextBuffer implements CharSequence
+{
+    private static final char[] DIGITS = { '0', '1', '2', '3', '4', '5', '6', '7', '8', '9' };
+    
+    private char[] chars;
+    private int length = 0;
+    
+    /**
+     * Gets the backing array. Only the first {@link #length()} characters are valid.
+     * 
+     * @return the backing array.
+     */
+    public final char[] getChars()
+    {
+        return ( chars );
+    }
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public final int length()
+    {
+        return ( length );
+    }
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public final char charAt( int index )
+    {
+        if ( ( index < 0 ) || ( index >= length ) )
+            throw new IndexOutOfBoundsException( "index: " + index + ", length: " + length );
+        
+        return ( chars[index] );
+    }
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CharSequence subSequence( int start, int end )
+    {
+        if ( ( start < 0 ) || ( end > length ) || ( start > end ) )
+            throw new IndexOutOfBoundsException( "start: " + start + ", end: " + end + ", length: " + length );
+        
+        return ( new String( chars, start, end - start ) );
+    }
+    
+    private final void ensureCapacity( int minCapacity )
+    {
+        if ( chars.length < minCapacity )
+        {
+            char[] tmp = new char[ Math.max( minCapacity, chars.length * 2 ) ];
+            System.arraycopy( chars, 0, tmp, 0, length );
+            chars = tmp;
+        }
+    }
+    
+    /**
+     * Empties this buffer.
+     * 
+     * @return this instance for chaining.
+     */
+    public final TextBuffer clear()
+    {
+        length = 0;
+        
+        return ( this );
+    }
+    
+    /**
+     * Replaces the content of this buffer by the given characters.
+     * 
+     * @param s the new content (null for empty)
+     * 
+     * @return this instance for chaining.
+     */
+    public final TextBuffer set( CharSequence s )
+    {
+        length = 0;
+        
+        return ( append( s ) );
+    }
+    
+    public final TextBuffer append( char ch )
+    {
+        ensureCapacity( length + 1 );
+        
+        chars[length++] = ch;
+        
+        return ( this );
+    }
+    
+    /**
+     * Appends the given characters. <code>null</code> appends nothing.
+     * 
+     * @param s the characters to append
+     * 
+     * @return this instance for chaining.
+     */
+    public final TextBuffer append( CharSequence s )
+    {
+        if ( s == null )
+            return ( this );
+        
+        final int n = s.length();
+        
+        ensureCapacity( length + n );
+        
+        if ( s instanceof String )
+        {
+            ( (String)s ).getChars( 0, n, chars, length );
+        }
+        else if ( s instanceof TextBuffer )
+        {
+            System.arraycopy( ( (TextBuffer)s ).chars, 0, chars, length, n );
+        }
+        else
+        {
+            for ( int i = 0; i < n; i++ )
+                chars[length + i] = s.charAt( i );
+        }
+        
+        length += n;
+        
+        return ( this );
+    }
+    
+    /**
+     * Appends the decimal representation of the given value, padded with leading zeros to the given number of digits.
+     * 
+     * @param value the value to append
+     * @param minDigits the minimum number of digits (not counting the sign)
+     * 
+     * @return this instance for chaining.
+     */
+    public final TextBuffer appendPadded( long value, int minDigits )
+    {
+        if ( value < 0L )
+        {
+            if ( value == Long.MIN_VALUE )
+                return ( append( String.valueOf( value ) ) );
+            
+            append( '-' );
+            value = -value;
+        }
+        
+        int numDigits = 1;
+        for ( long v = value / 10L; v > 0L; v /= 10L )
+            numDigits++;
+        
+        final int n = Math.max( numDigits, minDigits );
+        
+        ensureCapacity( length + n );
+        
+        int pos = length + n;
+        for ( int i = 0; i < n; i++ )
+        {
+            chars[--pos] = DIGITS[(int)( value % 10L )];
+            value /= 10L;
+        }
+        
+        length += n;
+        
+        return ( this );
+    }
+    
+    public final TextBuffer append( long value )
+    {
+        return ( appendPadded( value, 1 ) );
+    }
+    
+    public final TextBuffer append( int value )
+    {
+        return ( appendPadded( value, 1 ) );
+    }
+    
+    /**
+     * Checks, whether this buffer holds the same characters as the given sequence.
+     * 
+     * @param s the sequence to compare to
+     * 
+     * @return whether this buffer holds the same characters as the given sequence.
+     */
+    public final boolean contentEquals( CharSequence s )
+    {
+        if ( ( s == null ) || ( s.length() != length ) )
+            return ( false );
+        
+        for ( int i = 0; i < length; i++ )
+        {
+            if ( chars[i] != s.charAt( i ) )
+                return ( false );
+        }
+        
+        return ( true );
+    }
+    
+    /**
+     * Checks two character sequences for equal content. Both may be <code>null</code>.
+     * 
+     * @param s1 the first sequence
+     * @param s2 the second sequence
+     * 
+     * @return whether both are <code>null</code> or hold the same characters.
+     */
+    public static boolean contentEquals( CharSequence s1, CharSequence s2 )
+    {
+        if ( s1 == s2 )
+            return ( true );
+        
+        if ( ( s1 == null ) || ( s2 == null ) || ( s1.length() != s2.length() ) )
+            return ( false );
+        
+        for ( int i = 0; i < s1.length(); i++ )
+        {
+            if ( s1.charAt( i ) != s2.charAt( i ) )
+                return ( false );
+        }
+        
+        return ( true );
+    }
+    
+    /**
+     * Checks two rows of character sequences for equal content (like {@link java.util.Arrays#equals(Object[], Object[])}).
+     * 
+     * @param row1 the first row
+     * @param row2 the second row
+     * 
+     * @return whether both rows have the same length and all cells hold the same characters.
+     */
+    public static boolean contentEquals( CharSequence[] row1, CharSequence[] row2 )
+    {
+        if ( row1 == row2 )
+            return ( true );
+        
+        if ( ( row1 == null ) || ( row2 == null ) || ( row1.length != row2.length ) )
+            return ( false );
+        
+        for ( int i = 0; i < row1.length; i++ )
+        {
+            if ( !contentEquals( row1[i], row2[i] ) )
+                return ( false );
+        }
+        
+        return ( true );
+    }
+    
+    /**
+     * Copies the content of a row of character sequences into the given buffers, so that it can later be compared to a changed row.
+     * <code>null</code> cells stay <code>null</code> in the copy.
+     * 
+     * @param src the row to copy
+     * @param buffers the buffers to copy to (at least as many as cells in the row)
+     * @param dst the row to write the buffers to (at least as many as cells in the row)
+     */
+    public static void copyContent( CharSequence[] src, TextBuffer[] buffers, CharSequence[] dst )
+    {
+        for ( int i = 0; i < src.length; i++ )
+            dst[i] = ( src[i] == null ) ? null : buffers[i].set( src[i] );
+    }
+    
+    /**
+     * Creates an array of empty buffers.
+     * 
+     * @param n the number of buffers
+     * 
+     * @return the new buffers.
+     */
+    public static TextBuffer[] createArray( int n )
+    {
+        TextBuffer[] buffers = new TextBuffer[ n ];
+        
+        for ( int i = 0; i < n; i++ )
+            buffers[i] = new TextBuffer();
+        
+        return ( buffers );
+    }
+    
+    /**
+     * {@inheritDoc}
+     * This creates a new String.
+     */
+    @Override
+    public String toString()
+    {
+        return ( new String( chars, 0, length ) );
+    }
+    
+    public TextBuffer( int initialCapacity )
+    {
+        this.chars = new char[ Math.max( 1, initialCapacity ) ];
+    }
+    
+    public TextBuffer()
+    {
+        this( 16 );
+    }
+}
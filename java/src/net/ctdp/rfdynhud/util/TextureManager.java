@@ -22,6 +22,9 @@ import java.awt.Graphics2D;
 import java.awt.image.BufferedImage;
 import java.io.File;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
 
 import javax.imageio.ImageIO;
 
@@ -73,7 +76,7 @@ public class TextureManager
         return ( bi );
     }
     
-    public static final ImageTemplate getMissingImage()
+    public static final synchronized ImageTemplate getMissingImage()
     {
         if ( MISSING_IMAGE == null )
         {
@@ -83,19 +86,224 @@ public class TextureManager
         return ( MISSING_IMAGE );
     }
     
-    private static final ImageCache cache = new DefaultImageCache();
+    private static final DefaultImageCache cache = new DefaultImageCache();
+    static
+    {
+        cache.setMaxSize( __UtilHelper.PLUGIN_INI.getRenderingImageCacheSize() * 1024L * 1024L );
+    }
+    
+    private static long numDecodedImages = 0L;
+    private static long totalDecodeTime = 0L;
+    
+    private static final HashSet<String> pendingImages = new HashSet<String>();
+    private static ImagePrefetcher prefetcher = null;
+    private static long totalPrefetchWaitTime = 0L;
+    
+    /**
+     * Gets the cache, that keeps the decoded images.
+     * 
+     * @return the image cache.
+     */
+    public static final DefaultImageCache getImageCache()
+    {
+        return ( cache );
+    }
+    
+    /**
+     * Gets the number of image files decoded so far.
+     * 
+     * @return the number of image files decoded so far.
+     */
+    public static final long getNumDecodedImages()
+    {
+        return ( numDecodedImages );
+    }
     
-    public static ImageTemplate getImage( String name, boolean useCache )
+    /**
+     * Gets the total time in nanoseconds spent in decoding image files.
+     * 
+     * @return the total decode time in nanoseconds.
+     */
+    public static final long getTotalDecodeTime()
+    {
+        return ( totalDecodeTime );
+    }
+    
+    /**
+     * Gets the total time in nanoseconds, that {@link #getImage(String, boolean)} had to wait for images being prefetched.
+     * 
+     * @return the total prefetch wait time in nanoseconds.
+     */
+    public static final long getTotalPrefetchWaitTime()
+    {
+        return ( totalPrefetchWaitTime );
+    }
+    
+    /**
+     * Unpins all cached images. This is called, when a configuration is about to be loaded.
+     * All images requested afterwards are pinned again, so the ones used by the new configuration
+     * cannot be dropped, while the ones only used by the old configuration become the first candidates.
+     */
+    public static synchronized void unpinAllImages()
+    {
+        if ( numDecodedImages > 0L )
+            RFDHLog.debug( "Image cache: ", cache.getNumEntries(), " images, ", ( cache.getSize() / 1024L ), " KB, ", cache.getNumHits(), " hits, ", cache.getNumMisses(), " misses, ", cache.getNumEvictions(), " evictions, ", numDecodedImages, " images decoded in ", ( totalDecodeTime / 1000000L ), " ms, ", ( totalPrefetchWaitTime / 1000000L ), " ms waited for prefetched images" );
+        
+        cache.unpinAll();
+    }
+    
+    private static final String normalizeImageName( String name )
     {
         if ( File.separatorChar != '/' )
             name = name.replace( '/', File.separatorChar );
         if ( File.separatorChar != '\\' )
             name = name.replace( '\\', File.separatorChar );
         
+        return ( name );
+    }
+    
+    private static final File getImageFile( String name )
+    {
         File f = new File( name );
         if ( !f.isAbsolute() )
             f = new File( __UtilHelper.imagesFolder, name );
         
+        return ( f );
+    }
+    
+    /**
+     * Reads and decodes the given image file and records the decode time.
+     * This method doesn't need the lock and is called by the prefetch threads as well.
+     */
+    static BufferedImage decodeImage( File f, String name ) throws IOException
+    {
+        final long t0 = System.nanoTime();
+        
+        BufferedImage image = ImageIO.read( f );
+        
+        final long decodeTime = System.nanoTime() - t0;
+        
+        synchronized ( TextureManager.class )
+        {
+            numDecodedImages++;
+            totalDecodeTime += decodeTime;
+        }
+        
+        RFDHLog.profile( "Decoded image \"", name, "\" in ", ( decodeTime / 1000L ), " us." );
+        
+        return ( image );
+    }
+    
+    /**
+     * Starts decoding the given images in the background, if they are not already cached.
+     * {@link #getImage(String, boolean)} waits for images, that are currently being decoded.
+     * 
+     * @param names the image names
+     */
+    static synchronized void prefetchImages( Collection<String> names )
+    {
+        int numThreads = __UtilHelper.PLUGIN_INI.getRenderingImagePrefetchThreads();
+        if ( numThreads < 0 )
+            numThreads = Math.min( Runtime.getRuntime().availableProcessors(), ImagePrefetcher.MAX_THREADS );
+        
+        if ( numThreads == 0 )
+            return;
+        
+        if ( ( prefetcher != null ) && ( prefetcher.getNumThreads() != numThreads ) )
+        {
+            prefetcher.shutdown();
+            prefetcher = null;
+        }
+        
+        if ( prefetcher == null )
+            prefetcher = new ImagePrefetcher( numThreads );
+        
+        ArrayList<String> todoNames = new ArrayList<String>();
+        ArrayList<File> todoFiles = new ArrayList<File>();
+        
+        for ( String name : names )
+        {
+            name = normalizeImageName( name );
+            
+            if ( pendingImages.contains( name ) )
+                continue;
+            
+            File f = getImageFile( name );
+            
+            if ( !f.exists() )
+                continue;
+            
+            cache.check( name, f.lastModified() );
+            
+            if ( cache.contains( name ) )
+            {
+                cache.pin( name );
+                continue;
+            }
+            
+            pendingImages.add( name );
+            todoNames.add( name );
+            todoFiles.add( f );
+        }
+        
+        if ( todoNames.size() > 0 )
+            prefetcher.prefetch( todoNames, todoFiles );
+    }
+    
+    /**
+     * Called by the prefetch threads, when an image has been decoded.
+     * 
+     * @param name the normalized image name
+     * @param lastModified the image file's last modified timestamp
+     * @param template the decoded image or <code>null</code>, if it couldn't be read. In that case {@link #getImage(String, boolean)} tries again and reports the error.
+     */
+    static synchronized void onImagePrefetched( String name, long lastModified, ImageTemplate template )
+    {
+        if ( template != null )
+        {
+            cache.add( name, lastModified, template, true );
+        }
+        
+        pendingImages.remove( name );
+        
+        TextureManager.class.notifyAll();
+    }
+    
+    private static void waitForPrefetchedImage( String name )
+    {
+        if ( !pendingImages.contains( name ) )
+            return;
+        
+        final long t0 = System.nanoTime();
+        boolean interrupted = false;
+        
+        while ( pendingImages.contains( name ) )
+        {
+            try
+            {
+                TextureManager.class.wait();
+            }
+            catch ( InterruptedException e )
+            {
+                interrupted = true;
+            }
+        }
+        
+        totalPrefetchWaitTime += System.nanoTime() - t0;
+        
+        if ( interrupted )
+            Thread.currentThread().interrupt();
+    }
+    
+    public static synchronized ImageTemplate getImage( String name, boolean useCache )
+    {
+        name = normalizeImageName( name );
+        
+        if ( useCache )
+            waitForPrefetchedImage( name );
+        
+        File f = getImageFile( name );
+        
         ImageTemplate template = null;
         
         if ( !f.exists() )
@@ -112,7 +320,7 @@ public class TextureManager
                     template = getMissingImage();
                     
                     cache.remove( name );
-                    cache.add( name, 0, template );
+                    cache.add( name, 0, template, true );
                 }
             }
             else
@@ -135,6 +343,8 @@ public class TextureManager
         {
             if ( template != getMissingImage() )
             {
+                cache.pin( name );
+                
                 return ( template );
             }
             
@@ -148,7 +358,7 @@ public class TextureManager
         
         try
         {
-            image = ImageIO.read( f );
+            image = decodeImage( f, name );
         }
         catch ( IOException e )
         {
@@ -159,7 +369,9 @@ public class TextureManager
         template = new ImageTemplate( name, image );
         
         if ( useCache )
-            cache.add( name, f.lastModified(), template );
+        {
+            cache.add( name, f.lastModified(), template, true );
+        }
         
         return ( template );
     }
@@ -169,12 +381,11 @@ public class TextureManager
         return ( getImage( name, true ) );
     }
     
-    public static void removeImageFromCache( String name )
+    public static synchronized void removeImageFromCache( String name )
     {
-        if ( File.separatorChar != '/' )
-            name = name.replace( '/', File.separatorChar );
-        if ( File.separatorChar != '\\' )
-            name = name.replace( '\\', File.separatorChar );
+        name = normalizeImageName( name );
+        
+        waitForPrefetchedImage( name );
         
         cache.remove( name );
         //biCache.remove( name );
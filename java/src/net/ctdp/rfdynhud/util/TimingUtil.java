@@ -24,48 +24,37 @@ package net.ctdp.rfdynhud.util;
  */
 public class TimingUtil
 {
-    private static final String pad2( int i )
+    private static final ThreadLocal<TextBuffer> tmpBuffer = new ThreadLocal<TextBuffer>()
     {
-        if ( i >= 10 )
-            return ( String.valueOf( i ) );
-        
-        return ( "0" + String.valueOf( i ) );
-    }
-    
-    private static final String pad3( int i )
-    {
-        if ( i >= 100 )
-            return ( String.valueOf( i ) );
-        
-        if ( i >= 10 )
-            return ( "0" + String.valueOf( i ) );
-        
-        return ( "00" + String.valueOf( i ) );
-    }
+        @Override
+        protected TextBuffer initialValue()
+        {
+            return ( new TextBuffer( 16 ) );
+        }
+    };
     
     /**
-     * Gets a formatted String from the given seconds.
+     * Appends a formatted time from the given seconds to the given buffer.
      * 
      * @param seconds the seconds to format to a time string
      * @param forceAllFields show hours or minutes, even, if they are all zero?
      * @param padHighest if true, the highest displayed field (i.e. hours or minuts) will be padded with a zero
      * @param showMillis show milli seconds?
      * @param showFullMillis whether to show full milliseconds or just the tenths
+     * @param buffer the buffer to append to
      * 
-     * @return a formatted String from the given seconds.
+     * @return the passed buffer.
      */
-    public static String getTimeAsString( float seconds, boolean forceAllFields, boolean padHighest, boolean showMillis, boolean showFullMillis )
+    public static TextBuffer appendTimeAsString( float seconds, boolean forceAllFields, boolean padHighest, boolean showMillis, boolean showFullMillis, TextBuffer buffer )
     {
         if ( showMillis )
             seconds = Math.round( seconds * 1000f ) / 1000f;
         else
             seconds = Math.round( seconds );
         
-        String str = "";
-        
         if ( seconds < 0 )
         {
-            str += "-";
+            buffer.append( '-' );
             seconds *= -1f;
         }
         
@@ -73,40 +62,73 @@ public class TimingUtil
         
         if ( ( hours > 0 ) || forceAllFields )
         {
-            if ( padHighest )
-                str += pad2( hours ) + ":";
-            else
-                str += String.valueOf( hours ) + ":";
+            buffer.appendPadded( hours, padHighest ? 2 : 1 ).append( ':' );
         }
         
         int minutes = (int)( ( seconds / 60f ) % 60f );
         
         if ( ( hours > 0 ) || ( minutes > 0 ) || forceAllFields )
         {
-            if ( ( hours > 0 ) || padHighest )
-                str += pad2( minutes ) + ":";
-            else
-                str += minutes + ":";
+            buffer.appendPadded( minutes, ( ( hours > 0 ) || padHighest ) ? 2 : 1 ).append( ':' );
         }
         
         int restSeconds = showMillis ? (int)( seconds % 60f ) : Math.round( seconds % 60f );
         
-        if ( ( hours > 0 ) || ( minutes > 0 ) || padHighest )
-            str += pad2( restSeconds );
-        else
-            str += String.valueOf( restSeconds );
+        buffer.appendPadded( restSeconds, ( ( hours > 0 ) || ( minutes > 0 ) || padHighest ) ? 2 : 1 );
         
         if ( showMillis )
         {
             int millis = showFullMillis ? ( Math.round( seconds * 1000f ) % 1000 ) : ( Math.round( seconds * 10f ) % 10 );
             
-            if ( showFullMillis )
-                str += "." + pad3( millis );
-            else
-                str += "." + String.valueOf( millis );
+            buffer.append( '.' ).appendPadded( millis, showFullMillis ? 3 : 1 );
         }
         
-        return ( str );
+        return ( buffer );
+    }
+    
+    /**
+     * Appends a formatted lap time from the given seconds to the given buffer (like {@link #getTimeAsLaptimeString(float)}).
+     * 
+     * @param seconds the seconds to format to a time string
+     * @param buffer the buffer to append to
+     * 
+     * @return the passed buffer.
+     */
+    public static TextBuffer appendTimeAsLaptimeString( float seconds, TextBuffer buffer )
+    {
+        return ( appendTimeAsString( seconds, false, false, true, true, buffer ) );
+    }
+    
+    /**
+     * Appends a formatted gap from the given seconds to the given buffer (like {@link #getTimeAsGapString(float)}).
+     * 
+     * @param seconds the seconds to format to a time string
+     * @param buffer the buffer to append to
+     * 
+     * @return the passed buffer.
+     */
+    public static TextBuffer appendTimeAsGapString( float seconds, TextBuffer buffer )
+    {
+        if ( seconds >= 0f )
+            buffer.append( '+' );
+        
+        return ( appendTimeAsString( seconds, false, false, true, true, buffer ) );
+    }
+    
+    /**
+     * Gets a formatted String from the given seconds.
+     * 
+     * @param seconds the seconds to format to a time string
+     * @param forceAllFields show hours or minutes, even, if they are all zero?
+     * @param padHighest if true, the highest displayed field (i.e. hours or minuts) will be padded with a zero
+     * @param showMillis show milli seconds?
+     * @param showFullMillis whether to show full milliseconds or just the tenths
+     * 
+     * @return a formatted String from the given seconds.
+     */
+    public static String getTimeAsString( float seconds, boolean forceAllFields, boolean padHighest, boolean showMillis, boolean showFullMillis )
+    {
+        return ( appendTimeAsString( seconds, forceAllFields, padHighest, showMillis, showFullMillis, tmpBuffer.get().clear() ).toString() );
     }
     
     /**
@@ -165,9 +187,6 @@ public class TimingUtil
     
     public static String getTimeAsGapString( float seconds )
     {
-        if ( seconds >= 0f )
-            return ( "+" + getTimeAsString( seconds, false, false, true ) );
-        
-        return ( getTimeAsString( seconds, false, false, true ) );
+        return ( appendTimeAsGapString( seconds, tmpBuffer.get().clear() ).toString() );
     }
 }
@@ -42,6 +42,7 @@ import net.ctdp.rfdynhud.properties.PropertiesContainer;
 import net.ctdp.rfdynhud.properties.PropertiesKeeper;
 import net.ctdp.rfdynhud.properties.Property;
 import net.ctdp.rfdynhud.properties.PropertyLoader;
+import net.ctdp.rfdynhud.render.TextMetricsCache;
 import net.ctdp.rfdynhud.util.FontUtils;
 import net.ctdp.rfdynhud.util.PropertyWriter;
 import net.ctdp.rfdynhud.util.WidgetZYXComparator;
@@ -399,7 +400,12 @@ public class WidgetsConfiguration implements PropertiesKeeper
             
             if ( virtual == Boolean.TRUE )
             {
-                fontMap.put( name, FontUtils.parseFont( fontStringMap.get( name ), gameResolution.getViewportHeight(), false, true ) );
+                Font font = FontUtils.parseFont( fontStringMap.get( name ), gameResolution.getViewportHeight(), false, true );
+                Font oldFont = fontMap.put( name, font );
+                
+                // The font has been rescaled. So the metrics of the old size are not needed anymore.
+                if ( ( oldFont != null ) && !oldFont.equals( font ) )
+                    TextMetricsCache.invalidate( oldFont );
             }
         }
         
@@ -679,6 +685,9 @@ public class WidgetsConfiguration implements PropertiesKeeper
         
         Font oldFont = this.fontMap.put( name, font );
         this.fontStringMap.put( name, fontStr );
+        
+        if ( ( oldFont != null ) && !oldFont.equals( font ) )
+            TextMetricsCache.invalidate( oldFont );
         Boolean oldVirt = this.fontVirtualMap.put( name, virtual );
         
         return ( !font.equals( oldFont ) || !oldVirt.equals( virtual ) );
@@ -44,6 +44,7 @@ import net.ctdp.rfdynhud.render.DrawnString;
 import net.ctdp.rfdynhud.render.DrawnString.Alignment;
 import net.ctdp.rfdynhud.render.DrawnStringFactory;
 import net.ctdp.rfdynhud.render.ImageTemplate;
+import net.ctdp.rfdynhud.render.NeedleSpriteCache;
 import net.ctdp.rfdynhud.render.Texture2DCanvas;
 import net.ctdp.rfdynhud.render.TextureImage2D;
 import net.ctdp.rfdynhud.render.TransformableTexture;
@@ -393,6 +394,8 @@ public abstract class NeedleMeterWidget extends Widget
             needleTexture = it.getScaledTransformableTexture( w, h, needleTexture, isEditorMode );
             
             needleTexture.setLocalZIndex( NEEDLE_LOCAL_Z_INDEX );
+            needleTexture.setRotationSpritesEnabled( true );
+            NeedleSpriteCache.invalidate( needleTexture );
         }
         catch ( Throwable t )
         {
@@ -36,6 +36,7 @@ import net.ctdp.rfdynhud.render.DrawnString;
 import net.ctdp.rfdynhud.render.DrawnString.Alignment;
 import net.ctdp.rfdynhud.render.DrawnStringFactory;
 import net.ctdp.rfdynhud.render.ImageTemplate;
+import net.ctdp.rfdynhud.render.NeedleSpriteCache;
 import net.ctdp.rfdynhud.render.Texture2DCanvas;
 import net.ctdp.rfdynhud.render.TextureImage2D;
 import net.ctdp.rfdynhud.render.TransformableTexture;
@@ -233,6 +234,8 @@ public abstract class AbstractRevNeedleMeterWidget extends NeedleMeterWidget
             peakNeedleTexture = it.getScaledTransformableTexture( w, h, peakNeedleTexture, isEditorMode );
             
             peakNeedleTexture.setLocalZIndex( PEAK_NEEDLE_LOCAL_Z_INDEX );
+            peakNeedleTexture.setRotationSpritesEnabled( true );
+            NeedleSpriteCache.invalidate( peakNeedleTexture );
         }
         catch ( Throwable t )
         {
@@ -104,10 +104,18 @@ public abstract class Widget implements Cloneable, PropertiesKeeper
     private boolean updatedVisible = true;
     private boolean visibilityChangedSinceLastDraw = true;
     private boolean needsCompleteRedraw = true;
+    private boolean lastDrawCompleteRedraw = false;
     private boolean needsCompleteClear = false;
     
+    private TextureImage2D staticLayer = null;
+    private boolean staticLayerValid = false;
+    
     private boolean initialized = false;
     
+    private long[] inputFingerprints = null;
+    private long numExecutedDraws = 0L;
+    private long numSkippedDraws = 0L;
+    
     private final Position position;
     private final Property positioningProperty;
     private final PosSizeProperty xProperty;
@@ -136,6 +144,7 @@ public abstract class Widget implements Cloneable, PropertiesKeeper
     }
     
     final boolean overridesDrawBackground = ClassUtil.overridesMethod( Widget.class, this.getClass(), "drawBackground", LiveGameData.class, boolean.class, TextureImage2D.class, int.class, int.class, int.class, int.class, boolean.class );
+    private final boolean overridesDrawStaticLayer = ClassUtil.overridesMethod( Widget.class, this.getClass(), "drawStaticLayer", LiveGameData.class, boolean.class, TextureImage2D.class, int.class, int.class, int.class, int.class );
     
     /**
      * This method is invoked when the background has changed.
@@ -305,6 +314,8 @@ public abstract class Widget implements Cloneable, PropertiesKeeper
      */
     protected void onSizeChanged( int oldWidth, int oldHeight, int newWidth, int newHeight )
     {
+        this.staticLayerValid = false;
+        
         if ( __EDPrivilegedAccess.editorClassLoader != null )
         {
             if ( getMasterWidget() == null )
@@ -605,6 +616,7 @@ public abstract class Widget implements Cloneable, PropertiesKeeper
         boolean changed = this.initialized;
         
         this.initialized = false;
+        this.staticLayerValid = false;
         
         if ( forwardCall && ( masterWidget != null ) )
             masterWidget.forceReinitialization( false );
@@ -1102,6 +1114,21 @@ public abstract class Widget implements Cloneable, PropertiesKeeper
         forceCompleteRedraw_( mergedBackgroundToo, true );
     }
     
+    /**
+     * Marks the retained static layer outdated and forces a complete redraw,
+     * so that {@link #drawStaticLayer(LiveGameData, boolean, TextureImage2D, int, int, int, int)} is invoked again.<br>
+     * Property and size changes do this automatically. Call it, if the static content depends on anything else.
+     */
+    protected final void invalidateStaticLayer()
+    {
+        this.staticLayerValid = false;
+        
+        if ( masterWidget != null )
+            masterWidget.invalidateStaticLayer();
+        
+        forceCompleteRedraw( false );
+    }
+    
     /**
      * This simply calls {@link #forceCompleteRedraw(boolean)}, {@link #forceReinitialization()} and {@link #setDirtyFlag()}.
      * This method must be called after a value has been changed, that requires a reinitialization of all positioned strings, etc.
@@ -1245,6 +1272,11 @@ public abstract class Widget implements Cloneable, PropertiesKeeper
         return ( result );
     }
     
+    final boolean wasLastDrawCompleteRedraw()
+    {
+        return ( lastDrawCompleteRedraw );
+    }
+    
     /**
      * Gets, whether this Widget has just been set invisible and its area hence needs to be cleared.
      * The flag is forced to false after this method has been called.
@@ -1274,6 +1306,130 @@ public abstract class Widget implements Cloneable, PropertiesKeeper
         return ( 0 );
     }
     
+    /**
+     * Gets the game data inputs, that this {@link Widget}'s drawWidget() method reads.<br>
+     * If this method returns a non <code>null</code> array, the drawing manager skips drawWidget() in game mode
+     * as long as none of the inputs has changed since the last draw and no complete redraw is pending.
+     * So a Widget, that declares its inputs, must draw changes immediately (or on {@link Clock#c()} ticks, if it overrides {@link #areDrawInputsClockGated()})
+     * and must not depend on any data, that is not covered by its inputs.<br>
+     * <br>
+     * The returned array should be the same for each call. The default returns <code>null</code> (always draw).
+     * 
+     * @see WidgetInput
+     * 
+     * @return the game data inputs or <code>null</code>.
+     */
+    public WidgetInput[] getDrawInputs()
+    {
+        return ( null );
+    }
+    
+    /**
+     * Gets, whether drawWidget() applies changes of the {@link #getDrawInputs() draw inputs} on {@link Clock#c()} ticks only.<br>
+     * If so, the drawing manager compares the inputs on these ticks only, so that a change, which occurs between two ticks, is still drawn on the next one.
+     * The default returns <code>false</code>.
+     * 
+     * @return whether the draw inputs are only applied on {@link Clock#c()} ticks.
+     */
+    protected boolean areDrawInputsClockGated()
+    {
+        return ( false );
+    }
+    
+    /**
+     * Checks, whether this {@link Widget} needs to be drawn in this frame and counts the draw as executed or skipped.
+     * 
+     * @param clock the clock
+     * @param gameData the live game data
+     * @param completeRedrawForced complete redraw forced?
+     * 
+     * @return <code>true</code>, if drawWidget() needs to be invoked.
+     */
+    final boolean checkDrawNeeded( Clock clock, LiveGameData gameData, boolean completeRedrawForced )
+    {
+        final WidgetInput[] inputs = getDrawInputs();
+        
+        if ( inputs == null )
+        {
+            numExecutedDraws++;
+            
+            return ( true );
+        }
+        
+        final VehicleScoringInfo viewedVSI = gameData.getScoringInfo().getViewedVehicleScoringInfo();
+        
+        boolean changed = completeRedrawForced || needsCompleteRedraw || !initialized || visibilityChangedSinceLastDraw;
+        
+        int numFingerprints = 1;
+        for ( int i = 0; i < inputs.length; i++ )
+            numFingerprints += inputs[i].getNumFingerprints();
+        
+        if ( ( inputFingerprints == null ) || ( inputFingerprints.length != numFingerprints ) )
+        {
+            inputFingerprints = new long[ numFingerprints ];
+            changed = true;
+        }
+        
+        if ( !changed && !clock.c() && areDrawInputsClockGated() )
+        {
+            numSkippedDraws++;
+            
+            return ( false );
+        }
+        
+        final long vsiFingerprint = ( viewedVSI == null ) ? Long.MIN_VALUE : viewedVSI.getDriverId();
+        
+        if ( inputFingerprints[0] != vsiFingerprint )
+        {
+            inputFingerprints[0] = vsiFingerprint;
+            changed = true;
+        }
+        
+        int k = 1;
+        for ( int i = 0; i < inputs.length; i++ )
+        {
+            final int n = inputs[i].getNumFingerprints();
+            
+            for ( int slot = 0; slot < n; slot++, k++ )
+            {
+                final long fingerprint = ( n == 1 ) ? inputs[i].getFingerprint( gameData, viewedVSI ) : inputs[i].getFingerprint( gameData, viewedVSI, slot );
+                
+                if ( inputFingerprints[k] != fingerprint )
+                {
+                    inputFingerprints[k] = fingerprint;
+                    changed = true;
+                }
+            }
+        }
+        
+        if ( changed )
+            numExecutedDraws++;
+        else
+            numSkippedDraws++;
+        
+        return ( changed );
+    }
+    
+    /**
+     * Gets the number of times, this {@link Widget} has been drawn in game mode.
+     * 
+     * @return the number of executed draws.
+     */
+    public final long getNumExecutedDraws()
+    {
+        return ( numExecutedDraws );
+    }
+    
+    /**
+     * Gets the number of times, drawing this {@link Widget} has been skipped in game mode, because none of its {@link #getDrawInputs() inputs} had changed.
+     * 
+     * @return the number of skipped draws.
+     */
+    public final long getNumSkippedDraws()
+    {
+        return ( numSkippedDraws );
+    }
+    
     /**
      * Gets the {@link Widget}'s {@link DrawnStringFactory}.
      * 
@@ -1582,6 +1738,13 @@ public abstract class Widget implements Cloneable, PropertiesKeeper
             return ( getMasterWidget().clearBackgroundRegion( texture, offsetX - effX, offsetY - effY, localX + effX, localY + effY, width, height, markDirty, dirtyRect ) );
         }
         
+        if ( staticLayerValid )
+        {
+            texture.clear( staticLayer, getBorder().getInnerLeftWidth() + localX, getBorder().getInnerTopHeight() + localY, width, height, offsetX + localX, offsetY + localY, markDirty, dirtyRect );
+            
+            return ( true );
+        }
+        
         final WidgetBackground background = getBackground();
         
         if ( background == null )
@@ -1665,6 +1828,27 @@ public abstract class Widget implements Cloneable, PropertiesKeeper
         }
     }
     
+    /**
+     * Override this method to draw static content (labels, headers, frames), that only changes with properties or size.<br>
+     * It is drawn once together with the border and background into a retained layer texture.
+     * Parts of an assembled Widget draw it directly onto their texture on each complete redraw instead.
+     * Complete redraws then simply copy this layer and the drawWidget() method only needs to draw the dynamic content.
+     * {@link #clearBackgroundRegion(TextureImage2D, int, int, int, int, int, int, boolean, Rect2i)} restores the static content, too.
+     * 
+     * @param gameData the live game data
+     * @param isEditorMode <code>true</code>, if the Editor is used for rendering instead of rFactor
+     * @param texture the layer texture to draw on
+     * @param offsetX the x-offset on the layer texture
+     * @param offsetY the y-offset on the layer texture
+     * @param width the inner width
+     * @param height the inner height
+     * 
+     * @see #invalidateStaticLayer()
+     */
+    protected void drawStaticLayer( LiveGameData gameData, boolean isEditorMode, TextureImage2D texture, int offsetX, int offsetY, int width, int height )
+    {
+    }
+    
     /**
      * You can use this method to directly draw static content onto your Widget's background.
      * Overriding this method makes the Widget use a background texture no matter, if the background is defined with a color only or an image.
@@ -1823,8 +2007,39 @@ public abstract class Widget implements Cloneable, PropertiesKeeper
             texCanvas.setClip( offsetX, offsetY, width, height );
         
         completeRedrawForced = needsCompleteRedraw() || completeRedrawForced;
+        this.lastDrawCompleteRedraw = completeRedrawForced;
+        
+        boolean drawStaticLayerDirectly = false;
         
-        if ( completeRedrawForced )
+        if ( completeRedrawForced && overridesDrawStaticLayer && ( texture != null ) && ( getMasterWidget() == null ) )
+        {
+            __RenderPrivilegedAccess.onWidgetCleared( drawnStringFactory );
+            
+            if ( ( background != null ) && background.updateMergedBackground( gameData, isEditorMode ) )
+                staticLayerValid = false;
+            
+            if ( !staticLayerValid || ( staticLayer.getWidth() != width ) || ( staticLayer.getHeight() != height ) )
+            {
+                staticLayer = TextureImage2D.getOrCreateDrawTexture( width, height, true, staticLayer, isEditorMode );
+                
+                Texture2DCanvas layerCanvas = staticLayer.getTextureCanvas();
+                layerCanvas.setClip( 0, 0, width, height );
+                staticLayer.clear( false, null );
+                
+                drawBorder( isEditorMode, getBorder(), staticLayer, 0, 0, width, height );
+                
+                if ( background != null )
+                    clearBackground( background, staticLayer, borderLW - getBorder().getPaddingLeft(), borderTH - getBorder().getPaddingTop(), width2 + getBorder().getPaddingLeft() + getBorder().getPaddingRight(), height2 + getBorder().getPaddingTop() + getBorder().getPaddingBottom() );
+                
+                layerCanvas.setClip( borderOLW, borderOTH, width - borderOLW - borderORW, height - borderOTH - borderOBH );
+                drawStaticLayer( gameData, isEditorMode, staticLayer, borderLW, borderTH, width2, height2 );
+                
+                staticLayerValid = true;
+            }
+            
+            texture.clear( staticLayer, 0, 0, width, height, offsetX, offsetY, true, null );
+        }
+        else if ( completeRedrawForced )
         {
             __RenderPrivilegedAccess.onWidgetCleared( drawnStringFactory );
             
@@ -1839,11 +2054,18 @@ public abstract class Widget implements Cloneable, PropertiesKeeper
                 
                 clearBackground( background, texture, offsetX2 - getBorder().getPaddingLeft(), offsetY2 - getBorder().getPaddingTop(), width2 + getBorder().getPaddingLeft() + getBorder().getPaddingRight(), height2 + getBorder().getPaddingTop() + getBorder().getPaddingBottom() );
             }
+            
+            // Parts of an assembled Widget have no layer of their own. So the static content is drawn directly.
+            staticLayerValid = false;
+            drawStaticLayerDirectly = overridesDrawStaticLayer && ( texture != null );
         }
         
         if ( texCanvas != null )
             texCanvas.setClip( offsetX + borderOLW, offsetY + borderOTH, width - borderOLW - borderORW, height - borderOTH - borderOBH );
         
+        if ( drawStaticLayerDirectly )
+            drawStaticLayer( gameData, isEditorMode, texture, offsetX2, offsetY2, width2, height2 );
+        
         drawWidget( clock, completeRedrawForced, gameData, isEditorMode, texture, offsetX2, offsetY2, width2, height2 );
         
         this.visibilityChangedSinceLastDraw = false;
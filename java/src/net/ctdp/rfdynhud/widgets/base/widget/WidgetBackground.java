@@ -269,8 +269,10 @@ public class WidgetBackground
      * 
      * @param gameData
      * @param isEditorMode
+     * 
+     * @return <code>true</code>, if the merged background texture has been redrawn.
      */
-    void updateMergedBackground( LiveGameData gameData, boolean isEditorMode )
+    boolean updateMergedBackground( LiveGameData gameData, boolean isEditorMode )
     {
         if ( mergedBgTexDirty )
         {
@@ -306,7 +308,11 @@ public class WidgetBackground
                     mergedBgTexDirty = false;
                 }
             }
+            
+            return ( mergedBackgroundTexture != null );
         }
+        
+        return ( false );
     }
     
     /**
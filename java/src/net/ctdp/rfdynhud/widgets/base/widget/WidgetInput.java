@@ -0,0 +1,545 @@
+/**
+ * Copyright (C) 2009-2014 Cars and Tracks Development Project (CTDP).
+ * 
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+ */
+package net.ctdp.rfdynhud.widgets.base.widget;
+
+import net.ctdp.rfdynhud.gamedata.DeviceLegalStatus;
+import net.ctdp.rfdynhud.gamedata.FinishStatus;
+import net.ctdp.rfdynhud.gamedata.GamePhase;
+import net.ctdp.rfdynhud.gamedata.IgnitionStatus;
+import net.ctdp.rfdynhud.gamedata.LiveGameData;
+import net.ctdp.rfdynhud.gamedata.PitState;
+import net.ctdp.rfdynhud.gamedata.ScoringInfo;
+import net.ctdp.rfdynhud.gamedata.SessionType;
+import net.ctdp.rfdynhud.gamedata.StatusFlag;
+import net.ctdp.rfdynhud.gamedata.TelemetryData;
+import net.ctdp.rfdynhud.gamedata.VehicleScoringInfo;
+import net.ctdp.rfdynhud.gamedata.WeatherInfo;
+import net.ctdp.rfdynhud.gamedata.Wheel;
+import net.ctdp.rfdynhud.gamedata.YellowFlagState;
+
+/**
+ * A piece of game data, that a {@link Widget} reads in its drawWidget() method.<br>
+ * Widgets declare their inputs through {@link Widget#getDrawInputs()}. The drawing manager then
+ * compares the fingerprints of all inputs with the ones of the last draw and skips the widget,
+ * if none of them has changed.<br>
+ * <br>
+ * Custom inputs simply extend this class and return a value, that changes whenever the read data changes.
+ * Inputs, that don't fit into one long, use several fingerprint slots, which are compared one by one.
+ * 
+ * @author Marvin Froehlich (CTDP)
+ */
+public abstract class WidgetInput
+{
+    private final String name;
+    private final int numFingerprints;
+    
+    public final String getName()
+    {
+        return ( name );
+    }
+    
+    /**
+     * Gets the number of fingerprint slots, this input's value is split into.
+     * 
+     * @return the number of fingerprint slots.
+     */
+    public final int getNumFingerprints()
+    {
+        return ( numFingerprints );
+    }
+    
+    /**
+     * Gets a fingerprint of the current value. Different values must result in different fingerprints.
+     * For inputs with several slots this is the fingerprint of the first slot.
+     * 
+     * @param gameData the live game data
+     * @param viewedVSI the currently viewed vehicle (respecting a widget controller). May be <code>null</code>.
+     * 
+     * @return a fingerprint of the current value.
+     */
+    public abstract long getFingerprint( LiveGameData gameData, VehicleScoringInfo viewedVSI );
+    
+    /**
+     * Gets the fingerprint of the given slot of the current value. Different values must result in a different fingerprint in at least one slot.
+     * The default returns {@link #getFingerprint(LiveGameData, VehicleScoringInfo)}. Inputs with several slots must override it.
+     * 
+     * @param gameData the live game data
+     * @param viewedVSI the currently viewed vehicle (respecting a widget controller). May be <code>null</code>.
+     * @param slot the slot index (0 to {@link #getNumFingerprints()} - 1)
+     * 
+     * @return a fingerprint of the given slot.
+     */
+    public long getFingerprint( LiveGameData gameData, VehicleScoringInfo viewedVSI, int slot )
+    {
+        return ( getFingerprint( gameData, viewedVSI ) );
+    }
+    
+    protected static final long fingerprint( float value )
+    {
+        return ( Float.floatToIntBits( value ) & 0xFFFFFFFFL );
+    }
+    
+    /**
+     * Packs the bit patterns of both values into one fingerprint.
+     * 
+     * @param value1 the first value (high bits)
+     * @param value2 the second value (low bits)
+     * 
+     * @return an exact fingerprint of both values.
+     */
+    protected static final long fingerprint( float value1, float value2 )
+    {
+        return ( ( fingerprint( value1 ) << 32 ) | fingerprint( value2 ) );
+    }
+    
+    /**
+     * Gets the fingerprint of an enum value. This is <code>ordinal() + 1</code> and <code>0</code> for <code>null</code>,
+     * so it never exceeds the bits needed for the enum's number of constants plus one.
+     * 
+     * @param value the value
+     * 
+     * @return the enum value's fingerprint.
+     */
+    protected static final long fingerprint( Enum<?> value )
+    {
+        return ( ( value == null ) ? 0L : value.ordinal() + 1 );
+    }
+    
+    private static void checkSlotWidth( Enum<?>[] values, int bits )
+    {
+        if ( values.length >= ( 1 << bits ) )
+            throw new IllegalStateException( values.getClass().getComponentType().getSimpleName() + " doesn't fit into its " + bits + " bit fingerprint slot." );
+    }
+    
+    static
+    {
+        checkSlotWidth( DeviceLegalStatus.values(), 4 );
+        checkSlotWidth( IgnitionStatus.values(), 4 );
+        checkSlotWidth( SessionType.values(), 8 );
+        checkSlotWidth( GamePhase.values(), 8 );
+        checkSlotWidth( YellowFlagState.values(), 8 );
+        checkSlotWidth( PitState.values(), 4 );
+        checkSlotWidth( FinishStatus.values(), 4 );
+        checkSlotWidth( StatusFlag.values(), 4 );
+    }
+    
+    protected static final long fingerprint( boolean value )
+    {
+        return ( value ? 1L : 0L );
+    }
+    
+    @Override
+    public String toString()
+    {
+        return ( name );
+    }
+    
+    protected WidgetInput( String name, int numFingerprints )
+    {
+        if ( numFingerprints < 1 )
+            throw new IllegalArgumentException( "numFingerprints must be at least 1." );
+        
+        this.name = name;
+        this.numFingerprints = numFingerprints;
+    }
+    
+    protected WidgetInput( String name )
+    {
+        this( name, 1 );
+    }
+    
+    private static abstract class TelemetryInput extends WidgetInput
+    {
+        protected abstract long getFingerprint( TelemetryData telemData, int slot );
+        
+        @Override
+        public final long getFingerprint( LiveGameData gameData, VehicleScoringInfo viewedVSI )
+        {
+            return ( getFingerprint( gameData.getTelemetryData(), 0 ) );
+        }
+        
+        @Override
+        public final long getFingerprint( LiveGameData gameData, VehicleScoringInfo viewedVSI, int slot )
+        {
+            return ( getFingerprint( gameData.getTelemetryData(), slot ) );
+        }
+        
+        TelemetryInput( String name, int numFingerprints )
+        {
+            super( name, numFingerprints );
+        }
+        
+        TelemetryInput( String name )
+        {
+            super( name );
+        }
+    }
+    
+    private static abstract class ScoringInput extends WidgetInput
+    {
+        protected abstract long getFingerprint( ScoringInfo scoringInfo );
+        
+        @Override
+        public final long getFingerprint( LiveGameData gameData, VehicleScoringInfo viewedVSI )
+        {
+            return ( getFingerprint( gameData.getScoringInfo() ) );
+        }
+        
+        ScoringInput( String name )
+        {
+            super( name );
+        }
+    }
+    
+    private static abstract class WeatherInput extends WidgetInput
+    {
+        protected abstract long getFingerprint( WeatherInfo weatherInfo, int slot );
+        
+        @Override
+        public final long getFingerprint( LiveGameData gameData, VehicleScoringInfo viewedVSI )
+        {
+            return ( getFingerprint( gameData.getWeatherInfo(), 0 ) );
+        }
+        
+        @Override
+        public final long getFingerprint( LiveGameData gameData, VehicleScoringInfo viewedVSI, int slot )
+        {
+            return ( getFingerprint( gameData.getWeatherInfo(), slot ) );
+        }
+        
+        WeatherInput( String name, int numFingerprints )
+        {
+            super( name, numFingerprints );
+        }
+    }
+    
+    private static abstract class VSIInput extends WidgetInput
+    {
+        protected abstract long getFingerprint( VehicleScoringInfo vsi );
+        
+        @Override
+        public final long getFingerprint( LiveGameData gameData, VehicleScoringInfo viewedVSI )
+        {
+            if ( viewedVSI == null )
+                return ( Long.MIN_VALUE );
+            
+            return ( getFingerprint( viewedVSI ) );
+        }
+        
+        VSIInput( String name )
+        {
+            super( name );
+        }
+    }
+    
+    /**
+     * Changes with every telemetry update. This is the fine grained equivalent of {@link Widget#NEEDED_DATA_TELEMETRY}.
+     */
+    public static final WidgetInput TELEMETRY_UPDATE = new TelemetryInput( "TELEMETRY_UPDATE" )
+    {
+        @Override
+        protected long getFingerprint( TelemetryData telemData, int slot )
+        {
+            return ( telemData.getUpdateId() );
+        }
+    };
+    
+    public static final WidgetInput TELEMETRY_ENGINE_RPM = new TelemetryInput( "TELEMETRY_ENGINE_RPM" )
+    {
+        @Override
+        protected long getFingerprint( TelemetryData telemData, int slot )
+        {
+            return ( fingerprint( telemData.getEngineRPM() ) );
+        }
+    };
+    
+    public static final WidgetInput TELEMETRY_ENGINE_MAX_RPM = new TelemetryInput( "TELEMETRY_ENGINE_MAX_RPM" )
+    {
+        @Override
+        protected long getFingerprint( TelemetryData telemData, int slot )
+        {
+            return ( fingerprint( telemData.getEngineMaxRPM() ) );
+        }
+    };
+    
+    public static final WidgetInput TELEMETRY_ENGINE_BOOST_MAPPING = new TelemetryInput( "TELEMETRY_ENGINE_BOOST_MAPPING" )
+    {
+        @Override
+        protected long getFingerprint( TelemetryData telemData, int slot )
+        {
+            return ( ( (long)telemData.getEngineBoostMapping() << 32 ) | ( telemData.getEffectiveEngineBoostMapping() & 0xFFFFFFFFL ) );
+        }
+    };
+    
+    public static final WidgetInput TELEMETRY_GEAR = new TelemetryInput( "TELEMETRY_GEAR" )
+    {
+        @Override
+        protected long getFingerprint( TelemetryData telemData, int slot )
+        {
+            return ( telemData.getCurrentGear() );
+        }
+    };
+    
+    public static final WidgetInput TELEMETRY_VELOCITY = new TelemetryInput( "TELEMETRY_VELOCITY" )
+    {
+        @Override
+        protected long getFingerprint( TelemetryData telemData, int slot )
+        {
+            return ( fingerprint( telemData.getScalarVelocityMS() ) );
+        }
+    };
+    
+    public static final WidgetInput TELEMETRY_FUEL = new TelemetryInput( "TELEMETRY_FUEL" )
+    {
+        @Override
+        protected long getFingerprint( TelemetryData telemData, int slot )
+        {
+            return ( fingerprint( telemData.getFuelL() ) );
+        }
+    };
+    
+    public static final WidgetInput TELEMETRY_ENGINE_TEMPERATURES = new TelemetryInput( "TELEMETRY_ENGINE_TEMPERATURES" )
+    {
+        @Override
+        protected long getFingerprint( TelemetryData telemData, int slot )
+        {
+            return ( fingerprint( telemData.getEngineWaterTemperatureC(), telemData.getEngineOilTemperatureC() ) );
+        }
+    };
+    
+    /**
+     * Unfiltered throttle, brake, clutch and steering.
+     */
+    public static final WidgetInput TELEMETRY_CONTROLS = new TelemetryInput( "TELEMETRY_CONTROLS", 2 )
+    {
+        @Override
+        protected long getFingerprint( TelemetryData telemData, int slot )
+        {
+            if ( slot == 0 )
+                return ( fingerprint( telemData.getUnfilteredThrottle(), telemData.getUnfilteredBrake() ) );
+            
+            return ( fingerprint( telemData.getUnfilteredClutch(), telemData.getUnfilteredSteering() ) );
+        }
+    };
+    
+    /**
+     * Speed limiter, flaps and ignition.
+     */
+    public static final WidgetInput TELEMETRY_DEVICE_STATES = new TelemetryInput( "TELEMETRY_DEVICE_STATES" )
+    {
+        @Override
+        protected long getFingerprint( TelemetryData telemData, int slot )
+        {
+            long fp = fingerprint( telemData.isSpeedLimiterOn() );
+            fp = ( fp << 1 ) | fingerprint( telemData.isFrontFlapActivated() );
+            fp = ( fp << 1 ) | fingerprint( telemData.isRearFlapActivated() );
+            fp = ( fp << 4 ) | fingerprint( telemData.getFrontFlapLegalStatus() );
+            fp = ( fp << 4 ) | fingerprint( telemData.getRearFlapLegalStatus() );
+            fp = ( fp << 4 ) | fingerprint( telemData.getIgnitionStatus() );
+            
+            return ( fp );
+        }
+    };
+    
+    public static final WidgetInput TELEMETRY_RIDE_HEIGHTS = new TelemetryInput( "TELEMETRY_RIDE_HEIGHTS", 2 )
+    {
+        @Override
+        protected long getFingerprint( TelemetryData telemData, int slot )
+        {
+            if ( slot == 0 )
+                return ( fingerprint( telemData.getRideHeight( Wheel.FRONT_LEFT ), telemData.getRideHeight( Wheel.FRONT_RIGHT ) ) );
+            
+            return ( fingerprint( telemData.getRideHeight( Wheel.REAR_LEFT ), telemData.getRideHeight( Wheel.REAR_RIGHT ) ) );
+        }
+    };
+    
+    public static final WidgetInput TELEMETRY_BRAKE_TEMPERATURES = new TelemetryInput( "TELEMETRY_BRAKE_TEMPERATURES", 2 )
+    {
+        @Override
+        protected long getFingerprint( TelemetryData telemData, int slot )
+        {
+            if ( slot == 0 )
+                return ( fingerprint( telemData.getBrakeTemperatureC( Wheel.FRONT_LEFT ), telemData.getBrakeTemperatureC( Wheel.FRONT_RIGHT ) ) );
+            
+            return ( fingerprint( telemData.getBrakeTemperatureC( Wheel.REAR_LEFT ), telemData.getBrakeTemperatureC( Wheel.REAR_RIGHT ) ) );
+        }
+    };
+    
+    public static final WidgetInput TELEMETRY_TIRE_PRESSURES = new TelemetryInput( "TELEMETRY_TIRE_PRESSURES", 2 )
+    {
+        @Override
+        protected long getFingerprint( TelemetryData telemData, int slot )
+        {
+            if ( slot == 0 )
+                return ( fingerprint( telemData.getTirePressure( Wheel.FRONT_LEFT ), telemData.getTirePressure( Wheel.FRONT_RIGHT ) ) );
+            
+            return ( fingerprint( telemData.getTirePressure( Wheel.REAR_LEFT ), telemData.getTirePressure( Wheel.REAR_RIGHT ) ) );
+        }
+    };
+    
+    /**
+     * Changes with every scoring update. This is the fine grained equivalent of {@link Widget#NEEDED_DATA_SCORING}.
+     */
+    public static final WidgetInput SCORING_UPDATE = new ScoringInput( "SCORING_UPDATE" )
+    {
+        @Override
+        protected long getFingerprint( ScoringInfo scoringInfo )
+        {
+            return ( scoringInfo.getUpdateId() );
+        }
+    };
+    
+    public static final WidgetInput SCORING_SESSION_TYPE = new ScoringInput( "SCORING_SESSION_TYPE" )
+    {
+        @Override
+        protected long getFingerprint( ScoringInfo scoringInfo )
+        {
+            return ( ( (long)scoringInfo.getSessionId() << 8 ) | fingerprint( scoringInfo.getSessionType() ) );
+        }
+    };
+    
+    public static final WidgetInput SCORING_GAME_PHASE = new ScoringInput( "SCORING_GAME_PHASE" )
+    {
+        @Override
+        protected long getFingerprint( ScoringInfo scoringInfo )
+        {
+            return ( ( fingerprint( scoringInfo.getGamePhase() ) << 8 ) | fingerprint( scoringInfo.getYellowFlagState() ) );
+        }
+    };
+    
+    public static final WidgetInput SCORING_NUM_VEHICLES = new ScoringInput( "SCORING_NUM_VEHICLES" )
+    {
+        @Override
+        protected long getFingerprint( ScoringInfo scoringInfo )
+        {
+            return ( scoringInfo.getNumVehicles() );
+        }
+    };
+    
+    /**
+     * The current session time in whole seconds.
+     */
+    public static final WidgetInput SCORING_SESSION_SECONDS = new ScoringInput( "SCORING_SESSION_SECONDS" )
+    {
+        @Override
+        protected long getFingerprint( ScoringInfo scoringInfo )
+        {
+            return ( scoringInfo.getSessionNanos() / 1000000000L );
+        }
+    };
+    
+    /**
+     * The start light frame and the number of starting lights.
+     */
+    public static final WidgetInput SCORING_START_LIGHTS = new ScoringInput( "SCORING_START_LIGHTS" )
+    {
+        @Override
+        protected long getFingerprint( ScoringInfo scoringInfo )
+        {
+            return ( ( (long)scoringInfo.getNumStartingLights() << 32 ) | ( scoringInfo.getStartLightFrame() & 0xFFFFFFFFL ) );
+        }
+    };
+    
+    /**
+     * Ambient and track temperature, raining severity and on-path wetness.
+     */
+    public static final WidgetInput WEATHER = new WeatherInput( "WEATHER", 2 )
+    {
+        @Override
+        protected long getFingerprint( WeatherInfo weatherInfo, int slot )
+        {
+            if ( slot == 0 )
+                return ( fingerprint( weatherInfo.getAmbientTemperatureK(), weatherInfo.getTrackTemperatureK() ) );
+            
+            return ( fingerprint( weatherInfo.getRainingSeverity(), weatherInfo.getOnPathWetness() ) );
+        }
+    };
+    
+    /**
+     * The viewed vehicle's place overall and in its class.
+     */
+    public static final WidgetInput VSI_PLACE = new VSIInput( "VSI_PLACE" )
+    {
+        @Override
+        protected long getFingerprint( VehicleScoringInfo vsi )
+        {
+            return ( ( vsi.getPlace( false ) << 16 ) | ( vsi.getPlace( true ) & 0xFFFF ) );
+        }
+    };
+    
+    public static final WidgetInput VSI_NUM_VEHICLES_IN_CLASS = new VSIInput( "VSI_NUM_VEHICLES_IN_CLASS" )
+    {
+        @Override
+        protected long getFingerprint( VehicleScoringInfo vsi )
+        {
+            return ( vsi.getNumVehiclesInSameClass() );
+        }
+    };
+    
+    /**
+     * The viewed vehicle's completed laps and sector.
+     */
+    public static final WidgetInput VSI_LAP = new VSIInput( "VSI_LAP" )
+    {
+        @Override
+        protected long getFingerprint( VehicleScoringInfo vsi )
+        {
+            return ( ( vsi.getLapsCompleted() << 8 ) | vsi.getSector() );
+        }
+    };
+    
+    /**
+     * The viewed vehicle's last and best lap times.
+     */
+    public static final WidgetInput VSI_LAP_TIMES = new VSIInput( "VSI_LAP_TIMES" )
+    {
+        @Override
+        protected long getFingerprint( VehicleScoringInfo vsi )
+        {
+            return ( fingerprint( vsi.getLastLapTime(), vsi.getBestLapTime() ) );
+        }
+    };
+    
+    /**
+     * The viewed vehicle's pit state, finish status, status flag, pitstops and penalties.
+     */
+    public static final WidgetInput VSI_STATUS = new VSIInput( "VSI_STATUS" )
+    {
+        @Override
+        protected long getFingerprint( VehicleScoringInfo vsi )
+        {
+            long fp = fingerprint( vsi.isInPits() );
+            fp = ( fp << 4 ) | fingerprint( vsi.getPitState() );
+            fp = ( fp << 4 ) | fingerprint( vsi.getFinishStatus() );
+            fp = ( fp << 4 ) | fingerprint( vsi.getStatusFlag() );
+            fp = ( fp << 16 ) | ( vsi.getNumPitstopsMade() & 0xFFFF );
+            fp = ( fp << 16 ) | ( vsi.getNumOutstandingPenalties() & 0xFFFF );
+            
+            return ( fp );
+        }
+    };
+    
+    public static final WidgetInput VSI_LAP_DISTANCE = new VSIInput( "VSI_LAP_DISTANCE" )
+    {
+        @Override
+        protected long getFingerprint( VehicleScoringInfo vsi )
+        {
+            return ( fingerprint( vsi.getLapDistance() ) );
+        }
+    };
+}
@@ -21,6 +21,7 @@ import net.ctdp.rfdynhud.gamedata.LiveGameData;
 import net.ctdp.rfdynhud.gamedata.VehicleScoringInfo;
 import net.ctdp.rfdynhud.input.InputAction;
 import net.ctdp.rfdynhud.render.TextureImage2D;
+import net.ctdp.rfdynhud.valuemanagers.Clock;
 import net.ctdp.rfdynhud.values.RelativePositioning;
 import net.ctdp.rfdynhud.widgets.WidgetsConfiguration;
 
@@ -121,6 +122,16 @@ public class __WPrivilegedAccess
         widget.setInputVisible( visible );
     }
     
+    public static final boolean wasLastDrawCompleteRedraw( Widget widget )
+    {
+        return ( widget.wasLastDrawCompleteRedraw() );
+    }
+    
+    public static final boolean checkDrawNeeded( Widget widget, Clock clock, LiveGameData gameData, boolean completeRedrawForced )
+    {
+        return ( widget.checkDrawNeeded( clock, gameData, completeRedrawForced ) );
+    }
+    
     public static final boolean needsCompleteClear( Widget widget )
     {
         return ( widget.needsCompleteClear() );
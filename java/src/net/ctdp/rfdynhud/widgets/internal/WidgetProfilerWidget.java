@@ -0,0 +1,202 @@
+/**
+ * Copyright (C) 2009-2014 Cars and Tracks Development Project (CTDP).
+ * 
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+ */
+package net.ctdp.rfdynhud.widgets.internal;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+import net.ctdp.rfdynhud.gamedata.LiveGameData;
+import net.ctdp.rfdynhud.properties.PropertiesContainer;
+import net.ctdp.rfdynhud.render.BorderFrameCache;
+import net.ctdp.rfdynhud.render.DrawnString;
+import net.ctdp.rfdynhud.render.DrawnString.Alignment;
+import net.ctdp.rfdynhud.render.DrawnStringFactory;
+import net.ctdp.rfdynhud.render.TextureImage2D;
+import net.ctdp.rfdynhud.render.WidgetProfiler;
+import net.ctdp.rfdynhud.util.SubTextureCollector;
+import net.ctdp.rfdynhud.valuemanagers.Clock;
+import net.ctdp.rfdynhud.widgets.base.widget.Hidden;
+import net.ctdp.rfdynhud.widgets.base.widget.Widget;
+
+/**
+ * This {@link Widget} displays the widgets with the highest draw times recorded by the {@link WidgetProfiler}.
+ * It is toggled by the ToggleWidgetProfiler InputAction.
+ * 
+ * @author Marvin Froehlich (CTDP)
+ */
+@Hidden
+public class WidgetProfilerWidget extends Widget
+{
+    public static final int NUM_ROWS = 15;
+    public static final int ROW_HEIGHT = 18;
+    public static final int WIDTH = 640;
+    public static final int HEIGHT = ( NUM_ROWS + 4 ) * ROW_HEIGHT;
+    
+    private static final long UPDATE_INTERVAL = 500000000L;
+    
+    private static final String[] HEADERS = { "Widget", "upd us", "draw us", "p95 us", "max us", "redraw %", "dirty px", "alloc B" };
+    private static final int[] COLUMNS_X = { 0, 250, 310, 370, 430, 500, 570, 636 };
+    
+    private static final Comparator<WidgetProfiler.Entry> DRAW_TIME_COMPARATOR = new Comparator<WidgetProfiler.Entry>()
+    {
+        @Override
+        public int compare( WidgetProfiler.Entry e1, WidgetProfiler.Entry e2 )
+        {
+            return ( Double.compare( e2.getDrawTime().getMean(), e1.getDrawTime().getMean() ) );
+        }
+    };
+    
+    private WidgetProfiler profiler = null;
+    
+    private DrawnString[][] ds = null;
+    private DrawnString dsFrame = null;
+    private DrawnString dsDraws = null;
+    private DrawnString dsBorders = null;
+    private WidgetProfiler.Entry[] sortedEntries = new WidgetProfiler.Entry[ 16 ];
+    private long nextUpdateTime = -1L;
+    
+    public void setProfiler( WidgetProfiler profiler )
+    {
+        this.profiler = profiler;
+    }
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void initSubTextures( LiveGameData gameData, boolean isEditorMode, int widgetInnerWidth, int widgetInnerHeight, SubTextureCollector collector )
+    {
+    }
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected Boolean updateVisibility( LiveGameData gameData, boolean isEditorMode )
+    {
+        return ( ( profiler != null ) && WidgetProfiler.isOverlayVisible() );
+    }
+    
+    @Override
+    protected void initialize( LiveGameData gameData, boolean isEditorMode, DrawnStringFactory drawnStringFactory, TextureImage2D texture, int width, int height )
+    {
+        ds = new DrawnString[ NUM_ROWS + 1 ][ HEADERS.length ];
+        
+        for ( int i = 0; i <= NUM_ROWS; i++ )
+        {
+            for ( int j = 0; j < HEADERS.length; j++ )
+                ds[i][j] = drawnStringFactory.newDrawnString( "ds" + i + "_" + j, COLUMNS_X[j], i * ROW_HEIGHT, ( j == 0 ) ? Alignment.LEFT : Alignment.RIGHT, false, getFont(), isFontAntiAliased(), getFontColor() );
+        }
+        
+        dsFrame = drawnStringFactory.newDrawnString( "dsFrame", 0, ( NUM_ROWS + 1 ) * ROW_HEIGHT, Alignment.LEFT, false, getFont(), isFontAntiAliased(), getFontColor() );
+        dsDraws = drawnStringFactory.newDrawnString( "dsDraws", 0, ( NUM_ROWS + 2 ) * ROW_HEIGHT, Alignment.LEFT, false, getFont(), isFontAntiAliased(), getFontColor() );
+        dsBorders = drawnStringFactory.newDrawnString( "dsBorders", 0, ( NUM_ROWS + 3 ) * ROW_HEIGHT, Alignment.LEFT, false, getFont(), isFontAntiAliased(), getFontColor() );
+    }
+    
+    @Override
+    protected void drawStaticLayer( LiveGameData gameData, boolean isEditorMode, TextureImage2D texture, int offsetX, int offsetY, int width, int height )
+    {
+        for ( int j = 0; j < HEADERS.length; j++ )
+            ds[0][j].draw( offsetX, offsetY, HEADERS[j], texture );
+    }
+    
+    private static final String formatMicros( double nanos )
+    {
+        return ( String.valueOf( Math.round( nanos / 1000.0 ) ) );
+    }
+    
+    @Override
+    protected void drawWidget( Clock clock, boolean needsCompleteRedraw, LiveGameData gameData, boolean isEditorMode, TextureImage2D texture, int offsetX, int offsetY, int width, int height )
+    {
+        if ( profiler == null )
+            return;
+        
+        final long now = System.nanoTime();
+        
+        if ( !needsCompleteRedraw && ( now < nextUpdateTime ) )
+            return;
+        
+        nextUpdateTime = now + UPDATE_INTERVAL;
+        
+        final int n = profiler.getNumEntries();
+        
+        if ( sortedEntries.length < n )
+            sortedEntries = new WidgetProfiler.Entry[ n ];
+        
+        for ( int i = 0; i < n; i++ )
+            sortedEntries[i] = profiler.getEntry( i );
+        
+        Arrays.sort( sortedEntries, 0, n, DRAW_TIME_COMPARATOR );
+        
+        for ( int i = 0; i < NUM_ROWS; i++ )
+        {
+            DrawnString[] row = ds[i + 1];
+            
+            if ( i < n )
+            {
+                WidgetProfiler.Entry entry = sortedEntries[i];
+                
+                row[0].draw( offsetX, offsetY, entry.getName(), texture );
+                row[1].draw( offsetX, offsetY, formatMicros( entry.getUpdateTime().getMean() ), texture );
+                row[2].draw( offsetX, offsetY, formatMicros( entry.getDrawTime().getMean() ), texture );
+                row[3].draw( offsetX, offsetY, formatMicros( entry.getDrawTime().getPercentile( 0.95f ) ), texture );
+                row[4].draw( offsetX, offsetY, formatMicros( entry.getDrawTime().getMax() ), texture );
+                row[5].draw( offsetX, offsetY, String.valueOf( Math.round( entry.getCompleteRedraws().getMean() * 100.0 ) ), texture );
+                row[6].draw( offsetX, offsetY, String.valueOf( Math.round( entry.getDirtyArea().getMean() ) ), texture );
+                row[7].draw( offsetX, offsetY, String.valueOf( Math.round( entry.getAllocatedBytes().getMean() ) ), texture );
+            }
+            else
+            {
+                for ( int j = 0; j < row.length; j++ )
+                    row[j].draw( offsetX, offsetY, "", texture );
+            }
+        }
+        
+        for ( int i = 0; i < n; i++ )
+            sortedEntries[i] = null;
+        
+        dsFrame.draw( offsetX, offsetY, "Frame: " + formatMicros( profiler.getFrameTime().getMean() ) + " us (p95 " + formatMicros( profiler.getFrameTime().getPercentile( 0.95f ) ) + " us, max " + formatMicros( profiler.getFrameTime().getMax() ) + " us)", texture );
+        
+        long numExecuted = 0L;
+        long numSkipped = 0L;
+        
+        for ( int i = 0; i < getConfiguration().getNumWidgets(); i++ )
+        {
+            Widget widget = getConfiguration().getWidget( i );
+            
+            numExecuted += widget.getNumExecutedDraws();
+            numSkipped += widget.getNumSkippedDraws();
+        }
+        
+        dsDraws.draw( offsetX, offsetY, "Draws: " + numExecuted + " executed, " + numSkipped + " skipped (unchanged inputs)", texture );
+        
+        dsBorders.draw( offsetX, offsetY, "Border frames: " + BorderFrameCache.getNumEntries() + " cached, " + ( BorderFrameCache.getSize() / 1024L ) + " KB, " + BorderFrameCache.getNumHits() + " hits, " + BorderFrameCache.getNumMisses() + " misses, " + BorderFrameCache.getNumEvictions() + " evictions", texture );
+    }
+    
+    @Override
+    public void getProperties( PropertiesContainer propsCont, boolean forceAll )
+    {
+        if ( forceAll )
+            super.getProperties( propsCont, forceAll );
+    }
+    
+    public WidgetProfilerWidget()
+    {
+        super( null, null, 30.0f, 10.0f );
+    }
+}
@@ -577,12 +577,15 @@ public class Rect2i implements Positioned2i, Sized2i
     
     public static final Rect2i fromPool()
     {
-        return ( POOL.alloc() );
+        synchronized ( POOL )
+        {
+            return ( POOL.alloc() );
+        }
     }
     
     public static final Rect2i fromPool( int left, int top, int width, int height )
     {
-        Rect2i inst = POOL.alloc();
+        Rect2i inst = fromPool();
         
         inst.set( left, top, width, height );
         
@@ -591,6 +594,9 @@ public class Rect2i implements Positioned2i, Sized2i
     
     public static final void toPool( Rect2i rect )
     {
-        POOL.free( rect );
+        synchronized ( POOL )
+        {
+            POOL.free( rect );
+        }
     }
 }
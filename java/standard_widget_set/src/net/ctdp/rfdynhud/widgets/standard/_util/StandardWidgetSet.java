@@ -188,48 +188,57 @@ public class StandardWidgetSet extends WidgetSet
         
         Texture2DCanvas texCanvas = texture.getTextureCanvas();
         
-        if ( backgroundColor != null )
-        {
-            texCanvas.setColor( backgroundColor );
-        }
-        
-        texCanvas.setAntialiazingEnabled( true );
-        texCanvas.fillArc( circleOffsetX, circleOffsetY, radius + radius, radius + radius, 0, 360 );
+        texCanvas.pushClip( offsetX, offsetY, width, height, true );
         
-        if ( blackBorderWidth > 0 )
+        try
         {
-            Stroke oldStroke = texCanvas.getStroke();
-            Color oldColor = texCanvas.getColor();
-            
-            texCanvas.setStroke( new BasicStroke( blackBorderWidth ) );
-            texCanvas.setColor( Color.BLACK );
+            if ( backgroundColor != null )
+            {
+                texCanvas.setColor( backgroundColor );
+            }
             
-            texCanvas.drawArc( circleOffsetX, circleOffsetY, radius + radius - 1, radius + radius - 1, 0, 360 );
+            texCanvas.setAntialiazingEnabled( true );
+            texCanvas.fillArc( offsetX + circleOffsetX, offsetY + circleOffsetY, radius + radius, radius + radius, 0, 360 );
             
-            texCanvas.setColor( oldColor );
-            texCanvas.setStroke( oldStroke );
-        }
-        
-        if ( ( place > 0 ) && ( numberFont != null ) && ( numberFontColor != null ) )
-        {
-            String posStr = String.valueOf( place );
-            Rectangle2D bounds = TextureImage2D.getStringBounds( posStr, numberFont, numberFontAntialiased );
-            float fw = (float)bounds.getWidth();
-            float fh = TextureImage2D.getFontAscent( numberFont ) - TextureImage2D.getFontDescent( numberFont );
+            if ( blackBorderWidth > 0 )
+            {
+                Stroke oldStroke = texCanvas.getStroke();
+                Color oldColor = texCanvas.getColor();
+                
+                texCanvas.setStroke( new BasicStroke( blackBorderWidth ) );
+                texCanvas.setColor( Color.BLACK );
+                
+                texCanvas.drawArc( offsetX + circleOffsetX, offsetY + circleOffsetY, radius + radius - 1, radius + radius - 1, 0, 360 );
+                
+                texCanvas.setColor( oldColor );
+                texCanvas.setStroke( oldStroke );
+            }
             
-            texture.drawString( posStr, circleOffsetX + radius - (int)( fw / 2 ), circleOffsetY + radius + (int)( fh / 2 ), bounds, numberFont, numberFontAntialiased, numberFontColor, false, null );
-        }
-        
-        if ( ( namePositioning != null ) && ( driverName != null ) && ( nameFont != null ) && ( nameFontColor != null ) )
-        {
-            if ( ( namePositioning == LabelPositioning.ABOVE ) || ( namePositioning == LabelPositioning.BELOW ) )
+            if ( ( place > 0 ) && ( numberFont != null ) && ( numberFontColor != null ) )
             {
-                nameBounds = TextureImage2D.getStringBounds( driverName, nameFont, nameFontAntialiased );
-                nx = ( width - (int)nameBounds.getWidth() ) / 2;
-                ny -= nameBounds.getY();
+                String posStr = String.valueOf( place );
+                Rectangle2D bounds = TextureImage2D.getStringBounds( posStr, numberFont, numberFontAntialiased );
+                float fw = (float)bounds.getWidth();
+                float fh = TextureImage2D.getFontAscent( numberFont ) - TextureImage2D.getFontDescent( numberFont );
+                
+                texture.drawString( posStr, offsetX + circleOffsetX + radius - (int)( fw / 2 ), offsetY + circleOffsetY + radius + (int)( fh / 2 ), bounds, numberFont, numberFontAntialiased, numberFontColor, false, null );
             }
             
-            texture.drawString( driverName, nx, ny, nameBounds, nameFont, nameFontAntialiased, nameFontColor, false, null );
+            if ( ( namePositioning != null ) && ( driverName != null ) && ( nameFont != null ) && ( nameFontColor != null ) )
+            {
+                if ( ( namePositioning == LabelPositioning.ABOVE ) || ( namePositioning == LabelPositioning.BELOW ) )
+                {
+                    nameBounds = TextureImage2D.getStringBounds( driverName, nameFont, nameFontAntialiased );
+                    nx = ( width - (int)nameBounds.getWidth() ) / 2;
+                    ny -= nameBounds.getY();
+                }
+                
+                texture.drawString( driverName, offsetX + nx, offsetY + ny, nameBounds, nameFont, nameFontAntialiased, nameFontColor, false, null );
+            }
+        }
+        finally
+        {
+            texCanvas.popClip();
         }
         
         return ( circleOffsetY );
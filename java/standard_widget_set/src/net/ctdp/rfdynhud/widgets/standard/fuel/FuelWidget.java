@@ -788,6 +788,23 @@ public class FuelWidget extends Widget
         return ( areaDrawn );
     }
     
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void drawStaticLayer( LiveGameData gameData, boolean isEditorMode, TextureImage2D texture, int offsetX, int offsetY, int width, int height )
+    {
+        if ( displayFuelUsage.getBooleanValue() )
+        {
+            fuelUsageHeaderString.draw( offsetX, offsetY, "", texture );
+            fuelUsageLastLapHeaderString.draw( offsetX, offsetY, "", texture );
+            fuelUsageAvgHeaderString.draw( offsetX, offsetY, "", texture );
+        }
+        
+        if ( displayPitstopInfo.getBooleanValue() )
+            nextPitstopHeaderString.draw( offsetX, offsetY, "", texture );
+    }
+    
     @Override
     protected void drawWidget( Clock clock, boolean needsCompleteRedraw, LiveGameData gameData, boolean isEditorMode, TextureImage2D texture, int offsetX, int offsetY, int width, int height )
     {
@@ -798,22 +815,8 @@ public class FuelWidget extends Widget
         
         final int tankSize = (int)gameData.getPhysics().getFuelRange().getMaxValue();
         
-        if ( needsCompleteRedraw )
-        {
-            //fuelHeaderString.draw( offsetX, offsetY, String.valueOf( tankSize ) + " " + ( measurementUnits == MeasurementUnits.IMPERIAL ? Loc.fuelHeader_postfix_IMPERIAL : Loc.fuelHeader_postfix_METRIC ), backgroundColor, texture );
-            
-            if ( displayFuelUsage.getBooleanValue() )
-            {
-                fuelUsageHeaderString.draw( offsetX, offsetY, "", texture );
-                fuelUsageLastLapHeaderString.draw( offsetX, offsetY, "", texture );
-                fuelUsageAvgHeaderString.draw( offsetX, offsetY, "", texture );
-            }
-            
-            if ( displayPitstopInfo.getBooleanValue() )
-            {
-                //nextPitstopHeaderString.draw( offsetX, offsetY, "", backgroundColor, image );
-            }
-        }
+        //if ( needsCompleteRedraw )
+        //    fuelHeaderString.draw( offsetX, offsetY, String.valueOf( tankSize ) + " " + ( measurementUnits == MeasurementUnits.IMPERIAL ? Loc.fuelHeader_postfix_IMPERIAL : Loc.fuelHeader_postfix_METRIC ), backgroundColor, texture );
         
         final float fuel = telemData.getFuel();
         final float fuelL = telemData.getFuelL();
@@ -945,11 +948,6 @@ public class FuelWidget extends Widget
         
         if ( displayPitstopInfo.getBooleanValue() )
         {
-            if ( needsCompleteRedraw )
-            {
-                nextPitstopHeaderString.draw( offsetX, offsetY, "", texture );
-            }
-            
             int nextPitstopLap = -1;
             int pitstopFuel_ = -1;
             int pitstopLaps = -1;
@@ -33,6 +33,7 @@ import java.io.IOException;
 import net.ctdp.rfdynhud.gamedata.LiveGameData;
 import net.ctdp.rfdynhud.gamedata.ModInfo;
 import net.ctdp.rfdynhud.gamedata.ScoringInfo;
+import net.ctdp.rfdynhud.gamedata.TelemVect3;
 import net.ctdp.rfdynhud.gamedata.Track;
 import net.ctdp.rfdynhud.gamedata.VehicleScoringInfo;
 import net.ctdp.rfdynhud.properties.BackgroundProperty;
@@ -48,6 +49,7 @@ import net.ctdp.rfdynhud.render.BorderWrapper;
 import net.ctdp.rfdynhud.render.DrawnStringFactory;
 import net.ctdp.rfdynhud.render.Texture2DCanvas;
 import net.ctdp.rfdynhud.render.TextureImage2D;
+import net.ctdp.rfdynhud.render.TextureAtlas;
 import net.ctdp.rfdynhud.render.TransformableTexture;
 import net.ctdp.rfdynhud.util.MapTools;
 import net.ctdp.rfdynhud.util.PropertyWriter;
@@ -129,9 +131,20 @@ public class MapWidget extends Widget
     
     private int maxDisplayedVehicles = -1;
     
+    /**
+     * All items share one sub texture through the {@link TextureAtlas}. So this is not bound by the number of native textures.
+     */
+    private static final int MAX_DISPLAYED_VEHICLES = 128;
+    
     private static final int ANTI_ALIAS_RADIUS_OFFSET = 1;
     
     private TransformableTexture[] subTextures = null;
+    private TextureImage2D trackLayer = null;
+    private String trackLayerKey = null;
+    private Track hashedTrack = null;
+    private int trackHash = 0;
+    private TextureAtlas itemAtlas = null;
+    private int itemWidth = 0;
     private VehicleScoringInfo[] vsis = null;
     private int[] itemStates = null;
     private int numVehicles = 0;
@@ -357,7 +370,7 @@ public class MapWidget extends Widget
         else
             this.maxDisplayedVehicles = modInfo.getMaxOpponents() + 1;
         
-        this.maxDisplayedVehicles = Math.max( 4, Math.min( maxDisplayedVehicles, 32 ) );
+        this.maxDisplayedVehicles = Math.max( 4, Math.min( maxDisplayedVehicles, MAX_DISPLAYED_VEHICLES ) );
     }
     
     private void updateVSIs( LiveGameData gameData, boolean isEditorMode )
@@ -402,13 +415,9 @@ public class MapWidget extends Widget
         updateItemRadius();
         initMaxDisplayedVehicles( isEditorMode, gameData.getModInfo() );
         
-        int numTextures = maxDisplayedVehicles;
-        int subTexOff = 0;
+        int numTextures = 1;
         if ( !hasMasterCanvas( isEditorMode ) )
-        {
             numTextures++;
-            subTexOff++;
-        }
         
         if ( ( subTextures == null ) || ( subTextures.length != numTextures ) )
         {
@@ -420,22 +429,28 @@ public class MapWidget extends Widget
             subTextures[0] = TransformableTexture.getOrCreate( getBorder().getWidgetWidth( widgetInnerWidth ), getBorder().getWidgetHeight( widgetInnerHeight ), isEditorMode, subTextures[0], isEditorMode );
         }
         
-        if ( subTextures[subTexOff] == null )
-            subTextures[subTexOff] = new TransformableTexture( 1, 1, isEditorMode, false );
-        
         java.awt.Dimension size = StandardWidgetSet.getPositionItemSize( itemRadius, displayNameLabels.getBooleanValue() ? nameLabelPos.getEnumValue() : null, nameLabelFont.getFont(), nameLabelFont.isAntiAliased() );
         int w = size.width;
         int h = size.height;
+        int pad = Math.max( w, h );
         
-        if ( ( subTextures[subTextures.length - 1] == null ) || ( subTextures[subTextures.length - 1].getWidth() != w ) || ( subTextures[subTextures.length - 1].getHeight() != h ) )
+        if ( ( itemAtlas == null ) || ( itemAtlas.getNumItems() != maxDisplayedVehicles ) || ( itemAtlas.getItem( 0 ).getWidth() != w ) || ( itemAtlas.getItem( 0 ).getHeight() != h ) || ( itemAtlas.getTargetTexture().getWidth() != widgetInnerWidth + pad + pad ) || ( itemAtlas.getTargetTexture().getHeight() != widgetInnerHeight + pad + pad ) )
         {
+            itemAtlas = new TextureAtlas( -pad, -pad, widgetInnerWidth + pad + pad, widgetInnerHeight + pad + pad, isEditorMode );
+            
             for ( int i = 0; i < maxDisplayedVehicles; i++ )
+                itemAtlas.addItem( w, h );
+            
+            if ( itemStates != null )
             {
-                subTextures[subTexOff + i] = TransformableTexture.getOrCreate( w, h, isEditorMode, subTextures[subTexOff + i], isEditorMode );
-                subTextures[subTexOff + i].setVisible( false );
+                for ( int i = 0; i < itemStates.length; i++ )
+                    itemStates[i] = 0;
             }
         }
         
+        itemWidth = w;
+        subTextures[numTextures - 1] = itemAtlas.getTargetTexture();
+        
         for ( int i = 0; i < subTextures.length; i++ )
             collector.add( subTextures[i] );
     }
@@ -549,13 +564,68 @@ public class MapWidget extends Widget
         }
     }
     
-    private void drawTrack( Track track, TextureImage2D texture, int offsetX, int offsetY, int width, int height )
+    private static int hashWaypoints( Track track, boolean pitlane, int hash, TelemVect3 position )
     {
-        Texture2DCanvas tc = texture.getTextureCanvas();
-        tc.setRenderingHint( RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON );
+        final int n = track.getNumWaypoints( pitlane );
+        
+        hash = hash * 31 + n;
+        
+        for ( int i = 0; i < n; i++ )
+        {
+            track.getWaypointPosition( pitlane, i, position );
+            
+            hash = hash * 31 + Float.floatToIntBits( position.getX() );
+            hash = hash * 31 + Float.floatToIntBits( position.getZ() );
+            hash = hash * 31 + track.getWaypointSector( pitlane, i );
+        }
         
+        return ( hash );
+    }
+    
+    private String getTrackLayerKey( LiveGameData gameData, int width, int height, int x0, int y0 )
+    {
+        if ( track != hashedTrack )
+        {
+            // The waypoints are only hashed once per track.
+            TelemVect3 position = new TelemVect3();
+            
+            int hash = hashWaypoints( track, false, 0, position );
+            hash = hashWaypoints( track, true, hash, position );
+            
+            trackHash = hash;
+            hashedTrack = track;
+        }
+        
+        int hash = Float.floatToIntBits( scale );
+        hash = hash * 31 + x0;
+        hash = hash * 31 + y0;
+        hash = hash * 31 + trackHash;
+        hash = hash * 31 + Float.floatToIntBits( track.getTrackLength() );
+        hash = hash * 31 + roadWidth.getIntValue();
+        hash = hash * 31 + Float.floatToIntBits( pitlaneRoadWidth );
+        hash = hash * 31 + roadColorSec1.getColor().getRGB();
+        hash = hash * 31 + roadBoundaryColorSec1.getColor().getRGB();
+        hash = hash * 31 + roadColorSec2.getColor().getRGB();
+        hash = hash * 31 + roadBoundaryColorSec2.getColor().getRGB();
+        hash = hash * 31 + roadColorSec3.getColor().getRGB();
+        hash = hash * 31 + roadBoundaryColorSec3.getColor().getRGB();
+        hash = hash * 31 + pitlaneColor.getColor().getRGB();
+        
+        return ( gameData.getTrackInfo().getTrackName() + "_" + width + "x" + height + "_" + Integer.toHexString( hash ) );
+    }
+    
+    /**
+     * Draws the track onto the given texture. The rasterized road, boundary and pitlane are kept in a layer texture,
+     * that is only rebuilt, when the track, the scale or one of the road properties changes,
+     * and is persisted by the {@link TrackMapCache}.
+     */
+    private void drawTrack( LiveGameData gameData, boolean isEditorMode, Track track, TextureImage2D texture, int offsetX, int offsetY, int width, int height )
+    {
         if ( track == null )
         {
+            Texture2DCanvas tc = texture.getTextureCanvas();
+            tc.setRenderingHint( RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON );
+            
             tc.setColor( roadColorSec1.getColor() );
             
             tc.drawArc( offsetX + 3, offsetY + 3, width - 6, height - 6, 0, 360 );
@@ -577,22 +647,17 @@ public class MapWidget extends Widget
                 float yExtend = track.getZExtend( 1.0f );
                 float dia2 = (float)Math.sqrt( xExtend * xExtend + yExtend * yExtend );
                 
-                int wh = Math.min( width - dia + itemRadius + itemRadius - subTextures[1].getWidth(), height - dia );
+                int wh = Math.min( width - dia + itemRadius + itemRadius - itemWidth, height - dia );
                 scale = wh / dia2;
                 //scale = track.getScale( (int)( wh * 0.9f ), (int)( wh * 0.9f ) );
             }
             else
             {
-                int w = width - dia - itemRadius - itemRadius - subTextures[0].getWidth();
+                int w = width - dia - itemRadius - itemRadius - itemWidth;
                 int h = height - dia;
                 scale = track.getScale( w, h );
             }
             
-            Point2D.Float p0 = new Point2D.Float();
-            Point2D.Float p1 = new Point2D.Float();
-            Point2D.Float v0 = new Point2D.Float();
-            Point2D.Float v1 = new Point2D.Float();
-            
             int x0 = offsetX + off2 + itemRadius + ( ( width - dia - track.getXExtend( scale ) ) / 2 );
             int y0 = offsetY + off2 + itemRadius + ( ( height - dia - track.getZExtend( scale ) ) / 2 );
             
@@ -604,101 +669,80 @@ public class MapWidget extends Widget
                 subTextures[0].setRotationCenter( subTextures[0].getWidth() / 2, subTextures[0].getHeight() / 2 );
             }
             
-            Stroke oldStroke = tc.getStroke();
+            String key = getTrackLayerKey( gameData, width, height, x0 - offsetX, y0 - offsetY );
             
-            int n = track.getNumWaypoints( false );
-            
-            float[] xPoints = new float[ n ];
-            float[] yPoints = new float[ n ];
-            float[] xVectors = new float[ n ];
-            float[] yVectors = new float[ n ];
-            
-            track.getWaypointPosition( false, 0, scale, p0 );
-            xPoints[0] = x0 + p0.x;
-            yPoints[0] = y0 + p0.y;
-            track.getWaypointVector( false, 0, v0 );
-            xVectors[0] = v0.x;
-            yVectors[0] = v0.y;
-            byte oldSec = track.getWaypointSector( false, 0 );
-            
-            int j = 1;
-            for ( int i = 1; i < n; i++ )
+            if ( ( trackLayer == null ) || !key.equals( trackLayerKey ) )
             {
-                track.getWaypointPosition( false, i, scale, p1 );
-                track.getWaypointVector( false, i, v1 );
-                byte sec = track.getWaypointSector( false, i );
+                trackLayer = TextureImage2D.getOrCreateDrawTexture( width, height, true, trackLayer, isEditorMode );
                 
-                if ( sec != oldSec )
+                if ( !TrackMapCache.load( gameData, key, trackLayer ) )
                 {
-                    if ( oldSec == 1 )
-                        tc.setColor( roadBoundaryColorSec1.getColor() );
-                    else if ( oldSec == 2 )
-                        tc.setColor( roadBoundaryColorSec2.getColor() );
-                    else if ( oldSec == 3 )
-                        tc.setColor( roadBoundaryColorSec3.getColor() );
-                    tc.setStroke( new BasicStroke( roadWidth.getIntValue() ) );
-                    tc.setAntialiazingEnabled( true );
-                    
-                    drawPath( xPoints, yPoints, xVectors, yVectors, j, tc );
-                    
-                    if ( oldSec == 1 )
-                        tc.setColor( roadColorSec1.getColor() );
-                    else if ( oldSec == 2 )
-                        tc.setColor( roadColorSec2.getColor() );
-                    else if ( oldSec == 3 )
-                        tc.setColor( roadColorSec3.getColor() );
-                    tc.setStroke( new BasicStroke( roadWidth.getIntValue() - 1.5f ) );
-                    tc.setAntialiazingEnabled( true );
-                    
-                    drawPath( xPoints, yPoints, xVectors, yVectors, j, tc );
+                    trackLayer.getTextureCanvas().setClip( 0, 0, width, height );
+                    trackLayer.clear( false, null );
                     
-                    xPoints[0] = xPoints[j - 1];
-                    yPoints[0] = yPoints[j - 1];
-                    xVectors[0] = xVectors[j - 1];
-                    yVectors[0] = yVectors[j - 1];
+                    rasterizeTrack( track, trackLayer.getTextureCanvas(), x0 - offsetX, y0 - offsetY );
                     
-                    j = 1;
+                    // In the editor the size changes with every drag step. So only maps of the game are persisted.
+                    if ( !isEditorMode )
+                        TrackMapCache.save( gameData, key, trackLayer );
                 }
                 
-                oldSec = sec;
-                
-                double dsq = ( p0.getX() - p1.getX() ) * ( p0.getX() - p1.getX() ) + ( p0.getY() - p1.getY() ) * ( p0.getY() - p1.getY() );
-                
-                if ( ( dsq >= 4 * scale * 4 * scale ) || ( i == n - 1 ) )
-                {
-                    xPoints[j] = x0 + p1.x;
-                    yPoints[j] = y0 + p1.y;
-                    xVectors[j] = v1.x;
-                    yVectors[j] = v1.y;
-                    
-                    j++;
-                    
-                    Point2D.Float p = p1;
-                    p1 = p0;
-                    p0 = p;
-                    Point2D.Float v = v1;
-                    v1 = v0;
-                    v0 = v;
-                }
+                trackLayerKey = key;
             }
             
-            if ( j > 0 )
+            texture.drawImage( trackLayer, 0, 0, width, height, offsetX, offsetY, false, null );
+        }
+        else
+        {
+            scale = 1f;
+        }
+    }
+    
+    private void rasterizeTrack( Track track, Texture2DCanvas tc, int x0, int y0 )
+    {
+        tc.setRenderingHint( RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON );
+        
+        Point2D.Float p0 = new Point2D.Float();
+        Point2D.Float p1 = new Point2D.Float();
+        Point2D.Float v0 = new Point2D.Float();
+        Point2D.Float v1 = new Point2D.Float();
+        
+        final BasicStroke boundaryStroke = new BasicStroke( roadWidth.getIntValue() );
+        final BasicStroke roadStroke = new BasicStroke( roadWidth.getIntValue() - 1.5f );
+        
+        Stroke oldStroke = tc.getStroke();
+        
+        int n = track.getNumWaypoints( false );
+        
+        float[] xPoints = new float[ n ];
+        float[] yPoints = new float[ n ];
+        float[] xVectors = new float[ n ];
+        float[] yVectors = new float[ n ];
+        
+        track.getWaypointPosition( false, 0, scale, p0 );
+        xPoints[0] = x0 + p0.x;
+        yPoints[0] = y0 + p0.y;
+        track.getWaypointVector( false, 0, v0 );
+        xVectors[0] = v0.x;
+        yVectors[0] = v0.y;
+        byte oldSec = track.getWaypointSector( false, 0 );
+        
+        int j = 1;
+        for ( int i = 1; i < n; i++ )
+        {
+            track.getWaypointPosition( false, i, scale, p1 );
+            track.getWaypointVector( false, i, v1 );
+            byte sec = track.getWaypointSector( false, i );
+            
+            if ( sec != oldSec )
             {
-                track.getWaypointPosition( false, 0, scale, p0 );
-                xPoints[j] = x0 + p0.x;
-                yPoints[j] = y0 + p0.y;
-                track.getWaypointVector( false, 0, v0 );
-                xVectors[j] = v0.x;
-                yVectors[j] = v0.y;
-                j++;
-                
                 if ( oldSec == 1 )
                     tc.setColor( roadBoundaryColorSec1.getColor() );
                 else if ( oldSec == 2 )
                     tc.setColor( roadBoundaryColorSec2.getColor() );
                 else if ( oldSec == 3 )
                     tc.setColor( roadBoundaryColorSec3.getColor() );
-                tc.setStroke( new BasicStroke( roadWidth.getFloatValue() ) );
+                tc.setStroke( boundaryStroke );
                 tc.setAntialiazingEnabled( true );
                 
                 drawPath( xPoints, yPoints, xVectors, yVectors, j, tc );
@@ -709,111 +753,168 @@ public class MapWidget extends Widget
                     tc.setColor( roadColorSec2.getColor() );
                 else if ( oldSec == 3 )
                     tc.setColor( roadColorSec3.getColor() );
-                tc.setStroke( new BasicStroke( roadWidth.getIntValue() - 1.5f ) );
+                tc.setStroke( roadStroke );
                 tc.setAntialiazingEnabled( true );
                 
                 drawPath( xPoints, yPoints, xVectors, yVectors, j, tc );
                 
-                j = 0;
+                xPoints[0] = xPoints[j - 1];
+                yPoints[0] = yPoints[j - 1];
+                xVectors[0] = xVectors[j - 1];
+                yVectors[0] = yVectors[j - 1];
+                
+                j = 1;
             }
             
-            tc.setColor( pitlaneColor.getColor() );
-            tc.setStroke( new BasicStroke( pitlaneRoadWidth ) );
+            oldSec = sec;
+            
+            double dsq = ( p0.getX() - p1.getX() ) * ( p0.getX() - p1.getX() ) + ( p0.getY() - p1.getY() ) * ( p0.getY() - p1.getY() );
+            
+            if ( ( dsq >= 4 * scale * 4 * scale ) || ( i == n - 1 ) )
+            {
+                xPoints[j] = x0 + p1.x;
+                yPoints[j] = y0 + p1.y;
+                xVectors[j] = v1.x;
+                yVectors[j] = v1.y;
+                
+                j++;
+                
+                Point2D.Float p = p1;
+                p1 = p0;
+                p0 = p;
+                Point2D.Float v = v1;
+                v1 = v0;
+                v0 = v;
+            }
+        }
+        
+        if ( j > 0 )
+        {
+            track.getWaypointPosition( false, 0, scale, p0 );
+            xPoints[j] = x0 + p0.x;
+            yPoints[j] = y0 + p0.y;
+            track.getWaypointVector( false, 0, v0 );
+            xVectors[j] = v0.x;
+            yVectors[j] = v0.y;
+            j++;
+            
+            if ( oldSec == 1 )
+                tc.setColor( roadBoundaryColorSec1.getColor() );
+            else if ( oldSec == 2 )
+                tc.setColor( roadBoundaryColorSec2.getColor() );
+            else if ( oldSec == 3 )
+                tc.setColor( roadBoundaryColorSec3.getColor() );
+            tc.setStroke( boundaryStroke );
             tc.setAntialiazingEnabled( true );
             
-            n = track.getNumWaypoints( true );
+            drawPath( xPoints, yPoints, xVectors, yVectors, j, tc );
+            
+            if ( oldSec == 1 )
+                tc.setColor( roadColorSec1.getColor() );
+            else if ( oldSec == 2 )
+                tc.setColor( roadColorSec2.getColor() );
+            else if ( oldSec == 3 )
+                tc.setColor( roadColorSec3.getColor() );
+            tc.setStroke( roadStroke );
+            tc.setAntialiazingEnabled( true );
             
-            xPoints = new float[ n + 1 ];
-            yPoints = new float[ n + 1 ];
-            xVectors = new float[ n + 1 ];
-            yVectors = new float[ n + 1 ];
+            drawPath( xPoints, yPoints, xVectors, yVectors, j, tc );
             
-            int k = 0;
-            track.getWaypointPosition( true, k, scale, p0 );
-            xPoints[0] = x0 + p0.x;
-            yPoints[0] = y0 + p0.y;
-            track.getWaypointVector( true, k, v0 );
-            xVectors[0] = v0.x;
-            yVectors[0] = v0.y;
+            j = 0;
+        }
+        
+        tc.setColor( pitlaneColor.getColor() );
+        tc.setStroke( new BasicStroke( pitlaneRoadWidth ) );
+        tc.setAntialiazingEnabled( true );
+        
+        n = track.getNumWaypoints( true );
+        
+        xPoints = new float[ n + 1 ];
+        yPoints = new float[ n + 1 ];
+        xVectors = new float[ n + 1 ];
+        yVectors = new float[ n + 1 ];
+        
+        int k = 0;
+        track.getWaypointPosition( true, k, scale, p0 );
+        xPoints[0] = x0 + p0.x;
+        yPoints[0] = y0 + p0.y;
+        track.getWaypointVector( true, k, v0 );
+        xVectors[0] = v0.x;
+        yVectors[0] = v0.y;
+        
+        j = 1;
+        for ( int i = k + 1; i < n; i++ )
+        {
+            track.getWaypointPosition( true, i, scale, p1 );
+            track.getWaypointVector( true, i, v1 );
+            
+            double dsq = ( p0.getX() - p1.getX() ) * ( p0.getX() - p1.getX() ) + ( p0.getY() - p1.getY() ) * ( p0.getY() - p1.getY() );
             
-            j = 1;
-            for ( int i = k + 1; i < n; i++ )
+            if ( dsq > 50 * scale * 50 * scale )
             {
-                track.getWaypointPosition( true, i, scale, p1 );
-                track.getWaypointVector( true, i, v1 );
-                
-                double dsq = ( p0.getX() - p1.getX() ) * ( p0.getX() - p1.getX() ) + ( p0.getY() - p1.getY() ) * ( p0.getY() - p1.getY() );
-                
-                if ( dsq > 50 * scale * 50 * scale )
-                {
-                    if ( k < i - 1 )
-                    {
-                        track.getWaypointPosition( true, i - 1, scale, p0 );
-                        track.getWaypointVector( true, i - 1, v0 );
-                        
-                        xPoints[j - 1] = x0 + p0.x;
-                        yPoints[j - 1] = y0 + p0.y;
-                        xVectors[j - 1] = v0.x;
-                        yVectors[j - 1] = v0.y;
-                    }
-                    
-                    drawPath( xPoints, yPoints, xVectors, yVectors, j, tc );
-                    
-                    xPoints[0] = x0 + p1.x;
-                    yPoints[0] = y0 + p1.y;
-                    xVectors[0] = v1.x;
-                    yVectors[0] = v1.y;
-                    
-                    j = 1;
-                    
-                    Point2D.Float p = p1;
-                    p1 = p0;
-                    p0 = p;
-                    Point2D.Float v = v1;
-                    v1 = v0;
-                    v0 = v;
-                }
-                else if ( ( dsq >= 4 * scale * 4 * scale ) || ( i == n - 1 ) )
+                if ( k < i - 1 )
                 {
-                    xPoints[j] = x0 + p1.x;
-                    yPoints[j] = y0 + p1.y;
-                    xVectors[j] = v1.x;
-                    yVectors[j] = v1.y;
-                    
-                    j++;
-                    k = i;
+                    track.getWaypointPosition( true, i - 1, scale, p0 );
+                    track.getWaypointVector( true, i - 1, v0 );
                     
-                    Point2D.Float p = p1;
-                    p1 = p0;
-                    p0 = p;
-                    Point2D.Float v = v1;
-                    v1 = v0;
-                    v0 = v;
+                    xPoints[j - 1] = x0 + p0.x;
+                    yPoints[j - 1] = y0 + p0.y;
+                    xVectors[j - 1] = v0.x;
+                    yVectors[j - 1] = v0.y;
                 }
+                
+                drawPath( xPoints, yPoints, xVectors, yVectors, j, tc );
+                
+                xPoints[0] = x0 + p1.x;
+                yPoints[0] = y0 + p1.y;
+                xVectors[0] = v1.x;
+                yVectors[0] = v1.y;
+                
+                j = 1;
+                
+                Point2D.Float p = p1;
+                p1 = p0;
+                p0 = p;
+                Point2D.Float v = v1;
+                v1 = v0;
+                v0 = v;
             }
-            
-            track.getWaypointPosition( true, 0, scale, p0 );
-            track.getWaypointPosition( true, n - 1, scale, p1 );
-            double dsq = ( p0.getX() - p1.getX() ) * ( p0.getX() - p1.getX() ) + ( p0.getY() - p1.getY() ) * ( p0.getY() - p1.getY() );
-            if ( dsq <= 50 * scale * 50 * scale )
+            else if ( ( dsq >= 4 * scale * 4 * scale ) || ( i == n - 1 ) )
             {
-                track.getWaypointVector( true, 0, v0 );
+                xPoints[j] = x0 + p1.x;
+                yPoints[j] = y0 + p1.y;
+                xVectors[j] = v1.x;
+                yVectors[j] = v1.y;
                 
-                xPoints[j] = x0 + p0.x;
-                yPoints[j] = y0 + p0.y;
-                xVectors[j] = v0.x;
-                yVectors[j] = v0.y;
                 j++;
+                k = i;
+                
+                Point2D.Float p = p1;
+                p1 = p0;
+                p0 = p;
+                Point2D.Float v = v1;
+                v1 = v0;
+                v0 = v;
             }
-            
-            drawPath( xPoints, yPoints, xVectors, yVectors, j, tc );
-            
-            tc.setStroke( oldStroke );
         }
-        else
+        
+        track.getWaypointPosition( true, 0, scale, p0 );
+        track.getWaypointPosition( true, n - 1, scale, p1 );
+        double dsq = ( p0.getX() - p1.getX() ) * ( p0.getX() - p1.getX() ) + ( p0.getY() - p1.getY() ) * ( p0.getY() - p1.getY() );
+        if ( dsq <= 50 * scale * 50 * scale )
         {
-            scale = 1f;
+            track.getWaypointVector( true, 0, v0 );
+            
+            xPoints[j] = x0 + p0.x;
+            yPoints[j] = y0 + p0.y;
+            xVectors[j] = v0.x;
+            yVectors[j] = v0.y;
+            j++;
         }
+        
+        drawPath( xPoints, yPoints, xVectors, yVectors, j, tc );
+        
+        tc.setStroke( oldStroke );
     }
     
     @Override
@@ -832,7 +933,7 @@ public class MapWidget extends Widget
         {
             super.drawBackground( gameData, isEditorMode, texture, offsetX, offsetY, width, height, isRoot );
             
-            drawTrack( track, texture, offsetX, offsetY, width, height );
+            drawTrack( gameData, isEditorMode, track, texture, offsetX, offsetY, width, height );
         }
         else
         {
@@ -846,7 +947,7 @@ public class MapWidget extends Widget
             
             super.drawBackground( gameData, isEditorMode, subTextures[0].getTexture(), offsetX, offsetY, width, height, isRoot );
             
-            drawTrack( track, subTextures[0].getTexture(), offsetX, offsetY, width, height );
+            drawTrack( gameData, isEditorMode, track, subTextures[0].getTexture(), offsetX, offsetY, width, height );
         }
     }
     
@@ -891,8 +992,6 @@ public class MapWidget extends Widget
             final Font font = getFont();
             final boolean posNumberFontAntiAliased = isFontAntiAliased();
             
-            int subTexOff = hasMasterCanvas( isEditorMode ) ? 0 : 1;
-            
             if ( rotationEnabled.getBooleanValue() )
             {
                 float rotation = track.getInterpolatedAngleToRoad( scoringInfo );
@@ -913,8 +1012,8 @@ public class MapWidget extends Widget
                     
                     float lapDistance = vsi.getLapDistance();
                     
-                    TransformableTexture tt = subTextures[subTexOff + i];
-                    subTextures[subTexOff + i].setVisible( true );
+                    TextureAtlas.Item item = itemAtlas.getItem( i );
+                    item.setVisible( true );
                     int itemState = ( place << 0 ) | ( vsi.getDriverId() << 9 );
                     
                     track.getInterpolatedPosition( vsi.isInPits(), lapDistance, scale, position );
@@ -955,22 +1054,25 @@ public class MapWidget extends Widget
                     {
                         itemStates[i] = itemState;
                         
-                        StandardWidgetSet.drawPositionItem( tt.getTexture(), 0, 0, itemRadius, place, color, itemBlackBorderWidth, displayPositionNumbers.getBooleanValue() ? font : null, posNumberFontAntiAliased, getFontColor(), displayNameLabels.getBooleanValue() ? nameLabelPos.getEnumValue() : null, vsi.getDriverNameTLC(), nameLabelFont.getFont(), nameLabelFont.isAntiAliased(), nameLabelFontColor.getColor() );
+                        StandardWidgetSet.drawPositionItem( item.getPage(), item.getPageX(), item.getPageY(), itemRadius, place, color, itemBlackBorderWidth, displayPositionNumbers.getBooleanValue() ? font : null, posNumberFontAntiAliased, getFontColor(), displayNameLabels.getBooleanValue() ? nameLabelPos.getEnumValue() : null, vsi.getDriverNameTLC(), nameLabelFont.getFont(), nameLabelFont.isAntiAliased(), nameLabelFontColor.getColor() );
+                        item.setContentChanged();
                     }
                     
                     if ( rotationEnabled.getBooleanValue() )
                         at.transform( position, position );
                     
-                    tt.setTranslation( position.x, position.y );
+                    item.setPosition( position.x, position.y );
                 }
                 else
                 {
-                    subTextures[subTexOff + i].setVisible( false );
+                    itemAtlas.getItem( i ).setVisible( false );
                 }
             }
             
             for ( int i = numVehicles; i < maxDisplayedVehicles; i++ )
-                subTextures[subTexOff + i].setVisible( false );
+                itemAtlas.getItem( i ).setVisible( false );
+            
+            itemAtlas.update();
         }
     }
 }
@@ -0,0 +1,269 @@
+/**
+ * Copyright (C) 2009-2014 Cars and Tracks Development Project (CTDP).
+ * 
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+ */
+package net.ctdp.rfdynhud.widgets.standard.map;
+
+import java.awt.AlphaComposite;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.FileFilter;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+import javax.imageio.ImageIO;
+
+import net.ctdp.rfdynhud.gamedata.LiveGameData;
+import net.ctdp.rfdynhud.render.TextureImage2D;
+import net.ctdp.rfdynhud.util.RFDHLog;
+
+/**
+ * Persists rasterized track maps in the cache folder, so that the {@link MapWidget}
+ * doesn't need to rasterize the track again in the next session.<br>
+ * The maps are written on a background thread. Only the {@value #MAX_CACHED_MAPS} most recently used maps are kept.
+ * 
+ * @author Marvin Froehlich (CTDP)
+ */
+class TrackMapCache
+{
+    static final int MAX_CACHED_MAPS = 32;
+    
+    private static final FileFilter PNG_FILTER = new FileFilter()
+    {
+        @Override
+        public boolean accept( File file )
+        {
+            return ( file.isFile() && file.getName().endsWith( ".png" ) );
+        }
+    };
+    
+    private static final Comparator<File> LAST_MODIFIED_COMPARATOR = new Comparator<File>()
+    {
+        @Override
+        public int compare( File f1, File f2 )
+        {
+            long lm1 = f1.lastModified();
+            long lm2 = f2.lastModified();
+            
+            if ( lm1 < lm2 )
+                return ( -1 );
+            
+            if ( lm1 > lm2 )
+                return ( +1 );
+            
+            return ( 0 );
+        }
+    };
+    
+    private static ExecutorService writer = null;
+    
+    /**
+     * Replaces all characters, that may not be valid in a file name, by underscores.
+     * 
+     * @param key the key
+     * 
+     * @return the file name for the key (without extension).
+     */
+    static String toFileName( String key )
+    {
+        StringBuilder sb = new StringBuilder( key.length() );
+        
+        for ( int i = 0; i < key.length(); i++ )
+        {
+            char ch = key.charAt( i );
+            
+            if ( ( ( ch >= 'a' ) && ( ch <= 'z' ) ) || ( ( ch >= 'A' ) && ( ch <= 'Z' ) ) || ( ( ch >= '0' ) && ( ch <= '9' ) ) || ( ch == '-' ) || ( ch == '_' ) || ( ch == '.' ) )
+                sb.append( ch );
+            else
+                sb.append( '_' );
+        }
+        
+        return ( sb.toString() );
+    }
+    
+    private static File getCacheFile( LiveGameData gameData, String key, boolean createFolder )
+    {
+        File cacheFolder = gameData.getFileSystem().getCacheFolder();
+        
+        if ( cacheFolder == null )
+            return ( null );
+        
+        cacheFolder = new File( cacheFolder, "maps" );
+        if ( createFolder )
+        {
+            try
+            {
+                cacheFolder.mkdirs();
+            }
+            catch ( Throwable t )
+            {
+                RFDHLog.exception( "WARNING: Failed to create map cache folder." );
+                
+                return ( null );
+            }
+        }
+        else if ( !cacheFolder.exists() )
+        {
+            return ( null );
+        }
+        
+        return ( new File( cacheFolder, toFileName( key ) + ".png" ) );
+    }
+    
+    private static BufferedImage toABGR( BufferedImage image )
+    {
+        if ( image.getType() == BufferedImage.TYPE_4BYTE_ABGR )
+            return ( image );
+        
+        BufferedImage result = new BufferedImage( image.getWidth(), image.getHeight(), BufferedImage.TYPE_4BYTE_ABGR );
+        Graphics2D g = result.createGraphics();
+        g.setComposite( AlphaComposite.Src );
+        g.drawImage( image, 0, 0, null );
+        g.dispose();
+        
+        return ( result );
+    }
+    
+    /**
+     * Loads the cached track map for the given key into the texture.
+     * 
+     * @param gameData the live game data
+     * @param key the key of the map (track name, size and road properties)
+     * @param texture the texture to fill
+     * 
+     * @return <code>true</code>, if a cached map of the texture's size has been found and loaded.
+     */
+    static boolean load( LiveGameData gameData, String key, TextureImage2D texture )
+    {
+        File file = getCacheFile( gameData, key, false );
+        
+        if ( ( file == null ) || !file.isFile() )
+            return ( false );
+        
+        final int width = texture.getWidth();
+        final int height = texture.getHeight();
+        
+        try
+        {
+            BufferedImage image = ImageIO.read( file );
+            
+            if ( ( image == null ) || ( image.getWidth() != width ) || ( image.getHeight() != height ) )
+                return ( false );
+            
+            texture.getTextureCanvas().setClip( 0, 0, width, height );
+            texture.copyImageDataFrom( toABGR( image ), 0, 0, width, height, 0, 0, width, height, true, false, null );
+            
+            // Pruning drops the least recently used maps first.
+            file.setLastModified( System.currentTimeMillis() );
+            
+            return ( true );
+        }
+        catch ( Throwable t )
+        {
+            RFDHLog.exception( t );
+            
+            return ( false );
+        }
+    }
+    
+    /**
+     * Deletes the least recently used maps, so that at most {@value #MAX_CACHED_MAPS} maps are kept.
+     * 
+     * @param cacheFolder the maps cache folder
+     */
+    private static void prune( File cacheFolder )
+    {
+        File[] files = cacheFolder.listFiles( PNG_FILTER );
+        
+        if ( ( files == null ) || ( files.length <= MAX_CACHED_MAPS ) )
+            return;
+        
+        Arrays.sort( files, LAST_MODIFIED_COMPARATOR );
+        
+        for ( int i = 0; i < files.length - MAX_CACHED_MAPS; i++ )
+        {
+            if ( !files[i].delete() )
+                RFDHLog.exception( "WARNING: Failed to delete cached map \"" + files[i].getAbsolutePath() + "\"." );
+        }
+    }
+    
+    private static void write( BufferedImage image, File file )
+    {
+        try
+        {
+            ImageIO.write( image, "png", file );
+        }
+        catch ( Throwable t )
+        {
+            RFDHLog.exception( t );
+        }
+        
+        prune( file.getParentFile() );
+    }
+    
+    /**
+     * Stores the rasterized track map from the texture for the given key.
+     * The pixels are copied immediately. Encoding and writing the file happen on a background thread.
+     * 
+     * @param gameData the live game data
+     * @param key the key of the map (track name, size and road properties)
+     * @param texture the texture holding the rasterized map
+     */
+    static synchronized void save( LiveGameData gameData, String key, TextureImage2D texture )
+    {
+        final File file = getCacheFile( gameData, key, true );
+        
+        if ( file == null )
+            return;
+        
+        final int width = texture.getWidth();
+        final int height = texture.getHeight();
+        
+        final BufferedImage image = new BufferedImage( width, height, BufferedImage.TYPE_4BYTE_ABGR );
+        Graphics2D g = image.createGraphics();
+        g.setComposite( AlphaComposite.Src );
+        g.drawImage( texture.getBufferedImage(), 0, 0, width, height, 0, 0, width, height, null );
+        g.dispose();
+        
+        if ( writer == null )
+        {
+            writer = Executors.newSingleThreadExecutor( new ThreadFactory()
+            {
+                @Override
+                public Thread newThread( Runnable r )
+                {
+                    Thread thread = new Thread( r, "RFDynHUD track map cache writer" );
+                    thread.setDaemon( true );
+                    
+                    return ( thread );
+                }
+            } );
+        }
+        
+        writer.execute( new Runnable()
+        {
+            @Override
+            public void run()
+            {
+                write( image, file );
+            }
+        } );
+    }
+}
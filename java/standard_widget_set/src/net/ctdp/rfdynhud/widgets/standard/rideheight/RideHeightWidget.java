@@ -172,14 +172,19 @@ public class RideHeightWidget extends Widget
         rrString = dsf.newDrawnString( "rrString", width, height - h, Alignment.RIGHT, false, getFont(), isFontAntiAliased(), getFontColor(), null, units );
     }
     
+    /**
+     * {@inheritDoc}
+     */
     @Override
-    protected void drawWidget( Clock clock, boolean needsCompleteRedraw, LiveGameData gameData, boolean isEditorMode, TextureImage2D texture, int offsetX, int offsetY, int width, int height )
+    protected void drawStaticLayer( LiveGameData gameData, boolean isEditorMode, TextureImage2D texture, int offsetX, int offsetY, int width, int height )
     {
-        if ( needsCompleteRedraw && displayHeader.getBooleanValue() )
-        {
+        if ( displayHeader.getBooleanValue() )
             headerString.draw( offsetX, offsetY, Loc.header, texture );
-        }
-        
+    }
+    
+    @Override
+    protected void drawWidget( Clock clock, boolean needsCompleteRedraw, LiveGameData gameData, boolean isEditorMode, TextureImage2D texture, int offsetX, int offsetY, int width, int height )
+    {
         final TelemetryData telemData = gameData.getTelemetryData();
         
         minFL = Math.min( minFL, telemData.getRideHeight( Wheel.FRONT_LEFT ) );
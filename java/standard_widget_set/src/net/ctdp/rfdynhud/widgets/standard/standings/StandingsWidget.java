@@ -42,6 +42,7 @@ import net.ctdp.rfdynhud.util.NumberUtil;
 import net.ctdp.rfdynhud.util.PropertyWriter;
 import net.ctdp.rfdynhud.util.StandingsTools;
 import net.ctdp.rfdynhud.util.SubTextureCollector;
+import net.ctdp.rfdynhud.util.TextBuffer;
 import net.ctdp.rfdynhud.util.TimingUtil;
 import net.ctdp.rfdynhud.valuemanagers.Clock;
 import net.ctdp.rfdynhud.values.LongValue;
@@ -89,7 +90,10 @@ public class StandingsWidget extends StatefulWidget<Object, LocalStore>
     private DrawnString[] positionStrings = null;
     private int maxDisplayedDrivers = 100;
     
-    private String[][] currPosStrings = null;
+    private static final int NUM_COLUMNS = 7;
+    
+    private CharSequence[][] currPosStrings = null;
+    private TextBuffer[][] currPosBuffers = null;
     private final int[] oldColWidths = { 0, 0, 0, 0, 0, 0, 0 };
     private final int[] colWidths = { 0, 0, 0, 0, 0, 0, 0 };
     private final Alignment[] colAligns = { Alignment.RIGHT, Alignment.LEFT, Alignment.RIGHT, Alignment.RIGHT, Alignment.LEFT, Alignment.RIGHT, Alignment.LEFT };
@@ -100,7 +104,8 @@ public class StandingsWidget extends StatefulWidget<Object, LocalStore>
     private VehicleScoringInfo[] vehicleScoringInfos = null;
     
     private int oldNumVehicles = -1;
-    private String[][] oldPosStrings = null;
+    private CharSequence[][] oldPosStrings = null;
+    private TextBuffer[][] oldPosBuffers = null;
     
     private final float[] relTimes = new float[ 64 ];
     
@@ -242,21 +247,42 @@ public class StandingsWidget extends StatefulWidget<Object, LocalStore>
         return ( Widget.NEEDED_DATA_SCORING );
     }
     
-    private static final String[][] ensureCapacity( String[][] array, int minCapacity, boolean preserveValues )
+    private static final CharSequence[][] ensureCapacity( CharSequence[][] array, int minCapacity )
     {
-        if ( array == null )
+        if ( ( array != null ) && ( array.length >= minCapacity ) )
+            return ( array );
+        
+        CharSequence[][] tmp = new CharSequence[ minCapacity ][];
+        int n = 0;
+        if ( array != null )
         {
-            array = new String[ minCapacity ][];
+            System.arraycopy( array, 0, tmp, 0, array.length );
+            n = array.length;
         }
-        else if ( array.length < minCapacity )
+        
+        for ( int i = n; i < minCapacity; i++ )
+            tmp[i] = new CharSequence[ NUM_COLUMNS ];
+        
+        return ( tmp );
+    }
+    
+    private static final TextBuffer[][] ensureCapacity( TextBuffer[][] array, int minCapacity )
+    {
+        if ( ( array != null ) && ( array.length >= minCapacity ) )
+            return ( array );
+        
+        TextBuffer[][] tmp = new TextBuffer[ minCapacity ][];
+        int n = 0;
+        if ( array != null )
         {
-            String[][] tmp = new String[ minCapacity ][];
-            if ( preserveValues )
-                System.arraycopy( array, 0, tmp, 0, array.length );
-            array = tmp;
+            System.arraycopy( array, 0, tmp, 0, array.length );
+            n = array.length;
         }
         
-        return ( array );
+        for ( int i = n; i < minCapacity; i++ )
+            tmp[i] = TextBuffer.createArray( NUM_COLUMNS );
+        
+        return ( tmp );
     }
     
     private final boolean getUseClassScoring()
@@ -381,7 +407,10 @@ public class StandingsWidget extends StatefulWidget<Object, LocalStore>
     private void resetArrays( LiveGameData gameData, boolean isEditorMode )
     {
         if ( oldPosStrings != null )
-            Arrays.fill( oldPosStrings, null );
+        {
+            for ( int i = 0; i < oldPosStrings.length; i++ )
+                Arrays.fill( oldPosStrings[i], null );
+        }
         
         Arrays.fill( oldColWidths, -1 );
         
@@ -471,11 +500,9 @@ public class StandingsWidget extends StatefulWidget<Object, LocalStore>
         return ( Loc.column_topspeed_units_METRIC );
     }
     
-    private String[] getPositionStringRaceRelToLeader( GamePhase gamePhase, VehicleScoringInfo vsi, SpeedUnits speedUnits )
+    private CharSequence[] getPositionStringRaceRelToLeader( CharSequence[] ss, TextBuffer[] tb, GamePhase gamePhase, VehicleScoringInfo vsi, SpeedUnits speedUnits )
     {
-        String[] ss = new String[ 7 ];
-        
-        ss[0] = vsi.getPlace( getUseClassScoring() ) + ".";
+        ss[0] = tb[0].clear().append( vsi.getPlace( getUseClassScoring() ) ).append( '.' );
         
         ss[1] = getDisplayedDriverName( vsi );
         
@@ -491,12 +518,17 @@ public class StandingsWidget extends StatefulWidget<Object, LocalStore>
                 int lbl = vsi.getLapsBehindLeader( getUseClassScoring() );
                 if ( lbl > 0 )
                 {
-                    ss[2] = "(+" + lbl + ( abbreviate.getBooleanValue() ? Loc.column_time_gap_laps_short : ( ( lbl == 1 ) ? " " + Loc.column_time_gap_laps_singular + ")" : " " + Loc.column_time_gap_laps_plural + ")" ) );
+                    tb[2].clear().append( "(+" ).append( lbl );
+                    if ( abbreviate.getBooleanValue() )
+                        tb[2].append( Loc.column_time_gap_laps_short );
+                    else
+                        tb[2].append( ' ' ).append( ( lbl == 1 ) ? Loc.column_time_gap_laps_singular : Loc.column_time_gap_laps_plural ).append( ')' );
+                    ss[2] = tb[2];
                 }
                 else
                 {
                     float sbl = -vsi.getTimeBehindLeader( getUseClassScoring() );
-                    ss[2] = "(" + TimingUtil.getTimeAsGapString( sbl ) + ")";
+                    ss[2] = TimingUtil.appendTimeAsGapString( sbl, tb[2].clear().append( '(' ) ).append( ')' );
                 }
             }
             
@@ -505,17 +537,17 @@ public class StandingsWidget extends StatefulWidget<Object, LocalStore>
                 int stops = vsi.getNumPitstopsMade();
                 if ( abbreviate.getBooleanValue() )
                 {
-                    ss[3] = String.valueOf( stops ) + Loc.column_stops_short;
+                    ss[3] = tb[3].clear().append( stops ).append( Loc.column_stops_short );
                     ss[4] = null;
                 }
                 else if ( stops == 1 )
                 {
-                    ss[3] = String.valueOf( stops );
+                    ss[3] = tb[3].clear().append( stops );
                     ss[4] = Loc.column_stops_singular;
                 }
                 else
                 {
-                    ss[3] = String.valueOf( stops );
+                    ss[3] = tb[3].clear().append( stops );
                     ss[4] = Loc.column_stops_plural;
                 }
             }
@@ -527,7 +559,7 @@ public class StandingsWidget extends StatefulWidget<Object, LocalStore>
             
             if ( showTopspeeds.getBooleanValue() )
             {
-                ss[5] = NumberUtil.formatFloat( vsi.getTopspeed(), 1, true );
+                ss[5] = NumberUtil.appendFloat( vsi.getTopspeed(), 1, true, tb[5].clear() );
                 ss[6] = getSpeedUnits( speedUnits );
             }
             else
@@ -538,7 +570,7 @@ public class StandingsWidget extends StatefulWidget<Object, LocalStore>
         }
         else if ( finishStatus == FinishStatus.FINISHED )
         {
-            ss[2] = "(" + Loc.finishsstatus_FINISHED + ")";
+            ss[2] = tb[2].clear().append( '(' ).append( Loc.finishsstatus_FINISHED ).append( ')' );
             ss[3] = null;
             ss[4] = null;
             ss[5] = null;
@@ -546,13 +578,15 @@ public class StandingsWidget extends StatefulWidget<Object, LocalStore>
         }
         else
         {
+            ss[2] = null;
+            
             switch ( finishStatus )
             {
                 case DNF:
-                    ss[2] = Loc.out + " (" + Loc.finishsstatus_DNF + ")";
+                    ss[2] = tb[2].clear().append( Loc.out ).append( " (" ).append( Loc.finishsstatus_DNF ).append( ')' );
                     break;
                 case DQ:
-                    ss[2] = Loc.out + " (" + Loc.finishsstatus_DQ + ")";
+                    ss[2] = tb[2].clear().append( Loc.out ).append( " (" ).append( Loc.finishsstatus_DQ ).append( ')' );
                     break;
             }
             
@@ -565,10 +599,9 @@ public class StandingsWidget extends StatefulWidget<Object, LocalStore>
         return ( ss );
     }
     
-    private String[] getPositionStringRaceRelToMe( int ownPlace, int ownLaps, float ownLapDistance, float relTime, GamePhase gamePhase, VehicleScoringInfo vsi, SpeedUnits speedUnits )
+    private CharSequence[] getPositionStringRaceRelToMe( CharSequence[] ss, TextBuffer[] tb, int ownPlace, int ownLaps, float ownLapDistance, float relTime, GamePhase gamePhase, VehicleScoringInfo vsi, SpeedUnits speedUnits )
     {
-        String[] ss = new String[ 7 ];
-        ss[0] = vsi.getPlace( getUseClassScoring() ) + ".";
+        ss[0] = tb[0].clear().append( vsi.getPlace( getUseClassScoring() ) ).append( '.' );
         
         ss[1] = getDisplayedDriverName( vsi );
         
@@ -586,20 +619,20 @@ public class StandingsWidget extends StatefulWidget<Object, LocalStore>
                 if ( lapDiff < 0 )
                 {
                     if ( abbreviate.getBooleanValue() )
-                        ss[2] = "(" + lapDiff + Loc.column_time_gap_laps_short + ")";
+                        ss[2] = tb[2].clear().append( '(' ).append( lapDiff ).append( Loc.column_time_gap_laps_short ).append( ')' );
                     else
-                        ss[2] = "(" + lapDiff + " " + ( ( lapDiff < -1 ) ? Loc.column_time_gap_laps_plural : Loc.column_time_gap_laps_singular ) + ")";
+                        ss[2] = tb[2].clear().append( '(' ).append( lapDiff ).append( ' ' ).append( ( lapDiff < -1 ) ? Loc.column_time_gap_laps_plural : Loc.column_time_gap_laps_singular ).append( ')' );
                 }
                 else if ( lapDiff > 0 )
                 {
                     if ( abbreviate.getBooleanValue() )
-                        ss[2] = "(+" + lapDiff + Loc.column_time_gap_laps_short + ")";
+                        ss[2] = tb[2].clear().append( "(+" ).append( lapDiff ).append( Loc.column_time_gap_laps_short ).append( ')' );
                     else
-                        ss[2] = "(+" + lapDiff + " " + ( ( lapDiff > 1 ) ? Loc.column_time_gap_laps_plural : Loc.column_time_gap_laps_singular ) + ")";
+                        ss[2] = tb[2].clear().append( "(+" ).append( lapDiff ).append( ' ' ).append( ( lapDiff > 1 ) ? Loc.column_time_gap_laps_plural : Loc.column_time_gap_laps_singular ).append( ')' );
                 }
                 else
                 {
-                    ss[2] = "(" + TimingUtil.getTimeAsGapString( relTime ) + ")";
+                    ss[2] = TimingUtil.appendTimeAsGapString( relTime, tb[2].clear().append( '(' ) ).append( ')' );
                 }
             }
             else
@@ -612,17 +645,17 @@ public class StandingsWidget extends StatefulWidget<Object, LocalStore>
                 int stops = vsi.getNumPitstopsMade();
                 if ( abbreviate.getBooleanValue() )
                 {
-                    ss[3] = String.valueOf( stops ) + Loc.column_stops_short;
+                    ss[3] = tb[3].clear().append( stops ).append( Loc.column_stops_short );
                     ss[4] = null;
                 }
                 else if ( stops == 1 )
                 {
-                    ss[3] = String.valueOf( stops );
+                    ss[3] = tb[3].clear().append( stops );
                     ss[4] = Loc.column_stops_singular;
                 }
                 else
                 {
-                    ss[3] = String.valueOf( stops );
+                    ss[3] = tb[3].clear().append( stops );
                     ss[4] = Loc.column_stops_plural;
                 }
             }
@@ -634,7 +667,7 @@ public class StandingsWidget extends StatefulWidget<Object, LocalStore>
             
             if ( showTopspeeds.getBooleanValue() )
             {
-                ss[5] = NumberUtil.formatFloat( vsi.getTopspeed(), 1, true );
+                ss[5] = NumberUtil.appendFloat( vsi.getTopspeed(), 1, true, tb[5].clear() );
                 ss[6] = getSpeedUnits( speedUnits );
             }
             else
@@ -645,7 +678,7 @@ public class StandingsWidget extends StatefulWidget<Object, LocalStore>
         }
         else if ( finishStatus == FinishStatus.FINISHED )
         {
-            ss[2] = "(" + Loc.finishsstatus_FINISHED + ")";
+            ss[2] = tb[2].clear().append( '(' ).append( Loc.finishsstatus_FINISHED ).append( ')' );
             ss[3] = null;
             ss[4] = null;
             ss[5] = null;
@@ -653,13 +686,15 @@ public class StandingsWidget extends StatefulWidget<Object, LocalStore>
         }
         else
         {
+            ss[2] = null;
+            
             switch ( finishStatus )
             {
                 case DNF:
-                    ss[2] = Loc.out + " (" + Loc.finishsstatus_DNF + ")";
+                    ss[2] = tb[2].clear().append( Loc.out ).append( " (" ).append( Loc.finishsstatus_DNF ).append( ')' );
                     break;
                 case DQ:
-                    ss[2] = Loc.out + " (" + Loc.finishsstatus_DQ + ")";
+                    ss[2] = tb[2].clear().append( Loc.out ).append( " (" ).append( Loc.finishsstatus_DQ ).append( ')' );
                     break;
             }
             
@@ -672,16 +707,16 @@ public class StandingsWidget extends StatefulWidget<Object, LocalStore>
         return ( ss );
     }
     
-    private String[] getPosStringRace( int ownPlace, int ownLaps, float ownLapDistance, GamePhase gamePhase, VehicleScoringInfo vsi, SpeedUnits speedUnits )
+    private CharSequence[] getPosStringRace( CharSequence[] ss, TextBuffer[] tb, int ownPlace, int ownLaps, float ownLapDistance, GamePhase gamePhase, VehicleScoringInfo vsi, SpeedUnits speedUnits )
     {
         switch ( getView() )
         {
             case RELATIVE_TO_LEADER:
-                return ( getPositionStringRaceRelToLeader( gamePhase, vsi, speedUnits ) );
+                return ( getPositionStringRaceRelToLeader( ss, tb, gamePhase, vsi, speedUnits ) );
             case RELATIVE_TO_ME:
-                return ( getPositionStringRaceRelToMe( ownPlace, ownLaps, ownLapDistance, relTimes[vsi.getPlace( false ) - 1], gamePhase, vsi, speedUnits ) );
+                return ( getPositionStringRaceRelToMe( ss, tb, ownPlace, ownLaps, ownLapDistance, relTimes[vsi.getPlace( false ) - 1], gamePhase, vsi, speedUnits ) );
             case ABSOLUTE_TIMES: // Only possible in the editor!
-                return ( getPositionStringNonRaceAbsTimes( vsi, speedUnits ) );
+                return ( getPositionStringNonRaceAbsTimes( ss, tb, vsi, speedUnits ) );
         }
         
         // unreachable code
@@ -706,20 +741,20 @@ public class StandingsWidget extends StatefulWidget<Object, LocalStore>
             StandingsTools.computeRaceGapsRelativeToPosition( scoringInfo, myVSI, relTimes );
         }
         
-        currPosStrings = ensureCapacity( currPosStrings, numVehicles, false );
+        currPosStrings = ensureCapacity( currPosStrings, numVehicles );
+        currPosBuffers = ensureCapacity( currPosBuffers, numVehicles );
         
         for ( int i = 0; i < numVehicles; i++ )
         {
-            currPosStrings[i] = getPosStringRace( ownPlace, ownLaps, ownLapDistance, gamePhase, vehicleScoringInfos[i], speedUnits );
+            getPosStringRace( currPosStrings[i], currPosBuffers[i], ownPlace, ownLaps, ownLapDistance, gamePhase, vehicleScoringInfos[i], speedUnits );
         }
         
         return ( numVehicles );
     }
     
-    private String[] getPositionStringNonRaceRelToLeader( int firstVisiblePlace, float bestTime, VehicleScoringInfo vsi, SpeedUnits speedUnits )
+    private CharSequence[] getPositionStringNonRaceRelToLeader( CharSequence[] ss, TextBuffer[] tb, int firstVisiblePlace, float bestTime, VehicleScoringInfo vsi, SpeedUnits speedUnits )
     {
-        String[] ss = new String[ 7 ];
-        ss[0] = vsi.getPlace( getUseClassScoring() ) + ".";
+        ss[0] = tb[0].clear().append( vsi.getPlace( getUseClassScoring() ) ).append( '.' );
         
         ss[1] = getDisplayedDriverName( vsi );
         
@@ -728,9 +763,9 @@ public class StandingsWidget extends StatefulWidget<Object, LocalStore>
         if ( t > 0f )
         {
             if ( vsi.getPlace( getUseClassScoring() ) == firstVisiblePlace )
-                ss[2] = "(" + TimingUtil.getTimeAsLaptimeString( t ) + ")";
+                ss[2] = TimingUtil.appendTimeAsLaptimeString( t, tb[2].clear().append( '(' ) ).append( ')' );
             else
-                ss[2] = "(" + TimingUtil.getTimeAsGapString( t - bestTime ) + ")";
+                ss[2] = TimingUtil.appendTimeAsGapString( t - bestTime, tb[2].clear().append( '(' ) ).append( ')' );
         }
         else
         {
@@ -742,17 +777,17 @@ public class StandingsWidget extends StatefulWidget<Object, LocalStore>
             int lapsCompleted = vsi.getLapsCompleted();
             if ( abbreviate.getBooleanValue() )
             {
-                ss[3] = String.valueOf( lapsCompleted ) + Loc.column_laps_short;
+                ss[3] = tb[3].clear().append( lapsCompleted ).append( Loc.column_laps_short );
                 ss[4] = null;
             }
             else if ( lapsCompleted == 1 )
             {
-                ss[3] = String.valueOf( lapsCompleted );
+                ss[3] = tb[3].clear().append( lapsCompleted );
                 ss[4] = Loc.column_laps_singular;
             }
             else
             {
-                ss[3] = String.valueOf( lapsCompleted );
+                ss[3] = tb[3].clear().append( lapsCompleted );
                 ss[4] = Loc.column_laps_plural;
             }
         }        
@@ -764,7 +799,7 @@ public class StandingsWidget extends StatefulWidget<Object, LocalStore>
         
         if ( showTopspeeds.getBooleanValue() )
         {
-            ss[5] = NumberUtil.formatFloat( vsi.getTopspeed(), 1, true );
+            ss[5] = NumberUtil.appendFloat( vsi.getTopspeed(), 1, true, tb[5].clear() );
             ss[6] = getSpeedUnits( speedUnits );
         }
         else
@@ -776,10 +811,9 @@ public class StandingsWidget extends StatefulWidget<Object, LocalStore>
         return ( ss );
     }
     
-    private String[] getPositionStringNonRaceRelToMe( int ownPlace, float ownTime, VehicleScoringInfo vsi, SpeedUnits speedUnits )
+    private CharSequence[] getPositionStringNonRaceRelToMe( CharSequence[] ss, TextBuffer[] tb, int ownPlace, float ownTime, VehicleScoringInfo vsi, SpeedUnits speedUnits )
     {
-        String[] ss = new String[ 7 ];
-        ss[0] = vsi.getPlace( getUseClassScoring() ) + ".";
+        ss[0] = tb[0].clear().append( vsi.getPlace( getUseClassScoring() ) ).append( '.' );
         
         ss[1] = getDisplayedDriverName( vsi );
         
@@ -788,9 +822,9 @@ public class StandingsWidget extends StatefulWidget<Object, LocalStore>
         if ( t > 0f )
         {
             if ( vsi.getPlace( getUseClassScoring() ) == ownPlace )
-                ss[2] = "(" + TimingUtil.getTimeAsLaptimeString( t ) + ")";
+                ss[2] = TimingUtil.appendTimeAsLaptimeString( t, tb[2].clear().append( '(' ) ).append( ')' );
             else
-                ss[2] = "(" + TimingUtil.getTimeAsGapString( t - ownTime ) + ")";
+                ss[2] = TimingUtil.appendTimeAsGapString( t - ownTime, tb[2].clear().append( '(' ) ).append( ')' );
         }
         else
         {
@@ -802,17 +836,17 @@ public class StandingsWidget extends StatefulWidget<Object, LocalStore>
             int lapsCompleted = vsi.getLapsCompleted();
             if ( abbreviate.getBooleanValue() )
             {
-                ss[3] = String.valueOf( lapsCompleted ) + Loc.column_laps_short;
+                ss[3] = tb[3].clear().append( lapsCompleted ).append( Loc.column_laps_short );
                 ss[4] = null;
             }
             else if ( lapsCompleted == 1 )
             {
-                ss[3] = String.valueOf( lapsCompleted );
+                ss[3] = tb[3].clear().append( lapsCompleted );
                 ss[4] = Loc.column_laps_singular;
             }
             else
             {
-                ss[3] = String.valueOf( lapsCompleted );
+                ss[3] = tb[3].clear().append( lapsCompleted );
                 ss[4] = Loc.column_laps_plural;
             }
         }        
@@ -824,7 +858,7 @@ public class StandingsWidget extends StatefulWidget<Object, LocalStore>
         
         if ( showTopspeeds.getBooleanValue() )
         {
-            ss[5] = NumberUtil.formatFloat( vsi.getTopspeed(), 1, true );
+            ss[5] = NumberUtil.appendFloat( vsi.getTopspeed(), 1, true, tb[5].clear() );
             ss[6] = getSpeedUnits( speedUnits );
         }
         else
@@ -836,10 +870,9 @@ public class StandingsWidget extends StatefulWidget<Object, LocalStore>
         return ( ss );
     }
     
-    private String[] getPositionStringNonRaceAbsTimes( VehicleScoringInfo vsi, SpeedUnits speedUnits )
+    private CharSequence[] getPositionStringNonRaceAbsTimes( CharSequence[] ss, TextBuffer[] tb, VehicleScoringInfo vsi, SpeedUnits speedUnits )
     {
-        String[] ss = new String[ 7 ];
-        ss[0] = vsi.getPlace( getUseClassScoring() ) + ".";
+        ss[0] = tb[0].clear().append( vsi.getPlace( getUseClassScoring() ) ).append( '.' );
         
         ss[1] = getDisplayedDriverName( vsi );
         
@@ -847,7 +880,7 @@ public class StandingsWidget extends StatefulWidget<Object, LocalStore>
         
         if ( t > 0f )
         {
-            ss[2] = TimingUtil.getTimeAsLaptimeString( t );
+            ss[2] = TimingUtil.appendTimeAsLaptimeString( t, tb[2].clear() );
         }
         else
         {
@@ -859,17 +892,17 @@ public class StandingsWidget extends StatefulWidget<Object, LocalStore>
             int lapsCompleted = vsi.getLapsCompleted();
             if ( abbreviate.getBooleanValue() )
             {
-                ss[3] = String.valueOf( lapsCompleted ) + Loc.column_laps_short;
+                ss[3] = tb[3].clear().append( lapsCompleted ).append( Loc.column_laps_short );
                 ss[4] = null;
             }
             else if ( lapsCompleted == 1 )
             {
-                ss[3] = String.valueOf( lapsCompleted );
+                ss[3] = tb[3].clear().append( lapsCompleted );
                 ss[4] = Loc.column_laps_singular;
             }
             else
             {
-                ss[3] = String.valueOf( lapsCompleted );
+                ss[3] = tb[3].clear().append( lapsCompleted );
                 ss[4] = Loc.column_laps_plural;
             }
         }
@@ -881,7 +914,7 @@ public class StandingsWidget extends StatefulWidget<Object, LocalStore>
         
         if ( showTopspeeds.getBooleanValue() )
         {
-            ss[5] = NumberUtil.formatFloat( vsi.getTopspeed(), 1, true );
+            ss[5] = NumberUtil.appendFloat( vsi.getTopspeed(), 1, true, tb[5].clear() );
             ss[6] = getSpeedUnits( speedUnits );
         }
         else
@@ -893,15 +926,15 @@ public class StandingsWidget extends StatefulWidget<Object, LocalStore>
         return ( ss );
     }
     
-    private String[] getPosStringNonRace( VehicleScoringInfo vsi, int firstVisiblePlace, int ownPlace, float ownTime, float bestTime, SpeedUnits speedUnits )
+    private CharSequence[] getPosStringNonRace( CharSequence[] ss, TextBuffer[] tb, VehicleScoringInfo vsi, int firstVisiblePlace, int ownPlace, float ownTime, float bestTime, SpeedUnits speedUnits )
     {
         if ( getView() == StandingsView.ABSOLUTE_TIMES )
-            return ( getPositionStringNonRaceAbsTimes( vsi, speedUnits ) );
+            return ( getPositionStringNonRaceAbsTimes( ss, tb, vsi, speedUnits ) );
         
         if ( ( getView() == StandingsView.RELATIVE_TO_LEADER ) || ( ownTime <= 0f ) )
-            return ( getPositionStringNonRaceRelToLeader( firstVisiblePlace, bestTime, vsi, speedUnits ) );
+            return ( getPositionStringNonRaceRelToLeader( ss, tb, firstVisiblePlace, bestTime, vsi, speedUnits ) );
         
-        return ( getPositionStringNonRaceRelToMe( ownPlace, ownTime, vsi, speedUnits ) );
+        return ( getPositionStringNonRaceRelToMe( ss, tb, ownPlace, ownTime, vsi, speedUnits ) );
     }
     
     private int initPosStringsNonRace( LiveGameData gameData )
@@ -917,13 +950,14 @@ public class StandingsWidget extends StatefulWidget<Object, LocalStore>
         int ownPlace = ownVSI.getPlace( getUseClassScoring() );
         float ownTime = ownVSI.getBestLapTime();
         
-        currPosStrings = ensureCapacity( currPosStrings, numVehicles, false );
+        currPosStrings = ensureCapacity( currPosStrings, numVehicles );
+        currPosBuffers = ensureCapacity( currPosBuffers, numVehicles );
         
         for ( int i = 0; i < numVehicles; i++ )
         {
             VehicleScoringInfo vsi = vehicleScoringInfos[i];
             
-            currPosStrings[i] = getPosStringNonRace( vsi, firstVisiblePlace, ownPlace, ownTime, bestTime, speedUnits );
+            getPosStringNonRace( currPosStrings[i], currPosBuffers[i], vsi, firstVisiblePlace, ownPlace, ownTime, bestTime, speedUnits );
         }
         
         return ( numVehicles );
@@ -1010,7 +1044,9 @@ public class StandingsWidget extends StatefulWidget<Object, LocalStore>
         
         numVehicles = -1;
         oldPosStrings = null;
+        oldPosBuffers = null;
         currPosStrings = null;
+        currPosBuffers = null;
     }
     
     /**
@@ -1063,7 +1099,8 @@ public class StandingsWidget extends StatefulWidget<Object, LocalStore>
     {
         final boolean clock2 = clock.c3();
         
-        oldPosStrings = ensureCapacity( oldPosStrings, numVehicles, true );
+        oldPosStrings = ensureCapacity( oldPosStrings, numVehicles );
+        oldPosBuffers = ensureCapacity( oldPosBuffers, numVehicles );
         
         if ( clock2 && !Arrays.equals( oldColWidths, colWidths ) )
         {
@@ -1075,7 +1112,7 @@ public class StandingsWidget extends StatefulWidget<Object, LocalStore>
         
         for ( int i = 0; i < numVehicles; i++ )
         {
-            if ( needsCompleteRedraw || ( clock2 && !Arrays.equals( currPosStrings[i], oldPosStrings[i] ) ) )
+            if ( needsCompleteRedraw || ( clock2 && !TextBuffer.contentEquals( currPosStrings[i], oldPosStrings[i] ) ) )
             {
                 java.awt.Color fc = null;
                 
@@ -1096,7 +1133,7 @@ public class StandingsWidget extends StatefulWidget<Object, LocalStore>
                 
                 positionStrings[i].drawColumns( offsetX, offsetY, currPosStrings[i], colAligns, colPadding, colWidths, fc, texture );
                 
-                oldPosStrings[i] = currPosStrings[i];
+                TextBuffer.copyContent( currPosStrings[i], oldPosBuffers[i], oldPosStrings[i] );
             }
         }
     }
@@ -36,6 +36,7 @@ import net.ctdp.rfdynhud.valuemanagers.Clock;
 import net.ctdp.rfdynhud.values.EnumValue;
 import net.ctdp.rfdynhud.values.IntValue;
 import net.ctdp.rfdynhud.widgets.base.widget.Widget;
+import net.ctdp.rfdynhud.widgets.base.widget.WidgetInput;
 import net.ctdp.rfdynhud.widgets.base.widget.__WPrivilegedAccess;
 import net.ctdp.rfdynhud.widgets.standard._util.StandardWidgetSet;
 
@@ -48,6 +49,8 @@ public class StartingLightWidget extends Widget
 {
     private static final int MAX_LIGHTS = 5;
     
+    private static final WidgetInput[] DRAW_INPUTS = { WidgetInput.SCORING_START_LIGHTS };
+    
     private TextureImage2D offImage = null;
     private final ImageProperty offImageProp = new ImageProperty( "offImageName", "standard/starting_light_off.png" )
     {
@@ -244,6 +247,15 @@ public class StartingLightWidget extends Widget
         return ( offImage.getWidth() * MAX_LIGHTS + getEffectiveWidth() - getInnerSize().getEffectiveWidth() );
     }
     
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public WidgetInput[] getDrawInputs()
+    {
+        return ( DRAW_INPUTS );
+    }
+    
     @Override
     protected boolean checkForChanges( LiveGameData gameData, boolean isEditorMode, TextureImage2D texture, int width, int height )
     {
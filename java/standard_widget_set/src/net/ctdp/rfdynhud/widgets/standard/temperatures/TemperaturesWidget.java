@@ -671,6 +671,32 @@ public class TemperaturesWidget extends Widget
         texture.markDirty( x, y, w, h, null );
     }
     
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void drawStaticLayer( LiveGameData gameData, boolean isEditorMode, TextureImage2D texture, int offsetX, int offsetY, int width, int height )
+    {
+        if ( displayTires.getBooleanValue() && tireIcon.hasTexture() )
+        {
+            int top = tireTempFLString.getAbsY() + 2;
+            top += ( tireSize.getEffectiveHeight() * 2 + gap - tireIcon.getTexture().getHeight() ) / 2;
+            texture.drawImage( tireIcon.getTexture(), offsetX, offsetY + top, true, null );
+        }
+        
+        if ( displayBrakes.getBooleanValue() )
+        {
+            brakesHeaderString.draw( offsetX, offsetY, Loc.brakes_header_prefix + ":", texture );
+            
+            if ( brakeDiscIcon.hasTexture() )
+            {
+                int top = brakeTempFLString.getAbsY();
+                top += ( brakeSize.getEffectiveHeight() * 2 + gap - brakeDiscIcon.getTexture().getHeight() ) / 2;
+                texture.drawImage( brakeDiscIcon.getTexture(), offsetX, offsetY + top, true, null );
+            }
+        }
+    }
+    
     @Override
     protected void drawWidget( Clock clock, boolean needsCompleteRedraw, LiveGameData gameData, boolean isEditorMode, TextureImage2D texture, int offsetX, int offsetY, int width, int height )
     {
@@ -689,8 +715,6 @@ public class TemperaturesWidget extends Widget
             TireCompound tireCompound = setup.getGeneral().getFrontTireCompound();
             if ( displayTires.getBooleanValue() )
                 tiresHeaderString.draw( offsetX, offsetY, tireCompound.getName() + " (" + NumberUtil.formatFloat( tireCompound.getWheel( Wheel.FRONT_LEFT ).getOptimumTemperature(), 1, true ) + getTempUnits( gameData.getProfileInfo().getMeasurementUnits() ) + ")", texture );
-            if ( displayBrakes.getBooleanValue() )
-                brakesHeaderString.draw( offsetX, offsetY, Loc.brakes_header_prefix + ":", texture );
         }
         
         if ( displayEngine.getBooleanValue() )
@@ -749,13 +773,6 @@ public class TemperaturesWidget extends Widget
                 drawTire( telemData, Wheel.FRONT_LEFT, wheel, texture, offsetX + tireTempFLString.getAbsX() + 3, offsetY + tireTempFLString.getAbsY() + 2 );
             }
             
-            if ( needsCompleteRedraw && tireIcon.hasTexture() )
-            {
-                int top = tireTempFLString.getAbsY() + 2;
-                top += ( tireSize.getEffectiveHeight() * 2 + gap - tireIcon.getTexture().getHeight() ) / 2;
-                texture.drawImage( tireIcon.getTexture(), offsetX, offsetY + top, true, null );
-            }
-            
             int tireTempFR = Math.round( telemData.getTireTemperature( Wheel.FRONT_RIGHT ) * 10f );
             if ( needsCompleteRedraw || ( c && ( tireTempFR != oldTireTemps[1] ) ) )
             {
@@ -837,13 +854,6 @@ public class TemperaturesWidget extends Widget
                 drawBrake( brakeTempFL, physics.getBrakes().getBrake( Wheel.FRONT_LEFT ), texture, offsetX + brakeTempFLString.getAbsX() + 3, offsetY + brakeTempFLString.getAbsY() );
             }
             
-            if ( needsCompleteRedraw && brakeDiscIcon.hasTexture() )
-            {
-                int top = brakeTempFLString.getAbsY();
-                top += ( brakeSize.getEffectiveHeight() * 2 + gap - brakeDiscIcon.getTexture().getHeight() ) / 2;
-                texture.drawImage( brakeDiscIcon.getTexture(), offsetX, offsetY + top, true, null );
-            }
-            
             if ( needsCompleteRedraw || ( c && brakesUpdateAllowed && ( brakeTempFR != oldBrakeTemps[1] ) ) )
             {
                 oldBrakeTemps[1] = brakeTempFR;
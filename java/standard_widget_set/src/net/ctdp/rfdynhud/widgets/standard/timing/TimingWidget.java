@@ -37,6 +37,7 @@ import net.ctdp.rfdynhud.render.DrawnStringFactory;
 import net.ctdp.rfdynhud.render.TextureImage2D;
 import net.ctdp.rfdynhud.util.PropertyWriter;
 import net.ctdp.rfdynhud.util.SubTextureCollector;
+import net.ctdp.rfdynhud.util.TextBuffer;
 import net.ctdp.rfdynhud.util.TimingUtil;
 import net.ctdp.rfdynhud.valuemanagers.Clock;
 import net.ctdp.rfdynhud.values.BoolValue;
@@ -113,7 +114,16 @@ public class TimingWidget extends Widget
     private int colPadding = 10;
     
     private final LongValue scoringInfoUpdateID = new LongValue();
-    private final String[][] oldClStrings = new String[ 4 ][ 0 ];
+    private static final String MAX_LAPTIME_STRING = TimingUtil.getTimeAsLaptimeString( 90.0f );
+    
+    private int clCols = -1;
+    private CharSequence[][] clStrings = null;
+    private int[] clColWidths = null;
+    private Alignment[] clAligns = null;
+    private final TextBuffer[][] clBuffers = { TextBuffer.createArray( 5 ), TextBuffer.createArray( 5 ), TextBuffer.createArray( 5 ), TextBuffer.createArray( 5 ) };
+    private final java.awt.Color[][] clGapColors = new java.awt.Color[ 4 ][ 2 ];
+    private final CharSequence[][] oldClStrings = new CharSequence[ 4 ][ 0 ];
+    private final TextBuffer[][] oldClBuffers = { TextBuffer.createArray( 5 ), TextBuffer.createArray( 5 ), TextBuffer.createArray( 5 ), TextBuffer.createArray( 5 ) };
     
     public TimingWidget()
     {
@@ -383,6 +393,19 @@ public class TimingWidget extends Widget
         fontColors[4] = getFontColor();
     }
     
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void drawStaticLayer( LiveGameData gameData, boolean isEditorMode, TextureImage2D texture, int offsetX, int offsetY, int width, int height )
+    {
+        if ( ownFastestLapHeaderString != null )
+            ownFastestLapHeaderString.draw( offsetX, offsetY, Loc.own_fastest_prefix + ":", texture );
+        
+        if ( currLapHeaderString != null )
+            currLapHeaderString.draw( offsetX, offsetY, Loc.current_prefix + ":", texture );
+    }
+    
     /**
      * {@inheritDoc}
      */
@@ -519,11 +542,6 @@ public class TimingWidget extends Widget
             Laptime laptime = myVSI.getFastestLaptime();
             float lap = myVSI.getBestLapTime();
             
-            if ( needsCompleteRedraw )
-            {
-                ownFastestLapHeaderString.draw( offsetX, offsetY, Loc.own_fastest_prefix + ":", texture );
-            }
-            
             int lap_ = Math.round( lap * 10000f );
             
             boolean lv = ( lap > 0f );
@@ -685,11 +703,6 @@ public class TimingWidget extends Widget
         {
             // current lap
             
-            if ( needsCompleteRedraw && ( currLapHeaderString != null ) )
-            {
-                currLapHeaderString.draw( offsetX, offsetY, Loc.current_prefix + ":", texture );
-            }
-            
             Laptime ownFastestLaptime = myVSI.getFastestLaptime();
             float lap = myVSI.getCurrentLaptime();
             
@@ -732,13 +745,26 @@ public class TimingWidget extends Widget
                 final boolean dispOwnFastest = displayOwnFastest.getBooleanValue() || ( !displayAbsFastest.getBooleanValue() && !displayOwnFastest.getBooleanValue() );
                 final boolean dispAbsFastest = displayAbsFastest.getBooleanValue() || ( !displayAbsFastest.getBooleanValue() && !displayOwnFastest.getBooleanValue() );
                 int cols = 3 + ( dispOwnFastest ? 1 : 0 ) + ( dispAbsFastest ? 1 : 0 );
-                String[][] s = new String[4][cols];
-                int[] colWidths = new int[cols];
-                final Alignment[] aligns = new Alignment[ cols ];
-                aligns[0] = Alignment.RIGHT;
-                aligns[1] = Alignment.LEFT;
-                for ( int i = 2; i < aligns.length; i++ )
-                    aligns[i] = Alignment.RIGHT;
+                if ( cols != clCols )
+                {
+                    clCols = cols;
+                    clStrings = new CharSequence[ 4 ][ cols ];
+                    clColWidths = new int[ cols ];
+                    clAligns = new Alignment[ cols ];
+                    clAligns[0] = Alignment.RIGHT;
+                    clAligns[1] = Alignment.LEFT;
+                    for ( int i = 2; i < clAligns.length; i++ )
+                        clAligns[i] = Alignment.RIGHT;
+                }
+                
+                final CharSequence[][] s = clStrings;
+                final TextBuffer[][] tb = clBuffers;
+                final int[] colWidths = clColWidths;
+                final Alignment[] aligns = clAligns;
+                
+                for ( int i = 0; i < s.length; i++ )
+                    Arrays.fill( s[i], null );
+                Arrays.fill( colWidths, 0 );
                 
                 if ( !isDelaying || isEditorMode )
                 {
@@ -767,12 +793,14 @@ public class TimingWidget extends Widget
                     gapAFLap = lap - afLap;
                 }
                 
-                java.awt.Color[] sfColor1 = new java.awt.Color[] { getFontColor(), getFontColor() };
-                s[0][0] = Loc.timing_sector1_prefix + ":";
+                final java.awt.Color[] sfColor1 = clGapColors[0];
+                sfColor1[0] = getFontColor();
+                sfColor1[1] = getFontColor();
+                s[0][0] = tb[0][0].clear().append( Loc.timing_sector1_prefix ).append( ':' );
                 s[0][1] = null;
                 if ( sec1 > 0f )
                 {
-                    s[0][2] = TimingUtil.getTimeAsLaptimeString( sec1 );
+                    s[0][2] = TimingUtil.appendTimeAsLaptimeString( sec1, tb[0][2].clear() );
                     if ( !isEditorMode && ( sector == 1 ) && !isDelaying )
                     {
                         if ( cols >= 4 )
@@ -789,7 +817,7 @@ public class TimingWidget extends Widget
                             if ( ofValid && gapOFSec1Valid )
                             {
                                 sfColor1[ii - 3] = ( gapOFSec1 < 0f ) ? fasterColor.getColor() : slowerColor.getColor();
-                                s[0][ii] = "(" + TimingUtil.getTimeAsGapString( gapOFSec1 ) + ")";
+                                s[0][ii] = TimingUtil.appendTimeAsGapString( gapOFSec1, tb[0][ii].clear().append( '(' ) ).append( ')' );
                             }
                             else
                                 s[0][ii] = "--.---";
@@ -804,7 +832,7 @@ public class TimingWidget extends Widget
                                 if ( gapAFSec1Valid )
                                 {
                                     sfColor1[ii - 3] = ( gapAFSec1 < 0f ) ? fasterColor.getColor() : slowerColor.getColor();
-                                    s[0][ii] = "(" + TimingUtil.getTimeAsGapString( gapAFSec1 ) + ")";
+                                    s[0][ii] = TimingUtil.appendTimeAsGapString( gapAFSec1, tb[0][ii].clear().append( '(' ) ).append( ')' );
                                 }
                                 else
                                     s[0][ii] = "--.---";
@@ -825,12 +853,14 @@ public class TimingWidget extends Widget
                         s[0][4] = null;
                 }
                 
-                java.awt.Color[] sfColor2 = new java.awt.Color[] { getFontColor(), getFontColor() };
-                s[1][0] = Loc.timing_sector2_prefix + ":";
+                final java.awt.Color[] sfColor2 = clGapColors[1];
+                sfColor2[0] = getFontColor();
+                sfColor2[1] = getFontColor();
+                s[1][0] = tb[1][0].clear().append( Loc.timing_sector2_prefix ).append( ':' );
                 s[1][1] = null;
                 if ( sec2 > 0f )
                 {
-                    s[1][2] = TimingUtil.getTimeAsLaptimeString( sec2 );
+                    s[1][2] = TimingUtil.appendTimeAsLaptimeString( sec2, tb[1][2].clear() );
                     if ( !isEditorMode && ( sector == 2 ) && !isDelaying )
                     {
                         if ( cols >= 4 )
@@ -847,7 +877,7 @@ public class TimingWidget extends Widget
                             if ( ofValid && gapOFSec2Valid )
                             {
                                 sfColor2[ii - 3] = ( gapOFSec2 < 0f ) ? fasterColor.getColor() : slowerColor.getColor();
-                                s[1][ii] = "(" + TimingUtil.getTimeAsGapString( gapOFSec2 ) + ")";
+                                s[1][ii] = TimingUtil.appendTimeAsGapString( gapOFSec2, tb[1][ii].clear().append( '(' ) ).append( ')' );
                             }
                             else
                                 s[1][ii] = "--.---";
@@ -862,13 +892,13 @@ public class TimingWidget extends Widget
                                 if ( gapAFSec2Valid )
                                 {
                                     sfColor2[ii - 3] = ( gapAFSec2 < 0f ) ? fasterColor.getColor() : slowerColor.getColor();
-                                    s[1][ii] = "(" + TimingUtil.getTimeAsGapString( gapAFSec2 ) + ")";
+                                    s[1][ii] = TimingUtil.appendTimeAsGapString( gapAFSec2, tb[1][ii].clear().append( '(' ) ).append( ')' );
                                 }
                                 else
                                     s[1][ii] = "--.---";
                             }
                             else
-                                s[1][4] = null;
+                                s[1][ii] = null;
                             
                             ii++;
                         }
@@ -883,14 +913,16 @@ public class TimingWidget extends Widget
                         s[1][4] = null;
                 }
                 
-                java.awt.Color[] sfColor3 = new java.awt.Color[] { getFontColor(), getFontColor() };
-                s[2][0] = Loc.timing_sector3_prefix + ":";
+                final java.awt.Color[] sfColor3 = clGapColors[2];
+                sfColor3[0] = getFontColor();
+                sfColor3[1] = getFontColor();
+                s[2][0] = tb[2][0].clear().append( Loc.timing_sector3_prefix ).append( ':' );
                 s[2][1] = null;
                 if ( !displayCumul )
                 {
                     if ( sec3 > 0f )
                     {
-                        s[2][2] = TimingUtil.getTimeAsLaptimeString( sec3 );
+                        s[2][2] = TimingUtil.appendTimeAsLaptimeString( sec3, tb[2][2].clear() );
                         if ( !isEditorMode && ( sector == 3 ) && !isDelaying )
                         {
                             if ( cols >= 4 )
@@ -907,7 +939,7 @@ public class TimingWidget extends Widget
                                 if ( ofValid && gapOFSec3Valid )
                                 {
                                     sfColor3[ii - 3] = ( gapOFSec3 < 0f ) ? fasterColor.getColor() : slowerColor.getColor();
-                                    s[2][ii] = "(" + TimingUtil.getTimeAsGapString( gapOFSec3 ) + ")";
+                                    s[2][ii] = TimingUtil.appendTimeAsGapString( gapOFSec3, tb[2][ii].clear().append( '(' ) ).append( ')' );
                                 }
                                 else
                                     s[2][ii] = "--.---";
@@ -922,7 +954,7 @@ public class TimingWidget extends Widget
                                     if ( gapAFSec3Valid )
                                     {
                                         sfColor3[ii - 3] = ( gapAFSec3 < 0f ) ? fasterColor.getColor() : slowerColor.getColor();
-                                        s[2][ii] = "(" + TimingUtil.getTimeAsGapString( gapAFSec3 ) + ")";
+                                        s[2][ii] = TimingUtil.appendTimeAsGapString( gapAFSec3, tb[2][ii].clear().append( '(' ) ).append( ')' );
                                     }
                                     else
                                         s[2][ii] = "--.---";
@@ -952,12 +984,14 @@ public class TimingWidget extends Widget
                         s[2][4] = null;
                 }
                 
-                java.awt.Color[] sfColorL = new java.awt.Color[] { getFontColor(), getFontColor() };
-                s[3][0] = Loc.timing_lap_prefix + ":";
+                final java.awt.Color[] sfColorL = clGapColors[3];
+                sfColorL[0] = getFontColor();
+                sfColorL[1] = getFontColor();
+                s[3][0] = tb[3][0].clear().append( Loc.timing_lap_prefix ).append( ':' );
                 s[3][1] = null;
                 if ( isEditorMode || ( ( lap > 0f ) && ( myVSI.getLapsCompleted() >= myVSI.getStintStartLap() ) ) )
                 {
-                    s[3][2] = TimingUtil.getTimeAsLaptimeString( lap );
+                    s[3][2] = TimingUtil.appendTimeAsLaptimeString( lap, tb[3][2].clear() );
                     if ( isDelaying )
                     {
                         int ii = 3;
@@ -967,7 +1001,7 @@ public class TimingWidget extends Widget
                             if ( ofValid )
                             {
                                 sfColorL[ii - 3] = ( gapOFLap < 0f ) ? fasterColor.getColor() : slowerColor.getColor();
-                                s[3][ii] = "(" + TimingUtil.getTimeAsGapString( gapOFLap ) + ")";
+                                s[3][ii] = TimingUtil.appendTimeAsGapString( gapOFLap, tb[3][ii].clear().append( '(' ) ).append( ')' );
                             }
                             else
                                 s[3][ii] = "--.---";
@@ -980,7 +1014,7 @@ public class TimingWidget extends Widget
                             if ( afValid && !absFastestIsOwn )
                             {
                                 sfColorL[ii - 3] = ( gapAFLap < 0f ) ? fasterColor.getColor() : slowerColor.getColor();
-                                s[3][ii] = "(" + TimingUtil.getTimeAsGapString( gapAFLap ) + ")";
+                                s[3][ii] = TimingUtil.appendTimeAsGapString( gapAFLap, tb[3][ii].clear().append( '(' ) ).append( ')' );
                             }
                             else
                                 s[3][ii] = null;
@@ -1010,26 +1044,26 @@ public class TimingWidget extends Widget
                 if ( !displayCumul )
                     currSector3String.getMaxColWidths( s[2], aligns, colPadding, colWidths );
                 
-                String s31 = s[3][2];
-                s[3][2] = TimingUtil.getTimeAsLaptimeString( 90.0f );
+                CharSequence s31 = s[3][2];
+                s[3][2] = MAX_LAPTIME_STRING;
                 currLapString.getMaxColWidths( s[3], aligns, colPadding, colWidths );
                 s[3][2] = s31;
                 
                 if ( oldClStrings[0].length != s[0].length )
-                    oldClStrings[0] = new String[ s[0].length ];
-                if ( needsCompleteRedraw || !Arrays.equals( s[0], oldClStrings[0] ) )
+                    oldClStrings[0] = new CharSequence[ s[0].length ];
+                if ( needsCompleteRedraw || !TextBuffer.contentEquals( s[0], oldClStrings[0] ) )
                 {
-                    System.arraycopy( s[0], 0, oldClStrings[0], 0, s[0].length );
+                    TextBuffer.copyContent( s[0], oldClBuffers[0], oldClStrings[0] );
                     fontColors[3] = sfColor1[0];
                     fontColors[4] = sfColor1[1];
                     currSector1String.drawColumns( offsetX, offsetY, s[0], aligns, colPadding, colWidths, fontColors, texture );
                 }
                 
                 if ( oldClStrings[1].length != s[1].length )
-                    oldClStrings[1] = new String[ s[1].length ];
-                if ( needsCompleteRedraw || !Arrays.equals( s[1], oldClStrings[1] ) )
+                    oldClStrings[1] = new CharSequence[ s[1].length ];
+                if ( needsCompleteRedraw || !TextBuffer.contentEquals( s[1], oldClStrings[1] ) )
                 {
-                    System.arraycopy( s[1], 0, oldClStrings[1], 0, s[1].length );
+                    TextBuffer.copyContent( s[1], oldClBuffers[1], oldClStrings[1] );
                     fontColors[3] = sfColor2[0];
                     fontColors[4] = sfColor2[1];
                     currSector2String.drawColumns( offsetX, offsetY, s[1], aligns, colPadding, colWidths, fontColors, texture );
@@ -1037,10 +1071,10 @@ public class TimingWidget extends Widget
                 if ( !displayCumul )
                 {
                     if ( oldClStrings[2].length != s[2].length )
-                        oldClStrings[2] = new String[ s[2].length ];
-                    if ( needsCompleteRedraw || !Arrays.equals( s[2], oldClStrings[2] ) )
+                        oldClStrings[2] = new CharSequence[ s[2].length ];
+                    if ( needsCompleteRedraw || !TextBuffer.contentEquals( s[2], oldClStrings[2] ) )
                     {
-                        System.arraycopy( s[2], 0, oldClStrings[2], 0, s[2].length );
+                        TextBuffer.copyContent( s[2], oldClBuffers[2], oldClStrings[2] );
                         fontColors[3] = sfColor3[0];
                         fontColors[4] = sfColor3[1];
                         currSector3String.drawColumns( offsetX, offsetY, s[2], aligns, colPadding, colWidths, fontColors, texture );
@@ -1049,10 +1083,10 @@ public class TimingWidget extends Widget
                 
                 
                 if ( oldClStrings[3].length != s[3].length )
-                    oldClStrings[3] = new String[ s[3].length ];
-                if ( needsCompleteRedraw || !Arrays.equals( s[3], oldClStrings[3] ) )
+                    oldClStrings[3] = new CharSequence[ s[3].length ];
+                if ( needsCompleteRedraw || !TextBuffer.contentEquals( s[3], oldClStrings[3] ) )
                 {
-                    System.arraycopy( s[3], 0, oldClStrings[3], 0, s[3].length );
+                    TextBuffer.copyContent( s[3], oldClBuffers[3], oldClStrings[3] );
                     fontColors[3] = sfColorL[0];
                     fontColors[4] = sfColorL[1];
                     currLapString.drawColumns( offsetX, offsetY, s[3], aligns, colPadding, colWidths, fontColors, texture );
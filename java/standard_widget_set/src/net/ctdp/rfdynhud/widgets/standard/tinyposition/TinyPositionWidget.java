@@ -33,6 +33,7 @@ import net.ctdp.rfdynhud.util.SubTextureCollector;
 import net.ctdp.rfdynhud.valuemanagers.Clock;
 import net.ctdp.rfdynhud.values.IntValue;
 import net.ctdp.rfdynhud.widgets.base.widget.Widget;
+import net.ctdp.rfdynhud.widgets.base.widget.WidgetInput;
 import net.ctdp.rfdynhud.widgets.standard._util.StandardWidgetSet;
 
 /**
@@ -42,6 +43,8 @@ import net.ctdp.rfdynhud.widgets.standard._util.StandardWidgetSet;
  */
 public class TinyPositionWidget extends Widget
 {
+    private static final WidgetInput[] DRAW_INPUTS = { WidgetInput.VSI_PLACE, WidgetInput.SCORING_NUM_VEHICLES, WidgetInput.VSI_NUM_VEHICLES_IN_CLASS };
+    
     private DrawnString ds = null;
     
     private final IntValue v = new IntValue();
@@ -114,6 +117,24 @@ public class TinyPositionWidget extends Widget
         ds = dsf.newDrawnString( "ds", width / 2, ( height - h ) / 2, Alignment.CENTER, false, getFont(), isFontAntiAliased(), getFontColor() );
     }
     
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public WidgetInput[] getDrawInputs()
+    {
+        return ( DRAW_INPUTS );
+    }
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected boolean areDrawInputsClockGated()
+    {
+        return ( true );
+    }
+    
     @Override
     protected void drawWidget( Clock clock, boolean needsCompleteRedraw, LiveGameData gameData, boolean isEditorMode, TextureImage2D texture, int offsetX, int offsetY, int width, int height )
     {
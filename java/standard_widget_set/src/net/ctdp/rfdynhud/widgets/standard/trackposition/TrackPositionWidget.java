@@ -36,7 +36,7 @@ import net.ctdp.rfdynhud.properties.PropertyLoader;
 import net.ctdp.rfdynhud.render.DrawnStringFactory;
 import net.ctdp.rfdynhud.render.Texture2DCanvas;
 import net.ctdp.rfdynhud.render.TextureImage2D;
-import net.ctdp.rfdynhud.render.TransformableTexture;
+import net.ctdp.rfdynhud.render.TextureAtlas;
 import net.ctdp.rfdynhud.util.MapTools;
 import net.ctdp.rfdynhud.util.PropertyWriter;
 import net.ctdp.rfdynhud.util.SubTextureCollector;
@@ -94,9 +94,14 @@ public class TrackPositionWidget extends Widget
     
     private int maxDisplayedVehicles = -1;
     
+    /**
+     * All items share one sub texture through the {@link TextureAtlas}. So this is not bound by the number of native textures.
+     */
+    private static final int MAX_DISPLAYED_VEHICLES = 128;
+    
     private static final int ANTI_ALIAS_RADIUS_OFFSET = 1;
     
-    private TransformableTexture[] itemTextures = null;
+    private TextureAtlas itemAtlas = null;
     private int middleOffsetY = 0;
     private int[] itemLabelOffsetsY = null;
     private VehicleScoringInfo[] vsis = null;
@@ -239,7 +244,7 @@ public class TrackPositionWidget extends Widget
         else
             this.maxDisplayedVehicles = modInfo.getMaxOpponents() + 1;
         
-        this.maxDisplayedVehicles = Math.max( 4, Math.min( maxDisplayedVehicles, 32 ) );
+        this.maxDisplayedVehicles = Math.max( 4, Math.min( maxDisplayedVehicles, MAX_DISPLAYED_VEHICLES ) );
     }
     
     private void updateVSIs( LiveGameData gameData, boolean isEditorMode )
@@ -284,14 +289,6 @@ public class TrackPositionWidget extends Widget
         updateItemRadius();
         initMaxDisplayedVehicles( isEditorMode, gameData.getModInfo() );
         
-        if ( ( itemTextures == null ) || ( itemTextures.length != maxDisplayedVehicles ) )
-        {
-            itemTextures = new TransformableTexture[ maxDisplayedVehicles ];
-        }
-        
-        if ( itemTextures[0] == null )
-            itemTextures[0] = new TransformableTexture( 1, 1, isEditorMode, false );
-        
         java.awt.Dimension size = StandardWidgetSet.getPositionItemSize( itemRadius, null, null, false );
         int itemHeightWithoutLabel = size.height;
         
@@ -304,17 +301,23 @@ public class TrackPositionWidget extends Widget
         else
             middleOffsetY = ( itemHeightWithoutLabel - h ) / 2;
         
-        if ( ( itemTextures[maxDisplayedVehicles - 1] == null ) || ( itemTextures[maxDisplayedVehicles - 1].getWidth() != w ) || ( itemTextures[maxDisplayedVehicles - 1].getHeight() != h ) )
+        int pad = Math.max( w, h );
+        
+        if ( ( itemAtlas == null ) || ( itemAtlas.getNumItems() != maxDisplayedVehicles ) || ( itemAtlas.getItem( 0 ).getWidth() != w ) || ( itemAtlas.getItem( 0 ).getHeight() != h ) || ( itemAtlas.getTargetTexture().getWidth() != widgetInnerWidth + pad + pad ) || ( itemAtlas.getTargetTexture().getHeight() != widgetInnerHeight + pad + pad ) )
         {
+            itemAtlas = new TextureAtlas( -pad, -pad, widgetInnerWidth + pad + pad, widgetInnerHeight + pad + pad, isEditorMode );
+            
             for ( int i = 0; i < maxDisplayedVehicles; i++ )
+                itemAtlas.addItem( w, h );
+            
+            if ( itemStates != null )
             {
-                itemTextures[i] = TransformableTexture.getOrCreate( w, h, isEditorMode, itemTextures[i], isEditorMode );
-                itemTextures[i].setVisible( false );
+                for ( int i = 0; i < itemStates.length; i++ )
+                    itemStates[i] = 0;
             }
         }
         
-        for ( int i = 0; i < itemTextures.length; i++ )
-            collector.add( itemTextures[i] );
+        collector.add( itemAtlas.getTargetTexture() );
     }
     
     /**
@@ -365,9 +368,9 @@ public class TrackPositionWidget extends Widget
         
         int n = Math.min( scoringInfo.getNumVehicles(), maxDisplayedVehicles );
         
-        if ( ( itemLabelOffsetsY == null ) || ( itemLabelOffsetsY.length < itemTextures.length ) )
+        if ( ( itemLabelOffsetsY == null ) || ( itemLabelOffsetsY.length < itemAtlas.getNumItems() ) )
         {
-            itemLabelOffsetsY = new int[ itemTextures.length ];
+            itemLabelOffsetsY = new int[ itemAtlas.getNumItems() ];
         }
         
         for ( int i = 0; i < numVehicles; i++ )
@@ -377,8 +380,8 @@ public class TrackPositionWidget extends Widget
             {
                 short place = vsi.getPlace( useClassScoring );
                 
-                TransformableTexture tt = itemTextures[i];
-                itemTextures[i].setVisible( true );
+                TextureAtlas.Item item = itemAtlas.getItem( i );
+                item.setVisible( true );
                 int itemState = ( place << 0 ) | ( vsi.getDriverId() << 9 );
                 
                 Color color = null;
@@ -415,20 +418,23 @@ public class TrackPositionWidget extends Widget
                 {
                     itemStates[i] = itemState;
                     
-                    itemLabelOffsetsY[i] = StandardWidgetSet.drawPositionItem( tt.getTexture(), 0, 0, itemRadius, place, color, itemBlackBorderWidth, displayPositionNumbers.getBooleanValue() ? font : null, posNumberFontAntiAliased, getFontColor(), displayNameLabels.getBooleanValue() ? nameLabelPos.getEnumValue() : null, vsi.getDriverNameTLC(), nameLabelFont.getFont(), nameLabelFont.isAntiAliased(), nameLabelFontColor.getColor() );
+                    itemLabelOffsetsY[i] = StandardWidgetSet.drawPositionItem( item.getPage(), item.getPageX(), item.getPageY(), itemRadius, place, color, itemBlackBorderWidth, displayPositionNumbers.getBooleanValue() ? font : null, posNumberFontAntiAliased, getFontColor(), displayNameLabels.getBooleanValue() ? nameLabelPos.getEnumValue() : null, vsi.getDriverNameTLC(), nameLabelFont.getFont(), nameLabelFont.isAntiAliased(), nameLabelFontColor.getColor() );
+                    item.setContentChanged();
                 }
                 
                 int yOff3 = vsi.isInPits() ? -3 : 0;
                 
-                tt.setTranslation( linePadding + off2 + vsi.getNormalizedLapDistance() * lineLength - itemRadius, off2 + height / 2 - itemRadius - itemLabelOffsetsY[i] + yOff3 + middleOffsetY );
+                item.setPosition( linePadding + off2 + vsi.getNormalizedLapDistance() * lineLength - itemRadius, off2 + height / 2 - itemRadius - itemLabelOffsetsY[i] + yOff3 + middleOffsetY );
             }
             else
             {
-                itemTextures[i].setVisible( false );
+                itemAtlas.getItem( i ).setVisible( false );
             }
         }
         
         for ( int i = n; i < maxDisplayedVehicles; i++ )
-            itemTextures[i].setVisible( false );
+            itemAtlas.getItem( i ).setVisible( false );
+        
+        itemAtlas.update();
     }
 }
@@ -874,6 +874,19 @@ public class WearWidget extends Widget
         texture.markDirty( x, y, w, h, null );
     }
     
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void drawStaticLayer( LiveGameData gameData, boolean isEditorMode, TextureImage2D texture, int offsetX, int offsetY, int width, int height )
+    {
+        if ( displayEngine.getBooleanValue() )
+            engineHeaderString.draw( offsetX, offsetY, "", texture );
+        
+        if ( ( displayBrakes2 == null ) ? displayBrakes.getBooleanValue() : displayBrakes2.booleanValue() )
+            brakesHeaderString.draw( offsetX, offsetY, Loc.brakes_header_prefix + ":", texture );
+    }
+    
     @Override
     protected void drawWidget( Clock clock, boolean needsCompleteRedraw, LiveGameData gameData, boolean isEditorMode, TextureImage2D texture, int offsetX, int offsetY, int width, int height )
     {
@@ -887,20 +900,13 @@ public class WearWidget extends Widget
         
         boolean db = ( displayBrakes2 == null ) ? displayBrakes.getBooleanValue() : displayBrakes2.booleanValue();
         
-        if ( needsCompleteRedraw )
+        if ( needsCompleteRedraw && displayTires.getBooleanValue() )
         {
-            if ( displayEngine.getBooleanValue() )
-                engineHeaderString.draw( offsetX, offsetY, "", texture );
-            if ( displayTires.getBooleanValue() )
-            {
-                // TODO: Try to find a way to detect tire compound change on pit stop!
-                if ( displayCompoundName.getBooleanValue() )
-                    tiresHeaderString.draw( offsetX, offsetY, " " + setup.getGeneral().getFrontTireCompound().getName(), texture );
-                else
-                    tiresHeaderString.draw( offsetX, offsetY, "", texture );
-            }
-            if ( db )
-                brakesHeaderString.draw( offsetX, offsetY, Loc.brakes_header_prefix + ":", texture );
+            // TODO: Try to find a way to detect tire compound change on pit stop!
+            if ( displayCompoundName.getBooleanValue() )
+                tiresHeaderString.draw( offsetX, offsetY, " " + setup.getGeneral().getFrontTireCompound().getName(), texture );
+            else
+                tiresHeaderString.draw( offsetX, offsetY, "", texture );
         }
         
         if ( displayEngine.getBooleanValue() )